@@ -0,0 +1,89 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.benchmark;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.orm.benchmark.model.Customer;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The throughput, in rows per second, of inserting entities, with and without
+ * JDBC batching through {@link org.hibernate.engine.jdbc.batch.internal.BatchImpl},
+ * and with batches executed in the background by
+ * {@link org.hibernate.engine.jdbc.batch.internal.PipelinedBatchImpl}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BatchInsertBenchmark {
+	private static final int ENTITIES_PER_TRANSACTION = 1_000;
+
+	@Param({ "1", "50" })
+	private int batchSize;
+
+	@Param({ "false", "true" })
+	private boolean pipelining;
+
+	private SessionFactory sessionFactory;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		sessionFactory = BenchmarkSessionFactory.build(
+				"batch_insert",
+				Map.of(
+						AvailableSettings.STATEMENT_BATCH_SIZE, batchSize,
+						AvailableSettings.STATEMENT_BATCH_PIPELINING, pipelining
+				),
+				Customer.class
+		);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		sessionFactory.close();
+	}
+
+	@TearDown(Level.Iteration)
+	public void deleteAll() {
+		sessionFactory.inTransaction(
+				session -> session.createMutationQuery( "delete from Customer" ).executeUpdate()
+		);
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(ENTITIES_PER_TRANSACTION)
+	public void insert() {
+		sessionFactory.inTransaction(
+				session -> {
+					for ( int i = 0; i < ENTITIES_PER_TRANSACTION; i++ ) {
+						session.persist( new Customer( "customer" + i, "customer" + i + "@example.org", "city" + i % 10 ) );
+					}
+				}
+		);
+	}
+}
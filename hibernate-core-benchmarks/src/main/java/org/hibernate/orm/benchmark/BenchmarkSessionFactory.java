@@ -0,0 +1,51 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.benchmark;
+
+import java.util.Map;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+
+/**
+ * Builds the {@link SessionFactory} a benchmark runs against, backed by an in-memory H2 database
+ * whose schema is created on startup and dropped on close.
+ */
+public final class BenchmarkSessionFactory {
+
+	private BenchmarkSessionFactory() {
+	}
+
+	/**
+	 * @param databaseName the name of the in-memory database, which should be unique per benchmark
+	 * @param settings additional settings, overriding the defaults
+	 * @param annotatedClasses the entity classes
+	 */
+	public static SessionFactory build(String databaseName, Map<String, Object> settings, Class<?>... annotatedClasses) {
+		final StandardServiceRegistry serviceRegistry = new StandardServiceRegistryBuilder()
+				.applySetting( AvailableSettings.URL, "jdbc:h2:mem:" + databaseName + ";DB_CLOSE_DELAY=-1" )
+				.applySetting( AvailableSettings.USER, "sa" )
+				.applySetting( AvailableSettings.PASS, "" )
+				.applySetting( AvailableSettings.HBM2DDL_AUTO, "create-drop" )
+				.applySettings( settings )
+				.build();
+		try {
+			final MetadataSources metadataSources = new MetadataSources( serviceRegistry );
+			for ( Class<?> annotatedClass : annotatedClasses ) {
+				metadataSources.addAnnotatedClass( annotatedClass );
+			}
+			return metadataSources.buildMetadata().buildSessionFactory();
+		}
+		catch (RuntimeException e) {
+			StandardServiceRegistryBuilder.destroy( serviceRegistry );
+			throw e;
+		}
+	}
+}
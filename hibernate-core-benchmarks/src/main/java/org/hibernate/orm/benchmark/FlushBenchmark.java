@@ -0,0 +1,104 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.benchmark;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.orm.benchmark.model.Customer;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Flushing a session in which a number of managed entities were modified,
+ * which covers the dirty check as well as the execution of the updates.
+ * A flush in which nothing changed is measured as well.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FlushBenchmark {
+
+	@Param({ "100", "1000", "10000" })
+	private int dirtyEntities;
+
+	@Param({ "0" })
+	private int parallelDirtyCheckThreshold;
+
+	private SessionFactory sessionFactory;
+
+	private Session session;
+	private List<Customer> customers;
+	private int round;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		final Map<String, Object> settings = new HashMap<>();
+		settings.put( AvailableSettings.STATEMENT_BATCH_SIZE, 50 );
+		settings.put( AvailableSettings.PARALLEL_DIRTY_CHECK_THRESHOLD, parallelDirtyCheckThreshold );
+		sessionFactory = BenchmarkSessionFactory.build( "flush", settings, Customer.class );
+		sessionFactory.inTransaction(
+				session -> {
+					for ( int i = 0; i < dirtyEntities; i++ ) {
+						session.persist( new Customer( "customer" + i, "customer" + i + "@example.org", "city" + i % 10 ) );
+					}
+				}
+		);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		sessionFactory.close();
+	}
+
+	@Setup(Level.Iteration)
+	public void openSession() {
+		session = sessionFactory.openSession();
+		customers = session.createSelectionQuery( "from Customer", Customer.class ).getResultList();
+	}
+
+	@TearDown(Level.Iteration)
+	public void closeSession() {
+		session.close();
+	}
+
+	@Benchmark
+	public void flushDirty() {
+		session.getTransaction().begin();
+		round++;
+		for ( Customer customer : customers ) {
+			customer.setLoyaltyPoints( round );
+		}
+		session.getTransaction().commit();
+	}
+
+	@Benchmark
+	public void flushClean() {
+		session.getTransaction().begin();
+		session.getTransaction().commit();
+	}
+}
@@ -0,0 +1,88 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.benchmark;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.orm.benchmark.model.WideEntity;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Reading rows of a wide entity, which puts the
+ * {@link org.hibernate.sql.results.internal.StandardRowReader} and the
+ * entity initializers to work.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HydrationBenchmark {
+
+	@Param({ "100", "1000" })
+	private int rows;
+
+	private SessionFactory sessionFactory;
+	private Session session;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		sessionFactory = BenchmarkSessionFactory.build( "hydration", Collections.emptyMap(), WideEntity.class );
+		sessionFactory.inTransaction(
+				session -> {
+					for ( long i = 0; i < rows; i++ ) {
+						session.persist( new WideEntity( i ) );
+					}
+				}
+		);
+		session = sessionFactory.openSession();
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		session.close();
+		sessionFactory.close();
+	}
+
+	@Benchmark
+	public List<WideEntity> hydrate() {
+		final List<WideEntity> entities = session.createSelectionQuery( "from WideEntity", WideEntity.class )
+				.getResultList();
+		session.clear();
+		return entities;
+	}
+
+	/**
+	 * Read-only entities don't need a copy of their loaded state for dirty checking
+	 */
+	@Benchmark
+	public List<WideEntity> hydrateReadOnly() {
+		final List<WideEntity> entities = session.createSelectionQuery( "from WideEntity", WideEntity.class )
+				.setReadOnly( true )
+				.getResultList();
+		session.clear();
+		return entities;
+	}
+}
@@ -0,0 +1,97 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.benchmark;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.LockOptions;
+import org.hibernate.SessionFactory;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.orm.benchmark.model.Customer;
+import org.hibernate.persister.entity.EntityPersister;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Loading a single entity by id, both through the {@code Session} and directly
+ * through the {@link org.hibernate.loader.ast.spi.SingleIdEntityLoader} of the
+ * persister, which bypasses the load event listeners.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LoadByIdBenchmark {
+	private static final int ENTITY_COUNT = 1_000;
+
+	private SessionFactory sessionFactory;
+	private EntityPersister persister;
+	private Object[] ids;
+
+	private SessionImplementor session;
+	private int next;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		sessionFactory = BenchmarkSessionFactory.build( "load_by_id", Collections.emptyMap(), Customer.class );
+		sessionFactory.inTransaction(
+				session -> {
+					for ( int i = 0; i < ENTITY_COUNT; i++ ) {
+						session.persist( new Customer( "customer" + i, "customer" + i + "@example.org", "city" + i % 10 ) );
+					}
+				}
+		);
+		final List<Long> idList = sessionFactory.fromTransaction(
+				session -> session.createSelectionQuery( "select id from Customer", Long.class ).getResultList()
+		);
+		ids = idList.toArray();
+		session = sessionFactory.openSession().unwrap( SessionImplementor.class );
+		persister = session.getFactory().getMappingMetamodel().getEntityDescriptor( Customer.class );
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		session.close();
+		sessionFactory.close();
+	}
+
+	@Benchmark
+	public Object sessionFind() {
+		final Customer customer = session.find( Customer.class, nextId() );
+		session.clear();
+		return customer;
+	}
+
+	@Benchmark
+	public Object singleIdEntityLoader() {
+		final Object customer = persister.load( nextId(), null, LockOptions.NONE, session );
+		session.clear();
+		return customer;
+	}
+
+	private Object nextId() {
+		if ( next == ids.length ) {
+			next = 0;
+		}
+		return ids[next++];
+	}
+}
@@ -0,0 +1,102 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.benchmark;
+
+import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.orm.benchmark.model.Customer;
+import org.hibernate.orm.benchmark.model.PurchaseOrder;
+import org.hibernate.query.spi.QueryEngine;
+import org.hibernate.query.spi.QueryInterpretationCache;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Parsing an HQL query, and translating it to SQL, through the
+ * {@link QueryInterpretationCache}, which is either cleared before every
+ * query ("cold") or not ("warm"). The query is executed against empty tables,
+ * so that the cost of the execution itself is negligible.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class QueryInterpretationBenchmark {
+	private static final String HQL = "select o from PurchaseOrder o join o.customer c"
+			+ " where c.city = :city and o.total > :total and o.status in ('NEW', 'PAID')"
+			+ " order by o.orderDate desc, o.id";
+
+	private SessionFactory sessionFactory;
+	private QueryEngine queryEngine;
+	private QueryInterpretationCache interpretationCache;
+
+	private Session session;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		sessionFactory = BenchmarkSessionFactory.build(
+				"query_interpretation",
+				Collections.emptyMap(),
+				Customer.class,
+				PurchaseOrder.class
+		);
+		queryEngine = sessionFactory.unwrap( SessionFactoryImplementor.class ).getQueryEngine();
+		interpretationCache = queryEngine.getInterpretationCache();
+		session = sessionFactory.openSession();
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		session.close();
+		sessionFactory.close();
+	}
+
+	/**
+	 * Only the parsing and semantic analysis of the HQL, which bypasses the cache
+	 */
+	@Benchmark
+	public Object parse() {
+		return queryEngine.getHqlTranslator().translate( HQL, PurchaseOrder.class );
+	}
+
+	@Benchmark
+	public List<PurchaseOrder> cold() {
+		interpretationCache.close();
+		return execute();
+	}
+
+	@Benchmark
+	public List<PurchaseOrder> warm() {
+		return execute();
+	}
+
+	private List<PurchaseOrder> execute() {
+		return session.createSelectionQuery( HQL, PurchaseOrder.class )
+				.setParameter( "city", "nowhere" )
+				.setParameter( "total", BigDecimal.TEN )
+				.getResultList();
+	}
+}
@@ -0,0 +1,179 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.benchmark;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.annotations.UuidGenerator;
+import org.hibernate.cfg.AvailableSettings;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.MappedSuperclass;
+
+/**
+ * The throughput, in rows per second, of inserting entities whose identifiers are
+ * generated by each {@link UuidGenerator.Style}, into a table which grows across
+ * the iterations of a trial.
+ * <p>
+ * The {@link IndexLocality} counters report how many rows were inserted below the
+ * greatest identifier already in the primary key index, that is, in the middle of
+ * the index rather than at its end. Each of those inserts touches a page that is
+ * likely not cached anymore, and splits it in the middle, leaving both halves
+ * partially filled.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UuidInsertBenchmark {
+	private static final int ENTITIES_PER_TRANSACTION = 1_000;
+
+	@Param({ "RANDOM", "TIME", "VERSION_7" })
+	private UuidGenerator.Style style;
+
+	private SessionFactory sessionFactory;
+	private Supplier<UuidKeyedEntity> entityFactory;
+	private UUID greatestId;
+
+	@AuxCounters(AuxCounters.Type.EVENTS)
+	@State(Scope.Thread)
+	public static class IndexLocality {
+		public long appendedInserts;
+		public long interleavedInserts;
+
+		@Setup(Level.Iteration)
+		public void reset() {
+			appendedInserts = 0;
+			interleavedInserts = 0;
+		}
+	}
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		sessionFactory = BenchmarkSessionFactory.build(
+				"uuid_insert",
+				Map.of( AvailableSettings.STATEMENT_BATCH_SIZE, 50 ),
+				RandomUuidEntity.class,
+				TimeUuidEntity.class,
+				Version7UuidEntity.class
+		);
+		switch ( style ) {
+			case TIME:
+				entityFactory = TimeUuidEntity::new;
+				break;
+			case VERSION_7:
+				entityFactory = Version7UuidEntity::new;
+				break;
+			default:
+				entityFactory = RandomUuidEntity::new;
+		}
+		greatestId = null;
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		sessionFactory.close();
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(ENTITIES_PER_TRANSACTION)
+	public void insert(IndexLocality locality) {
+		sessionFactory.inTransaction(
+				session -> {
+					for ( int i = 0; i < ENTITIES_PER_TRANSACTION; i++ ) {
+						final UuidKeyedEntity entity = entityFactory.get();
+						entity.name = "entity" + i;
+						session.persist( entity );
+						if ( greatestId == null || compare( entity.getId(), greatestId ) > 0 ) {
+							greatestId = entity.getId();
+							locality.appendedInserts++;
+						}
+						else {
+							locality.interleavedInserts++;
+						}
+					}
+				}
+		);
+	}
+
+	/**
+	 * Compares the identifiers in the order of the index, that is, as unsigned
+	 * 128-bit numbers, unlike {@link UUID#compareTo(UUID)}
+	 */
+	private static int compare(UUID first, UUID second) {
+		final int result = Long.compareUnsigned( first.getMostSignificantBits(), second.getMostSignificantBits() );
+		return result != 0
+				? result
+				: Long.compareUnsigned( first.getLeastSignificantBits(), second.getLeastSignificantBits() );
+	}
+
+	@MappedSuperclass
+	public abstract static class UuidKeyedEntity {
+		String name;
+
+		abstract UUID getId();
+	}
+
+	@Entity(name = "RandomUuidEntity")
+	public static class RandomUuidEntity extends UuidKeyedEntity {
+		@Id
+		@UuidGenerator(style = UuidGenerator.Style.RANDOM)
+		UUID id;
+
+		@Override
+		UUID getId() {
+			return id;
+		}
+	}
+
+	@Entity(name = "TimeUuidEntity")
+	public static class TimeUuidEntity extends UuidKeyedEntity {
+		@Id
+		@UuidGenerator(style = UuidGenerator.Style.TIME)
+		UUID id;
+
+		@Override
+		UUID getId() {
+			return id;
+		}
+	}
+
+	@Entity(name = "Version7UuidEntity")
+	public static class Version7UuidEntity extends UuidKeyedEntity {
+		@Id
+		@UuidGenerator(style = UuidGenerator.Style.VERSION_7)
+		UUID id;
+
+		@Override
+		UUID getId() {
+			return id;
+		}
+	}
+}
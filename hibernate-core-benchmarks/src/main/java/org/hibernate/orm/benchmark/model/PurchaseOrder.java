@@ -0,0 +1,59 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.benchmark.model;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+
+@Entity(name = "PurchaseOrder")
+public class PurchaseOrder {
+	@Id
+	@GeneratedValue(strategy = GenerationType.SEQUENCE)
+	private Long id;
+	@ManyToOne(fetch = FetchType.LAZY)
+	private Customer customer;
+	private LocalDate orderDate;
+	private BigDecimal total;
+	private String status;
+
+	public PurchaseOrder() {
+	}
+
+	public PurchaseOrder(Customer customer, LocalDate orderDate, BigDecimal total, String status) {
+		this.customer = customer;
+		this.orderDate = orderDate;
+		this.total = total;
+		this.status = status;
+	}
+
+	public Long getId() {
+		return id;
+	}
+
+	public Customer getCustomer() {
+		return customer;
+	}
+
+	public LocalDate getOrderDate() {
+		return orderDate;
+	}
+
+	public BigDecimal getTotal() {
+		return total;
+	}
+
+	public String getStatus() {
+		return status;
+	}
+}
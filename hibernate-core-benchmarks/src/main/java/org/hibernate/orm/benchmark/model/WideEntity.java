@@ -0,0 +1,162 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.benchmark.model;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+/**
+ * An entity with 60 basic attributes of various types, stressing the hydration of rows
+ */
+@Entity(name = "WideEntity")
+public class WideEntity {
+	@Id
+	private Long id;
+
+	private String string01;
+	private String string02;
+	private String string03;
+	private String string04;
+	private String string05;
+	private String string06;
+	private String string07;
+	private String string08;
+	private String string09;
+	private String string10;
+	private long long01;
+	private long long02;
+	private long long03;
+	private long long04;
+	private long long05;
+	private long long06;
+	private long long07;
+	private long long08;
+	private long long09;
+	private long long10;
+	private int int01;
+	private int int02;
+	private int int03;
+	private int int04;
+	private int int05;
+	private int int06;
+	private int int07;
+	private int int08;
+	private int int09;
+	private int int10;
+	private double double01;
+	private double double02;
+	private double double03;
+	private double double04;
+	private double double05;
+	private double double06;
+	private double double07;
+	private double double08;
+	private double double09;
+	private double double10;
+	private BigDecimal decimal01;
+	private BigDecimal decimal02;
+	private BigDecimal decimal03;
+	private BigDecimal decimal04;
+	private BigDecimal decimal05;
+	private LocalDate date01;
+	private LocalDate date02;
+	private LocalDate date03;
+	private LocalDate date04;
+	private LocalDate date05;
+	private boolean boolean01;
+	private boolean boolean02;
+	private boolean boolean03;
+	private boolean boolean04;
+	private boolean boolean05;
+	private boolean boolean06;
+	private boolean boolean07;
+	private boolean boolean08;
+	private boolean boolean09;
+	private boolean boolean10;
+
+	public WideEntity() {
+	}
+
+	public WideEntity(long seed) {
+		this.id = seed;
+		this.string01 = "value" + seed;
+		this.string02 = "value" + seed;
+		this.string03 = "value" + seed;
+		this.string04 = "value" + seed;
+		this.string05 = "value" + seed;
+		this.string06 = "value" + seed;
+		this.string07 = "value" + seed;
+		this.string08 = "value" + seed;
+		this.string09 = "value" + seed;
+		this.string10 = "value" + seed;
+		this.long01 = seed;
+		this.long02 = seed;
+		this.long03 = seed;
+		this.long04 = seed;
+		this.long05 = seed;
+		this.long06 = seed;
+		this.long07 = seed;
+		this.long08 = seed;
+		this.long09 = seed;
+		this.long10 = seed;
+		this.int01 = (int) seed;
+		this.int02 = (int) seed;
+		this.int03 = (int) seed;
+		this.int04 = (int) seed;
+		this.int05 = (int) seed;
+		this.int06 = (int) seed;
+		this.int07 = (int) seed;
+		this.int08 = (int) seed;
+		this.int09 = (int) seed;
+		this.int10 = (int) seed;
+		this.double01 = seed / 3d;
+		this.double02 = seed / 3d;
+		this.double03 = seed / 3d;
+		this.double04 = seed / 3d;
+		this.double05 = seed / 3d;
+		this.double06 = seed / 3d;
+		this.double07 = seed / 3d;
+		this.double08 = seed / 3d;
+		this.double09 = seed / 3d;
+		this.double10 = seed / 3d;
+		this.decimal01 = BigDecimal.valueOf( seed, 2 );
+		this.decimal02 = BigDecimal.valueOf( seed, 2 );
+		this.decimal03 = BigDecimal.valueOf( seed, 2 );
+		this.decimal04 = BigDecimal.valueOf( seed, 2 );
+		this.decimal05 = BigDecimal.valueOf( seed, 2 );
+		this.date01 = LocalDate.ofEpochDay( seed % 20_000 );
+		this.date02 = LocalDate.ofEpochDay( seed % 20_000 );
+		this.date03 = LocalDate.ofEpochDay( seed % 20_000 );
+		this.date04 = LocalDate.ofEpochDay( seed % 20_000 );
+		this.date05 = LocalDate.ofEpochDay( seed % 20_000 );
+		this.boolean01 = seed % 2 == 0;
+		this.boolean02 = seed % 2 == 0;
+		this.boolean03 = seed % 2 == 0;
+		this.boolean04 = seed % 2 == 0;
+		this.boolean05 = seed % 2 == 0;
+		this.boolean06 = seed % 2 == 0;
+		this.boolean07 = seed % 2 == 0;
+		this.boolean08 = seed % 2 == 0;
+		this.boolean09 = seed % 2 == 0;
+		this.boolean10 = seed % 2 == 0;
+	}
+
+	public Long getId() {
+		return id;
+	}
+
+	public long getLong01() {
+		return long01;
+	}
+
+	public void setLong01(long long01) {
+		this.long01 = long01;
+	}
+}
@@ -97,6 +97,22 @@ public class BaseSessionEventListener implements SessionEventListener {
 	public void dirtyCalculationEnd(boolean dirty) {
 	}
 
+	@Override
+	public void queryExecutionStart() {
+	}
+
+	@Override
+	public void queryExecutionEnd(String query, int rows) {
+	}
+
+	@Override
+	public void entityLoadStart() {
+	}
+
+	@Override
+	public void entityLoadEnd(String entityName) {
+	}
+
 	@Override
 	public void end() {
 	}
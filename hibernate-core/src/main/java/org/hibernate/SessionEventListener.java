@@ -59,5 +59,38 @@ public interface SessionEventListener extends Serializable {
 	default void dirtyCalculationStart() {}
 	default void dirtyCalculationEnd(boolean dirty) {}
 
+	/**
+	 * Called before the execution of an HQL, criteria or native query.
+	 *
+	 * @since 6.2
+	 */
+	default void queryExecutionStart() {}
+
+	/**
+	 * Called after the execution of an HQL, criteria or native query.
+	 *
+	 * @param query The HQL or SQL string identifying the query
+	 * @param rows The number of rows returned or affected, or {@code -1} if unknown
+	 *
+	 * @since 6.2
+	 */
+	default void queryExecutionEnd(String query, int rows) {}
+
+	/**
+	 * Called before an entity is loaded by id.
+	 *
+	 * @since 6.2
+	 */
+	default void entityLoadStart() {}
+
+	/**
+	 * Called after an entity is loaded by id.
+	 *
+	 * @param entityName The name of the loaded entity
+	 *
+	 * @since 6.2
+	 */
+	default void entityLoadEnd(String entityName) {}
+
 	default void end() {}
 }
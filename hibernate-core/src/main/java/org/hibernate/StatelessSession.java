@@ -6,6 +6,10 @@
  */
 package org.hibernate;
 
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
 /**
  * A command-oriented API often used for performing bulk operations against
  * the database. A stateless session has no persistence context, and always
@@ -66,6 +70,66 @@ public interface StatelessSession extends SharedSessionContract {
 	 */
 	Object insert(String entityName, Object entity);
 
+	/**
+	 * Insert a row for each entity obtained from the given iterator, writing
+	 * the rows to the database in chunks of the given size.
+	 * <p>
+	 * The entities are obtained from the iterator only as fast as the rows
+	 * are written, so that no more than a single chunk of rows is held in
+	 * memory at a time.  If the {@linkplain org.hibernate.dialect.Dialect
+	 * dialect} supports a bulk-load protocol, for example, the {@code copy}
+	 * command of PostgreSQL, the rows of each chunk are written using it, or
+	 * otherwise using JDBC batching.  Entities with identifiers generated by
+	 * the database on insert are always inserted one row at a time.
+	 *
+	 * @param entities an iterator over new transient instances
+	 * @param chunkSize the number of rows to write at a time
+	 *
+	 * @return the number of inserted entities
+	 *
+	 * @see org.hibernate.dialect.Dialect#buildBulkInsertBatch
+	 *
+	 * @since 6.2
+	 */
+	@Incubating
+	long bulkInsert(Iterator<?> entities, int chunkSize);
+
+	/**
+	 * Insert a row for each entity of the given stream, writing the rows to
+	 * the database in chunks of the given size. The stream is closed when
+	 * this method returns.
+	 *
+	 * @param entities a stream of new transient instances
+	 * @param chunkSize the number of rows to write at a time
+	 *
+	 * @return the number of inserted entities
+	 *
+	 * @see #bulkInsert(Iterator, int)
+	 *
+	 * @since 6.2
+	 */
+	@Incubating
+	default long bulkInsert(Stream<?> entities, int chunkSize) {
+		try ( Stream<?> stream = entities ) {
+			return bulkInsert( stream.iterator(), chunkSize );
+		}
+	}
+
+	/**
+	 * Insert a row for each of the given entities.
+	 * <p>
+	 * The inserts are grouped into JDBC batches of the configured
+	 * {@linkplain org.hibernate.cfg.AvailableSettings#STATEMENT_BATCH_SIZE
+	 * batch size}, or, if JDBC batching is not enabled, into a single batch,
+	 * and all the rows have been written when this method returns.
+	 *
+	 * @param entities new transient instances
+	 *
+	 * @since 6.2
+	 */
+	@Incubating
+	void insertMultiple(List<?> entities);
+
 	/**
 	 * Update a row.
 	 *
@@ -81,6 +145,66 @@ public interface StatelessSession extends SharedSessionContract {
 	 */
 	void update(String entityName, Object entity);
 
+	/**
+	 * Update a row for each of the given entities.
+	 * <p>
+	 * The updates are grouped into JDBC batches as for
+	 * {@link #insertMultiple(List)}.
+	 *
+	 * @param entities detached entity instances
+	 *
+	 * @since 6.2
+	 */
+	@Incubating
+	void updateMultiple(List<?> entities);
+
+	/**
+	 * Insert a row, or update it if a row with the identifier of the given
+	 * entity already exists.
+	 * <p>
+	 * If the {@linkplain org.hibernate.dialect.Dialect dialect} supports it,
+	 * a single {@code merge} statement, or its equivalent, is executed, or
+	 * otherwise an {@code update}, followed by an {@code insert} if no row
+	 * was updated.  Values generated by the database are not written.
+	 *
+	 * @param entity a detached entity instance, with an identifier
+	 *
+	 * @see org.hibernate.dialect.Dialect#createMergeOperation
+	 *
+	 * @since 6.2
+	 */
+	@Incubating
+	void upsert(Object entity);
+
+	/**
+	 * Insert a row, or update it if a row with the identifier of the given
+	 * entity already exists.
+	 *
+	 * @param entityName The entityName for the entity to be upserted
+	 * @param entity a detached entity instance, with an identifier
+	 *
+	 * @see #upsert(Object)
+	 *
+	 * @since 6.2
+	 */
+	@Incubating
+	void upsert(String entityName, Object entity);
+
+	/**
+	 * Insert or update a row for each of the given entities, as for
+	 * {@link #upsert(Object)}.
+	 * <p>
+	 * The statements are grouped into JDBC batches as for
+	 * {@link #insertMultiple(List)}, if the dialect supports a single
+	 * statement for an upsert.
+	 *
+	 * @param entities detached entity instances, with identifiers
+	 *
+	 * @since 6.2
+	 */
+	@Incubating
+	void upsertMultiple(List<?> entities);
+
 	/**
 	 * Delete a row.
 	 *
@@ -18,7 +18,9 @@ import org.hibernate.engine.spi.SessionEventListenerManager;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.event.service.spi.EventListenerGroup;
+import org.hibernate.event.spi.EventManager;
 import org.hibernate.event.spi.EventSource;
+import org.hibernate.event.spi.HibernateMonitoringEvent;
 import org.hibernate.event.spi.PostCommitInsertEventListener;
 import org.hibernate.event.spi.PostInsertEvent;
 import org.hibernate.event.spi.PostInsertEventListener;
@@ -161,12 +163,18 @@ public class EntityInsertAction extends AbstractEntityInsertAction {
 
 	protected boolean cacheInsert(EntityPersister persister, Object ck) {
 		SharedSessionContractImplementor session = getSession();
+		final EntityDataAccess cacheAccessStrategy = persister.getCacheAccessStrategy();
+		final EventManager eventManager = session.getEventManager();
+		final HibernateMonitoringEvent cachePutEvent = eventManager.beginCachePutEvent();
+		boolean insert = false;
 		try {
 			session.getEventListenerManager().cachePutStart();
-			return persister.getCacheAccessStrategy().insert( session, ck, cacheEntry, version );
+			insert = cacheAccessStrategy.insert( session, ck, cacheEntry, version );
+			return insert;
 		}
 		finally {
 			session.getEventListenerManager().cachePutEnd();
+			eventManager.completeCachePutEvent( cachePutEvent, session, cacheAccessStrategy, insert );
 		}
 	}
 
@@ -240,12 +248,17 @@ public class EntityInsertAction extends AbstractEntityInsertAction {
 	protected boolean cacheAfterInsert(EntityDataAccess cache, Object ck) {
 		SharedSessionContractImplementor session = getSession();
 		final SessionEventListenerManager eventListenerManager = session.getEventListenerManager();
+		final EventManager eventManager = session.getEventManager();
+		final HibernateMonitoringEvent cachePutEvent = eventManager.beginCachePutEvent();
+		boolean afterInsert = false;
 		try {
 			eventListenerManager.cachePutStart();
-			return cache.afterInsert( session, ck, cacheEntry, version );
+			afterInsert = cache.afterInsert( session, ck, cacheEntry, version );
+			return afterInsert;
 		}
 		finally {
 			eventListenerManager.cachePutEnd();
+			eventManager.completeCachePutEvent( cachePutEvent, session, cache, afterInsert );
 		}
 	}
 
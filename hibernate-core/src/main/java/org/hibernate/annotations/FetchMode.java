@@ -83,7 +83,31 @@ public enum FetchMode {
 	 *     re-execution of the initial query within a SQL subselect.
 	 * </ul>
 	 */
-	SUBSELECT( org.hibernate.FetchMode.SELECT );
+	SUBSELECT( org.hibernate.FetchMode.SELECT ),
+
+	/**
+	 * Load a collection of basic values along with its owner, by
+	 * aggregating its elements into a single SQL array, using a
+	 * correlated subquery in the {@code select} clause of the query
+	 * which retrieves the owner. No subsequent queries are executed.
+	 * <p>
+	 * Unlike {@link #JOIN}, this fetching strategy does not multiply
+	 * the rows returned by the query, and so any number of collections
+	 * of the same entity may be fetched this way at once.
+	 * <p>
+	 * This fetching strategy is only available for unindexed and
+	 * unordered collections of basic values without filters or
+	 * restrictions, on a database which
+	 * {@linkplain org.hibernate.dialect.Dialect#supportsArrayAggregation
+	 * supports array aggregation}. Otherwise, the collection is fetched
+	 * eagerly using a secondary select.
+	 * <p>
+	 * This fetching strategy is incompatible with
+	 * {@linkplain jakarta.persistence.FetchType#LAZY lazy fetching}.
+	 *
+	 * @since 6.2
+	 */
+	AGGREGATE( org.hibernate.FetchMode.SELECT );
 
 	private final org.hibernate.FetchMode hibernateFetchMode;
 
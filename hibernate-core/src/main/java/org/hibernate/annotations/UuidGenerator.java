@@ -44,7 +44,18 @@ public @interface UuidGenerator {
 		 * NOTE : Can be a bottleneck due to the need to synchronize in order to increment an
 		 * internal count as part of the algorithm.
 		 */
-		TIME
+		TIME,
+		/**
+		 * Applies the time-ordered version 7 generation strategy defined by IETF RFC 9562.
+		 * Values generated by a given thread are strictly increasing, and values generated
+		 * at about the same time are close to each other, which preserves the locality of
+		 * inserts into an index on the identifier.
+		 *
+		 * @see org.hibernate.id.uuid.UuidVersion7Strategy
+		 *
+		 * @since 6.2
+		 */
+		VERSION_7
 	}
 
 	/**
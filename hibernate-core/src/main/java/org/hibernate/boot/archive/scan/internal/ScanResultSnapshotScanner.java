@@ -0,0 +1,309 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.boot.archive.scan.internal;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.hibernate.HibernateException;
+import org.hibernate.Version;
+import org.hibernate.boot.archive.internal.ArchiveHelper;
+import org.hibernate.boot.archive.internal.ByteArrayInputStreamAccess;
+import org.hibernate.boot.archive.scan.spi.ClassDescriptor;
+import org.hibernate.boot.archive.scan.spi.MappingFileDescriptor;
+import org.hibernate.boot.archive.scan.spi.PackageDescriptor;
+import org.hibernate.boot.archive.scan.spi.ScanEnvironment;
+import org.hibernate.boot.archive.scan.spi.ScanOptions;
+import org.hibernate.boot.archive.scan.spi.ScanParameters;
+import org.hibernate.boot.archive.scan.spi.ScanResult;
+import org.hibernate.boot.archive.scan.spi.Scanner;
+import org.hibernate.boot.archive.spi.InputStreamAccess;
+
+import org.jboss.logging.Logger;
+
+/**
+ * A {@link Scanner} which saves the {@link ScanResult} of another scanner
+ * to a binary snapshot file, and reuses the snapshot as long as the
+ * scanned archives do not change.
+ * <p>
+ * The snapshot is keyed by a fingerprint of the Hibernate version, the
+ * {@link ScanEnvironment}, the {@link ScanOptions}, and the size and
+ * modification time of every archive, which is cheap to compute, since
+ * the content of the archives is not read.  This requires every archive
+ * to be a local archive file, with a {@code file:} or {@code jar:file:}
+ * URL.  If any archive is an exploded directory, or has any other kind
+ * of URL, its changes cannot be detected without reading all its entries,
+ * and so the snapshot is neither used nor written.
+ * <p>
+ * The content of discovered mapping files is included in the snapshot.
+ * The class files of discovered classes and packages are not, and so
+ * their {@link ClassDescriptor#getStreamAccess() stream access} is not
+ * usable when the scan result comes from the snapshot.
+ * <p>
+ * Only scanning is skipped: the snapshot does not include the result of
+ * binding the annotations and mapping files, nor the boot metamodel, which
+ * are still built from the discovered classes and mapping files on every
+ * boot.  The time saved is the time spent reading the entries of the
+ * archives.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#SCAN_RESULT_SNAPSHOT
+ */
+public class ScanResultSnapshotScanner implements Scanner {
+	private static final Logger log = Logger.getLogger( ScanResultSnapshotScanner.class );
+
+	private static final String HEADER = "hibernate-scan-snapshot";
+	private static final int FORMAT_VERSION = 1;
+
+	private final Path snapshotFile;
+	private final Scanner delegate;
+
+	public ScanResultSnapshotScanner(Path snapshotFile, Scanner delegate) {
+		this.snapshotFile = snapshotFile;
+		this.delegate = delegate;
+	}
+
+	@Override
+	public ScanResult scan(ScanEnvironment environment, ScanOptions options, ScanParameters params) {
+		final byte[] fingerprint = fingerprint( environment, options );
+		if ( fingerprint == null ) {
+			log.debugf( "Not using scan result snapshot [%s], since not every archive is a local archive file", snapshotFile );
+			return delegate.scan( environment, options, params );
+		}
+
+		final ScanResult snapshot = readSnapshot( fingerprint );
+		if ( snapshot != null ) {
+			log.debugf( "Using scan result snapshot [%s]", snapshotFile );
+			return snapshot;
+		}
+
+		final ScanResult scanResult = delegate.scan( environment, options, params );
+		writeSnapshot( fingerprint, scanResult );
+		return scanResult;
+	}
+
+	private ScanResult readSnapshot(byte[] fingerprint) {
+		if ( !Files.isRegularFile( snapshotFile ) ) {
+			return null;
+		}
+		try ( DataInputStream input = new DataInputStream( new BufferedInputStream( Files.newInputStream( snapshotFile ) ) ) ) {
+			if ( !HEADER.equals( input.readUTF() ) || input.readInt() != FORMAT_VERSION ) {
+				log.debugf( "Ignoring scan result snapshot [%s] with unknown format", snapshotFile );
+				return null;
+			}
+			final byte[] snapshotFingerprint = new byte[input.readInt()];
+			input.readFully( snapshotFingerprint );
+			if ( !Arrays.equals( fingerprint, snapshotFingerprint ) ) {
+				log.debugf( "Ignoring stale scan result snapshot [%s]", snapshotFile );
+				return null;
+			}
+
+			final int packageCount = input.readInt();
+			final Set<PackageDescriptor> packages = new LinkedHashSet<>( packageCount );
+			for ( int i = 0; i < packageCount; i++ ) {
+				final String name = input.readUTF();
+				packages.add( new PackageDescriptorImpl( name, new UnavailableInputStreamAccess( name ) ) );
+			}
+
+			final int classCount = input.readInt();
+			final Set<ClassDescriptor> classes = new LinkedHashSet<>( classCount );
+			for ( int i = 0; i < classCount; i++ ) {
+				final String name = input.readUTF();
+				final ClassDescriptor.Categorization categorization =
+						ClassDescriptor.Categorization.values()[input.readByte()];
+				classes.add( new ClassDescriptorImpl( name, categorization, new UnavailableInputStreamAccess( name ) ) );
+			}
+
+			final int mappingFileCount = input.readInt();
+			final Set<MappingFileDescriptor> mappingFiles = new LinkedHashSet<>( mappingFileCount );
+			for ( int i = 0; i < mappingFileCount; i++ ) {
+				final String name = input.readUTF();
+				final String streamName = input.readUTF();
+				final byte[] content = new byte[input.readInt()];
+				input.readFully( content );
+				mappingFiles.add( new MappingFileDescriptorImpl( name, new ByteArrayInputStreamAccess( streamName, content ) ) );
+			}
+
+			return new ScanResultImpl( packages, classes, mappingFiles );
+		}
+		catch (IOException | RuntimeException e) {
+			log.debugf( e, "Unable to read scan result snapshot [%s]", snapshotFile );
+			return null;
+		}
+	}
+
+	private void writeSnapshot(byte[] fingerprint, ScanResult scanResult) {
+		try {
+			final Path directory = snapshotFile.toAbsolutePath().getParent();
+			if ( directory != null ) {
+				Files.createDirectories( directory );
+			}
+			// write to a temporary file first, so that a concurrently
+			// booting instance never sees a partial snapshot
+			final Path temporaryFile = Files.createTempFile( directory, "scan", ".tmp" );
+			try {
+				try ( DataOutputStream output = new DataOutputStream( new BufferedOutputStream( Files.newOutputStream( temporaryFile ) ) ) ) {
+					output.writeUTF( HEADER );
+					output.writeInt( FORMAT_VERSION );
+					output.writeInt( fingerprint.length );
+					output.write( fingerprint );
+
+					output.writeInt( scanResult.getLocatedPackages().size() );
+					for ( PackageDescriptor packageDescriptor : scanResult.getLocatedPackages() ) {
+						output.writeUTF( packageDescriptor.getName() );
+					}
+
+					output.writeInt( scanResult.getLocatedClasses().size() );
+					for ( ClassDescriptor classDescriptor : scanResult.getLocatedClasses() ) {
+						output.writeUTF( classDescriptor.getName() );
+						output.writeByte( classDescriptor.getCategorization().ordinal() );
+					}
+
+					output.writeInt( scanResult.getLocatedMappingFiles().size() );
+					for ( MappingFileDescriptor mappingFileDescriptor : scanResult.getLocatedMappingFiles() ) {
+						final InputStreamAccess streamAccess = mappingFileDescriptor.getStreamAccess();
+						final byte[] content;
+						try ( InputStream inputStream = streamAccess.accessInputStream() ) {
+							content = ArchiveHelper.getBytesFromInputStream( inputStream );
+						}
+						output.writeUTF( mappingFileDescriptor.getName() );
+						output.writeUTF( streamAccess.getStreamName() );
+						output.writeInt( content.length );
+						output.write( content );
+					}
+				}
+				Files.move( temporaryFile, snapshotFile, StandardCopyOption.REPLACE_EXISTING );
+			}
+			finally {
+				Files.deleteIfExists( temporaryFile );
+			}
+			log.debugf( "Wrote scan result snapshot [%s]", snapshotFile );
+		}
+		catch (IOException | RuntimeException e) {
+			// the snapshot is only an optimization
+			log.warnf( "Unable to write scan result snapshot [%s]: %s", snapshotFile, e.getMessage() );
+		}
+	}
+
+	/**
+	 * The fingerprint of the scan, or {@code null} if not every archive is
+	 * a local archive file
+	 */
+	private static byte[] fingerprint(ScanEnvironment environment, ScanOptions options) {
+		final MessageDigest digest;
+		try {
+			digest = MessageDigest.getInstance( "SHA-256" );
+		}
+		catch (NoSuchAlgorithmException e) {
+			throw new HibernateException( "Unable to compute scan result snapshot fingerprint", e );
+		}
+
+		update( digest, Version.getVersionString() );
+		update( digest, options.canDetectUnlistedClassesInRoot() + ":" + options.canDetectUnlistedClassesInNonRoot() );
+		if ( !update( digest, environment.getRootUrl() ) ) {
+			return null;
+		}
+		final List<URL> nonRootUrls = environment.getNonRootUrls();
+		if ( nonRootUrls != null ) {
+			for ( URL nonRootUrl : nonRootUrls ) {
+				if ( !update( digest, nonRootUrl ) ) {
+					return null;
+				}
+			}
+		}
+		final List<String> classNames = environment.getExplicitlyListedClassNames();
+		if ( classNames != null ) {
+			classNames.forEach( className -> update( digest, className ) );
+		}
+		final List<String> mappingFiles = environment.getExplicitlyListedMappingFiles();
+		if ( mappingFiles != null ) {
+			mappingFiles.forEach( mappingFile -> update( digest, mappingFile ) );
+		}
+		return digest.digest();
+	}
+
+	/**
+	 * Add the size and modification time of the archive file with the given URL
+	 * to the fingerprint
+	 *
+	 * @return {@code false} if the URL is not the URL of a local archive file
+	 */
+	private static boolean update(MessageDigest digest, URL url) {
+		if ( url == null ) {
+			update( digest, "<none>" );
+			return true;
+		}
+		final File file = toFile( url );
+		if ( file == null || !file.isFile() ) {
+			return false;
+		}
+		update( digest, url.toExternalForm() + ":" + file.length() + ":" + file.lastModified() );
+		return true;
+	}
+
+	private static void update(MessageDigest digest, String value) {
+		digest.update( value.getBytes( StandardCharsets.UTF_8 ) );
+		digest.update( (byte) 0 );
+	}
+
+	/**
+	 * The local file or directory for a {@code file:} or {@code jar:file:} URL
+	 */
+	private static File toFile(URL url) {
+		try {
+			if ( "jar".equals( url.getProtocol() ) ) {
+				final String spec = url.getFile();
+				final int separator = spec.indexOf( "!/" );
+				return toFile( new URL( separator < 0 ? spec : spec.substring( 0, separator ) ) );
+			}
+			else if ( "file".equals( url.getProtocol() ) ) {
+				return Paths.get( url.toURI() ).toFile();
+			}
+			else {
+				return null;
+			}
+		}
+		catch (IOException | URISyntaxException | RuntimeException e) {
+			return null;
+		}
+	}
+
+	private static class UnavailableInputStreamAccess implements InputStreamAccess {
+		private final String name;
+
+		private UnavailableInputStreamAccess(String name) {
+			this.name = name;
+		}
+
+		@Override
+		public String getStreamName() {
+			return name;
+		}
+
+		@Override
+		public InputStream accessInputStream() {
+			throw new HibernateException( "Class file of [" + name + "] is not available from a scan result snapshot" );
+		}
+	}
+}
@@ -33,6 +33,7 @@ import org.hibernate.boot.spi.ClassLoaderAccess;
 import org.hibernate.boot.spi.MetadataBuildingOptions;
 import org.hibernate.cfg.AvailableSettings;
 import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.config.spi.StandardConverters;
 import org.hibernate.jpa.internal.MutableJpaComplianceImpl;
 import org.hibernate.jpa.spi.MutableJpaCompliance;
 import org.hibernate.metamodel.internal.ManagedTypeRepresentationResolverStandard;
@@ -68,6 +69,7 @@ public class BootstrapContextImpl implements BootstrapContext {
 	private ScanOptions scanOptions;
 	private ScanEnvironment scanEnvironment;
 	private Object scannerSetting;
+	private String scanResultSnapshot;
 	private ArchiveDescriptorFactory archiveDescriptorFactory;
 
 	private IndexView jandexView;
@@ -99,6 +101,7 @@ public class BootstrapContextImpl implements BootstrapContext {
 
 		// ScanEnvironment must be set explicitly
 		this.scannerSetting = configService.getSettings().get( AvailableSettings.SCANNER );
+		this.scanResultSnapshot = configService.getSetting( AvailableSettings.SCAN_RESULT_SNAPSHOT, StandardConverters.STRING );
 		this.archiveDescriptorFactory = strategySelector.resolveStrategy(
 				ArchiveDescriptorFactory.class,
 				configService.getSettings().get( AvailableSettings.SCANNER_ARCHIVE_INTERPRETER )
@@ -180,6 +183,11 @@ public class BootstrapContextImpl implements BootstrapContext {
 		return scannerSetting;
 	}
 
+	@Override
+	public String getScanResultSnapshot() {
+		return scanResultSnapshot;
+	}
+
 	@Override
 	public ReflectionManager getReflectionManager() {
 		return hcannReflectionManager;
@@ -233,6 +241,7 @@ public class BootstrapContextImpl implements BootstrapContext {
 		scanOptions = null;
 		scanEnvironment = null;
 		scannerSetting = null;
+		scanResultSnapshot = null;
 		archiveDescriptorFactory = null;
 		jandexView = null;
 
@@ -109,6 +109,9 @@ import static org.hibernate.cfg.AvailableSettings.MAX_FETCH_DEPTH;
 import static org.hibernate.cfg.AvailableSettings.MULTI_TENANT_IDENTIFIER_RESOLVER;
 import static org.hibernate.cfg.AvailableSettings.ORDER_INSERTS;
 import static org.hibernate.cfg.AvailableSettings.ORDER_UPDATES;
+import static org.hibernate.cfg.AvailableSettings.PARALLEL_DIRTY_CHECK_PARALLELISM;
+import static org.hibernate.cfg.AvailableSettings.PARALLEL_DIRTY_CHECK_THRESHOLD;
+import static org.hibernate.cfg.AvailableSettings.PERSISTENCE_CONTEXT_INDEXED_ENTITY_STORAGE;
 import static org.hibernate.cfg.AvailableSettings.PREFER_USER_TRANSACTION;
 import static org.hibernate.cfg.AvailableSettings.QUERY_CACHE_FACTORY;
 import static org.hibernate.cfg.AvailableSettings.QUERY_STARTUP_CHECKING;
@@ -190,6 +193,9 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 	private TempTableDdlTransactionHandling tempTableDdlTransactionHandling;
 	private BatchFetchStyle batchFetchStyle;
 	private boolean delayBatchFetchLoaderCreations;
+	private boolean indexedEntityStorageEnabled;
+	private int parallelDirtyCheckThreshold;
+	private int parallelDirtyCheckParallelism;
 	private int defaultBatchFetchSize;
 	private Integer maximumFetchDepth;
 	private NullPrecedence defaultNullPrecedence;
@@ -365,6 +371,13 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 
 		this.batchFetchStyle = BatchFetchStyle.interpret( configurationSettings.get( BATCH_FETCH_STYLE ) );
 		this.delayBatchFetchLoaderCreations = cfgService.getSetting( DELAY_ENTITY_LOADER_CREATIONS, BOOLEAN, true );
+		this.indexedEntityStorageEnabled = cfgService.getSetting( PERSISTENCE_CONTEXT_INDEXED_ENTITY_STORAGE, BOOLEAN, false );
+		this.parallelDirtyCheckThreshold = ConfigurationHelper.getInt( PARALLEL_DIRTY_CHECK_THRESHOLD, configurationSettings, 0 );
+		this.parallelDirtyCheckParallelism = ConfigurationHelper.getInt(
+				PARALLEL_DIRTY_CHECK_PARALLELISM,
+				configurationSettings,
+				Runtime.getRuntime().availableProcessors()
+		);
 		this.defaultBatchFetchSize = ConfigurationHelper.getInt( DEFAULT_BATCH_FETCH_SIZE, configurationSettings, -1 );
 		this.maximumFetchDepth = ConfigurationHelper.getInteger( MAX_FETCH_DEPTH, configurationSettings );
 		final String defaultNullPrecedence = ConfigurationHelper.getString(
@@ -981,6 +994,21 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		return delayBatchFetchLoaderCreations;
 	}
 
+	@Override
+	public boolean isIndexedEntityStorageEnabled() {
+		return indexedEntityStorageEnabled;
+	}
+
+	@Override
+	public int getParallelDirtyCheckThreshold() {
+		return parallelDirtyCheckThreshold;
+	}
+
+	@Override
+	public int getParallelDirtyCheckParallelism() {
+		return parallelDirtyCheckParallelism;
+	}
+
 	@Override
 	public int getDefaultBatchFetchSize() {
 		return defaultBatchFetchSize;
@@ -1449,6 +1449,11 @@ public abstract class CollectionBinder {
 				collection.setSubselectLoadable( true );
 				collection.getOwner().setSubselectLoadableCollections( true );
 				break;
+			case AGGREGATE:
+				collection.setFetchMode( FetchMode.SELECT );
+				collection.setAggregateFetched( true );
+				collection.setLazy( false );
+				break;
 			default:
 				throw new AssertionFailure( "unknown fetch type");
 		}
@@ -336,6 +336,9 @@ public class ToOneBinder {
 			case SUBSELECT:
 				throw new AnnotationException( "Association '" + property.getName()
 						+ "' is annotated '@Fetch(SUBSELECT)' but is not many-valued");
+			case AGGREGATE:
+				throw new AnnotationException( "Association '" + property.getName()
+						+ "' is annotated '@Fetch(AGGREGATE)' but is not many-valued");
 			default:
 				throw new AssertionFailure("unknown fetch type");
 		}
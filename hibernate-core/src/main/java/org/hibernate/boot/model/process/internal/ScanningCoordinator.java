@@ -8,6 +8,7 @@ package org.hibernate.boot.model.process.internal;
 
 import java.lang.reflect.Constructor;
 import java.net.URL;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
@@ -16,6 +17,7 @@ import java.util.Set;
 import org.hibernate.boot.MappingException;
 import org.hibernate.boot.archive.internal.StandardArchiveDescriptorFactory;
 import org.hibernate.boot.archive.internal.UrlInputStreamAccess;
+import org.hibernate.boot.archive.scan.internal.ScanResultSnapshotScanner;
 import org.hibernate.boot.archive.scan.internal.StandardScanParameters;
 import org.hibernate.boot.archive.scan.internal.StandardScanner;
 import org.hibernate.boot.archive.scan.spi.ClassDescriptor;
@@ -71,7 +73,7 @@ public class ScanningCoordinator {
 
 		// NOTE : the idea with JandexInitializer/JandexInitManager was to allow adding classes
 		// to the index as we discovered them via scanning and .  Currently
-		final Scanner scanner = buildScanner( bootstrapContext, classLoaderAccess );
+		final Scanner scanner = applySnapshot( buildScanner( bootstrapContext, classLoaderAccess ), bootstrapContext );
 		final ScanResult scanResult = scanner.scan(
 				bootstrapContext.getScanEnvironment(),
 				bootstrapContext.getScanOptions(),
@@ -81,6 +83,11 @@ public class ScanningCoordinator {
 		applyScanResultsToManagedResources( managedResources, scanResult, bootstrapContext, xmlMappingBinderAccess );
 	}
 
+	private static Scanner applySnapshot(Scanner scanner, BootstrapContext bootstrapContext) {
+		final String snapshotFile = bootstrapContext.getScanResultSnapshot();
+		return snapshotFile == null ? scanner : new ScanResultSnapshotScanner( Paths.get( snapshotFile ), scanner );
+	}
+
 	private static final Class[] SINGLE_ARG = new Class[] { ArchiveDescriptorFactory.class };
 
 	@SuppressWarnings("unchecked")
@@ -177,6 +177,21 @@ public class AbstractDelegatingSessionFactoryOptions implements SessionFactoryOp
 		return delegate.isDelayBatchFetchLoaderCreationsEnabled();
 	}
 
+	@Override
+	public boolean isIndexedEntityStorageEnabled() {
+		return delegate.isIndexedEntityStorageEnabled();
+	}
+
+	@Override
+	public int getParallelDirtyCheckThreshold() {
+		return delegate.getParallelDirtyCheckThreshold();
+	}
+
+	@Override
+	public int getParallelDirtyCheckParallelism() {
+		return delegate.getParallelDirtyCheckParallelism();
+	}
+
 	@Override
 	public int getDefaultBatchFetchSize() {
 		return delegate.getDefaultBatchFetchSize();
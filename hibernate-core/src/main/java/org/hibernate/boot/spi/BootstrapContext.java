@@ -145,6 +145,19 @@ public interface BootstrapContext {
 	 */
 	Object getScanner();
 
+	/**
+	 * The path of the file in which the results of scanning are saved, if any.
+	 *
+	 * @return The scan result snapshot file, or {@code null}
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#SCAN_RESULT_SNAPSHOT
+	 *
+	 * @since 6.2
+	 */
+	default String getScanResultSnapshot() {
+		return null;
+	}
+
 	/**
 	 * Retrieve the Hibernate Commons Annotations ReflectionManager to use.
 	 *
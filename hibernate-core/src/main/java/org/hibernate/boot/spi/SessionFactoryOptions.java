@@ -140,6 +140,27 @@ public interface SessionFactoryOptions extends QueryEngineOptions {
 
 	boolean isDelayBatchFetchLoaderCreationsEnabled();
 
+	/**
+	 * @see org.hibernate.cfg.AvailableSettings#PERSISTENCE_CONTEXT_INDEXED_ENTITY_STORAGE
+	 */
+	default boolean isIndexedEntityStorageEnabled() {
+		return false;
+	}
+
+	/**
+	 * @see org.hibernate.cfg.AvailableSettings#PARALLEL_DIRTY_CHECK_THRESHOLD
+	 */
+	default int getParallelDirtyCheckThreshold() {
+		return 0;
+	}
+
+	/**
+	 * @see org.hibernate.cfg.AvailableSettings#PARALLEL_DIRTY_CHECK_PARALLELISM
+	 */
+	default int getParallelDirtyCheckParallelism() {
+		return Runtime.getRuntime().availableProcessors();
+	}
+
 	int getDefaultBatchFetchSize();
 
 	Integer getMaximumFetchDepth();
@@ -0,0 +1,523 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.cache.internal;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.UUID;
+
+import org.hibernate.bytecode.enhance.spi.LazyPropertyInitializer;
+import org.hibernate.cache.CacheException;
+import org.hibernate.cache.spi.entry.CacheEntryFactory;
+import org.hibernate.cache.spi.entry.CacheEntrySerializer;
+import org.hibernate.cache.spi.entry.CollectionCacheEntry;
+import org.hibernate.cache.spi.entry.StandardCacheEntryImpl;
+import org.hibernate.cache.spi.support.AbstractReadWriteAccess;
+import org.hibernate.cache.spi.support.ReadWriteItemFactory;
+import org.hibernate.internal.util.SerializationHelper;
+import org.hibernate.property.access.internal.PropertyAccessStrategyBackRefImpl;
+
+/**
+ * A compact binary encoding of the values stored in the second-level cache.
+ * <p>
+ * Each value is written as a one-byte tag followed by its content.  Values
+ * of the basic Java types and the cache entries of Hibernate itself have a
+ * dedicated encoding, with integral numbers written as variable-length
+ * integers.  Any other value is written using Java serialization.
+ * <p>
+ * This encoding does not depend on the mapping of the entities, and so
+ * {@linkplain StandardCacheEntryImpl entity cache entries} are written with
+ * a tag preceding each attribute value, and with the entity name in full.
+ * <p>
+ * Each value starts with a header made of a marker byte, the version of the
+ * format, and a {@linkplain #getModelFingerprint fingerprint} of the mapping
+ * the encoding depends on.  A value with another header is not read, and is
+ * treated as a cache miss.
+ *
+ * @see StandardCacheEntrySerializer
+ */
+public class CacheValueCodec implements CacheEntrySerializer {
+	/**
+	 * Singleton access
+	 */
+	public static final CacheValueCodec INSTANCE = new CacheValueCodec();
+
+	private static final byte NULL = 0;
+	private static final byte TRUE = 1;
+	private static final byte FALSE = 2;
+	private static final byte BYTE = 3;
+	private static final byte SHORT = 4;
+	private static final byte INTEGER = 5;
+	private static final byte LONG = 6;
+	private static final byte FLOAT = 7;
+	private static final byte DOUBLE = 8;
+	private static final byte CHARACTER = 9;
+	private static final byte STRING = 10;
+	private static final byte BIG_DECIMAL = 11;
+	private static final byte BIG_INTEGER = 12;
+	private static final byte BYTES = 13;
+	private static final byte UUID_VALUE = 14;
+	private static final byte INSTANT = 15;
+	private static final byte LOCAL_DATE = 16;
+	private static final byte LOCAL_TIME = 17;
+	private static final byte LOCAL_DATE_TIME = 18;
+	private static final byte SQL_TIMESTAMP = 19;
+	private static final byte SQL_DATE = 20;
+	private static final byte SQL_TIME = 21;
+	private static final byte DATE = 22;
+	private static final byte SERIALIZABLE_ARRAY = 23;
+	private static final byte OBJECT_ARRAY = 24;
+	private static final byte STANDARD_CACHE_ENTRY = 25;
+	private static final byte COLLECTION_CACHE_ENTRY = 26;
+	private static final byte READ_WRITE_ITEM = 27;
+	private static final byte SERIALIZED = 28;
+	private static final byte UNFETCHED_PROPERTY = 29;
+	private static final byte UNKNOWN_BACKREF = 30;
+
+	private static final byte MARKER = (byte) 0xCE;
+	private static final byte FORMAT_VERSION = 1;
+	// the marker, the format version, and the model fingerprint
+	private static final int HEADER_LENGTH = 10;
+
+	CacheValueCodec() {
+	}
+
+	@Override
+	public byte[] serialize(Object value) {
+		final Output output = new Output();
+		output.writeByte( MARKER );
+		output.writeByte( FORMAT_VERSION );
+		output.writeFixedLong( getModelFingerprint() );
+		write( output, value );
+		return output.toByteArray();
+	}
+
+	@Override
+	public Object deserialize(byte[] bytes) {
+		if ( bytes.length < HEADER_LENGTH ) {
+			return null;
+		}
+		final Input input = new Input( bytes );
+		if ( input.readByte() != MARKER
+				|| input.readByte() != FORMAT_VERSION
+				|| input.readFixedLong() != getModelFingerprint() ) {
+			// written by another version of the format, or for another mapping
+			return null;
+		}
+		final Object value = read( input );
+		assert input.position == bytes.length;
+		return value;
+	}
+
+	/**
+	 * A fingerprint of the mapping of the entities the encoding of the values
+	 * depends on, which is written to the header of each value.
+	 */
+	long getModelFingerprint() {
+		// this encoding does not depend on the mapping
+		return 0L;
+	}
+
+	void write(Output output, Object value) {
+		if ( value == null ) {
+			output.writeByte( NULL );
+		}
+		else if ( value instanceof Boolean ) {
+			output.writeByte( (Boolean) value ? TRUE : FALSE );
+		}
+		else if ( value instanceof Byte ) {
+			output.writeByte( BYTE );
+			output.writeByte( (Byte) value );
+		}
+		else if ( value instanceof Short ) {
+			output.writeByte( SHORT );
+			output.writeVarLong( (Short) value );
+		}
+		else if ( value instanceof Integer ) {
+			output.writeByte( INTEGER );
+			output.writeVarLong( (Integer) value );
+		}
+		else if ( value instanceof Long ) {
+			output.writeByte( LONG );
+			output.writeVarLong( (Long) value );
+		}
+		else if ( value instanceof Float ) {
+			output.writeByte( FLOAT );
+			output.writeFixedInt( Float.floatToRawIntBits( (Float) value ) );
+		}
+		else if ( value instanceof Double ) {
+			output.writeByte( DOUBLE );
+			output.writeFixedLong( Double.doubleToRawLongBits( (Double) value ) );
+		}
+		else if ( value instanceof Character ) {
+			output.writeByte( CHARACTER );
+			output.writeVarInt( (Character) value );
+		}
+		else if ( value instanceof String ) {
+			output.writeByte( STRING );
+			output.writeString( (String) value );
+		}
+		else if ( value.getClass() == BigDecimal.class ) {
+			final BigDecimal decimal = (BigDecimal) value;
+			output.writeByte( BIG_DECIMAL );
+			output.writeVarLong( decimal.scale() );
+			output.writeBytes( decimal.unscaledValue().toByteArray() );
+		}
+		else if ( value.getClass() == BigInteger.class ) {
+			output.writeByte( BIG_INTEGER );
+			output.writeBytes( ( (BigInteger) value ).toByteArray() );
+		}
+		else if ( value instanceof byte[] ) {
+			output.writeByte( BYTES );
+			output.writeBytes( (byte[]) value );
+		}
+		else if ( value instanceof UUID ) {
+			final UUID uuid = (UUID) value;
+			output.writeByte( UUID_VALUE );
+			output.writeFixedLong( uuid.getMostSignificantBits() );
+			output.writeFixedLong( uuid.getLeastSignificantBits() );
+		}
+		else if ( value instanceof Instant ) {
+			final Instant instant = (Instant) value;
+			output.writeByte( INSTANT );
+			output.writeVarLong( instant.getEpochSecond() );
+			output.writeVarInt( instant.getNano() );
+		}
+		else if ( value instanceof LocalDate ) {
+			output.writeByte( LOCAL_DATE );
+			output.writeVarLong( ( (LocalDate) value ).toEpochDay() );
+		}
+		else if ( value instanceof LocalTime ) {
+			output.writeByte( LOCAL_TIME );
+			output.writeVarLong( ( (LocalTime) value ).toNanoOfDay() );
+		}
+		else if ( value instanceof LocalDateTime ) {
+			final LocalDateTime dateTime = (LocalDateTime) value;
+			output.writeByte( LOCAL_DATE_TIME );
+			output.writeVarLong( dateTime.toLocalDate().toEpochDay() );
+			output.writeVarLong( dateTime.toLocalTime().toNanoOfDay() );
+		}
+		else if ( value.getClass() == java.sql.Timestamp.class ) {
+			final java.sql.Timestamp timestamp = (java.sql.Timestamp) value;
+			output.writeByte( SQL_TIMESTAMP );
+			output.writeVarLong( timestamp.getTime() );
+			output.writeVarInt( timestamp.getNanos() );
+		}
+		else if ( value.getClass() == java.sql.Date.class ) {
+			output.writeByte( SQL_DATE );
+			output.writeVarLong( ( (java.sql.Date) value ).getTime() );
+		}
+		else if ( value.getClass() == java.sql.Time.class ) {
+			output.writeByte( SQL_TIME );
+			output.writeVarLong( ( (java.sql.Time) value ).getTime() );
+		}
+		else if ( value.getClass() == java.util.Date.class ) {
+			output.writeByte( DATE );
+			output.writeVarLong( ( (java.util.Date) value ).getTime() );
+		}
+		else if ( value.getClass() == Serializable[].class ) {
+			output.writeByte( SERIALIZABLE_ARRAY );
+			writeElements( output, (Object[]) value );
+		}
+		else if ( value.getClass() == Object[].class ) {
+			output.writeByte( OBJECT_ARRAY );
+			writeElements( output, (Object[]) value );
+		}
+		else if ( value.getClass() == StandardCacheEntryImpl.class ) {
+			output.writeByte( STANDARD_CACHE_ENTRY );
+			writeEntry( output, (StandardCacheEntryImpl) value );
+		}
+		else if ( value.getClass() == CollectionCacheEntry.class ) {
+			output.writeByte( COLLECTION_CACHE_ENTRY );
+			write( output, ( (CollectionCacheEntry) value ).getState() );
+		}
+		else if ( value instanceof AbstractReadWriteAccess.Item ) {
+			final AbstractReadWriteAccess.Item item = (AbstractReadWriteAccess.Item) value;
+			output.writeByte( READ_WRITE_ITEM );
+			output.writeVarLong( ReadWriteItemFactory.getTimestamp( item ) );
+			write( output, ReadWriteItemFactory.getVersion( item ) );
+			write( output, item.getValue() );
+		}
+		else if ( value == LazyPropertyInitializer.UNFETCHED_PROPERTY ) {
+			output.writeByte( UNFETCHED_PROPERTY );
+		}
+		else if ( value == PropertyAccessStrategyBackRefImpl.UNKNOWN ) {
+			output.writeByte( UNKNOWN_BACKREF );
+		}
+		else if ( value instanceof Serializable ) {
+			output.writeByte( SERIALIZED );
+			output.writeBytes( SerializationHelper.serialize( (Serializable) value ) );
+		}
+		else {
+			throw new CacheException( "Value of type " + value.getClass().getName() + " can not be encoded" );
+		}
+	}
+
+	void writeElements(Output output, Object[] elements) {
+		output.writeVarInt( elements.length );
+		for ( Object element : elements ) {
+			write( output, element );
+		}
+	}
+
+	/**
+	 * Write the content of an entity cache entry.
+	 */
+	void writeEntry(Output output, StandardCacheEntryImpl entry) {
+		output.writeString( entry.getSubclass() );
+		write( output, entry.getVersion() );
+		writeElements( output, entry.getDisassembledState() );
+	}
+
+	Object read(Input input) {
+		final byte tag = input.readByte();
+		switch ( tag ) {
+			case NULL:
+				return null;
+			case TRUE:
+				return Boolean.TRUE;
+			case FALSE:
+				return Boolean.FALSE;
+			case BYTE:
+				return input.readByte();
+			case SHORT:
+				return (short) input.readVarLong();
+			case INTEGER:
+				return (int) input.readVarLong();
+			case LONG:
+				return input.readVarLong();
+			case FLOAT:
+				return Float.intBitsToFloat( input.readFixedInt() );
+			case DOUBLE:
+				return Double.longBitsToDouble( input.readFixedLong() );
+			case CHARACTER:
+				return (char) input.readVarInt();
+			case STRING:
+				return input.readString();
+			case BIG_DECIMAL: {
+				final int scale = (int) input.readVarLong();
+				return new BigDecimal( new BigInteger( input.readBytes() ), scale );
+			}
+			case BIG_INTEGER:
+				return new BigInteger( input.readBytes() );
+			case BYTES:
+				return input.readBytes();
+			case UUID_VALUE:
+				return new UUID( input.readFixedLong(), input.readFixedLong() );
+			case INSTANT: {
+				final long seconds = input.readVarLong();
+				return Instant.ofEpochSecond( seconds, input.readVarInt() );
+			}
+			case LOCAL_DATE:
+				return LocalDate.ofEpochDay( input.readVarLong() );
+			case LOCAL_TIME:
+				return LocalTime.ofNanoOfDay( input.readVarLong() );
+			case LOCAL_DATE_TIME: {
+				final LocalDate date = LocalDate.ofEpochDay( input.readVarLong() );
+				return LocalDateTime.of( date, LocalTime.ofNanoOfDay( input.readVarLong() ) );
+			}
+			case SQL_TIMESTAMP: {
+				final java.sql.Timestamp timestamp = new java.sql.Timestamp( input.readVarLong() );
+				timestamp.setNanos( input.readVarInt() );
+				return timestamp;
+			}
+			case SQL_DATE:
+				return new java.sql.Date( input.readVarLong() );
+			case SQL_TIME:
+				return new java.sql.Time( input.readVarLong() );
+			case DATE:
+				return new java.util.Date( input.readVarLong() );
+			case SERIALIZABLE_ARRAY: {
+				final Serializable[] elements = new Serializable[input.readVarInt()];
+				readElements( input, elements );
+				return elements;
+			}
+			case OBJECT_ARRAY: {
+				final Object[] elements = new Object[input.readVarInt()];
+				readElements( input, elements );
+				return elements;
+			}
+			case STANDARD_CACHE_ENTRY:
+				return readEntry( input );
+			case COLLECTION_CACHE_ENTRY:
+				return CacheEntryFactory.createCollectionCacheEntry( (Serializable) read( input ) );
+			case READ_WRITE_ITEM: {
+				final long timestamp = input.readVarLong();
+				final Object version = read( input );
+				return ReadWriteItemFactory.createItem( read( input ), version, timestamp );
+			}
+			case SERIALIZED:
+				return SerializationHelper.deserialize( input.readBytes(), CacheValueCodec.class.getClassLoader() );
+			case UNFETCHED_PROPERTY:
+				return LazyPropertyInitializer.UNFETCHED_PROPERTY;
+			case UNKNOWN_BACKREF:
+				return PropertyAccessStrategyBackRefImpl.UNKNOWN;
+			default:
+				throw new CacheException( "Unknown tag in encoded cache value: " + tag );
+		}
+	}
+
+	void readElements(Input input, Object[] elements) {
+		for ( int i = 0; i < elements.length; i++ ) {
+			elements[i] = read( input );
+		}
+	}
+
+	/**
+	 * Read the content of an entity cache entry written by {@link #writeEntry}.
+	 */
+	StandardCacheEntryImpl readEntry(Input input) {
+		final String subclass = input.readString();
+		final Object version = read( input );
+		final Serializable[] state = new Serializable[input.readVarInt()];
+		readElements( input, state );
+		return CacheEntryFactory.createStandardCacheEntry( state, subclass, version );
+	}
+
+	static final class Output {
+		private byte[] buffer = new byte[64];
+		private int position;
+
+		private void ensureCapacity(int length) {
+			if ( position + length > buffer.length ) {
+				buffer = Arrays.copyOf( buffer, Math.max( buffer.length * 2, position + length ) );
+			}
+		}
+
+		void writeByte(int value) {
+			ensureCapacity( 1 );
+			buffer[position++] = (byte) value;
+		}
+
+		/**
+		 * Write an unsigned variable-length integer
+		 */
+		void writeVarInt(int value) {
+			ensureCapacity( 5 );
+			while ( ( value & ~0x7F ) != 0 ) {
+				buffer[position++] = (byte) ( ( value & 0x7F ) | 0x80 );
+				value >>>= 7;
+			}
+			buffer[position++] = (byte) value;
+		}
+
+		/**
+		 * Write a signed variable-length integer, using the zig-zag encoding
+		 * so that small negative numbers are short too
+		 */
+		void writeVarLong(long value) {
+			ensureCapacity( 10 );
+			long zigZag = ( value << 1 ) ^ ( value >> 63 );
+			while ( ( zigZag & ~0x7FL ) != 0 ) {
+				buffer[position++] = (byte) ( ( zigZag & 0x7F ) | 0x80 );
+				zigZag >>>= 7;
+			}
+			buffer[position++] = (byte) zigZag;
+		}
+
+		void writeFixedInt(int value) {
+			ensureCapacity( 4 );
+			for ( int shift = 24; shift >= 0; shift -= 8 ) {
+				buffer[position++] = (byte) ( value >>> shift );
+			}
+		}
+
+		void writeFixedLong(long value) {
+			ensureCapacity( 8 );
+			for ( int shift = 56; shift >= 0; shift -= 8 ) {
+				buffer[position++] = (byte) ( value >>> shift );
+			}
+		}
+
+		void writeBytes(byte[] bytes) {
+			writeVarInt( bytes.length );
+			ensureCapacity( bytes.length );
+			System.arraycopy( bytes, 0, buffer, position, bytes.length );
+			position += bytes.length;
+		}
+
+		void writeString(String string) {
+			writeBytes( string.getBytes( StandardCharsets.UTF_8 ) );
+		}
+
+		byte[] toByteArray() {
+			return Arrays.copyOf( buffer, position );
+		}
+	}
+
+	static final class Input {
+		private final byte[] buffer;
+		private int position;
+
+		Input(byte[] buffer) {
+			this.buffer = buffer;
+		}
+
+		byte readByte() {
+			return buffer[position++];
+		}
+
+		int readVarInt() {
+			int value = 0;
+			for ( int shift = 0; ; shift += 7 ) {
+				final byte b = buffer[position++];
+				value |= ( b & 0x7F ) << shift;
+				if ( b >= 0 ) {
+					return value;
+				}
+			}
+		}
+
+		long readVarLong() {
+			long zigZag = 0;
+			for ( int shift = 0; ; shift += 7 ) {
+				final byte b = buffer[position++];
+				zigZag |= (long) ( b & 0x7F ) << shift;
+				if ( b >= 0 ) {
+					return ( zigZag >>> 1 ) ^ -( zigZag & 1 );
+				}
+			}
+		}
+
+		int readFixedInt() {
+			int value = 0;
+			for ( int i = 0; i < 4; i++ ) {
+				value = ( value << 8 ) | ( buffer[position++] & 0xFF );
+			}
+			return value;
+		}
+
+		long readFixedLong() {
+			long value = 0;
+			for ( int i = 0; i < 8; i++ ) {
+				value = ( value << 8 ) | ( buffer[position++] & 0xFF );
+			}
+			return value;
+		}
+
+		byte[] readBytes() {
+			final int length = readVarInt();
+			final byte[] bytes = Arrays.copyOfRange( buffer, position, position + length );
+			position += length;
+			return bytes;
+		}
+
+		String readString() {
+			final int length = readVarInt();
+			final String string = new String( buffer, position, length, StandardCharsets.UTF_8 );
+			position += length;
+			return string;
+		}
+	}
+}
@@ -34,6 +34,7 @@ import org.hibernate.cache.spi.TimestampsRegion;
 import org.hibernate.cache.spi.access.CollectionDataAccess;
 import org.hibernate.cache.spi.access.EntityDataAccess;
 import org.hibernate.cache.spi.access.NaturalIdDataAccess;
+import org.hibernate.cache.spi.entry.CacheEntrySerializer;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.internal.CoreLogging;
 import org.hibernate.internal.CoreMessageLogger;
@@ -76,8 +77,11 @@ public class EnabledCaching implements CacheImplementor, DomainDataRegionBuildin
 	private final Set<String> legacySecondLevelCacheNames = new LinkedHashSet<>();
 	private final Map<String,Set<NaturalIdDataAccess>> legacyNaturalIdAccessesForRegion = new ConcurrentHashMap<>();
 
+	private final CacheEntrySerializer cacheEntrySerializer;
+
 	public EnabledCaching(SessionFactoryImplementor sessionFactory) {
 		this.sessionFactory = sessionFactory;
+		this.cacheEntrySerializer = new StandardCacheEntrySerializer( sessionFactory );
 
 		this.regionFactory = getSessionFactory().getSessionFactoryOptions().getServiceRegistry().getService( RegionFactory.class );
 		this.regionFactory.start( sessionFactory.getSessionFactoryOptions(), sessionFactory.getProperties() );
@@ -202,6 +206,11 @@ public class EnabledCaching implements CacheImplementor, DomainDataRegionBuildin
 		return regionFactory;
 	}
 
+	@Override
+	public CacheEntrySerializer getCacheEntrySerializer() {
+		return cacheEntrySerializer;
+	}
+
 	@Override
 	public TimestampsCache getTimestampsCache() {
 		return timestampsCache;
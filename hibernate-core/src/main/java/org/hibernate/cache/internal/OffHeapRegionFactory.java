@@ -0,0 +1,189 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.cache.internal;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.cache.cfg.spi.DomainDataRegionBuildingContext;
+import org.hibernate.cache.cfg.spi.DomainDataRegionConfig;
+import org.hibernate.cache.spi.DomainDataRegion;
+import org.hibernate.cache.spi.ExtendedStatisticsSupport;
+import org.hibernate.cache.spi.QueryResultsRegion;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.cache.spi.support.DomainDataRegionTemplate;
+import org.hibernate.cache.spi.support.QueryResultsRegionTemplate;
+import org.hibernate.cache.spi.support.RegionFactoryTemplate;
+import org.hibernate.cache.spi.support.StorageAccess;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.internal.util.config.ConfigurationHelper;
+
+import static org.hibernate.cfg.AvailableSettings.CACHE_OFF_HEAP_MAX_SIZE;
+
+/**
+ * A {@link RegionFactory} which stores the cached entity and collection
+ * data, and the cached query results, outside the Java heap, so that a
+ * large cache does not add to the cost of garbage collection.
+ * <p>
+ * The size of each region is bounded by {@value org.hibernate.cfg.AvailableSettings#CACHE_OFF_HEAP_MAX_SIZE},
+ * and when a region is full, its oldest entries are evicted. The
+ * regions report their size via {@link ExtendedStatisticsSupport}.
+ * <p>
+ * The update timestamps, which must never be evicted, are kept on the heap.
+ *
+ * @see OffHeapStorageAccess
+ */
+public class OffHeapRegionFactory extends RegionFactoryTemplate {
+	/**
+	 * The default maximum size of a region, 64 MB.
+	 */
+	public static final long DEFAULT_MAX_SIZE = 64L * 1024 * 1024;
+
+	private long maxSize = DEFAULT_MAX_SIZE;
+
+	@Override
+	protected void prepareForUse(SessionFactoryOptions settings, Map<String, Object> configValues) {
+		maxSize = ConfigurationHelper.getLong( CACHE_OFF_HEAP_MAX_SIZE, configValues, DEFAULT_MAX_SIZE );
+	}
+
+	@Override
+	protected void releaseFromUse() {
+	}
+
+	@Override
+	public DomainDataRegion buildDomainDataRegion(
+			DomainDataRegionConfig regionConfig,
+			DomainDataRegionBuildingContext buildingContext) {
+		verifyStarted();
+		return new OffHeapDomainDataRegion(
+				regionConfig,
+				this,
+				new OffHeapStorageAccess( maxSize, regionConfig.getRegionName(), buildingContext.getSessionFactory() ),
+				buildingContext
+		);
+	}
+
+	@Override
+	public QueryResultsRegion buildQueryResultsRegion(
+			String regionName,
+			SessionFactoryImplementor sessionFactory) {
+		verifyStarted();
+		return new OffHeapQueryResultsRegion(
+				regionName,
+				this,
+				new OffHeapStorageAccess( maxSize, regionName, sessionFactory )
+		);
+	}
+
+	@Override
+	protected StorageAccess createQueryResultsRegionStorageAccess(
+			String regionName,
+			SessionFactoryImplementor sessionFactory) {
+		return new OffHeapStorageAccess( maxSize, regionName, sessionFactory );
+	}
+
+	@Override
+	protected StorageAccess createTimestampsRegionStorageAccess(
+			String regionName,
+			SessionFactoryImplementor sessionFactory) {
+		return new TimestampsStorageAccess();
+	}
+
+	private static class OffHeapDomainDataRegion extends DomainDataRegionTemplate
+			implements ExtendedStatisticsSupport {
+		private OffHeapDomainDataRegion(
+				DomainDataRegionConfig regionConfig,
+				RegionFactory regionFactory,
+				OffHeapStorageAccess storageAccess,
+				DomainDataRegionBuildingContext buildingContext) {
+			super( regionConfig, regionFactory, storageAccess, DefaultCacheKeysFactory.INSTANCE, buildingContext );
+		}
+
+		@Override
+		public OffHeapStorageAccess getCacheStorageAccess() {
+			return (OffHeapStorageAccess) super.getCacheStorageAccess();
+		}
+
+		@Override
+		public long getElementCountInMemory() {
+			return getCacheStorageAccess().getElementCount();
+		}
+
+		@Override
+		public long getElementCountOnDisk() {
+			return 0;
+		}
+
+		@Override
+		public long getSizeInMemory() {
+			return getCacheStorageAccess().getSizeInMemory();
+		}
+	}
+
+	private static class OffHeapQueryResultsRegion extends QueryResultsRegionTemplate
+			implements ExtendedStatisticsSupport {
+		private OffHeapQueryResultsRegion(String name, RegionFactory regionFactory, OffHeapStorageAccess storageAccess) {
+			super( name, regionFactory, storageAccess );
+		}
+
+		@Override
+		public OffHeapStorageAccess getStorageAccess() {
+			return (OffHeapStorageAccess) super.getStorageAccess();
+		}
+
+		@Override
+		public long getElementCountInMemory() {
+			return getStorageAccess().getElementCount();
+		}
+
+		@Override
+		public long getElementCountOnDisk() {
+			return 0;
+		}
+
+		@Override
+		public long getSizeInMemory() {
+			return getStorageAccess().getSizeInMemory();
+		}
+	}
+
+	private static class TimestampsStorageAccess implements StorageAccess {
+		private final Map<Object, Object> timestamps = new ConcurrentHashMap<>();
+
+		@Override
+		public Object getFromCache(Object key, SharedSessionContractImplementor session) {
+			return timestamps.get( key );
+		}
+
+		@Override
+		public void putIntoCache(Object key, Object value, SharedSessionContractImplementor session) {
+			timestamps.put( key, value );
+		}
+
+		@Override
+		public boolean contains(Object key) {
+			return timestamps.containsKey( key );
+		}
+
+		@Override
+		public void evictData() {
+			timestamps.clear();
+		}
+
+		@Override
+		public void evictData(Object key) {
+			timestamps.remove( key );
+		}
+
+		@Override
+		public void release() {
+			timestamps.clear();
+		}
+	}
+}
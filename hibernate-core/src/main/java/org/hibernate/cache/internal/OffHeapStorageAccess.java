@@ -0,0 +1,269 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.cache.internal;
+
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.StampedLock;
+
+import org.hibernate.cache.spi.entry.CacheEntrySerializer;
+import org.hibernate.cache.spi.support.DomainDataStorageAccess;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+
+/**
+ * A {@link DomainDataStorageAccess} which keeps the cached values outside
+ * the Java heap, encoded by the {@link CacheEntrySerializer} of the session
+ * factory.
+ * <p>
+ * The keys and a small index entry per key are kept on the heap.  The
+ * encoded values are appended to a ring of direct {@link ByteBuffer}s
+ * of bounded total size, and when the ring is full the oldest values are
+ * overwritten, and their keys evicted.
+ * <p>
+ * Values which are not {@link Serializable}, for example, direct
+ * references to immutable entities, are not cached.
+ */
+public class OffHeapStorageAccess implements DomainDataStorageAccess {
+	private static final int MAX_SEGMENT_SIZE = 1024 * 1024;
+
+	private final String regionName;
+	private final SessionFactoryImplementor sessionFactory;
+	private final int segmentSize;
+	private final ByteBuffer[] segments;
+	// the size of the last segment, which may be smaller than the others
+	private final int lastSegmentSize;
+	private final long capacity;
+
+	private final Map<Object, Slot> index = new ConcurrentHashMap<>();
+	// the values written to the ring, oldest first
+	private final ArrayDeque<Slot> slots = new ArrayDeque<>();
+	private final StampedLock lock = new StampedLock();
+
+	// the position in the ring at which the next value is written
+	private long head;
+	private volatile long sizeInMemory;
+
+	public OffHeapStorageAccess(long maxSize) {
+		this( maxSize, null, null );
+	}
+
+	public OffHeapStorageAccess(long maxSize, String regionName, SessionFactoryImplementor sessionFactory) {
+		if ( maxSize < 1 ) {
+			throw new IllegalArgumentException( "Maximum size must be positive: " + maxSize );
+		}
+		this.regionName = regionName;
+		this.sessionFactory = sessionFactory;
+		segmentSize = (int) Math.min( maxSize, MAX_SEGMENT_SIZE );
+		segments = new ByteBuffer[ (int) ( ( maxSize + segmentSize - 1 ) / segmentSize ) ];
+		lastSegmentSize = (int) ( maxSize - (long) ( segments.length - 1 ) * segmentSize );
+		capacity = maxSize;
+	}
+
+	private int getSegmentSize(int segmentIndex) {
+		return segmentIndex == segments.length - 1 ? lastSegmentSize : segmentSize;
+	}
+
+	private CacheEntrySerializer getSerializer() {
+		// the cache is only available once the session factory is built
+		return sessionFactory == null
+				? CacheValueCodec.INSTANCE
+				: sessionFactory.getCache().getCacheEntrySerializer().forRegion( regionName );
+	}
+
+	private static final class Slot {
+		private final Object key;
+		private final long position;
+		private final int length;
+
+		private Slot(Object key, long position, int length) {
+			this.key = key;
+			this.position = position;
+			this.length = length;
+		}
+	}
+
+	@Override
+	public Object getFromCache(Object key, SharedSessionContractImplementor session) {
+		byte[] bytes;
+		Slot slot;
+
+		// the index and the ring are only ever modified under the write lock
+		final long stamp = lock.tryOptimisticRead();
+		slot = index.get( key );
+		bytes = slot == null ? null : read( slot );
+		if ( !lock.validate( stamp ) ) {
+			final long readStamp = lock.readLock();
+			try {
+				slot = index.get( key );
+				bytes = slot == null ? null : read( slot );
+			}
+			finally {
+				lock.unlockRead( readStamp );
+			}
+		}
+
+		return bytes == null ? null : getSerializer().deserialize( bytes );
+	}
+
+	private byte[] read(Slot slot) {
+		final ByteBuffer segment = segments[ (int) ( slot.position / segmentSize ) ];
+		final byte[] bytes = new byte[slot.length];
+		if ( segment != null ) {
+			final ByteBuffer buffer = segment.duplicate();
+			buffer.position( (int) ( slot.position % segmentSize ) );
+			buffer.get( bytes );
+		}
+		return bytes;
+	}
+
+	@Override
+	public void putIntoCache(Object key, Object value, SharedSessionContractImplementor session) {
+		// a value which cannot be written off-heap is not cached, and replaces the previous value
+		final byte[] bytes = value instanceof Serializable ? getSerializer().serialize( value ) : null;
+		final long stamp = lock.writeLock();
+		try {
+			if ( bytes == null || bytes.length > segmentSize ) {
+				// not serializable, or too big to ever be cached
+				unindex( index.get( key ) );
+			}
+			else {
+				index( write( key, bytes ) );
+			}
+		}
+		finally {
+			lock.unlockWrite( stamp );
+		}
+	}
+
+	private Slot write(Object key, byte[] bytes) {
+		final int offset = (int) ( head % segmentSize );
+		final int currentSegmentSize = getSegmentSize( (int) ( head / segmentSize ) );
+		if ( offset + bytes.length > currentSegmentSize ) {
+			// skip the rest of the current segment
+			evict( currentSegmentSize - offset );
+			advance( currentSegmentSize - offset );
+		}
+		evict( bytes.length );
+
+		final int segmentIndex = (int) ( head / segmentSize );
+		if ( segments[segmentIndex] == null ) {
+			segments[segmentIndex] = ByteBuffer.allocateDirect( getSegmentSize( segmentIndex ) );
+		}
+		final ByteBuffer buffer = segments[segmentIndex].duplicate();
+		buffer.position( (int) ( head % segmentSize ) );
+		buffer.put( bytes );
+
+		final Slot slot = new Slot( key, head, bytes.length );
+		slots.addLast( slot );
+		advance( bytes.length );
+		return slot;
+	}
+
+	/**
+	 * Evict the values stored in the next {@code length} bytes of the ring.
+	 */
+	private void evict(int length) {
+		final long end = head + length;
+		while ( !slots.isEmpty() ) {
+			final Slot oldest = slots.peekFirst();
+			if ( oldest.position < head || oldest.position >= end ) {
+				break;
+			}
+			slots.removeFirst();
+			if ( index.remove( oldest.key, oldest ) ) {
+				sizeInMemory -= oldest.length;
+			}
+		}
+	}
+
+	private void advance(int length) {
+		head += length;
+		if ( head == capacity ) {
+			head = 0;
+		}
+	}
+
+	private void index(Slot slot) {
+		final Slot previous = index.put( slot.key, slot );
+		if ( previous != null ) {
+			sizeInMemory -= previous.length;
+		}
+		sizeInMemory += slot.length;
+	}
+
+	private void unindex(Slot slot) {
+		if ( slot != null && index.remove( slot.key, slot ) ) {
+			sizeInMemory -= slot.length;
+		}
+	}
+
+	@Override
+	public boolean contains(Object key) {
+		return index.containsKey( key );
+	}
+
+	@Override
+	public void evictData() {
+		final long stamp = lock.writeLock();
+		try {
+			index.clear();
+			slots.clear();
+			head = 0;
+			sizeInMemory = 0;
+		}
+		finally {
+			lock.unlockWrite( stamp );
+		}
+	}
+
+	@Override
+	public void evictData(Object key) {
+		final long stamp = lock.writeLock();
+		try {
+			unindex( index.get( key ) );
+		}
+		finally {
+			lock.unlockWrite( stamp );
+		}
+	}
+
+	@Override
+	public void release() {
+		final long stamp = lock.writeLock();
+		try {
+			index.clear();
+			slots.clear();
+			head = 0;
+			sizeInMemory = 0;
+			// the memory is freed when the buffers are garbage collected
+			for ( int i = 0; i < segments.length; i++ ) {
+				segments[i] = null;
+			}
+		}
+		finally {
+			lock.unlockWrite( stamp );
+		}
+	}
+
+	/**
+	 * The number of cached values.
+	 */
+	public long getElementCount() {
+		return index.size();
+	}
+
+	/**
+	 * The number of bytes of off-heap memory occupied by the cached values.
+	 */
+	public long getSizeInMemory() {
+		return sizeInMemory;
+	}
+}
@@ -0,0 +1,488 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.cache.internal;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.hibernate.cache.spi.access.EntityDataAccess;
+import org.hibernate.cache.spi.entry.CacheEntryFactory;
+import org.hibernate.cache.spi.entry.CacheEntrySerializer;
+import org.hibernate.cache.spi.entry.StandardCacheEntryImpl;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.metamodel.mapping.AttributeMapping;
+import org.hibernate.metamodel.mapping.BasicValuedModelPart;
+import org.hibernate.metamodel.mapping.EntityIdentifierMapping;
+import org.hibernate.metamodel.mapping.ModelPart;
+import org.hibernate.metamodel.mapping.PluralAttributeMapping;
+import org.hibernate.metamodel.mapping.internal.ToOneAttributeMapping;
+import org.hibernate.persister.entity.EntityPersister;
+
+/**
+ * The standard {@link org.hibernate.cache.spi.entry.CacheEntrySerializer}
+ * of a session factory, which uses the mapping of the entities to write
+ * {@linkplain StandardCacheEntryImpl entity cache entries} more compactly
+ * than {@link CacheValueCodec}:
+ * <ul>
+ *     <li>the entity name is written as its index in the sorted list of
+ *     the names of the entities cached in the region, and
+ *     <li>the value of an attribute whose Java type is known from its
+ *     {@linkplain AttributeMapping mapping} is written without a tag, a
+ *     bitmap preceding the attribute values indicating which attribute
+ *     values have the expected type.
+ * </ul>
+ * <p>
+ * The serializer {@linkplain #forRegion of a region} only writes the entries
+ * of the entities cached in that region compactly.  The fingerprint in the
+ * header of each value covers the names of these entities, and the names and
+ * types of their attributes, including the constants of enumerated types,
+ * so that an entry written for another mapping, for example, by another node
+ * sharing a replicated cache, is never decoded as a wrong entity or value.
+ */
+public class StandardCacheEntrySerializer extends CacheValueCodec {
+	private final SessionFactoryImplementor sessionFactory;
+	// the region whose entities are written compactly, or null for all entities
+	private final String regionName;
+	private final Map<String, StandardCacheEntrySerializer> regionSerializers;
+	private volatile EntitySchemas schemas;
+
+	public StandardCacheEntrySerializer(SessionFactoryImplementor sessionFactory) {
+		this( sessionFactory, null, new ConcurrentHashMap<>() );
+	}
+
+	private StandardCacheEntrySerializer(
+			SessionFactoryImplementor sessionFactory,
+			String regionName,
+			Map<String, StandardCacheEntrySerializer> regionSerializers) {
+		this.sessionFactory = sessionFactory;
+		this.regionName = regionName;
+		this.regionSerializers = regionSerializers;
+	}
+
+	@Override
+	public CacheEntrySerializer forRegion(String regionName) {
+		if ( regionName == null ) {
+			return this;
+		}
+		return regionSerializers.computeIfAbsent(
+				regionName,
+				name -> new StandardCacheEntrySerializer( sessionFactory, name, regionSerializers )
+		);
+	}
+
+	private EntitySchemas getSchemas() {
+		// built lazily, since the cache is built before the mapping model
+		EntitySchemas result = schemas;
+		if ( result == null ) {
+			result = new EntitySchemas( sessionFactory, regionName );
+			schemas = result;
+		}
+		return result;
+	}
+
+	@Override
+	long getModelFingerprint() {
+		return getSchemas().fingerprint;
+	}
+
+	@Override
+	void writeEntry(Output output, StandardCacheEntryImpl entry) {
+		final EntitySchema schema = getSchemas().byName.get( entry.getSubclass() );
+		final Serializable[] state = entry.getDisassembledState();
+		if ( schema == null || schema.codecs.length != state.length ) {
+			output.writeVarInt( 0 );
+			super.writeEntry( output, entry );
+		}
+		else {
+			output.writeVarInt( schema.index + 1 );
+			write( output, entry.getVersion() );
+
+			final byte[] typed = new byte[ ( state.length + 7 ) / 8 ];
+			for ( int i = 0; i < state.length; i++ ) {
+				if ( schema.isTyped( i, state[i] ) ) {
+					typed[i / 8] |= 1 << ( i % 8 );
+				}
+			}
+			for ( byte bits : typed ) {
+				output.writeByte( bits );
+			}
+
+			for ( int i = 0; i < state.length; i++ ) {
+				if ( ( typed[i / 8] & ( 1 << ( i % 8 ) ) ) != 0 ) {
+					schema.codecs[i].write( output, state[i] );
+				}
+				else {
+					write( output, state[i] );
+				}
+			}
+		}
+	}
+
+	@Override
+	StandardCacheEntryImpl readEntry(Input input) {
+		final int index = input.readVarInt();
+		if ( index == 0 ) {
+			return super.readEntry( input );
+		}
+
+		final EntitySchema schema = getSchemas().byIndex[index - 1];
+		final Object version = read( input );
+
+		final Serializable[] state = new Serializable[schema.codecs.length];
+		final byte[] typed = new byte[ ( state.length + 7 ) / 8 ];
+		for ( int i = 0; i < typed.length; i++ ) {
+			typed[i] = input.readByte();
+		}
+		for ( int i = 0; i < state.length; i++ ) {
+			state[i] = ( typed[i / 8] & ( 1 << ( i % 8 ) ) ) != 0
+					? (Serializable) schema.codecs[i].read( input )
+					: (Serializable) read( input );
+		}
+		return CacheEntryFactory.createStandardCacheEntry( state, schema.entityName, version );
+	}
+
+	private static final class EntitySchemas {
+		private final EntitySchema[] byIndex;
+		private final Map<String, EntitySchema> byName = new HashMap<>();
+		private final long fingerprint;
+
+		private EntitySchemas(SessionFactoryImplementor sessionFactory, String regionName) {
+			final List<EntityPersister> persisters = new ArrayList<>();
+			sessionFactory.getRuntimeMetamodels().getMappingMetamodel().forEachEntityDescriptor( persister -> {
+				if ( regionName == null || isCachedInRegion( persister, regionName ) ) {
+					persisters.add( persister );
+				}
+			} );
+			persisters.sort( Comparator.comparing( EntityPersister::getEntityName ) );
+
+			final StringBuilder description = new StringBuilder();
+			byIndex = new EntitySchema[persisters.size()];
+			for ( int i = 0; i < byIndex.length; i++ ) {
+				byIndex[i] = new EntitySchema( i, persisters.get( i ) );
+				byName.put( byIndex[i].entityName, byIndex[i] );
+				byIndex[i].describe( description );
+			}
+			fingerprint = fingerprint( description );
+		}
+
+		private static boolean isCachedInRegion(EntityPersister persister, String regionName) {
+			final EntityDataAccess cacheAccess = persister.getCacheAccessStrategy();
+			return cacheAccess != null && regionName.equals( cacheAccess.getRegion().getName() );
+		}
+
+		/**
+		 * The 64-bit FNV-1a hash of the description of the schemas
+		 */
+		private static long fingerprint(CharSequence description) {
+			long hash = 0xcbf29ce484222325L;
+			for ( byte b : description.toString().getBytes( StandardCharsets.UTF_8 ) ) {
+				hash ^= b & 0xFF;
+				hash *= 0x100000001b3L;
+			}
+			return hash;
+		}
+	}
+
+	private static final class EntitySchema {
+		private final int index;
+		private final String entityName;
+		private final String[] attributeNames;
+		private final Class<?>[] attributeTypes;
+		private final ValueCodec[] codecs;
+
+		private EntitySchema(int index, EntityPersister persister) {
+			this.index = index;
+			this.entityName = persister.getEntityName();
+			this.attributeNames = new String[persister.getNumberOfAttributeMappings()];
+			this.attributeTypes = new Class<?>[attributeNames.length];
+			this.codecs = new ValueCodec[attributeNames.length];
+			persister.forEachAttributeMapping( attributeMapping -> {
+				final int position = attributeMapping.getStateArrayPosition();
+				attributeNames[position] = attributeMapping.getAttributeName();
+				attributeTypes[position] = attributeMapping.getJavaType().getJavaTypeClass();
+				codecs[position] = codec( attributeMapping );
+			} );
+		}
+
+		/**
+		 * Append the entity name, and the name, type and codec of each
+		 * attribute, which determine the encoding of the entries
+		 */
+		private void describe(StringBuilder description) {
+			description.append( entityName ).append( '(' );
+			for ( int i = 0; i < codecs.length; i++ ) {
+				description.append( attributeNames[i] ).append( ':' ).append( attributeTypes[i].getName() );
+				if ( codecs[i] != null ) {
+					description.append( ':' );
+					codecs[i].describe( description );
+				}
+				description.append( ';' );
+			}
+			description.append( ')' );
+		}
+
+		private boolean isTyped(int position, Object value) {
+			return value != null && codecs[position] != null && codecs[position].getJavaType() == value.getClass();
+		}
+
+		/**
+		 * The codec for the disassembled value of the given attribute,
+		 * or {@code null} if its type is not known
+		 */
+		private static ValueCodec codec(AttributeMapping attributeMapping) {
+			if ( attributeMapping instanceof BasicValuedModelPart ) {
+				return codec( attributeMapping.getJavaType().getJavaTypeClass() );
+			}
+			else if ( attributeMapping instanceof ToOneAttributeMapping ) {
+				// the disassembled value is the identifier of the associated entity
+				final EntityIdentifierMapping identifierMapping = ( (ToOneAttributeMapping) attributeMapping )
+						.getEntityMappingType()
+						.getIdentifierMapping();
+				return identifierMapping instanceof BasicValuedModelPart
+						? codec( identifierMapping.getJavaType().getJavaTypeClass() )
+						: null;
+			}
+			else if ( attributeMapping instanceof PluralAttributeMapping ) {
+				// the disassembled value is the collection key
+				final ModelPart keyPart = ( (PluralAttributeMapping) attributeMapping ).getKeyDescriptor().getKeyPart();
+				return keyPart instanceof BasicValuedModelPart
+						? codec( keyPart.getJavaType().getJavaTypeClass() )
+						: null;
+			}
+			else {
+				return null;
+			}
+		}
+
+		@SuppressWarnings({ "unchecked", "rawtypes" })
+		private static ValueCodec codec(Class<?> javaType) {
+			if ( javaType.isEnum() ) {
+				return new EnumValueCodec( (Class) javaType );
+			}
+			for ( BasicValueCodec codec : BasicValueCodec.values() ) {
+				if ( codec.javaType == javaType ) {
+					return codec;
+				}
+			}
+			return null;
+		}
+	}
+
+	private interface ValueCodec {
+		Class<?> getJavaType();
+
+		default void describe(StringBuilder description) {
+			description.append( getJavaType().getName() );
+		}
+
+		void write(Output output, Object value);
+
+		Object read(Input input);
+	}
+
+	private enum BasicValueCodec implements ValueCodec {
+		LONG( Long.class ) {
+			@Override
+			public void write(Output output, Object value) {
+				output.writeVarLong( (Long) value );
+			}
+
+			@Override
+			public Object read(Input input) {
+				return input.readVarLong();
+			}
+		},
+		INTEGER( Integer.class ) {
+			@Override
+			public void write(Output output, Object value) {
+				output.writeVarLong( (Integer) value );
+			}
+
+			@Override
+			public Object read(Input input) {
+				return (int) input.readVarLong();
+			}
+		},
+		SHORT( Short.class ) {
+			@Override
+			public void write(Output output, Object value) {
+				output.writeVarLong( (Short) value );
+			}
+
+			@Override
+			public Object read(Input input) {
+				return (short) input.readVarLong();
+			}
+		},
+		BOOLEAN( Boolean.class ) {
+			@Override
+			public void write(Output output, Object value) {
+				output.writeByte( (Boolean) value ? 1 : 0 );
+			}
+
+			@Override
+			public Object read(Input input) {
+				return input.readByte() != 0;
+			}
+		},
+		DOUBLE( Double.class ) {
+			@Override
+			public void write(Output output, Object value) {
+				output.writeFixedLong( Double.doubleToRawLongBits( (Double) value ) );
+			}
+
+			@Override
+			public Object read(Input input) {
+				return Double.longBitsToDouble( input.readFixedLong() );
+			}
+		},
+		STRING( String.class ) {
+			@Override
+			public void write(Output output, Object value) {
+				output.writeString( (String) value );
+			}
+
+			@Override
+			public Object read(Input input) {
+				return input.readString();
+			}
+		},
+		BIG_DECIMAL( BigDecimal.class ) {
+			@Override
+			public void write(Output output, Object value) {
+				final BigDecimal decimal = (BigDecimal) value;
+				output.writeVarLong( decimal.scale() );
+				if ( decimal.precision() < 19 ) {
+					output.writeByte( 0 );
+					output.writeVarLong( decimal.unscaledValue().longValue() );
+				}
+				else {
+					output.writeByte( 1 );
+					output.writeBytes( decimal.unscaledValue().toByteArray() );
+				}
+			}
+
+			@Override
+			public Object read(Input input) {
+				final int scale = (int) input.readVarLong();
+				return input.readByte() == 0
+						? BigDecimal.valueOf( input.readVarLong(), scale )
+						: new BigDecimal( new BigInteger( input.readBytes() ), scale );
+			}
+		},
+		LOCAL_DATE( LocalDate.class ) {
+			@Override
+			public void write(Output output, Object value) {
+				output.writeVarLong( ( (LocalDate) value ).toEpochDay() );
+			}
+
+			@Override
+			public Object read(Input input) {
+				return LocalDate.ofEpochDay( input.readVarLong() );
+			}
+		},
+		LOCAL_DATE_TIME( LocalDateTime.class ) {
+			@Override
+			public void write(Output output, Object value) {
+				final LocalDateTime dateTime = (LocalDateTime) value;
+				output.writeVarLong( dateTime.toLocalDate().toEpochDay() );
+				output.writeVarLong( dateTime.toLocalTime().toNanoOfDay() );
+			}
+
+			@Override
+			public Object read(Input input) {
+				final LocalDate date = LocalDate.ofEpochDay( input.readVarLong() );
+				return LocalDateTime.of( date, LocalTime.ofNanoOfDay( input.readVarLong() ) );
+			}
+		},
+		INSTANT( Instant.class ) {
+			@Override
+			public void write(Output output, Object value) {
+				final Instant instant = (Instant) value;
+				output.writeVarLong( instant.getEpochSecond() );
+				output.writeVarInt( instant.getNano() );
+			}
+
+			@Override
+			public Object read(Input input) {
+				final long seconds = input.readVarLong();
+				return Instant.ofEpochSecond( seconds, input.readVarInt() );
+			}
+		},
+		UUID_VALUE( UUID.class ) {
+			@Override
+			public void write(Output output, Object value) {
+				final UUID uuid = (UUID) value;
+				output.writeFixedLong( uuid.getMostSignificantBits() );
+				output.writeFixedLong( uuid.getLeastSignificantBits() );
+			}
+
+			@Override
+			public Object read(Input input) {
+				return new UUID( input.readFixedLong(), input.readFixedLong() );
+			}
+		};
+
+		private final Class<?> javaType;
+
+		BasicValueCodec(Class<?> javaType) {
+			this.javaType = javaType;
+		}
+
+		@Override
+		public Class<?> getJavaType() {
+			return javaType;
+		}
+	}
+
+	private static final class EnumValueCodec<E extends Enum<E>> implements ValueCodec {
+		private final Class<E> javaType;
+		private final E[] constants;
+
+		private EnumValueCodec(Class<E> javaType) {
+			this.javaType = javaType;
+			this.constants = javaType.getEnumConstants();
+		}
+
+		@Override
+		public Class<?> getJavaType() {
+			return javaType;
+		}
+
+		@Override
+		public void describe(StringBuilder description) {
+			// the constants are written by their ordinal
+			description.append( javaType.getName() );
+			for ( E constant : constants ) {
+				description.append( ',' ).append( constant.name() );
+			}
+		}
+
+		@Override
+		public void write(Output output, Object value) {
+			output.writeVarInt( ( (Enum<?>) value ).ordinal() );
+		}
+
+		@Override
+		public Object read(Input input) {
+			return constants[input.readVarInt()];
+		}
+	}
+}
@@ -11,12 +11,15 @@ import java.util.Set;
 
 import org.hibernate.Cache;
 import org.hibernate.HibernateException;
+import org.hibernate.Incubating;
 import org.hibernate.Internal;
 import org.hibernate.Remove;
 import org.hibernate.cache.cfg.spi.DomainDataRegionConfig;
+import org.hibernate.cache.internal.CacheValueCodec;
 import org.hibernate.cache.spi.access.CollectionDataAccess;
 import org.hibernate.cache.spi.access.EntityDataAccess;
 import org.hibernate.cache.spi.access.NaturalIdDataAccess;
+import org.hibernate.cache.spi.entry.CacheEntrySerializer;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.metamodel.model.domain.NavigableRole;
 import org.hibernate.persister.entity.EntityPersister;
@@ -125,6 +128,18 @@ public interface CacheImplementor extends Service, Cache, Serializable {
 	 */
 	void close();
 
+	/**
+	 * The {@link CacheEntrySerializer} which cache providers may use to
+	 * convert the values stored in the second-level cache to a compact
+	 * binary form.
+	 *
+	 * @since 6.2
+	 */
+	@Incubating
+	default CacheEntrySerializer getCacheEntrySerializer() {
+		return CacheValueCodec.INSTANCE;
+	}
+
 	/**
 	 * Find the cache data access strategy for an entity.  Will
 	 * return {@code null} when the entity is not configured for caching.
@@ -6,6 +6,10 @@
  */
 package org.hibernate.cache.spi.access;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
 import jakarta.persistence.Cache;
 
 import org.hibernate.cache.CacheException;
@@ -57,6 +61,33 @@ public interface CachedDomainDataAccess {
 	 */
 	Object get(SharedSessionContractImplementor session, Object key);
 
+	/**
+	 * Attempt to retrieve several objects from the cache at once, for example
+	 * when a batch of entities or collections is about to be loaded.
+	 *
+	 * @param session Current session.
+	 * @param keys The keys of the items to be retrieved.
+	 *
+	 * @return the cached data by key, without entries for the keys of items
+	 * which are not cached
+	 *
+	 * @throws CacheException Propagated from underlying cache provider
+	 *
+	 * @implNote the method default is to call {@link #get} for each key
+	 *
+	 * @since 6.2
+	 */
+	default Map<Object, Object> getAll(SharedSessionContractImplementor session, Collection<?> keys) {
+		final Map<Object, Object> result = new HashMap<>( keys.size() );
+		for ( Object key : keys ) {
+			final Object value = get( session, key );
+			if ( value != null ) {
+				result.put( key, value );
+			}
+		}
+		return result;
+	}
+
 	/**
 	 * Attempt to cache an object, afterQuery loading from the database.
 	 *
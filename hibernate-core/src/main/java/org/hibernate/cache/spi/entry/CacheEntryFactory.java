@@ -0,0 +1,34 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.cache.spi.entry;
+
+import java.io.Serializable;
+
+import org.hibernate.Internal;
+
+/**
+ * Recreates cache entries from their parts, as read back by the binary
+ * cache value codecs.
+ *
+ * @see org.hibernate.cache.internal.CacheValueCodec
+ */
+@Internal
+public final class CacheEntryFactory {
+	private CacheEntryFactory() {
+	}
+
+	public static StandardCacheEntryImpl createStandardCacheEntry(
+			Serializable[] disassembledState,
+			String subclass,
+			Object version) {
+		return new StandardCacheEntryImpl( disassembledState, subclass, version );
+	}
+
+	public static CollectionCacheEntry createCollectionCacheEntry(Serializable state) {
+		return new CollectionCacheEntry( state );
+	}
+}
@@ -0,0 +1,65 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.cache.spi.entry;
+
+import org.hibernate.Incubating;
+
+/**
+ * Converts the values stored in the second-level cache to and from a
+ * compact binary form, for use by cache providers which store values
+ * outside the Java heap, or replicate them to other nodes, and would
+ * otherwise use Java serialization.
+ * <p>
+ * The serializer for a session factory is obtained from
+ * {@link org.hibernate.cache.spi.CacheImplementor#getCacheEntrySerializer()}.
+ * The values it accepts are those passed to
+ * {@link org.hibernate.cache.spi.support.StorageAccess#putIntoCache}, including
+ * {@linkplain StandardCacheEntryImpl entity} and {@linkplain CollectionCacheEntry
+ * collection} cache entries, and the cached results of queries.
+ *
+ * @since 6.2
+ */
+@Incubating
+public interface CacheEntrySerializer {
+	/**
+	 * Convert the given cache value to its binary form.
+	 *
+	 * @param value The value to be cached
+	 *
+	 * @return The binary form of the value
+	 */
+	byte[] serialize(Object value);
+
+	/**
+	 * Convert the binary form produced by {@link #serialize} back to the
+	 * cache value.
+	 * <p>
+	 * If the binary form was produced by a serializer with another format,
+	 * or for another mapping of the entities, for example, by another node
+	 * sharing a replicated cache, the value cannot be read, and {@code null}
+	 * is returned, so that the value is treated as a cache miss.
+	 *
+	 * @param bytes The binary form of the value
+	 *
+	 * @return The cache value, or {@code null} if it cannot be read
+	 */
+	Object deserialize(byte[] bytes);
+
+	/**
+	 * The serializer for the values of the given region, whose binary form
+	 * depends only on the mapping of the entities cached in that region, so
+	 * that the values of a region remain readable when unrelated entities
+	 * are changed.
+	 *
+	 * @param regionName The name of the region
+	 *
+	 * @return The serializer for the region
+	 */
+	default CacheEntrySerializer forRegion(String regionName) {
+		return this;
+	}
+}
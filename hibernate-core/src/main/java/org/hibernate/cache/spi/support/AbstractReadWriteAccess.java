@@ -7,8 +7,11 @@
 package org.hibernate.cache.spi.support;
 
 import java.io.Serializable;
+import java.util.Collection;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.Locale;
+import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.Lock;
@@ -99,6 +102,33 @@ public abstract class AbstractReadWriteAccess extends AbstractCachedDomainDataAc
 		}
 	}
 
+	/**
+	 * Returns the readable items, as defined by {@link #get}, with the given keys.
+	 */
+	@Override
+	public Map<Object, Object> getAll(SharedSessionContractImplementor session, Collection<?> keys) {
+		if ( log.isDebugEnabled() ) {
+			log.debugf( "Getting cached data from region [`%s` (%s)] by keys %s", getRegion().getName(), getAccessType(), keys );
+		}
+		try {
+			readLock.lock();
+			final Map<Object, Object> items = getStorageAccess().getAllFromCache( keys, session );
+			final long timestamp = session.getCacheTransactionSynchronization().getCachingTimestamp();
+			final Map<Object, Object> result = new HashMap<>( items.size() );
+			items.forEach(
+					(key, item) -> {
+						if ( ( (Lockable) item ).isReadable( timestamp ) ) {
+							result.put( key, ( (Lockable) item ).getValue() );
+						}
+					}
+			);
+			return result;
+		}
+		finally {
+			readLock.unlock();
+		}
+	}
+
 	@Override
 	public boolean putFromLoad(
 			SharedSessionContractImplementor session,
@@ -285,6 +315,14 @@ public abstract class AbstractReadWriteAccess extends AbstractCachedDomainDataAc
 			this.timestamp = timestamp;
 		}
 
+		Object getVersion() {
+			return version;
+		}
+
+		long getTimestamp() {
+			return timestamp;
+		}
+
 		@Override
 		public boolean isReadable(long txTimestamp) {
 			if ( log.isDebugEnabled() ) {
@@ -6,6 +6,10 @@
  */
 package org.hibernate.cache.spi.support;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 
 /**
@@ -24,4 +28,43 @@ public interface DomainDataStorageAccess extends StorageAccess {
 	default void putFromLoad(Object key, Object value, SharedSessionContractImplementor session) {
 		putIntoCache( key, value, session );
 	}
+
+	/**
+	 * Get the items with the given keys from the cache.  Providers backed
+	 * by a remote cache should override this to retrieve all the items in
+	 * a single round trip.
+	 *
+	 * @return the cached items by key, without entries for the keys which
+	 * are not cached
+	 *
+	 * @implNote the method default is to call {@link #getFromCache} for
+	 * each key
+	 *
+	 * @since 6.2
+	 */
+	default Map<Object, Object> getAllFromCache(Collection<?> keys, SharedSessionContractImplementor session) {
+		final Map<Object, Object> result = new HashMap<>( keys.size() );
+		for ( Object key : keys ) {
+			final Object value = getFromCache( key, session );
+			if ( value != null ) {
+				result.put( key, value );
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Specialized form of putting several items into the cache in cases
+	 * where the puts are coming from a load (read) from the database.
+	 * Providers backed by a remote cache should override this to put all
+	 * the items in a single round trip.
+	 *
+	 * @implNote the method default is to call {@link #putFromLoad} for
+	 * each entry
+	 *
+	 * @since 6.2
+	 */
+	default void putAllFromLoad(Map<?, ?> entries, SharedSessionContractImplementor session) {
+		entries.forEach( (key, value) -> putFromLoad( key, value, session ) );
+	}
 }
@@ -0,0 +1,33 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.cache.spi.support;
+
+import org.hibernate.Internal;
+
+/**
+ * Takes apart and recreates the {@linkplain AbstractReadWriteAccess.Item items}
+ * stored by read-write cache access, for the binary cache value codecs.
+ *
+ * @see org.hibernate.cache.internal.CacheValueCodec
+ */
+@Internal
+public final class ReadWriteItemFactory {
+	private ReadWriteItemFactory() {
+	}
+
+	public static AbstractReadWriteAccess.Item createItem(Object value, Object version, long timestamp) {
+		return new AbstractReadWriteAccess.Item( value, version, timestamp );
+	}
+
+	public static Object getVersion(AbstractReadWriteAccess.Item item) {
+		return item.getVersion();
+	}
+
+	public static long getTimestamp(AbstractReadWriteAccess.Item item) {
+		return item.getTimestamp();
+	}
+}
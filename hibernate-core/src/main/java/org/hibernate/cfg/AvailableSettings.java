@@ -797,6 +797,31 @@ public interface AvailableSettings {
 	 */
 	String SCANNER_DISCOVERY = "hibernate.archive.autodetection";
 
+	/**
+	 * Specifies the path of a file in which the results of scanning are saved.
+	 * When the file exists, and the scanned archives have not changed since it
+	 * was written, the saved results are used instead of scanning the archives
+	 * again. Otherwise, the archives are scanned and the file is rewritten.
+	 * <p>
+	 * The file may be produced at build time by bootstrapping once with the same
+	 * archives.
+	 * <p>
+	 * A change to an archive is detected from its size and modification time,
+	 * so the saved results are only used when every archive is a local archive
+	 * file, and never when an archive is an exploded directory.
+	 * <p>
+	 * Only the results of scanning are saved, which saves the time spent reading
+	 * the entries of the archives. The annotations and mapping files of the
+	 * discovered classes are still processed, and the boot metamodel still built,
+	 * on every boot.
+	 *
+	 * @see #SCANNER
+	 * @see org.hibernate.boot.archive.scan.internal.ScanResultSnapshotScanner
+	 *
+	 * @since 6.2
+	 */
+	String SCAN_RESULT_SNAPSHOT = "hibernate.archive.scan_result_snapshot";
+
 	/**
 	 * Used to specify the {@link org.hibernate.boot.model.naming.ImplicitNamingStrategy}
 	 * class to use. The following shortcut names are defined for this setting:
@@ -1041,6 +1066,58 @@ public interface AvailableSettings {
 	 */
 	String BATCH_STRATEGY = "hibernate.jdbc.factory_class";
 
+	/**
+	 * When enabled, a full JDBC batch is executed in the background, while the
+	 * session goes on adding statements to the next batch, so that the round
+	 * trip to the database overlaps with the work of binding the next batch.
+	 * At most one batch per session is executing at any time, and a failure of
+	 * the execution is reported by the session, after aborting the batch. The
+	 * session waits for the execution to complete before it executes any other
+	 * statement, runs a {@link org.hibernate.jdbc.Work}, or completes the
+	 * transaction.
+	 * <p>
+	 * This requires a JDBC driver which allows concurrent use of distinct
+	 * statements belonging to the same connection. Note that a batch which
+	 * fills up more than once uses two prepared statements for each SQL
+	 * statement, instead of one.
+	 * <p>
+	 * Has no effect unless {@value #STATEMENT_BATCH_SIZE} is also specified, or
+	 * if a custom {@link BatchBuilder} is specified.
+	 * <p>
+	 * The default is {@code false}.
+	 *
+	 * @since 6.2
+	 */
+	String STATEMENT_BATCH_PIPELINING = "hibernate.jdbc.batch_pipelining";
+
+	/**
+	 * Specifies the number of rows to insert using a single multi-row
+	 * {@code insert ... values (...), (...)} statement, when a JDBC batch
+	 * of inserts is executed. The rows of each table are inserted using
+	 * statements of this width, themselves executed as a JDBC batch, and any
+	 * remaining rows are inserted using the usual single-row statement. This
+	 * is useful with JDBC drivers which execute each statement of a JDBC
+	 * batch as a separate round trip to the database.
+	 * <p>
+	 * Only applies to inserts which are batched, and so not to entities
+	 * with {@linkplain jakarta.persistence.GenerationType#IDENTITY identity}
+	 * identifiers, nor to inserts with custom SQL, and only if the dialect
+	 * {@linkplain org.hibernate.dialect.Dialect#supportsValuesListForBatchInsert
+	 * supports} {@code values} lists in inserts. The batch size should be a
+	 * multiple of this width. For tables with many columns, the width is
+	 * reduced as needed to respect the
+	 * {@linkplain org.hibernate.dialect.Dialect#getParameterCountLimit limit}
+	 * of the database on the number of JDBC parameters of a statement.
+	 * <p>
+	 * Has no effect unless {@value #STATEMENT_BATCH_SIZE} is also specified,
+	 * nor when {@value #STATEMENT_BATCH_PIPELINING} is enabled.
+	 * <p>
+	 * The default is {@code 1}, meaning that multi-row inserts are not used.
+	 *
+	 * @since 6.2
+	 */
+	String MULTI_ROW_INSERT_SIZE = "hibernate.jdbc.multi_row_insert_size";
+
 	/**
 	 * When enabled, specifies that {@link jakarta.persistence.Version versioned}
 	 * data should be included in batching.
@@ -1455,6 +1532,17 @@ public interface AvailableSettings {
 	 */
 	String USE_DIRECT_REFERENCE_CACHE_ENTRIES = "hibernate.cache.use_reference_entries";
 
+	/**
+	 * When the {@link org.hibernate.cache.internal.OffHeapRegionFactory} is used,
+	 * the maximum number of bytes of off-heap memory used by each cache region.
+	 * When a region is full, its oldest entries are evicted.
+	 * <p>
+	 * The default is 64 MB per region.
+	 *
+	 * @since 6.2
+	 */
+	String CACHE_OFF_HEAP_MAX_SIZE = "hibernate.cache.off_heap.max_size";
+
 
 
 
@@ -1530,6 +1618,24 @@ public interface AvailableSettings {
 	 */
 	String QUERY_PLAN_CACHE_MAX_SIZE = "hibernate.query.plan_cache_max_size";
 
+	/**
+	 * Selects the eviction policy of the
+	 * {@linkplain org.hibernate.query.spi.QueryInterpretationCache query interpretation cache}:
+	 * <ul>
+	 *     <li>{@code lirs}, the default, for a segmented cache with LIRS eviction, or
+	 *     <li>{@code tinylfu}, for a cache with lock-free reads and W-TinyLFU eviction,
+	 *         which scales better when many threads use the cache concurrently.
+	 * </ul>
+	 * <p>
+	 * With {@code tinylfu}, the number of evicted query plans is reported by
+	 * {@link org.hibernate.stat.Statistics#getQueryPlanCacheEvictionCount()}.
+	 *
+	 * @see org.hibernate.internal.util.collections.TinyLfuConcurrentMap
+	 *
+	 * @since 6.2
+	 */
+	String QUERY_PLAN_CACHE_EVICTION_POLICY = "hibernate.query.plan_cache_eviction_policy";
+
 	/**
 	 * The maximum number of {@link org.hibernate.query.ParameterMetadata} instances
 	 * maintained by the {@link org.hibernate.query.spi.QueryInterpretationCache}.
@@ -3063,6 +3169,33 @@ public interface AvailableSettings {
 	 */
 	String SESSION_FACTORY_OBSERVER = "hibernate.session_factory_observer";
 
+	/**
+	 * When enabled, specifies that the entity and collection persisters should be
+	 * created in parallel when the {@link org.hibernate.SessionFactory} is built,
+	 * using one thread per available processor. The resulting mapping model is the
+	 * same as when the persisters are created sequentially.
+	 * <p>
+	 * This setting is disabled by default, and should only be enabled when no
+	 * {@linkplain org.hibernate.persister.spi.PersisterClassResolver custom persister}
+	 * relies on being created sequentially.
+	 *
+	 * @since 6.2
+	 */
+	String PARALLEL_PERSISTER_CREATION = "hibernate.session_factory.parallel_persister_creation";
+
+	/**
+	 * When enabled, specifies that the mutation coordinators and static SQL of
+	 * each entity persister should be built on first use of the persister, rather
+	 * than eagerly when the {@link org.hibernate.SessionFactory} is built. This
+	 * reduces the time taken to build a {@code SessionFactory} with many entities,
+	 * at the cost of a delay the first time each entity is used.
+	 * <p>
+	 * This setting is disabled by default.
+	 *
+	 * @since 6.2
+	 */
+	String LAZY_PERSISTER_INITIALIZATION = "hibernate.session_factory.lazy_persister_initialization";
+
 	/**
 	 * Specifies a class which implements {@link org.hibernate.jpa.spi.IdentifierGeneratorStrategyProvider},
 	 * and has a constructor with no parameters.
@@ -3108,4 +3241,52 @@ public interface AvailableSettings {
 	 * @since 6.1
 	 */
 	String TRANSFORM_HBM_XML_FEATURE_HANDLING = "hibernate.transform_hbm_xml.unsupported_feature_handling";
+
+	/**
+	 * When enabled, the persistence context of a stateful session stores managed entities
+	 * per entity hierarchy in open-addressing tables keyed directly by the identifier value,
+	 * rather than in a {@code HashMap} keyed by {@link org.hibernate.engine.spi.EntityKey}.
+	 * Identifiers of type {@code Long}, {@code Integer} and {@link java.util.UUID} are held
+	 * unboxed, which noticeably reduces the per-entity memory overhead of sessions managing
+	 * a very large number of entities.
+	 * <p>
+	 * Default is {@code false}
+	 *
+	 * @since 6.2
+	 */
+	String PERSISTENCE_CONTEXT_INDEXED_ENTITY_STORAGE = "hibernate.persistence_context.indexed_entity_storage";
+
+	/**
+	 * Specifies a minimum number of entities held by the persistence context above which
+	 * the dirty check performed during flush is first executed in parallel, using a
+	 * fork-join pool dedicated to this purpose and owned by the
+	 * {@link org.hibernate.SessionFactory}, whose size is given by
+	 * {@value #PARALLEL_DIRTY_CHECK_PARALLELISM}.
+	 * The results are then consumed, in the usual order, by the flush process running on
+	 * the thread of the session, so that the scheduled updates are the same as with serial
+	 * dirty checking.
+	 * <p>
+	 * Only entities which are not bytecode enhanced, which are not mapped with associations
+	 * or collections, and whose state was loaded by the session take part in the parallel
+	 * phase; all other entities are dirty checked serially, as usual. Note that this means
+	 * property accessors and custom types of the participating entities are invoked from
+	 * pool threads, and must be safe for concurrent read access.
+	 * <p>
+	 * Default is {@code 0}, which disables parallel dirty checking.
+	 *
+	 * @since 6.2
+	 */
+	String PARALLEL_DIRTY_CHECK_THRESHOLD = "hibernate.flush.parallel_dirty_check_threshold";
+
+	/**
+	 * Specifies the number of threads of the pool used for parallel dirty checking,
+	 * which is shared by all sessions of the {@link org.hibernate.SessionFactory}.
+	 * <p>
+	 * Default is the number of available processors.
+	 *
+	 * @see #PARALLEL_DIRTY_CHECK_THRESHOLD
+	 *
+	 * @since 6.2
+	 */
+	String PARALLEL_DIRTY_CHECK_PARALLELISM = "hibernate.flush.parallel_dirty_check_parallelism";
 }
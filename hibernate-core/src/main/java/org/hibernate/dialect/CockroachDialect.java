@@ -44,6 +44,7 @@ import org.hibernate.exception.spi.TemplatedViolatedConstraintNameExtractor;
 import org.hibernate.exception.spi.ViolatedConstraintNameExtractor;
 import org.hibernate.internal.CoreMessageLogger;
 import org.hibernate.internal.util.JdbcExceptionHelper;
+import org.hibernate.persister.entity.mutation.EntityMutationTarget;
 import org.hibernate.query.spi.QueryEngine;
 import org.hibernate.query.sqm.IntervalType;
 import org.hibernate.query.sqm.NullOrdering;
@@ -55,6 +56,9 @@ import org.hibernate.sql.ast.spi.SqlAppender;
 import org.hibernate.sql.ast.spi.StandardSqlAstTranslatorFactory;
 import org.hibernate.sql.ast.tree.Statement;
 import org.hibernate.sql.exec.spi.JdbcOperation;
+import org.hibernate.sql.model.MutationOperation;
+import org.hibernate.sql.model.internal.TableUpsert;
+import org.hibernate.sql.model.jdbc.MergeOperationHelper;
 import org.hibernate.type.JavaObjectType;
 import org.hibernate.type.descriptor.jdbc.ArrayJdbcType;
 import org.hibernate.type.descriptor.jdbc.InstantAsTimestampWithTimeZoneJdbcType;
@@ -578,6 +582,26 @@ public class CockroachDialect extends Dialect {
 		return true;
 	}
 
+	@Override
+	public boolean supportsArrayAggregation() {
+		return true;
+	}
+
+	@Override
+	public boolean supportsArrayParameterRestriction() {
+		return true;
+	}
+
+	@Override
+	public MutationOperation createMergeOperation(
+			EntityMutationTarget mutationTarget,
+			TableUpsert tableUpsert,
+			SessionFactoryImplementor factory) {
+		return MergeOperationHelper.isSingleStatementSupported( tableUpsert, true )
+				? MergeOperationHelper.createInsertOnConflictOperation( mutationTarget, tableUpsert )
+				: super.createMergeOperation( mutationTarget, tableUpsert, factory );
+	}
+
 	@Override
 	public boolean supportsTemporalLiteralOffset() {
 		return true;
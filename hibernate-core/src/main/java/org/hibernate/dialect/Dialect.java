@@ -84,6 +84,8 @@ import org.hibernate.dialect.unique.AlterTableUniqueDelegate;
 import org.hibernate.dialect.unique.UniqueDelegate;
 import org.hibernate.engine.jdbc.LobCreator;
 import org.hibernate.engine.jdbc.Size;
+import org.hibernate.engine.jdbc.batch.spi.Batch;
+import org.hibernate.engine.jdbc.batch.spi.BatchKey;
 import org.hibernate.engine.jdbc.dialect.spi.DialectResolutionInfo;
 import org.hibernate.engine.jdbc.env.internal.DefaultSchemaNameResolver;
 import org.hibernate.engine.jdbc.env.spi.AnsiSqlKeywords;
@@ -92,6 +94,8 @@ import org.hibernate.engine.jdbc.env.spi.IdentifierHelperBuilder;
 import org.hibernate.engine.jdbc.env.spi.JdbcEnvironment;
 import org.hibernate.engine.jdbc.env.spi.NameQualifierSupport;
 import org.hibernate.engine.jdbc.env.spi.SchemaNameResolver;
+import org.hibernate.engine.jdbc.mutation.group.PreparedStatementGroup;
+import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
@@ -3358,6 +3362,20 @@ public abstract class Dialect implements ConversionContext {
 		return 0;
 	}
 
+	/**
+	 * Return the limit that the underlying database places on the number of
+	 * parameters of a {@link java.sql.PreparedStatement}. If the database
+	 * defines no such limit, simply return zero or less-than-zero.
+	 *
+	 * @return The limit, or zero-or-less to indicate no limit. By default,
+	 *         the same as {@link #getInExpressionCountLimit()}.
+	 *
+	 * @since 6.2
+	 */
+	public int getParameterCountLimit() {
+		return getInExpressionCountLimit();
+	}
+
 	/**
 	 * HHH-4635
 	 * Oracle expects all Lob values to be last in inserts and updates.
@@ -3443,6 +3461,26 @@ public abstract class Dialect implements ConversionContext {
 		return ScrollMode.SCROLL_INSENSITIVE;
 	}
 
+	/**
+	 * The JDBC fetch size to apply to a query whose results are streamed
+	 * in windows of the given size, so that the driver reads the results
+	 * from a server-side cursor instead of loading them all into memory.
+	 * <p>
+	 * Most drivers stream the results when any fetch size is given, but
+	 * some expect a special value.
+	 *
+	 * @param windowSize The number of rows processed in each window
+	 *
+	 * @return the fetch size to set on the JDBC statement
+	 *
+	 * @see org.hibernate.jpa.HibernateHints#HINT_STREAM_WINDOW_SIZE
+	 *
+	 * @since 6.2
+	 */
+	public int getStreamingFetchSize(int windowSize) {
+		return windowSize;
+	}
+
 	/**
 	 * Does this dialect support {@code offset} in subqueries?
 	 * For example:
@@ -3672,6 +3710,48 @@ public abstract class Dialect implements ConversionContext {
 		return false;
 	}
 
+	/**
+	 * Does this dialect support the {@code array_agg()} aggregate function,
+	 * which collects the values of its argument into a SQL array?
+	 * <p>
+	 * If so, a collection mapped {@link org.hibernate.annotations.FetchMode#AGGREGATE}
+	 * may be fetched as a single array-valued column of the owning row.
+	 *
+	 * @since 6.2
+	 */
+	public boolean supportsArrayAggregation() {
+		return false;
+	}
+
+	/**
+	 * Does this dialect support restricting a column to the elements of a
+	 * single array-valued JDBC parameter, using {@code column = any(?)}?
+	 * <p>
+	 * If so, batches of entities and collections are loaded by binding all
+	 * their keys to one parameter, and so the SQL of a batch load is the same
+	 * whatever the number of keys in the batch.
+	 *
+	 * @since 6.2
+	 */
+	public boolean supportsArrayParameterRestriction() {
+		return false;
+	}
+
+	/**
+	 * The maximum number of keys bound to a single array-valued parameter
+	 * when {@linkplain #supportsArrayParameterRestriction() restricting a
+	 * column to the elements of an array}. A multi-load of more ids is
+	 * split into batches of this size, so that a single statement does
+	 * not bind, and return the rows of, an unbounded number of keys.
+	 *
+	 * @return the maximum number of keys, or {@code 0} if there is no limit
+	 *
+	 * @since 6.2
+	 */
+	public int getArrayParameterRestrictionLimit() {
+		return 1000;
+	}
+
 	/**
 	 * The SQL type name for the array of the given type name.
 	 *
@@ -3789,6 +3869,51 @@ public abstract class Dialect implements ConversionContext {
 		return true;
 	}
 
+	/**
+	 * Does this dialect support {@code values} lists of form
+	 * {@code VALUES (1), (2), (3)} in the insert statements written
+	 * by Hibernate when it coalesces the rows of a JDBC batch?
+	 * <p>
+	 * Unlike {@link #supportsValuesListForInsert()}, this is not
+	 * about HQL inserts, which may be emulated differently.
+	 *
+	 * @return {@code true} if {@code values} list are supported in
+	 *         batched insert statements
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#MULTI_ROW_INSERT_SIZE
+	 *
+	 * @since 6.2
+	 */
+	public boolean supportsValuesListForBatchInsert() {
+		return supportsValuesListForInsert();
+	}
+
+	/**
+	 * Build a {@link Batch} which writes the rows inserted by a
+	 * {@linkplain org.hibernate.StatelessSession#bulkInsert bulk insert}
+	 * using a bulk-load protocol of the database, for example, the
+	 * {@code copy} command of PostgreSQL.
+	 *
+	 * @param key The key of the batch
+	 * @param statementGroup The insert statements of the batch
+	 * @param batchSize The number of rows to write at a time
+	 * @param jdbcCoordinator The JDBC coordinator of the session
+	 *
+	 * @return the batch, or {@code null} if the database, the JDBC driver,
+	 *         or the given statements do not allow the use of a bulk-load
+	 *         protocol, in which case the rows are inserted using regular
+	 *         JDBC batching
+	 *
+	 * @since 6.2
+	 */
+	public Batch buildBulkInsertBatch(
+			BatchKey key,
+			PreparedStatementGroup statementGroup,
+			int batchSize,
+			JdbcCoordinator jdbcCoordinator) {
+		return null;
+	}
+
 	/**
 	 * Does this dialect support {@code SKIP_LOCKED} timeout.
 	 *
@@ -4179,6 +4304,29 @@ public abstract class Dialect implements ConversionContext {
 		return new OptionalTableUpdateOperation( mutationTarget, tableUpsert, factory );
 	}
 
+	/**
+	 * Create the {@link MutationOperation} which inserts a row of the given
+	 * table, or updates it if a row with the same key already exists, as
+	 * required by {@link org.hibernate.StatelessSession#upsert(Object)}.
+	 * <p>
+	 * By default, this is the {@linkplain #createUpsertOperation legacy upsert},
+	 * which executes an {@code update}, followed by an {@code insert} if no row
+	 * was updated.  Dialects for databases with a single statement for this,
+	 * such as {@code merge} or {@code insert ... on conflict}, should return a
+	 * {@link org.hibernate.sql.model.PreparableMutationOperation}, which may be
+	 * executed as part of a JDBC batch.
+	 *
+	 * @see org.hibernate.sql.model.jdbc.MergeOperationHelper
+	 *
+	 * @since 6.2
+	 */
+	public MutationOperation createMergeOperation(
+			EntityMutationTarget mutationTarget,
+			TableUpsert tableUpsert,
+			SessionFactoryImplementor factory) {
+		return createUpsertOperation( mutationTarget, tableUpsert, factory );
+	}
+
 	/**
 	 * Is there some way to disable foreign key constraint checking while
 	 * truncating tables? (If there's no way to do it, and if we can't
@@ -389,6 +389,11 @@ public class HSQLDialect extends Dialect {
 		return true;
 	}
 
+	@Override
+	public boolean supportsArrayAggregation() {
+		return true;
+	}
+
 	@Override
 	public ViolatedConstraintNameExtractor getViolatedConstraintNameExtractor() {
 		return EXTRACTOR_20;
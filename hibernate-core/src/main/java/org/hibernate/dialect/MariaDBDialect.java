@@ -235,10 +235,17 @@ public class MariaDBDialect extends MySQLDialect {
 		return false;
 	}
 
+	@Override
+	public int getStreamingFetchSize(int windowSize) {
+		// the MariaDB driver streams the rows when any fetch size is given
+		return windowSize;
+	}
+
 	/**
 	 * @return {@code true} for 10.5 and above because Maria supports
 	 *         {@code insert ... returning} even though MySQL does not
 	 */
+
 	@Override
 	public boolean supportsInsertReturning() {
 		return getVersion().isSameOrAfter( 10, 5 );
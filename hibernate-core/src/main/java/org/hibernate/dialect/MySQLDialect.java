@@ -41,6 +41,7 @@ import org.hibernate.exception.spi.ViolatedConstraintNameExtractor;
 import org.hibernate.internal.util.JdbcExceptionHelper;
 import org.hibernate.metamodel.mapping.EntityMappingType;
 import org.hibernate.metamodel.spi.RuntimeModelCreationContext;
+import org.hibernate.persister.entity.mutation.EntityMutationTarget;
 import org.hibernate.query.spi.QueryEngine;
 import org.hibernate.query.sqm.CastType;
 import org.hibernate.query.sqm.IntervalType;
@@ -61,6 +62,9 @@ import org.hibernate.sql.ast.spi.SqlAppender;
 import org.hibernate.sql.ast.spi.StandardSqlAstTranslatorFactory;
 import org.hibernate.sql.ast.tree.Statement;
 import org.hibernate.sql.exec.spi.JdbcOperation;
+import org.hibernate.sql.model.MutationOperation;
+import org.hibernate.sql.model.internal.TableUpsert;
+import org.hibernate.sql.model.jdbc.MergeOperationHelper;
 import org.hibernate.type.BasicTypeRegistry;
 import org.hibernate.type.NullType;
 import org.hibernate.type.SqlTypes;
@@ -1315,6 +1319,13 @@ public class MySQLDialect extends Dialect {
 				: getForUpdateString();
 	}
 
+	@Override
+	public int getStreamingFetchSize(int windowSize) {
+		// Connector/J only streams the rows of a forward-only, read-only
+		// result set one by one when the fetch size is Integer.MIN_VALUE
+		return Integer.MIN_VALUE;
+	}
+
 	@Override
 	public boolean supportsOffsetInSubquery() {
 		return true;
@@ -1370,6 +1381,16 @@ public class MySQLDialect extends Dialect {
 		return getMySQLVersion().isSameOrAfter( 8 );
 	}
 
+	@Override
+	public MutationOperation createMergeOperation(
+			EntityMutationTarget mutationTarget,
+			TableUpsert tableUpsert,
+			SessionFactoryImplementor factory) {
+		return MergeOperationHelper.isSingleStatementSupported( tableUpsert )
+				? MergeOperationHelper.createInsertOnDuplicateKeyOperation( mutationTarget, tableUpsert )
+				: super.createMergeOperation( mutationTarget, tableUpsert, factory );
+	}
+
 	@Override
 	public boolean canDisableConstraints() {
 		return true;
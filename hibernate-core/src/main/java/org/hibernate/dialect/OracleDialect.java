@@ -1015,6 +1015,11 @@ public class OracleDialect extends Dialect {
 		return PARAM_LIST_SIZE_LIMIT;
 	}
 
+	@Override
+	public int getParameterCountLimit() {
+		return 65_535;
+	}
+
 	@Override
 	public boolean forceLobAsLastValue() {
 		return true;
@@ -1183,6 +1188,12 @@ public class OracleDialect extends Dialect {
 		return true;
 	}
 
+	@Override
+	public boolean supportsValuesListForBatchInsert() {
+		// the database only accepts a values list since version 23
+		return getVersion().isSameOrAfter( 23 );
+	}
+
 	@Override
 	public boolean supportsLateral() {
 		return getVersion().isSameOrAfter( 12, 1 );
@@ -0,0 +1,596 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.dialect;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import org.hibernate.HibernateException;
+import org.hibernate.engine.jdbc.batch.internal.BatchImpl;
+import org.hibernate.engine.jdbc.batch.spi.BatchKey;
+import org.hibernate.engine.jdbc.mutation.JdbcValueBindings;
+import org.hibernate.engine.jdbc.mutation.TableInclusionChecker;
+import org.hibernate.engine.jdbc.mutation.group.PreparedStatementDetails;
+import org.hibernate.engine.jdbc.mutation.group.PreparedStatementGroup;
+import org.hibernate.engine.jdbc.mutation.spi.Binding;
+import org.hibernate.engine.jdbc.mutation.spi.BindingGroup;
+import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
+import org.hibernate.engine.jdbc.spi.JdbcServices;
+import org.hibernate.engine.jdbc.spi.SqlExceptionHelper;
+import org.hibernate.engine.jdbc.spi.SqlStatementLogger;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.internal.CoreLogging;
+import org.hibernate.internal.CoreMessageLogger;
+import org.hibernate.internal.util.ReflectHelper;
+import org.hibernate.metamodel.mapping.JdbcMapping;
+import org.hibernate.resource.jdbc.spi.JdbcObserver;
+import org.hibernate.sql.model.TableMapping;
+import org.hibernate.type.SqlTypes;
+import org.hibernate.type.descriptor.WrapperOptions;
+import org.hibernate.type.descriptor.java.JavaType;
+
+import static org.hibernate.engine.jdbc.batch.JdbcBatchLogging.BATCH_LOGGER;
+import static org.hibernate.engine.jdbc.batch.JdbcBatchLogging.BATCH_MESSAGE_LOGGER;
+import static org.hibernate.engine.jdbc.batch.JdbcBatchLogging.BATCH_TRACE_ENABLED;
+
+/**
+ * A batch of inserts which writes the rows added to the batch using the
+ * PostgreSQL {@code copy ... from stdin} command, via the {@code CopyManager}
+ * of the PostgreSQL JDBC driver.
+ * <p>
+ * The values of each row are rendered in the text format of {@code copy} as
+ * soon as the row is added to the batch, and the rows of each table are sent
+ * to the database when the batch is executed.  Only inserts of the form
+ * {@code insert into table (columns) values (?, ...)} can be executed this
+ * way, and only if the values have a type which has a text representation
+ * that does not depend on the JDBC driver.  When a row cannot be written by
+ * {@code copy}, the pending rows are written, and the batch falls back to
+ * regular JDBC batching.
+ *
+ * @see org.hibernate.StatelessSession#bulkInsert
+ */
+public class PostgreSQLCopyBatch extends BatchImpl {
+
+	private static final CoreMessageLogger LOG = CoreLogging.messageLogger( PostgreSQLCopyBatch.class );
+	private static final Class<?> PG_CONNECTION_CLASS;
+	private static final Method GET_COPY_API;
+	private static final Method COPY_IN;
+
+	static {
+		Class<?> pgConnectionClass = null;
+		Method getCopyApi = null;
+		Method copyIn = null;
+		try {
+			pgConnectionClass = ReflectHelper.classForName(
+					"org.postgresql.PGConnection",
+					PostgreSQLCopyBatch.class
+			);
+			getCopyApi = pgConnectionClass.getMethod( "getCopyAPI" );
+			copyIn = getCopyApi.getReturnType().getMethod( "copyIn", String.class, Reader.class );
+		}
+		catch (Exception e) {
+			LOG.debug( "PostgreSQL JDBC driver classes are inaccessible and thus, bulk inserts can not use copy", e );
+			pgConnectionClass = null;
+		}
+		PG_CONNECTION_CLASS = pgConnectionClass;
+		GET_COPY_API = getCopyApi;
+		COPY_IN = copyIn;
+	}
+
+	public static boolean isUsable() {
+		return PG_CONNECTION_CLASS != null;
+	}
+
+	/**
+	 * Create a batch which writes the rows of the given statements using
+	 * {@code copy}.
+	 *
+	 * @return the batch, or {@code null} if the JDBC driver does not support
+	 *         {@code copy}, or if one of the statements is not an insert which
+	 *         can be executed as a {@code copy}
+	 */
+	public static PostgreSQLCopyBatch create(
+			BatchKey key,
+			PreparedStatementGroup statementGroup,
+			int batchSize,
+			JdbcCoordinator jdbcCoordinator) {
+		if ( !isUsable() ) {
+			return null;
+		}
+
+		final Map<String, List<String>> columnsByTable = new HashMap<>();
+		final boolean eligible = !statementGroup.hasMatching( (statementDetails) -> {
+			final TableMapping tableDetails = statementDetails.getMutatingTableDetails();
+			final TableMapping.MutationDetails insertDetails = tableDetails.getInsertDetails();
+			if ( insertDetails == null
+					|| insertDetails.getCustomSql() != null
+					|| insertDetails.isCallable()
+					|| !statementDetails.getExpectation().canBeBatched() ) {
+				return true;
+			}
+
+			final List<String> columns = insertColumns( statementDetails.getSqlString(), tableDetails.getTableName() );
+			if ( columns == null ) {
+				return true;
+			}
+			columnsByTable.put( tableDetails.getTableName(), columns );
+			return false;
+		} );
+		if ( !eligible ) {
+			return null;
+		}
+
+		try {
+			if ( !jdbcCoordinator.getLogicalConnection().getPhysicalConnection().isWrapperFor( PG_CONNECTION_CLASS ) ) {
+				return null;
+			}
+		}
+		catch (SQLException e) {
+			LOG.debug( "Unable to determine whether the connection supports copy", e );
+			return null;
+		}
+
+		return new PostgreSQLCopyBatch( key, statementGroup, columnsByTable, batchSize, jdbcCoordinator );
+	}
+
+	private final int batchSizeToUse;
+
+	private final JdbcCoordinator jdbcCoordinator;
+	private final SqlStatementLogger sqlStatementLogger;
+	private final SqlExceptionHelper sqlExceptionHelper;
+
+	private final Map<String, List<String>> columnsByTable;
+	private final Map<String, String> copySqlByTable = new HashMap<>();
+
+	// the rows of each table, in the text format of copy
+	private final Map<String, StringBuilder> rowsByTable = new HashMap<>();
+	private final Map<String, Integer> rowCountByTable = new HashMap<>();
+	private int batchPosition;
+
+	private boolean fallback;
+
+	private PostgreSQLCopyBatch(
+			BatchKey key,
+			PreparedStatementGroup statementGroup,
+			Map<String, List<String>> columnsByTable,
+			int batchSizeToUse,
+			JdbcCoordinator jdbcCoordinator) {
+		super( key, statementGroup, batchSizeToUse, jdbcCoordinator );
+		this.batchSizeToUse = batchSizeToUse;
+		this.columnsByTable = columnsByTable;
+		this.jdbcCoordinator = jdbcCoordinator;
+
+		final JdbcServices jdbcServices = jdbcCoordinator.getJdbcSessionOwner()
+				.getJdbcSessionContext()
+				.getSessionFactory()
+				.getFastSessionServices().jdbcServices;
+		this.sqlStatementLogger = jdbcServices.getSqlStatementLogger();
+		this.sqlExceptionHelper = jdbcServices.getSqlExceptionHelper();
+
+		columnsByTable.forEach( (tableName, columns) -> copySqlByTable.put(
+				tableName,
+				"copy " + tableName + " (" + String.join( ",", columns ) + ") from stdin"
+		) );
+	}
+
+	@Override
+	public void addToBatch(JdbcValueBindings jdbcValueBindings, TableInclusionChecker inclusionChecker) {
+		if ( !fallback ) {
+			final Map<String, String> row = renderRow( jdbcValueBindings, inclusionChecker );
+			if ( row != null ) {
+				if ( BATCH_TRACE_ENABLED ) {
+					BATCH_LOGGER.tracef(
+							"Adding to copy batch (%s) - `%s`",
+							batchPosition + 1,
+							getKey().toLoggableString()
+					);
+				}
+				addRow( row, jdbcValueBindings );
+				return;
+			}
+
+			// the row cannot be written by copy, so write the pending
+			// rows, and then fall back to the usual batch
+			executeCopy();
+			fallback = true;
+		}
+
+		super.addToBatch( jdbcValueBindings, inclusionChecker );
+	}
+
+	private void addRow(Map<String, String> row, JdbcValueBindings jdbcValueBindings) {
+		final SharedSessionContractImplementor session = (SharedSessionContractImplementor) jdbcCoordinator.getJdbcSessionOwner();
+		getStatementGroup().forEachStatement( (tableName, statementDetails) -> {
+			final String line = row.get( tableName );
+			if ( line != null ) {
+				rowsByTable.computeIfAbsent( tableName, (name) -> new StringBuilder() ).append( line );
+				rowCountByTable.merge( tableName, 1, Integer::sum );
+				jdbcValueBindings.afterStatement( statementDetails.getMutatingTableDetails(), session );
+			}
+		} );
+
+		batchPosition++;
+		if ( batchPosition == batchSizeToUse ) {
+			notifyObserversImplicitExecution();
+			executeCopy();
+		}
+	}
+
+	/**
+	 * The line of each included table, or {@code null} if the values of the
+	 * row do not match the columns of the {@code copy}, or if one of them has
+	 * no known text representation.
+	 */
+	private Map<String, String> renderRow(JdbcValueBindings jdbcValueBindings, TableInclusionChecker inclusionChecker) {
+		final SharedSessionContractImplementor session = (SharedSessionContractImplementor) jdbcCoordinator.getJdbcSessionOwner();
+		final Map<String, String> row = new HashMap<>();
+		final boolean renderable = !getStatementGroup().hasMatching( (statementDetails) -> {
+			final TableMapping tableDetails = statementDetails.getMutatingTableDetails();
+			if ( inclusionChecker != null && !inclusionChecker.include( tableDetails ) ) {
+				return false;
+			}
+
+			final List<String> columns = columnsByTable.get( tableDetails.getTableName() );
+			final BindingGroup bindingGroup = jdbcValueBindings.getBindingGroup( tableDetails.getTableName() );
+			if ( bindingGroup == null ) {
+				return !columns.isEmpty();
+			}
+
+			// dynamic inserts share the batch, but not the columns
+			final Set<Binding> bindings = bindingGroup.getBindings();
+			if ( bindings.size() != columns.size() ) {
+				return true;
+			}
+
+			final StringBuilder line = new StringBuilder();
+			int position = 1;
+			for ( Binding binding : bindings ) {
+				if ( binding.getPosition() != position
+						|| !binding.getColumnName().equals( columns.get( position - 1 ) ) ) {
+					return true;
+				}
+				if ( position > 1 ) {
+					line.append( '\t' );
+				}
+				if ( !appendValue( line, binding.getValue(), binding.getValueDescriptor().getJdbcMapping(), session ) ) {
+					return true;
+				}
+				position++;
+			}
+			line.append( '\n' );
+			row.put( tableDetails.getTableName(), line.toString() );
+			return false;
+		} );
+		return renderable ? row : null;
+	}
+
+	/**
+	 * Append the value in the text format of {@code copy}, the same way the
+	 * {@link org.hibernate.type.descriptor.ValueBinder} of its type would
+	 * have passed it to the JDBC driver.
+	 *
+	 * @return {@code false} if the value has no known text representation
+	 */
+	private static boolean appendValue(
+			StringBuilder line,
+			Object value,
+			JdbcMapping jdbcMapping,
+			WrapperOptions options) {
+		if ( value == null ) {
+			line.append( "\\N" );
+			return true;
+		}
+
+		//noinspection unchecked
+		final JavaType<Object> javaType = (JavaType<Object>) jdbcMapping.getJdbcJavaType();
+		switch ( jdbcMapping.getJdbcType().getDefaultSqlTypeCode() ) {
+			case SqlTypes.BOOLEAN:
+			case SqlTypes.BIT:
+				line.append( javaType.unwrap( value, Boolean.class, options ) ? 't' : 'f' );
+				return true;
+			case SqlTypes.TINYINT:
+				line.append( javaType.unwrap( value, Byte.class, options ) );
+				return true;
+			case SqlTypes.SMALLINT:
+				line.append( javaType.unwrap( value, Short.class, options ) );
+				return true;
+			case SqlTypes.INTEGER:
+				line.append( javaType.unwrap( value, Integer.class, options ) );
+				return true;
+			case SqlTypes.BIGINT:
+				line.append( javaType.unwrap( value, Long.class, options ) );
+				return true;
+			case SqlTypes.REAL:
+			case SqlTypes.FLOAT:
+				line.append( javaType.unwrap( value, Float.class, options ) );
+				return true;
+			case SqlTypes.DOUBLE:
+				line.append( javaType.unwrap( value, Double.class, options ) );
+				return true;
+			case SqlTypes.NUMERIC:
+			case SqlTypes.DECIMAL:
+				line.append( javaType.unwrap( value, BigDecimal.class, options ).toPlainString() );
+				return true;
+			case SqlTypes.CHAR:
+			case SqlTypes.NCHAR:
+			case SqlTypes.VARCHAR:
+			case SqlTypes.NVARCHAR:
+			case SqlTypes.LONGVARCHAR:
+			case SqlTypes.LONGNVARCHAR:
+			case SqlTypes.LONG32VARCHAR:
+			case SqlTypes.LONG32NVARCHAR:
+				appendEscaped( line, javaType.unwrap( value, String.class, options ) );
+				return true;
+			case SqlTypes.UUID:
+				line.append( javaType.unwrap( value, UUID.class, options ) );
+				return true;
+			case SqlTypes.DATE:
+				if ( options.getJdbcTimeZone() != null ) {
+					return false;
+				}
+				line.append( javaType.unwrap( value, java.sql.Date.class, options ) );
+				return true;
+			case SqlTypes.TIMESTAMP:
+				if ( options.getJdbcTimeZone() != null ) {
+					return false;
+				}
+				line.append( javaType.unwrap( value, java.sql.Timestamp.class, options ) );
+				return true;
+			case SqlTypes.TIMESTAMP_WITH_TIMEZONE:
+			case SqlTypes.TIMESTAMP_UTC:
+				DateTimeFormatter.ISO_OFFSET_DATE_TIME.formatTo(
+						javaType.unwrap( value, OffsetDateTime.class, options ),
+						line
+				);
+				return true;
+			case SqlTypes.BINARY:
+			case SqlTypes.VARBINARY:
+			case SqlTypes.LONGVARBINARY:
+			case SqlTypes.LONG32VARBINARY:
+				// the hex format of bytea, with its backslash escaped
+				line.append( "\\\\x" );
+				for ( byte b : javaType.unwrap( value, byte[].class, options ) ) {
+					line.append( Character.forDigit( ( b >> 4 ) & 0xF, 16 ) );
+					line.append( Character.forDigit( b & 0xF, 16 ) );
+				}
+				return true;
+			default:
+				return false;
+		}
+	}
+
+	private static void appendEscaped(StringBuilder line, String string) {
+		for ( int i = 0; i < string.length(); i++ ) {
+			final char c = string.charAt( i );
+			switch ( c ) {
+				case '\\':
+					line.append( "\\\\" );
+					break;
+				case '\n':
+					line.append( "\\n" );
+					break;
+				case '\r':
+					line.append( "\\r" );
+					break;
+				case '\t':
+					line.append( "\\t" );
+					break;
+				default:
+					line.append( c );
+			}
+		}
+	}
+
+	@Override
+	public void execute() {
+		if ( fallback ) {
+			super.execute();
+			return;
+		}
+
+		notifyObserversExplicitExecution();
+		try {
+			if ( batchPosition == 0 ) {
+				BATCH_LOGGER.debugf( "No batched statements to execute - %s", getKey().toLoggableString() );
+			}
+			else {
+				executeCopy();
+			}
+		}
+		finally {
+			releaseStatements();
+		}
+	}
+
+	private void executeCopy() {
+		if ( BATCH_TRACE_ENABLED ) {
+			BATCH_LOGGER.tracef(
+					"Executing copy batch (%s / %s) - `%s`",
+					batchPosition,
+					batchSizeToUse,
+					getKey().toLoggableString()
+			);
+		}
+
+		try {
+			getStatementGroup().forEachStatement( (tableName, statementDetails) -> {
+				final StringBuilder rows = rowsByTable.get( tableName );
+				if ( rows == null || rows.length() == 0 ) {
+					return;
+				}
+
+				final String sql = copySqlByTable.get( tableName );
+				try {
+					sqlStatementLogger.logStatement( sql );
+					final long rowCount = copyIn( sql, rows, statementDetails );
+					final int expectedRowCount = rowCountByTable.get( tableName );
+					if ( rowCount != expectedRowCount ) {
+						throw new HibernateException(
+								String.format(
+										Locale.ROOT,
+										"Unexpected row count: %s; expected: %s; statement executed: %s",
+										rowCount,
+										expectedRowCount,
+										sql
+								)
+						);
+					}
+				}
+				catch (SQLException e) {
+					abortBatch( e );
+					BATCH_MESSAGE_LOGGER.unableToExecuteBatch( e, sql );
+					throw sqlExceptionHelper.convert( e, "could not execute batch", sql );
+				}
+				catch (RuntimeException re) {
+					abortBatch( re );
+					BATCH_MESSAGE_LOGGER.unableToExecuteBatch( re, sql );
+					throw re;
+				}
+			} );
+		}
+		finally {
+			rowsByTable.clear();
+			rowCountByTable.clear();
+			batchPosition = 0;
+		}
+	}
+
+	private long copyIn(String sql, StringBuilder rows, PreparedStatementDetails statementDetails) throws SQLException {
+		final Connection connection = jdbcCoordinator.getLogicalConnection().getPhysicalConnection();
+		final boolean identifierTable = statementDetails.getMutatingTableDetails().isIdentifierTable();
+		//noinspection deprecation
+		final JdbcObserver observer = jdbcCoordinator.getJdbcSessionOwner().getJdbcSessionContext().getObserver();
+		if ( identifierTable ) {
+			observer.jdbcExecuteBatchStart();
+		}
+		try {
+			final Object copyManager = GET_COPY_API.invoke( connection.unwrap( PG_CONNECTION_CLASS ) );
+			return (Long) COPY_IN.invoke( copyManager, sql, new StringReader( rows.toString() ) );
+		}
+		catch (InvocationTargetException e) {
+			final Throwable cause = e.getCause();
+			if ( cause instanceof SQLException ) {
+				throw (SQLException) cause;
+			}
+			else if ( cause instanceof RuntimeException ) {
+				throw (RuntimeException) cause;
+			}
+			else if ( cause instanceof IOException ) {
+				throw new HibernateException( "Unable to write the rows to copy", cause );
+			}
+			else {
+				throw new HibernateException( "Unable to execute copy", cause );
+			}
+		}
+		catch (IllegalAccessException e) {
+			throw new HibernateException( "Unable to execute copy", e );
+		}
+		finally {
+			if ( identifierTable ) {
+				observer.jdbcExecuteBatchEnd();
+			}
+		}
+	}
+
+	@Override
+	public void release() {
+		if ( batchPosition != 0 ) {
+			BATCH_MESSAGE_LOGGER.batchContainedStatementsOnRelease();
+		}
+		rowsByTable.clear();
+		rowCountByTable.clear();
+		batchPosition = 0;
+		fallback = false;
+		super.release();
+	}
+
+	@Override
+	public String toString() {
+		return "PostgreSQLCopyBatch(" + getKey().toLoggableString() + ")";
+	}
+
+	/**
+	 * The columns of the given insert, or {@code null} if it is not of form
+	 * {@code insert into table (columns) values (?, ...)}, with a parameter
+	 * for each column.
+	 */
+	static List<String> insertColumns(String sql, String tableName) {
+		String trimmed = sql.trim();
+		if ( trimmed.startsWith( "/*" ) ) {
+			final int endOfComment = trimmed.indexOf( "*/" );
+			if ( endOfComment < 0 ) {
+				return null;
+			}
+			trimmed = trimmed.substring( endOfComment + 2 ).trim();
+		}
+
+		final String prefix = "insert into " + tableName;
+		if ( !trimmed.regionMatches( true, 0, prefix, 0, prefix.length() ) ) {
+			return null;
+		}
+		trimmed = trimmed.substring( prefix.length() ).trim();
+		if ( !trimmed.startsWith( "(" ) ) {
+			return null;
+		}
+
+		// the column list, which might contain quoted names
+		final List<String> columns = new ArrayList<>();
+		boolean quoted = false;
+		int start = 1;
+		int end = -1;
+		for ( int i = 1; i < trimmed.length() && end < 0; i++ ) {
+			final char c = trimmed.charAt( i );
+			if ( c == '"' ) {
+				quoted = !quoted;
+			}
+			else if ( !quoted && ( c == ',' || c == ')' ) ) {
+				final String column = trimmed.substring( start, i ).trim();
+				if ( column.isEmpty() ) {
+					return null;
+				}
+				columns.add( column );
+				start = i + 1;
+				if ( c == ')' ) {
+					end = i;
+				}
+			}
+			else if ( !quoted && c == '(' ) {
+				return null;
+			}
+		}
+		if ( end < 0 ) {
+			return null;
+		}
+
+		// nothing but a parameter for each column
+		final StringBuilder expectedValues = new StringBuilder( "values(" );
+		for ( int i = 0; i < columns.size(); i++ ) {
+			if ( i > 0 ) {
+				expectedValues.append( ',' );
+			}
+			expectedValues.append( '?' );
+		}
+		expectedValues.append( ')' );
+		final String values = trimmed.substring( end + 1 ).replaceAll( "\\s", "" );
+		return values.equalsIgnoreCase( expectedValues.toString() ) ? columns : null;
+	}
+}
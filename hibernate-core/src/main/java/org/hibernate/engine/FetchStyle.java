@@ -31,5 +31,13 @@ public enum FetchStyle {
 	 * Performs fetching of associated data (currently limited to only collections) based on the sql restriction
 	 * used to load the owner.  Again, can be either eager or lazy.
 	 */
-	SUBSELECT
+	SUBSELECT,
+	/**
+	 * Inherently an eager style of fetching.  The elements of a collection are aggregated into a single SQL array
+	 * by a correlated subquery rendered in the select clause of the sql select which loads the owner, so that
+	 * several collections may be fetched along with their owner without multiplying the rows of the result.
+	 *
+	 * @since 6.2
+	 */
+	AGGREGATE
 }
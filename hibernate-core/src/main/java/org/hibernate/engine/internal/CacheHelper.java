@@ -6,9 +6,15 @@
  */
 package org.hibernate.engine.internal;
 
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+
 import org.hibernate.cache.spi.access.CachedDomainDataAccess;
 import org.hibernate.engine.spi.SessionEventListenerManager;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.event.spi.EventManager;
+import org.hibernate.event.spi.HibernateMonitoringEvent;
 
 /**
  * @author Steve Ebersole
@@ -25,14 +31,43 @@ public final class CacheHelper {
 			CachedDomainDataAccess cacheAccess) {
 		final SessionEventListenerManager eventListenerManager = session.getEventListenerManager();
 		Object cachedValue = null;
+		final EventManager eventManager = session.getEventManager();
+		final HibernateMonitoringEvent cacheGetEvent = eventManager.beginCacheGetEvent();
 		eventListenerManager.cacheGetStart();
 		try {
 			cachedValue = cacheAccess.get( session, cacheKey );
 		}
 		finally {
 			eventListenerManager.cacheGetEnd( cachedValue != null );
+			eventManager.completeCacheGetEvent( cacheGetEvent, session, cacheAccess, cachedValue != null );
 		}
 		return cachedValue;
 	}
 
+	/**
+	 * Retrieve the values cached for several keys with a single access
+	 * to the cache.
+	 *
+	 * @return the cached values by key, without entries for keys which
+	 * are not cached
+	 */
+	public static Map<Object, Object> fromSharedCache(
+			SharedSessionContractImplementor session,
+			Collection<?> cacheKeys,
+			CachedDomainDataAccess cacheAccess) {
+		final SessionEventListenerManager eventListenerManager = session.getEventListenerManager();
+		Map<Object, Object> cachedValues = Collections.emptyMap();
+		final EventManager eventManager = session.getEventManager();
+		final HibernateMonitoringEvent cacheGetEvent = eventManager.beginCacheGetEvent();
+		eventListenerManager.cacheGetStart();
+		try {
+			cachedValues = cacheAccess.getAll( session, cacheKeys );
+		}
+		finally {
+			eventListenerManager.cacheGetEnd( !cachedValues.isEmpty() );
+			eventManager.completeCacheGetEvent( cacheGetEvent, session, cacheAccess, !cachedValues.isEmpty() );
+		}
+		return cachedValues;
+	}
+
 }
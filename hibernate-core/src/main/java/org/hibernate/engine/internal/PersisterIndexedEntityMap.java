@@ -0,0 +1,723 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.internal;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.UUID;
+
+import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.persister.entity.EntityPersister;
+
+/**
+ * Storage for the entities of a {@link StatefulPersistenceContext}, used in place of
+ * a plain {@code HashMap<EntityKey,Object>} when
+ * {@value org.hibernate.cfg.AvailableSettings#PERSISTENCE_CONTEXT_INDEXED_ENTITY_STORAGE}
+ * is enabled.
+ * <p>
+ * Entities are first partitioned by the root entity name of their hierarchy (which is
+ * what {@link EntityKey#equals} compares) and then stored in an open-addressing table
+ * keyed directly by the identifier value. Identifiers of type {@code long},
+ * {@code int} and {@link UUID} are stored unboxed in primitive arrays, so that no
+ * {@code HashMap.Node} is allocated per entity and lookups through
+ * {@link #get(EntityPersister, Object)} don't need an {@link EntityKey} at all.
+ * Any other identifier type is delegated to a regular {@code HashMap} keyed by
+ * {@link EntityKey}, with unchanged semantics.
+ * <p>
+ * The {@link Map} contract is still honored, as some callers iterate the entities by
+ * key; the keys handed out while iterating are created on demand.
+ */
+final class PersisterIndexedEntityMap extends AbstractMap<EntityKey, Object> {
+
+	private static final int MIN_CAPACITY = 8;
+
+	// marker for a slot whose entry has been removed
+	private static final Object TOMBSTONE = new Object();
+
+	// marker for an entry whose value is null, so that null can denote a free slot
+	private static final Object NULL_VALUE = new Object();
+
+	private final HashMap<String, IdTable> tablesByRootEntityName;
+
+	// one-element cache: consecutive operations very often target the same hierarchy
+	private String lastRootEntityName;
+	private IdTable lastTable;
+
+	private int size;
+	private int modCount;
+
+	private EntrySet entrySet;
+
+	PersisterIndexedEntityMap() {
+		this.tablesByRootEntityName = new HashMap<>();
+	}
+
+	/**
+	 * Locate the entity with the given identifier without the need to build an {@link EntityKey}
+	 */
+	Object get(EntityPersister persister, Object id) {
+		final IdTable table = tableOrNull( persister );
+		return table == null ? null : table.get( persister, id );
+	}
+
+	/**
+	 * Check for the entity with the given identifier without the need to build an {@link EntityKey}
+	 */
+	boolean containsKey(EntityPersister persister, Object id) {
+		final IdTable table = tableOrNull( persister );
+		return table != null && table.containsKey( persister, id );
+	}
+
+	@Override
+	public Object get(Object key) {
+		if ( key instanceof EntityKey ) {
+			final EntityKey entityKey = (EntityKey) key;
+			return get( entityKey.getPersister(), entityKey.getIdentifier() );
+		}
+		return null;
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		if ( key instanceof EntityKey ) {
+			final EntityKey entityKey = (EntityKey) key;
+			return containsKey( entityKey.getPersister(), entityKey.getIdentifier() );
+		}
+		return false;
+	}
+
+	@Override
+	public Object put(EntityKey key, Object value) {
+		final EntityPersister persister = key.getPersister();
+		IdTable table = tableOrNull( persister );
+		if ( table == null ) {
+			table = IdTable.create( persister );
+			tablesByRootEntityName.put( persister.getRootEntityName(), table );
+			lastRootEntityName = persister.getRootEntityName();
+			lastTable = table;
+		}
+		final int sizeBefore = table.size();
+		final Object previous = table.put( key, value );
+		size += table.size() - sizeBefore;
+		modCount++;
+		return previous;
+	}
+
+	@Override
+	public Object remove(Object key) {
+		if ( key instanceof EntityKey ) {
+			final EntityKey entityKey = (EntityKey) key;
+			final IdTable table = tableOrNull( entityKey.getPersister() );
+			if ( table != null ) {
+				final int sizeBefore = table.size();
+				final Object previous = table.remove( entityKey );
+				if ( table.size() != sizeBefore ) {
+					size--;
+					modCount++;
+				}
+				return previous;
+			}
+		}
+		return null;
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	@Override
+	public void clear() {
+		tablesByRootEntityName.clear();
+		lastRootEntityName = null;
+		lastTable = null;
+		size = 0;
+		modCount++;
+	}
+
+	@Override
+	public Set<Entry<EntityKey, Object>> entrySet() {
+		if ( entrySet == null ) {
+			entrySet = new EntrySet();
+		}
+		return entrySet;
+	}
+
+	private IdTable tableOrNull(EntityPersister persister) {
+		final String rootEntityName = persister.getRootEntityName();
+		// all persisters of a hierarchy normally share the very same root name instance
+		if ( rootEntityName == lastRootEntityName ) {
+			return lastTable;
+		}
+		final IdTable table = tablesByRootEntityName.get( rootEntityName );
+		if ( table != null ) {
+			lastRootEntityName = rootEntityName;
+			lastTable = table;
+		}
+		return table;
+	}
+
+	private static Object maskNull(Object value) {
+		return value == null ? NULL_VALUE : value;
+	}
+
+	private static Object unmaskNull(Object value) {
+		return value == NULL_VALUE ? null : value;
+	}
+
+	private final class EntrySet extends AbstractSet<Entry<EntityKey, Object>> {
+		@Override
+		public Iterator<Entry<EntityKey, Object>> iterator() {
+			return new EntryIterator();
+		}
+
+		@Override
+		public int size() {
+			return size;
+		}
+
+		@Override
+		public boolean contains(Object o) {
+			if ( o instanceof Entry ) {
+				final Entry<?, ?> entry = (Entry<?, ?>) o;
+				final Object key = entry.getKey();
+				if ( containsKey( key ) ) {
+					final Object value = get( key );
+					return value == null ? entry.getValue() == null : value.equals( entry.getValue() );
+				}
+			}
+			return false;
+		}
+
+		@Override
+		public void clear() {
+			PersisterIndexedEntityMap.this.clear();
+		}
+	}
+
+	private final class EntryIterator implements Iterator<Entry<EntityKey, Object>> {
+		private final Iterator<IdTable> tables;
+		private Iterator<Entry<EntityKey, Object>> current;
+		private Iterator<Entry<EntityKey, Object>> lastReturnedFrom;
+		private int expectedModCount;
+
+		private EntryIterator() {
+			// copy, so that removing the last entry of a table doesn't interfere
+			this.tables = new ArrayList<>( tablesByRootEntityName.values() ).iterator();
+			this.expectedModCount = modCount;
+		}
+
+		@Override
+		public boolean hasNext() {
+			while ( current == null || !current.hasNext() ) {
+				if ( !tables.hasNext() ) {
+					return false;
+				}
+				current = tables.next().iterator();
+			}
+			return true;
+		}
+
+		@Override
+		public Entry<EntityKey, Object> next() {
+			if ( modCount != expectedModCount ) {
+				throw new ConcurrentModificationException();
+			}
+			if ( !hasNext() ) {
+				throw new NoSuchElementException();
+			}
+			lastReturnedFrom = current;
+			return current.next();
+		}
+
+		@Override
+		public void remove() {
+			if ( lastReturnedFrom == null ) {
+				throw new IllegalStateException();
+			}
+			if ( modCount != expectedModCount ) {
+				throw new ConcurrentModificationException();
+			}
+			lastReturnedFrom.remove();
+			lastReturnedFrom = null;
+			size--;
+			expectedModCount = ++modCount;
+		}
+	}
+
+	/**
+	 * The entities of a single entity hierarchy
+	 */
+	private abstract static class IdTable {
+
+		static IdTable create(EntityPersister persister) {
+			final Class<?> idClass = persister.getIdentifierType().getReturnedClass();
+			if ( idClass == Long.class || idClass == long.class ) {
+				return new LongIdTable( false );
+			}
+			else if ( idClass == Integer.class || idClass == int.class ) {
+				return new LongIdTable( true );
+			}
+			else if ( idClass == UUID.class ) {
+				return new UuidIdTable();
+			}
+			else {
+				return new KeyedIdTable();
+			}
+		}
+
+		abstract int size();
+
+		abstract Object get(EntityPersister persister, Object id);
+
+		abstract boolean containsKey(EntityPersister persister, Object id);
+
+		abstract Object put(EntityKey key, Object value);
+
+		abstract Object remove(EntityKey key);
+
+		abstract Iterator<Entry<EntityKey, Object>> iterator();
+	}
+
+	/**
+	 * Fallback for identifier types which are not specialized, as well as for
+	 * identifier values which don't match the type the hierarchy was indexed by.
+	 */
+	private static final class KeyedIdTable extends IdTable {
+		private final HashMap<EntityKey, Object> entities = new HashMap<>();
+
+		@Override
+		int size() {
+			return entities.size();
+		}
+
+		@Override
+		Object get(EntityPersister persister, Object id) {
+			return entities.get( new EntityKey( id, persister ) );
+		}
+
+		@Override
+		boolean containsKey(EntityPersister persister, Object id) {
+			return entities.containsKey( new EntityKey( id, persister ) );
+		}
+
+		@Override
+		Object put(EntityKey key, Object value) {
+			return entities.put( key, value );
+		}
+
+		@Override
+		Object remove(EntityKey key) {
+			return entities.remove( key );
+		}
+
+		@Override
+		Iterator<Entry<EntityKey, Object>> iterator() {
+			return entities.entrySet().iterator();
+		}
+	}
+
+	/**
+	 * Common open-addressing (linear probing) bookkeeping; the subclasses hold the key arrays.
+	 * Removed slots are turned into tombstones, which keeps removal through an iterator safe.
+	 */
+	private abstract static class OpenAddressingIdTable extends IdTable {
+		Object[] values;
+		EntityPersister[] persisters;
+		int shift;
+		int mask;
+		int live;
+		int used;
+		KeyedIdTable overflow;
+
+		OpenAddressingIdTable() {
+			allocate( MIN_CAPACITY );
+		}
+
+		void allocate(int capacity) {
+			values = new Object[capacity];
+			persisters = new EntityPersister[capacity];
+			mask = capacity - 1;
+			shift = 64 - Integer.numberOfTrailingZeros( capacity );
+			used = live;
+		}
+
+		int slot(long hash) {
+			// Fibonacci hashing spreads sequential identifiers nicely
+			return (int) ( ( hash * 0x9E3779B97F4A7C15L ) >>> shift );
+		}
+
+		void ensureCapacity() {
+			// keep the load (including tombstones) under 2/3
+			final int capacity = values.length;
+			if ( ( used + 1 ) * 3 > capacity * 2 ) {
+				rehash( ( live + 1 ) * 3 > capacity ? capacity << 1 : capacity );
+			}
+		}
+
+		abstract void rehash(int newCapacity);
+
+		abstract EntityKey keyAt(int slot);
+
+		abstract boolean accepts(Object id);
+
+		KeyedIdTable overflow() {
+			if ( overflow == null ) {
+				overflow = new KeyedIdTable();
+			}
+			return overflow;
+		}
+
+		@Override
+		int size() {
+			return overflow == null ? live : live + overflow.size();
+		}
+
+		@Override
+		Iterator<Entry<EntityKey, Object>> iterator() {
+			return new Iterator<>() {
+				private int next = advance( 0 );
+				private int last = -1;
+				private Iterator<Entry<EntityKey, Object>> overflowIterator;
+
+				private int advance(int from) {
+					int i = from;
+					while ( i < values.length && ( values[i] == null || values[i] == TOMBSTONE ) ) {
+						i++;
+					}
+					return i;
+				}
+
+				@Override
+				public boolean hasNext() {
+					if ( next < values.length ) {
+						return true;
+					}
+					if ( overflow == null ) {
+						return false;
+					}
+					if ( overflowIterator == null ) {
+						overflowIterator = overflow.iterator();
+					}
+					return overflowIterator.hasNext();
+				}
+
+				@Override
+				public Entry<EntityKey, Object> next() {
+					if ( next < values.length ) {
+						last = next;
+						next = advance( next + 1 );
+						return new SimpleImmutableEntry<>( keyAt( last ), unmaskNull( values[last] ) );
+					}
+					if ( !hasNext() ) {
+						throw new NoSuchElementException();
+					}
+					last = -1;
+					return overflowIterator.next();
+				}
+
+				@Override
+				public void remove() {
+					if ( last >= 0 ) {
+						values[last] = TOMBSTONE;
+						persisters[last] = null;
+						live--;
+						last = -1;
+					}
+					else if ( overflowIterator != null ) {
+						overflowIterator.remove();
+					}
+					else {
+						throw new IllegalStateException();
+					}
+				}
+			};
+		}
+	}
+
+	/**
+	 * Entities of a hierarchy identified by {@code long} or {@code int} values
+	 */
+	private static final class LongIdTable extends OpenAddressingIdTable {
+		private final boolean intIds;
+		private long[] keys;
+
+		LongIdTable(boolean intIds) {
+			this.intIds = intIds;
+		}
+
+		@Override
+		void allocate(int capacity) {
+			super.allocate( capacity );
+			keys = new long[capacity];
+		}
+
+		@Override
+		boolean accepts(Object id) {
+			return intIds ? id instanceof Integer : id instanceof Long;
+		}
+
+		private static long toLong(Object id) {
+			return ( (Number) id ).longValue();
+		}
+
+		private int find(long key) {
+			int i = slot( key );
+			Object value;
+			while ( ( value = values[i] ) != null ) {
+				if ( value != TOMBSTONE && keys[i] == key ) {
+					return i;
+				}
+				i = ( i + 1 ) & mask;
+			}
+			return -1;
+		}
+
+		@Override
+		Object get(EntityPersister persister, Object id) {
+			if ( !accepts( id ) ) {
+				return overflow == null ? null : overflow.get( persister, id );
+			}
+			final int i = find( toLong( id ) );
+			return i < 0 ? null : unmaskNull( values[i] );
+		}
+
+		@Override
+		boolean containsKey(EntityPersister persister, Object id) {
+			if ( !accepts( id ) ) {
+				return overflow != null && overflow.containsKey( persister, id );
+			}
+			return find( toLong( id ) ) >= 0;
+		}
+
+		@Override
+		Object put(EntityKey entityKey, Object value) {
+			final Object id = entityKey.getIdentifier();
+			if ( !accepts( id ) ) {
+				return overflow().put( entityKey, value );
+			}
+			final long key = toLong( id );
+			final int existing = find( key );
+			if ( existing >= 0 ) {
+				final Object previous = values[existing];
+				values[existing] = maskNull( value );
+				persisters[existing] = entityKey.getPersister();
+				return unmaskNull( previous );
+			}
+			ensureCapacity();
+			int i = slot( key );
+			while ( values[i] != null && values[i] != TOMBSTONE ) {
+				i = ( i + 1 ) & mask;
+			}
+			if ( values[i] == null ) {
+				used++;
+			}
+			keys[i] = key;
+			values[i] = maskNull( value );
+			persisters[i] = entityKey.getPersister();
+			live++;
+			return null;
+		}
+
+		@Override
+		Object remove(EntityKey entityKey) {
+			final Object id = entityKey.getIdentifier();
+			if ( !accepts( id ) ) {
+				return overflow == null ? null : overflow.remove( entityKey );
+			}
+			final int i = find( toLong( id ) );
+			if ( i < 0 ) {
+				return null;
+			}
+			final Object previous = values[i];
+			values[i] = TOMBSTONE;
+			persisters[i] = null;
+			live--;
+			return unmaskNull( previous );
+		}
+
+		@Override
+		void rehash(int newCapacity) {
+			final long[] oldKeys = keys;
+			final Object[] oldValues = values;
+			final EntityPersister[] oldPersisters = persisters;
+			allocate( newCapacity );
+			for ( int j = 0; j < oldValues.length; j++ ) {
+				final Object value = oldValues[j];
+				if ( value != null && value != TOMBSTONE ) {
+					int i = slot( oldKeys[j] );
+					while ( values[i] != null ) {
+						i = ( i + 1 ) & mask;
+					}
+					keys[i] = oldKeys[j];
+					values[i] = value;
+					persisters[i] = oldPersisters[j];
+				}
+			}
+		}
+
+		@Override
+		EntityKey keyAt(int slot) {
+			final Object id;
+			if ( intIds ) {
+				id = (int) keys[slot];
+			}
+			else {
+				id = keys[slot];
+			}
+			return new EntityKey( id, persisters[slot] );
+		}
+	}
+
+	/**
+	 * Entities of a hierarchy identified by {@link UUID} values
+	 */
+	private static final class UuidIdTable extends OpenAddressingIdTable {
+		private long[] mostSignificantBits;
+		private long[] leastSignificantBits;
+		// the original instances, handed back out when iterating
+		private UUID[] ids;
+
+		@Override
+		void allocate(int capacity) {
+			super.allocate( capacity );
+			mostSignificantBits = new long[capacity];
+			leastSignificantBits = new long[capacity];
+			ids = new UUID[capacity];
+		}
+
+		@Override
+		boolean accepts(Object id) {
+			return id instanceof UUID;
+		}
+
+		private int find(long msb, long lsb) {
+			int i = slot( msb ^ lsb );
+			Object value;
+			while ( ( value = values[i] ) != null ) {
+				if ( value != TOMBSTONE && mostSignificantBits[i] == msb && leastSignificantBits[i] == lsb ) {
+					return i;
+				}
+				i = ( i + 1 ) & mask;
+			}
+			return -1;
+		}
+
+		private int find(UUID id) {
+			return find( id.getMostSignificantBits(), id.getLeastSignificantBits() );
+		}
+
+		@Override
+		Object get(EntityPersister persister, Object id) {
+			if ( !accepts( id ) ) {
+				return overflow == null ? null : overflow.get( persister, id );
+			}
+			final int i = find( (UUID) id );
+			return i < 0 ? null : unmaskNull( values[i] );
+		}
+
+		@Override
+		boolean containsKey(EntityPersister persister, Object id) {
+			if ( !accepts( id ) ) {
+				return overflow != null && overflow.containsKey( persister, id );
+			}
+			return find( (UUID) id ) >= 0;
+		}
+
+		@Override
+		Object put(EntityKey entityKey, Object value) {
+			final Object id = entityKey.getIdentifier();
+			if ( !accepts( id ) ) {
+				return overflow().put( entityKey, value );
+			}
+			final UUID uuid = (UUID) id;
+			final int existing = find( uuid );
+			if ( existing >= 0 ) {
+				final Object previous = values[existing];
+				values[existing] = maskNull( value );
+				persisters[existing] = entityKey.getPersister();
+				return unmaskNull( previous );
+			}
+			ensureCapacity();
+			final long msb = uuid.getMostSignificantBits();
+			final long lsb = uuid.getLeastSignificantBits();
+			int i = slot( msb ^ lsb );
+			while ( values[i] != null && values[i] != TOMBSTONE ) {
+				i = ( i + 1 ) & mask;
+			}
+			if ( values[i] == null ) {
+				used++;
+			}
+			mostSignificantBits[i] = msb;
+			leastSignificantBits[i] = lsb;
+			ids[i] = uuid;
+			values[i] = maskNull( value );
+			persisters[i] = entityKey.getPersister();
+			live++;
+			return null;
+		}
+
+		@Override
+		Object remove(EntityKey entityKey) {
+			final Object id = entityKey.getIdentifier();
+			if ( !accepts( id ) ) {
+				return overflow == null ? null : overflow.remove( entityKey );
+			}
+			final int i = find( (UUID) id );
+			if ( i < 0 ) {
+				return null;
+			}
+			final Object previous = values[i];
+			values[i] = TOMBSTONE;
+			persisters[i] = null;
+			ids[i] = null;
+			live--;
+			return unmaskNull( previous );
+		}
+
+		@Override
+		void rehash(int newCapacity) {
+			final long[] oldMsb = mostSignificantBits;
+			final long[] oldLsb = leastSignificantBits;
+			final UUID[] oldIds = ids;
+			final Object[] oldValues = values;
+			final EntityPersister[] oldPersisters = persisters;
+			allocate( newCapacity );
+			for ( int j = 0; j < oldValues.length; j++ ) {
+				final Object value = oldValues[j];
+				if ( value != null && value != TOMBSTONE ) {
+					int i = slot( oldMsb[j] ^ oldLsb[j] );
+					while ( values[i] != null ) {
+						i = ( i + 1 ) & mask;
+					}
+					mostSignificantBits[i] = oldMsb[j];
+					leastSignificantBits[i] = oldLsb[j];
+					ids[i] = oldIds[j];
+					values[i] = value;
+					persisters[i] = oldPersisters[j];
+				}
+			}
+		}
+
+		@Override
+		EntityKey keyAt(int slot) {
+			return new EntityKey( ids[slot], persisters[slot] );
+		}
+	}
+}
@@ -273,6 +273,50 @@ public class SessionEventListenerManagerImpl implements SessionEventListenerMana
 		}
 	}
 
+	@Override
+	public void queryExecutionStart() {
+		if ( listeners == null ) {
+			return;
+		}
+
+		for ( SessionEventListener listener : listeners ) {
+			listener.queryExecutionStart();
+		}
+	}
+
+	@Override
+	public void queryExecutionEnd(String query, int rows) {
+		if ( listeners == null ) {
+			return;
+		}
+
+		for ( SessionEventListener listener : listeners ) {
+			listener.queryExecutionEnd( query, rows );
+		}
+	}
+
+	@Override
+	public void entityLoadStart() {
+		if ( listeners == null ) {
+			return;
+		}
+
+		for ( SessionEventListener listener : listeners ) {
+			listener.entityLoadStart();
+		}
+	}
+
+	@Override
+	public void entityLoadEnd(String entityName) {
+		if ( listeners == null ) {
+			return;
+		}
+
+		for ( SessionEventListener listener : listeners ) {
+			listener.entityLoadEnd( entityName );
+		}
+	}
+
 	@Override
 	public void end() {
 		if ( listeners == null ) {
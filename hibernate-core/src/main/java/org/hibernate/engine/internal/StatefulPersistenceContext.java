@@ -96,6 +96,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 	 */
 	private final SharedSessionContractImplementor session;
 	private EntityEntryContext entityEntryContext;
+	private final boolean indexedEntityStorage;
 
 	/*
 		Everything else below should be carefully initialized only on first need;
@@ -106,7 +107,8 @@ public class StatefulPersistenceContext implements PersistenceContext {
 	 */
 
 	// Loaded entity instances, by EntityKey
-	private HashMap<EntityKey, Object> entitiesByKey;
+	// (a PersisterIndexedEntityMap when indexed entity storage is enabled)
+	private Map<EntityKey, Object> entitiesByKey;
 
 	// Loaded entity instances, by EntityUniqueKey
 	private HashMap<EntityUniqueKey, Object> entitiesByUniqueKey;
@@ -167,6 +169,18 @@ public class StatefulPersistenceContext implements PersistenceContext {
 	public StatefulPersistenceContext(SharedSessionContractImplementor session) {
 		this.session = session;
 		this.entityEntryContext = new EntityEntryContext( this );
+		this.indexedEntityStorage = session.getFactory().getSessionFactoryOptions().isIndexedEntityStorageEnabled();
+	}
+
+	private Map<EntityKey, Object> getOrInitializeEntitiesByKey() {
+		if ( entitiesByKey == null ) {
+			entitiesByKey = createEntitiesByKey( INIT_COLL_SIZE );
+		}
+		return entitiesByKey;
+	}
+
+	private Map<EntityKey, Object> createEntitiesByKey(int size) {
+		return indexedEntityStorage ? new PersisterIndexedEntityMap() : CollectionHelper.mapOfSize( size );
 	}
 
 	private ConcurrentMap<EntityKey, Object> getOrInitializeProxiesByKey() {
@@ -381,10 +395,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 
 	@Override
 	public void addEntity(EntityKey key, Object entity) {
-		if ( entitiesByKey == null ) {
-			entitiesByKey = CollectionHelper.mapOfSize( INIT_COLL_SIZE );
-		}
-		entitiesByKey.put( key, entity );
+		getOrInitializeEntitiesByKey().put( key, entity );
 		final BatchFetchQueue fetchQueue = this.batchFetchQueue;
 		if ( fetchQueue != null ) {
 			fetchQueue.removeBatchLoadableEntityKey( key );
@@ -401,6 +412,32 @@ public class StatefulPersistenceContext implements PersistenceContext {
 		return entitiesByKey != null && entitiesByKey.containsKey( key );
 	}
 
+	@Override
+	public Object getEntity(EntityPersister persister, Object id) {
+		if ( entitiesByKey == null ) {
+			return null;
+		}
+		else if ( indexedEntityStorage ) {
+			return ( (PersisterIndexedEntityMap) entitiesByKey ).get( persister, id );
+		}
+		else {
+			return entitiesByKey.get( session.generateEntityKey( id, persister ) );
+		}
+	}
+
+	@Override
+	public boolean containsEntity(EntityPersister persister, Object id) {
+		if ( entitiesByKey == null ) {
+			return false;
+		}
+		else if ( indexedEntityStorage ) {
+			return ( (PersisterIndexedEntityMap) entitiesByKey ).containsKey( persister, id );
+		}
+		else {
+			return entitiesByKey.containsKey( session.generateEntityKey( id, persister ) );
+		}
+	}
+
 	@Override
 	public Object removeEntity(EntityKey key) {
 		final Object entity;
@@ -759,10 +796,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 
 	@Override
 	public void addEnhancedProxy(EntityKey key, PersistentAttributeInterceptable entity) {
-		if ( entitiesByKey == null ) {
-			entitiesByKey = CollectionHelper.mapOfSize( INIT_COLL_SIZE );
-		}
-		entitiesByKey.put( key, entity );
+		getOrInitializeEntitiesByKey().put( key, entity );
 	}
 
 	@Override
@@ -1676,7 +1710,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 			if ( traceEnabled ) {
 				LOG.trace( "Starting deserialization of [" + count + "] entitiesByKey entries" );
 			}
-			rtn.entitiesByKey = CollectionHelper.mapOfSize(Math.max(count, INIT_COLL_SIZE));
+			rtn.entitiesByKey = rtn.createEntitiesByKey( Math.max( count, INIT_COLL_SIZE ) );
 			for ( int i = 0; i < count; i++ ) {
 				rtn.entitiesByKey.put( EntityKey.deserialize( ois, sfi ), ois.readObject() );
 			}
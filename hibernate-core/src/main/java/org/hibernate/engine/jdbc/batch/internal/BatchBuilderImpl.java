@@ -7,9 +7,13 @@
 package org.hibernate.engine.jdbc.batch.internal;
 
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Supplier;
 
 import org.hibernate.Internal;
+import org.hibernate.dialect.Dialect;
 import org.hibernate.engine.jdbc.batch.spi.Batch;
 import org.hibernate.engine.jdbc.batch.spi.BatchBuilder;
 import org.hibernate.engine.jdbc.batch.spi.BatchKey;
@@ -31,6 +35,11 @@ import static org.hibernate.jdbc.Expectations.NONE;
  */
 public class BatchBuilderImpl implements BatchBuilder {
 	private final int globalBatchSize;
+	private final int multiRowInsertSize;
+
+	// the multi-row form of single-row inserts, or an empty string for
+	// inserts which cannot be turned into a multi-row insert
+	private final Map<String, String> multiRowInsertSql = new ConcurrentHashMap<>();
 
 	/**
 	 * Constructs a BatchBuilderImpl
@@ -39,14 +48,30 @@ public class BatchBuilderImpl implements BatchBuilder {
 	 * on {@link #buildBatch}
 	 */
 	public BatchBuilderImpl(int globalBatchSize) {
+		this( globalBatchSize, 1 );
+	}
+
+	/**
+	 * Constructs a BatchBuilderImpl
+	 *
+	 * @param globalBatchSize The batch size to use.  Can be overridden
+	 * on {@link #buildBatch}
+	 * @param multiRowInsertSize The number of rows to insert using a single
+	 * multi-row insert statement, or {@code 1} to not use multi-row inserts
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#MULTI_ROW_INSERT_SIZE
+	 */
+	public BatchBuilderImpl(int globalBatchSize, int multiRowInsertSize) {
 		if ( BATCH_TRACE_ENABLED ) {
 			BATCH_LOGGER.tracef(
-					"Using standard BatchBuilder (%s)",
-					globalBatchSize
+					"Using standard BatchBuilder (%s, %s)",
+					globalBatchSize,
+					multiRowInsertSize
 			);
 		}
 
 		this.globalBatchSize = globalBatchSize;
+		this.multiRowInsertSize = multiRowInsertSize;
 	}
 
 	public int getJdbcBatchSize() {
@@ -64,7 +89,121 @@ public class BatchBuilderImpl implements BatchBuilder {
 				: explicitBatchSize;
 		assert batchSize > 1;
 
-		return new BatchImpl( key, statementGroupSupplier.get(), batchSize, jdbcCoordinator );
+		return buildBatch( key, batchSize, statementGroupSupplier.get(), statementGroupSupplier, jdbcCoordinator );
+	}
+
+	@Override
+	public Batch buildBulkInsertBatch(
+			BatchKey key,
+			Integer explicitBatchSize,
+			Supplier<PreparedStatementGroup> statementGroupSupplier,
+			JdbcCoordinator jdbcCoordinator) {
+		final int batchSize = explicitBatchSize == null
+				? globalBatchSize
+				: explicitBatchSize;
+		assert batchSize > 1;
+
+		final PreparedStatementGroup statementGroup = statementGroupSupplier.get();
+		final Batch bulkInsertBatch = jdbcCoordinator.getJdbcSessionOwner()
+				.getJdbcSessionContext()
+				.getSessionFactory()
+				.getJdbcServices()
+				.getDialect()
+				.buildBulkInsertBatch( key, statementGroup, batchSize, jdbcCoordinator );
+		if ( bulkInsertBatch != null ) {
+			if ( BATCH_TRACE_ENABLED ) {
+				BATCH_LOGGER.tracef( "Using bulk insert batch %s", bulkInsertBatch );
+			}
+			return bulkInsertBatch;
+		}
+
+		return buildBatch( key, batchSize, statementGroup, statementGroupSupplier, jdbcCoordinator );
+	}
+
+	private Batch buildBatch(
+			BatchKey key,
+			int batchSize,
+			PreparedStatementGroup statementGroup,
+			Supplier<PreparedStatementGroup> statementGroupSupplier,
+			JdbcCoordinator jdbcCoordinator) {
+		if ( multiRowInsertSize > 1 ) {
+			final Map<String, String> multiRowSqlByTable = resolveMultiRowInsertSql( statementGroup, jdbcCoordinator );
+			if ( multiRowSqlByTable != null ) {
+				return new MultiRowInsertBatchImpl(
+						key,
+						statementGroup,
+						multiRowSqlByTable,
+						batchSize,
+						multiRowInsertSize,
+						jdbcCoordinator
+				);
+			}
+		}
+
+		return buildSingleRowBatch( key, batchSize, statementGroup, statementGroupSupplier, jdbcCoordinator );
+	}
+
+	/**
+	 * Builds a batch executing one statement per row, used for the statement
+	 * groups which are not turned into multi-row inserts
+	 *
+	 * @param statementGroup The statement group of the batch
+	 * @param statementGroupSupplier The supplier {@code statementGroup} was obtained from
+	 */
+	protected Batch buildSingleRowBatch(
+			BatchKey key,
+			int batchSize,
+			PreparedStatementGroup statementGroup,
+			Supplier<PreparedStatementGroup> statementGroupSupplier,
+			JdbcCoordinator jdbcCoordinator) {
+		return new BatchImpl( key, statementGroup, batchSize, jdbcCoordinator );
+	}
+
+	/**
+	 * The multi-row form of the insert of each table of the statement group,
+	 * or {@code null} if these are not all inserts which can be coalesced
+	 */
+	private Map<String, String> resolveMultiRowInsertSql(
+			PreparedStatementGroup statementGroup,
+			JdbcCoordinator jdbcCoordinator) {
+		final Dialect dialect = jdbcCoordinator.getJdbcSessionOwner()
+				.getJdbcSessionContext()
+				.getSessionFactory()
+				.getJdbcServices()
+				.getDialect();
+		if ( !dialect.supportsValuesListForBatchInsert() ) {
+			return null;
+		}
+
+		final Map<String, String> multiRowSqlByTable = new HashMap<>();
+		final boolean eligible = !statementGroup.hasMatching( (statementDetails) -> {
+			final TableMapping.MutationDetails insertDetails = statementDetails.getMutatingTableDetails()
+					.getInsertDetails();
+			if ( insertDetails == null
+					|| insertDetails.getCustomSql() != null
+					|| insertDetails.isCallable()
+					|| !statementDetails.getExpectation().canBeBatched() ) {
+				return true;
+			}
+
+			final String sql = multiRowInsertSql.computeIfAbsent(
+					statementDetails.getSqlString(),
+					(singleRowSql) -> {
+						final String multiRowSql = MultiRowInsertBatchImpl.renderMultiRowInsert(
+								singleRowSql,
+								multiRowInsertSize,
+								dialect.getParameterCountLimit()
+						);
+						return multiRowSql == null ? "" : multiRowSql;
+					}
+			);
+			if ( sql.isEmpty() ) {
+				return true;
+			}
+			multiRowSqlByTable.put( statementDetails.getMutatingTableDetails().getTableName(), sql );
+			return false;
+		} );
+		return eligible ? multiRowSqlByTable : null;
 	}
 
 
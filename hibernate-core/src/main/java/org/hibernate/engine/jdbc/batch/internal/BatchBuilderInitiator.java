@@ -49,9 +49,11 @@ public class BatchBuilderInitiator implements StandardServiceInitiator<BatchBuil
 		}
 
 		if ( builder == null ) {
-			return new BatchBuilderImpl(
-					ConfigurationHelper.getInt( Environment.STATEMENT_BATCH_SIZE, configurationValues, 1 )
-			);
+			final int batchSize = ConfigurationHelper.getInt( Environment.STATEMENT_BATCH_SIZE, configurationValues, 1 );
+			final int multiRowInsertSize = ConfigurationHelper.getInt( AvailableSettings.MULTI_ROW_INSERT_SIZE, configurationValues, 1 );
+			return ConfigurationHelper.getBoolean( AvailableSettings.STATEMENT_BATCH_PIPELINING, configurationValues )
+					? new PipelinedBatchBuilderImpl( batchSize, multiRowInsertSize )
+					: new BatchBuilderImpl( batchSize, multiRowInsertSize );
 		}
 
 		if ( builder instanceof BatchBuilder ) {
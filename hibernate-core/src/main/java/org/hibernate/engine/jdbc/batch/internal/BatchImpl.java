@@ -23,6 +23,9 @@ import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.engine.jdbc.spi.SqlExceptionHelper;
 import org.hibernate.engine.jdbc.spi.SqlStatementLogger;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.event.spi.EventManager;
+import org.hibernate.event.spi.HibernateMonitoringEvent;
+import org.hibernate.internal.FastSessionServices;
 import org.hibernate.resource.jdbc.spi.JdbcObserver;
 
 import static org.hibernate.engine.jdbc.JdbcLogging.JDBC_MESSAGE_LOGGER;
@@ -46,6 +49,7 @@ public class BatchImpl implements Batch {
 	private final JdbcCoordinator jdbcCoordinator;
 	private final SqlStatementLogger sqlStatementLogger;
 	private final SqlExceptionHelper sqlExceptionHelper;
+	private final EventManager eventManager;
 
 	private final LinkedHashSet<BatchObserver> observers = new LinkedHashSet<>();
 
@@ -68,13 +72,15 @@ public class BatchImpl implements Batch {
 		this.jdbcCoordinator = jdbcCoordinator;
 		this.statementGroup = statementGroup;
 
-		final JdbcServices jdbcServices = jdbcCoordinator.getJdbcSessionOwner()
+		final FastSessionServices fastSessionServices = jdbcCoordinator.getJdbcSessionOwner()
 				.getJdbcSessionContext()
 				.getSessionFactory()
-				.getFastSessionServices().jdbcServices;
+				.getFastSessionServices();
+		final JdbcServices jdbcServices = fastSessionServices.jdbcServices;
 
 		this.sqlStatementLogger = jdbcServices.getSqlStatementLogger();
 		this.sqlExceptionHelper = jdbcServices.getSqlExceptionHelper();
+		this.eventManager = fastSessionServices.eventManager;
 
 		this.batchSizeToUse = batchSizeToUse;
 
@@ -156,13 +162,27 @@ public class BatchImpl implements Batch {
 		batchPosition++;
 		if ( batchPosition == batchSizeToUse ) {
 			notifyObserversImplicitExecution();
-			performExecution();
+			performImplicitExecution( batchPosition );
 			batchPosition = 0;
 			batchExecuted = true;
 		}
 	}
 
+	/**
+	 * Execute the batch because it reached the batch size.
+	 *
+	 * @param batchPosition The number of times {@link #addToBatch} was called
+	 */
+	protected void performImplicitExecution(int batchPosition) {
+		performExecution();
+	}
+
 	protected void releaseStatements() {
+		releaseStatements( getStatementGroup() );
+		jdbcCoordinator.afterStatementExecution();
+	}
+
+	protected void releaseStatements(PreparedStatementGroup statementGroup) {
 		statementGroup.forEachStatement( (tableName, statementDetails) -> {
 			if ( statementDetails.getStatement() == null ) {
 				BATCH_LOGGER.debugf(
@@ -176,7 +196,6 @@ public class BatchImpl implements Batch {
 		} );
 
 		statementGroup.release();
-		jdbcCoordinator.afterStatementExecution();
 	}
 
 	protected void clearBatch(PreparedStatementDetails statementDetails) {
@@ -275,19 +294,25 @@ public class BatchImpl implements Batch {
 				}
 
 				try {
-					if ( statementDetails.getMutatingTableDetails().isIdentifierTable() ) {
-						final int[] rowCounts;
-						try {
-							observer.jdbcExecuteBatchStart();
-							rowCounts = statement.executeBatch();
+					final HibernateMonitoringEvent jdbcBatchExecutionEvent = eventManager.beginJdbcBatchExecutionEvent();
+					int[] rowCounts = null;
+					try {
+						if ( statementDetails.getMutatingTableDetails().isIdentifierTable() ) {
+							try {
+								observer.jdbcExecuteBatchStart();
+								rowCounts = statement.executeBatch();
+							}
+							finally {
+								observer.jdbcExecuteBatchEnd();
+							}
+							checkRowCounts( rowCounts, statementDetails, batchPosition, getStatementGroup() );
 						}
-						finally {
-							observer.jdbcExecuteBatchEnd();
+						else {
+							rowCounts = statement.executeBatch();
 						}
-						checkRowCounts( rowCounts, statementDetails );
 					}
-					else {
-						statement.executeBatch();
+					finally {
+						eventManager.completeJdbcBatchExecutionEvent( jdbcBatchExecutionEvent, sql, rowCounts );
 					}
 				}
 				catch (SQLException e) {
@@ -307,10 +332,14 @@ public class BatchImpl implements Batch {
 		}
 	}
 
-	private void checkRowCounts(int[] rowCounts, PreparedStatementDetails statementDetails) throws SQLException, HibernateException {
+	static void checkRowCounts(
+			int[] rowCounts,
+			PreparedStatementDetails statementDetails,
+			int batchPosition,
+			PreparedStatementGroup statementGroup) throws SQLException, HibernateException {
 		final int numberOfRowCounts = rowCounts.length;
 		if ( batchPosition != 0 ) {
-			final int expectedNumberOfCounts = batchPosition / getStatementGroup().getNumberOfStatements();
+			final int expectedNumberOfCounts = batchPosition / statementGroup.getNumberOfStatements();
 			if ( numberOfRowCounts != expectedNumberOfCounts ) {
 				JDBC_MESSAGE_LOGGER.unexpectedRowCounts(
 						statementDetails.getMutatingTableDetails().getTableName(),
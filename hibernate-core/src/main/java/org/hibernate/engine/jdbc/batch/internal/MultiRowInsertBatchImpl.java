@@ -0,0 +1,550 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.engine.jdbc.batch.internal;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import org.hibernate.engine.jdbc.batch.spi.BatchKey;
+import org.hibernate.engine.jdbc.mutation.JdbcValueBindings;
+import org.hibernate.engine.jdbc.mutation.TableInclusionChecker;
+import org.hibernate.engine.jdbc.mutation.group.PreparedStatementDetails;
+import org.hibernate.engine.jdbc.mutation.group.PreparedStatementGroup;
+import org.hibernate.engine.jdbc.mutation.spi.Binding;
+import org.hibernate.engine.jdbc.mutation.spi.BindingGroup;
+import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
+import org.hibernate.engine.jdbc.spi.JdbcServices;
+import org.hibernate.engine.jdbc.spi.SqlExceptionHelper;
+import org.hibernate.engine.jdbc.spi.SqlStatementLogger;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.event.spi.EventManager;
+import org.hibernate.event.spi.HibernateMonitoringEvent;
+import org.hibernate.internal.FastSessionServices;
+import org.hibernate.jdbc.Expectation;
+import org.hibernate.jdbc.Expectations;
+import org.hibernate.resource.jdbc.spi.JdbcObserver;
+import org.hibernate.sql.model.TableMapping;
+import org.hibernate.sql.model.jdbc.JdbcValueDescriptor;
+
+import static org.hibernate.engine.jdbc.batch.JdbcBatchLogging.BATCH_LOGGER;
+import static org.hibernate.engine.jdbc.batch.JdbcBatchLogging.BATCH_MESSAGE_LOGGER;
+import static org.hibernate.engine.jdbc.batch.JdbcBatchLogging.BATCH_TRACE_ENABLED;
+
+/**
+ * A batch of inserts which coalesces the rows added to the batch into
+ * multi-row {@code insert ... values (...), (...)} statements.
+ * <p>
+ * Instead of being bound to the JDBC statement right away, the values of
+ * each row are retained until the batch is executed.  Then, for each table,
+ * the rows are inserted using a statement with a {@code values} list of
+ * {@link #getRowsPerStatement()} tuples, or fewer if the statement would
+ * otherwise exceed the {@linkplain org.hibernate.dialect.Dialect#getParameterCountLimit
+ * limit} on the number of JDBC parameters, executed as a JDBC batch, and any
+ * remaining rows are inserted using the usual single-row statement.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#MULTI_ROW_INSERT_SIZE
+ */
+public class MultiRowInsertBatchImpl extends BatchImpl {
+	private final int batchSizeToUse;
+	private final int rowsPerStatement;
+
+	private final JdbcCoordinator jdbcCoordinator;
+	private final SqlStatementLogger sqlStatementLogger;
+	private final SqlExceptionHelper sqlExceptionHelper;
+	private final EventManager eventManager;
+
+	// the multi-row form of the SQL of each table, along with
+	// its number of rows and the expectation for its row count
+	private final Map<String, String> multiRowSqlByTable;
+	private final Map<String, Integer> rowsPerStatementByTable = new HashMap<>();
+	private final Map<String, Expectation> multiRowExpectationByTable = new HashMap<>();
+	private final Map<String, PreparedStatement> multiRowStatementByTable = new HashMap<>();
+
+	private final Map<String, List<Binding[]>> rowsByTable = new HashMap<>();
+	private int batchPosition;
+
+	// the parameters of the first row of each table, which tell us if
+	// the following rows belong to the same SQL, which is not the case
+	// for dynamic inserts
+	private final Map<String, JdbcValueDescriptor[]> parametersByTable = new HashMap<>();
+	private boolean singleRow;
+
+	/**
+	 * @param multiRowSqlByTable The SQL of each table of the statement group, as
+	 * rendered by {@link #renderMultiRowInsert}
+	 */
+	public MultiRowInsertBatchImpl(
+			BatchKey key,
+			PreparedStatementGroup statementGroup,
+			Map<String, String> multiRowSqlByTable,
+			int batchSizeToUse,
+			int rowsPerStatement,
+			JdbcCoordinator jdbcCoordinator) {
+		super( key, statementGroup, batchSizeToUse, jdbcCoordinator );
+		this.batchSizeToUse = batchSizeToUse;
+		this.rowsPerStatement = rowsPerStatement;
+		this.multiRowSqlByTable = multiRowSqlByTable;
+		this.jdbcCoordinator = jdbcCoordinator;
+		statementGroup.forEachStatement( (tableName, statementDetails) -> {
+			final String multiRowSql = multiRowSqlByTable.get( tableName );
+			final String singleRowSql = statementDetails.getSqlString();
+			final int rows = countParameters( multiRowSql, 0, multiRowSql.length() )
+					/ countParameters( singleRowSql, 0, singleRowSql.length() );
+			rowsPerStatementByTable.put( tableName, rows );
+			multiRowExpectationByTable.put(
+					tableName,
+					statementDetails.getExpectation() == Expectations.NONE
+							? Expectations.NONE
+							: new MultiRowExpectation( rows )
+			);
+		} );
+
+		final FastSessionServices fastSessionServices = jdbcCoordinator.getJdbcSessionOwner()
+				.getJdbcSessionContext()
+				.getSessionFactory()
+				.getFastSessionServices();
+		final JdbcServices jdbcServices = fastSessionServices.jdbcServices;
+		this.sqlStatementLogger = jdbcServices.getSqlStatementLogger();
+		this.sqlExceptionHelper = jdbcServices.getSqlExceptionHelper();
+		this.eventManager = fastSessionServices.eventManager;
+	}
+
+	/**
+	 * The maximum number of rows inserted by a single statement
+	 */
+	public int getRowsPerStatement() {
+		return rowsPerStatement;
+	}
+
+	@Override
+	public void addToBatch(JdbcValueBindings jdbcValueBindings, TableInclusionChecker inclusionChecker) {
+		if ( BATCH_TRACE_ENABLED ) {
+			BATCH_LOGGER.tracef(
+					"Adding to multi-row insert batch (%s) - `%s`",
+					batchPosition + 1,
+					getKey().toLoggableString()
+			);
+		}
+
+		if ( !singleRow && !hasSameParameters( jdbcValueBindings, inclusionChecker ) ) {
+			// the rows cannot be coalesced, so execute the pending rows,
+			// and then fall back to the usual single-row batch
+			executeRows();
+			singleRow = true;
+		}
+		if ( singleRow ) {
+			super.addToBatch( jdbcValueBindings, inclusionChecker );
+			return;
+		}
+
+		final SharedSessionContractImplementor session = (SharedSessionContractImplementor) jdbcCoordinator.getJdbcSessionOwner();
+		getStatementGroup().forEachStatement( (tableName, statementDetails) -> {
+			final TableMapping tableDetails = statementDetails.getMutatingTableDetails();
+			if ( inclusionChecker != null && !inclusionChecker.include( tableDetails ) ) {
+				return;
+			}
+
+			final BindingGroup bindingGroup = jdbcValueBindings.getBindingGroup( tableName );
+			final Binding[] row = bindingGroup == null
+					? new Binding[0]
+					: bindingGroup.getBindings().toArray( new Binding[0] );
+			rowsByTable.computeIfAbsent( tableName, (name) -> new ArrayList<>( batchSizeToUse ) ).add( row );
+			parametersByTable.computeIfAbsent( tableName, (name) -> parameters( row ) );
+			jdbcValueBindings.afterStatement( tableDetails, session );
+		} );
+
+		batchPosition++;
+		if ( batchPosition == batchSizeToUse ) {
+			notifyObserversImplicitExecution();
+			executeRows();
+		}
+	}
+
+	private boolean hasSameParameters(JdbcValueBindings jdbcValueBindings, TableInclusionChecker inclusionChecker) {
+		return !getStatementGroup().hasMatching( (statementDetails) -> {
+			final TableMapping tableDetails = statementDetails.getMutatingTableDetails();
+			if ( inclusionChecker != null && !inclusionChecker.include( tableDetails ) ) {
+				return false;
+			}
+
+			final JdbcValueDescriptor[] parameters = parametersByTable.get( tableDetails.getTableName() );
+			if ( parameters == null ) {
+				return false;
+			}
+
+			final BindingGroup bindingGroup = jdbcValueBindings.getBindingGroup( tableDetails.getTableName() );
+			final Set<Binding> bindings = bindingGroup == null ? Collections.emptySet() : bindingGroup.getBindings();
+			if ( bindings.size() != parameters.length ) {
+				return true;
+			}
+			int i = 0;
+			for ( Binding binding : bindings ) {
+				if ( binding.getValueDescriptor() != parameters[i++] ) {
+					return true;
+				}
+			}
+			return false;
+		} );
+	}
+
+	private static JdbcValueDescriptor[] parameters(Binding[] row) {
+		final JdbcValueDescriptor[] parameters = new JdbcValueDescriptor[row.length];
+		for ( int i = 0; i < row.length; i++ ) {
+			parameters[i] = row[i].getValueDescriptor();
+		}
+		return parameters;
+	}
+
+	@Override
+	public void execute() {
+		if ( singleRow ) {
+			super.execute();
+			return;
+		}
+
+		notifyObserversExplicitExecution();
+		try {
+			if ( batchPosition == 0 ) {
+				BATCH_LOGGER.debugf( "No batched statements to execute - %s", getKey().toLoggableString() );
+			}
+			else {
+				executeRows();
+			}
+		}
+		finally {
+			releaseStatements();
+		}
+	}
+
+	private void executeRows() {
+		if ( BATCH_TRACE_ENABLED ) {
+			BATCH_LOGGER.tracef(
+					"Executing multi-row insert batch (%s / %s) - `%s`",
+					batchPosition,
+					batchSizeToUse,
+					getKey().toLoggableString()
+			);
+		}
+
+		try {
+			getStatementGroup().forEachStatement( (tableName, statementDetails) -> {
+				final List<Binding[]> rows = rowsByTable.get( tableName );
+				if ( rows == null || rows.isEmpty() ) {
+					return;
+				}
+
+				String sql = statementDetails.getSqlString();
+				try {
+					final int rowsPerTableStatement = rowsPerStatementByTable.get( tableName );
+					final int numberOfMultiRowStatements = rows.size() / rowsPerTableStatement;
+					if ( numberOfMultiRowStatements > 0 ) {
+						sql = multiRowSqlByTable.get( tableName );
+						executeMultiRowStatements(
+								tableName,
+								sql,
+								statementDetails,
+								rows,
+								rowsPerTableStatement,
+								numberOfMultiRowStatements
+						);
+					}
+
+					final int firstRemainingRow = numberOfMultiRowStatements * rowsPerTableStatement;
+					if ( firstRemainingRow < rows.size() ) {
+						sql = statementDetails.getSqlString();
+						executeSingleRowStatements( statementDetails, rows, firstRemainingRow );
+					}
+				}
+				catch (SQLException e) {
+					abortBatch( e );
+					BATCH_MESSAGE_LOGGER.unableToExecuteBatch( e, sql );
+					throw sqlExceptionHelper.convert( e, "could not execute batch", sql );
+				}
+				catch (RuntimeException re) {
+					abortBatch( re );
+					BATCH_MESSAGE_LOGGER.unableToExecuteBatch( re, sql );
+					throw re;
+				}
+			} );
+		}
+		finally {
+			rowsByTable.clear();
+			batchPosition = 0;
+		}
+	}
+
+	private void executeMultiRowStatements(
+			String tableName,
+			String sql,
+			PreparedStatementDetails statementDetails,
+			List<Binding[]> rows,
+			int rowsPerTableStatement,
+			int numberOfStatements) throws SQLException {
+		final SharedSessionContractImplementor session = (SharedSessionContractImplementor) jdbcCoordinator.getJdbcSessionOwner();
+		PreparedStatement statement = multiRowStatementByTable.get( tableName );
+		if ( statement == null ) {
+			statement = jdbcCoordinator.getMutationStatementPreparer().prepareStatement( sql, false );
+			multiRowStatementByTable.put( tableName, statement );
+		}
+
+		final int parametersPerRow = countParameters( statementDetails.getSqlString(), 0, statementDetails.getSqlString().length() );
+		for ( int i = 0; i < numberOfStatements; i++ ) {
+			sqlStatementLogger.logStatement( sql );
+			for ( int j = 0; j < rowsPerTableStatement; j++ ) {
+				bindRow( statement, rows.get( i * rowsPerTableStatement + j ), j * parametersPerRow, session );
+			}
+			statement.addBatch();
+		}
+
+		final int[] rowCounts = executeBatch( statement, sql, statementDetails );
+		final Expectation expectation = multiRowExpectationByTable.get( tableName );
+		for ( int i = 0; i < rowCounts.length; i++ ) {
+			expectation.verifyOutcome( rowCounts[i], statement, i, sql );
+		}
+	}
+
+	private void executeSingleRowStatements(
+			PreparedStatementDetails statementDetails,
+			List<Binding[]> rows,
+			int firstRow) throws SQLException {
+		final SharedSessionContractImplementor session = (SharedSessionContractImplementor) jdbcCoordinator.getJdbcSessionOwner();
+		final PreparedStatement statement = statementDetails.resolveStatement();
+		for ( int i = firstRow; i < rows.size(); i++ ) {
+			sqlStatementLogger.logStatement( statementDetails.getSqlString() );
+			bindRow( statement, rows.get( i ), 0, session );
+			statement.addBatch();
+		}
+
+		final int[] rowCounts = executeBatch( statement, statementDetails.getSqlString(), statementDetails );
+		for ( int i = 0; i < rowCounts.length; i++ ) {
+			statementDetails.getExpectation().verifyOutcome(
+					rowCounts[i],
+					statement,
+					i,
+					statementDetails.getSqlString()
+			);
+		}
+	}
+
+	private int[] executeBatch(
+			PreparedStatement statement,
+			String sql,
+			PreparedStatementDetails statementDetails) throws SQLException {
+		final HibernateMonitoringEvent jdbcBatchExecutionEvent = eventManager.beginJdbcBatchExecutionEvent();
+		int[] rowCounts = null;
+		try {
+			if ( statementDetails.getMutatingTableDetails().isIdentifierTable() ) {
+				//noinspection deprecation
+				final JdbcObserver observer = jdbcCoordinator.getJdbcSessionOwner().getJdbcSessionContext().getObserver();
+				try {
+					observer.jdbcExecuteBatchStart();
+					rowCounts = statement.executeBatch();
+				}
+				finally {
+					observer.jdbcExecuteBatchEnd();
+				}
+			}
+			else {
+				rowCounts = statement.executeBatch();
+			}
+			return rowCounts;
+		}
+		finally {
+			eventManager.completeJdbcBatchExecutionEvent( jdbcBatchExecutionEvent, sql, rowCounts );
+		}
+	}
+
+	private void bindRow(
+			PreparedStatement statement,
+			Binding[] row,
+			int offset,
+			SharedSessionContractImplementor session) {
+		for ( Binding binding : row ) {
+			final int position = offset + binding.getPosition();
+			try {
+				binding.getValueBinder().bind( statement, binding.getValue(), position, session );
+			}
+			catch (SQLException e) {
+				throw sqlExceptionHelper.convert(
+						e,
+						String.format(
+								Locale.ROOT,
+								"Unable to bind parameter #%s - %s",
+								position,
+								binding.getValue()
+						)
+				);
+			}
+		}
+	}
+
+	@Override
+	protected void releaseStatements() {
+		for ( PreparedStatement statement : multiRowStatementByTable.values() ) {
+			try {
+				if ( !statement.isClosed() ) {
+					statement.clearBatch();
+				}
+			}
+			catch (SQLException e) {
+				BATCH_MESSAGE_LOGGER.unableToReleaseBatchStatement();
+			}
+			jdbcCoordinator.getLogicalConnection().getResourceRegistry().release( statement );
+		}
+		multiRowStatementByTable.clear();
+		super.releaseStatements();
+	}
+
+	@Override
+	public void release() {
+		if ( batchPosition != 0 ) {
+			BATCH_MESSAGE_LOGGER.batchContainedStatementsOnRelease();
+		}
+		rowsByTable.clear();
+		batchPosition = 0;
+		parametersByTable.clear();
+		singleRow = false;
+		super.release();
+	}
+
+	@Override
+	public String toString() {
+		return "MultiRowInsertBatchImpl(" + getKey().toLoggableString() + ")";
+	}
+
+	/**
+	 * Render the given single-row insert as an insert with a {@code values}
+	 * list of the given number of tuples.
+	 *
+	 * @return the multi-row insert, or {@code null} if the given SQL is not
+	 * a simple {@code insert into ... values (...)} statement, with all its
+	 * JDBC parameters in the {@code values} tuple
+	 */
+	public static String renderMultiRowInsert(String sql, int rows) {
+		return renderMultiRowInsert( sql, rows, 0 );
+	}
+
+	/**
+	 * Render the given single-row insert as an insert with a {@code values}
+	 * list of the given number of tuples, or fewer, so that the statement
+	 * has no more than the given number of JDBC parameters.
+	 *
+	 * @param parameterCountLimit The limit on the number of JDBC parameters,
+	 * or zero-or-less to indicate no limit
+	 *
+	 * @return the multi-row insert, or {@code null} if the given SQL is not
+	 * a simple {@code insert into ... values (...)} statement, with all its
+	 * JDBC parameters in the {@code values} tuple, or if not even two tuples
+	 * fit within the limit
+	 */
+	public static String renderMultiRowInsert(String sql, int rows, int parameterCountLimit) {
+		final String trimmed = sql.trim();
+		if ( !trimmed.endsWith( ")" ) || !startsWithInsertInto( trimmed ) ) {
+			return null;
+		}
+
+		// find the opening parenthesis of the values tuple
+		int depth = 0;
+		boolean quoted = false;
+		int tupleStart = -1;
+		for ( int i = trimmed.length() - 1; i >= 0 && tupleStart < 0; i-- ) {
+			final char c = trimmed.charAt( i );
+			if ( c == '\'' ) {
+				quoted = !quoted;
+			}
+			else if ( !quoted ) {
+				if ( c == ')' ) {
+					depth++;
+				}
+				else if ( c == '(' && --depth == 0 ) {
+					tupleStart = i;
+				}
+			}
+		}
+		if ( tupleStart < 0 ) {
+			return null;
+		}
+
+		final String beforeTuple = trimmed.substring( 0, tupleStart ).trim();
+		final int valuesKeyword = beforeTuple.length() - "values".length();
+		if ( valuesKeyword <= 0
+				|| !beforeTuple.regionMatches( true, valuesKeyword, "values", 0, "values".length() )
+				|| Character.isJavaIdentifierPart( beforeTuple.charAt( valuesKeyword - 1 ) ) ) {
+			return null;
+		}
+
+		final int parametersInTuple = countParameters( trimmed, tupleStart, trimmed.length() );
+		if ( parametersInTuple == 0 || parametersInTuple != countParameters( trimmed, 0, trimmed.length() ) ) {
+			return null;
+		}
+		final int rowsToRender = parameterCountLimit > 0
+				? Math.min( rows, parameterCountLimit / parametersInTuple )
+				: rows;
+		if ( rowsToRender < 2 ) {
+			return null;
+		}
+
+		final String tuple = trimmed.substring( tupleStart );
+		final StringBuilder multiRowSql = new StringBuilder( trimmed.length() + ( tuple.length() + 1 ) * ( rowsToRender - 1 ) );
+		multiRowSql.append( trimmed );
+		for ( int i = 1; i < rowsToRender; i++ ) {
+			multiRowSql.append( ',' ).append( tuple );
+		}
+		return multiRowSql.toString();
+	}
+
+	private static boolean startsWithInsertInto(String sql) {
+		int start = 0;
+		// skip a leading comment
+		if ( sql.startsWith( "/*" ) ) {
+			final int end = sql.indexOf( "*/" );
+			if ( end < 0 ) {
+				return false;
+			}
+			start = end + 2;
+			while ( start < sql.length() && Character.isWhitespace( sql.charAt( start ) ) ) {
+				start++;
+			}
+		}
+		return sql.regionMatches( true, start, "insert into ", 0, "insert into ".length() );
+	}
+
+	/**
+	 * Expects a multi-row insert to insert all of its rows
+	 */
+	private static final class MultiRowExpectation extends Expectations.BasicExpectation {
+		private MultiRowExpectation(int rows) {
+			super( rows );
+		}
+	}
+
+	/**
+	 * Count the JDBC parameters in the given range of the SQL, ignoring
+	 * any question marks within string literals
+	 */
+	private static int countParameters(String sql, int start, int end) {
+		int count = 0;
+		boolean quoted = false;
+		for ( int i = start; i < end; i++ ) {
+			final char c = sql.charAt( i );
+			if ( c == '\'' ) {
+				quoted = !quoted;
+			}
+			else if ( c == '?' && !quoted ) {
+				count++;
+			}
+		}
+		return count;
+	}
+}
@@ -0,0 +1,81 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.engine.jdbc.batch.internal;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.hibernate.engine.jdbc.batch.spi.Batch;
+import org.hibernate.engine.jdbc.batch.spi.BatchKey;
+import org.hibernate.engine.jdbc.mutation.group.PreparedStatementGroup;
+import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
+import org.hibernate.service.spi.Stoppable;
+
+import static org.hibernate.engine.jdbc.batch.JdbcBatchLogging.BATCH_LOGGER;
+import static org.hibernate.engine.jdbc.batch.JdbcBatchLogging.BATCH_TRACE_ENABLED;
+
+/**
+ * A builder for {@link PipelinedBatchImpl}s, which owns the threads
+ * executing the batches in the background.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#STATEMENT_BATCH_PIPELINING
+ */
+public class PipelinedBatchBuilderImpl extends BatchBuilderImpl implements Stoppable {
+	private final ExecutorService executor = Executors.newCachedThreadPool( new PipelineThreadFactory() );
+
+	public PipelinedBatchBuilderImpl(int globalBatchSize) {
+		this( globalBatchSize, 1 );
+	}
+
+	/**
+	 * @param multiRowInsertSize The number of rows to insert using a single
+	 * multi-row insert statement, or {@code 1} to not use multi-row inserts.
+	 * Multi-row inserts are executed in the calling thread.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#MULTI_ROW_INSERT_SIZE
+	 */
+	public PipelinedBatchBuilderImpl(int globalBatchSize, int multiRowInsertSize) {
+		super( globalBatchSize, multiRowInsertSize );
+		if ( BATCH_TRACE_ENABLED ) {
+			BATCH_LOGGER.tracef(
+					"Using pipelined BatchBuilder (%s, %s)",
+					globalBatchSize,
+					multiRowInsertSize
+			);
+		}
+	}
+
+	@Override
+	protected Batch buildSingleRowBatch(
+			BatchKey key,
+			int batchSize,
+			PreparedStatementGroup statementGroup,
+			Supplier<PreparedStatementGroup> statementGroupSupplier,
+			JdbcCoordinator jdbcCoordinator) {
+		return new PipelinedBatchImpl( key, statementGroup, statementGroupSupplier, batchSize, jdbcCoordinator, executor );
+	}
+
+	@Override
+	public void stop() {
+		executor.shutdown();
+	}
+
+	private static class PipelineThreadFactory implements ThreadFactory {
+		private final AtomicInteger count = new AtomicInteger();
+
+		@Override
+		public Thread newThread(Runnable runnable) {
+			final Thread thread = new Thread( runnable );
+			thread.setDaemon( true );
+			thread.setName( "Hibernate JDBC Batch Thread " + count.incrementAndGet() );
+			return thread;
+		}
+	}
+}
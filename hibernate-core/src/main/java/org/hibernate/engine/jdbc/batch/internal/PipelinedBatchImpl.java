@@ -0,0 +1,284 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.engine.jdbc.batch.internal;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+import org.hibernate.HibernateException;
+import org.hibernate.engine.jdbc.batch.spi.BatchKey;
+import org.hibernate.engine.jdbc.mutation.group.PreparedStatementDetails;
+import org.hibernate.engine.jdbc.mutation.group.PreparedStatementGroup;
+import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
+import org.hibernate.engine.jdbc.spi.SqlExceptionHelper;
+import org.hibernate.event.spi.EventManager;
+import org.hibernate.event.spi.HibernateMonitoringEvent;
+import org.hibernate.internal.FastSessionServices;
+import org.hibernate.resource.jdbc.spi.JdbcObserver;
+
+import static org.hibernate.engine.jdbc.batch.JdbcBatchLogging.BATCH_LOGGER;
+import static org.hibernate.engine.jdbc.batch.JdbcBatchLogging.BATCH_MESSAGE_LOGGER;
+import static org.hibernate.engine.jdbc.batch.JdbcBatchLogging.BATCH_TRACE_ENABLED;
+
+/**
+ * A {@link BatchImpl} which executes a full batch in the background, while
+ * the session goes on binding the values of the next batch.
+ * <p>
+ * The batch alternates between two {@link PreparedStatementGroup}s: the
+ * statements of one group are executed by the {@link Executor}, while the
+ * statements of the other group accumulate the next batch.  At most one
+ * execution is in progress at any time, and it must complete before the
+ * next one is started, so the statements still reach the database in the
+ * order in which they were added to the batch.
+ * <p>
+ * A failure of a background execution is reported on the session thread,
+ * by the next call to {@link #addToBatch}, {@link #execute()}, or
+ * {@link #awaitPendingExecution()}, after aborting the batch, exactly as a
+ * failure of {@link BatchImpl} is.  The remaining partial batch is always
+ * executed synchronously.
+ * <p>
+ * Since the two groups of statements are used concurrently, this requires a
+ * JDBC driver which allows concurrent use of distinct statements belonging
+ * to the same connection.
+ *
+ * @see PipelinedBatchBuilderImpl
+ */
+public class PipelinedBatchImpl extends BatchImpl {
+	private final Supplier<PreparedStatementGroup> statementGroupSupplier;
+	private final Executor executor;
+
+	private final JdbcCoordinator jdbcCoordinator;
+	private final SqlExceptionHelper sqlExceptionHelper;
+	private final EventManager eventManager;
+
+	private PreparedStatementGroup currentGroup;
+	private PreparedStatementGroup alternateGroup;
+
+	private CompletableFuture<Void> pendingExecution;
+
+	public PipelinedBatchImpl(
+			BatchKey key,
+			Supplier<PreparedStatementGroup> statementGroupSupplier,
+			int batchSizeToUse,
+			JdbcCoordinator jdbcCoordinator,
+			Executor executor) {
+		this( key, statementGroupSupplier.get(), statementGroupSupplier, batchSizeToUse, jdbcCoordinator, executor );
+	}
+
+	PipelinedBatchImpl(
+			BatchKey key,
+			PreparedStatementGroup statementGroup,
+			Supplier<PreparedStatementGroup> statementGroupSupplier,
+			int batchSizeToUse,
+			JdbcCoordinator jdbcCoordinator,
+			Executor executor) {
+		super( key, statementGroup, batchSizeToUse, jdbcCoordinator );
+		this.currentGroup = statementGroup;
+		this.statementGroupSupplier = statementGroupSupplier;
+		this.executor = executor;
+		this.jdbcCoordinator = jdbcCoordinator;
+		final FastSessionServices fastSessionServices = jdbcCoordinator.getJdbcSessionOwner()
+				.getJdbcSessionContext()
+				.getSessionFactory()
+				.getFastSessionServices();
+		this.sqlExceptionHelper = fastSessionServices.jdbcServices.getSqlExceptionHelper();
+		this.eventManager = fastSessionServices.eventManager;
+	}
+
+	@Override
+	public PreparedStatementGroup getStatementGroup() {
+		return currentGroup;
+	}
+
+	@Override
+	@SuppressWarnings("deprecation")
+	protected void performImplicitExecution(int batchPosition) {
+		// only one execution at a time
+		awaitPendingExecution();
+
+		if ( BATCH_TRACE_ENABLED ) {
+			BATCH_LOGGER.tracef(
+					"Executing JDBC batch in background (%s) - `%s`",
+					batchPosition,
+					getKey().toLoggableString()
+			);
+		}
+
+		final PreparedStatementGroup statementGroup = currentGroup;
+		final JdbcObserver observer = getObserver();
+		pendingExecution = CompletableFuture.runAsync(
+				() -> executeStatements( statementGroup, batchPosition, observer, eventManager ),
+				executor
+		);
+
+		// bind the next batch to the other group of statements
+		if ( alternateGroup == null ) {
+			alternateGroup = statementGroupSupplier.get();
+		}
+		currentGroup = alternateGroup;
+		alternateGroup = statementGroup;
+	}
+
+	@Override
+	public void awaitPendingExecution() {
+		final CompletableFuture<Void> execution = pendingExecution;
+		if ( execution == null ) {
+			return;
+		}
+
+		Throwable failure = null;
+		try {
+			// uninterruptibly, since the connection may not be used until the execution completes
+			execution.join();
+		}
+		catch (CompletionException | CancellationException e) {
+			failure = e.getCause() == null ? e : e.getCause();
+		}
+		finally {
+			pendingExecution = null;
+		}
+
+		if ( failure != null ) {
+			handleFailure( failure );
+		}
+	}
+
+	private void handleFailure(Throwable failure) {
+		final String sql = failure instanceof StatementExecutionException
+				? ( (StatementExecutionException) failure ).sql
+				: null;
+		if ( failure instanceof StatementExecutionException ) {
+			failure = failure.getCause();
+		}
+
+		if ( failure instanceof SQLException ) {
+			final SQLException sqlException = (SQLException) failure;
+			abortBatch( sqlException );
+			BATCH_MESSAGE_LOGGER.unableToExecuteBatch( sqlException, sql );
+			throw sqlExceptionHelper.convert( sqlException, "could not execute batch", sql );
+		}
+		else if ( failure instanceof RuntimeException ) {
+			final RuntimeException runtimeException = (RuntimeException) failure;
+			abortBatch( runtimeException );
+			BATCH_MESSAGE_LOGGER.unableToExecuteBatch( runtimeException, sql );
+			throw runtimeException;
+		}
+		else if ( failure instanceof Error ) {
+			abortBatch( new HibernateException( failure ) );
+			throw (Error) failure;
+		}
+		else {
+			final HibernateException exception = new HibernateException( "Could not execute batch", failure );
+			abortBatch( exception );
+			throw exception;
+		}
+	}
+
+	/**
+	 * Executed by the {@link Executor}, so must not touch the session.  The
+	 * observer is notified exactly as by {@link BatchImpl#performExecution()},
+	 * but from the executing thread: this is safe because the session thread
+	 * executes no statement, and so notifies no execution, while the execution
+	 * is pending, and because the completion of the execution happens-before
+	 * it is awaited.
+	 */
+	@SuppressWarnings("deprecation")
+	private static void executeStatements(
+			PreparedStatementGroup statementGroup,
+			int batchPosition,
+			JdbcObserver observer,
+			EventManager eventManager) {
+		statementGroup.forEachStatement( (tableName, statementDetails) -> {
+			final PreparedStatement statement = statementDetails.getStatement();
+			if ( statement == null ) {
+				return;
+			}
+
+			try {
+				final HibernateMonitoringEvent jdbcBatchExecutionEvent = eventManager.beginJdbcBatchExecutionEvent();
+				int[] rowCounts = null;
+				try {
+					if ( statementDetails.getMutatingTableDetails().isIdentifierTable() ) {
+						try {
+							observer.jdbcExecuteBatchStart();
+							rowCounts = statement.executeBatch();
+						}
+						finally {
+							observer.jdbcExecuteBatchEnd();
+						}
+						checkRowCounts( rowCounts, statementDetails, batchPosition, statementGroup );
+					}
+					else {
+						rowCounts = statement.executeBatch();
+					}
+				}
+				finally {
+					eventManager.completeJdbcBatchExecutionEvent(
+							jdbcBatchExecutionEvent,
+							statementDetails.getSqlString(),
+							rowCounts
+					);
+				}
+			}
+			catch (SQLException | RuntimeException e) {
+				throw new StatementExecutionException( e, statementDetails );
+			}
+		} );
+	}
+
+	@Override
+	public void execute() {
+		awaitPendingExecution();
+		super.execute();
+	}
+
+	@Override
+	public void release() {
+		try {
+			awaitPendingExecution();
+		}
+		catch (RuntimeException e) {
+			BATCH_LOGGER.debug( "Background execution of JDBC batch failed on release", e );
+		}
+		super.release();
+	}
+
+	@Override
+	protected void releaseStatements() {
+		if ( alternateGroup != null ) {
+			releaseStatements( alternateGroup );
+		}
+		super.releaseStatements();
+	}
+
+	@SuppressWarnings("deprecation")
+	private JdbcObserver getObserver() {
+		return jdbcCoordinator.getJdbcSessionOwner().getJdbcSessionContext().getObserver();
+	}
+
+	@Override
+	public String toString() {
+		return "PipelinedBatchImpl(" + getKey().toLoggableString() + ")";
+	}
+
+	/**
+	 * Remembers which statement failed
+	 */
+	private static class StatementExecutionException extends RuntimeException {
+		private final String sql;
+
+		private StatementExecutionException(Exception cause, PreparedStatementDetails statementDetails) {
+			super( cause );
+			this.sql = statementDetails.getSqlString();
+		}
+	}
+}
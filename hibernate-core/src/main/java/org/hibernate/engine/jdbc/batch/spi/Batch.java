@@ -52,6 +52,18 @@ public interface Batch {
 	 */
 	void execute();
 
+	/**
+	 * Wait for the completion of any execution of this batch which was started
+	 * in the background, so that the JDBC connection may be used for something
+	 * else.  A failure of such an execution is reported by this method, exactly
+	 * as it would have been reported by {@link #addToBatch} had the execution
+	 * happened synchronously.
+	 *
+	 * @since 6.2
+	 */
+	default void awaitPendingExecution() {
+	}
+
 	/**
 	 * Used to indicate that the batch instance is no longer needed and that, therefore, it can release its
 	 * resources.
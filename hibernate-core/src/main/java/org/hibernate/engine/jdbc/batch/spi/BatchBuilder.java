@@ -31,4 +31,20 @@ public interface BatchBuilder extends Service {
 			Integer batchSize,
 			Supplier<PreparedStatementGroup> statementGroupSupplier,
 			JdbcCoordinator jdbcCoordinator);
+
+	/**
+	 * Build a batch for the inserts of a {@linkplain org.hibernate.StatelessSession#bulkInsert bulk insert},
+	 * which may write the rows using a bulk-load protocol of the database.
+	 *
+	 * @see org.hibernate.dialect.Dialect#buildBulkInsertBatch
+	 *
+	 * @since 6.2
+	 */
+	default Batch buildBulkInsertBatch(
+			BatchKey key,
+			Integer batchSize,
+			Supplier<PreparedStatementGroup> statementGroupSupplier,
+			JdbcCoordinator jdbcCoordinator) {
+		return buildBatch( key, batchSize, statementGroupSupplier, jdbcCoordinator );
+	}
 }
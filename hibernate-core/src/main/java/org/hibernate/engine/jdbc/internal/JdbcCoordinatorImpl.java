@@ -43,6 +43,7 @@ import org.hibernate.resource.jdbc.internal.ResourceRegistryStandardImpl;
 import org.hibernate.resource.jdbc.spi.JdbcSessionOwner;
 import org.hibernate.resource.jdbc.spi.LogicalConnectionImplementor;
 import org.hibernate.resource.transaction.backend.jdbc.spi.JdbcResourceTransaction;
+import org.hibernate.resource.transaction.spi.TransactionStatus;
 
 /**
  * Standard Hibernate implementation of {@link JdbcCoordinator}
@@ -62,6 +63,8 @@ public class JdbcCoordinatorImpl implements JdbcCoordinator {
 	private transient final JdbcServices jdbcServices;
 
 	private transient Batch currentBatch;
+	private transient boolean bulkInsert;
+	private transient JdbcResourceTransaction resourceLocalTransaction;
 
 	private transient long transactionTimeOutInstant = -1;
 
@@ -184,11 +187,18 @@ public class JdbcCoordinatorImpl implements JdbcCoordinator {
 		}
 
 		final BatchBuilder batchBuilder = sessionFactory().getFastSessionServices().batchBuilder;
-		currentBatch = batchBuilder.buildBatch( key, batchSize, statementGroupSupplier, this );
+		currentBatch = bulkInsert
+				? batchBuilder.buildBulkInsertBatch( key, batchSize, statementGroupSupplier, this )
+				: batchBuilder.buildBatch( key, batchSize, statementGroupSupplier, this );
 
 		return currentBatch;
 	}
 
+	@Override
+	public void setBulkInsert(boolean bulkInsert) {
+		this.bulkInsert = bulkInsert;
+	}
+
 	@Override
 	public void executeBatch() {
 		if ( currentBatch != null ) {
@@ -208,6 +218,13 @@ public class JdbcCoordinatorImpl implements JdbcCoordinator {
 		}
 	}
 
+	@Override
+	public void awaitPendingBatchExecution() {
+		if ( currentBatch != null ) {
+			currentBatch.awaitPendingExecution();
+		}
+	}
+
 	private transient StatementPreparer statementPreparer;
 
 	@Override
@@ -314,6 +331,7 @@ public class JdbcCoordinatorImpl implements JdbcCoordinator {
 	}
 	@Override
 	public <T> T coordinateWork(WorkExecutorVisitable<T> work) {
+		awaitPendingBatchExecution();
 		final Connection connection = getLogicalConnection().getPhysicalConnection();
 		try {
 			final T result = work.accept( new WorkExecutor<>(), connection );
@@ -468,7 +486,50 @@ public class JdbcCoordinatorImpl implements JdbcCoordinator {
 
 	@Override
 	public JdbcResourceTransaction getResourceLocalTransaction() {
-		return logicalConnection.getPhysicalJdbcTransaction();
+		if ( resourceLocalTransaction == null ) {
+			resourceLocalTransaction = new BatchAwareJdbcResourceTransaction( logicalConnection.getPhysicalJdbcTransaction() );
+		}
+		return resourceLocalTransaction;
+	}
+
+	/**
+	 * Completes the transaction only once the current batch is no longer
+	 * executing in the background.
+	 */
+	private class BatchAwareJdbcResourceTransaction implements JdbcResourceTransaction {
+		private final JdbcResourceTransaction physicalJdbcTransaction;
+
+		private BatchAwareJdbcResourceTransaction(JdbcResourceTransaction physicalJdbcTransaction) {
+			this.physicalJdbcTransaction = physicalJdbcTransaction;
+		}
+
+		@Override
+		public void begin() {
+			physicalJdbcTransaction.begin();
+		}
+
+		@Override
+		public void commit() {
+			awaitPendingBatchExecution();
+			physicalJdbcTransaction.commit();
+		}
+
+		@Override
+		public void rollback() {
+			try {
+				awaitPendingBatchExecution();
+			}
+			catch (RuntimeException e) {
+				// the transaction is rolled back anyway
+				LOG.debug( "Background execution of JDBC batch failed on rollback", e );
+			}
+			physicalJdbcTransaction.rollback();
+		}
+
+		@Override
+		public TransactionStatus getStatus() {
+			return physicalJdbcTransaction.getStatus();
+		}
 	}
 
 	/**
@@ -15,6 +15,8 @@ import org.hibernate.boot.spi.SessionFactoryOptions;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.engine.jdbc.spi.MutationStatementPreparer;
 import org.hibernate.engine.jdbc.spi.SqlExceptionHelper;
+import org.hibernate.event.spi.EventManager;
+import org.hibernate.event.spi.HibernateMonitoringEvent;
 import org.hibernate.resource.jdbc.spi.JdbcObserver;
 import org.hibernate.resource.jdbc.spi.LogicalConnectionImplementor;
 
@@ -95,6 +97,9 @@ public class MutationStatementPreparerImpl implements MutationStatementPreparer
 				final JdbcObserver observer = jdbcCoordinator.getJdbcSessionOwner()
 						.getJdbcSessionContext()
 						.getObserver();
+				final EventManager eventManager = eventManager();
+				final HibernateMonitoringEvent jdbcPreparedStatementCreationEvent =
+						eventManager.beginJdbcPreparedStatementCreationEvent();
 				try {
 					observer.jdbcPrepareStatementStart();
 					preparedStatement = doPrepare();
@@ -102,6 +107,7 @@ public class MutationStatementPreparerImpl implements MutationStatementPreparer
 				}
 				finally {
 					observer.jdbcPrepareStatementEnd();
+					eventManager.completeJdbcPreparedStatementCreationEvent( jdbcPreparedStatementCreationEvent, sql );
 				}
 				postProcess( preparedStatement );
 				return preparedStatement;
@@ -138,6 +144,10 @@ public class MutationStatementPreparerImpl implements MutationStatementPreparer
 		return jdbcServices.getSqlExceptionHelper();
 	}
 
+	protected final EventManager eventManager() {
+		return jdbcCoordinator.sessionFactory().getFastSessionServices().eventManager;
+	}
+
 	protected final SessionFactoryOptions settings() {
 		//noinspection resource
 		return jdbcCoordinator.sessionFactory().getSessionFactoryOptions();
@@ -18,6 +18,8 @@ import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.engine.jdbc.spi.ResultSetReturn;
 import org.hibernate.engine.jdbc.spi.SqlExceptionHelper;
 import org.hibernate.engine.jdbc.spi.SqlStatementLogger;
+import org.hibernate.event.spi.EventManager;
+import org.hibernate.event.spi.HibernateMonitoringEvent;
 
 /**
  * Standard implementation of the ResultSetReturn contract
@@ -30,6 +32,7 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 	private final Dialect dialect;
 	private final SqlStatementLogger sqlStatementLogger;
 	private final SqlExceptionHelper sqlExceptionHelper;
+	private final EventManager eventManager;
 
 	/**
 	 * Constructs a ResultSetReturnImpl
@@ -41,17 +44,25 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 		this.dialect = jdbcServices.getDialect();
 		this.sqlStatementLogger = jdbcServices.getSqlStatementLogger();
 		this.sqlExceptionHelper = jdbcServices.getSqlExceptionHelper();
+		this.eventManager = jdbcCoordinator.getJdbcSessionOwner()
+				.getJdbcSessionContext()
+				.getSessionFactory()
+				.getFastSessionServices()
+				.eventManager;
 	}
 
 	@Override
 	public ResultSet extract(PreparedStatement statement) {
 		// IMPL NOTE : SQL logged by caller
+		// the connection might still be executing a batch
+		jdbcCoordinator.awaitPendingBatchExecution();
 		long executeStartNanos = 0;
 		if ( this.sqlStatementLogger.getLogSlowQuery() > 0 ) {
 			executeStartNanos = System.nanoTime();
 		}
 		try {
 			final ResultSet rs;
+			final HibernateMonitoringEvent jdbcStatementExecutionEvent = eventManager.beginJdbcStatementExecutionEvent();
 			try {
 				jdbcExecuteStatementStart();
 				rs = statement.executeQuery();
@@ -59,6 +70,7 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 			finally {
 				jdbcExecuteStatementEnd();
 				sqlStatementLogger.logSlowQuery( statement, executeStartNanos );
+				eventManager.completeJdbcStatementExecutionEvent( jdbcStatementExecutionEvent, statement, -1 );
 			}
 			postExtract( rs, statement );
 			return rs;
@@ -71,12 +83,15 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 	@Override
 	public ResultSet extract(PreparedStatement statement, String sql) {
 		// IMPL NOTE : SQL logged by caller
+		// the connection might still be executing a batch
+		jdbcCoordinator.awaitPendingBatchExecution();
 		long executeStartNanos = 0;
 		if ( this.sqlStatementLogger.getLogSlowQuery() > 0 ) {
 			executeStartNanos = System.nanoTime();
 		}
 		try {
 			final ResultSet rs;
+			final HibernateMonitoringEvent jdbcStatementExecutionEvent = eventManager.beginJdbcStatementExecutionEvent();
 			try {
 				jdbcExecuteStatementStart();
 				rs = statement.executeQuery();
@@ -84,6 +99,7 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 			finally {
 				jdbcExecuteStatementEnd();
 				sqlStatementLogger.logSlowQuery( sql, executeStartNanos );
+				eventManager.completeJdbcStatementExecutionEvent( jdbcStatementExecutionEvent, sql, -1 );
 			}
 			postExtract( rs, statement );
 			return rs;
@@ -104,12 +120,15 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 	@Override
 	public ResultSet extract(CallableStatement callableStatement) {
 		// IMPL NOTE : SQL logged by caller
+		// the connection might still be executing a batch
+		jdbcCoordinator.awaitPendingBatchExecution();
 		long executeStartNanos = 0;
 		if ( this.sqlStatementLogger.getLogSlowQuery() > 0 ) {
 			executeStartNanos = System.nanoTime();
 		}
 		try {
 			final ResultSet rs;
+			final HibernateMonitoringEvent jdbcStatementExecutionEvent = eventManager.beginJdbcStatementExecutionEvent();
 			try {
 				jdbcExecuteStatementStart();
 				rs = dialect.getResultSet( callableStatement );
@@ -117,6 +136,7 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 			finally {
 				jdbcExecuteStatementEnd();
 				sqlStatementLogger.logSlowQuery( callableStatement, executeStartNanos );
+				eventManager.completeJdbcStatementExecutionEvent( jdbcStatementExecutionEvent, callableStatement, -1 );
 			}
 			postExtract( rs, callableStatement );
 			return rs;
@@ -129,12 +149,15 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 	@Override
 	public ResultSet extract(Statement statement, String sql) {
 		sqlStatementLogger.logStatement( sql );
+		// the connection might still be executing a batch
+		jdbcCoordinator.awaitPendingBatchExecution();
 		long executeStartNanos = 0;
 		if ( this.sqlStatementLogger.getLogSlowQuery() > 0 ) {
 			executeStartNanos = System.nanoTime();
 		}
 		try {
 			final ResultSet rs;
+			final HibernateMonitoringEvent jdbcStatementExecutionEvent = eventManager.beginJdbcStatementExecutionEvent();
 			try {
 				jdbcExecuteStatementStart();
 				rs = statement.executeQuery( sql );
@@ -142,6 +165,7 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 			finally {
 				jdbcExecuteStatementEnd();
 				sqlStatementLogger.logSlowQuery( sql, executeStartNanos );
+				eventManager.completeJdbcStatementExecutionEvent( jdbcStatementExecutionEvent, sql, -1 );
 			}
 			postExtract( rs, statement );
 			return rs;
@@ -154,12 +178,15 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 	@Override
 	public ResultSet execute(PreparedStatement statement) {
 		// sql logged by StatementPreparerImpl
+		// the connection might still be executing a batch
+		jdbcCoordinator.awaitPendingBatchExecution();
 		long executeStartNanos = 0;
 		if ( this.sqlStatementLogger.getLogSlowQuery() > 0 ) {
 			executeStartNanos = System.nanoTime();
 		}
 		try {
 			final ResultSet rs;
+			final HibernateMonitoringEvent jdbcStatementExecutionEvent = eventManager.beginJdbcStatementExecutionEvent();
 			try {
 				jdbcExecuteStatementStart();
 				if ( !statement.execute() ) {
@@ -172,6 +199,7 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 			finally {
 				jdbcExecuteStatementEnd();
 				sqlStatementLogger.logSlowQuery( statement, executeStartNanos );
+				eventManager.completeJdbcStatementExecutionEvent( jdbcStatementExecutionEvent, statement, -1 );
 			}
 			postExtract( rs, statement );
 			return rs;
@@ -184,12 +212,15 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 	@Override
 	public ResultSet execute(PreparedStatement statement, String sql) {
 		// sql logged by StatementPreparerImpl
+		// the connection might still be executing a batch
+		jdbcCoordinator.awaitPendingBatchExecution();
 		long executeStartNanos = 0;
 		if ( this.sqlStatementLogger.getLogSlowQuery() > 0 ) {
 			executeStartNanos = System.nanoTime();
 		}
 		try {
 			final ResultSet rs;
+			final HibernateMonitoringEvent jdbcStatementExecutionEvent = eventManager.beginJdbcStatementExecutionEvent();
 			try {
 				jdbcExecuteStatementStart();
 				if ( !statement.execute() ) {
@@ -202,6 +233,7 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 			finally {
 				jdbcExecuteStatementEnd();
 				sqlStatementLogger.logSlowQuery( sql, executeStartNanos );
+				eventManager.completeJdbcStatementExecutionEvent( jdbcStatementExecutionEvent, sql, -1 );
 			}
 			postExtract( rs, statement );
 			return rs;
@@ -214,12 +246,15 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 	@Override
 	public ResultSet execute(Statement statement, String sql) {
 		sqlStatementLogger.logStatement( sql );
+		// the connection might still be executing a batch
+		jdbcCoordinator.awaitPendingBatchExecution();
 		long executeStartNanos = 0;
 		if ( this.sqlStatementLogger.getLogSlowQuery() > 0 ) {
 			executeStartNanos = System.nanoTime();
 		}
 		try {
 			final ResultSet rs;
+			final HibernateMonitoringEvent jdbcStatementExecutionEvent = eventManager.beginJdbcStatementExecutionEvent();
 			try {
 				jdbcExecuteStatementStart();
 				if ( !statement.execute( sql ) ) {
@@ -232,6 +267,7 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 			finally {
 				jdbcExecuteStatementEnd();
 				sqlStatementLogger.logSlowQuery( sql, executeStartNanos );
+				eventManager.completeJdbcStatementExecutionEvent( jdbcStatementExecutionEvent, sql, -1 );
 			}
 			postExtract( rs, statement );
 			return rs;
@@ -245,13 +281,18 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 	public int executeUpdate(PreparedStatement statement) {
 		assert statement != null;
 
+		// the connection might still be executing a batch
+		jdbcCoordinator.awaitPendingBatchExecution();
 		long executeStartNanos = 0;
 		if ( this.sqlStatementLogger.getLogSlowQuery() > 0 ) {
 			executeStartNanos = System.nanoTime();
 		}
+		final HibernateMonitoringEvent jdbcStatementExecutionEvent = eventManager.beginJdbcStatementExecutionEvent();
+		int rowCount = -1;
 		try {
 			jdbcExecuteStatementStart();
-			return statement.executeUpdate();
+			rowCount = statement.executeUpdate();
+			return rowCount;
 		}
 		catch (SQLException e) {
 			throw sqlExceptionHelper.convert( e, "could not execute statement" );
@@ -259,6 +300,7 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 		finally {
 			jdbcExecuteStatementEnd();
 			sqlStatementLogger.logSlowQuery( statement, executeStartNanos );
+			eventManager.completeJdbcStatementExecutionEvent( jdbcStatementExecutionEvent, statement, rowCount );
 		}
 	}
 
@@ -266,13 +308,18 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 	public int executeUpdate(PreparedStatement statement, String sql) {
 		assert statement != null;
 
+		// the connection might still be executing a batch
+		jdbcCoordinator.awaitPendingBatchExecution();
 		long executeStartNanos = 0;
 		if ( this.sqlStatementLogger.getLogSlowQuery() > 0 ) {
 			executeStartNanos = System.nanoTime();
 		}
+		final HibernateMonitoringEvent jdbcStatementExecutionEvent = eventManager.beginJdbcStatementExecutionEvent();
+		int rowCount = -1;
 		try {
 			jdbcExecuteStatementStart();
-			return statement.executeUpdate();
+			rowCount = statement.executeUpdate();
+			return rowCount;
 		}
 		catch (SQLException e) {
 			throw sqlExceptionHelper.convert( e, "could not execute statement", sql );
@@ -280,19 +327,25 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 		finally {
 			jdbcExecuteStatementEnd();
 			sqlStatementLogger.logSlowQuery( sql, executeStartNanos );
+			eventManager.completeJdbcStatementExecutionEvent( jdbcStatementExecutionEvent, sql, rowCount );
 		}
 	}
 
 	@Override
 	public int executeUpdate(Statement statement, String sql) {
 		sqlStatementLogger.logStatement( sql );
+		// the connection might still be executing a batch
+		jdbcCoordinator.awaitPendingBatchExecution();
 		long executeStartNanos = 0;
 		if ( this.sqlStatementLogger.getLogSlowQuery() > 0 ) {
 			executeStartNanos = System.nanoTime();
 		}
+		final HibernateMonitoringEvent jdbcStatementExecutionEvent = eventManager.beginJdbcStatementExecutionEvent();
+		int rowCount = -1;
 		try {
 			jdbcExecuteStatementStart();
-			return statement.executeUpdate( sql );
+			rowCount = statement.executeUpdate( sql );
+			return rowCount;
 		}
 		catch (SQLException e) {
 			throw sqlExceptionHelper.convert( e, "could not execute statement", sql );
@@ -300,6 +353,7 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 		finally {
 			jdbcExecuteStatementEnd();
 			sqlStatementLogger.logSlowQuery( sql, executeStartNanos );
+			eventManager.completeJdbcStatementExecutionEvent( jdbcStatementExecutionEvent, sql, rowCount );
 		}
 	}
 
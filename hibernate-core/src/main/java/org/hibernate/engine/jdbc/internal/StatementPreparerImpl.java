@@ -18,6 +18,8 @@ import org.hibernate.boot.spi.SessionFactoryOptions;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.engine.jdbc.spi.SqlExceptionHelper;
 import org.hibernate.engine.jdbc.spi.StatementPreparer;
+import org.hibernate.event.spi.EventManager;
+import org.hibernate.event.spi.HibernateMonitoringEvent;
 import org.hibernate.resource.jdbc.spi.JdbcObserver;
 import org.hibernate.resource.jdbc.spi.LogicalConnectionImplementor;
 
@@ -57,6 +59,10 @@ class StatementPreparerImpl implements StatementPreparer {
 	protected final SqlExceptionHelper sqlExceptionHelper() {
 		return jdbcServices.getSqlExceptionHelper();
 	}
+
+	protected final EventManager eventManager() {
+		return jdbcCoordinator.sessionFactory().getFastSessionServices().eventManager;
+	}
 	
 	@Override
 	public Statement createStatement() {
@@ -171,6 +177,9 @@ class StatementPreparerImpl implements StatementPreparer {
 
 				final PreparedStatement preparedStatement;
 				final JdbcObserver observer = jdbcCoordinator.getJdbcSessionOwner().getJdbcSessionContext().getObserver();
+				final EventManager eventManager = eventManager();
+				final HibernateMonitoringEvent jdbcPreparedStatementCreationEvent =
+						eventManager.beginJdbcPreparedStatementCreationEvent();
 				try {
 					observer.jdbcPrepareStatementStart();
 					preparedStatement = doPrepare();
@@ -178,6 +187,7 @@ class StatementPreparerImpl implements StatementPreparer {
 				}
 				finally {
 					observer.jdbcPrepareStatementEnd();
+					eventManager.completeJdbcPreparedStatementCreationEvent( jdbcPreparedStatementCreationEvent, sql );
 				}
 				postProcess( preparedStatement );
 				return preparedStatement;
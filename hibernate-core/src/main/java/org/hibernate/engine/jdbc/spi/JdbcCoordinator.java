@@ -14,6 +14,7 @@ import java.sql.Statement;
 import java.util.function.Supplier;
 
 import org.hibernate.engine.jdbc.batch.spi.Batch;
+import org.hibernate.engine.jdbc.batch.spi.BatchBuilder;
 import org.hibernate.engine.jdbc.batch.spi.BatchKey;
 import org.hibernate.engine.jdbc.mutation.group.PreparedStatementGroup;
 import org.hibernate.jdbc.WorkExecutorVisitable;
@@ -54,6 +55,17 @@ public interface JdbcCoordinator extends Serializable, TransactionCoordinatorOwn
 			Integer batchSize,
 			Supplier<PreparedStatementGroup> statementGroupSupplier);
 
+	/**
+	 * Specify whether the batches subsequently obtained from {@link #getBatch}
+	 * belong to a {@linkplain org.hibernate.StatelessSession#bulkInsert bulk insert}.
+	 *
+	 * @see BatchBuilder#buildBulkInsertBatch
+	 *
+	 * @since 6.2
+	 */
+	default void setBulkInsert(boolean bulkInsert) {
+	}
+
 	/**
 	 * Execute the currently managed batch (if any)
 	 */
@@ -64,6 +76,18 @@ public interface JdbcCoordinator extends Serializable, TransactionCoordinatorOwn
 	 */
 	void abortBatch();
 
+	/**
+	 * Wait for the completion of any execution of the currently managed batch
+	 * which was started in the background, before the JDBC connection is used
+	 * to execute another statement.
+	 *
+	 * @see Batch#awaitPendingExecution()
+	 *
+	 * @since 6.2
+	 */
+	default void awaitPendingBatchExecution() {
+	}
+
 	/**
 	 * Obtain the statement preparer associated with this JDBC coordinator.
 	 *
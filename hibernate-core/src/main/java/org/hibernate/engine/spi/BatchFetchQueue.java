@@ -6,10 +6,17 @@
  */
 package org.hibernate.engine.spi;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
 
 import org.hibernate.cache.spi.access.CollectionDataAccess;
 import org.hibernate.cache.spi.access.EntityDataAccess;
@@ -209,21 +216,39 @@ public class BatchFetchQueue {
 
 		LinkedHashSet<EntityKey> set =  batchLoadableEntityKeys.get( entityDescriptor.getEntityName() );
 		if ( set != null ) {
+			final EntityPersister persister = entityDescriptor.getEntityPersister();
+			final boolean checkCache = isCacheReadable( persister );
+			// the keys are checked against the second-level cache in chunks, with one access per chunk
+			final Iterator<EntityKey> lookahead = set.iterator();
+			Set<EntityKey> cachedKeys = Collections.emptySet();
+			int position = 0;
+			int checked = 0;
 			for ( EntityKey key : set ) {
 				if ( checkForEnd && i == end ) {
 					// the first id found after the given id
 					return ids;
 				}
 
-				if ( entityDescriptor.getEntityPersister().getIdentifierType()
-						.isEqual( loadingId, key.getIdentifier() ) ) {
+				if ( persister.getIdentifierType().isEqual( loadingId, key.getIdentifier() ) ) {
 					end = i;
 				}
 				else {
-					if ( !isCached( key, entityDescriptor.getEntityPersister() ) ) {
+					if ( checkCache && position >= checked ) {
+						for ( ; checked < position; checked++ ) {
+							lookahead.next();
+						}
+						final List<EntityKey> chunk = new ArrayList<>( maxBatchSize );
+						while ( chunk.size() < maxBatchSize && lookahead.hasNext() ) {
+							chunk.add( lookahead.next() );
+						}
+						checked += chunk.size();
+						cachedKeys = getCachedKeys( chunk, persister );
+					}
+					if ( !cachedKeys.contains( key ) ) {
 						ids[i++] = key.getIdentifier();
 					}
 				}
+				position++;
 
 				if ( i == maxBatchSize ) {
 					i = 1; // end of array, start filling again from start
@@ -238,19 +263,31 @@ public class BatchFetchQueue {
 		return ids;
 	}
 
-	private boolean isCached(EntityKey entityKey, EntityPersister persister) {
+	private boolean isCacheReadable(EntityPersister persister) {
+		return context.getSession().getCacheMode().isGetEnabled() && persister.canReadFromCache();
+	}
+
+	/**
+	 * The keys of the given entities which are in the second-level cache
+	 */
+	private Set<EntityKey> getCachedKeys(List<EntityKey> entityKeys, EntityPersister persister) {
 		final SharedSessionContractImplementor session = context.getSession();
-		if ( context.getSession().getCacheMode().isGetEnabled() && persister.canReadFromCache() ) {
-			final EntityDataAccess cache = persister.getCacheAccessStrategy();
+		final EntityDataAccess cache = persister.getCacheAccessStrategy();
+		final Map<Object, EntityKey> entityKeysByCacheKey = new HashMap<>( entityKeys.size() );
+		for ( EntityKey entityKey : entityKeys ) {
 			final Object key = cache.generateCacheKey(
 					entityKey.getIdentifier(),
 					persister,
 					session.getFactory(),
 					session.getTenantIdentifier()
 			);
-			return CacheHelper.fromSharedCache( session, key, cache ) != null;
+			entityKeysByCacheKey.put( key, entityKey );
 		}
-		return false;
+		final Set<EntityKey> cachedKeys = new HashSet<>();
+		for ( Object key : CacheHelper.fromSharedCache( session, entityKeysByCacheKey.keySet(), cache ).keySet() ) {
+			cachedKeys.add( entityKeysByCacheKey.get( key ) );
+		}
+		return cachedKeys;
 	}
 
 
@@ -319,7 +356,15 @@ public class BatchFetchQueue {
 		final LinkedHashMap<CollectionEntry, PersistentCollection<?>> map =
 				batchLoadableCollections.get( collectionPersister.getRole() );
 		if ( map != null ) {
+			final boolean checkCache = isCacheReadable( collectionPersister );
+			// the keys are checked against the second-level cache in chunks, with one access per chunk
+			final Iterator<CollectionEntry> lookahead = map.keySet().iterator();
+			Set<Object> cachedKeys = Collections.emptySet();
+			int position = -1;
+			int checked = 0;
 			for ( Entry<CollectionEntry, PersistentCollection<?>> me : map.entrySet() ) {
+				position++;
+
 				final CollectionEntry ce = me.getKey();
 				final PersistentCollection<?> collection = me.getValue();
 
@@ -352,9 +397,25 @@ public class BatchFetchQueue {
 					end = i;
 					//checkForEnd = false;
 				}
-				else if ( !isCached( ce.getLoadedKey(), collectionPersister ) ) {
-					keys[i++] = ce.getLoadedKey();
-					//count++;
+				else {
+					if ( checkCache && position >= checked ) {
+						for ( ; checked < position; checked++ ) {
+							lookahead.next();
+						}
+						final List<Object> chunk = new ArrayList<>( batchSize );
+						while ( chunk.size() < batchSize && lookahead.hasNext() ) {
+							final Object loadedKey = lookahead.next().getLoadedKey();
+							if ( loadedKey != null ) {
+								chunk.add( loadedKey );
+							}
+							checked++;
+						}
+						cachedKeys = getCachedKeys( chunk, collectionPersister );
+					}
+					if ( !cachedKeys.contains( ce.getLoadedKey() ) ) {
+						keys[i++] = ce.getLoadedKey();
+						//count++;
+					}
 				}
 
 				if ( i == batchSize ) {
@@ -368,19 +429,31 @@ public class BatchFetchQueue {
 		return keys; //we ran out of keys to try
 	}
 
-	private boolean isCached(Object collectionKey, CollectionPersister persister) {
-		SharedSessionContractImplementor session = context.getSession();
-		if ( session.getCacheMode().isGetEnabled() && persister.hasCache() ) {
-			CollectionDataAccess cache = persister.getCacheAccessStrategy();
-			Object cacheKey = cache.generateCacheKey(
+	private boolean isCacheReadable(CollectionPersister persister) {
+		return context.getSession().getCacheMode().isGetEnabled() && persister.hasCache();
+	}
+
+	/**
+	 * The given collection keys for which the collection is in the second-level cache
+	 */
+	private Set<Object> getCachedKeys(List<Object> collectionKeys, CollectionPersister persister) {
+		final SharedSessionContractImplementor session = context.getSession();
+		final CollectionDataAccess cache = persister.getCacheAccessStrategy();
+		final Map<Object, Object> collectionKeysByCacheKey = new HashMap<>( collectionKeys.size() );
+		for ( Object collectionKey : collectionKeys ) {
+			final Object cacheKey = cache.generateCacheKey(
 					collectionKey,
 					persister,
 					session.getFactory(),
 					session.getTenantIdentifier()
 			);
-			return CacheHelper.fromSharedCache( session, cacheKey, cache ) != null;
+			collectionKeysByCacheKey.put( cacheKey, collectionKey );
 		}
-		return false;
+		final Set<Object> cachedKeys = new HashSet<>();
+		for ( Object cacheKey : CacheHelper.fromSharedCache( session, collectionKeysByCacheKey.keySet(), cache ).keySet() ) {
+			cachedKeys.add( collectionKeysByCacheKey.get( cacheKey ) );
+		}
+		return cachedKeys;
 	}
 
 }
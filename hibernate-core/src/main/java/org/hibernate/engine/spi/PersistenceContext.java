@@ -171,6 +171,36 @@ public interface PersistenceContext {
 	 */
 	boolean containsEntity(EntityKey key);
 
+	/**
+	 * Get the entity instance of the given type with the given identifier.
+	 * <p>
+	 * Equivalent to {@link #getEntity(EntityKey)}, but allows implementations
+	 * to avoid the creation of an {@link EntityKey} for the lookup.
+	 *
+	 * @param persister The persister of the entity to look for
+	 * @param id The identifier of the entity to look for
+	 *
+	 * @return The matching entity, or {@code null}
+	 */
+	default Object getEntity(EntityPersister persister, Object id) {
+		return getEntity( getSession().generateEntityKey( id, persister ) );
+	}
+
+	/**
+	 * Is there an entity of the given type with the given identifier in the persistence context?
+	 * <p>
+	 * Equivalent to {@link #containsEntity(EntityKey)}, but allows implementations
+	 * to avoid the creation of an {@link EntityKey} for the lookup.
+	 *
+	 * @param persister The persister of the entity to look for
+	 * @param id The identifier of the entity to look for
+	 *
+	 * @return {@code true} indicates an entity was found; otherwise {@code false}
+	 */
+	default boolean containsEntity(EntityPersister persister, Object id) {
+		return containsEntity( getSession().generateEntityKey( id, persister ) );
+	}
+
 	/**
 	 * Remove an entity.  Also clears up all other state associated with the entity aside from the {@link EntityEntry}
 	 *
@@ -40,6 +40,7 @@ import org.hibernate.engine.jdbc.connections.spi.JdbcConnectionAccess;
 import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.event.spi.DeleteContext;
+import org.hibernate.event.spi.EventManager;
 import org.hibernate.event.spi.EventSource;
 import org.hibernate.event.spi.MergeContext;
 import org.hibernate.event.spi.PersistContext;
@@ -318,6 +319,11 @@ public class SessionDelegatorBaseImpl implements SessionImplementor {
 		return delegate.getJdbcCoordinator();
 	}
 
+	@Override
+	public EventManager getEventManager() {
+		return delegate.getEventManager();
+	}
+
 	@Override
 	public JdbcServices getJdbcServices() {
 		return delegate.getJdbcServices();
@@ -14,8 +14,10 @@ import jakarta.persistence.TransactionRequiredException;
 import org.hibernate.CacheMode;
 import org.hibernate.FlushMode;
 import org.hibernate.HibernateException;
+import org.hibernate.Incubating;
 import org.hibernate.Interceptor;
 import org.hibernate.StatelessSession;
+import org.hibernate.event.spi.EventManager;
 import org.hibernate.event.spi.EventSource;
 import org.hibernate.query.Query;
 import org.hibernate.SharedSessionContract;
@@ -400,6 +402,16 @@ public interface SharedSessionContractImplementor
 				: sessionJdbcBatchSize;
 	}
 
+	/**
+	 * The {@link EventManager} which reports the monitoring events of this session.
+	 *
+	 * @since 6.2
+	 */
+	@Incubating
+	default EventManager getEventManager() {
+		return getFactory().getFastSessionServices().eventManager;
+	}
+
 	/**
 	 * This is similar to {@link #getPersistenceContext()}, with
 	 * two main differences:
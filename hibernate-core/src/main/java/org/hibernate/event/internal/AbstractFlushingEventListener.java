@@ -203,14 +203,26 @@ public abstract class AbstractFlushingEventListener implements JpaBootstrapSensi
 		final Map.Entry<Object,EntityEntry>[] entityEntries = persistenceContext.reentrantSafeEntityEntries();
 		final int count = entityEntries.length;
 
-		for ( Map.Entry<Object,EntityEntry> me : entityEntries ) {
+		// If enabled, first compare the state of large numbers of entities in parallel;
+		// the results are then picked up by the serial processing below
+		final int parallelDirtyCheckThreshold = source.getFactory().getSessionFactoryOptions()
+				.getParallelDirtyCheckThreshold();
+		final ParallelDirtyCheck parallelDirtyCheck = parallelDirtyCheckThreshold > 0 && count >= parallelDirtyCheckThreshold
+				? ParallelDirtyCheck.perform( entityEntries, source )
+				: null;
+
+		for ( int i = 0; i < count; i++ ) {
 			// Update the status of the object and if necessary, schedule an update
 
+			final Map.Entry<Object,EntityEntry> me = entityEntries[i];
 			EntityEntry entry = me.getValue();
 			Status status = entry.getStatus();
 
 			if ( status != Status.LOADING && status != Status.GONE ) {
 				final FlushEntityEvent entityEvent = new FlushEntityEvent( source, me.getKey(), entry );
+				if ( parallelDirtyCheck != null ) {
+					parallelDirtyCheck.applyTo( i, entityEvent );
+				}
 				flushListeners.fireEventOnEachListener( entityEvent, FlushEntityEventListener::onFlushEntity );
 			}
 		}
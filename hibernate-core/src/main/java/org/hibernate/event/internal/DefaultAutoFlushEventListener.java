@@ -13,7 +13,9 @@ import org.hibernate.engine.spi.PersistenceContext;
 import org.hibernate.engine.spi.SessionEventListenerManager;
 import org.hibernate.event.spi.AutoFlushEvent;
 import org.hibernate.event.spi.AutoFlushEventListener;
+import org.hibernate.event.spi.EventManager;
 import org.hibernate.event.spi.EventSource;
+import org.hibernate.event.spi.HibernateMonitoringEvent;
 import org.hibernate.internal.CoreMessageLogger;
 import org.hibernate.stat.spi.StatisticsImplementor;
 
@@ -37,6 +39,8 @@ public class DefaultAutoFlushEventListener extends AbstractFlushingEventListener
 	public void onAutoFlush(AutoFlushEvent event) throws HibernateException {
 		final EventSource source = event.getSession();
 		final SessionEventListenerManager eventListenerManager = source.getEventListenerManager();
+		final EventManager eventManager = source.getEventManager();
+		final HibernateMonitoringEvent flushEvent = eventManager.beginFlushEvent();
 		try {
 			eventListenerManager.partialFlushStart();
 
@@ -74,6 +78,7 @@ public class DefaultAutoFlushEventListener extends AbstractFlushingEventListener
 					event.getNumberOfEntitiesProcessed(),
 					event.getNumberOfEntitiesProcessed()
 			);
+			eventManager.completeFlushEvent( flushEvent, event, true );
 		}
 	}
 
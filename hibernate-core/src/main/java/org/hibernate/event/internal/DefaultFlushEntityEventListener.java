@@ -24,9 +24,11 @@ import org.hibernate.engine.spi.SelfDirtinessTracker;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.engine.spi.Status;
+import org.hibernate.event.spi.EventManager;
 import org.hibernate.event.spi.EventSource;
 import org.hibernate.event.spi.FlushEntityEvent;
 import org.hibernate.event.spi.FlushEntityEventListener;
+import org.hibernate.event.spi.HibernateMonitoringEvent;
 import org.hibernate.internal.CoreLogging;
 import org.hibernate.internal.CoreMessageLogger;
 import org.hibernate.internal.util.collections.ArrayHelper;
@@ -124,7 +126,7 @@ public class DefaultFlushEntityEventListener implements FlushEntityEventListener
 
 		final boolean mightBeDirty = entry.requiresDirtyCheck( entity );
 
-		final Object[] values = getValues( entity, entry, mightBeDirty, event.getSession() );
+		final Object[] values = getValues( event, mightBeDirty );
 
 		event.setPropertyValues( values );
 
@@ -153,7 +155,10 @@ public class DefaultFlushEntityEventListener implements FlushEntityEventListener
 
 	}
 
-	private Object[] getValues(Object entity, EntityEntry entry, boolean mightBeDirty, SessionImplementor session) {
+	private Object[] getValues(FlushEntityEvent event, boolean mightBeDirty) {
+		final Object entity = event.getEntity();
+		final EntityEntry entry = event.getEntityEntry();
+		final SessionImplementor session = event.getSession();
 		final Object[] loadedState = entry.getLoadedState();
 
 		if ( entry.getStatus() == Status.DELETED ) {
@@ -166,8 +171,10 @@ public class DefaultFlushEntityEventListener implements FlushEntityEventListener
 		else {
 			final EntityPersister persister = entry.getPersister();
 			checkId( entity, persister, entry.getId(), session );
-			// grab its current state
-			Object[] values = persister.getValues( entity );
+			// grab its current state, unless it was already read by parallel dirty checking
+			Object[] values = event.hasPrecomputedDirtyCheck()
+					? event.getPrecomputedPropertyValues()
+					: persister.getValues( entity );
 			checkNaturalId( persister, entity, entry, values, loadedState, session );
 			return values;
 		}
@@ -465,6 +472,11 @@ public class DefaultFlushEntityEventListener implements FlushEntityEventListener
 			event.setDirtyCheckHandledByInterceptor( true );
 			event.setDirtyCheckPossible( true );
 		}
+		// the result of parallel dirty checking, if any, has now been
+		// consumed, so discard it: if the dirty check is repeated, for
+		// example because an Interceptor changed the property values,
+		// the current values must be compared all over again
+		event.clearPrecomputedDirtyCheck();
 		logDirtyProperties( event.getEntityEntry(), dirtyProperties );
 	}
 
@@ -472,6 +484,8 @@ public class DefaultFlushEntityEventListener implements FlushEntityEventListener
 		final SessionImplementor session = event.getSession();
 		boolean dirtyCheckPossible;
 		int[] dirtyProperties = null;
+		final EventManager eventManager = session.getEventManager();
+		final HibernateMonitoringEvent dirtyCalculationEvent = eventManager.beginDirtyCalculationEvent();
 		try {
 			session.getEventListenerManager().dirtyCalculationStart();
 			// object loaded by update()
@@ -482,7 +496,13 @@ public class DefaultFlushEntityEventListener implements FlushEntityEventListener
 			final Object entity = event.getEntity();
 			if ( loadedState != null ) {
 				// dirty check against the usual snapshot of the entity
-				dirtyProperties = persister.findDirty( values, loadedState, entity, session );
+				if ( event.hasPrecomputedDirtyCheck() && values == event.getPrecomputedPropertyValues() ) {
+					// already compared by parallel dirty checking
+					dirtyProperties = event.getPrecomputedDirtyProperties();
+				}
+				else {
+					dirtyProperties = persister.findDirty( values, loadedState, entity, session );
+				}
 				dirtyCheckPossible = true;
 			}
 			else if ( entry.getStatus() == Status.DELETED && !entry.isModifiableEntity() ) {
@@ -523,6 +543,12 @@ public class DefaultFlushEntityEventListener implements FlushEntityEventListener
 		}
 		finally {
 			session.getEventListenerManager().dirtyCalculationEnd( dirtyProperties != null );
+			eventManager.completeDirtyCalculationEvent(
+					dirtyCalculationEvent,
+					session,
+					event.getEntityEntry(),
+					dirtyProperties
+			);
 		}
 		return dirtyProperties;
 	}
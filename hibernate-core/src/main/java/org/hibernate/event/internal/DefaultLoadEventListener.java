@@ -17,6 +17,7 @@ import org.hibernate.cache.spi.access.SoftLock;
 import org.hibernate.engine.spi.EntityKey;
 import org.hibernate.engine.spi.PersistenceContext;
 import org.hibernate.engine.spi.PersistentAttributeInterceptable;
+import org.hibernate.engine.spi.SessionEventListenerManager;
 import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.engine.spi.Status;
 import org.hibernate.event.spi.EventSource;
@@ -88,6 +89,8 @@ public class DefaultLoadEventListener implements LoadEventListener {
 	}
 
 	private void doOnLoad(EntityPersister persister, LoadEvent event, LoadType loadType) {
+		final SessionEventListenerManager eventListenerManager = event.getSession().getEventListenerManager();
+		eventListenerManager.entityLoadStart();
 		try {
 			final EventSource session = event.getSession();
 			final EntityKey keyToLoad = session.generateEntityKey( event.getEntityId(), persister );
@@ -108,6 +111,9 @@ public class DefaultLoadEventListener implements LoadEventListener {
 			LOG.unableToLoadCommand( e );
 			throw e;
 		}
+		finally {
+			eventListenerManager.entityLoadEnd( persister.getEntityName() );
+		}
 	}
 
 	//TODO: this method is completely unreadable, clean it up:
@@ -174,7 +174,7 @@ public class DefaultMergeEventListener
 			EntityPersister persister = source.getEntityPersister( event.getEntityName(), entity );
 			Object id = persister.getIdentifier( entity, source );
 			if ( id != null ) {
-				final Object managedEntity = persistenceContext.getEntity( source.generateEntityKey( id, persister ) );
+				final Object managedEntity = persistenceContext.getEntity( persister, id );
 				entry = persistenceContext.getEntry( managedEntity );
 				if ( entry != null ) {
 					// we have a special case of a detached entity from the
@@ -0,0 +1,175 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.event.internal;
+
+import java.sql.Statement;
+
+import org.hibernate.cache.spi.access.CachedDomainDataAccess;
+import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.event.spi.EventManager;
+import org.hibernate.event.spi.FlushEvent;
+import org.hibernate.event.spi.HibernateMonitoringEvent;
+
+/**
+ * The {@link EventManager} used when no implementation is available, which reports no event.
+ */
+public final class EmptyEventManager implements EventManager {
+
+	public static final EmptyEventManager INSTANCE = new EmptyEventManager();
+
+	private EmptyEventManager() {
+	}
+
+	@Override
+	public HibernateMonitoringEvent beginSessionOpenEvent() {
+		return null;
+	}
+
+	@Override
+	public void completeSessionOpenEvent(
+			HibernateMonitoringEvent sessionOpenEvent,
+			SharedSessionContractImplementor session) {
+	}
+
+	@Override
+	public HibernateMonitoringEvent beginSessionClosedEvent() {
+		return null;
+	}
+
+	@Override
+	public void completeSessionClosedEvent(
+			HibernateMonitoringEvent sessionClosedEvent,
+			SharedSessionContractImplementor session) {
+	}
+
+	@Override
+	public HibernateMonitoringEvent beginFlushEvent() {
+		return null;
+	}
+
+	@Override
+	public void completeFlushEvent(HibernateMonitoringEvent flushEvent, FlushEvent event, boolean autoFlush) {
+	}
+
+	@Override
+	public HibernateMonitoringEvent beginDirtyCalculationEvent() {
+		return null;
+	}
+
+	@Override
+	public void completeDirtyCalculationEvent(
+			HibernateMonitoringEvent dirtyCalculationEvent,
+			SharedSessionContractImplementor session,
+			EntityEntry entry,
+			int[] dirtyProperties) {
+	}
+
+	@Override
+	public HibernateMonitoringEvent beginLazyInitializationEvent() {
+		return null;
+	}
+
+	@Override
+	public void completeLazyInitializationEvent(
+			HibernateMonitoringEvent lazyInitializationEvent,
+			SharedSessionContractImplementor session,
+			String role,
+			Object identifier,
+			boolean collection) {
+	}
+
+	@Override
+	public HibernateMonitoringEvent beginCacheGetEvent() {
+		return null;
+	}
+
+	@Override
+	public void completeCacheGetEvent(
+			HibernateMonitoringEvent cacheGetEvent,
+			SharedSessionContractImplementor session,
+			CachedDomainDataAccess cacheAccess,
+			boolean hit) {
+	}
+
+	@Override
+	public HibernateMonitoringEvent beginCachePutEvent() {
+		return null;
+	}
+
+	@Override
+	public void completeCachePutEvent(
+			HibernateMonitoringEvent cachePutEvent,
+			SharedSessionContractImplementor session,
+			CachedDomainDataAccess cacheAccess,
+			boolean cacheContentChanged) {
+	}
+
+	@Override
+	public HibernateMonitoringEvent beginJdbcConnectionAcquisitionEvent() {
+		return null;
+	}
+
+	@Override
+	public void completeJdbcConnectionAcquisitionEvent(
+			HibernateMonitoringEvent jdbcConnectionAcquisitionEvent,
+			SharedSessionContractImplementor session) {
+	}
+
+	@Override
+	public HibernateMonitoringEvent beginJdbcPreparedStatementCreationEvent() {
+		return null;
+	}
+
+	@Override
+	public void completeJdbcPreparedStatementCreationEvent(
+			HibernateMonitoringEvent jdbcPreparedStatementCreationEvent,
+			String sql) {
+	}
+
+	@Override
+	public HibernateMonitoringEvent beginJdbcStatementExecutionEvent() {
+		return null;
+	}
+
+	@Override
+	public void completeJdbcStatementExecutionEvent(
+			HibernateMonitoringEvent jdbcStatementExecutionEvent,
+			String sql,
+			long rowCount) {
+	}
+
+	@Override
+	public void completeJdbcStatementExecutionEvent(
+			HibernateMonitoringEvent jdbcStatementExecutionEvent,
+			Statement statement,
+			long rowCount) {
+	}
+
+	@Override
+	public HibernateMonitoringEvent beginJdbcBatchExecutionEvent() {
+		return null;
+	}
+
+	@Override
+	public void completeJdbcBatchExecutionEvent(
+			HibernateMonitoringEvent jdbcBatchExecutionEvent,
+			String sql,
+			int[] rowCounts) {
+	}
+
+	@Override
+	public HibernateMonitoringEvent beginMappingModelCreationPhaseEvent() {
+		return null;
+	}
+
+	@Override
+	public void completeMappingModelCreationPhaseEvent(
+			HibernateMonitoringEvent mappingModelCreationPhaseEvent,
+			String phase) {
+	}
+}
@@ -0,0 +1,210 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.event.internal;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import org.hibernate.boot.internal.DefaultCustomEntityDirtinessStrategy;
+import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.engine.spi.Status;
+import org.hibernate.event.spi.FlushEntityEvent;
+import org.hibernate.internal.EmptyInterceptor;
+import org.hibernate.jpa.event.spi.CallbackRegistry;
+import org.hibernate.jpa.event.spi.CallbackType;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.type.CompositeType;
+import org.hibernate.type.Type;
+
+import static org.hibernate.engine.internal.ManagedTypeHelper.isPersistentAttributeInterceptable;
+import static org.hibernate.engine.internal.ManagedTypeHelper.isSelfDirtinessTracker;
+
+/**
+ * Performs the read-only part of the flush-time dirty check, that is reading the current
+ * state of the entities and comparing it with their loaded state, in parallel on the
+ * fork-join pool which the session factory dedicates to this purpose.
+ * <p>
+ * The results are handed to the {@link FlushEntityEvent}s afterwards, on the thread of
+ * the session and in the order of the entity entries, so everything else happening
+ * during flush (interception, version increments, scheduling of updates) stays serial
+ * and deterministic.
+ * <p>
+ * Only entities for which this is known to be free of side effects on the session take
+ * part: managed entities with a loaded state, which are not bytecode enhanced, and whose
+ * persister has no association, collection or any-valued attributes. Since the state of
+ * all entities is read upfront, nothing is done in parallel when an {@code Interceptor}
+ * or a {@code PreUpdate} callback might change an entity while another one is flushed,
+ * nor when a {@code CustomEntityDirtinessStrategy} is in use.
+ * Anything that goes wrong for a particular entity simply leaves it to the serial dirty
+ * check.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#PARALLEL_DIRTY_CHECK_THRESHOLD
+ */
+final class ParallelDirtyCheck {
+	private static final int PARTITION_SIZE = 256;
+
+	private final Map.Entry<Object, EntityEntry>[] entityEntries;
+	private final SharedSessionContractImplementor session;
+
+	private final boolean[] eligible;
+	private final Object[][] propertyValues;
+	private final int[][] dirtyProperties;
+	private final boolean[] completed;
+
+	private ParallelDirtyCheck(Map.Entry<Object, EntityEntry>[] entityEntries, SharedSessionContractImplementor session) {
+		this.entityEntries = entityEntries;
+		this.session = session;
+		final int count = entityEntries.length;
+		this.eligible = new boolean[count];
+		this.propertyValues = new Object[count][];
+		this.dirtyProperties = new int[count][];
+		this.completed = new boolean[count];
+	}
+
+	/**
+	 * Dirty check the eligible entities among the given entries in parallel, returning
+	 * {@code null} if none of them is eligible
+	 */
+	static ParallelDirtyCheck perform(
+			Map.Entry<Object, EntityEntry>[] entityEntries,
+			SharedSessionContractImplementor session) {
+		final ForkJoinPool pool = session.getFactory().getFastSessionServices().parallelDirtyCheckPool;
+		if ( pool == null ) {
+			return null;
+		}
+		final ParallelDirtyCheck dirtyCheck = new ParallelDirtyCheck( entityEntries, session );
+		if ( dirtyCheck.determineEligibility() ) {
+			pool.invoke( dirtyCheck.new Partition( 0, entityEntries.length ) );
+			return dirtyCheck;
+		}
+		else {
+			return null;
+		}
+	}
+
+	/**
+	 * Pass the result of the dirty check of the entry at the given position, if any, to the event
+	 */
+	void applyTo(int index, FlushEntityEvent event) {
+		if ( completed[index] ) {
+			event.setPrecomputedDirtyCheck( propertyValues[index], dirtyProperties[index] );
+			// let the arrays go as soon as possible
+			propertyValues[index] = null;
+			dirtyProperties[index] = null;
+		}
+	}
+
+	// this runs on the session thread, since it touches the state of the entries
+	private boolean determineEligibility() {
+		if ( session.getInterceptor() != EmptyInterceptor.INSTANCE ) {
+			// an Interceptor could change the state of any entity while others are flushed
+			return false;
+		}
+		if ( session.getFactory().getCustomEntityDirtinessStrategy() != DefaultCustomEntityDirtinessStrategy.INSTANCE ) {
+			// a custom strategy makes the dirty check itself, and expects to be called on the session thread
+			return false;
+		}
+		final CallbackRegistry callbackRegistry = session.getFactory().getEventEngine().getCallbackRegistry();
+		final Map<EntityPersister, Boolean> eligiblePersisters = new IdentityHashMap<>();
+		boolean any = false;
+		for ( int i = 0; i < entityEntries.length; i++ ) {
+			final Object entity = entityEntries[i].getKey();
+			final EntityEntry entry = entityEntries[i].getValue();
+			final EntityPersister persister = entry.getPersister();
+			Boolean eligiblePersister = eligiblePersisters.get( persister );
+			if ( eligiblePersister == null ) {
+				if ( callbackRegistry.hasRegisteredCallbacks( persister.getMappedClass(), CallbackType.PRE_UPDATE ) ) {
+					// and so could a callback
+					return false;
+				}
+				eligiblePersister = isEligible( persister );
+				eligiblePersisters.put( persister, eligiblePersister );
+			}
+			if ( eligiblePersister
+					&& entry.getStatus() == Status.MANAGED
+					&& entry.getLoadedState() != null
+					&& !isPersistentAttributeInterceptable( entity )
+					&& !isSelfDirtinessTracker( entity )
+					&& entry.requiresDirtyCheck( entity ) ) {
+				eligible[i] = true;
+				any = true;
+			}
+		}
+		return any;
+	}
+
+	private static boolean isEligible(EntityPersister persister) {
+		if ( persister.hasCollections() ) {
+			return false;
+		}
+		for ( Type type : persister.getPropertyTypes() ) {
+			if ( !isEligible( type ) ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static boolean isEligible(Type type) {
+		if ( type.isAssociationType() ) {
+			// checking associations may need to consult the persistence context
+			return false;
+		}
+		else if ( type.isComponentType() ) {
+			for ( Type subtype : ( (CompositeType) type ).getSubtypes() ) {
+				if ( !isEligible( subtype ) ) {
+					return false;
+				}
+			}
+		}
+		return true;
+	}
+
+	private void dirtyCheck(int index) {
+		final Object entity = entityEntries[index].getKey();
+		final EntityEntry entry = entityEntries[index].getValue();
+		final EntityPersister persister = entry.getPersister();
+		try {
+			final Object[] values = persister.getValues( entity );
+			dirtyProperties[index] = persister.findDirty( values, entry.getLoadedState(), entity, session );
+			propertyValues[index] = values;
+			completed[index] = true;
+		}
+		catch (RuntimeException e) {
+			// leave it to the serial dirty check, which
+			// reports the problem on the session thread
+		}
+	}
+
+	private final class Partition extends RecursiveAction {
+		private final int from;
+		private final int to;
+
+		private Partition(int from, int to) {
+			this.from = from;
+			this.to = to;
+		}
+
+		@Override
+		protected void compute() {
+			if ( to - from <= PARTITION_SIZE ) {
+				for ( int i = from; i < to; i++ ) {
+					if ( eligible[i] ) {
+						dirtyCheck( i );
+					}
+				}
+			}
+			else {
+				final int middle = ( from + to ) >>> 1;
+				invokeAll( new Partition( from, middle ), new Partition( middle, to ) );
+			}
+		}
+	}
+}
@@ -0,0 +1,40 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.event.jfr.internal;
+
+import org.hibernate.event.spi.HibernateMonitoringEvent;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Dirty check of a managed entity during a flush.
+ */
+@Name( DirtyCalculationEvent.NAME )
+@Label( "Dirty Calculation" )
+@Category( JfrEventManager.CATEGORY )
+@Description( "Dirty check of a managed entity during a flush." )
+@StackTrace( false )
+public class DirtyCalculationEvent extends Event implements HibernateMonitoringEvent {
+	public static final String NAME = "org.hibernate.orm.DirtyCalculation";
+
+	@Label( "Session Identifier" )
+	public String sessionIdentifier;
+
+	@Label( "Entity Name" )
+	public String entityName;
+
+	@Label( "Entity Status" )
+	public String entityStatus;
+
+	@Label( "Dirty" )
+	public boolean dirty;
+}
@@ -0,0 +1,31 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.event.jfr.internal;
+
+import org.hibernate.event.spi.HibernateMonitoringEvent;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Creation of a JDBC PreparedStatement.
+ */
+@Name( JdbcPreparedStatementCreationEvent.NAME )
+@Label( "JDBC PreparedStatement Creation" )
+@Category( JfrEventManager.CATEGORY )
+@Description( "Creation of a JDBC PreparedStatement." )
+@StackTrace( false )
+public class JdbcPreparedStatementCreationEvent extends Event implements HibernateMonitoringEvent {
+	public static final String NAME = "org.hibernate.orm.JdbcPreparedStatementCreation";
+
+	@Label( "SQL" )
+	public String sql;
+}
@@ -0,0 +1,396 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.event.jfr.internal;
+
+import java.sql.Statement;
+
+import org.hibernate.cache.spi.access.CachedDomainDataAccess;
+import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.event.spi.EventManager;
+import org.hibernate.event.spi.FlushEvent;
+import org.hibernate.event.spi.HibernateMonitoringEvent;
+
+import jdk.jfr.EventType;
+
+/**
+ * Creates and commits the Java Flight Recorder events of Hibernate.
+ * <p>
+ * Each {@code begin} method returns {@code null} unless the event type is enabled in a running
+ * recording, so that an event which is disabled costs a single check and no allocation.
+ * <p>
+ * This class must only be loaded when the {@code jdk.jfr} module is available, which is why it
+ * is only ever instantiated as a Java service.
+ */
+public final class JfrEventManager implements EventManager {
+
+	public static final String CATEGORY = "Hibernate ORM";
+
+	private final EventType sessionOpenEventType = EventType.getEventType( SessionOpenEvent.class );
+	private final EventType sessionClosedEventType = EventType.getEventType( SessionClosedEvent.class );
+	private final EventType flushEventType = EventType.getEventType( SessionFlushEvent.class );
+	private final EventType dirtyCalculationEventType = EventType.getEventType( DirtyCalculationEvent.class );
+	private final EventType lazyInitializationEventType = EventType.getEventType( LazyInitializationEvent.class );
+	private final EventType cacheGetEventType = EventType.getEventType( CacheGetEvent.class );
+	private final EventType cachePutEventType = EventType.getEventType( CachePutEvent.class );
+	private final EventType jdbcConnectionAcquisitionEventType =
+			EventType.getEventType( JdbcConnectionAcquisitionEvent.class );
+	private final EventType jdbcPreparedStatementCreationEventType =
+			EventType.getEventType( JdbcPreparedStatementCreationEvent.class );
+	private final EventType jdbcStatementExecutionEventType =
+			EventType.getEventType( JdbcStatementExecutionEvent.class );
+	private final EventType jdbcBatchExecutionEventType = EventType.getEventType( JdbcBatchExecutionEvent.class );
+	private final EventType mappingModelCreationPhaseEventType =
+			EventType.getEventType( MappingModelCreationPhaseEvent.class );
+
+	@Override
+	public HibernateMonitoringEvent beginSessionOpenEvent() {
+		if ( sessionOpenEventType.isEnabled() ) {
+			final SessionOpenEvent sessionOpenEvent = new SessionOpenEvent();
+			sessionOpenEvent.begin();
+			return sessionOpenEvent;
+		}
+		return null;
+	}
+
+	@Override
+	public void completeSessionOpenEvent(
+			HibernateMonitoringEvent event,
+			SharedSessionContractImplementor session) {
+		if ( event != null ) {
+			final SessionOpenEvent sessionOpenEvent = (SessionOpenEvent) event;
+			sessionOpenEvent.end();
+			if ( sessionOpenEvent.shouldCommit() ) {
+				sessionOpenEvent.sessionIdentifier = getSessionIdentifier( session );
+				sessionOpenEvent.commit();
+			}
+		}
+	}
+
+	@Override
+	public HibernateMonitoringEvent beginSessionClosedEvent() {
+		if ( sessionClosedEventType.isEnabled() ) {
+			final SessionClosedEvent sessionClosedEvent = new SessionClosedEvent();
+			sessionClosedEvent.begin();
+			return sessionClosedEvent;
+		}
+		return null;
+	}
+
+	@Override
+	public void completeSessionClosedEvent(
+			HibernateMonitoringEvent event,
+			SharedSessionContractImplementor session) {
+		if ( event != null ) {
+			final SessionClosedEvent sessionClosedEvent = (SessionClosedEvent) event;
+			sessionClosedEvent.end();
+			if ( sessionClosedEvent.shouldCommit() ) {
+				sessionClosedEvent.sessionIdentifier = getSessionIdentifier( session );
+				sessionClosedEvent.commit();
+			}
+		}
+	}
+
+	@Override
+	public HibernateMonitoringEvent beginFlushEvent() {
+		if ( flushEventType.isEnabled() ) {
+			final SessionFlushEvent flushEvent = new SessionFlushEvent();
+			flushEvent.begin();
+			return flushEvent;
+		}
+		return null;
+	}
+
+	@Override
+	public void completeFlushEvent(HibernateMonitoringEvent flushEvent, FlushEvent event, boolean autoFlush) {
+		if ( flushEvent != null ) {
+			final SessionFlushEvent jfrFlushEvent = (SessionFlushEvent) flushEvent;
+			jfrFlushEvent.end();
+			if ( jfrFlushEvent.shouldCommit() ) {
+				jfrFlushEvent.sessionIdentifier = getSessionIdentifier( event.getSession() );
+				jfrFlushEvent.numberOfEntitiesProcessed = event.getNumberOfEntitiesProcessed();
+				jfrFlushEvent.numberOfCollectionsProcessed = event.getNumberOfCollectionsProcessed();
+				jfrFlushEvent.autoFlush = autoFlush;
+				jfrFlushEvent.commit();
+			}
+		}
+	}
+
+	@Override
+	public HibernateMonitoringEvent beginDirtyCalculationEvent() {
+		if ( dirtyCalculationEventType.isEnabled() ) {
+			final DirtyCalculationEvent dirtyCalculationEvent = new DirtyCalculationEvent();
+			dirtyCalculationEvent.begin();
+			return dirtyCalculationEvent;
+		}
+		return null;
+	}
+
+	@Override
+	public void completeDirtyCalculationEvent(
+			HibernateMonitoringEvent event,
+			SharedSessionContractImplementor session,
+			EntityEntry entry,
+			int[] dirtyProperties) {
+		if ( event != null ) {
+			final DirtyCalculationEvent dirtyCalculationEvent = (DirtyCalculationEvent) event;
+			dirtyCalculationEvent.end();
+			if ( dirtyCalculationEvent.shouldCommit() ) {
+				dirtyCalculationEvent.sessionIdentifier = getSessionIdentifier( session );
+				dirtyCalculationEvent.entityName = entry.getEntityName();
+				dirtyCalculationEvent.entityStatus = entry.getStatus().name();
+				dirtyCalculationEvent.dirty = dirtyProperties != null;
+				dirtyCalculationEvent.commit();
+			}
+		}
+	}
+
+	@Override
+	public HibernateMonitoringEvent beginLazyInitializationEvent() {
+		if ( lazyInitializationEventType.isEnabled() ) {
+			final LazyInitializationEvent lazyInitializationEvent = new LazyInitializationEvent();
+			lazyInitializationEvent.begin();
+			return lazyInitializationEvent;
+		}
+		return null;
+	}
+
+	@Override
+	public void completeLazyInitializationEvent(
+			HibernateMonitoringEvent event,
+			SharedSessionContractImplementor session,
+			String role,
+			Object identifier,
+			boolean collection) {
+		if ( event != null ) {
+			final LazyInitializationEvent lazyInitializationEvent = (LazyInitializationEvent) event;
+			lazyInitializationEvent.end();
+			if ( lazyInitializationEvent.shouldCommit() ) {
+				lazyInitializationEvent.sessionIdentifier = getSessionIdentifier( session );
+				lazyInitializationEvent.role = role;
+				lazyInitializationEvent.identifier = identifier == null ? null : identifier.toString();
+				lazyInitializationEvent.collection = collection;
+				lazyInitializationEvent.commit();
+			}
+		}
+	}
+
+	@Override
+	public HibernateMonitoringEvent beginCacheGetEvent() {
+		if ( cacheGetEventType.isEnabled() ) {
+			final CacheGetEvent cacheGetEvent = new CacheGetEvent();
+			cacheGetEvent.begin();
+			return cacheGetEvent;
+		}
+		return null;
+	}
+
+	@Override
+	public void completeCacheGetEvent(
+			HibernateMonitoringEvent event,
+			SharedSessionContractImplementor session,
+			CachedDomainDataAccess cacheAccess,
+			boolean hit) {
+		if ( event != null ) {
+			final CacheGetEvent cacheGetEvent = (CacheGetEvent) event;
+			cacheGetEvent.end();
+			if ( cacheGetEvent.shouldCommit() ) {
+				cacheGetEvent.sessionIdentifier = getSessionIdentifier( session );
+				cacheGetEvent.regionName = cacheAccess.getRegion().getName();
+				cacheGetEvent.hit = hit;
+				cacheGetEvent.commit();
+			}
+		}
+	}
+
+	@Override
+	public HibernateMonitoringEvent beginCachePutEvent() {
+		if ( cachePutEventType.isEnabled() ) {
+			final CachePutEvent cachePutEvent = new CachePutEvent();
+			cachePutEvent.begin();
+			return cachePutEvent;
+		}
+		return null;
+	}
+
+	@Override
+	public void completeCachePutEvent(
+			HibernateMonitoringEvent event,
+			SharedSessionContractImplementor session,
+			CachedDomainDataAccess cacheAccess,
+			boolean cacheContentChanged) {
+		if ( event != null ) {
+			final CachePutEvent cachePutEvent = (CachePutEvent) event;
+			cachePutEvent.end();
+			if ( cachePutEvent.shouldCommit() ) {
+				cachePutEvent.sessionIdentifier = getSessionIdentifier( session );
+				cachePutEvent.regionName = cacheAccess.getRegion().getName();
+				cachePutEvent.cacheContentChanged = cacheContentChanged;
+				cachePutEvent.commit();
+			}
+		}
+	}
+
+	@Override
+	public HibernateMonitoringEvent beginJdbcConnectionAcquisitionEvent() {
+		if ( jdbcConnectionAcquisitionEventType.isEnabled() ) {
+			final JdbcConnectionAcquisitionEvent jdbcConnectionAcquisitionEvent = new JdbcConnectionAcquisitionEvent();
+			jdbcConnectionAcquisitionEvent.begin();
+			return jdbcConnectionAcquisitionEvent;
+		}
+		return null;
+	}
+
+	@Override
+	public void completeJdbcConnectionAcquisitionEvent(
+			HibernateMonitoringEvent event,
+			SharedSessionContractImplementor session) {
+		if ( event != null ) {
+			final JdbcConnectionAcquisitionEvent jdbcConnectionAcquisitionEvent = (JdbcConnectionAcquisitionEvent) event;
+			jdbcConnectionAcquisitionEvent.end();
+			if ( jdbcConnectionAcquisitionEvent.shouldCommit() ) {
+				jdbcConnectionAcquisitionEvent.sessionIdentifier = getSessionIdentifier( session );
+				jdbcConnectionAcquisitionEvent.commit();
+			}
+		}
+	}
+
+	@Override
+	public HibernateMonitoringEvent beginJdbcPreparedStatementCreationEvent() {
+		if ( jdbcPreparedStatementCreationEventType.isEnabled() ) {
+			final JdbcPreparedStatementCreationEvent jdbcPreparedStatementCreationEvent =
+					new JdbcPreparedStatementCreationEvent();
+			jdbcPreparedStatementCreationEvent.begin();
+			return jdbcPreparedStatementCreationEvent;
+		}
+		return null;
+	}
+
+	@Override
+	public void completeJdbcPreparedStatementCreationEvent(
+			HibernateMonitoringEvent event,
+			String sql) {
+		if ( event != null ) {
+			final JdbcPreparedStatementCreationEvent jdbcPreparedStatementCreationEvent = (JdbcPreparedStatementCreationEvent) event;
+			jdbcPreparedStatementCreationEvent.end();
+			if ( jdbcPreparedStatementCreationEvent.shouldCommit() ) {
+				jdbcPreparedStatementCreationEvent.sql = sql;
+				jdbcPreparedStatementCreationEvent.commit();
+			}
+		}
+	}
+
+	@Override
+	public HibernateMonitoringEvent beginJdbcStatementExecutionEvent() {
+		if ( jdbcStatementExecutionEventType.isEnabled() ) {
+			final JdbcStatementExecutionEvent jdbcStatementExecutionEvent = new JdbcStatementExecutionEvent();
+			jdbcStatementExecutionEvent.begin();
+			return jdbcStatementExecutionEvent;
+		}
+		return null;
+	}
+
+	@Override
+	public void completeJdbcStatementExecutionEvent(
+			HibernateMonitoringEvent event,
+			String sql,
+			long rowCount) {
+		if ( event != null ) {
+			final JdbcStatementExecutionEvent jdbcStatementExecutionEvent = (JdbcStatementExecutionEvent) event;
+			jdbcStatementExecutionEvent.end();
+			if ( jdbcStatementExecutionEvent.shouldCommit() ) {
+				jdbcStatementExecutionEvent.sql = sql;
+				jdbcStatementExecutionEvent.rowCount = rowCount;
+				jdbcStatementExecutionEvent.commit();
+			}
+		}
+	}
+
+	/**
+	 * The SQL is the string representation of the statement, as most drivers render it as the SQL.
+	 */
+	@Override
+	public void completeJdbcStatementExecutionEvent(
+			HibernateMonitoringEvent event,
+			Statement statement,
+			long rowCount) {
+		if ( event != null ) {
+			final JdbcStatementExecutionEvent jdbcStatementExecutionEvent = (JdbcStatementExecutionEvent) event;
+			jdbcStatementExecutionEvent.end();
+			if ( jdbcStatementExecutionEvent.shouldCommit() ) {
+				jdbcStatementExecutionEvent.sql = statement.toString();
+				jdbcStatementExecutionEvent.rowCount = rowCount;
+				jdbcStatementExecutionEvent.commit();
+			}
+		}
+	}
+
+	@Override
+	public HibernateMonitoringEvent beginJdbcBatchExecutionEvent() {
+		if ( jdbcBatchExecutionEventType.isEnabled() ) {
+			final JdbcBatchExecutionEvent jdbcBatchExecutionEvent = new JdbcBatchExecutionEvent();
+			jdbcBatchExecutionEvent.begin();
+			return jdbcBatchExecutionEvent;
+		}
+		return null;
+	}
+
+	@Override
+	public void completeJdbcBatchExecutionEvent(
+			HibernateMonitoringEvent event,
+			String sql,
+			int[] rowCounts) {
+		if ( event != null ) {
+			final JdbcBatchExecutionEvent jdbcBatchExecutionEvent = (JdbcBatchExecutionEvent) event;
+			jdbcBatchExecutionEvent.end();
+			if ( jdbcBatchExecutionEvent.shouldCommit() ) {
+				jdbcBatchExecutionEvent.sql = sql;
+				long rowCount = -1;
+				if ( rowCounts != null ) {
+					jdbcBatchExecutionEvent.batchSize = rowCounts.length;
+					rowCount = 0;
+					for ( int count : rowCounts ) {
+						// ignore Statement.SUCCESS_NO_INFO
+						if ( count > 0 ) {
+							rowCount += count;
+						}
+					}
+				}
+				jdbcBatchExecutionEvent.rowCount = rowCount;
+				jdbcBatchExecutionEvent.commit();
+			}
+		}
+	}
+
+	@Override
+	public HibernateMonitoringEvent beginMappingModelCreationPhaseEvent() {
+		if ( mappingModelCreationPhaseEventType.isEnabled() ) {
+			final MappingModelCreationPhaseEvent mappingModelCreationPhaseEvent = new MappingModelCreationPhaseEvent();
+			mappingModelCreationPhaseEvent.begin();
+			return mappingModelCreationPhaseEvent;
+		}
+		return null;
+	}
+
+	@Override
+	public void completeMappingModelCreationPhaseEvent(
+			HibernateMonitoringEvent event,
+			String phase) {
+		if ( event != null ) {
+			final MappingModelCreationPhaseEvent mappingModelCreationPhaseEvent = (MappingModelCreationPhaseEvent) event;
+			mappingModelCreationPhaseEvent.end();
+			if ( mappingModelCreationPhaseEvent.shouldCommit() ) {
+				mappingModelCreationPhaseEvent.phase = phase;
+				mappingModelCreationPhaseEvent.commit();
+			}
+		}
+	}
+
+	private static String getSessionIdentifier(SharedSessionContractImplementor session) {
+		return session == null ? null : session.getSessionIdentifier().toString();
+	}
+}
@@ -0,0 +1,40 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.event.jfr.internal;
+
+import org.hibernate.event.spi.HibernateMonitoringEvent;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Initialization of a proxy or of a collection.
+ */
+@Name( LazyInitializationEvent.NAME )
+@Label( "Lazy Initialization" )
+@Category( JfrEventManager.CATEGORY )
+@Description( "Initialization of a proxy or of a collection." )
+@StackTrace( false )
+public class LazyInitializationEvent extends Event implements HibernateMonitoringEvent {
+	public static final String NAME = "org.hibernate.orm.LazyInitialization";
+
+	@Label( "Session Identifier" )
+	public String sessionIdentifier;
+
+	@Label( "Entity Name Or Collection Role" )
+	public String role;
+
+	@Label( "Identifier" )
+	public String identifier;
+
+	@Label( "Collection" )
+	public boolean collection;
+}
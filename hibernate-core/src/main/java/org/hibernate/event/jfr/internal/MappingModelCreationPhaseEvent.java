@@ -0,0 +1,31 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.event.jfr.internal;
+
+import org.hibernate.event.spi.HibernateMonitoringEvent;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Phase of the creation of the runtime mapping model, when the SessionFactory is built.
+ */
+@Name( MappingModelCreationPhaseEvent.NAME )
+@Label( "Mapping Model Creation Phase" )
+@Category( JfrEventManager.CATEGORY )
+@Description( "Phase of the creation of the runtime mapping model, when the SessionFactory is built." )
+@StackTrace( false )
+public class MappingModelCreationPhaseEvent extends Event implements HibernateMonitoringEvent {
+	public static final String NAME = "org.hibernate.orm.MappingModelCreationPhase";
+
+	@Label( "Phase" )
+	public String phase;
+}
@@ -0,0 +1,31 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.event.jfr.internal;
+
+import org.hibernate.event.spi.HibernateMonitoringEvent;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Closing of a Session.
+ */
+@Name( SessionClosedEvent.NAME )
+@Label( "Session Closed" )
+@Category( JfrEventManager.CATEGORY )
+@Description( "Closing of a Session." )
+@StackTrace( false )
+public class SessionClosedEvent extends Event implements HibernateMonitoringEvent {
+	public static final String NAME = "org.hibernate.orm.SessionClosed";
+
+	@Label( "Session Identifier" )
+	public String sessionIdentifier;
+}
@@ -0,0 +1,16 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+
+/**
+ * Java Flight Recorder events emitted by Hibernate, in the {@value org.hibernate.event.jfr.internal.JfrEventManager#CATEGORY}
+ * category. The events are created through {@link org.hibernate.event.jfr.internal.JfrEventManager}, only when enabled
+ * in a running recording.
+ * <p>
+ * The classes of this package depend on the {@code jdk.jfr} module, and are only loaded when it is available, through
+ * the {@link org.hibernate.event.spi.EventManager} service.
+ */
+package org.hibernate.event.jfr.internal;
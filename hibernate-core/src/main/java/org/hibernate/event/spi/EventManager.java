@@ -0,0 +1,139 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.event.spi;
+
+import java.sql.Statement;
+
+import org.hibernate.Incubating;
+import org.hibernate.cache.spi.access.CachedDomainDataAccess;
+import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+
+/**
+ * Reports monitoring events, such as the Java Flight Recorder events, around the operations
+ * of a session.
+ * <p>
+ * Each {@code begin} method may return {@code null} when the event isn't recorded, and each
+ * {@code complete} method must then ignore the {@code null} event, so that a disabled event
+ * costs as little as possible. The arguments of the {@code complete} methods are the objects
+ * the event data is extracted from, so that nothing is computed unless the event is recorded.
+ * <p>
+ * The implementation is discovered as a Java service. The implementation based on Java Flight
+ * Recorder is only looked up when the {@code jdk.jfr} module is available, and otherwise no
+ * event is reported.
+ *
+ * @since 6.2
+ */
+@Incubating
+public interface EventManager {
+
+	HibernateMonitoringEvent beginSessionOpenEvent();
+
+	void completeSessionOpenEvent(HibernateMonitoringEvent sessionOpenEvent, SharedSessionContractImplementor session);
+
+	HibernateMonitoringEvent beginSessionClosedEvent();
+
+	void completeSessionClosedEvent(
+			HibernateMonitoringEvent sessionClosedEvent,
+			SharedSessionContractImplementor session);
+
+	HibernateMonitoringEvent beginFlushEvent();
+
+	void completeFlushEvent(HibernateMonitoringEvent flushEvent, FlushEvent event, boolean autoFlush);
+
+	HibernateMonitoringEvent beginDirtyCalculationEvent();
+
+	void completeDirtyCalculationEvent(
+			HibernateMonitoringEvent dirtyCalculationEvent,
+			SharedSessionContractImplementor session,
+			EntityEntry entry,
+			int[] dirtyProperties);
+
+	HibernateMonitoringEvent beginLazyInitializationEvent();
+
+	void completeLazyInitializationEvent(
+			HibernateMonitoringEvent lazyInitializationEvent,
+			SharedSessionContractImplementor session,
+			String role,
+			Object identifier,
+			boolean collection);
+
+	HibernateMonitoringEvent beginCacheGetEvent();
+
+	void completeCacheGetEvent(
+			HibernateMonitoringEvent cacheGetEvent,
+			SharedSessionContractImplementor session,
+			CachedDomainDataAccess cacheAccess,
+			boolean hit);
+
+	HibernateMonitoringEvent beginCachePutEvent();
+
+	void completeCachePutEvent(
+			HibernateMonitoringEvent cachePutEvent,
+			SharedSessionContractImplementor session,
+			CachedDomainDataAccess cacheAccess,
+			boolean cacheContentChanged);
+
+	HibernateMonitoringEvent beginJdbcConnectionAcquisitionEvent();
+
+	/**
+	 * Completes the event whether the connection was acquired or not.
+	 */
+	void completeJdbcConnectionAcquisitionEvent(
+			HibernateMonitoringEvent jdbcConnectionAcquisitionEvent,
+			SharedSessionContractImplementor session);
+
+	HibernateMonitoringEvent beginJdbcPreparedStatementCreationEvent();
+
+	void completeJdbcPreparedStatementCreationEvent(
+			HibernateMonitoringEvent jdbcPreparedStatementCreationEvent,
+			String sql);
+
+	HibernateMonitoringEvent beginJdbcStatementExecutionEvent();
+
+	/**
+	 * @param rowCount the number of affected rows, or {@code -1} for a query
+	 */
+	void completeJdbcStatementExecutionEvent(
+			HibernateMonitoringEvent jdbcStatementExecutionEvent,
+			String sql,
+			long rowCount);
+
+	/**
+	 * Completes the event of a statement whose SQL isn't known.
+	 *
+	 * @param rowCount the number of affected rows, or {@code -1} for a query
+	 */
+	void completeJdbcStatementExecutionEvent(
+			HibernateMonitoringEvent jdbcStatementExecutionEvent,
+			Statement statement,
+			long rowCount);
+
+	HibernateMonitoringEvent beginJdbcBatchExecutionEvent();
+
+	/**
+	 * @param rowCounts the row counts returned by the driver, or {@code null} if the execution failed
+	 */
+	void completeJdbcBatchExecutionEvent(
+			HibernateMonitoringEvent jdbcBatchExecutionEvent,
+			String sql,
+			int[] rowCounts);
+
+	/**
+	 * Begins the event of a phase of the creation of the runtime mapping model, which
+	 * happens once, when the {@code SessionFactory} is built, and so outside any session.
+	 */
+	HibernateMonitoringEvent beginMappingModelCreationPhaseEvent();
+
+	/**
+	 * @param phase the name of the phase, as reported by
+	 * {@link org.hibernate.stat.Statistics#getMappingModelCreationTimes()}
+	 */
+	void completeMappingModelCreationPhaseEvent(
+			HibernateMonitoringEvent mappingModelCreationPhaseEvent,
+			String phase);
+}
@@ -20,6 +20,9 @@ public class FlushEntityEvent extends AbstractEvent {
 	private boolean dirtyCheckPossible;
 	private boolean dirtyCheckHandledByInterceptor;
 	private final EntityEntry entityEntry;
+
+	private Object[] precomputedPropertyValues;
+	private int[] precomputedDirtyProperties;
 	
 	public FlushEntityEvent(EventSource source, Object entity, EntityEntry entry) {
 		super(source);
@@ -75,4 +78,27 @@ public class FlushEntityEvent extends AbstractEvent {
 	public Object getEntity() {
 		return entity;
 	}
+
+	/**
+	 * Supply the current property values of the entity, and the result of comparing
+	 * them with the loaded state, when both were already determined ahead of the
+	 * processing of this event, e.g. by parallel dirty checking.
+	 */
+	public void setPrecomputedDirtyCheck(Object[] propertyValues, int[] dirtyProperties) {
+		this.precomputedPropertyValues = propertyValues;
+		this.precomputedDirtyProperties = dirtyProperties;
+	}
+	public boolean hasPrecomputedDirtyCheck() {
+		return precomputedPropertyValues != null;
+	}
+	public Object[] getPrecomputedPropertyValues() {
+		return precomputedPropertyValues;
+	}
+	public int[] getPrecomputedDirtyProperties() {
+		return precomputedDirtyProperties;
+	}
+	public void clearPrecomputedDirtyCheck() {
+		this.precomputedPropertyValues = null;
+		this.precomputedDirtyProperties = null;
+	}
 }
@@ -0,0 +1,18 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.event.spi;
+
+import org.hibernate.Incubating;
+
+/**
+ * An event created by an {@link EventManager}, which is opaque to the code reporting it.
+ *
+ * @since 6.2
+ */
+@Incubating
+public interface HibernateMonitoringEvent {
+}
@@ -0,0 +1,186 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.id.enhanced;
+
+import java.io.Serializable;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.hibernate.HibernateException;
+import org.hibernate.id.IdentifierGeneratorHelper;
+import org.hibernate.id.IntegralDataTypeHolder;
+
+import org.jboss.logging.Logger;
+
+/**
+ * Base for the pooled optimizers which hand out the values of the current
+ * block without locking, so that concurrent inserts do not contend on a
+ * monitor, and which do not pin the carrier of a virtual thread while the
+ * next block is obtained from the database.
+ * <p>
+ * A value is handed out by atomically incrementing the next value of the
+ * current block. Only the threads which find the block exhausted need to
+ * coordinate, using a {@link ReentrantLock}, and only one of them obtains
+ * the next block from the underlying source. Moreover, the thread which is
+ * handed out the middle value of a block obtains the following block ahead
+ * of time, while the other threads go on using the current block. If that
+ * fails, the value is handed out anyway, and the following block is instead
+ * obtained once the current block is exhausted.
+ * <p>
+ * The values are handed out in increasing order by each thread, but not
+ * necessarily across threads.
+ */
+public abstract class AbstractConcurrentPooledOptimizer extends AbstractOptimizer {
+	private static final Logger log = Logger.getLogger( AbstractConcurrentPooledOptimizer.class );
+
+	/**
+	 * Blocks smaller than this are not prefetched
+	 */
+	private static final int MIN_PREFETCH_INCREMENT_SIZE = 4;
+
+	private static final class Block {
+		// the value obtained from the underlying source
+		private final IntegralDataTypeHolder sourceValue;
+		private final AtomicLong nextValue;
+		// exclusive
+		private final long upperLimitValue;
+		// the value whose generation triggers the fetch of the next block
+		private final long prefetchValue;
+
+		private Block(IntegralDataTypeHolder sourceValue, long lowerValue, long upperLimitValue, boolean prefetch) {
+			this.sourceValue = sourceValue;
+			this.nextValue = new AtomicLong( lowerValue );
+			this.upperLimitValue = upperLimitValue;
+			this.prefetchValue = prefetch ? lowerValue + ( upperLimitValue - lowerValue ) / 2 : Long.MIN_VALUE;
+		}
+	}
+
+	private static final class GenerationState {
+		private final ReentrantLock lock = new ReentrantLock();
+		private volatile Block block;
+		// guarded by lock
+		private Block nextBlock;
+	}
+
+	private final GenerationState noTenantState = new GenerationState();
+	private final Map<String, GenerationState> tenantSpecificState = new ConcurrentHashMap<>();
+
+	AbstractConcurrentPooledOptimizer(Class returnClass, int incrementSize) {
+		super( returnClass, incrementSize );
+		if ( incrementSize < 1 ) {
+			throw new HibernateException( "increment size cannot be less than 1" );
+		}
+	}
+
+	/**
+	 * The first value of the block for the given value obtained from the
+	 * underlying source.
+	 *
+	 * @param sourceValue The value obtained from the underlying source
+	 * @param first Whether this is the first value obtained by this optimizer
+	 */
+	protected abstract long lowerValue(long sourceValue, boolean first);
+
+	/**
+	 * The value following the last value of the block for the given value
+	 * obtained from the underlying source.
+	 */
+	protected abstract long upperLimitValue(long sourceValue);
+
+	@Override
+	public Serializable generate(AccessCallback callback) {
+		final GenerationState state = locateGenerationState( callback.getTenantIdentifier() );
+		while ( true ) {
+			final Block block = state.block;
+			if ( block != null ) {
+				final long value = block.nextValue.getAndIncrement();
+				if ( value < block.upperLimitValue ) {
+					if ( value == block.prefetchValue ) {
+						prefetch( state, block, callback );
+					}
+					return IdentifierGeneratorHelper.getIntegralDataTypeHolder( returnClass )
+							.initialize( value )
+							.makeValue();
+				}
+			}
+			refill( state, block, callback );
+		}
+	}
+
+	private void refill(GenerationState state, Block exhaustedBlock, AccessCallback callback) {
+		state.lock.lock();
+		try {
+			// unless another thread already did it
+			if ( state.block == exhaustedBlock ) {
+				if ( state.nextBlock != null ) {
+					state.block = state.nextBlock;
+					state.nextBlock = null;
+				}
+				else {
+					state.block = obtainBlock( callback, exhaustedBlock == null );
+				}
+			}
+		}
+		finally {
+			state.lock.unlock();
+		}
+	}
+
+	private void prefetch(GenerationState state, Block currentBlock, AccessCallback callback) {
+		state.lock.lock();
+		try {
+			if ( state.block == currentBlock && state.nextBlock == null ) {
+				state.nextBlock = obtainBlock( callback, false );
+			}
+		}
+		catch (RuntimeException e) {
+			// the value was already claimed, so don't lose it
+			// over a failure to get ahead: refill() tries again
+			// when the current block is exhausted
+			log.debugf( "Unable to prefetch the next block of identifier values: %s", e.getMessage() );
+		}
+		finally {
+			state.lock.unlock();
+		}
+	}
+
+	private Block obtainBlock(AccessCallback callback, boolean first) {
+		final IntegralDataTypeHolder sourceValue = callback.getNextValue();
+		final long value = IdentifierGeneratorHelper.extractLong( sourceValue );
+		return new Block(
+				sourceValue,
+				lowerValue( value, first ),
+				upperLimitValue( value ),
+				incrementSize >= MIN_PREFETCH_INCREMENT_SIZE
+		);
+	}
+
+	private GenerationState locateGenerationState(String tenantIdentifier) {
+		return tenantIdentifier == null
+				? noTenantState
+				: tenantSpecificState.computeIfAbsent( tenantIdentifier, tenant -> new GenerationState() );
+	}
+
+	@Override
+	public IntegralDataTypeHolder getLastSourceValue() {
+		noTenantState.lock.lock();
+		try {
+			final Block block = noTenantState.nextBlock != null ? noTenantState.nextBlock : noTenantState.block;
+			return block == null ? null : block.sourceValue;
+		}
+		finally {
+			noTenantState.lock.unlock();
+		}
+	}
+
+	@Override
+	public boolean applyIncrementSizeToSourceValues() {
+		return true;
+	}
+}
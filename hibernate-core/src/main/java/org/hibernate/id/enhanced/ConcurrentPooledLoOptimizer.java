@@ -0,0 +1,47 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.id.enhanced;
+
+import org.hibernate.internal.CoreMessageLogger;
+
+import org.jboss.logging.Logger;
+
+/**
+ * Variation of {@link PooledLoOptimizer} which hands out the values of
+ * the current block without locking.
+ *
+ * @see AbstractConcurrentPooledOptimizer
+ * @see StandardOptimizerDescriptor#POOLED_LO_CONCURRENT
+ */
+public class ConcurrentPooledLoOptimizer extends AbstractConcurrentPooledOptimizer {
+	private static final CoreMessageLogger LOG = Logger.getMessageLogger(
+			CoreMessageLogger.class,
+			ConcurrentPooledLoOptimizer.class.getName()
+	);
+
+	/**
+	 * Constructs a ConcurrentPooledLoOptimizer.
+	 *
+	 * @param returnClass The Java type of the values to be generated
+	 * @param incrementSize The increment size.
+	 */
+	public ConcurrentPooledLoOptimizer(Class returnClass, int incrementSize) {
+		super( returnClass, incrementSize );
+		LOG.creatingPooledLoOptimizer( incrementSize, returnClass.getName() );
+	}
+
+	@Override
+	protected long lowerValue(long sourceValue, boolean first) {
+		// handle cases where initial-value is less that one (hsqldb for instance).
+		return Math.max( sourceValue, 1 );
+	}
+
+	@Override
+	protected long upperLimitValue(long sourceValue) {
+		return sourceValue + incrementSize;
+	}
+}
@@ -0,0 +1,72 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.id.enhanced;
+
+import org.hibernate.id.IdentifierGeneratorHelper;
+import org.hibernate.internal.CoreMessageLogger;
+
+import org.jboss.logging.Logger;
+
+/**
+ * Variation of {@link PooledOptimizer} which hands out the values of
+ * the current block without locking.
+ *
+ * @see AbstractConcurrentPooledOptimizer
+ * @see StandardOptimizerDescriptor#POOLED_CONCURRENT
+ */
+public class ConcurrentPooledOptimizer extends AbstractConcurrentPooledOptimizer
+		implements InitialValueAwareOptimizer {
+	private static final CoreMessageLogger log = Logger.getMessageLogger(
+			CoreMessageLogger.class,
+			ConcurrentPooledOptimizer.class.getName()
+	);
+
+	private long initialValue = -1;
+
+	/**
+	 * Constructs a ConcurrentPooledOptimizer
+	 *
+	 * @param returnClass The Java type of the values to be generated
+	 * @param incrementSize The increment size.
+	 */
+	public ConcurrentPooledOptimizer(Class returnClass, int incrementSize) {
+		super( returnClass, incrementSize );
+		if ( log.isTraceEnabled() ) {
+			log.tracev(
+					"Creating concurrent pooled optimizer with [incrementSize={0}; returnClass={1}]",
+					incrementSize,
+					returnClass.getName()
+			);
+		}
+	}
+
+	@Override
+	protected long lowerValue(long hiValue, boolean first) {
+		if ( first ) {
+			if ( hiValue < 1 ) {
+				log.pooledOptimizerReportedInitialValue(
+						IdentifierGeneratorHelper.getIntegralDataTypeHolder( returnClass ).initialize( hiValue )
+				);
+			}
+			// the call to obtain next-value just gave us the initialValue
+			if ( ( initialValue == -1 && hiValue < incrementSize ) || hiValue == initialValue ) {
+				return hiValue;
+			}
+		}
+		return hiValue - ( incrementSize - 1 );
+	}
+
+	@Override
+	protected long upperLimitValue(long hiValue) {
+		return hiValue + 1;
+	}
+
+	@Override
+	public void injectInitialValue(long initialValue) {
+		this.initialValue = initialValue;
+	}
+}
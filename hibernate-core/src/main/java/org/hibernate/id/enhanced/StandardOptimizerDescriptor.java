@@ -43,7 +43,21 @@ public enum StandardOptimizerDescriptor {
 	 * Describes the optimizer for use with tables/sequences that store the chunk information.  Here, specifically the
 	 * lo value is stored in the database and ThreadLocal used to cache the generation state.
 	 */
-	POOLED_LOTL( "pooled-lotl", PooledLoThreadLocalOptimizer.class, true );
+	POOLED_LOTL( "pooled-lotl", PooledLoThreadLocalOptimizer.class, true ),
+	/**
+	 * Describes the optimizer for use with tables/sequences that store the chunk information.  Here, specifically the
+	 * hi value is stored in the database, and the values of the current chunk are generated without locking.
+	 *
+	 * @since 6.2
+	 */
+	POOLED_CONCURRENT( "pooled-concurrent", ConcurrentPooledOptimizer.class, true ),
+	/**
+	 * Describes the optimizer for use with tables/sequences that store the chunk information.  Here, specifically the
+	 * lo value is stored in the database, and the values of the current chunk are generated without locking.
+	 *
+	 * @since 6.2
+	 */
+	POOLED_LO_CONCURRENT( "pooled-lo-concurrent", ConcurrentPooledLoOptimizer.class, true );
 
 	private static final Logger log = Logger.getLogger( StandardOptimizerDescriptor.class );
 
@@ -104,6 +118,12 @@ public enum StandardOptimizerDescriptor {
 		else if ( POOLED_LOTL.externalName.equals( externalName ) ) {
 			return POOLED_LOTL;
 		}
+		else if ( POOLED_CONCURRENT.externalName.equals( externalName ) ) {
+			return POOLED_CONCURRENT;
+		}
+		else if ( POOLED_LO_CONCURRENT.externalName.equals( externalName ) ) {
+			return POOLED_LO_CONCURRENT;
+		}
 		else {
 			log.debugf( "Unknown optimizer key [%s]; returning null assuming Optimizer impl class name", externalName );
 			return null;
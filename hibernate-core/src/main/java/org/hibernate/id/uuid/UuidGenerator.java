@@ -19,7 +19,6 @@ import org.hibernate.generator.BeforeExecutionGenerator;
 import org.hibernate.type.descriptor.java.UUIDJavaType;
 import org.hibernate.type.descriptor.java.UUIDJavaType.ValueTransformer;
 
-import static org.hibernate.annotations.UuidGenerator.Style.TIME;
 import static org.hibernate.generator.EventTypeSets.INSERT_ONLY;
 import static org.hibernate.internal.util.ReflectHelper.getPropertyType;
 
@@ -40,11 +39,15 @@ public class UuidGenerator implements BeforeExecutionGenerator {
 			org.hibernate.annotations.UuidGenerator config,
 			Member idMember,
 			CustomIdGeneratorCreationContext creationContext) {
-		if ( config.style() == TIME ) {
-			generator = new CustomVersionOneStrategy();
-		}
-		else {
-			generator = StandardRandomStrategy.INSTANCE;
+		switch ( config.style() ) {
+			case TIME:
+				generator = new CustomVersionOneStrategy();
+				break;
+			case VERSION_7:
+				generator = UuidVersion7Strategy.INSTANCE;
+				break;
+			default:
+				generator = StandardRandomStrategy.INSTANCE;
 		}
 
 		final Class<?> propertyType = getPropertyType( idMember );
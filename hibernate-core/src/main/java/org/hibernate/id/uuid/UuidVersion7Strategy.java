@@ -0,0 +1,85 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.id.uuid;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.UUIDGenerationStrategy;
+
+/**
+ * Implements the time-ordered version 7 UUID generation strategy defined by IETF RFC 9562.
+ * <p>
+ * The 48 most significant bits hold the number of milliseconds since the Unix epoch, so that
+ * values generated at about the same time are close to each other in an index. The 12 bits
+ * following the version hold a counter, which is initialized with a random value whenever the
+ * timestamp moves forward, and incremented for each value generated within the same millisecond,
+ * as described by method 1 of section 6.2 of the RFC. The remaining 62 bits are random.
+ * <p>
+ * The timestamp and counter are kept per thread, so that no synchronization is needed, and the
+ * values generated by any given thread are strictly increasing, even if the clock moves
+ * backward or the counter overflows, in which case the timestamp is advanced by a millisecond.
+ * Values generated by different threads are ordered by their timestamp only.
+ */
+public class UuidVersion7Strategy implements UUIDGenerationStrategy, UuidGenerator.ValueGenerator {
+	public static final UuidVersion7Strategy INSTANCE = new UuidVersion7Strategy();
+
+	private static final int COUNTER_BITS = 12;
+	private static final int MAX_COUNTER = ( 1 << COUNTER_BITS ) - 1;
+	// the counter is initialized within the lower half of its range,
+	// leaving room for at least 2048 values per millisecond
+	private static final int INITIAL_COUNTER_BOUND = 1 << ( COUNTER_BITS - 1 );
+
+	private static final long VERSION = 7L << COUNTER_BITS;
+	private static final long VARIANT = 0x8000000000000000L;
+	private static final long RANDOM_MASK = 0x3FFFFFFFFFFFFFFFL;
+
+	private static final class State {
+		private long lastTimestamp;
+		private int counter;
+	}
+
+	private static final ThreadLocal<State> STATE = ThreadLocal.withInitial( State::new );
+
+	/**
+	 * A version 7 (time-ordered) strategy
+	 */
+	@Override
+	public int getGeneratedVersion() {
+		return 7;
+	}
+
+	@Override
+	public UUID generateUUID(SharedSessionContractImplementor session) {
+		return generateUuid( session );
+	}
+
+	@Override
+	public UUID generateUuid(SharedSessionContractImplementor session) {
+		final ThreadLocalRandom random = ThreadLocalRandom.current();
+		final State state = STATE.get();
+		final long currentTimestamp = System.currentTimeMillis();
+		if ( currentTimestamp > state.lastTimestamp ) {
+			state.lastTimestamp = currentTimestamp;
+			state.counter = random.nextInt( INITIAL_COUNTER_BOUND );
+		}
+		else if ( state.counter < MAX_COUNTER ) {
+			// same millisecond, or the clock moved backward
+			state.counter++;
+		}
+		else {
+			// the counter overflowed, borrow from the next millisecond
+			state.lastTimestamp++;
+			state.counter = random.nextInt( INITIAL_COUNTER_BOUND );
+		}
+
+		final long mostSignificantBits = ( state.lastTimestamp << 16 ) | VERSION | state.counter;
+		final long leastSignificantBits = VARIANT | ( random.nextLong() & RANDOM_MASK );
+		return new UUID( mostSignificantBits, leastSignificantBits );
+	}
+}
@@ -6,8 +6,16 @@
  */
 package org.hibernate.internal;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.hibernate.HibernateException;
+import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.engine.spi.PersistenceContext;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.event.internal.EvictVisitor;
+import org.hibernate.event.spi.EventSource;
+import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.query.spi.ScrollableResultsImplementor;
 import org.hibernate.sql.results.jdbc.internal.JdbcValuesSourceProcessingStateStandardImpl;
 import org.hibernate.sql.results.internal.RowProcessingStateStandardImpl;
@@ -18,6 +26,11 @@ import org.hibernate.sql.results.spi.RowReader;
 /**
  * Base implementation of the ScrollableResults interface intended for sharing between
  * {@link ScrollableResultsImpl} and {@link FetchingScrollableResultsImpl}
+ * <p>
+ * When a {@linkplain org.hibernate.jpa.HibernateHints#HINT_STREAM_WINDOW_SIZE stream
+ * window size} is given, the entities loaded by the rows of a window are evicted
+ * from the persistence context of a stateful session once the rows of the following
+ * window have been read, so that at most two windows of entities are ever managed.
  *
  * @author Steve Ebersole
  */
@@ -29,6 +42,11 @@ public abstract class AbstractScrollableResults<R> implements ScrollableResultsI
 	private final RowReader<R> rowReader;
 	private final SharedSessionContractImplementor persistenceContext;
 
+	private final int streamWindowSize;
+	private List<EntityKey> currentWindow;
+	private List<EntityKey> previousWindow;
+	private int currentWindowRows;
+
 	private boolean closed;
 
 	public AbstractScrollableResults(
@@ -44,6 +62,17 @@ public abstract class AbstractScrollableResults<R> implements ScrollableResultsI
 		this.rowProcessingState = rowProcessingState;
 		this.rowReader = rowReader;
 		this.persistenceContext = persistenceContext;
+
+		final Integer windowSize = jdbcValuesSourceProcessingState.getQueryOptions().getStreamWindowSize();
+		if ( windowSize != null && windowSize > 0 && persistenceContext.isEventSource() ) {
+			// a stateless session already clears its temporary persistence context after each row
+			this.streamWindowSize = windowSize;
+			this.currentWindow = new ArrayList<>();
+			jdbcValuesSourceProcessingState.setLoadedEntityListener( entityKey -> currentWindow.add( entityKey ) );
+		}
+		else {
+			this.streamWindowSize = 0;
+		}
 	}
 
 
@@ -83,6 +112,41 @@ public abstract class AbstractScrollableResults<R> implements ScrollableResultsI
 
 	protected void afterScrollOperation() {
 		getPersistenceContext().afterScrollOperation();
+		if ( streamWindowSize > 0 && ++currentWindowRows >= streamWindowSize ) {
+			// the entities of the current window may still be referenced by the current row
+			if ( previousWindow != null ) {
+				evict( previousWindow );
+			}
+			previousWindow = currentWindow;
+			currentWindow = new ArrayList<>( previousWindow.size() );
+			currentWindowRows = 0;
+		}
+	}
+
+	/**
+	 * Evicts exactly the given entities, which were all loaded by this query.
+	 * Unlike {@link org.hibernate.Session#evict(Object)} this does not cascade,
+	 * since the associated entities might have been managed before the query
+	 * ran, in which case they must stay managed.
+	 */
+	private void evict(List<EntityKey> entityKeys) {
+		final EventSource session = persistenceContext.asEventSource();
+		final PersistenceContext context = persistenceContext.getPersistenceContextInternal();
+		for ( EntityKey entityKey : entityKeys ) {
+			final Object entity = context.getEntity( entityKey );
+			// the entity might have been evicted or removed by the application
+			if ( entity != null ) {
+				final EntityPersister persister = entityKey.getPersister();
+				if ( persister.hasNaturalIdentifier() ) {
+					context.getNaturalIdResolutions().handleEviction( entity, entityKey.getIdentifier(), persister );
+				}
+				if ( persister.hasCollections() ) {
+					new EvictVisitor( session, entity ).process( entity, persister );
+				}
+				context.removeEntity( entityKey );
+				context.removeEntry( entity );
+			}
+		}
 	}
 
 	@Override
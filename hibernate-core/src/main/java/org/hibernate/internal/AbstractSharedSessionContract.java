@@ -40,6 +40,7 @@ import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.engine.transaction.internal.TransactionImpl;
 import org.hibernate.engine.transaction.spi.TransactionImplementor;
+import org.hibernate.event.spi.EventManager;
 import org.hibernate.id.uuid.StandardRandomStrategy;
 import org.hibernate.internal.util.StringHelper;
 import org.hibernate.jdbc.ReturningWork;
@@ -299,6 +300,11 @@ public abstract class AbstractSharedSessionContract implements SharedSessionCont
 		return transactionCoordinator;
 	}
 
+	@Override
+	public EventManager getEventManager() {
+		return fastSessionServices.eventManager;
+	}
+
 	@Override
 	public JdbcSessionContext getJdbcSessionContext() {
 		return this.jdbcSessionContext;
@@ -9,6 +9,8 @@ package org.hibernate.internal;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Supplier;
 
 import org.hibernate.HibernateException;
 import org.hibernate.SessionEventListener;
@@ -23,6 +25,8 @@ public class BaselineSessionEventsListenerBuilder {
 
 	private final boolean logSessionMetrics;
 	private final Class<? extends SessionEventListener> autoListener;
+	private final CopyOnWriteArrayList<Supplier<? extends SessionEventListener>> listenerFactories =
+			new CopyOnWriteArrayList<>();
 
 	public BaselineSessionEventsListenerBuilder(
 			boolean logSessionMetrics,
@@ -41,6 +45,24 @@ public class BaselineSessionEventsListenerBuilder {
 		return autoListener;
 	}
 
+	/**
+	 * Registers a factory of listeners to be applied to all sessions created from now on, in addition
+	 * to the {@linkplain #getAutoListener() auto listener}. The factory is called for each new session,
+	 * and may return {@code null} to not apply any listener to the session. A factory which is
+	 * {@linkplain Object#equals equal} to a factory already registered is ignored.
+	 *
+	 * @return a handle which removes the factory, if it was registered, so that it isn't applied to the
+	 * sessions created afterward
+	 *
+	 * @since 6.2
+	 */
+	public Runnable addListenerFactory(Supplier<? extends SessionEventListener> listenerFactory) {
+		if ( listenerFactories.addIfAbsent( listenerFactory ) ) {
+			return () -> listenerFactories.remove( listenerFactory );
+		}
+		return () -> {};
+	}
+
 	public List<SessionEventListener> buildBaselineList() {
 		final SessionEventListener[] sessionEventListeners = buildBaseline();
 		//Capacity: needs to hold at least all elements from the baseline, but also expect to add a little more later.
@@ -69,7 +91,19 @@ public class BaselineSessionEventsListenerBuilder {
 		else {//if ( !addStats && !addAutoListener )
 			arr = EMPTY;
 		}
-		return arr;
+		return listenerFactories.isEmpty() ? arr : addFactoryListeners( arr );
+	}
+
+	private SessionEventListener[] addFactoryListeners(SessionEventListener[] listeners) {
+		final List<SessionEventListener> list = new ArrayList<>( listeners.length + listenerFactories.size() );
+		Collections.addAll( list, listeners );
+		for ( Supplier<? extends SessionEventListener> listenerFactory : listenerFactories ) {
+			final SessionEventListener listener = listenerFactory.get();
+			if ( listener != null ) {
+				list.add( listener );
+			}
+		}
+		return list.toArray( EMPTY );
 	}
 
 	private static SessionEventListener buildAutoListener(final Class<? extends SessionEventListener> autoListener) {
@@ -8,8 +8,10 @@ package org.hibernate.internal;
 
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
 
 import org.hibernate.CacheMode;
 import org.hibernate.FlushMode;
@@ -24,6 +26,7 @@ import org.hibernate.engine.jdbc.batch.spi.BatchBuilder;
 import org.hibernate.engine.jdbc.connections.spi.ConnectionProvider;
 import org.hibernate.engine.jdbc.connections.spi.MultiTenantConnectionProvider;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
+import org.hibernate.event.internal.EmptyEventManager;
 import org.hibernate.event.service.spi.EventListenerGroup;
 import org.hibernate.event.service.spi.EventListenerRegistry;
 import org.hibernate.event.spi.AutoFlushEventListener;
@@ -31,6 +34,7 @@ import org.hibernate.event.spi.ClearEventListener;
 import org.hibernate.event.spi.DeleteEventListener;
 import org.hibernate.event.spi.DirtyCheckEventListener;
 import org.hibernate.event.spi.EntityCopyObserverFactory;
+import org.hibernate.event.spi.EventManager;
 import org.hibernate.event.spi.EventType;
 import org.hibernate.event.spi.EvictEventListener;
 import org.hibernate.event.spi.FlushEntityEventListener;
@@ -170,6 +174,8 @@ public final class FastSessionServices {
 	public final EntityCopyObserverFactory entityCopyObserverFactory;
 	public final BatchBuilder batchBuilder;
 	public final Dialect dialect;
+	public final ForkJoinPool parallelDirtyCheckPool;
+	public final EventManager eventManager;
 
 	//Private fields:
 	private final CacheStoreMode defaultCacheStoreMode;
@@ -254,6 +260,35 @@ public final class FastSessionServices {
 		this.jsonFormatMapper = sessionFactoryOptions.getJsonFormatMapper();
 		this.xmlFormatMapper = sessionFactoryOptions.getXmlFormatMapper();
 		this.batchBuilder = sr.getService( BatchBuilder.class );
+		this.parallelDirtyCheckPool = sf.getParallelDirtyCheckPool();
+		this.eventManager = resolveEventManager( classLoaderService );
+	}
+
+	/**
+	 * Resolve the {@link EventManager}, which is also needed before the
+	 * {@code FastSessionServices} exist, while the mapping model is created.
+	 */
+	public static EventManager resolveEventManager(ClassLoaderService classLoaderService) {
+		// the Java Flight Recorder implementation is registered as a Java service,
+		// but can't even be instantiated when the jdk.jfr module isn't available
+		if ( isJfrAvailable() ) {
+			final Iterator<EventManager> eventManagers =
+					classLoaderService.loadJavaServices( EventManager.class ).iterator();
+			if ( eventManagers.hasNext() ) {
+				return eventManagers.next();
+			}
+		}
+		return EmptyEventManager.INSTANCE;
+	}
+
+	private static boolean isJfrAvailable() {
+		try {
+			Class.forName( "jdk.jfr.Event", false, FastSessionServices.class.getClassLoader() );
+			return true;
+		}
+		catch (ClassNotFoundException | LinkageError e) {
+			return false;
+		}
 	}
 
 	private static FlushMode initializeDefaultFlushMode(Map<String, Object> defaultSessionProperties) {
@@ -10,6 +10,7 @@ import java.sql.Connection;
 
 import org.hibernate.engine.spi.SessionEventListenerManager;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.event.spi.HibernateMonitoringEvent;
 import org.hibernate.resource.jdbc.spi.JdbcObserver;
 
 /**
@@ -20,6 +21,7 @@ public final class JdbcObserverImpl implements JdbcObserver {
 	private final ConnectionObserverStatsBridge observer;
 	private final SessionEventListenerManager eventListenerManager;
 	private final SharedSessionContractImplementor session;
+	private HibernateMonitoringEvent jdbcConnectionAcquisitionEvent;
 
 	public JdbcObserverImpl(SharedSessionContractImplementor session, FastSessionServices fastSessionServices) {
 		this.session = session;
@@ -29,10 +31,18 @@ public final class JdbcObserverImpl implements JdbcObserver {
 
 	@Override
 	public void jdbcConnectionAcquisitionStart() {
+		jdbcConnectionAcquisitionEvent = session.getEventManager().beginJdbcConnectionAcquisitionEvent();
 	}
 
 	@Override
 	public void jdbcConnectionAcquisitionEnd(Connection connection) {
+		// also called when the acquisition failed, in which case the event is completed as well
+		try {
+			session.getEventManager().completeJdbcConnectionAcquisitionEvent( jdbcConnectionAcquisitionEvent, session );
+		}
+		finally {
+			jdbcConnectionAcquisitionEvent = null;
+		}
 		observer.physicalConnectionObtained( connection );
 	}
 
@@ -21,6 +21,8 @@ import java.util.Map;
 import java.util.Set;
 import java.util.TimeZone;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
 import java.util.function.Supplier;
 import javax.naming.Reference;
 import javax.naming.StringRefAddr;
@@ -184,6 +186,7 @@ public class SessionFactoryImpl implements SessionFactoryImplementor {
 	private final transient Map<String, FilterDefinition> filters;
 	private final transient Map<String, FetchProfile> fetchProfiles;
 
+	private final transient ForkJoinPool parallelDirtyCheckPool;
 	private final transient FastSessionServices fastSessionServices;
 	private final transient WrapperOptions wrapperOptions;
 	private final transient SessionBuilderImpl defaultSessionOpenOptions;
@@ -381,6 +384,7 @@ public class SessionFactoryImpl implements SessionFactoryImplementor {
 			this.defaultSessionOpenOptions = createDefaultSessionOpenOptionsIfPossible();
 			this.temporarySessionOpenOptions = this.defaultSessionOpenOptions == null ? null : buildTemporarySessionOpenOptions();
 			this.defaultStatelessOptions = this.defaultSessionOpenOptions == null ? null : withStatelessOptions();
+			this.parallelDirtyCheckPool = createParallelDirtyCheckPool( sessionFactoryOptions );
 			this.fastSessionServices = new FastSessionServices( this );
 			this.wrapperOptions = new SessionFactoryBasedWrapperOptions( this );
 
@@ -783,6 +787,10 @@ public class SessionFactoryImpl implements SessionFactoryImplementor {
 				cacheAccess.close();
 			}
 
+			if ( parallelDirtyCheckPool != null ) {
+				parallelDirtyCheckPool.shutdown();
+			}
+
 			if ( runtimeMetamodels != null && runtimeMetamodels.getMappingMetamodel() != null ) {
 				final JdbcConnectionAccess jdbcConnectionAccess = jdbcServices.getBootstrapJdbcConnectionAccess();
 				runtimeMetamodels.getMappingMetamodel().forEachEntityDescriptor(
@@ -1578,6 +1586,31 @@ public class SessionFactoryImpl implements SessionFactoryImplementor {
 		return this.fastSessionServices;
 	}
 
+	/**
+	 * The pool used for parallel dirty checking, or {@code null} if it is disabled.
+	 */
+	ForkJoinPool getParallelDirtyCheckPool() {
+		return parallelDirtyCheckPool;
+	}
+
+	private static ForkJoinPool createParallelDirtyCheckPool(SessionFactoryOptions options) {
+		if ( options.getParallelDirtyCheckThreshold() <= 0 ) {
+			return null;
+		}
+		// a pool of our own, so that flushes neither compete with
+		// the application for the common pool nor starve it
+		return new ForkJoinPool(
+				Math.max( 1, options.getParallelDirtyCheckParallelism() ),
+				pool -> {
+					final ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread( pool );
+					thread.setName( "Hibernate Dirty Check Thread " + thread.getPoolIndex() );
+					return thread;
+				},
+				null,
+				false
+		);
+	}
+
 	@Override
 	public WrapperOptions getWrapperOptions() {
 		return wrapperOptions;
@@ -86,6 +86,7 @@ import org.hibernate.event.spi.EvictEvent;
 import org.hibernate.event.spi.EvictEventListener;
 import org.hibernate.event.spi.FlushEvent;
 import org.hibernate.event.spi.FlushEventListener;
+import org.hibernate.event.spi.HibernateMonitoringEvent;
 import org.hibernate.event.spi.InitializeCollectionEvent;
 import org.hibernate.event.spi.InitializeCollectionEventListener;
 import org.hibernate.event.spi.LoadEvent;
@@ -215,6 +216,8 @@ public class SessionImpl
 	public SessionImpl(SessionFactoryImpl factory, SessionCreationOptions options) {
 		super( factory, options );
 
+		final HibernateMonitoringEvent sessionOpenEvent = getEventManager().beginSessionOpenEvent();
+
 		this.persistenceContext = createPersistenceContext();
 		this.actionQueue = createActionQueue();
 
@@ -279,6 +282,8 @@ public class SessionImpl
 		if ( log.isTraceEnabled() ) {
 			log.tracef( "Opened Session [%s] at timestamp: %s", getSessionIdentifier(), System.currentTimeMillis() );
 		}
+
+		getEventManager().completeSessionOpenEvent( sessionOpenEvent, this );
 	}
 
 	protected StatefulPersistenceContext createPersistenceContext() {
@@ -396,6 +401,8 @@ public class SessionImpl
 			log.tracef( "Closing session [%s]", getSessionIdentifier() );
 		}
 
+		final HibernateMonitoringEvent sessionClosedEvent = getEventManager().beginSessionClosedEvent();
+
 		// todo : we want this check if usage is JPA, but not native Hibernate usage
 		final SessionFactoryImplementor sessionFactory = getSessionFactory();
 		if ( sessionFactory.getSessionFactoryOptions().isJpaBootstrap() ) {
@@ -418,6 +425,8 @@ public class SessionImpl
 		if ( statistics.isStatisticsEnabled() ) {
 			statistics.closeSession();
 		}
+
+		getEventManager().completeSessionClosedEvent( sessionClosedEvent, this );
 	}
 
 	private boolean isTransactionInProgressAndNotMarkedForRollback() {
@@ -1031,12 +1040,14 @@ public class SessionImpl
 					.getEntityDescriptor( entityName );
 			log.debugf( "Initializing proxy: %s", MessageHelper.infoString( persister, id, getFactory() ) );
 		}
+		final HibernateMonitoringEvent lazyInitializationEvent = getEventManager().beginLazyInitializationEvent();
 		LoadEvent event = loadEvent;
 		loadEvent = null;
 		event = recycleEventInstance( event, id, entityName );
 		fireLoadNoChecks( event, LoadEventListener.IMMEDIATE_LOAD );
 		Object result = event.getResult();
 		finishWithEventInstance( event );
+		getEventManager().completeLazyInitializationEvent( lazyInitializationEvent, this, entityName, id, false );
 		final LazyInitializer lazyInitializer = HibernateProxy.extractLazyInitializer( result );
 		if ( lazyInitializer != null ) {
 			return lazyInitializer.getImplementation();
@@ -1686,9 +1697,17 @@ public class SessionImpl
 	public void initializeCollection(PersistentCollection<?> collection, boolean writing) {
 		checkOpenOrWaitingForAutoClose();
 		pulseTransactionCoordinator();
+		final HibernateMonitoringEvent lazyInitializationEvent = getEventManager().beginLazyInitializationEvent();
 		InitializeCollectionEvent event = new InitializeCollectionEvent( collection, this );
 		fastSessionServices.eventListenerGroup_INIT_COLLECTION
 				.fireEventOnEachListener( event, InitializeCollectionEventListener::onInitializeCollection );
+		getEventManager().completeLazyInitializationEvent(
+				lazyInitializationEvent,
+				this,
+				collection.getRole(),
+				collection.getKey(),
+				true
+		);
 		delayedAfterCompletion();
 	}
 
@@ -6,7 +6,10 @@
  */
 package org.hibernate.internal;
 
+import java.util.Iterator;
+import java.util.List;
 import java.util.Set;
+import java.util.function.Consumer;
 
 import org.hibernate.CacheMode;
 import org.hibernate.FlushMode;
@@ -14,12 +17,14 @@ import org.hibernate.HibernateException;
 import org.hibernate.LockMode;
 import org.hibernate.SessionException;
 import org.hibernate.StatelessSession;
+import org.hibernate.TransientObjectException;
 import org.hibernate.UnresolvableObjectException;
 import org.hibernate.bytecode.enhance.spi.interceptor.EnhancementAsProxyLazinessInterceptor;
 import org.hibernate.bytecode.spi.BytecodeEnhancementMetadata;
 import org.hibernate.cache.spi.access.EntityDataAccess;
 import org.hibernate.collection.spi.PersistentCollection;
 import org.hibernate.engine.internal.StatefulPersistenceContext;
+import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
 import org.hibernate.engine.spi.EntityKey;
 import org.hibernate.engine.spi.LoadQueryInfluencers;
 import org.hibernate.engine.spi.PersistenceContext;
@@ -117,6 +122,43 @@ public class StatelessSessionImpl extends AbstractSharedSessionContract implemen
 		return id;
 	}
 
+	@Override
+	public long bulkInsert(Iterator<?> entities, int chunkSize) {
+		checkOpen();
+		if ( chunkSize < 1 ) {
+			throw new IllegalArgumentException( "Chunk size must be positive: " + chunkSize );
+		}
+
+		final JdbcCoordinator jdbcCoordinator = getJdbcCoordinator();
+		final Integer jdbcBatchSize = getJdbcBatchSize();
+		setJdbcBatchSize( chunkSize );
+		jdbcCoordinator.setBulkInsert( true );
+		try {
+			long count = 0;
+			while ( entities.hasNext() ) {
+				// the batch writes the rows of each full chunk before
+				// we obtain the next entity from the iterator
+				insert( entities.next() );
+				count++;
+			}
+			jdbcCoordinator.executeBatch();
+			return count;
+		}
+		catch (RuntimeException e) {
+			jdbcCoordinator.abortBatch();
+			throw e;
+		}
+		finally {
+			jdbcCoordinator.setBulkInsert( false );
+			setJdbcBatchSize( jdbcBatchSize );
+		}
+	}
+
+	@Override
+	public void insertMultiple(List<?> entities) {
+		executeBatched( entities, entity -> insert( null, entity ) );
+	}
+
 
 	// deletes ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 
@@ -163,6 +205,95 @@ public class StatelessSessionImpl extends AbstractSharedSessionContract implemen
 		persister.update( id, state, null, false, null, oldVersion, entity, null, this );
 	}
 
+	@Override
+	public void updateMultiple(List<?> entities) {
+		executeBatched( entities, entity -> update( null, entity ) );
+	}
+
+
+	// upserts ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+	@Override
+	public void upsert(Object entity) {
+		checkOpen();
+		upsert( null, entity );
+	}
+
+	@Override
+	public void upsert(String entityName, Object entity) {
+		checkOpen();
+		final EntityPersister persister = getEntityPersister( entityName, entity );
+		if ( !persister.canMerge() ) {
+			throw new UnsupportedOperationException( "Upsert is not supported for entity: " + persister.getEntityName() );
+		}
+		final Object id = persister.getIdentifier( entity, this );
+		if ( id == null ) {
+			throw new TransientObjectException(
+					"Entity with null identifier cannot be upserted: " + persister.getEntityName()
+			);
+		}
+		final Object[] state = persister.getValues( entity );
+		final Object oldVersion;
+		if ( persister.isVersioned() ) {
+			oldVersion = persister.getVersion( entity );
+			if ( oldVersion == null ) {
+				if ( seedVersion( entity, state, persister, this ) ) {
+					persister.setValues( entity, state );
+				}
+			}
+			else {
+				final Object newVersion = incrementVersion( entity, oldVersion, persister, this );
+				setVersion( state, newVersion, persister );
+				persister.setValues( entity, state );
+			}
+		}
+		else {
+			oldVersion = null;
+		}
+		persister.merge( id, state, oldVersion, entity, this );
+	}
+
+	@Override
+	public void upsertMultiple(List<?> entities) {
+		executeBatched( entities, entity -> upsert( null, entity ) );
+	}
+
+	/**
+	 * Apply the given operation to each entity, grouping the resulting
+	 * statements into JDBC batches of the configured size, and then execute
+	 * the last batch. If JDBC batching is disabled, each statement is executed
+	 * right away.
+	 */
+	private void executeBatched(List<?> entities, Consumer<Object> operation) {
+		checkOpen();
+		final Integer configuredJdbcBatchSize = getConfiguredJdbcBatchSize();
+		if ( configuredJdbcBatchSize == null || configuredJdbcBatchSize < 2 ) {
+			for ( Object entity : entities ) {
+				operation.accept( entity );
+			}
+			return;
+		}
+
+		final JdbcCoordinator jdbcCoordinator = getJdbcCoordinator();
+		final Integer jdbcBatchSize = getJdbcBatchSize();
+		// set the batch size on the session, since the mutation executors
+		// otherwise ignore the dialect default
+		setJdbcBatchSize( configuredJdbcBatchSize );
+		try {
+			for ( Object entity : entities ) {
+				operation.accept( entity );
+			}
+			jdbcCoordinator.executeBatch();
+		}
+		catch (RuntimeException e) {
+			jdbcCoordinator.abortBatch();
+			throw e;
+		}
+		finally {
+			setJdbcBatchSize( jdbcBatchSize );
+		}
+	}
+
 
 	// loading ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 
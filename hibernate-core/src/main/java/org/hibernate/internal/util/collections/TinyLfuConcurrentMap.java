@@ -0,0 +1,686 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.internal.util.collections;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiConsumer;
+
+/**
+ * A bounded {@link ConcurrentMap} which evicts entries following the W-TinyLFU policy
+ * described in <a href="https://arxiv.org/abs/1512.00727">TinyLFU: A Highly Efficient
+ * Cache Admission Policy</a>, as popularized by Caffeine.
+ * <p>
+ * The entries live in a {@link ConcurrentHashMap}, so that retrievals never block. Instead of
+ * updating the eviction policy on every read, reads are recorded in lossy, striped buffers,
+ * which are drained by whichever thread manages to acquire the eviction lock once a buffer
+ * fills up. Writes, which are expected to be comparatively rare for the caches this is meant
+ * for, update the policy right away.
+ * <p>
+ * The policy keeps a small LRU "window" for new entries, and a main space split into a
+ * "probation" and a "protected" LRU segment. Entries overflowing the window are only admitted
+ * into the main space if they were accessed more frequently than the entry they would replace,
+ * as estimated by a count-min sketch of the access frequencies of recently used keys.
+ * <p>
+ * Like for {@link BoundedConcurrentHashMap}, {@code null} keys and values are not supported,
+ * and the maximum size may be exceeded briefly while concurrent writes are in progress.
+ *
+ * @param <K> the type of keys maintained by this map
+ * @param <V> the type of mapped values
+ *
+ * @since 6.2
+ */
+public final class TinyLfuConcurrentMap<K, V> extends AbstractMap<K, V> implements ConcurrentMap<K, V> {
+
+	private static final int READ_BUFFER_SIZE = 16;
+	private static final int READ_BUFFER_STRIPES = ceilingPowerOfTwo(
+			Math.min( 4 * Runtime.getRuntime().availableProcessors(), 64 )
+	);
+
+	private static final byte UNLINKED = 0;
+	private static final byte WINDOW = 1;
+	private static final byte PROBATION = 2;
+	private static final byte PROTECTED = 3;
+
+	private final ConcurrentHashMap<K, Node<K, V>> data;
+	private final BiConsumer<? super K, ? super V> evictionListener;
+
+	private final ReadBuffer<K, V>[] readBuffers;
+
+	// the state below is guarded by the eviction lock
+	private final ReentrantLock evictionLock = new ReentrantLock();
+	private final int maximumSize;
+	private final int windowMaximumSize;
+	private final int protectedMaximumSize;
+	private final AccessOrderQueue<K, V> window = new AccessOrderQueue<>();
+	private final AccessOrderQueue<K, V> probation = new AccessOrderQueue<>();
+	private final AccessOrderQueue<K, V> protectedQueue = new AccessOrderQueue<>();
+	private final FrequencySketch sketch;
+
+	private Set<Entry<K, V>> entrySet;
+
+	/**
+	 * Creates a new map holding at most the given number of entries.
+	 *
+	 * @param maximumSize the maximum number of entries
+	 */
+	public TinyLfuConcurrentMap(int maximumSize) {
+		this( maximumSize, null );
+	}
+
+	/**
+	 * Creates a new map holding at most the given number of entries.
+	 *
+	 * @param maximumSize the maximum number of entries
+	 * @param evictionListener notified, while the eviction lock is held, of every entry evicted
+	 * because the map is full (but not of entries which are explicitly removed or replaced)
+	 */
+	@SuppressWarnings("unchecked")
+	public TinyLfuConcurrentMap(int maximumSize, BiConsumer<? super K, ? super V> evictionListener) {
+		if ( maximumSize <= 0 ) {
+			throw new IllegalArgumentException( "Maximum size must be positive: " + maximumSize );
+		}
+		this.maximumSize = maximumSize;
+		this.windowMaximumSize = Math.max( 1, maximumSize / 100 );
+		this.protectedMaximumSize = ( maximumSize - windowMaximumSize ) * 4 / 5;
+		this.evictionListener = evictionListener;
+		this.data = new ConcurrentHashMap<>( Math.min( maximumSize, 1024 ) );
+		this.sketch = new FrequencySketch( maximumSize );
+		this.readBuffers = new ReadBuffer[READ_BUFFER_STRIPES];
+		for ( int i = 0; i < READ_BUFFER_STRIPES; i++ ) {
+			readBuffers[i] = new ReadBuffer<>();
+		}
+	}
+
+	@Override
+	public V get(Object key) {
+		final Node<K, V> node = data.get( key );
+		if ( node == null ) {
+			return null;
+		}
+		else {
+			afterRead( node );
+			return node.value;
+		}
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		return data.containsKey( key );
+	}
+
+	@Override
+	public int size() {
+		return data.size();
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return data.isEmpty();
+	}
+
+	@Override
+	public V put(K key, V value) {
+		final Node<K, V> node = new Node<>( key, value );
+		final Node<K, V> prior = data.put( key, node );
+		afterWrite( node, prior );
+		return prior == null ? null : prior.value;
+	}
+
+	@Override
+	public V putIfAbsent(K key, V value) {
+		final Node<K, V> node = new Node<>( key, value );
+		final Node<K, V> prior = data.putIfAbsent( key, node );
+		if ( prior == null ) {
+			afterWrite( node, null );
+			return null;
+		}
+		else {
+			afterRead( prior );
+			return prior.value;
+		}
+	}
+
+	@Override
+	public V remove(Object key) {
+		final Node<K, V> prior = data.remove( key );
+		if ( prior == null ) {
+			return null;
+		}
+		else {
+			afterWrite( null, prior );
+			return prior.value;
+		}
+	}
+
+	@Override
+	public boolean remove(Object key, Object value) {
+		final Node<K, V> node = data.get( key );
+		if ( node != null && Objects.equals( node.value, value ) && data.remove( key, node ) ) {
+			afterWrite( null, node );
+			return true;
+		}
+		else {
+			return false;
+		}
+	}
+
+	@Override
+	public boolean replace(K key, V oldValue, V newValue) {
+		final Node<K, V> node = data.get( key );
+		if ( node != null && Objects.equals( node.value, oldValue ) ) {
+			final Node<K, V> replacement = new Node<>( key, newValue );
+			if ( data.replace( key, node, replacement ) ) {
+				afterWrite( replacement, node );
+				return true;
+			}
+		}
+		return false;
+	}
+
+	@Override
+	public V replace(K key, V value) {
+		while ( true ) {
+			final Node<K, V> node = data.get( key );
+			if ( node == null ) {
+				return null;
+			}
+			final Node<K, V> replacement = new Node<>( key, value );
+			if ( data.replace( key, node, replacement ) ) {
+				afterWrite( replacement, node );
+				return node.value;
+			}
+		}
+	}
+
+	@Override
+	public void clear() {
+		evictionLock.lock();
+		try {
+			data.clear();
+			for ( ReadBuffer<K, V> readBuffer : readBuffers ) {
+				readBuffer.drainTo( null );
+			}
+			window.clear();
+			probation.clear();
+			protectedQueue.clear();
+		}
+		finally {
+			evictionLock.unlock();
+		}
+	}
+
+	@Override
+	public Set<Entry<K, V>> entrySet() {
+		if ( entrySet == null ) {
+			entrySet = new EntrySet();
+		}
+		return entrySet;
+	}
+
+	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// Maintenance of the eviction policy
+
+	private void afterRead(Node<K, V> node) {
+		final ReadBuffer<K, V> readBuffer = readBuffers[ (int) Thread.currentThread().getId() & ( READ_BUFFER_STRIPES - 1 ) ];
+		// reads are only recorded on a best effort basis, and nobody waits for the lock
+		if ( !readBuffer.offer( node ) && evictionLock.tryLock() ) {
+			try {
+				drainReadBuffers();
+			}
+			finally {
+				evictionLock.unlock();
+			}
+		}
+	}
+
+	private void afterWrite(Node<K, V> node, Node<K, V> prior) {
+		evictionLock.lock();
+		try {
+			drainReadBuffers();
+			if ( prior != null ) {
+				unlink( prior );
+			}
+			// the node might already have been removed or replaced by a concurrent write
+			if ( node != null && data.get( node.key ) == node ) {
+				sketch.increment( node.key );
+				node.queue = WINDOW;
+				window.linkLast( node );
+				evictEntries();
+			}
+		}
+		finally {
+			evictionLock.unlock();
+		}
+	}
+
+	private void drainReadBuffers() {
+		for ( ReadBuffer<K, V> readBuffer : readBuffers ) {
+			readBuffer.drainTo( this );
+		}
+	}
+
+	private void onAccess(Node<K, V> node) {
+		switch ( node.queue ) {
+			case WINDOW:
+				sketch.increment( node.key );
+				window.moveToBack( node );
+				break;
+			case PROBATION:
+				sketch.increment( node.key );
+				probation.unlink( node );
+				node.queue = PROTECTED;
+				protectedQueue.linkLast( node );
+				// demote the least recently used protected entries
+				while ( protectedQueue.size > protectedMaximumSize ) {
+					final Node<K, V> demoted = protectedQueue.first;
+					protectedQueue.unlink( demoted );
+					demoted.queue = PROBATION;
+					probation.linkLast( demoted );
+				}
+				break;
+			case PROTECTED:
+				sketch.increment( node.key );
+				protectedQueue.moveToBack( node );
+				break;
+			default:
+				// the entry has been removed in the meantime
+		}
+	}
+
+	private void unlink(Node<K, V> node) {
+		switch ( node.queue ) {
+			case WINDOW:
+				window.unlink( node );
+				break;
+			case PROBATION:
+				probation.unlink( node );
+				break;
+			case PROTECTED:
+				protectedQueue.unlink( node );
+				break;
+			default:
+				// never linked, or already unlinked
+		}
+		node.queue = UNLINKED;
+	}
+
+	private void evictEntries() {
+		// entries overflowing the window become candidates for admission to the main space,
+		// competing with the least recently used entries of the probation segment
+		int candidates = 0;
+		while ( window.size > windowMaximumSize ) {
+			final Node<K, V> node = window.first;
+			window.unlink( node );
+			node.queue = PROBATION;
+			probation.linkLast( node );
+			candidates++;
+		}
+
+		Node<K, V> victim = probation.first;
+		Node<K, V> candidate = probation.last;
+		while ( window.size + probation.size + protectedQueue.size > maximumSize ) {
+			if ( candidates == 0 || candidate != null && candidate.queue != PROBATION ) {
+				candidate = null;
+			}
+			if ( victim != null && victim.queue != PROBATION ) {
+				// evicted as a candidate in the meantime
+				victim = probation.first;
+			}
+
+			if ( victim == null && candidate == null ) {
+				if ( probation.first != null ) {
+					evict( probation.first );
+				}
+				else {
+					evict( protectedQueue.first != null ? protectedQueue.first : window.first );
+				}
+			}
+			else if ( victim == null ) {
+				final Node<K, V> previous = candidate.previous;
+				evict( candidate );
+				candidate = previous;
+				candidates--;
+			}
+			else if ( candidate == null ) {
+				final Node<K, V> next = victim.next;
+				evict( victim );
+				victim = next;
+			}
+			else if ( victim == candidate ) {
+				evict( victim );
+				victim = null;
+				candidate = null;
+				candidates = 0;
+			}
+			else if ( admit( candidate.key, victim.key ) ) {
+				final Node<K, V> next = victim.next;
+				evict( victim );
+				victim = next;
+			}
+			else {
+				final Node<K, V> previous = candidate.previous;
+				evict( candidate );
+				candidate = previous;
+				candidates--;
+			}
+		}
+	}
+
+	private boolean admit(K candidateKey, K victimKey) {
+		final int victimFrequency = sketch.frequency( victimKey );
+		final int candidateFrequency = sketch.frequency( candidateKey );
+		if ( candidateFrequency > victimFrequency ) {
+			return true;
+		}
+		else if ( candidateFrequency <= 5 ) {
+			return false;
+		}
+		else {
+			// admit a warm candidate once in a while, so that an attacker
+			// can't keep an entry out by artificially raising the
+			// frequency of the victim through hash collisions
+			return ( ThreadLocalRandom.current().nextInt() & 127 ) == 0;
+		}
+	}
+
+	private void evict(Node<K, V> node) {
+		unlink( node );
+		if ( data.remove( node.key, node ) && evictionListener != null ) {
+			evictionListener.accept( node.key, node.value );
+		}
+	}
+
+	private static int ceilingPowerOfTwo(int x) {
+		return 1 << -Integer.numberOfLeadingZeros( x - 1 );
+	}
+
+	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// Internal data structures
+
+	private static final class Node<K, V> {
+		private final K key;
+		private final V value;
+
+		// guarded by the eviction lock
+		private byte queue;
+		private Node<K, V> previous;
+		private Node<K, V> next;
+
+		private Node(K key, V value) {
+			this.key = Objects.requireNonNull( key );
+			this.value = Objects.requireNonNull( value );
+		}
+	}
+
+	/**
+	 * An intrusive doubly-linked list of nodes, from the least to the most recently used
+	 */
+	private static final class AccessOrderQueue<K, V> {
+		private Node<K, V> first;
+		private Node<K, V> last;
+		private int size;
+
+		private void linkLast(Node<K, V> node) {
+			node.previous = last;
+			node.next = null;
+			if ( last == null ) {
+				first = node;
+			}
+			else {
+				last.next = node;
+			}
+			last = node;
+			size++;
+		}
+
+		private void unlink(Node<K, V> node) {
+			final Node<K, V> previous = node.previous;
+			final Node<K, V> next = node.next;
+			if ( previous == null ) {
+				first = next;
+			}
+			else {
+				previous.next = next;
+			}
+			if ( next == null ) {
+				last = previous;
+			}
+			else {
+				next.previous = previous;
+			}
+			node.previous = null;
+			node.next = null;
+			size--;
+		}
+
+		private void moveToBack(Node<K, V> node) {
+			if ( node != last ) {
+				unlink( node );
+				linkLast( node );
+			}
+		}
+
+		private void clear() {
+			Node<K, V> node = first;
+			while ( node != null ) {
+				final Node<K, V> next = node.next;
+				node.previous = null;
+				node.next = null;
+				node.queue = UNLINKED;
+				node = next;
+			}
+			first = null;
+			last = null;
+			size = 0;
+		}
+	}
+
+	/**
+	 * A bounded, lossy buffer of reads with multiple producers and a single consumer,
+	 * the holder of the eviction lock
+	 */
+	private static final class ReadBuffer<K, V> {
+		private static final int MASK = READ_BUFFER_SIZE - 1;
+
+		private final AtomicReferenceArray<Node<K, V>> buffer = new AtomicReferenceArray<>( READ_BUFFER_SIZE );
+		private final AtomicLong writeCounter = new AtomicLong();
+		private volatile long readCounter;
+
+		/**
+		 * Records the read of the given node, unless the buffer is full or contended
+		 *
+		 * @return {@code false} if the buffer is filling up, and should be drained
+		 */
+		private boolean offer(Node<K, V> node) {
+			final long head = readCounter;
+			final long tail = writeCounter.get();
+			final long size = tail - head;
+			if ( size >= READ_BUFFER_SIZE ) {
+				return false;
+			}
+			if ( writeCounter.compareAndSet( tail, tail + 1 ) ) {
+				buffer.lazySet( (int) tail & MASK, node );
+			}
+			return size < READ_BUFFER_SIZE / 2;
+		}
+
+		/**
+		 * Replays the recorded reads against the policy of the given map, or just
+		 * discards them if the map is {@code null}
+		 */
+		private void drainTo(TinyLfuConcurrentMap<K, V> map) {
+			long head = readCounter;
+			final long tail = writeCounter.get();
+			while ( head < tail ) {
+				final int index = (int) head & MASK;
+				final Node<K, V> node = buffer.get( index );
+				if ( node == null ) {
+					// not published yet
+					break;
+				}
+				buffer.lazySet( index, null );
+				if ( map != null ) {
+					map.onAccess( node );
+				}
+				head++;
+			}
+			readCounter = head;
+		}
+	}
+
+	/**
+	 * A count-min sketch estimating the popularity of keys within a time window, with
+	 * four 4-bit counters per key. All counters are halved periodically, so that the
+	 * frequencies of keys which are no longer used fade away.
+	 */
+	private static final class FrequencySketch {
+		private static final long[] SEEDS = {
+				0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L
+		};
+		private static final long RESET_MASK = 0x7777777777777777L;
+		private static final long ONE_MASK = 0x1111111111111111L;
+
+		private final long[] table;
+		private final int tableMask;
+		private final int sampleSize;
+		private int size;
+
+		private FrequencySketch(int maximumSize) {
+			final int tableSize = ceilingPowerOfTwo( Math.max( 8, Math.min( maximumSize, 1 << 24 ) ) );
+			this.table = new long[tableSize];
+			this.tableMask = tableSize - 1;
+			this.sampleSize = 10 * Math.min( maximumSize, Integer.MAX_VALUE / 10 );
+		}
+
+		private int frequency(Object key) {
+			final int hash = spread( key.hashCode() );
+			final int start = ( hash & 3 ) << 2;
+			int frequency = Integer.MAX_VALUE;
+			for ( int i = 0; i < 4; i++ ) {
+				final int index = indexOf( hash, i );
+				final int count = (int) ( ( table[index] >>> ( ( start + i ) << 2 ) ) & 0xfL );
+				frequency = Math.min( frequency, count );
+			}
+			return frequency;
+		}
+
+		private void increment(Object key) {
+			final int hash = spread( key.hashCode() );
+			final int start = ( hash & 3 ) << 2;
+			boolean added = false;
+			for ( int i = 0; i < 4; i++ ) {
+				added |= incrementAt( indexOf( hash, i ), start + i );
+			}
+			if ( added && ++size == sampleSize ) {
+				reset();
+			}
+		}
+
+		private boolean incrementAt(int index, int counter) {
+			final int offset = counter << 2;
+			final long mask = 0xfL << offset;
+			if ( ( table[index] & mask ) != mask ) {
+				table[index] += 1L << offset;
+				return true;
+			}
+			else {
+				return false;
+			}
+		}
+
+		private void reset() {
+			int odd = 0;
+			for ( int i = 0; i < table.length; i++ ) {
+				odd += Long.bitCount( table[i] & ONE_MASK );
+				table[i] = ( table[i] >>> 1 ) & RESET_MASK;
+			}
+			size = ( size >>> 1 ) - ( odd >>> 2 );
+		}
+
+		private int indexOf(int hash, int i) {
+			long h = ( hash + SEEDS[i] ) * SEEDS[i];
+			h += h >>> 32;
+			return ( (int) h ) & tableMask;
+		}
+
+		private static int spread(int x) {
+			x = ( ( x >>> 16 ) ^ x ) * 0x45d9f3b;
+			x = ( ( x >>> 16 ) ^ x ) * 0x45d9f3b;
+			return ( x >>> 16 ) ^ x;
+		}
+	}
+
+	private final class EntrySet extends AbstractSet<Entry<K, V>> {
+		@Override
+		public Iterator<Entry<K, V>> iterator() {
+			final Iterator<Node<K, V>> nodes = data.values().iterator();
+			return new Iterator<>() {
+				private Node<K, V> current;
+
+				@Override
+				public boolean hasNext() {
+					return nodes.hasNext();
+				}
+
+				@Override
+				public Entry<K, V> next() {
+					current = nodes.next();
+					return new SimpleImmutableEntry<>( current.key, current.value );
+				}
+
+				@Override
+				public void remove() {
+					if ( current == null ) {
+						throw new IllegalStateException();
+					}
+					TinyLfuConcurrentMap.this.remove( current.key, current.value );
+					current = null;
+				}
+			};
+		}
+
+		@Override
+		public boolean contains(Object o) {
+			if ( !( o instanceof Map.Entry ) ) {
+				return false;
+			}
+			final Entry<?, ?> entry = (Entry<?, ?>) o;
+			final Node<K, V> node = data.get( entry.getKey() );
+			return node != null && Objects.equals( node.value, entry.getValue() );
+		}
+
+		@Override
+		public boolean remove(Object o) {
+			if ( !( o instanceof Map.Entry ) ) {
+				return false;
+			}
+			final Entry<?, ?> entry = (Entry<?, ?>) o;
+			return TinyLfuConcurrentMap.this.remove( entry.getKey(), entry.getValue() );
+		}
+
+		@Override
+		public int size() {
+			return data.size();
+		}
+
+		@Override
+		public void clear() {
+			TinyLfuConcurrentMap.this.clear();
+		}
+	}
+}
@@ -242,7 +242,7 @@ public final class ConfigurationHelper {
 		);
 	}
 
-	public static long getLong(String name, Map values, int defaultValue) {
+	public static long getLong(String name, Map values, long defaultValue) {
 		Object value = values.get( name );
 		if ( value == null ) {
 			return defaultValue;
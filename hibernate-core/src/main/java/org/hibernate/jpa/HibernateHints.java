@@ -56,6 +56,27 @@ public interface HibernateHints {
 	 */
 	String HINT_FETCH_SIZE = "org.hibernate.fetchSize";
 
+	/**
+	 * Hint for specifying that the results of a query should be
+	 * streamed from a server-side cursor, and processed in windows
+	 * of the given number of rows. The entities loaded by a window
+	 * are evicted from the persistence context once the following
+	 * window has been processed, so that the memory used by a
+	 * {@linkplain Query#stream stream} or {@linkplain Query#scroll
+	 * scroll} does not grow with the number of results.
+	 * <p>
+	 * Entities which were already managed by the session before the
+	 * query was executed are never evicted. Changes made to evicted
+	 * entities are not flushed.
+	 *
+	 * @see Query#stream
+	 * @see Query#scroll
+	 * @see org.hibernate.dialect.Dialect#getStreamingFetchSize
+	 *
+	 * @since 6.2
+	 */
+	String HINT_STREAM_WINDOW_SIZE = "org.hibernate.streamWindowSize";
+
 	/**
 	 * Hint for specifying whether results from a query should
 	 * be stored in the query cache
@@ -6,6 +6,11 @@
  */
 package org.hibernate.loader.ast.internal;
 
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
 import org.hibernate.HibernateException;
 import org.hibernate.Incubating;
 import org.hibernate.LockMode;
@@ -175,12 +180,34 @@ public class CacheEntityLoaderHelper {
 			final LoadEvent event,
 			final EntityPersister persister,
 			final EntityKey entityKey) {
+		return loadFromSecondLevelCache( event, persister, entityKey, null );
+	}
+
+	/**
+	 * Attempts to load the entity from the second-level cache, using the cache
+	 * entries previously retrieved by {@link #getFromSecondLevelCache} when they
+	 * include the given entity.
+	 *
+	 * @param event The load event
+	 * @param persister The persister for the entity being requested for load
+	 * @param entityKey The entity key
+	 * @param cacheEntries The cache entries retrieved in advance, or null
+	 *
+	 * @return The entity from the second-level cache, or null.
+	 */
+	@Incubating
+	public Object loadFromSecondLevelCache(
+			final LoadEvent event,
+			final EntityPersister persister,
+			final EntityKey entityKey,
+			final Map<EntityKey, Object> cacheEntries) {
 		final Object entity = loadFromSecondLevelCache(
 				event.getSession(),
 				event.getInstanceToLoad(),
 				event.getLockMode(),
 				persister,
-				entityKey
+				entityKey,
+				cacheEntries
 		);
 
 		if ( entity != null ) {
@@ -214,17 +241,30 @@ public class CacheEntityLoaderHelper {
 			final LockMode lockMode,
 			final EntityPersister persister,
 			final EntityKey entityKey) {
+		return loadFromSecondLevelCache( source, entity, lockMode, persister, entityKey, null );
+	}
 
-		final boolean useCache = persister.canReadFromCache()
-				&& source.getCacheMode().isGetEnabled()
-				&& lockMode.lessThan( LockMode.READ );
+	private Object loadFromSecondLevelCache(
+			final EventSource source,
+			final Object entity,
+			final LockMode lockMode,
+			final EntityPersister persister,
+			final EntityKey entityKey,
+			final Map<EntityKey, Object> cacheEntries) {
 
-		if ( !useCache ) {
+		if ( !canUseSecondLevelCache( source, lockMode, persister ) ) {
 			// we can't use cache here
 			return null;
 		}
 
-		final Object ce = getFromSharedCache( entityKey.getIdentifier(), persister, source );
+		final Object ce;
+		if ( cacheEntries != null && cacheEntries.containsKey( entityKey ) ) {
+			ce = cacheEntries.get( entityKey );
+			recordCacheAccess( ce, persister, source.getFactory() );
+		}
+		else {
+			ce = getFromSharedCache( entityKey.getIdentifier(), persister, source );
+		}
 
 		if ( ce == null ) {
 			// nothing was found in cache
@@ -235,6 +275,54 @@ public class CacheEntityLoaderHelper {
 	}
 
 
+	/**
+	 * Retrieves the cache entries of several entities from the second-level cache
+	 * with a single access, so that they can be passed to
+	 * {@link #loadFromSecondLevelCache(LoadEvent, EntityPersister, EntityKey, Map)}.
+	 *
+	 * @param source The source
+	 * @param lockMode The lock mode
+	 * @param persister The persister for the entities being requested for load
+	 * @param entityKeys The entity keys
+	 *
+	 * @return The cache entries by entity key, with a null value for entities which
+	 * are not cached, or an empty map if the second-level cache cannot be used.
+	 */
+	@Incubating
+	public Map<EntityKey, Object> getFromSecondLevelCache(
+			final EventSource source,
+			final LockMode lockMode,
+			final EntityPersister persister,
+			final Collection<EntityKey> entityKeys) {
+		if ( entityKeys.isEmpty() || !canUseSecondLevelCache( source, lockMode, persister ) ) {
+			return Collections.emptyMap();
+		}
+
+		final EntityDataAccess cache = persister.getCacheAccessStrategy();
+		final SessionFactoryImplementor factory = source.getFactory();
+		final Map<Object, EntityKey> entityKeysByCacheKey = new HashMap<>( entityKeys.size() );
+		for ( EntityKey entityKey : entityKeys ) {
+			final Object ck = cache.generateCacheKey(
+					entityKey.getIdentifier(),
+					persister,
+					factory,
+					source.getTenantIdentifier()
+			);
+			entityKeysByCacheKey.put( ck, entityKey );
+		}
+
+		final Map<Object, Object> cached = CacheHelper.fromSharedCache( source, entityKeysByCacheKey.keySet(), cache );
+		final Map<EntityKey, Object> cacheEntries = new HashMap<>( entityKeys.size() );
+		entityKeysByCacheKey.forEach( (ck, entityKey) -> cacheEntries.put( entityKey, cached.get( ck ) ) );
+		return cacheEntries;
+	}
+
+	private static boolean canUseSecondLevelCache(EventSource source, LockMode lockMode, EntityPersister persister) {
+		return persister.canReadFromCache()
+				&& source.getCacheMode().isGetEnabled()
+				&& lockMode.lessThan( LockMode.READ );
+	}
+
 	private Object getFromSharedCache(
 			final Object entityId,
 			final EntityPersister persister,
@@ -249,22 +337,21 @@ public class CacheEntityLoaderHelper {
 		);
 
 		final Object ce = CacheHelper.fromSharedCache( source, ck, persister.getCacheAccessStrategy() );
+		recordCacheAccess( ce, persister, factory );
+		return ce;
+	}
+
+	private static void recordCacheAccess(Object ce, EntityPersister persister, SessionFactoryImplementor factory) {
 		final StatisticsImplementor statistics = factory.getStatistics();
 		if ( statistics.isStatisticsEnabled() ) {
+			final String regionName = persister.getCacheAccessStrategy().getRegion().getName();
 			if ( ce == null ) {
-				statistics.entityCacheMiss(
-						StatsHelper.INSTANCE.getRootEntityRole( persister ),
-						cache.getRegion().getName()
-				);
+				statistics.entityCacheMiss( StatsHelper.INSTANCE.getRootEntityRole( persister ), regionName );
 			}
 			else {
-				statistics.entityCacheHit(
-						StatsHelper.INSTANCE.getRootEntityRole( persister ),
-						cache.getRegion().getName()
-				);
+				statistics.entityCacheHit( StatsHelper.INSTANCE.getRootEntityRole( persister ), regionName );
 			}
 		}
-		return ce;
 	}
 
 	private Object processCachedEntry(
@@ -37,6 +37,7 @@ import org.hibernate.metamodel.mapping.CollectionPart;
 import org.hibernate.metamodel.mapping.EntityIdentifierMapping;
 import org.hibernate.metamodel.mapping.EntityValuedModelPart;
 import org.hibernate.metamodel.mapping.ForeignKeyDescriptor;
+import org.hibernate.metamodel.mapping.JdbcMappingContainer;
 import org.hibernate.metamodel.mapping.ModelPart;
 import org.hibernate.metamodel.mapping.NaturalIdMapping;
 import org.hibernate.metamodel.mapping.NonAggregatedIdentifierMapping;
@@ -50,10 +51,12 @@ import org.hibernate.query.sqm.ComparisonOperator;
 import org.hibernate.spi.EntityIdentifierNavigablePath;
 import org.hibernate.spi.NavigablePath;
 import org.hibernate.sql.ast.SqlAstJoinType;
+import org.hibernate.sql.ast.SqlAstTranslator;
 import org.hibernate.sql.ast.spi.AliasCollector;
 import org.hibernate.sql.ast.spi.FromClauseAccess;
 import org.hibernate.sql.ast.spi.SimpleFromClauseAccessImpl;
 import org.hibernate.sql.ast.spi.SqlAliasBaseManager;
+import org.hibernate.sql.ast.spi.SqlAppender;
 import org.hibernate.sql.ast.spi.SqlAstCreationContext;
 import org.hibernate.sql.ast.spi.SqlAstCreationState;
 import org.hibernate.sql.ast.spi.SqlAstQueryPartProcessingState;
@@ -61,6 +64,7 @@ import org.hibernate.sql.ast.spi.SqlExpressionResolver;
 import org.hibernate.sql.ast.tree.expression.ColumnReference;
 import org.hibernate.sql.ast.tree.expression.Expression;
 import org.hibernate.sql.ast.tree.expression.JdbcParameter;
+import org.hibernate.sql.ast.tree.expression.SelfRenderingExpression;
 import org.hibernate.sql.ast.tree.expression.SqlTuple;
 import org.hibernate.sql.ast.tree.from.PluralTableGroup;
 import org.hibernate.sql.ast.tree.from.TableGroup;
@@ -70,6 +74,7 @@ import org.hibernate.sql.ast.tree.from.TableReference;
 import org.hibernate.sql.ast.tree.predicate.ComparisonPredicate;
 import org.hibernate.sql.ast.tree.predicate.InListPredicate;
 import org.hibernate.sql.ast.tree.predicate.InSubQueryPredicate;
+import org.hibernate.sql.ast.tree.predicate.SelfRenderingPredicate;
 import org.hibernate.sql.ast.tree.select.QueryPart;
 import org.hibernate.sql.ast.tree.select.QuerySpec;
 import org.hibernate.sql.ast.tree.select.SelectStatement;
@@ -135,6 +140,7 @@ public class LoaderSelectBuilder {
 				lockOptions,
 				determineGraphTraversalState( loadQueryInfluencers ),
 				true,
+				null,
 				jdbcParameterConsumer
 		);
 
@@ -204,6 +210,45 @@ public class LoaderSelectBuilder {
 		return process.generateSelect();
 	}
 
+	/**
+	 * Create an SQL AST select-statement based on matching one-or-more keys, which are
+	 * all bound to a single array-valued parameter, as in {@code key = any(?)}.  Unlike
+	 * an in-list restriction, the resulting SQL is the same whatever the number of keys.
+	 *
+	 * @param loadable The root Loadable
+	 * @param restrictedPart Single-column part to base the where-clause restriction on
+	 * @param loadQueryInfluencers Any influencers (entity graph, fetch profile) to account for
+	 * @param lockOptions Pessimistic lock options to apply
+	 * @param jdbcArrayParameter The parameter to which the array of keys is bound
+	 * @param sessionFactory The SessionFactory
+	 *
+	 * @see MultiKeyLoadHelper
+	 */
+	public static SelectStatement createSelectBySingleArrayParameter(
+			Loadable loadable,
+			BasicValuedModelPart restrictedPart,
+			LoadQueryInfluencers loadQueryInfluencers,
+			LockOptions lockOptions,
+			JdbcParameter jdbcArrayParameter,
+			SessionFactoryImplementor sessionFactory) {
+		final LoaderSelectBuilder process = new LoaderSelectBuilder(
+				sessionFactory,
+				loadable,
+				null,
+				Collections.singletonList( restrictedPart ),
+				null,
+				-1,
+				loadQueryInfluencers,
+				lockOptions != null ? lockOptions : LockOptions.NONE,
+				determineGraphTraversalState( loadQueryInfluencers ),
+				true,
+				jdbcArrayParameter,
+				null
+		);
+
+		return process.generateSelect();
+	}
+
 	/**
 	 * Create an SQL AST select-statement used for subselect-based CollectionLoader
 	 *
@@ -249,6 +294,7 @@ public class LoaderSelectBuilder {
 	private final boolean forceIdentifierSelection;
 	private final LoadQueryInfluencers loadQueryInfluencers;
 	private final LockOptions lockOptions;
+	private final JdbcParameter jdbcArrayParameter;
 	private final Consumer<JdbcParameter> jdbcParameterConsumer;
 	private final EntityGraphTraversalState entityGraphTraversalState;
 
@@ -268,6 +314,7 @@ public class LoaderSelectBuilder {
 			LockOptions lockOptions,
 			EntityGraphTraversalState entityGraphTraversalState,
 			boolean forceIdentifierSelection,
+			JdbcParameter jdbcArrayParameter,
 			Consumer<JdbcParameter> jdbcParameterConsumer) {
 		this.creationContext = creationContext;
 		this.loadable = loadable;
@@ -279,6 +326,7 @@ public class LoaderSelectBuilder {
 		this.lockOptions = lockOptions;
 		this.entityGraphTraversalState = entityGraphTraversalState;
 		this.forceIdentifierSelection = forceIdentifierSelection;
+		this.jdbcArrayParameter = jdbcArrayParameter;
 		this.jdbcParameterConsumer = jdbcParameterConsumer;
 	}
 
@@ -303,6 +351,7 @@ public class LoaderSelectBuilder {
 				lockOptions != null ? lockOptions : LockOptions.NONE,
 				determineGraphTraversalState( loadQueryInfluencers ),
 				determineWhetherToForceIdSelection( numberOfKeysToLoad, restrictedParts ),
+				null,
 				jdbcParameterConsumer
 		);
 	}
@@ -518,7 +567,12 @@ public class LoaderSelectBuilder {
 										tableReference,
 										selection
 								);
-						if ( numberOfKeysToLoad == 1 ) {
+						if ( jdbcArrayParameter != null ) {
+							rootQuerySpec.applyPredicate(
+									new SelfRenderingPredicate( new ArrayParameterRestriction( columnRef, jdbcArrayParameter ) )
+							);
+						}
+						else if ( numberOfKeysToLoad == 1 ) {
 							final JdbcParameter jdbcParameter = new JdbcParameterImpl( selection.getJdbcMapping() );
 							jdbcParameterConsumer.accept( jdbcParameter );
 
@@ -1127,5 +1181,33 @@ public class LoaderSelectBuilder {
 			}
 		}
 	}
-}
 
+	/**
+	 * Restricts a column to the elements of an array-valued parameter
+	 */
+	private static class ArrayParameterRestriction implements SelfRenderingExpression {
+		private final ColumnReference columnReference;
+		private final JdbcParameter jdbcArrayParameter;
+
+		private ArrayParameterRestriction(ColumnReference columnReference, JdbcParameter jdbcArrayParameter) {
+			this.columnReference = columnReference;
+			this.jdbcArrayParameter = jdbcArrayParameter;
+		}
+
+		@Override
+		public JdbcMappingContainer getExpressionType() {
+			return null;
+		}
+
+		@Override
+		public void renderToSql(
+				SqlAppender sqlAppender,
+				SqlAstTranslator<?> walker,
+				SessionFactoryImplementor sessionFactory) {
+			columnReference.accept( walker );
+			sqlAppender.appendSql( "=any(" );
+			jdbcArrayParameter.accept( walker );
+			sqlAppender.appendSql( ')' );
+		}
+	}
+}
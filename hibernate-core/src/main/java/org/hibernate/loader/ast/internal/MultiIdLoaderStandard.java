@@ -11,6 +11,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 import org.hibernate.LockMode;
 import org.hibernate.LockOptions;
@@ -33,6 +34,7 @@ import org.hibernate.loader.ast.spi.MultiIdEntityLoader;
 import org.hibernate.loader.ast.spi.MultiIdLoadOptions;
 import org.hibernate.mapping.PersistentClass;
 import org.hibernate.metamodel.mapping.EntityMappingType;
+import org.hibernate.metamodel.mapping.JdbcMapping;
 import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.query.spi.QueryOptions;
 import org.hibernate.sql.ast.Clause;
@@ -58,6 +60,12 @@ public class MultiIdLoaderStandard<T> implements MultiIdEntityLoader<T> {
 
 	private final int idJdbcTypeCount;
 
+	// resolved lazily, since the identifier mapping is not yet available when the
+	// loader is created; the volatile flag is written after the mapping, so that a
+	// thread which sees it set also sees the mapping
+	private volatile boolean arrayJdbcMappingResolved;
+	private JdbcMapping arrayJdbcMapping;
+
 	public MultiIdLoaderStandard(
 			EntityPersister entityDescriptor,
 			PersistentClass bootDescriptor,
@@ -74,6 +82,22 @@ public class MultiIdLoaderStandard<T> implements MultiIdEntityLoader<T> {
 		return entityDescriptor;
 	}
 
+	/**
+	 * The type of the array to which the ids of a batch are bound, or {@code null}
+	 * if the ids are bound to an in-list of parameters
+	 */
+	private JdbcMapping getArrayJdbcMapping() {
+		if ( !arrayJdbcMappingResolved ) {
+			// racing threads resolve the same mapping
+			arrayJdbcMapping = MultiKeyLoadHelper.resolveArrayJdbcMapping(
+					entityDescriptor.getIdentifierMapping(),
+					sessionFactory
+			);
+			arrayJdbcMappingResolved = true;
+		}
+		return arrayJdbcMapping;
+	}
+
 	@Override
 	public List<T> load(Object[] ids, MultiIdLoadOptions loadOptions, EventSource session) {
 		assert ids != null;
@@ -109,6 +133,10 @@ public class MultiIdLoaderStandard<T> implements MultiIdEntityLoader<T> {
 		if ( loadOptions.getBatchSize() != null && loadOptions.getBatchSize() > 0 ) {
 			maxBatchSize = loadOptions.getBatchSize();
 		}
+		else if ( getArrayJdbcMapping() != null ) {
+			// the number of ids bound to the array parameter is only limited by the dialect
+			maxBatchSize = MultiKeyLoadHelper.determineMaxBatchSize( ids.length, sessionFactory );
+		}
 		else {
 			maxBatchSize = dialect.getDefaultBatchLoadSizingStrategy().determineOptimalBatchLoadSize(
 					idJdbcTypeCount,
@@ -121,6 +149,7 @@ public class MultiIdLoaderStandard<T> implements MultiIdEntityLoader<T> {
 		final List<Integer> elementPositionsLoadedByBatch = new ArrayList<>();
 
 		final boolean coerce = !sessionFactory.getJpaMetamodel().getJpaCompliance().isLoadByIdComplianceEnabled();
+		final Map<EntityKey, Object> cacheEntries = getFromSecondLevelCache( ids, coerce, lockOptions, session, loadOptions );
 		for ( int i = 0; i < ids.length; i++ ) {
 			final Object id;
 			if ( coerce ) {
@@ -166,7 +195,8 @@ public class MultiIdLoaderStandard<T> implements MultiIdEntityLoader<T> {
 					managedEntity = CacheEntityLoaderHelper.INSTANCE.loadFromSecondLevelCache(
 							loadEvent,
 							entityDescriptor,
-							entityKey
+							entityKey,
+							cacheEntries
 					);
 				}
 
@@ -237,43 +267,65 @@ public class MultiIdLoaderStandard<T> implements MultiIdEntityLoader<T> {
 			log.tracef( "#loadEntitiesById(`%s`, `%s`, ..)", entityDescriptor.getEntityName(), numberOfIdsInBatch );
 		}
 
-		final List<JdbcParameter> jdbcParameters = new ArrayList<>( numberOfIdsInBatch * idJdbcTypeCount);
-
-		final SelectStatement sqlAst = LoaderSelectBuilder.createSelect(
-				getLoadable(),
-				// null here means to select everything
-				null,
-				getLoadable().getIdentifierMapping(),
-				null,
-				numberOfIdsInBatch,
-				session.getLoadQueryInfluencers(),
-				lockOptions,
-				jdbcParameters::add,
-				sessionFactory
-		);
-
 		final JdbcServices jdbcServices = sessionFactory.getJdbcServices();
 		final JdbcEnvironment jdbcEnvironment = jdbcServices.getJdbcEnvironment();
 		final SqlAstTranslatorFactory sqlAstTranslatorFactory = jdbcEnvironment.getSqlAstTranslatorFactory();
 
-		final JdbcParameterBindings jdbcParameterBindings = new JdbcParameterBindingsImpl( jdbcParameters.size() );
-		int offset = 0;
-
-		for ( int i = 0; i < numberOfIdsInBatch; i++ ) {
-			final Object id = idsInBatch.get( i );
-
-			offset += jdbcParameterBindings.registerParametersForEachJdbcValue(
-					id,
-					Clause.WHERE,
-					offset,
-					entityDescriptor.getIdentifierMapping(),
-					jdbcParameters,
-					session
+		final List<JdbcParameter> jdbcParameters;
+		final SelectStatement sqlAst;
+		final JdbcParameterBindings jdbcParameterBindings;
+
+		final JdbcMapping arrayJdbcMapping = getArrayJdbcMapping();
+		if ( arrayJdbcMapping != null ) {
+			// bind all the ids to a single parameter, so that the SQL does not depend on the batch size
+			jdbcParameters = new ArrayList<>( 1 );
+			jdbcParameterBindings = new JdbcParameterBindingsImpl( 1 );
+			sqlAst = MultiKeyLoadHelper.createSelectByArrayParameter(
+					getLoadable(),
+					arrayJdbcMapping,
+					idsInBatch,
+					session.getLoadQueryInfluencers(),
+					lockOptions,
+					jdbcParameters::add,
+					jdbcParameterBindings,
+					sessionFactory
 			);
 		}
+		else {
+			jdbcParameters = new ArrayList<>( numberOfIdsInBatch * idJdbcTypeCount );
+
+			sqlAst = LoaderSelectBuilder.createSelect(
+					getLoadable(),
+					// null here means to select everything
+					null,
+					getLoadable().getIdentifierMapping(),
+					null,
+					numberOfIdsInBatch,
+					session.getLoadQueryInfluencers(),
+					lockOptions,
+					jdbcParameters::add,
+					sessionFactory
+			);
+
+			jdbcParameterBindings = new JdbcParameterBindingsImpl( jdbcParameters.size() );
+			int offset = 0;
+
+			for ( int i = 0; i < numberOfIdsInBatch; i++ ) {
+				final Object id = idsInBatch.get( i );
+
+				offset += jdbcParameterBindings.registerParametersForEachJdbcValue(
+						id,
+						Clause.WHERE,
+						offset,
+						entityDescriptor.getIdentifierMapping(),
+						jdbcParameters,
+						session
+				);
+			}
 
-		// we should have used all the JdbcParameter references (created bindings for all)
-		assert offset == jdbcParameters.size();
+			// we should have used all the JdbcParameter references (created bindings for all)
+			assert offset == jdbcParameters.size();
+		}
 		final JdbcOperationQuerySelect jdbcSelect = sqlAstTranslatorFactory.buildSelectTranslator( sessionFactory, sqlAst )
 				.translate( jdbcParameterBindings, QueryOptions.NONE );
 
@@ -299,6 +351,39 @@ public class MultiIdLoaderStandard<T> implements MultiIdEntityLoader<T> {
 		);
 	}
 
+	/**
+	 * Retrieve the second-level cache entries of the entities with the given ids,
+	 * which are not already managed by the session, with a single cache access
+	 */
+	private Map<EntityKey, Object> getFromSecondLevelCache(
+			Object[] ids,
+			boolean coerce,
+			LockOptions lockOptions,
+			EventSource session,
+			MultiIdLoadOptions loadOptions) {
+		if ( !loadOptions.isSecondLevelCacheCheckingEnabled() ) {
+			return Collections.emptyMap();
+		}
+
+		final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+		final List<EntityKey> entityKeys = new ArrayList<>( ids.length );
+		for ( Object id : ids ) {
+			final EntityKey entityKey = new EntityKey(
+					coerce ? entityDescriptor.getIdentifierMapping().getJavaType().coerce( id, session ) : id,
+					entityDescriptor
+			);
+			if ( !loadOptions.isSessionCheckingEnabled() || persistenceContext.getEntity( entityKey ) == null ) {
+				entityKeys.add( entityKey );
+			}
+		}
+		return CacheEntityLoaderHelper.INSTANCE.getFromSecondLevelCache(
+				session,
+				lockOptions.getLockMode(),
+				entityDescriptor,
+				entityKeys
+		);
+	}
+
 	private List<T> performSingleMultiLoad(Object id, LockOptions lockOptions, SharedSessionContractImplementor session) {
 		T loaded = (T) entityDescriptor.load( id, null, lockOptions, session );
 		return Collections.singletonList( loaded );
@@ -331,6 +416,7 @@ public class MultiIdLoaderStandard<T> implements MultiIdEntityLoader<T> {
 			final List<Object> nonManagedIds = new ArrayList<>();
 
 			final boolean coerce = !sessionFactory.getJpaMetamodel().getJpaCompliance().isLoadByIdComplianceEnabled();
+			final Map<EntityKey, Object> cacheEntries = getFromSecondLevelCache( ids, coerce, lockOptions, session, loadOptions );
 			for ( int i = 0; i < ids.length; i++ ) {
 				final Object id;
 				if ( coerce ) {
@@ -374,7 +460,8 @@ public class MultiIdLoaderStandard<T> implements MultiIdEntityLoader<T> {
 					managedEntity = CacheEntityLoaderHelper.INSTANCE.loadFromSecondLevelCache(
 							loadEvent,
 							entityDescriptor,
-							entityKey
+							entityKey,
+							cacheEntries
 					);
 				}
 
@@ -411,6 +498,10 @@ public class MultiIdLoaderStandard<T> implements MultiIdEntityLoader<T> {
 		if ( loadOptions.getBatchSize() != null && loadOptions.getBatchSize() > 0 ) {
 			maxBatchSize = loadOptions.getBatchSize();
 		}
+		else if ( getArrayJdbcMapping() != null ) {
+			// the number of ids bound to the array parameter is only limited by the dialect
+			maxBatchSize = MultiKeyLoadHelper.determineMaxBatchSize( numberOfIdsLeft, sessionFactory );
+		}
 		else {
 			maxBatchSize = session.getJdbcServices().getJdbcEnvironment().getDialect().getDefaultBatchLoadSizingStrategy().determineOptimalBatchLoadSize(
 					entityDescriptor.getIdentifierType().getColumnSpan( session.getFactory() ),
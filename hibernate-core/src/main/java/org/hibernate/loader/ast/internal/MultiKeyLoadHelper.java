@@ -0,0 +1,136 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.loader.ast.internal;
+
+import java.lang.reflect.Array;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.hibernate.LockOptions;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.spi.LoadQueryInfluencers;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.loader.ast.spi.Loadable;
+import org.hibernate.metamodel.mapping.BasicValuedModelPart;
+import org.hibernate.metamodel.mapping.JdbcMapping;
+import org.hibernate.metamodel.mapping.ModelPart;
+import org.hibernate.sql.ast.tree.expression.JdbcParameter;
+import org.hibernate.sql.ast.tree.select.SelectStatement;
+import org.hibernate.sql.exec.internal.JdbcParameterBindingImpl;
+import org.hibernate.sql.exec.internal.JdbcParameterImpl;
+import org.hibernate.sql.exec.spi.JdbcParameterBindings;
+import org.hibernate.type.BasicType;
+import org.hibernate.type.descriptor.java.ArrayJavaType;
+import org.hibernate.type.spi.TypeConfiguration;
+
+/**
+ * Support for loading many entities or collections at once by binding all their
+ * keys to a single array-valued parameter, as in {@code key = any(?)}, rather
+ * than to an in-list with one parameter per key.
+ *
+ * @see Dialect#supportsArrayParameterRestriction()
+ * @see LoaderSelectBuilder#createSelectBySingleArrayParameter
+ */
+public class MultiKeyLoadHelper {
+	private MultiKeyLoadHelper() {
+	}
+
+	/**
+	 * Whether the keys of the given part may be bound to a single array-valued parameter,
+	 * that is, whether the part maps to a single basic column and the dialect supports
+	 * restricting a column to the elements of an array parameter.
+	 */
+	public static boolean isArrayParameterRestrictionSupported(ModelPart keyPart, SessionFactoryImplementor sessionFactory) {
+		return sessionFactory.getJdbcServices().getDialect().supportsArrayParameterRestriction()
+				&& keyPart instanceof BasicValuedModelPart
+				&& ( (BasicValuedModelPart) keyPart ).getJdbcMapping() instanceof BasicType;
+	}
+
+	/**
+	 * Resolve the array type to which the keys of the given part are bound, or
+	 * {@code null} if the keys must be bound to an in-list of parameters.
+	 */
+	public static JdbcMapping resolveArrayJdbcMapping(ModelPart keyPart, SessionFactoryImplementor sessionFactory) {
+		if ( !isArrayParameterRestrictionSupported( keyPart, sessionFactory ) ) {
+			return null;
+		}
+		return resolveArrayType( (BasicType<?>) ( (BasicValuedModelPart) keyPart ).getJdbcMapping(), sessionFactory );
+	}
+
+	private static <T> BasicType<?> resolveArrayType(BasicType<T> elementType, SessionFactoryImplementor sessionFactory) {
+		final TypeConfiguration typeConfiguration = sessionFactory.getTypeConfiguration();
+		final Dialect dialect = sessionFactory.getJdbcServices().getDialect();
+		return new ArrayJavaType<>( elementType.getJavaTypeDescriptor() )
+				.resolveType( typeConfiguration, dialect, elementType, null );
+	}
+
+	/**
+	 * The maximum number of keys loaded at once by binding them to an array parameter.
+	 *
+	 * @see Dialect#getArrayParameterRestrictionLimit()
+	 */
+	public static int determineMaxBatchSize(int numberOfKeys, SessionFactoryImplementor sessionFactory) {
+		final int limit = sessionFactory.getJdbcServices().getDialect().getArrayParameterRestrictionLimit();
+		return limit > 0 ? Math.min( numberOfKeys, limit ) : numberOfKeys;
+	}
+
+	/**
+	 * Create an SQL AST select-statement restricting the identifier of the given loadable
+	 * to the elements of a single array-valued parameter, and bind the given keys to that
+	 * parameter.
+	 *
+	 * @param loadable The root Loadable, which has a single-column basic identifier
+	 * @param arrayJdbcMapping The array type, as {@linkplain #resolveArrayJdbcMapping resolved}
+	 * for the identifier of the loadable
+	 * @param keys The keys to load
+	 * @param loadQueryInfluencers Any influencers (entity graph, fetch profile) to account for
+	 * @param lockOptions Pessimistic lock options to apply
+	 * @param jdbcParameterConsumer Consumer for the array parameter
+	 * @param jdbcParameterBindings The bindings to which the binding of the keys is added
+	 * @param sessionFactory The SessionFactory
+	 */
+	public static SelectStatement createSelectByArrayParameter(
+			Loadable loadable,
+			JdbcMapping arrayJdbcMapping,
+			List<?> keys,
+			LoadQueryInfluencers loadQueryInfluencers,
+			LockOptions lockOptions,
+			Consumer<JdbcParameter> jdbcParameterConsumer,
+			JdbcParameterBindings jdbcParameterBindings,
+			SessionFactoryImplementor sessionFactory) {
+		final BasicValuedModelPart identifierMapping = (BasicValuedModelPart) loadable.getIdentifierMapping();
+		final JdbcParameter jdbcParameter = new JdbcParameterImpl( arrayJdbcMapping );
+		jdbcParameterConsumer.accept( jdbcParameter );
+
+		final SelectStatement sqlAst = LoaderSelectBuilder.createSelectBySingleArrayParameter(
+				loadable,
+				identifierMapping,
+				loadQueryInfluencers,
+				lockOptions,
+				jdbcParameter,
+				sessionFactory
+		);
+
+		jdbcParameterBindings.addBinding(
+				jdbcParameter,
+				new JdbcParameterBindingImpl( arrayJdbcMapping, toKeyArray( keys, identifierMapping ) )
+		);
+		return sqlAst;
+	}
+
+	/**
+	 * Copy the given keys into an array of the Java type of the keys of the given part,
+	 * for binding to the parameter created by {@link LoaderSelectBuilder#createSelectBySingleArrayParameter}.
+	 */
+	public static Object[] toKeyArray(List<?> keys, BasicValuedModelPart keyPart) {
+		final Object[] array = (Object[]) Array.newInstance(
+				keyPart.getJdbcMapping().getJavaTypeDescriptor().getJavaTypeClass(),
+				keys.size()
+		);
+		return keys.toArray( array );
+	}
+}
@@ -7,6 +7,7 @@
 package org.hibernate.loader.ast.internal;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import org.hibernate.LockOptions;
@@ -19,6 +20,7 @@ import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.engine.spi.SubselectFetch;
 import org.hibernate.internal.util.collections.ArrayHelper;
 import org.hibernate.metamodel.mapping.EntityMappingType;
+import org.hibernate.metamodel.mapping.JdbcMapping;
 import org.hibernate.query.spi.QueryOptions;
 import org.hibernate.query.spi.QueryOptionsAdapter;
 import org.hibernate.query.spi.QueryParameterBindings;
@@ -47,6 +49,12 @@ public class SingleIdEntityLoaderDynamicBatch<T> extends SingleIdEntityLoaderSup
 
 	private SingleIdEntityLoaderStandardImpl<T> singleIdLoader;
 
+	// resolved lazily, since the identifier mapping is not yet available when the
+	// loader is created; the volatile flag is written after the mapping, so that a
+	// thread which sees it set also sees the mapping
+	private volatile boolean arrayJdbcMappingResolved;
+	private JdbcMapping arrayJdbcMapping;
+
 	public SingleIdEntityLoaderDynamicBatch(
 			EntityMappingType entityDescriptor,
 			int maxBatchSize,
@@ -92,42 +100,64 @@ public class SingleIdEntityLoaderDynamicBatch<T> extends SingleIdEntityLoaderSup
 			log.debugf( "Batch loading entity [%s] : %s", getLoadable().getEntityName(), idsToLoad );
 		}
 
-		final List<JdbcParameter> jdbcParameters = new ArrayList<>();
-
-		final SelectStatement sqlAst = LoaderSelectBuilder.createSelect(
-				getLoadable(),
-				// null here means to select everything
-				null,
-				getLoadable().getIdentifierMapping(),
-				null,
-				numberOfIds,
-				session.getLoadQueryInfluencers(),
-				lockOptions,
-				jdbcParameters::add,
-				session.getFactory()
-		);
-
 		final SessionFactoryImplementor sessionFactory = session.getFactory();
 		final JdbcServices jdbcServices = sessionFactory.getJdbcServices();
 		final JdbcEnvironment jdbcEnvironment = jdbcServices.getJdbcEnvironment();
 		final SqlAstTranslatorFactory sqlAstTranslatorFactory = jdbcEnvironment.getSqlAstTranslatorFactory();
 
-		final JdbcParameterBindings jdbcParameterBindings = new JdbcParameterBindingsImpl(
-				getLoadable().getIdentifierMapping().getJdbcTypeCount()
-		);
+		final List<JdbcParameter> jdbcParameters;
+		final SelectStatement sqlAst;
+		final JdbcParameterBindings jdbcParameterBindings;
+
+		final JdbcMapping arrayJdbcMapping = getArrayJdbcMapping( sessionFactory );
+		if ( arrayJdbcMapping != null ) {
+			// bind all the ids to a single parameter, so that the SQL does not depend on the batch size
+			jdbcParameters = new ArrayList<>( 1 );
+			jdbcParameterBindings = new JdbcParameterBindingsImpl( 1 );
+			sqlAst = MultiKeyLoadHelper.createSelectByArrayParameter(
+					getLoadable(),
+					arrayJdbcMapping,
+					Arrays.asList( idsToLoad ),
+					session.getLoadQueryInfluencers(),
+					lockOptions,
+					jdbcParameters::add,
+					jdbcParameterBindings,
+					sessionFactory
+			);
+		}
+		else {
+			jdbcParameters = new ArrayList<>();
 
-		int offset = 0;
-		for ( int i = 0; i < numberOfIds; i++ ) {
-			offset += jdbcParameterBindings.registerParametersForEachJdbcValue(
-					idsToLoad[i],
-					Clause.WHERE,
-					offset,
+			sqlAst = LoaderSelectBuilder.createSelect(
+					getLoadable(),
+					// null here means to select everything
+					null,
 					getLoadable().getIdentifierMapping(),
-					jdbcParameters,
-					session
+					null,
+					numberOfIds,
+					session.getLoadQueryInfluencers(),
+					lockOptions,
+					jdbcParameters::add,
+					sessionFactory
+			);
+
+			jdbcParameterBindings = new JdbcParameterBindingsImpl(
+					getLoadable().getIdentifierMapping().getJdbcTypeCount()
 			);
+
+			int offset = 0;
+			for ( int i = 0; i < numberOfIds; i++ ) {
+				offset += jdbcParameterBindings.registerParametersForEachJdbcValue(
+						idsToLoad[i],
+						Clause.WHERE,
+						offset,
+						getLoadable().getIdentifierMapping(),
+						jdbcParameters,
+						session
+				);
+			}
+			assert offset == jdbcParameters.size();
 		}
-		assert offset == jdbcParameters.size();
 
 		final JdbcOperationQuerySelect jdbcSelect = sqlAstTranslatorFactory
 				.buildSelectTranslator( sessionFactory, sqlAst )
@@ -183,6 +213,18 @@ public class SingleIdEntityLoaderDynamicBatch<T> extends SingleIdEntityLoaderSup
 		);
 	}
 
+	private JdbcMapping getArrayJdbcMapping(SessionFactoryImplementor sessionFactory) {
+		if ( !arrayJdbcMappingResolved ) {
+			// racing threads resolve the same mapping
+			arrayJdbcMapping = MultiKeyLoadHelper.resolveArrayJdbcMapping(
+					getLoadable().getIdentifierMapping(),
+					sessionFactory
+			);
+			arrayJdbcMappingResolved = true;
+		}
+		return arrayJdbcMapping;
+	}
+
 	private void initializeSingleIdLoaderIfNeeded(SharedSessionContractImplementor session) {
 		if ( singleIdLoader == null ) {
 			singleIdLoader = new SingleIdEntityLoaderStandardImpl<>( getLoadable(), session.getFactory() );
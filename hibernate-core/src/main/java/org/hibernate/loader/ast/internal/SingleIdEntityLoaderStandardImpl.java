@@ -7,8 +7,9 @@
 package org.hibernate.loader.ast.internal;
 
 import java.util.ArrayList;
-import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.hibernate.Internal;
@@ -29,8 +30,10 @@ import org.hibernate.sql.ast.tree.expression.JdbcParameter;
  * @author Steve Ebersole
  */
 public class SingleIdEntityLoaderStandardImpl<T> extends SingleIdEntityLoaderSupport<T> implements Preparable {
-	private EnumMap<LockMode, SingleIdLoadPlan> selectByLockMode = new EnumMap<>( LockMode.class );
-	private EnumMap<CascadingFetchProfile, SingleIdLoadPlan> selectByInternalCascadeProfile;
+	// concurrent, since the load plans are also created on first use by concurrent sessions,
+	// when prepare() is skipped because of AvailableSettings#LAZY_PERSISTER_INITIALIZATION
+	private final Map<LockMode, SingleIdLoadPlan> selectByLockMode = new ConcurrentHashMap<>();
+	private final Map<CascadingFetchProfile, SingleIdLoadPlan> selectByInternalCascadeProfile = new ConcurrentHashMap<>();
 
 	private AtomicInteger nonReusablePlansGenerated = new AtomicInteger();
 
@@ -38,6 +41,11 @@ public class SingleIdEntityLoaderStandardImpl<T> extends SingleIdEntityLoaderSup
 		return nonReusablePlansGenerated;
 	}
 
+	@Internal
+	public boolean hasReusableLoadPlans() {
+		return !selectByLockMode.isEmpty();
+	}
+
 	public SingleIdEntityLoaderStandardImpl(
 			EntityMappingType entityDescriptor,
 			SessionFactoryImplementor sessionFactory) {
@@ -106,15 +114,10 @@ public class SingleIdEntityLoaderStandardImpl<T> extends SingleIdEntityLoaderSup
 		final CascadingFetchProfile enabledCascadingFetchProfile = loadQueryInfluencers.getEnabledCascadingFetchProfile();
 		if ( enabledCascadingFetchProfile != null ) {
 			if ( LockMode.WRITE.greaterThan( lockOptions.getLockMode() ) ) {
-				if ( selectByInternalCascadeProfile == null ) {
-					selectByInternalCascadeProfile = new EnumMap<>( CascadingFetchProfile.class );
-				}
-				else {
-					final SingleIdLoadPlan existing = selectByInternalCascadeProfile.get( enabledCascadingFetchProfile );
-					if ( existing != null ) {
-						//noinspection unchecked
-						return existing;
-					}
+				final SingleIdLoadPlan existing = selectByInternalCascadeProfile.get( enabledCascadingFetchProfile );
+				if ( existing != null ) {
+					//noinspection unchecked
+					return existing;
 				}
 
 				final SingleIdLoadPlan<T> plan = createLoadPlan(
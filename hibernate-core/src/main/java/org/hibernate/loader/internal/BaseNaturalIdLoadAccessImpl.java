@@ -13,7 +13,6 @@ import org.hibernate.HibernateException;
 import org.hibernate.IdentifierLoadAccess;
 import org.hibernate.LockOptions;
 import org.hibernate.engine.spi.EntityEntry;
-import org.hibernate.engine.spi.EntityKey;
 import org.hibernate.engine.spi.PersistenceContext;
 import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.engine.spi.Status;
@@ -102,8 +101,7 @@ public abstract class BaseNaturalIdLoadAccessImpl<T> implements NaturalIdLoadOpt
 		final PersistenceContext persistenceContext = context.getSession().getPersistenceContextInternal();
 		final Collection<?> cachedPkResolutions = persistenceContext.getNaturalIdResolutions().getCachedPkResolutions( entityPersister() );
 		for ( Object pk : cachedPkResolutions ) {
-			final EntityKey entityKey = context.getSession().generateEntityKey( pk, entityPersister() );
-			final Object entity = persistenceContext.getEntity( entityKey );
+			final Object entity = persistenceContext.getEntity( entityPersister(), pk );
 			final EntityEntry entry = persistenceContext.getEntry( entity );
 
 			if ( entry == null ) {
@@ -58,6 +58,7 @@ public abstract class Collection implements Fetchable, Value, Filterable {
 	private boolean inverse;
 	private boolean mutable = true;
 	private boolean subselectLoadable;
+	private boolean aggregateFetched;
 	private String cacheConcurrencyStrategy;
 	private String cacheRegionName;
 	private String orderBy;
@@ -133,6 +134,7 @@ public abstract class Collection implements Fetchable, Value, Filterable {
 		this.inverse = original.inverse;
 		this.mutable = original.mutable;
 		this.subselectLoadable = original.subselectLoadable;
+		this.aggregateFetched = original.aggregateFetched;
 		this.cacheConcurrencyStrategy = original.cacheConcurrencyStrategy;
 		this.cacheRegionName = original.cacheRegionName;
 		this.orderBy = original.orderBy;
@@ -810,6 +812,14 @@ public abstract class Collection implements Fetchable, Value, Filterable {
 		this.subselectLoadable = subqueryLoadable;
 	}
 
+	public boolean isAggregateFetched() {
+		return aggregateFetched;
+	}
+
+	public void setAggregateFetched(boolean aggregateFetched) {
+		this.aggregateFetched = aggregateFetched;
+	}
+
 	public boolean isMutable() {
 		return mutable;
 	}
@@ -562,19 +562,26 @@ public class MappingModelCreationHelper {
 				cascadeStyle
 		);
 
-		final FetchStyle style = FetchOptionsHelper.determineFetchStyleByMetadata(
-				fetchMode,
-				collectionDescriptor.getCollectionType(),
-				sessionFactory
-		);
-
-		final FetchTiming timing = FetchOptionsHelper.determineFetchTiming(
-				style,
-				collectionDescriptor.getCollectionType(),
-				collectionDescriptor.isLazy(),
-				collectionDescriptor.getRole(),
-				sessionFactory
-		);
+		final FetchStyle style;
+		final FetchTiming timing;
+		if ( isAggregateFetchable( bootValueMapping, elementDescriptor, indexDescriptor, identifierDescriptor, dialect ) ) {
+			style = FetchStyle.AGGREGATE;
+			timing = FetchTiming.IMMEDIATE;
+		}
+		else {
+			style = FetchOptionsHelper.determineFetchStyleByMetadata(
+					fetchMode,
+					collectionDescriptor.getCollectionType(),
+					sessionFactory
+			);
+			timing = FetchOptionsHelper.determineFetchTiming(
+					style,
+					collectionDescriptor.getCollectionType(),
+					collectionDescriptor.isLazy(),
+					collectionDescriptor.getRole(),
+					sessionFactory
+			);
+		}
 
 		final PluralAttributeMappingImpl pluralAttributeMapping = new PluralAttributeMappingImpl(
 				attrName,
@@ -620,6 +627,38 @@ public class MappingModelCreationHelper {
 		return pluralAttributeMapping;
 	}
 
+	private static boolean isAggregateFetchable(
+			Collection bootValueMapping,
+			CollectionPart elementDescriptor,
+			CollectionPart indexDescriptor,
+			CollectionIdentifierDescriptor identifierDescriptor,
+			Dialect dialect) {
+		if ( !bootValueMapping.isAggregateFetched() ) {
+			return false;
+		}
+		if ( !dialect.supportsArrayAggregation() ) {
+			LOGGER.debugf(
+					"Collection `%s` was mapped for aggregate fetching, but the dialect does not support array aggregation - falling back to select fetching",
+					bootValueMapping.getRole()
+			);
+			return false;
+		}
+		if ( !( elementDescriptor instanceof BasicValuedCollectionPart )
+				|| indexDescriptor != null
+				|| identifierDescriptor != null
+				|| bootValueMapping.hasOrder()
+				|| bootValueMapping.getWhere() != null
+				|| !bootValueMapping.getFilters().isEmpty()
+				|| bootValueMapping.getReferencedPropertyName() != null ) {
+			LOGGER.debugf(
+					"Collection `%s` was mapped for aggregate fetching, but is not an unindexed and unordered collection of basic values without restrictions - falling back to select fetching",
+					bootValueMapping.getRole()
+			);
+			return false;
+		}
+		return true;
+	}
+
 	private static void interpretPluralAttributeMappingKeyDescriptor(
 			PluralAttributeMappingImpl attributeMapping,
 			Collection bootValueMapping,
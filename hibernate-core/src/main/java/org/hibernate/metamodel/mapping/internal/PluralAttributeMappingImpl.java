@@ -15,6 +15,7 @@ import org.hibernate.engine.FetchStyle;
 import org.hibernate.engine.FetchTiming;
 import org.hibernate.engine.spi.CascadeStyle;
 import org.hibernate.engine.spi.LoadQueryInfluencers;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.generator.Generator;
 import org.hibernate.internal.util.StringHelper;
@@ -24,12 +25,14 @@ import org.hibernate.mapping.List;
 import org.hibernate.mapping.Map;
 import org.hibernate.mapping.Property;
 import org.hibernate.metamodel.mapping.AttributeMetadata;
+import org.hibernate.metamodel.mapping.BasicValuedModelPart;
 import org.hibernate.metamodel.mapping.CollectionIdentifierDescriptor;
 import org.hibernate.metamodel.mapping.CollectionMappingType;
 import org.hibernate.metamodel.mapping.CollectionPart;
 import org.hibernate.metamodel.mapping.EntityMappingType;
 import org.hibernate.metamodel.mapping.ForeignKeyDescriptor;
 import org.hibernate.metamodel.mapping.JdbcMapping;
+import org.hibernate.metamodel.mapping.JdbcMappingContainer;
 import org.hibernate.metamodel.mapping.ManagedMappingType;
 import org.hibernate.metamodel.mapping.ModelPart;
 import org.hibernate.metamodel.mapping.ModelPartContainer;
@@ -44,14 +47,18 @@ import org.hibernate.persister.entity.Joinable;
 import org.hibernate.property.access.spi.PropertyAccess;
 import org.hibernate.spi.NavigablePath;
 import org.hibernate.sql.ast.SqlAstJoinType;
+import org.hibernate.sql.ast.SqlAstTranslator;
 import org.hibernate.sql.ast.spi.FromClauseAccess;
 import org.hibernate.sql.ast.spi.SqlAliasBase;
 import org.hibernate.sql.ast.spi.SqlAliasBaseGenerator;
 import org.hibernate.sql.ast.spi.SqlAliasStemHelper;
+import org.hibernate.sql.ast.spi.SqlAppender;
 import org.hibernate.sql.ast.spi.SqlAstCreationContext;
 import org.hibernate.sql.ast.spi.SqlAstCreationState;
 import org.hibernate.sql.ast.spi.SqlExpressionResolver;
 import org.hibernate.sql.ast.spi.SqlSelection;
+import org.hibernate.sql.ast.tree.expression.Expression;
+import org.hibernate.sql.ast.tree.expression.SelfRenderingExpression;
 import org.hibernate.sql.ast.tree.from.CollectionTableGroup;
 import org.hibernate.sql.ast.tree.from.NamedTableReference;
 import org.hibernate.sql.ast.tree.from.OneToManyTableGroup;
@@ -60,15 +67,24 @@ import org.hibernate.sql.ast.tree.from.TableGroupJoin;
 import org.hibernate.sql.ast.tree.from.TableGroupJoinProducer;
 import org.hibernate.sql.ast.tree.from.TableReference;
 import org.hibernate.sql.ast.tree.predicate.Predicate;
+import org.hibernate.sql.ast.tree.select.QuerySpec;
+import org.hibernate.sql.ast.tree.select.SelectStatement;
 import org.hibernate.sql.results.graph.DomainResult;
 import org.hibernate.sql.results.graph.DomainResultCreationState;
 import org.hibernate.sql.results.graph.Fetch;
 import org.hibernate.sql.results.graph.FetchOptions;
 import org.hibernate.sql.results.graph.FetchParent;
+import org.hibernate.sql.results.graph.basic.BasicResult;
+import org.hibernate.sql.results.graph.collection.internal.AggregatedCollectionFetch;
 import org.hibernate.sql.results.graph.collection.internal.CollectionDomainResult;
 import org.hibernate.sql.results.graph.collection.internal.DelayedCollectionFetch;
 import org.hibernate.sql.results.graph.collection.internal.EagerCollectionFetch;
 import org.hibernate.sql.results.graph.collection.internal.SelectEagerCollectionFetch;
+import org.hibernate.sql.results.internal.SqlSelectionImpl;
+import org.hibernate.type.BasicType;
+import org.hibernate.type.descriptor.java.ObjectJavaType;
+import org.hibernate.type.descriptor.jdbc.ObjectJdbcType;
+import org.hibernate.type.internal.BasicTypeImpl;
 
 import org.jboss.logging.Logger;
 
@@ -416,6 +432,13 @@ public class PluralAttributeMappingImpl
 							creationState
 					);
 				}
+				else if ( fetchStyle == FetchStyle.AGGREGATE ) {
+					return createAggregatedCollectionFetch(
+							fetchParent,
+							fetchablePath,
+							sqlAstCreationState
+					);
+				}
 				else {
 					return createSelectEagerCollectionFetch(
 							fetchParent,
@@ -492,6 +515,64 @@ public class PluralAttributeMappingImpl
 		return new SelectEagerCollectionFetch( fetchablePath, this, null, fetchParent );
 	}
 
+	/**
+	 * Selects the elements of the collection as a single SQL array, aggregated by a
+	 * subquery correlated with the owner, so that the result has one row per owner.
+	 */
+	private Fetch createAggregatedCollectionFetch(
+			FetchParent fetchParent,
+			NavigablePath fetchablePath,
+			SqlAstCreationState sqlAstCreationState) {
+		final SqlAstCreationContext creationContext = sqlAstCreationState.getCreationContext();
+		final SqlExpressionResolver sqlExpressionResolver = sqlAstCreationState.getSqlExpressionResolver();
+		final FromClauseAccess fromClauseAccess = sqlAstCreationState.getFromClauseAccess();
+		final TableGroup ownerTableGroup = fromClauseAccess.getTableGroup( fetchParent.getNavigablePath() );
+		final TableGroup collectionTableGroup = createCollectionTableGroup(
+				true,
+				fetchablePath,
+				false,
+				null,
+				sqlAstCreationState.getSqlAliasBaseGenerator().createSqlAliasBase( getSqlAliasStem() ),
+				sqlExpressionResolver,
+				fromClauseAccess,
+				creationContext
+		);
+
+		final BasicValuedModelPart element = (BasicValuedModelPart) elementDescriptor;
+		final Expression elementExpression = sqlExpressionResolver.resolveSqlExpression(
+				collectionTableGroup.resolveTableReference( fetchablePath, element.getContainingTableExpression() ),
+				element
+		);
+
+		final QuerySpec aggregationQuery = new QuerySpec( false );
+		aggregationQuery.getFromClause().addRoot( collectionTableGroup );
+		aggregationQuery.applyPredicate(
+				fkDescriptor.generateJoinPredicate(
+						ownerTableGroup,
+						collectionTableGroup,
+						sqlExpressionResolver,
+						creationContext
+				)
+		);
+		aggregationQuery.getSelectClause().addSqlSelection(
+				new SqlSelectionImpl( 1, 0, new ArrayAggregation( elementExpression ) )
+		);
+
+		final SqlSelection sqlSelection = sqlExpressionResolver.resolveSqlSelection(
+				new SelectStatement( aggregationQuery ),
+				ObjectJavaType.INSTANCE,
+				fetchParent,
+				creationContext.getSessionFactory().getTypeConfiguration()
+		);
+
+		return new AggregatedCollectionFetch(
+				fetchablePath,
+				this,
+				new BasicResult<>( sqlSelection.getValuesArrayPosition(), null, ArrayAggregation.TYPE ),
+				fetchParent
+		);
+	}
+
 	private TableGroup resolveCollectionTableGroup(
 			FetchParent fetchParent,
 			NavigablePath fetchablePath,
@@ -962,4 +1043,34 @@ public class PluralAttributeMappingImpl
 	public String toString() {
 		return "PluralAttribute(" + getCollectionDescriptor().getRole() + ")";
 	}
+
+	/**
+	 * The {@code array_agg()} of a column, typed as an opaque JDBC object since
+	 * its elements are only decoded when the collection is initialized.
+	 */
+	private static class ArrayAggregation implements SelfRenderingExpression {
+		// not a JavaObjectType, which would be resolved from the JDBC metadata instead
+		private static final BasicType<Object> TYPE = new BasicTypeImpl<>( ObjectJavaType.INSTANCE, ObjectJdbcType.INSTANCE );
+
+		private final Expression argument;
+
+		private ArrayAggregation(Expression argument) {
+			this.argument = argument;
+		}
+
+		@Override
+		public JdbcMappingContainer getExpressionType() {
+			return TYPE;
+		}
+
+		@Override
+		public void renderToSql(
+				SqlAppender sqlAppender,
+				SqlAstTranslator<?> walker,
+				SessionFactoryImplementor sessionFactory) {
+			sqlAppender.appendSql( "array_agg(" );
+			argument.accept( walker );
+			sqlAppender.appendSql( ')' );
+		}
+	}
 }
@@ -9,14 +9,21 @@ package org.hibernate.metamodel.model.domain.internal;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.hibernate.EntityNameResolver;
@@ -31,17 +38,27 @@ import org.hibernate.cache.spi.CacheImplementor;
 import org.hibernate.cache.spi.access.CollectionDataAccess;
 import org.hibernate.cache.spi.access.EntityDataAccess;
 import org.hibernate.cache.spi.access.NaturalIdDataAccess;
+import org.hibernate.cfg.AvailableSettings;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.spi.EventManager;
+import org.hibernate.event.spi.HibernateMonitoringEvent;
 import org.hibernate.graph.RootGraph;
 import org.hibernate.graph.spi.RootGraphImplementor;
 import org.hibernate.internal.EntityManagerMessageLogger;
+import org.hibernate.internal.FastSessionServices;
 import org.hibernate.internal.HEMLogging;
 import org.hibernate.internal.util.collections.ArrayHelper;
 import org.hibernate.jpa.spi.JpaCompliance;
 import org.hibernate.mapping.Collection;
 import org.hibernate.mapping.Component;
+import org.hibernate.mapping.IdentifierCollection;
+import org.hibernate.mapping.IndexedCollection;
+import org.hibernate.mapping.Join;
 import org.hibernate.mapping.MappedSuperclass;
 import org.hibernate.mapping.PersistentClass;
+import org.hibernate.mapping.Property;
+import org.hibernate.mapping.ToOne;
+import org.hibernate.mapping.Value;
 import org.hibernate.metamodel.MappingMetamodel;
 import org.hibernate.metamodel.internal.JpaMetaModelPopulationSetting;
 import org.hibernate.metamodel.internal.JpaStaticMetaModelPopulationSetting;
@@ -70,6 +87,7 @@ import org.hibernate.query.sqm.tree.domain.SqmPath;
 import org.hibernate.query.sqm.tree.expression.SqmFieldLiteral;
 import org.hibernate.spi.NavigablePath;
 import org.hibernate.sql.ast.tree.from.TableGroup;
+import org.hibernate.stat.spi.StatisticsImplementor;
 import org.hibernate.type.BasicType;
 import org.hibernate.type.ComponentType;
 import org.hibernate.type.Type;
@@ -82,6 +100,7 @@ import jakarta.persistence.metamodel.EmbeddableType;
 import jakarta.persistence.metamodel.EntityType;
 import jakarta.persistence.metamodel.ManagedType;
 
+import static org.hibernate.internal.util.config.ConfigurationHelper.getBoolean;
 import static org.hibernate.metamodel.internal.JpaMetaModelPopulationSetting.determineJpaMetaModelPopulationSetting;
 import static org.hibernate.metamodel.internal.JpaStaticMetaModelPopulationSetting.determineJpaStaticMetaModelPopulationSetting;
 
@@ -210,50 +229,249 @@ public class MappingMetamodelImpl implements MappingMetamodelImplementor, Metamo
 		bootModel.getMappedSuperclassMappingsCopy().forEach( MappedSuperclass::prepareForMappingModel );
 		bootModel.getEntityBindings().forEach( PersistentClass::prepareForMappingModel );
 
-		processBootEntities(
-				bootModel.getEntityBindings(),
-				sessionFactory.getCache(),
-				persisterFactory,
-				runtimeModelCreationContext
+		final StatisticsImplementor statistics = sessionFactory.getStatistics();
+		// the session factory doesn't expose its event manager yet
+		final EventManager eventManager = FastSessionServices.resolveEventManager(
+				sessionFactory.getServiceRegistry().getService( ClassLoaderService.class )
 		);
+		final ForkJoinPool persisterCreationPool = createPersisterCreationPool( bootModel, sessionFactory );
+		try {
+			long phaseStart = System.nanoTime();
+			HibernateMonitoringEvent phaseEvent = eventManager.beginMappingModelCreationPhaseEvent();
+
+			processBootEntities(
+					bootModel.getEntityBindings(),
+					sessionFactory.getCache(),
+					persisterFactory,
+					runtimeModelCreationContext,
+					persisterCreationPool
+			);
+			phaseStart = phaseCompleted( "entity persisters", phaseStart, phaseEvent, eventManager, statistics );
+			phaseEvent = eventManager.beginMappingModelCreationPhaseEvent();
+
+			processBootCollections(
+					bootModel.getCollectionBindings(),
+					sessionFactory.getCache(),
+					persisterFactory,
+					runtimeModelCreationContext,
+					persisterCreationPool
+			);
+			phaseStart = phaseCompleted( "collection persisters", phaseStart, phaseEvent, eventManager, statistics );
+			phaseEvent = eventManager.beginMappingModelCreationPhaseEvent();
 
-		processBootCollections(
-				bootModel.getCollectionBindings(),
-				sessionFactory.getCache(),
-				persisterFactory,
-				runtimeModelCreationContext
-		);
 
+			// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+			// after *all* persisters and named queries are registered
 
-		// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
-		// after *all* persisters and named queries are registered
+			MappingModelCreationProcess.process(
+					entityPersisterMap,
+					sessionFactory.getQueryEngine().getSqmFunctionRegistry(),
+					runtimeModelCreationContext
+			);
+			phaseStart = phaseCompleted( "mapping model", phaseStart, phaseEvent, eventManager, statistics );
+			phaseEvent = eventManager.beginMappingModelCreationPhaseEvent();
 
-		MappingModelCreationProcess.process(
-				entityPersisterMap,
-				sessionFactory.getQueryEngine().getSqmFunctionRegistry(),
-				runtimeModelCreationContext
-		);
+			for ( EntityPersister persister : entityPersisterMap.values() ) {
+				persister.postInstantiate();
+				registerEntityNameResolvers( persister, entityNameResolvers );
+			}
+
+			collectionPersisterMap.values().forEach( CollectionPersister::postInstantiate );
+			phaseStart = phaseCompleted( "persister post-instantiation", phaseStart, phaseEvent, eventManager, statistics );
+			phaseEvent = eventManager.beginMappingModelCreationPhaseEvent();
+
+			registerEmbeddableMappingType( bootModel );
 
-		for ( EntityPersister persister : entityPersisterMap.values() ) {
-			persister.postInstantiate();
-			registerEntityNameResolvers( persister, entityNameResolvers );
+			( (JpaMetamodelImpl) this.jpaMetamodel ).processJpa(
+					bootModel,
+					this,
+					entityProxyInterfaceMap,
+					jpaStaticMetaModelPopulationSetting,
+					jpaMetaModelPopulationSetting,
+					bootModel.getNamedEntityGraphs().values(),
+					runtimeModelCreationContext
+			);
+			phaseCompleted( "JPA metamodel", phaseStart, phaseEvent, eventManager, statistics );
+		}
+		finally {
+			if ( persisterCreationPool != null ) {
+				persisterCreationPool.shutdown();
+			}
 		}
+	}
 
-		collectionPersisterMap.values().forEach( CollectionPersister::postInstantiate );
+	private static long phaseCompleted(
+			String phase,
+			long phaseStart,
+			HibernateMonitoringEvent phaseEvent,
+			EventManager eventManager,
+			StatisticsImplementor statistics) {
+		eventManager.completeMappingModelCreationPhaseEvent( phaseEvent, phase );
+		final long phaseEnd = System.nanoTime();
+		final long milliseconds = TimeUnit.NANOSECONDS.toMillis( phaseEnd - phaseStart );
+		log.debugf( "Created %s in %sms", phase, milliseconds );
+		if ( statistics.isStatisticsEnabled() ) {
+			statistics.mappingModelCreationPhase( phase, milliseconds );
+		}
+		return phaseEnd;
+	}
 
-		registerEmbeddableMappingType( bootModel );
+	/**
+	 * Create the pool used to create persisters in parallel, if enabled by
+	 * {@value AvailableSettings#PARALLEL_PERSISTER_CREATION}.
+	 */
+	private static ForkJoinPool createPersisterCreationPool(
+			MetadataImplementor bootModel,
+			SessionFactoryImplementor sessionFactory) {
+		final int parallelism = Runtime.getRuntime().availableProcessors();
+		if ( parallelism < 2
+				|| !getBoolean( AvailableSettings.PARALLEL_PERSISTER_CREATION, sessionFactory.getProperties() ) ) {
+			return null;
+		}
 
-		( (JpaMetamodelImpl) this.jpaMetamodel ).processJpa(
-				bootModel,
-				this,
-				entityProxyInterfaceMap,
-				jpaStaticMetaModelPopulationSetting,
-				jpaMetaModelPopulationSetting,
-				bootModel.getNamedEntityGraphs().values(),
-				runtimeModelCreationContext
+		// the boot model lazily resolves and caches the types and columns of
+		// its values, some of which are shared between persisters, so resolve
+		// them all first
+		resolveValues( bootModel );
+
+		// the persisters may need the context class loader, for example,
+		// to generate proxy classes
+		final ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+		return new ForkJoinPool(
+				parallelism,
+				pool -> {
+					final ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread( pool );
+					thread.setContextClassLoader( contextClassLoader );
+					return thread;
+				},
+				null,
+				false
 		);
 	}
 
+	/**
+	 * Resolve the whole graph of values of the boot model, so that the
+	 * persisters created in parallel only read the state of the values.
+	 * <p>
+	 * The lazily initialized state covered here is:
+	 * <ul>
+	 *     <li>the {@code Resolution} of a {@code BasicValue}, and the type of
+	 *     any other {@code SimpleValue}, through {@link Value#getType()},</li>
+	 *     <li>the {@code resolvedType} of a {@code ManyToOne}, which needs the
+	 *     type of the referenced identifier or property, so that one is
+	 *     resolved as well,</li>
+	 *     <li>the {@code type}, {@code cachedSelectables} and {@code cachedColumns}
+	 *     of a {@code Component}, recursively for the values of its properties,</li>
+	 *     <li>the {@code cachedCollectionType} and {@code cachedCollectionSemantics}
+	 *     of a {@code Collection}, along with its key, element, index and
+	 *     identifier values.</li>
+	 * </ul>
+	 * Any new lazily initialized state of the boot model which is reachable
+	 * from a persister must be added here, or initialized eagerly.
+	 */
+	private static void resolveValues(MetadataImplementor bootModel) {
+		final Set<Value> resolved = Collections.newSetFromMap( new IdentityHashMap<>() );
+		for ( PersistentClass entityBinding : bootModel.getEntityBindings() ) {
+			resolveValue( entityBinding.getIdentifier(), resolved );
+			resolveValue( entityBinding.getIdentifierMapper(), resolved );
+			resolveValue( entityBinding.getDiscriminator(), resolved );
+			resolveValue( entityBinding.getKey(), resolved );
+			for ( Join join : entityBinding.getJoinClosure() ) {
+				resolveValue( join.getKey(), resolved );
+			}
+			for ( Property property : entityBinding.getPropertyClosure() ) {
+				resolveValue( property.getValue(), resolved );
+			}
+		}
+		for ( Collection collectionBinding : bootModel.getCollectionBindings() ) {
+			resolveValue( collectionBinding, resolved );
+		}
+	}
+
+	private static void resolveValue(Value value, Set<Value> resolved) {
+		if ( value == null || !resolved.add( value ) ) {
+			return;
+		}
+
+		value.getType();
+		value.getColumnSpan();
+		value.getSelectables();
+
+		if ( value instanceof Component ) {
+			final Component component = (Component) value;
+			if ( !component.hasFormula() ) {
+				component.getColumns();
+			}
+			for ( Property property : component.getProperties() ) {
+				resolveValue( property.getValue(), resolved );
+			}
+		}
+		else if ( value instanceof ToOne ) {
+			// the foreign key has the type of the referenced identifier or property
+			final ToOne toOne = (ToOne) value;
+			final PersistentClass referencedEntity = toOne.getMetadata()
+					.getEntityBinding( toOne.getReferencedEntityName() );
+			if ( referencedEntity != null ) {
+				resolveValue(
+						toOne.getReferencedPropertyName() == null
+								? referencedEntity.getIdentifier()
+								: referencedEntity.getRecursiveProperty( toOne.getReferencedPropertyName() ).getValue(),
+						resolved
+				);
+			}
+		}
+		else if ( value instanceof Collection ) {
+			final Collection collection = (Collection) value;
+			collection.getCollectionSemantics();
+			resolveValue( collection.getKey(), resolved );
+			resolveValue( collection.getElement(), resolved );
+			if ( collection instanceof IndexedCollection ) {
+				resolveValue( ( (IndexedCollection) collection ).getIndex(), resolved );
+			}
+			if ( collection instanceof IdentifierCollection ) {
+				resolveValue( ( (IdentifierCollection) collection ).getIdentifier(), resolved );
+			}
+		}
+	}
+
+	/**
+	 * Create a persister for each of the given boot model objects, in
+	 * parallel if a pool is given, and return them in the same order.
+	 */
+	private static <B, P> List<P> createPersisters(
+			java.util.Collection<B> bootModels,
+			Function<B, P> persisterCreator,
+			ForkJoinPool persisterCreationPool) {
+		if ( persisterCreationPool == null ) {
+			final List<P> persisters = new ArrayList<>( bootModels.size() );
+			for ( B bootModel : bootModels ) {
+				persisters.add( persisterCreator.apply( bootModel ) );
+			}
+			return persisters;
+		}
+
+		final List<B> bootModelList = new ArrayList<>( bootModels );
+		try {
+			return persisterCreationPool.submit(
+					() -> bootModelList.parallelStream().map( persisterCreator ).collect( Collectors.toList() )
+			).get();
+		}
+		catch (ExecutionException e) {
+			final Throwable cause = e.getCause();
+			if ( cause instanceof RuntimeException ) {
+				throw (RuntimeException) cause;
+			}
+			else if ( cause instanceof Error ) {
+				throw (Error) cause;
+			}
+			throw new HibernateException( "Unable to create persisters", cause );
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new HibernateException( "Interrupted while creating persisters", e );
+		}
+	}
+
 	private void registerEmbeddableMappingType(MetadataImplementor bootModel) {
 		bootModel.visitRegisteredComponents(
 				composite -> {
@@ -270,19 +488,29 @@ public class MappingMetamodelImpl implements MappingMetamodelImplementor, Metamo
 			java.util.Collection<PersistentClass> entityBindings,
 			CacheImplementor cacheImplementor,
 			PersisterFactory persisterFactory,
-			RuntimeModelCreationContext modelCreationContext) {
+			RuntimeModelCreationContext modelCreationContext,
+			ForkJoinPool persisterCreationPool) {
+		final List<EntityPersister> persisters = createPersisters(
+				entityBindings,
+				model -> {
+					final NavigableRole rootEntityRole = new NavigableRole( model.getRootClass().getEntityName() );
+					final EntityDataAccess accessStrategy = cacheImplementor.getEntityRegionAccess( rootEntityRole );
+					final NaturalIdDataAccess naturalIdAccessStrategy = cacheImplementor
+							.getNaturalIdCacheRegionAccessStrategy( rootEntityRole );
+
+					return persisterFactory.createEntityPersister(
+							model,
+							accessStrategy,
+							naturalIdAccessStrategy,
+							modelCreationContext
+					);
+				},
+				persisterCreationPool
+		);
+
+		int i = 0;
 		for ( final PersistentClass model : entityBindings ) {
-			final NavigableRole rootEntityRole = new NavigableRole( model.getRootClass().getEntityName() );
-			final EntityDataAccess accessStrategy = cacheImplementor.getEntityRegionAccess( rootEntityRole );
-			final NaturalIdDataAccess naturalIdAccessStrategy = cacheImplementor
-					.getNaturalIdCacheRegionAccessStrategy( rootEntityRole );
-
-			final EntityPersister cp = persisterFactory.createEntityPersister(
-					model,
-					accessStrategy,
-					naturalIdAccessStrategy,
-					modelCreationContext
-			);
+			final EntityPersister cp = persisters.get( i++ );
 			entityPersisterMap.put( model.getEntityName(), cp );
 			// Also register the persister under the class name if available,
 			// otherwise the getEntityDescriptor(Class) won't work for entities with custom entity names
@@ -333,19 +561,27 @@ public class MappingMetamodelImpl implements MappingMetamodelImplementor, Metamo
 			java.util.Collection<Collection> collectionBindings,
 			CacheImplementor cacheImplementor,
 			PersisterFactory persisterFactory,
-			RuntimeModelCreationContext modelCreationContext) {
-		for ( final Collection model : collectionBindings ) {
-			final NavigableRole navigableRole = new NavigableRole( model.getRole() );
-
-			final CollectionDataAccess accessStrategy = cacheImplementor.getCollectionRegionAccess(
-					navigableRole );
+			RuntimeModelCreationContext modelCreationContext,
+			ForkJoinPool persisterCreationPool) {
+		final List<CollectionPersister> persisters = createPersisters(
+				collectionBindings,
+				model -> {
+					final NavigableRole navigableRole = new NavigableRole( model.getRole() );
+
+					final CollectionDataAccess accessStrategy = cacheImplementor.getCollectionRegionAccess(
+							navigableRole );
+
+					return persisterFactory.createCollectionPersister(
+							model,
+							accessStrategy,
+							modelCreationContext
+					);
+				},
+				persisterCreationPool
+		);
 
-			final CollectionPersister persister = persisterFactory.createCollectionPersister(
-					model,
-					accessStrategy,
-					modelCreationContext
-			);
-			collectionPersisterMap.put( model.getRole(), persister );
+		for ( final CollectionPersister persister : persisters ) {
+			collectionPersisterMap.put( persister.getRole(), persister );
 			Type indexType = persister.getIndexType();
 			if ( indexType != null && indexType.isEntityType() && !indexType.isAnyType() ) {
 				String entityName = ( (org.hibernate.type.EntityType) indexType ).getAssociatedEntityName();
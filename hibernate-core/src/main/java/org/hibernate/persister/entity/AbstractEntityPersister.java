@@ -63,6 +63,7 @@ import org.hibernate.cache.spi.entry.ReferenceCacheEntryImpl;
 import org.hibernate.cache.spi.entry.StandardCacheEntryImpl;
 import org.hibernate.cache.spi.entry.StructuredCacheEntry;
 import org.hibernate.cache.spi.entry.UnstructuredCacheEntry;
+import org.hibernate.cfg.AvailableSettings;
 import org.hibernate.classic.Lifecycle;
 import org.hibernate.collection.spi.PersistentCollection;
 import org.hibernate.dialect.Dialect;
@@ -196,6 +197,7 @@ import org.hibernate.persister.entity.mutation.DeleteCoordinator;
 import org.hibernate.persister.entity.mutation.EntityMutationTarget;
 import org.hibernate.persister.entity.mutation.EntityTableMapping;
 import org.hibernate.persister.entity.mutation.InsertCoordinator;
+import org.hibernate.persister.entity.mutation.MergeCoordinator;
 import org.hibernate.persister.entity.mutation.UpdateCoordinator;
 import org.hibernate.persister.entity.mutation.UpdateCoordinatorNoOp;
 import org.hibernate.persister.entity.mutation.UpdateCoordinatorStandard;
@@ -277,6 +279,7 @@ import static org.hibernate.engine.internal.ManagedTypeHelper.processIfPersisten
 import static org.hibernate.engine.internal.ManagedTypeHelper.processIfSelfDirtinessTracker;
 import static org.hibernate.engine.internal.Versioning.isVersionIncrementRequired;
 import static org.hibernate.generator.EventType.INSERT;
+import static org.hibernate.internal.util.config.ConfigurationHelper.getBoolean;
 import static org.hibernate.generator.EventType.UPDATE;
 import static org.hibernate.metamodel.RepresentationMode.POJO;
 import static org.hibernate.sql.ast.spi.SqlExpressionResolver.createColumnReferenceKey;
@@ -385,6 +388,7 @@ public abstract class AbstractEntityPersister
 	private InsertCoordinator insertCoordinator;
 	private UpdateCoordinator updateCoordinator;
 	private DeleteCoordinator deleteCoordinator;
+	private MergeCoordinator mergeCoordinator;
 
 	protected Expectation[] insertExpectations;
 	protected Expectation[] updateExpectations;
@@ -394,6 +398,10 @@ public abstract class AbstractEntityPersister
 	private String sqlVersionSelectString;
 	private Map<String, SingleIdArrayLoadPlan> sqlLazySelectStringsByFetchGroup;
 
+	// see AvailableSettings#LAZY_PERSISTER_INITIALIZATION
+	private final boolean lazyInitialization;
+	private volatile boolean sqlInitialized;
+
 
 	private GeneratedValuesProcessor insertGeneratedValuesProcessor;
 	private GeneratedValuesProcessor updateGeneratedValuesProcessor;
@@ -467,6 +475,8 @@ public abstract class AbstractEntityPersister
 
 		final SessionFactoryOptions sessionFactoryOptions = creationContext.getSessionFactory().getSessionFactoryOptions();
 
+		lazyInitialization = getBoolean( AvailableSettings.LAZY_PERSISTER_INITIALIZATION, factory.getProperties() );
+
 		if ( sessionFactoryOptions.isSecondLevelCacheEnabled() ) {
 			this.cacheAccessStrategy = cacheAccessStrategy;
 			this.naturalIdRegionAccessStrategy = naturalIdRegionAccessStrategy;
@@ -909,28 +919,49 @@ public abstract class AbstractEntityPersister
 	}
 
 	SingleIdArrayLoadPlan getSQLLazySelectLoadPlan(String fetchGroup) {
+		ensureSqlInitialized();
 		return sqlLazySelectStringsByFetchGroup.get( fetchGroup );
 	}
 
 	@Internal
 	public InsertCoordinator getInsertCoordinator() {
+		ensureSqlInitialized();
 		return insertCoordinator;
 	}
 
 	@Internal
 	public UpdateCoordinator getUpdateCoordinator() {
+		ensureSqlInitialized();
 		return updateCoordinator;
 	}
 
+	@Internal
+	public MergeCoordinator getMergeCoordinator() {
+		ensureSqlInitialized();
+		return mergeCoordinator;
+	}
+
 	@Internal
 	public DeleteCoordinator getDeleteCoordinator() {
+		ensureSqlInitialized();
 		return deleteCoordinator;
 	}
 
 	public String getVersionSelectString() {
+		ensureSqlInitialized();
 		return sqlVersionSelectString;
 	}
 
+	/**
+	 * Whether the mutation coordinators and static SQL have been built, which
+	 * is deferred to first use by
+	 * {@value AvailableSettings#LAZY_PERSISTER_INITIALIZATION}.
+	 */
+	@Internal
+	public boolean isSqlInitialized() {
+		return !lazyInitialization || sqlInitialized;
+	}
+
 	@Override
 	public boolean hasRowId() {
 		return rowIdName != null;
@@ -1960,7 +1991,7 @@ public abstract class AbstractEntityPersister
 			);
 		}
 
-		updateCoordinator.forceVersionIncrement( id, currentVersion, nextVersion, session );
+		getUpdateCoordinator().forceVersionIncrement( id, currentVersion, nextVersion, session );
 
 //		// todo : cache this sql...
 //		String versionIncrementString = generateVersionIncrementUpdateString();
@@ -2775,7 +2806,7 @@ public abstract class AbstractEntityPersister
 			final Object object,
 			final Object rowId,
 			final SharedSessionContractImplementor session) throws HibernateException {
-		updateCoordinator.coordinateUpdate(
+		getUpdateCoordinator().coordinateUpdate(
 				object,
 				id,
 				rowId,
@@ -2806,12 +2837,27 @@ public abstract class AbstractEntityPersister
 
 	@Override
 	public Object insert(Object[] fields, Object object, SharedSessionContractImplementor session) {
-		return insertCoordinator.coordinateInsert( null, fields, object, session );
+		return getInsertCoordinator().coordinateInsert( null, fields, object, session );
 	}
 
 	@Override
 	public void insert(Object id, Object[] fields, Object object, SharedSessionContractImplementor session) {
-		insertCoordinator.coordinateInsert( id, fields, object, session );
+		getInsertCoordinator().coordinateInsert( id, fields, object, session );
+	}
+
+	@Override
+	public boolean canMerge() {
+		return true;
+	}
+
+	@Override
+	public void merge(
+			Object id,
+			Object[] fields,
+			Object oldVersion,
+			Object object,
+			SharedSessionContractImplementor session) {
+		getMergeCoordinator().coordinateMerge( object, id, fields, oldVersion, session );
 	}
 
 	protected EntityTableMapping[] getTableMappings() {
@@ -2915,7 +2961,7 @@ public abstract class AbstractEntityPersister
 	 */
 	@Override
 	public void delete(Object id, Object version, Object object, SharedSessionContractImplementor session) {
-		deleteCoordinator.coordinateDelete( object, id, version, session );
+		getDeleteCoordinator().coordinateDelete( object, id, version, session );
 	}
 
 	protected boolean isAllOrDirtyOptLocking() {
@@ -3061,9 +3107,6 @@ public abstract class AbstractEntityPersister
 		}
 
 		tableMappings = buildTableMappings();
-		insertCoordinator = buildInsertCoordinator();
-		updateCoordinator = buildUpdateCoordinator();
-		deleteCoordinator = buildDeleteCoordinator();
 
 		final int joinSpan = getTableSpan();
 
@@ -3074,10 +3117,39 @@ public abstract class AbstractEntityPersister
 			tableHasColumns[j] = tableMapping.hasColumns();
 		}
 
+		if ( !lazyInitialization ) {
+			initializeSql();
+		}
+	}
+
+	/**
+	 * Build the mutation coordinators and static SQL of this persister, if
+	 * that was deferred to first use by
+	 * {@value AvailableSettings#LAZY_PERSISTER_INITIALIZATION}.
+	 */
+	private void ensureSqlInitialized() {
+		if ( lazyInitialization && !sqlInitialized ) {
+			synchronized ( this ) {
+				if ( !sqlInitialized ) {
+					initializeSql();
+				}
+			}
+		}
+	}
+
+	private void initializeSql() {
+		insertCoordinator = buildInsertCoordinator();
+		updateCoordinator = buildUpdateCoordinator();
+		deleteCoordinator = buildDeleteCoordinator();
+		mergeCoordinator = buildMergeCoordinator();
+
 		//select SQL
 		sqlLazySelectStringsByFetchGroup = generateLazySelectStringsByFetchGroup();
 		sqlVersionSelectString = generateSelectVersionString();
 
+		// the volatile write publishes the fields assigned above
+		sqlInitialized = true;
+
 		logStaticSQL();
 	}
 
@@ -3299,6 +3371,10 @@ public abstract class AbstractEntityPersister
 		return new DeleteCoordinator( this, factory );
 	}
 
+	protected MergeCoordinator buildMergeCoordinator() {
+		return new MergeCoordinator( this, factory );
+	}
+
 	public void addDiscriminatorToInsertGroup(MutationGroupBuilder insertGroupBuilder) {
 	}
 
@@ -3309,8 +3385,11 @@ public abstract class AbstractEntityPersister
 	@Override
 	public final void postInstantiate() throws MappingException {
 		doLateInit();
-		prepareLoader( singleIdEntityLoader );
-		prepareLoader( multiIdEntityLoader );
+		if ( !lazyInitialization ) {
+			// otherwise, the loaders build their load plans on demand
+			prepareLoader( singleIdEntityLoader );
+			prepareLoader( multiIdEntityLoader );
+		}
 	}
 
 	private void prepareLoader(Loader loader) {
@@ -5924,7 +6003,7 @@ public abstract class AbstractEntityPersister
 	@Deprecated(forRemoval = true)
 	@Remove
 	public String[] getSQLDeleteStrings() {
-		return extractSqlStrings( deleteCoordinator.getStaticDeleteGroup() );
+		return extractSqlStrings( getDeleteCoordinator().getStaticDeleteGroup() );
 	}
 
 	private String[] extractSqlStrings(MutationOperationGroup operationGroup) {
@@ -5944,7 +6023,7 @@ public abstract class AbstractEntityPersister
 	@Deprecated(forRemoval = true)
 	@Remove
 	public String[] getSQLUpdateStrings() {
-		return extractSqlStrings( updateCoordinator.getStaticUpdateGroup() );
+		return extractSqlStrings( getUpdateCoordinator().getStaticUpdateGroup() );
 	}
 
 	/**
@@ -586,6 +586,33 @@ public interface EntityPersister extends EntityMappingType, RootTableGroupProduc
 	 */
 	Object insert(Object[] fields, Object object, SharedSessionContractImplementor session);
 
+	/**
+	 * Does this persister support {@link #merge}?
+	 *
+	 * @since 6.2
+	 */
+	default boolean canMerge() {
+		return false;
+	}
+
+	/**
+	 * Insert the rows of an instance, or update them if rows with the given
+	 * identifier and, for a versioned entity, the given old version already
+	 * exist (optional operation)
+	 *
+	 * @throws UnsupportedOperationException if this persister {@linkplain #canMerge() cannot merge}
+	 *
+	 * @since 6.2
+	 */
+	default void merge(
+			Object id,
+			Object[] fields,
+			Object oldVersion,
+			Object object,
+			SharedSessionContractImplementor session) {
+		throw new UnsupportedOperationException( "Upsert is not supported for entity: " + getEntityName() );
+	}
+
 	/**
 	 * Delete a persistent instance
 	 */
@@ -62,8 +62,8 @@ import org.hibernate.sql.ast.tree.from.NamedTableReference;
 import org.hibernate.sql.ast.tree.from.TableGroup;
 import org.hibernate.sql.ast.tree.from.TableReference;
 import org.hibernate.sql.ast.tree.from.TableReferenceJoin;
+import org.hibernate.sql.model.ast.builder.ColumnValuesTableMutationBuilder;
 import org.hibernate.sql.model.ast.builder.MutationGroupBuilder;
-import org.hibernate.sql.model.ast.builder.TableInsertBuilder;
 import org.hibernate.sql.results.graph.DomainResult;
 import org.hibernate.sql.results.graph.DomainResultCreationState;
 import org.hibernate.sql.results.graph.entity.internal.EntityResultJoinedSubclassImpl;
@@ -892,7 +892,7 @@ public class JoinedSubclassEntityPersister extends AbstractEntityPersister {
 	@Override
 	public void addDiscriminatorToInsertGroup(MutationGroupBuilder insertGroupBuilder) {
 		if ( explicitDiscriminatorColumnName != null ) {
-			final TableInsertBuilder tableInsertBuilder = insertGroupBuilder.getTableDetailsBuilder( getRootTableName() );
+			final ColumnValuesTableMutationBuilder tableBuilder = insertGroupBuilder.getTableDetailsBuilder( getRootTableName() );
 			final String discriminatorValueToUse;
 			if ( discriminatorValue == NULL_DISCRIMINATOR ) {
 				discriminatorValueToUse = "null";
@@ -903,7 +903,7 @@ public class JoinedSubclassEntityPersister extends AbstractEntityPersister {
 			else {
 				discriminatorValueToUse = discriminatorSQLString;
 			}
-			tableInsertBuilder.addValueColumn(
+			tableBuilder.addValueColumn(
 					explicitDiscriminatorColumnName,
 					discriminatorValueToUse,
 					getDiscriminatorMapping().getJdbcMapping()
@@ -67,8 +67,8 @@ import org.hibernate.sql.ast.tree.predicate.Junction;
 import org.hibernate.sql.ast.tree.predicate.NegatedPredicate;
 import org.hibernate.sql.ast.tree.predicate.NullnessPredicate;
 import org.hibernate.sql.ast.tree.predicate.Predicate;
+import org.hibernate.sql.model.ast.builder.ColumnValuesTableMutationBuilder;
 import org.hibernate.sql.model.ast.builder.MutationGroupBuilder;
-import org.hibernate.sql.model.ast.builder.TableInsertBuilder;
 import org.hibernate.type.BasicType;
 import org.hibernate.type.Type;
 import org.hibernate.type.descriptor.jdbc.JdbcLiteralFormatter;
@@ -637,8 +637,8 @@ public class SingleTableEntityPersister extends AbstractEntityPersister {
 	@Override
 	public void addDiscriminatorToInsertGroup(MutationGroupBuilder insertGroupBuilder) {
 		if ( discriminatorInsertable ) {
-			final TableInsertBuilder tableInsertBuilder = insertGroupBuilder.getTableDetailsBuilder( getRootTableName() );
-			tableInsertBuilder.addValueColumn(
+			final ColumnValuesTableMutationBuilder tableBuilder = insertGroupBuilder.getTableDetailsBuilder( getRootTableName() );
+			tableBuilder.addValueColumn(
 					discriminatorColumnName,
 					discriminatorValue == NULL_DISCRIMINATOR ? NULL : discriminatorSQLValue,
 					getDiscriminatorMapping().getJdbcMapping()
@@ -0,0 +1,346 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.persister.entity.mutation;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.hibernate.Internal;
+import org.hibernate.engine.jdbc.batch.internal.BasicBatchKey;
+import org.hibernate.engine.jdbc.mutation.JdbcValueBindings;
+import org.hibernate.engine.jdbc.mutation.MutationExecutor;
+import org.hibernate.engine.jdbc.mutation.ParameterUsage;
+import org.hibernate.engine.jdbc.mutation.spi.MutationExecutorService;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.Generator;
+import org.hibernate.metamodel.mapping.AttributeMapping;
+import org.hibernate.metamodel.mapping.EntityVersionMapping;
+import org.hibernate.metamodel.mapping.PluralAttributeMapping;
+import org.hibernate.metamodel.mapping.SelectableMapping;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+import org.hibernate.persister.entity.AttributeMappingsList;
+import org.hibernate.sql.model.MutationOperation;
+import org.hibernate.sql.model.MutationOperationGroup;
+import org.hibernate.sql.model.MutationType;
+import org.hibernate.sql.model.ast.MutationGroup;
+import org.hibernate.sql.model.ast.builder.MutationGroupBuilder;
+import org.hibernate.sql.model.ast.builder.TableMergeBuilder;
+import org.hibernate.sql.model.internal.MutationOperationGroupNone;
+import org.hibernate.sql.model.internal.MutationOperationGroupSingle;
+import org.hibernate.sql.model.internal.MutationOperationGroupStandard;
+import org.hibernate.sql.model.internal.TableUpsert;
+
+import static org.hibernate.internal.util.collections.CollectionHelper.arrayList;
+
+/**
+ * Coordinates the "upsert" of an entity, that is, the insertion of its rows,
+ * or their update if rows with its identifier already exist.
+ * <p>
+ * The operation for each table is obtained from
+ * {@link org.hibernate.dialect.Dialect#createMergeOperation}, which may use
+ * a single {@code merge} statement, or the equivalent, where the database
+ * supports it.
+ * <p>
+ * Columns which are insertable but not updatable are written only when the
+ * row is inserted.  Columns which are updatable but not insertable are also
+ * written when the row is inserted, since the statement cannot tell which
+ * of the two it is going to do.
+ * <p>
+ * The row of a versioned entity is only updated if its version is the
+ * version of the entity before it was incremented for the upsert, so a
+ * concurrent modification of the row results in a
+ * {@link org.hibernate.StaleStateException}, or, if the dialect falls
+ * back to an update followed by an insert, in a constraint violation.
+ *
+ * @see #coordinateMerge
+ * @see org.hibernate.StatelessSession#upsert(Object)
+ */
+@Internal
+public class MergeCoordinator extends AbstractMutationCoordinator {
+	private final BasicBatchKey batchKey;
+	private final MutationOperationGroup staticMergeGroup;
+
+	public MergeCoordinator(AbstractEntityPersister entityPersister, SessionFactoryImplementor factory) {
+		super( entityPersister, factory );
+		this.batchKey = new BasicBatchKey( entityPersister.getEntityName() + "#MERGE", null );
+		this.staticMergeGroup = buildStaticMergeGroup();
+	}
+
+	public BasicBatchKey getBatchKey() {
+		return batchKey;
+	}
+
+	public MutationOperationGroup getStaticMergeGroup() {
+		return staticMergeGroup;
+	}
+
+	/**
+	 * Perform the upsert.
+	 *
+	 * @param entity The entity instance being upserted
+	 * @param id The identifier of the entity, which may not be null
+	 * @param values The extracted attribute values
+	 * @param oldVersion The version of the entity before it was incremented,
+	 * or {@code null} if the entity is not versioned or had no version
+	 * @param session The originating context
+	 */
+	public void coordinateMerge(
+			Object entity,
+			Object id,
+			Object[] values,
+			Object oldVersion,
+			SharedSessionContractImplementor session) {
+		final MutationOperationGroup mergeGroup = getStaticMergeGroup();
+		final MergeValuesAnalysis valuesAnalysis = new MergeValuesAnalysis( entityPersister(), values );
+
+		final MutationExecutor mutationExecutor = session.getFactory()
+				.getServiceRegistry()
+				.getService( MutationExecutorService.class )
+				.createExecutor( () -> batchKey, mergeGroup, session );
+
+		decomposeForMerge( id, values, oldVersion, mergeGroup, mutationExecutor.getJdbcValueBindings(), session );
+
+		try {
+			mutationExecutor.execute(
+					entity,
+					valuesAnalysis,
+					valuesAnalysis.getTablesNeedingUpdate()::contains,
+					(statementDetails, affectedRowCount, batchPosition) -> {
+						statementDetails.getExpectation().verifyOutcome(
+								affectedRowCount,
+								statementDetails.getStatement(),
+								batchPosition,
+								statementDetails.getSqlString()
+						);
+						return true;
+					},
+					session
+			);
+		}
+		finally {
+			mutationExecutor.release();
+		}
+	}
+
+	private void decomposeForMerge(
+			Object id,
+			Object[] values,
+			Object oldVersion,
+			MutationOperationGroup mergeGroup,
+			JdbcValueBindings jdbcValueBindings,
+			SharedSessionContractImplementor session) {
+		final AttributeMappingsList attributeMappings = entityPersister().getAttributeMappings();
+
+		// apply values
+		mergeGroup.forEachOperation( (position, operation) -> {
+			final EntityTableMapping tableMapping = (EntityTableMapping) operation.getTableDetails();
+			final String tableName = tableMapping.getTableName();
+			final int[] attributeIndexes = tableMapping.getAttributeIndexes();
+			for ( int i = 0; i < attributeIndexes.length; i++ ) {
+				final int attributeIndex = attributeIndexes[i];
+				final AttributeMapping attributeMapping = attributeMappings.get( attributeIndex );
+				if ( isIncluded( attributeMapping ) ) {
+					attributeMapping.decompose(
+							values[attributeIndex],
+							(jdbcValue, selectableMapping) -> {
+								if ( isWritten( selectableMapping ) ) {
+									jdbcValueBindings.bindValue(
+											jdbcValue,
+											tableName,
+											selectableMapping.getSelectionExpression(),
+											ParameterUsage.SET,
+											session
+									);
+								}
+							},
+							session
+					);
+				}
+			}
+		} );
+
+		// apply keys
+		mergeGroup.forEachOperation( (position, operation) -> {
+			final EntityTableMapping tableMapping = (EntityTableMapping) operation.getTableDetails();
+			tableMapping.getKeyMapping().breakDownKeyJdbcValues(
+					id,
+					(jdbcValue, columnMapping) -> jdbcValueBindings.bindValue(
+							jdbcValue,
+							tableMapping.getTableName(),
+							columnMapping.getColumnName(),
+							ParameterUsage.RESTRICT,
+							session
+					),
+					session
+			);
+		} );
+
+		// apply the optimistic lock restriction
+		final EntityVersionMapping versionMapping = entityPersister().getVersionMapping();
+		if ( versionMapping != null ) {
+			final String versionTableName = versionMapping.getContainingTableExpression();
+			mergeGroup.forEachOperation( (position, operation) -> {
+				if ( operation.getTableDetails().getTableName().equals( versionTableName ) ) {
+					// a new entity has no previous version, and is never expected to exist
+					jdbcValueBindings.bindValue(
+							oldVersion,
+							versionTableName,
+							versionMapping.getSelectionExpression(),
+							ParameterUsage.RESTRICT,
+							session
+					);
+				}
+			} );
+		}
+	}
+
+	/**
+	 * Values generated by the database are never written by an upsert
+	 */
+	private static boolean isIncluded(AttributeMapping attributeMapping) {
+		if ( attributeMapping instanceof PluralAttributeMapping ) {
+			return false;
+		}
+		final Generator generator = attributeMapping.getGenerator();
+		return generator == null || !generator.generatedOnExecution();
+	}
+
+	private static boolean isWritten(SelectableMapping selectableMapping) {
+		return !selectableMapping.isFormula()
+			&& ( selectableMapping.isInsertable() || selectableMapping.isUpdateable() );
+	}
+
+	private MutationOperationGroup buildStaticMergeGroup() {
+		final MutationGroupBuilder mergeGroupBuilder = new MutationGroupBuilder( MutationType.UPDATE, entityPersister() );
+		entityPersister().forEachMutableTable(
+				(tableMapping) -> mergeGroupBuilder.addTableDetailsBuilder(
+						new TableMergeBuilder<>( entityPersister(), tableMapping, factory() )
+				)
+		);
+
+		final AttributeMappingsList attributeMappings = entityPersister().getAttributeMappings();
+		final EntityVersionMapping versionMapping = entityPersister().getVersionMapping();
+		mergeGroupBuilder.forEachTableMutationBuilder( (builder) -> {
+			final TableMergeBuilder<?> tableMergeBuilder = (TableMergeBuilder<?>) builder;
+			final EntityTableMapping tableMapping = (EntityTableMapping) builder.getMutatingTable().getTableMapping();
+			final int[] attributeIndexes = tableMapping.getAttributeIndexes();
+			for ( int i = 0; i < attributeIndexes.length; i++ ) {
+				final AttributeMapping attributeMapping = attributeMappings.get( attributeIndexes[i] );
+				if ( isIncluded( attributeMapping ) ) {
+					attributeMapping.forEachSelectable( (selectionIndex, selectableMapping) -> {
+						if ( isWritten( selectableMapping ) ) {
+							if ( selectableMapping.isUpdateable() ) {
+								tableMergeBuilder.addValueColumn( selectableMapping );
+							}
+							else {
+								tableMergeBuilder.addInsertOnlyValueColumn( selectableMapping );
+							}
+						}
+					} );
+				}
+			}
+			tableMapping.getKeyMapping().forEachKeyColumn(
+					keyColumn -> tableMergeBuilder.addKeyRestriction(
+							keyColumn.getColumnName(),
+							"?",
+							keyColumn.getJdbcMapping()
+					)
+			);
+			if ( versionMapping != null
+					&& tableMapping.getTableName().equals( versionMapping.getContainingTableExpression() ) ) {
+				tableMergeBuilder.addOptimisticLockRestriction( versionMapping );
+			}
+		} );
+
+		// the discriminator value is a literal, so the update writes it too
+		entityPersister().addDiscriminatorToInsertGroup( mergeGroupBuilder );
+
+		return createMergeOperationGroup( mergeGroupBuilder.buildMutationGroup() );
+	}
+
+	private MutationOperationGroup createMergeOperationGroup(MutationGroup mutationGroup) {
+		final int numberOfTableMutations = mutationGroup.getNumberOfTableMutations();
+		switch ( numberOfTableMutations ) {
+			case 0:
+				return new MutationOperationGroupNone( mutationGroup );
+			case 1:
+				return new MutationOperationGroupSingle(
+						mutationGroup,
+						createMergeOperation( mutationGroup.getSingleTableMutation() )
+				);
+			default: {
+				final List<MutationOperation> operations = arrayList( numberOfTableMutations );
+				mutationGroup.forEachTableMutation(
+						(position, tableMutation) -> operations.add( createMergeOperation( tableMutation ) )
+				);
+				return new MutationOperationGroupStandard( MutationType.UPDATE, entityPersister(), operations );
+			}
+		}
+	}
+
+	private MutationOperation createMergeOperation(Object tableMutation) {
+		return dialect().createMergeOperation( entityPersister(), (TableUpsert) tableMutation, factory() );
+	}
+
+	/**
+	 * Every table is written by an upsert.  Since the previous state is not
+	 * known, the rows of {@linkplain EntityTableMapping#isOptional() optional}
+	 * tables with only null values are deleted, as for an update.
+	 */
+	private static class MergeValuesAnalysis implements UpdateValuesAnalysis {
+		private final Object[] values;
+		private final Set<EntityTableMapping> tablesNeedingUpdate = new HashSet<>();
+		private final Set<EntityTableMapping> tablesWithNonNullValues = new HashSet<>();
+
+		public MergeValuesAnalysis(AbstractEntityPersister entityPersister, Object[] values) {
+			this.values = values;
+			entityPersister.forEachMutableTable( (tableMapping) -> {
+				tablesNeedingUpdate.add( tableMapping );
+				if ( !tableMapping.isOptional() ) {
+					tablesWithNonNullValues.add( tableMapping );
+				}
+				else {
+					final int[] attributeIndexes = tableMapping.getAttributeIndexes();
+					for ( int i = 0; i < attributeIndexes.length; i++ ) {
+						if ( values[attributeIndexes[i]] != null ) {
+							tablesWithNonNullValues.add( tableMapping );
+							break;
+						}
+					}
+				}
+			} );
+		}
+
+		@Override
+		public Object[] getValues() {
+			return values;
+		}
+
+		@Override
+		public Set<EntityTableMapping> getTablesNeedingUpdate() {
+			return tablesNeedingUpdate;
+		}
+
+		@Override
+		public Set<EntityTableMapping> getTablesWithNonNullValues() {
+			return tablesWithNonNullValues;
+		}
+
+		@Override
+		public Set<EntityTableMapping> getTablesWithPreviousNonNullValues() {
+			return tablesNeedingUpdate;
+		}
+
+		@Override
+		public List<AttributeAnalysis> getAttributeAnalyses() {
+			return Collections.emptyList();
+		}
+	}
+}
@@ -0,0 +1,174 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.query;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.hibernate.Incubating;
+import org.hibernate.query.sqm.SortOrder;
+
+/**
+ * A page of query results, identified by the values of the ordering keys of
+ * the last result of the previous page, rather than by its offset.
+ * <p>
+ * The query is ordered by the given {@linkplain #getKeyDefinition() keys}, and
+ * restricted to the results whose keys follow the {@linkplain #getKey() key}
+ * of the page, so that the database can seek directly to the first result of
+ * the page using an index on the keys, instead of reading and discarding all
+ * the results of the previous pages. The combination of the keys must be
+ * unique, which is usually achieved by ending the key definition with the
+ * identifier of the queried entity.
+ * <pre>
+ * SelectionQuery&lt;Book&gt; query = session.createSelectionQuery( "from Book", Book.class );
+ * KeyedResultList&lt;Book&gt; books = query.getKeyedResultList(
+ *         KeyedPage.first( 20, Key.desc( "publicationDate" ), Key.asc( "id" ) )
+ * );
+ * ...
+ * while ( books.hasNextPage() ) {
+ *     books = query.getKeyedResultList( books.getNextPage() );
+ *     ...
+ * }
+ * </pre>
+ *
+ * @see SelectionQuery#getKeyedResultList(KeyedPage)
+ * @see KeyedResultList
+ *
+ * @since 6.2
+ */
+@Incubating
+public final class KeyedPage {
+
+	/**
+	 * An ordering key, that is, a non-nullable attribute of the queried entity,
+	 * along with the direction of the ordering.
+	 */
+	public static final class Key {
+		private final String attributePath;
+		private final SortOrder sortOrder;
+
+		private Key(String attributePath, SortOrder sortOrder) {
+			if ( attributePath == null ) {
+				throw new IllegalArgumentException( "Key attribute path must not be null" );
+			}
+			this.attributePath = attributePath;
+			this.sortOrder = sortOrder;
+		}
+
+		/**
+		 * @param attributePath the name of an attribute of the queried entity,
+		 * or a path of attribute names separated by dots
+		 */
+		public static Key asc(String attributePath) {
+			return new Key( attributePath, SortOrder.ASCENDING );
+		}
+
+		/**
+		 * @param attributePath the name of an attribute of the queried entity,
+		 * or a path of attribute names separated by dots
+		 */
+		public static Key desc(String attributePath) {
+			return new Key( attributePath, SortOrder.DESCENDING );
+		}
+
+		public String getAttributePath() {
+			return attributePath;
+		}
+
+		public SortOrder getSortOrder() {
+			return sortOrder;
+		}
+
+		@Override
+		public String toString() {
+			return attributePath + ( sortOrder == SortOrder.ASCENDING ? " asc" : " desc" );
+		}
+	}
+
+	private final List<Key> keyDefinition;
+	private final int size;
+	private final List<Object> key;
+
+	private KeyedPage(List<Key> keyDefinition, int size, List<Object> key) {
+		this.keyDefinition = keyDefinition;
+		this.size = size;
+		this.key = key;
+	}
+
+	/**
+	 * The first page of the given size, ordered by the given keys.
+	 */
+	public static KeyedPage first(int size, Key... keyDefinition) {
+		return first( size, List.of( keyDefinition ) );
+	}
+
+	/**
+	 * The first page of the given size, ordered by the given keys.
+	 */
+	public static KeyedPage first(int size, List<Key> keyDefinition) {
+		if ( size < 1 ) {
+			throw new IllegalArgumentException( "Page size must be positive" );
+		}
+		if ( keyDefinition.isEmpty() ) {
+			throw new IllegalArgumentException( "Key definition must not be empty" );
+		}
+		return new KeyedPage( List.copyOf( keyDefinition ), size, null );
+	}
+
+	/**
+	 * The page of the same size and key definition as this page, following the
+	 * result with the given key values, for example a key previously obtained
+	 * from {@link KeyedResultList#getNextKey()}.
+	 *
+	 * @param key the values of the keys, in the order of the key definition
+	 */
+	public KeyedPage after(List<?> key) {
+		if ( key.size() != keyDefinition.size() ) {
+			throw new IllegalArgumentException(
+					"Expected " + keyDefinition.size() + " key values but got " + key.size()
+			);
+		}
+		for ( Object value : key ) {
+			if ( value == null ) {
+				throw new IllegalArgumentException( "Key values must not be null" );
+			}
+		}
+		return new KeyedPage( keyDefinition, size, Collections.unmodifiableList( new ArrayList<>( key ) ) );
+	}
+
+	/**
+	 * The keys by which the results are ordered.
+	 */
+	public List<Key> getKeyDefinition() {
+		return keyDefinition;
+	}
+
+	/**
+	 * The maximum number of results of the page.
+	 */
+	public int getSize() {
+		return size;
+	}
+
+	/**
+	 * The values of the keys of the result preceding this page, or
+	 * {@code null} if this is the first page.
+	 */
+	public List<Object> getKey() {
+		return key;
+	}
+
+	public boolean isFirst() {
+		return key == null;
+	}
+
+	@Override
+	public String toString() {
+		return "KeyedPage(" + keyDefinition + ", size=" + size + ", key=" + key + ")";
+	}
+}
@@ -0,0 +1,70 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.query;
+
+import java.util.List;
+
+import org.hibernate.Incubating;
+
+/**
+ * The results of a {@link KeyedPage}, along with the key of its last result,
+ * which identifies the next page.
+ *
+ * @see SelectionQuery#getKeyedResultList(KeyedPage)
+ *
+ * @since 6.2
+ */
+@Incubating
+public final class KeyedResultList<R> {
+	private final List<R> resultList;
+	private final KeyedPage keyedPage;
+	private final List<Object> nextKey;
+	private final boolean hasNextPage;
+
+	public KeyedResultList(List<R> resultList, KeyedPage keyedPage, List<Object> nextKey, boolean hasNextPage) {
+		this.resultList = resultList;
+		this.keyedPage = keyedPage;
+		this.nextKey = nextKey;
+		this.hasNextPage = hasNextPage;
+	}
+
+	/**
+	 * The results of the page.
+	 */
+	public List<R> getResultList() {
+		return resultList;
+	}
+
+	/**
+	 * The page which was requested.
+	 */
+	public KeyedPage getKeyedPage() {
+		return keyedPage;
+	}
+
+	/**
+	 * The values of the keys of the last result of the page, or {@code null}
+	 * if the page is empty.
+	 */
+	public List<Object> getNextKey() {
+		return nextKey;
+	}
+
+	/**
+	 * Whether there are results following this page.
+	 */
+	public boolean hasNextPage() {
+		return hasNextPage;
+	}
+
+	/**
+	 * The page following this page, or {@code null} if there are no more results.
+	 */
+	public KeyedPage getNextPage() {
+		return hasNextPage ? keyedPage.after( nextKey ) : null;
+	}
+}
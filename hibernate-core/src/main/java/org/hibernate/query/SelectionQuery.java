@@ -157,6 +157,38 @@ public interface SelectionQuery<R> extends CommonQueryContract {
 	 */
 	Optional<R> uniqueResultOptional();
 
+	/**
+	 * Execute the query and return the results of the given {@link KeyedPage},
+	 * along with the key identifying the next page.
+	 * <p>
+	 * The query is ordered by the keys of the page, and, unless the page
+	 * is the first page, restricted to the results following the key of
+	 * the page by a row value comparison, which is emulated on databases
+	 * which do not support it. Any {@linkplain #setFirstResult first result}
+	 * or {@linkplain #setMaxResults maximum results} are ignored.
+	 * <p>
+	 * The query may not have an {@code order by} clause, other than one
+	 * which orders the results by the first keys of the page, in the same
+	 * directions, and may not be a {@code select distinct} query nor have
+	 * a {@code group by} clause. The values of the keys may not be null.
+	 *
+	 * @param page the page to retrieve
+	 *
+	 * @return the results of the page
+	 *
+	 * @throws UnsupportedOperationException if the query is not an HQL or
+	 * criteria query, if it is a {@code select distinct} query or has a
+	 * {@code group by} clause, or if the key of a result is null
+	 * @throws IllegalArgumentException if the {@code order by} clause of the
+	 * query is not consistent with the keys of the page
+	 *
+	 * @since 6.2
+	 */
+	@Incubating
+	default KeyedResultList<R> getKeyedResultList(KeyedPage page) {
+		throw new UnsupportedOperationException( "Key-based pagination is only supported for HQL and criteria queries" );
+	}
+
 	SelectionQuery<R> setHint(String hintName, Object value);
 
 	@Override
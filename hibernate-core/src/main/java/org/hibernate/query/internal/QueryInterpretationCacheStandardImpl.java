@@ -6,12 +6,16 @@
  */
 package org.hibernate.query.internal;
 
+import java.util.Locale;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import jakarta.persistence.Tuple;
 
+import org.hibernate.HibernateException;
 import org.hibernate.internal.util.collections.BoundedConcurrentHashMap;
+import org.hibernate.internal.util.collections.TinyLfuConcurrentMap;
 import org.hibernate.query.QueryLogging;
 import org.hibernate.query.spi.HqlInterpretation;
 import org.hibernate.query.spi.NonSelectQueryPlan;
@@ -35,22 +39,86 @@ import org.jboss.logging.Logger;
 public class QueryInterpretationCacheStandardImpl implements QueryInterpretationCache {
 	private static final Logger log = QueryLogging.subLogger( "plan.cache" );
 
+	/**
+	 * The eviction policies of the cache
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#QUERY_PLAN_CACHE_EVICTION_POLICY
+	 */
+	public enum EvictionPolicy {
+		/**
+		 * Segmented caches with LIRS eviction
+		 *
+		 * @see BoundedConcurrentHashMap.Eviction#LIRS
+		 */
+		LIRS,
+		/**
+		 * Caches with lock-free reads and W-TinyLFU eviction
+		 *
+		 * @see TinyLfuConcurrentMap
+		 */
+		TINY_LFU;
+
+		public static EvictionPolicy interpret(Object setting) {
+			if ( setting == null ) {
+				return LIRS;
+			}
+			else if ( setting instanceof EvictionPolicy ) {
+				return (EvictionPolicy) setting;
+			}
+			else {
+				final String name = setting.toString().trim().toLowerCase( Locale.ROOT );
+				switch ( name ) {
+					case "lirs":
+						return LIRS;
+					case "tinylfu":
+					case "tiny_lfu":
+						return TINY_LFU;
+					default:
+						throw new HibernateException( "Unrecognized query plan cache eviction policy: " + setting );
+				}
+			}
+		}
+	}
+
 	/**
 	 * the cache of the actual plans...
 	 */
-	private final BoundedConcurrentHashMap<Key, QueryPlan> queryPlanCache;
+	private final ConcurrentMap<Key, QueryPlan> queryPlanCache;
 
-	private final BoundedConcurrentHashMap<String, HqlInterpretation> hqlInterpretationCache;
-	private final BoundedConcurrentHashMap<String, ParameterInterpretation> nativeQueryParamCache;
+	private final ConcurrentMap<String, HqlInterpretation> hqlInterpretationCache;
+	private final ConcurrentMap<String, ParameterInterpretation> nativeQueryParamCache;
 	private final Supplier<StatisticsImplementor> statisticsSupplier;
 
 	public QueryInterpretationCacheStandardImpl(int maxQueryPlanCount, Supplier<StatisticsImplementor> statisticsSupplier) {
-		log.debugf( "Starting QueryPlanCache(%s)", maxQueryPlanCount );
+		this( maxQueryPlanCount, EvictionPolicy.LIRS, statisticsSupplier );
+	}
+
+	public QueryInterpretationCacheStandardImpl(
+			int maxQueryPlanCount,
+			EvictionPolicy evictionPolicy,
+			Supplier<StatisticsImplementor> statisticsSupplier) {
+		log.debugf( "Starting QueryPlanCache(%s, %s)", maxQueryPlanCount, evictionPolicy );
 
-		this.queryPlanCache = new BoundedConcurrentHashMap<>( maxQueryPlanCount, 20, BoundedConcurrentHashMap.Eviction.LIRS );
-		this.hqlInterpretationCache = new BoundedConcurrentHashMap<>( maxQueryPlanCount, 20, BoundedConcurrentHashMap.Eviction.LIRS );
-		this.nativeQueryParamCache = new BoundedConcurrentHashMap<>( maxQueryPlanCount, 20, BoundedConcurrentHashMap.Eviction.LIRS );
 		this.statisticsSupplier = statisticsSupplier;
+		switch ( evictionPolicy ) {
+			case TINY_LFU:
+				this.queryPlanCache = new TinyLfuConcurrentMap<>( maxQueryPlanCount, this::queryPlanEvicted );
+				this.hqlInterpretationCache = new TinyLfuConcurrentMap<>( maxQueryPlanCount, this::queryPlanEvicted );
+				this.nativeQueryParamCache = new TinyLfuConcurrentMap<>( maxQueryPlanCount );
+				break;
+			case LIRS:
+			default:
+				this.queryPlanCache = new BoundedConcurrentHashMap<>( maxQueryPlanCount, 20, BoundedConcurrentHashMap.Eviction.LIRS );
+				this.hqlInterpretationCache = new BoundedConcurrentHashMap<>( maxQueryPlanCount, 20, BoundedConcurrentHashMap.Eviction.LIRS );
+				this.nativeQueryParamCache = new BoundedConcurrentHashMap<>( maxQueryPlanCount, 20, BoundedConcurrentHashMap.Eviction.LIRS );
+		}
+	}
+
+	private void queryPlanEvicted(Object key, Object plan) {
+		final StatisticsImplementor statistics = statisticsSupplier.get();
+		if ( statistics.isStatisticsEnabled() ) {
+			statistics.queryPlanCacheEviction();
+		}
 	}
 
 	@Override
@@ -35,6 +35,7 @@ public class QueryOptionsImpl implements MutableQueryOptions, AppliedGraph {
 	private final Limit limit = new Limit();
 	private final LockOptions lockOptions = new LockOptions();
 	private Integer fetchSize;
+	private Integer streamWindowSize;
 	private CacheRetrieveMode cacheRetrieveMode;
 	private CacheStoreMode cacheStoreMode;
 	private Boolean resultCachingEnabled;
@@ -116,6 +117,16 @@ public class QueryOptionsImpl implements MutableQueryOptions, AppliedGraph {
 		this.fetchSize = fetchSize;
 	}
 
+	@Override
+	public Integer getStreamWindowSize() {
+		return streamWindowSize;
+	}
+
+	@Override
+	public void setStreamWindowSize(Integer streamWindowSize) {
+		this.streamWindowSize = streamWindowSize;
+	}
+
 	@Override
 	public CacheRetrieveMode getCacheRetrieveMode() {
 		return cacheRetrieveMode;
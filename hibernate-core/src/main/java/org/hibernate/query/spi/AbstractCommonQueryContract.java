@@ -72,6 +72,7 @@ import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
 import static org.hibernate.jpa.HibernateHints.HINT_FLUSH_MODE;
 import static org.hibernate.jpa.HibernateHints.HINT_FOLLOW_ON_LOCKING;
 import static org.hibernate.jpa.HibernateHints.HINT_NATIVE_SPACES;
+import static org.hibernate.jpa.HibernateHints.HINT_STREAM_WINDOW_SIZE;
 import static org.hibernate.jpa.HibernateHints.HINT_TIMEOUT;
 import static org.hibernate.jpa.LegacySpecHints.HINT_JAVAEE_CACHE_RETRIEVE_MODE;
 import static org.hibernate.jpa.LegacySpecHints.HINT_JAVAEE_CACHE_STORE_MODE;
@@ -176,6 +177,7 @@ public abstract class AbstractCommonQueryContract implements CommonQueryContract
 
 		putIfNotNull( hints, HINT_READONLY, getQueryOptions().isReadOnly() );
 		putIfNotNull( hints, HINT_FETCH_SIZE, getQueryOptions().getFetchSize() );
+		putIfNotNull( hints, HINT_STREAM_WINDOW_SIZE, getQueryOptions().getStreamWindowSize() );
 		putIfNotNull( hints, HINT_CACHEABLE, getQueryOptions().isResultCachingEnabled() );
 		putIfNotNull( hints, HINT_CACHE_REGION, getQueryOptions().getResultCacheRegionName() );
 		putIfNotNull( hints, HINT_CACHE_MODE, getQueryOptions().getCacheMode() );
@@ -313,6 +315,11 @@ public abstract class AbstractCommonQueryContract implements CommonQueryContract
 			return true;
 		}
 
+		if ( HINT_STREAM_WINDOW_SIZE.equals( hintName ) ) {
+			applyStreamWindowSizeHint( ConfigurationHelper.getInteger( value ) );
+			return true;
+		}
+
 		if ( HINT_CACHEABLE.equals( hintName ) ) {
 			applyCacheableHint( ConfigurationHelper.getBoolean( value ) );
 			return true;
@@ -377,6 +384,10 @@ public abstract class AbstractCommonQueryContract implements CommonQueryContract
 		getQueryOptions().setFetchSize( fetchSize );
 	}
 
+	protected void applyStreamWindowSizeHint(int windowSize) {
+		getQueryOptions().setStreamWindowSize( windowSize );
+	}
+
 	protected void applyCacheModeHint(CacheMode cacheMode) {
 		getQueryOptions().setCacheMode( cacheMode );
 	}
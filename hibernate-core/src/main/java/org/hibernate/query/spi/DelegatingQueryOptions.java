@@ -104,6 +104,11 @@ public class DelegatingQueryOptions implements QueryOptions {
 		return queryOptions.getFetchSize();
 	}
 
+	@Override
+	public Integer getStreamWindowSize() {
+		return queryOptions.getStreamWindowSize();
+	}
+
 	@Override
 	public Limit getLimit() {
 		return queryOptions.getLimit();
@@ -69,6 +69,11 @@ public interface MutableQueryOptions extends QueryOptions {
 	 */
 	void setFetchSize(int fetchSize);
 
+	/**
+	 * Corollary to {@link #getStreamWindowSize()}
+	 */
+	void setStreamWindowSize(Integer windowSize);
+
 	/**
 	 * Corollary to {@link #isReadOnly()}
 	 */
@@ -365,7 +365,13 @@ public class QueryEngine {
 					? explicitMaxPlanSize
 					: DEFAULT_QUERY_PLAN_MAX_COUNT;
 
-			return new QueryInterpretationCacheStandardImpl( size, statisticsSupplier );
+			return new QueryInterpretationCacheStandardImpl(
+					size,
+					QueryInterpretationCacheStandardImpl.EvictionPolicy.interpret(
+							properties.get( AvailableSettings.QUERY_PLAN_CACHE_EVICTION_POLICY )
+					),
+					statisticsSupplier
+			);
 		}
 		else {
 			// disabled
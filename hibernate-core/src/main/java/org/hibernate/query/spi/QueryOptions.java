@@ -125,6 +125,20 @@ public interface QueryOptions {
 	 * @see Statement#getFetchSize
 	 */
 	Integer getFetchSize();
+
+	/**
+	 * The number of rows in each window of a streamed query, after
+	 * which the entities loaded by the previous window are evicted
+	 * from the persistence context, or {@code null} if the results
+	 * are not streamed.
+	 *
+	 * @see org.hibernate.jpa.HibernateHints#HINT_STREAM_WINDOW_SIZE
+	 *
+	 * @since 6.2
+	 */
+	default Integer getStreamWindowSize() {
+		return null;
+	}
 	/**
 	 * The limit to the query results.  May also be accessed via
 	 * {@link #getFirstRow} and {@link #getMaxRows}
@@ -0,0 +1,398 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.query.sqm.internal;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.query.BindableType;
+import org.hibernate.query.KeyedPage;
+import org.hibernate.query.KeyedResultList;
+import org.hibernate.query.spi.AbstractSelectionQuery;
+import org.hibernate.query.spi.MutableQueryOptions;
+import org.hibernate.query.spi.QueryOptions;
+import org.hibernate.query.spi.QueryParameterBinding;
+import org.hibernate.query.spi.QueryParameterBindings;
+import org.hibernate.query.spi.QueryParameterImplementor;
+import org.hibernate.query.sqm.ComparisonOperator;
+import org.hibernate.query.sqm.NodeBuilder;
+import org.hibernate.query.sqm.SortOrder;
+import org.hibernate.query.sqm.SqmQuerySource;
+import org.hibernate.query.sqm.tree.SqmCopyContext;
+import org.hibernate.query.sqm.tree.domain.SqmPath;
+import org.hibernate.query.sqm.tree.expression.SqmExpression;
+import org.hibernate.query.sqm.tree.expression.SqmNamedParameter;
+import org.hibernate.query.sqm.tree.expression.SqmTuple;
+import org.hibernate.query.sqm.tree.expression.ValueBindJpaCriteriaParameter;
+import org.hibernate.query.sqm.tree.from.SqmRoot;
+import org.hibernate.query.sqm.tree.predicate.SqmComparisonPredicate;
+import org.hibernate.query.sqm.tree.predicate.SqmJunctionPredicate;
+import org.hibernate.query.sqm.tree.predicate.SqmPredicate;
+import org.hibernate.query.sqm.tree.select.SqmJpaCompoundSelection;
+import org.hibernate.query.sqm.tree.select.SqmOrderByClause;
+import org.hibernate.query.sqm.tree.select.SqmQueryPart;
+import org.hibernate.query.sqm.tree.select.SqmQuerySpec;
+import org.hibernate.query.sqm.tree.select.SqmSelectStatement;
+import org.hibernate.query.sqm.tree.select.SqmSelection;
+import org.hibernate.query.sqm.tree.select.SqmSortSpecification;
+
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.Predicate;
+
+/**
+ * Executes a {@link KeyedPage} of an SQM select query.
+ * <p>
+ * A copy of the query is ordered by the keys of the page, and restricted to
+ * the results following the key of the page. The keys are appended to the
+ * selections of the query, so that the key of the last result can be handed
+ * back as the key of the next page. One more result than the size of the page
+ * is fetched, in order to determine whether there is a next page.
+ * <p>
+ * Since appending the keys to the selections would change the results of a
+ * {@code select distinct} or of an aggregation, such queries are rejected,
+ * as are queries with an {@code order by} clause which is not a prefix of the
+ * ordering by the keys. Null key values are not supported, since a null key
+ * cannot be compared with the key of the page.
+ *
+ * @see org.hibernate.query.SelectionQuery#getKeyedResultList(KeyedPage)
+ */
+final class KeyBasedPagination {
+
+	private static final String KEY_PARAMETER_PREFIX = "__key";
+
+	private KeyBasedPagination() {
+	}
+
+	static <R> KeyedResultList<R> list(
+			KeyedPage page,
+			SqmSelectStatement<R> sqm,
+			Class<R> resultType,
+			QueryParameterBindings parameterBindings,
+			AbstractSelectionQuery<R> query) {
+		final QueryOptions queryOptions = query.getQueryOptions();
+		if ( queryOptions.getTupleTransformer() != null || queryOptions.getResultListTransformer() != null ) {
+			throw new UnsupportedOperationException( "Key-based pagination does not support result transformers" );
+		}
+		if ( resultType == Tuple.class ) {
+			throw new UnsupportedOperationException( "Key-based pagination does not support Tuple results" );
+		}
+
+		final SqmSelectStatement<R> copy = sqm.copy( SqmCopyContext.simpleContext() );
+		final SqmQueryPart<R> queryPart = copy.getQueryPart();
+		if ( !( queryPart instanceof SqmQuerySpec<?> ) ) {
+			throw new UnsupportedOperationException( "Key-based pagination does not support set operations" );
+		}
+		final SqmQuerySpec<R> querySpec = (SqmQuerySpec<R>) queryPart;
+		final Set<SqmRoot<?>> roots = querySpec.getRoots();
+		if ( roots.size() != 1 ) {
+			throw new IllegalArgumentException( "Key-based pagination requires a query with a single root" );
+		}
+
+		if ( querySpec.getSelectClause().isDistinct() ) {
+			throw new UnsupportedOperationException( "Key-based pagination does not support 'select distinct'" );
+		}
+		if ( !querySpec.getGroupByClauseExpressions().isEmpty() || querySpec.getHavingClausePredicate() != null ) {
+			throw new UnsupportedOperationException( "Key-based pagination does not support 'group by' or 'having'" );
+		}
+
+		final List<SqmSelection<?>> selections = querySpec.getSelectClause().getSelections();
+		final int resultWidth = selections.size();
+		if ( resultWidth == 1 && selections.get( 0 ).getSelectableNode() instanceof SqmJpaCompoundSelection<?> ) {
+			throw new UnsupportedOperationException( "Key-based pagination does not support compound selections" );
+		}
+		// an untyped query with several selections returns Object[]
+		if ( resultWidth > 1 && resultType != null && resultType != Object[].class && resultType != Object.class ) {
+			throw new UnsupportedOperationException(
+					"Key-based pagination does not support the result type " + resultType.getName()
+			);
+		}
+
+		final NodeBuilder nodeBuilder = copy.nodeBuilder();
+		final SqmRoot<?> root = roots.iterator().next();
+		final List<KeyedPage.Key> keyDefinition = page.getKeyDefinition();
+		final List<SqmPath<?>> keyPaths = new ArrayList<>( keyDefinition.size() );
+		final SqmOrderByClause orderByClause = new SqmOrderByClause( keyDefinition.size() );
+		for ( KeyedPage.Key key : keyDefinition ) {
+			final SqmPath<?> keyPath = resolvePath( root, key.getAttributePath() );
+			keyPaths.add( keyPath );
+			querySpec.getSelectClause().addSelection( new SqmSelection<>( keyPath, nodeBuilder ) );
+			orderByClause.addSortSpecification( new SqmSortSpecification( keyPath, key.getSortOrder() ) );
+		}
+		checkOrderByClause( querySpec.getOrderByClause(), orderByClause );
+		querySpec.setOrderByClause( orderByClause );
+		querySpec.setOffsetExpression( null );
+		querySpec.setFetchExpression( null );
+		if ( !page.isFirst() ) {
+			querySpec.applyPredicate(
+					keyPredicate( keyDefinition, keyPaths, keyValues( page.getKey(), keyPaths, copy ), nodeBuilder )
+			);
+		}
+
+		//noinspection unchecked
+		final SqmSelectStatement<Object[]> pagedStatement = (SqmSelectStatement<Object[]>) (SqmSelectStatement<?>) copy;
+		final SharedSessionContractImplementor session = query.getSession();
+		final SqmSelectionQueryImpl<Object[]> pagedQuery = new SqmSelectionQueryImpl<>(
+				pagedStatement,
+				Object[].class,
+				session
+		);
+		copyParameterBindings( parameterBindings, pagedQuery.getQueryParameterBindings() );
+		copyOptions( queryOptions, pagedQuery.getQueryOptions() );
+		if ( !page.isFirst() && copy.getQuerySource() != SqmQuerySource.CRITERIA ) {
+			for ( int i = 0; i < keyDefinition.size(); i++ ) {
+				pagedQuery.setParameter( KEY_PARAMETER_PREFIX + i, page.getKey().get( i ) );
+			}
+		}
+		pagedQuery.setMaxResults( page.getSize() + 1 );
+
+		final List<Object[]> rows = pagedQuery.list();
+		final int resultCount = Math.min( rows.size(), page.getSize() );
+		final List<R> results = new ArrayList<>( resultCount );
+		for ( int i = 0; i < resultCount; i++ ) {
+			results.add( extractResult( rows.get( i ), resultWidth ) );
+		}
+		final List<Object> nextKey = resultCount == 0
+				? null
+				: nextKey( rows.get( resultCount - 1 ), resultWidth, keyDefinition );
+		return new KeyedResultList<>( results, page, nextKey, rows.size() > page.getSize() );
+	}
+
+	/**
+	 * Check that the given {@code order by} clause of the query, if any, orders
+	 * the results in the same way as the first items of the ordering by the keys,
+	 * so that ordering by the keys instead does not change the results.
+	 */
+	private static void checkOrderByClause(SqmOrderByClause orderByClause, SqmOrderByClause keyOrderByClause) {
+		if ( orderByClause == null || orderByClause.getSortSpecifications().isEmpty() ) {
+			return;
+		}
+		final List<SqmSortSpecification> sortSpecifications = orderByClause.getSortSpecifications();
+		final List<SqmSortSpecification> keySortSpecifications = keyOrderByClause.getSortSpecifications();
+		boolean consistent = sortSpecifications.size() <= keySortSpecifications.size();
+		for ( int i = 0; consistent && i < sortSpecifications.size(); i++ ) {
+			final SqmSortSpecification sortSpecification = sortSpecifications.get( i );
+			final SqmSortSpecification keySortSpecification = keySortSpecifications.get( i );
+			consistent = sortSpecification.getSortExpression() instanceof SqmPath<?>
+					&& sortSpecification.getSortOrder() == keySortSpecification.getSortOrder()
+					&& ( (SqmPath<?>) sortSpecification.getSortExpression() ).getNavigablePath()
+							.equals( ( (SqmPath<?>) keySortSpecification.getSortExpression() ).getNavigablePath() );
+		}
+		if ( !consistent ) {
+			throw new IllegalArgumentException(
+					"The 'order by' clause of the query conflicts with the key definition of the page"
+			);
+		}
+	}
+
+	private static List<Object> nextKey(Object[] lastRow, int resultWidth, List<KeyedPage.Key> keyDefinition) {
+		final Object[] key = Arrays.copyOfRange( lastRow, resultWidth, resultWidth + keyDefinition.size() );
+		for ( int i = 0; i < key.length; i++ ) {
+			if ( key[i] == null ) {
+				throw new UnsupportedOperationException(
+						"Key-based pagination does not support null key values, but the key '"
+								+ keyDefinition.get( i ).getAttributePath() + "' of the last result is null"
+				);
+			}
+		}
+		return Collections.unmodifiableList( Arrays.asList( key ) );
+	}
+
+	private static SqmPath<?> resolvePath(SqmRoot<?> root, String attributePath) {
+		SqmPath<?> path = root;
+		for ( String attributeName : attributePath.split( "\\." ) ) {
+			path = path.get( attributeName );
+		}
+		return path;
+	}
+
+	/**
+	 * A predicate restricting the results to those following the given key in
+	 * the order of the key definition. If all keys are sorted in the same
+	 * direction, this is a row value comparison, which the SQL translator
+	 * emulates if the database does not support it, otherwise it is expanded
+	 * to {@code k1 > v1 or k1 = v1 and (k2 < v2 or k2 = v2 and ...)}.
+	 */
+	private static SqmPredicate keyPredicate(
+			List<KeyedPage.Key> keyDefinition,
+			List<SqmPath<?>> keyPaths,
+			List<SqmExpression<?>> keyValues,
+			NodeBuilder nodeBuilder) {
+		final int size = keyDefinition.size();
+		boolean uniformSortOrder = true;
+		for ( int i = 0; i < size; i++ ) {
+			uniformSortOrder = uniformSortOrder
+					&& keyDefinition.get( i ).getSortOrder() == keyDefinition.get( 0 ).getSortOrder();
+		}
+
+		if ( size == 1 ) {
+			return following( keyDefinition.get( 0 ), keyPaths.get( 0 ), keyValues.get( 0 ), nodeBuilder );
+		}
+		else if ( uniformSortOrder ) {
+			return following(
+					keyDefinition.get( 0 ),
+					new SqmTuple<>( new ArrayList<>( keyPaths ), nodeBuilder ),
+					new SqmTuple<>( keyValues, nodeBuilder ),
+					nodeBuilder
+			);
+		}
+		else {
+			SqmPredicate predicate = following(
+					keyDefinition.get( size - 1 ),
+					keyPaths.get( size - 1 ),
+					keyValues.get( size - 1 ),
+					nodeBuilder
+			);
+			for ( int i = size - 2; i >= 0; i-- ) {
+				final SqmPredicate equal = new SqmComparisonPredicate(
+						keyPaths.get( i ),
+						ComparisonOperator.EQUAL,
+						keyValues.get( i ),
+						nodeBuilder
+				);
+				predicate = new SqmJunctionPredicate(
+						Predicate.BooleanOperator.OR,
+						following( keyDefinition.get( i ), keyPaths.get( i ), keyValues.get( i ), nodeBuilder ),
+						new SqmJunctionPredicate( Predicate.BooleanOperator.AND, equal, predicate, nodeBuilder ),
+						nodeBuilder
+				);
+			}
+			return predicate;
+		}
+	}
+
+	/**
+	 * The expressions for the given key values. The parameters of a criteria
+	 * query are collected from its tree, so values passed to the criteria
+	 * builder can be used, whereas the parameters of an HQL query are
+	 * registered with the statement, and cannot be mixed with criteria
+	 * parameters, so named parameters are registered, and bound once the
+	 * query is created.
+	 */
+	private static List<SqmExpression<?>> keyValues(
+			List<Object> key,
+			List<SqmPath<?>> keyPaths,
+			SqmSelectStatement<?> statement) {
+		final List<SqmExpression<?>> keyValues = new ArrayList<>( key.size() );
+		for ( int i = 0; i < key.size(); i++ ) {
+			if ( statement.getQuerySource() == SqmQuerySource.CRITERIA ) {
+				keyValues.add( valueExpression( key.get( i ), keyPaths.get( i ), statement.nodeBuilder() ) );
+			}
+			else {
+				final SqmNamedParameter<?> parameter = namedParameter(
+						KEY_PARAMETER_PREFIX + i,
+						keyPaths.get( i ),
+						statement.nodeBuilder()
+				);
+				statement.addParameter( parameter );
+				keyValues.add( parameter );
+			}
+		}
+		return keyValues;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <T> SqmExpression<T> valueExpression(Object value, SqmPath<T> keyPath, NodeBuilder nodeBuilder) {
+		return nodeBuilder.value( (T) value, keyPath );
+	}
+
+	private static <T> SqmNamedParameter<T> namedParameter(String name, SqmPath<T> keyPath, NodeBuilder nodeBuilder) {
+		return new SqmNamedParameter<>( name, false, keyPath.getNodeType(), nodeBuilder );
+	}
+
+	private static SqmPredicate following(
+			KeyedPage.Key key,
+			SqmExpression<?> keyExpression,
+			SqmExpression<?> keyValue,
+			NodeBuilder nodeBuilder) {
+		return new SqmComparisonPredicate(
+				keyExpression,
+				key.getSortOrder() == SortOrder.ASCENDING
+						? ComparisonOperator.GREATER_THAN
+						: ComparisonOperator.LESS_THAN,
+				keyValue,
+				nodeBuilder
+		);
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <R> R extractResult(Object[] row, int resultWidth) {
+		return resultWidth == 1 ? (R) row[0] : (R) Arrays.copyOf( row, resultWidth );
+	}
+
+	private static void copyParameterBindings(QueryParameterBindings source, QueryParameterBindings target) {
+		source.visitBindings(
+				(parameter, binding) -> {
+					// values passed to the criteria builder are bound along with the copy of the query
+					if ( binding != null && binding.isBound() && !( parameter instanceof ValueBindJpaCriteriaParameter ) ) {
+						copyBinding( binding, targetBinding( parameter, target ) );
+					}
+				}
+		);
+	}
+
+	private static QueryParameterBinding<?> targetBinding(
+			QueryParameterImplementor<?> parameter,
+			QueryParameterBindings target) {
+		if ( parameter.getName() != null ) {
+			return target.getBinding( parameter.getName() );
+		}
+		else if ( parameter.getPosition() != null ) {
+			return target.getBinding( parameter.getPosition() );
+		}
+		else {
+			// an unnamed criteria parameter, which is shared by the copy of the query
+			return target.getBinding( parameter );
+		}
+	}
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private static void copyBinding(QueryParameterBinding source, QueryParameterBinding target) {
+		if ( source.isMultiValued() ) {
+			target.setBindValues( source.getBindValues(), (BindableType) source.getBindType() );
+		}
+		else {
+			target.setBindValue( source.getBindValue(), (BindableType) source.getBindType() );
+		}
+	}
+
+	private static void copyOptions(QueryOptions source, MutableQueryOptions target) {
+		if ( source.getFlushMode() != null ) {
+			target.setFlushMode( source.getFlushMode() );
+		}
+		if ( source.getTimeout() != null ) {
+			target.setTimeout( source.getTimeout() );
+		}
+		if ( source.getFetchSize() != null ) {
+			target.setFetchSize( source.getFetchSize() );
+		}
+		if ( source.isReadOnly() != null ) {
+			target.setReadOnly( source.isReadOnly() );
+		}
+		if ( source.getComment() != null ) {
+			target.setComment( source.getComment() );
+		}
+		if ( source.isResultCachingEnabled() != null ) {
+			target.setResultCachingEnabled( source.isResultCachingEnabled() );
+		}
+		if ( source.getResultCacheRegionName() != null ) {
+			target.setResultCacheRegionName( source.getResultCacheRegionName() );
+		}
+		target.setCacheRetrieveMode( source.getCacheRetrieveMode() );
+		target.setCacheStoreMode( source.getCacheStoreMode() );
+		for ( String databaseHint : source.getDatabaseHints() ) {
+			target.addDatabaseHint( databaseHint );
+		}
+		if ( source.getAppliedGraph() != null && source.getAppliedGraph().getSemantic() != null ) {
+			target.applyGraph( source.getAppliedGraph().getGraph(), source.getAppliedGraph().getSemantic() );
+		}
+		target.getLockOptions().overlay( source.getLockOptions() );
+	}
+}
@@ -47,6 +47,8 @@ import org.hibernate.persister.entity.AbstractEntityPersister;
 import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.query.BindableType;
 import org.hibernate.query.IllegalQueryOperationException;
+import org.hibernate.query.KeyedPage;
+import org.hibernate.query.KeyedResultList;
 import org.hibernate.query.ImmutableEntityUpdateQueryHandlingMode;
 import org.hibernate.query.Query;
 import org.hibernate.query.QueryLogging;
@@ -628,6 +630,13 @@ public class QuerySqmImpl<R>
 		return resolveSelectQueryPlan().performScroll( scrollMode, this );
 	}
 
+	@Override
+	@SuppressWarnings("unchecked")
+	public KeyedResultList<R> getKeyedResultList(KeyedPage page) {
+		verifySelect();
+		return KeyBasedPagination.list( page, (SqmSelectStatement<R>) getSqmStatement(), getResultType(), getQueryParameterBindings(), this );
+	}
+
 
 	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 	// Select query plan
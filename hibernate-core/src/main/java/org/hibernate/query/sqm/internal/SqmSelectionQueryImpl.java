@@ -34,6 +34,8 @@ import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.graph.spi.AppliedGraph;
 import org.hibernate.internal.util.collections.IdentitySet;
 import org.hibernate.query.BindableType;
+import org.hibernate.query.KeyedPage;
+import org.hibernate.query.KeyedResultList;
 import org.hibernate.query.QueryLogging;
 import org.hibernate.query.QueryParameter;
 import org.hibernate.query.criteria.internal.NamedCriteriaQueryMementoImpl;
@@ -335,6 +337,12 @@ public class SqmSelectionQueryImpl<R> extends AbstractSelectionQuery<R> implemen
 		return resolveQueryPlan().performScroll( scrollMode, this );
 	}
 
+	@Override
+	@SuppressWarnings("unchecked")
+	public KeyedResultList<R> getKeyedResultList(KeyedPage page) {
+		return KeyBasedPagination.list( page, getSqmStatement(), getResultType(), getQueryParameterBindings(), this );
+	}
+
 
 	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 	// Query plan
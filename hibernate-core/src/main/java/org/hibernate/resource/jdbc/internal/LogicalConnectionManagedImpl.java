@@ -102,6 +102,7 @@ public class LogicalConnectionManagedImpl extends AbstractLogicalConnectionImple
 	private Connection acquireConnectionIfNeeded() {
 		if ( physicalConnection == null ) {
 			// todo : is this the right place for these observer calls?
+			observer.jdbcConnectionAcquisitionStart();
 			try {
 				physicalConnection = jdbcConnectionAccess.obtainConnection();
 			}
@@ -109,6 +110,8 @@ public class LogicalConnectionManagedImpl extends AbstractLogicalConnectionImple
 				throw sqlExceptionHelper.convert( e, "Unable to acquire JDBC Connection" );
 			}
 			finally {
+				// paired with the start callback even when the acquisition failed,
+				// so that the observer doesn't keep the state of a failed acquisition
 				observer.jdbcConnectionAcquisitionEnd( physicalConnection );
 			}
 		}
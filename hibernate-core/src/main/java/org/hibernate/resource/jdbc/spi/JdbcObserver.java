@@ -15,7 +15,19 @@ import java.sql.Connection;
  */
 @Deprecated
 public interface JdbcObserver {
+	/**
+	 * Called before a JDBC connection is acquired.  Since 6.2, it is always
+	 * followed by {@link #jdbcConnectionAcquisitionEnd}, even when the
+	 * acquisition fails.
+	 */
 	void jdbcConnectionAcquisitionStart();
+
+	/**
+	 * Called after a JDBC connection was acquired, or failed to be acquired.
+	 *
+	 * @param connection the acquired connection, or {@code null} if the
+	 * acquisition failed
+	 */
 	void jdbcConnectionAcquisitionEnd(Connection connection);
 
 	void jdbcConnectionReleaseStart();
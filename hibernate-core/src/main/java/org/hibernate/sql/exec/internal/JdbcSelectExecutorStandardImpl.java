@@ -24,6 +24,7 @@ import org.hibernate.ScrollMode;
 import org.hibernate.cache.spi.QueryKey;
 import org.hibernate.cache.spi.QueryResultsCache;
 import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.engine.spi.SessionEventListenerManager;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.graph.spi.AppliedGraph;
@@ -226,6 +227,7 @@ public class JdbcSelectExecutorStandardImpl implements JdbcSelectExecutor {
 		final String comment = queryOptions.getComment();
 		final List<String> databaseHints = queryOptions.getDatabaseHints();
 		final Integer fetchSize = queryOptions.getFetchSize();
+		final Integer streamWindowSize = queryOptions.getStreamWindowSize();
 		final Limit limit = queryOptions.getLimit();
 
 		return new JdbcSelectExecutionContext(
@@ -243,6 +245,7 @@ public class JdbcSelectExecutorStandardImpl implements JdbcSelectExecutor {
 				comment,
 				databaseHints,
 				fetchSize,
+				streamWindowSize,
 				limit,
 				context
 		);
@@ -356,14 +359,32 @@ public class JdbcSelectExecutorStandardImpl implements JdbcSelectExecutor {
 				jdbcValues
 		);
 
-		final T result = resultsConsumer.consume(
-				jdbcValues,
-				executionContext.getSession(),
-				processingOptions,
-				valuesProcessingState,
-				rowProcessingState,
-				rowReader
-		);
+		final SessionEventListenerManager eventListenerManager = executionContext.getSession().getEventListenerManager();
+		final boolean queryEvents = executionContext.hasQueryExecutionToBeAddedToStatistics()
+				&& jdbcValues instanceof JdbcValuesResultSetImpl;
+		if ( queryEvents ) {
+			eventListenerManager.queryExecutionStart();
+		}
+
+		T result = null;
+		try {
+			result = resultsConsumer.consume(
+					jdbcValues,
+					executionContext.getSession(),
+					processingOptions,
+					valuesProcessingState,
+					rowProcessingState,
+					rowReader
+			);
+		}
+		finally {
+			if ( queryEvents ) {
+				eventListenerManager.queryExecutionEnd(
+						executionContext.getQueryIdentifier( jdbcSelect.getSqlString() ),
+						getResultSize( result )
+				);
+			}
+		}
 
 		if ( stats ) {
 			final long endTime = System.nanoTime();
@@ -657,6 +678,7 @@ public class JdbcSelectExecutorStandardImpl implements JdbcSelectExecutor {
 		private final String comment;
 		private final List<String> databaseHints;
 		private final Integer fetchSize;
+		private final Integer streamWindowSize;
 		private final Limit limit;
 		private final ExecutionContext context;
 
@@ -675,6 +697,7 @@ public class JdbcSelectExecutorStandardImpl implements JdbcSelectExecutor {
 				String comment,
 				List<String> databaseHints,
 				Integer fetchSize,
+				Integer streamWindowSize,
 				Limit limit,
 				ExecutionContext context) {
 			super( context.getSession() );
@@ -692,6 +715,7 @@ public class JdbcSelectExecutorStandardImpl implements JdbcSelectExecutor {
 			this.comment = comment;
 			this.databaseHints = databaseHints;
 			this.fetchSize = fetchSize;
+			this.streamWindowSize = streamWindowSize;
 			this.limit = limit;
 			this.context = context;
 		}
@@ -776,6 +800,11 @@ public class JdbcSelectExecutorStandardImpl implements JdbcSelectExecutor {
 			return fetchSize;
 		}
 
+		@Override
+		public Integer getStreamWindowSize() {
+			return streamWindowSize;
+		}
+
 		@Override
 		public Limit getLimit() {
 			return limit;
@@ -12,7 +12,10 @@ import java.util.function.BiConsumer;
 import java.util.function.Function;
 
 import org.hibernate.engine.jdbc.spi.JdbcServices;
+import org.hibernate.engine.spi.SessionEventListenerManager;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.event.spi.EventManager;
+import org.hibernate.event.spi.HibernateMonitoringEvent;
 import org.hibernate.query.spi.QueryOptions;
 import org.hibernate.resource.jdbc.spi.LogicalConnectionImplementor;
 import org.hibernate.sql.exec.spi.ExecutionContext;
@@ -78,14 +81,36 @@ public class StandardJdbcMutationExecutor implements JdbcMutationExecutor {
 					);
 				}
 
-				session.getEventListenerManager().jdbcExecuteStatementStart();
+				// the connection might still be executing a batch
+				session.getJdbcCoordinator().awaitPendingBatchExecution();
+				final SessionEventListenerManager eventListenerManager = session.getEventListenerManager();
+				// only the mutation queries, not the internal mutations of Hibernate
+				final boolean queryEvents = executionContext.hasQueryExecutionToBeAddedToStatistics();
+				if ( queryEvents ) {
+					eventListenerManager.queryExecutionStart();
+				}
+				int rows = -1;
 				try {
-					int rows = preparedStatement.executeUpdate();
-					expectationCheck.accept( rows, preparedStatement );
-					return rows;
+					final EventManager eventManager = session.getEventManager();
+					final HibernateMonitoringEvent jdbcStatementExecutionEvent = eventManager.beginJdbcStatementExecutionEvent();
+					eventListenerManager.jdbcExecuteStatementStart();
+					try {
+						rows = preparedStatement.executeUpdate();
+						expectationCheck.accept( rows, preparedStatement );
+						return rows;
+					}
+					finally {
+						eventListenerManager.jdbcExecuteStatementEnd();
+						eventManager.completeJdbcStatementExecutionEvent( jdbcStatementExecutionEvent, finalSql, rows );
+					}
 				}
 				finally {
-					session.getEventListenerManager().jdbcExecuteStatementEnd();
+					if ( queryEvents ) {
+						eventListenerManager.queryExecutionEnd(
+								executionContext.getQueryIdentifier( jdbcMutation.getSqlString() ),
+								rows
+						);
+					}
 				}
 			}
 			finally {
@@ -0,0 +1,88 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.sql.model.ast.builder;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.metamodel.mapping.SelectableMapping;
+import org.hibernate.sql.model.MutationOperation;
+import org.hibernate.sql.model.MutationTarget;
+import org.hibernate.sql.model.TableMapping;
+import org.hibernate.sql.model.ast.ColumnValueBinding;
+import org.hibernate.sql.model.ast.ColumnValueParameter;
+import org.hibernate.sql.model.ast.RestrictedTableMutation;
+import org.hibernate.sql.model.internal.TableUpsert;
+
+import static org.hibernate.internal.util.collections.CollectionHelper.combine;
+
+/**
+ * Builder for {@link TableUpsert} mutations which insert a row, or update it
+ * if it already exists, regardless of whether the table is
+ * {@linkplain TableMapping#isOptional() optional}.
+ * <p>
+ * Columns which are insertable but not updatable are written only when the
+ * row is inserted.
+ *
+ * @see org.hibernate.persister.entity.mutation.MergeCoordinator
+ */
+public class TableMergeBuilder<O extends MutationOperation> extends AbstractTableUpdateBuilder<O> {
+	private final Set<String> insertOnlyColumns = new HashSet<>();
+
+	public TableMergeBuilder(
+			MutationTarget<?> mutationTarget,
+			TableMapping tableMapping,
+			SessionFactoryImplementor sessionFactory) {
+		super( mutationTarget, tableMapping, sessionFactory );
+		setSqlComment( "upsert for " + mutationTarget.getRolePath() );
+	}
+
+	/**
+	 * Add a column which is written when the row is inserted, but not
+	 * when it already exists
+	 */
+	public void addInsertOnlyValueColumn(SelectableMapping selectableMapping) {
+		addValueColumn( selectableMapping );
+		insertOnlyColumns.add( selectableMapping.getSelectionExpression() );
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public RestrictedTableMutation<O> buildMutation() {
+		final List<ColumnValueBinding> valueBindings =
+				combine( getValueBindings(), getKeyBindings(), getLobValueBindings() );
+		final List<ColumnValueBinding> updateValueBindings;
+		if ( insertOnlyColumns.isEmpty() ) {
+			updateValueBindings = valueBindings;
+		}
+		else {
+			updateValueBindings = new ArrayList<>( valueBindings.size() - insertOnlyColumns.size() );
+			for ( ColumnValueBinding valueBinding : valueBindings ) {
+				if ( !insertOnlyColumns.contains( valueBinding.getColumnReference().getColumnExpression() ) ) {
+					updateValueBindings.add( valueBinding );
+				}
+			}
+		}
+		return (RestrictedTableMutation<O>) new TableUpsert(
+				getMutatingTable(),
+				getMutationTarget(),
+				getSqlComment(),
+				valueBindings,
+				updateValueBindings,
+				getKeyRestrictionBindings(),
+				getOptimisticLockBindings()
+		);
+	}
+
+	@Override
+	protected void handleParameterCreation(ColumnValueParameter parameter) {
+		// nothing to do - TableUpsert collects the parameters from the bindings
+	}
+}
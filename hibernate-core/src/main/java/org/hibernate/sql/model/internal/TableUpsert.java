@@ -37,6 +37,7 @@ public class TableUpsert
 		extends AbstractRestrictedTableMutation<MutationOperation>
 		implements RestrictedTableMutation<MutationOperation> {
 	private final List<ColumnValueBinding> valueBindings;
+	private final List<ColumnValueBinding> updateValueBindings;
 
 	public TableUpsert(
 			MutatingTableReference mutatingTable,
@@ -61,6 +62,30 @@ public class TableUpsert
 			List<ColumnValueBinding> valueBindings,
 			List<ColumnValueBinding> keyRestrictionBindings,
 			List<ColumnValueBinding> optLockRestrictionBindings) {
+		this(
+				mutatingTable,
+				mutationTarget,
+				comment,
+				valueBindings,
+				valueBindings,
+				keyRestrictionBindings,
+				optLockRestrictionBindings
+		);
+	}
+
+	/**
+	 * @param updateValueBindings The subset of the {@code valueBindings} which
+	 * are written when the row already exists, excluding columns which are
+	 * insertable but not updatable
+	 */
+	public TableUpsert(
+			MutatingTableReference mutatingTable,
+			MutationTarget<?> mutationTarget,
+			String comment,
+			List<ColumnValueBinding> valueBindings,
+			List<ColumnValueBinding> updateValueBindings,
+			List<ColumnValueBinding> keyRestrictionBindings,
+			List<ColumnValueBinding> optLockRestrictionBindings) {
 		super(
 				mutatingTable,
 				mutationTarget,
@@ -70,6 +95,7 @@ public class TableUpsert
 				collectParameters( valueBindings, keyRestrictionBindings, optLockRestrictionBindings )
 		);
 		this.valueBindings = valueBindings;
+		this.updateValueBindings = updateValueBindings;
 	}
 
 	@Override
@@ -114,6 +140,21 @@ public class TableUpsert
 		return valueBindings;
 	}
 
+	/**
+	 * The {@linkplain #getValueBindings() value bindings} for the columns
+	 * which are written when the row already exists
+	 */
+	public List<ColumnValueBinding> getUpdateValueBindings() {
+		return updateValueBindings;
+	}
+
+	/**
+	 * Are there columns which are written only when the row is inserted?
+	 */
+	public boolean hasInsertOnlyValueBindings() {
+		return updateValueBindings.size() != valueBindings.size();
+	}
+
 	public void forEachValueBinding(BiConsumer<Integer, ColumnValueBinding> consumer) {
 		forEachThing( valueBindings, consumer );
 	}
@@ -0,0 +1,246 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.sql.model.jdbc;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.jdbc.Expectation;
+import org.hibernate.jdbc.Expectations;
+import org.hibernate.persister.entity.mutation.EntityMutationTarget;
+import org.hibernate.sql.model.TableMapping;
+import org.hibernate.sql.model.ast.ColumnValueBinding;
+import org.hibernate.sql.model.ast.ColumnValueParameter;
+import org.hibernate.sql.model.internal.TableUpsert;
+
+import static org.hibernate.internal.util.collections.CollectionHelper.isEmpty;
+
+/**
+ * Support for dialects which implement
+ * {@link org.hibernate.dialect.Dialect#createMergeOperation} using a single
+ * statement, which, unlike the {@linkplain OptionalTableUpdateOperation legacy
+ * upsert}, may be executed as part of a JDBC batch.
+ * <p>
+ * Every parameter of the {@link TableUpsert} occurs exactly once in the rendered
+ * SQL, the parameters of the value columns preceding those of the key columns,
+ * which precede those of the optimistic lock restrictions.
+ * Only the {@linkplain TableUpsert#getUpdateValueBindings() updatable} columns
+ * are assigned when the row already exists.
+ */
+public final class MergeOperationHelper {
+
+	private MergeOperationHelper() {
+	}
+
+	/**
+	 * Can the given upsert be executed as a single statement?  This is not
+	 * the case for {@linkplain TableMapping#isOptional() optional} tables,
+	 * whose row is deleted when all its values are null, for tables with
+	 * custom SQL, and for upserts with optimistic lock restrictions.
+	 */
+	public static boolean isSingleStatementSupported(TableUpsert upsert) {
+		return isSingleStatementSupported( upsert, false );
+	}
+
+	/**
+	 * Can the given upsert be executed as a single statement, which, if
+	 * {@code optimisticLockSupported}, restricts the update of an existing
+	 * row by the optimistic lock restrictions of the upsert?
+	 *
+	 * @see #createInsertOnConflictOperation
+	 */
+	public static boolean isSingleStatementSupported(TableUpsert upsert, boolean optimisticLockSupported) {
+		final TableMapping tableMapping = upsert.getMutatingTable().getTableMapping();
+		return !tableMapping.isOptional()
+				&& ( tableMapping.getInsertDetails() == null || tableMapping.getInsertDetails().getCustomSql() == null )
+				&& ( tableMapping.getUpdateDetails() == null || tableMapping.getUpdateDetails().getCustomSql() == null )
+				&& !upsert.getKeyBindings().isEmpty()
+				&& ( isEmpty( upsert.getOptimisticLockBindings() )
+						|| optimisticLockSupported && !upsert.getUpdateValueBindings().isEmpty() );
+	}
+
+	/**
+	 * {@code insert into t (c, k) values (?, ?) on conflict (k) do update set c = excluded.c},
+	 * as supported by PostgreSQL and CockroachDB.  The optimistic lock restrictions
+	 * of the upsert, if any, are added as {@code where t.v = ?}, so that the update
+	 * of an existing row which does not match them affects no row.
+	 */
+	public static JdbcUpdateMutation createInsertOnConflictOperation(
+			EntityMutationTarget mutationTarget,
+			TableUpsert upsert) {
+		final StringBuilder sql = new StringBuilder();
+		appendInsert( "insert into ", upsert, sql );
+		sql.append( " on conflict (" );
+		appendColumnNames( upsert.getKeyBindings(), sql );
+		sql.append( ")" );
+		if ( upsert.getUpdateValueBindings().isEmpty() ) {
+			sql.append( " do nothing" );
+			// the affected row count is 0 when the row already exists
+			return createOperation( mutationTarget, upsert, sql, Expectations.NONE );
+		}
+		else {
+			sql.append( " do update set " );
+			appendColumnAssignments( upsert.getUpdateValueBindings(), "excluded.", "", sql );
+			appendOptimisticLockRestrictions( upsert, sql );
+			return createOperation( mutationTarget, upsert, sql, upsert.getExpectation() );
+		}
+	}
+
+	/**
+	 * {@code insert into t (c, k) values (?, ?) on duplicate key update c = values(c)},
+	 * as supported by MySQL and MariaDB
+	 */
+	public static JdbcUpdateMutation createInsertOnDuplicateKeyOperation(
+			EntityMutationTarget mutationTarget,
+			TableUpsert upsert) {
+		final StringBuilder sql = new StringBuilder();
+		appendInsert( "insert into ", upsert, sql );
+		sql.append( " on duplicate key update " );
+		appendColumnAssignments(
+				upsert.getUpdateValueBindings().isEmpty() ? upsert.getKeyBindings() : upsert.getUpdateValueBindings(),
+				"values(",
+				")",
+				sql
+		);
+		// the affected row count is 1 for an insert, but 2 or 0 for an update,
+		// depending on whether the row was changed
+		return createOperation( mutationTarget, upsert, sql, Expectations.NONE );
+	}
+
+	/**
+	 * {@code merge into t (c, k) key (k) values (?, ?)}, as supported by H2.
+	 * Since this statement always writes every column, it may not be used
+	 * for upserts with {@linkplain TableUpsert#hasInsertOnlyValueBindings()
+	 * insert-only columns}.
+	 */
+	public static JdbcUpdateMutation createMergeKeyOperation(
+			EntityMutationTarget mutationTarget,
+			TableUpsert upsert) {
+		final StringBuilder sql = new StringBuilder();
+		sql.append( "merge into " )
+				.append( upsert.getMutatingTable().getTableName() )
+				.append( " (" );
+		appendColumnNames( upsert.getValueBindings(), sql );
+		if ( !upsert.getValueBindings().isEmpty() ) {
+			sql.append( "," );
+		}
+		appendColumnNames( upsert.getKeyBindings(), sql );
+		sql.append( ") key (" );
+		appendColumnNames( upsert.getKeyBindings(), sql );
+		sql.append( ") values (" );
+		appendValues( upsert, sql );
+		sql.append( ")" );
+		return createOperation( mutationTarget, upsert, sql, upsert.getExpectation() );
+	}
+
+	private static void appendInsert(String keyword, TableUpsert upsert, StringBuilder sql) {
+		sql.append( keyword )
+				.append( upsert.getMutatingTable().getTableName() )
+				.append( " (" );
+		appendColumnNames( upsert.getValueBindings(), sql );
+		if ( !upsert.getValueBindings().isEmpty() ) {
+			sql.append( "," );
+		}
+		appendColumnNames( upsert.getKeyBindings(), sql );
+		sql.append( ") values (" );
+		appendValues( upsert, sql );
+		sql.append( ")" );
+	}
+
+	private static void appendValues(TableUpsert upsert, StringBuilder sql) {
+		final List<ColumnValueBinding> valueBindings = upsert.getValueBindings();
+		for ( int i = 0; i < valueBindings.size(); i++ ) {
+			sql.append( valueBindings.get( i ).getValueExpression().getFragment() ).append( ',' );
+		}
+		final List<ColumnValueBinding> keyBindings = upsert.getKeyBindings();
+		for ( int i = 0; i < keyBindings.size(); i++ ) {
+			if ( i > 0 ) {
+				sql.append( ',' );
+			}
+			sql.append( keyBindings.get( i ).getValueExpression().getFragment() );
+		}
+	}
+
+	private static void appendOptimisticLockRestrictions(TableUpsert upsert, StringBuilder sql) {
+		final List<ColumnValueBinding> optimisticLockBindings = upsert.getOptimisticLockBindings();
+		if ( isEmpty( optimisticLockBindings ) ) {
+			return;
+		}
+		final String tableName = upsert.getMutatingTable().getTableName();
+		for ( int i = 0; i < optimisticLockBindings.size(); i++ ) {
+			final ColumnValueBinding binding = optimisticLockBindings.get( i );
+			sql.append( i == 0 ? " where " : " and " )
+					.append( tableName )
+					.append( '.' )
+					.append( binding.getColumnReference().getColumnExpression() );
+			if ( binding.getValueExpression() == null ) {
+				sql.append( " is null" );
+			}
+			else {
+				sql.append( '=' ).append( binding.getValueExpression().getFragment() );
+			}
+		}
+	}
+
+	private static void appendColumnNames(List<ColumnValueBinding> bindings, StringBuilder sql) {
+		for ( int i = 0; i < bindings.size(); i++ ) {
+			if ( i > 0 ) {
+				sql.append( ',' );
+			}
+			sql.append( bindings.get( i ).getColumnReference().getColumnExpression() );
+		}
+	}
+
+	private static void appendColumnAssignments(
+			List<ColumnValueBinding> bindings,
+			String valuePrefix,
+			String valueSuffix,
+			StringBuilder sql) {
+		for ( int i = 0; i < bindings.size(); i++ ) {
+			if ( i > 0 ) {
+				sql.append( ',' );
+			}
+			final String columnName = bindings.get( i ).getColumnReference().getColumnExpression();
+			sql.append( columnName )
+					.append( '=' )
+					.append( valuePrefix )
+					.append( columnName )
+					.append( valueSuffix );
+		}
+	}
+
+	private static JdbcUpdateMutation createOperation(
+			EntityMutationTarget mutationTarget,
+			TableUpsert upsert,
+			StringBuilder sql,
+			Expectation expectation) {
+		// the parameters, in the order in which they occur in the values list,
+		// followed by those of the optimistic lock restrictions
+		final List<ColumnValueParameter> parameters = new ArrayList<>( upsert.getParameters().size() );
+		for ( ColumnValueBinding valueBinding : upsert.getValueBindings() ) {
+			parameters.addAll( valueBinding.getValueExpression().getParameters() );
+		}
+		for ( ColumnValueBinding keyBinding : upsert.getKeyBindings() ) {
+			parameters.addAll( keyBinding.getValueExpression().getParameters() );
+		}
+		if ( !isEmpty( upsert.getOptimisticLockBindings() ) ) {
+			for ( ColumnValueBinding optimisticLockBinding : upsert.getOptimisticLockBindings() ) {
+				if ( optimisticLockBinding.getValueExpression() != null ) {
+					parameters.addAll( optimisticLockBinding.getValueExpression().getParameters() );
+				}
+			}
+		}
+		return new JdbcUpdateMutation(
+				upsert.getMutatingTable().getTableMapping(),
+				mutationTarget,
+				sql.toString(),
+				false,
+				expectation,
+				parameters
+		);
+	}
+}
@@ -43,6 +43,7 @@ import org.hibernate.sql.model.TableMapping;
 import org.hibernate.sql.model.ValuesAnalysis;
 import org.hibernate.sql.model.ast.ColumnValueBinding;
 import org.hibernate.sql.model.ast.ColumnValueParameter;
+import org.hibernate.sql.model.ast.ColumnWriteFragment;
 import org.hibernate.sql.model.ast.MutatingTableReference;
 import org.hibernate.sql.model.ast.TableDelete;
 import org.hibernate.sql.model.ast.TableInsert;
@@ -56,6 +57,7 @@ import org.hibernate.sql.model.internal.TableUpdateStandard;
 import org.hibernate.sql.model.internal.TableUpsert;
 
 import static org.hibernate.sql.model.ModelMutationLogging.MODEL_MUTATION_LOGGER;
+import static org.hibernate.sql.model.ast.AbstractTableUpdate.collectParameters;
 
 /**
  * Legacy "upsert" handling, conditionally using INSERT, UPDATE and DELETE
@@ -69,6 +71,7 @@ public class OptionalTableUpdateOperation implements SelfExecutingUpdateOperatio
 	private final Expectation expectation;
 
 	private final List<ColumnValueBinding> valueBindings;
+	private final List<ColumnValueBinding> updateValueBindings;
 	private final List<ColumnValueBinding> keyBindings;
 	private final List<ColumnValueBinding> optimisticLockBindings;
 	private final List<ColumnValueParameter> parameters;
@@ -83,6 +86,7 @@ public class OptionalTableUpdateOperation implements SelfExecutingUpdateOperatio
 		this.tableMapping = (EntityTableMapping) upsert.getMutatingTable().getTableMapping();
 		this.expectation = upsert.getExpectation();
 		this.valueBindings = upsert.getValueBindings();
+		this.updateValueBindings = upsert.getUpdateValueBindings();
 		this.keyBindings = upsert.getKeyBindings();
 		this.optimisticLockBindings = upsert.getOptimisticLockBindings();
 		this.parameters = upsert.getParameters();
@@ -306,6 +310,17 @@ public class OptionalTableUpdateOperation implements SelfExecutingUpdateOperatio
 			SharedSessionContractImplementor session) {
 		MODEL_MUTATION_LOGGER.tracef( "#performUpdate(%s)", tableMapping.getTableName() );
 
+		// columns which are insertable but not updatable are left out of
+		// the update, and if no column is left, the key is assigned to
+		// itself, so that the update still tells us if the row exists
+		final boolean allValuesUpdated = updateValueBindings.size() == valueBindings.size();
+		final List<ColumnValueBinding> setBindings = updateValueBindings.isEmpty()
+				? selfAssignedKeyBindings()
+				: updateValueBindings;
+		final List<ColumnValueParameter> updateParameters = allValuesUpdated
+				? parameters
+				: collectParameters( setBindings, keyBindings, optimisticLockBindings );
+
 		final TableUpdate<JdbcMutationOperation> tableUpdate;
 		if ( tableMapping.getUpdateDetails() != null
 				&& tableMapping.getUpdateDetails().getCustomSql() != null ) {
@@ -324,10 +339,10 @@ public class OptionalTableUpdateOperation implements SelfExecutingUpdateOperatio
 					new MutatingTableReference( tableMapping ),
 					mutationTarget,
 					"upsert update for " + mutationTarget.getRolePath(),
-					valueBindings,
+					setBindings,
 					keyBindings,
 					optimisticLockBindings,
-					parameters
+					updateParameters
 			);
 		}
 
@@ -347,7 +362,12 @@ public class OptionalTableUpdateOperation implements SelfExecutingUpdateOperatio
 
 			session.getJdbcServices().getSqlStatementLogger().logStatement( statementDetails.getSqlString() );
 
-			jdbcValueBindings.beforeStatement( statementDetails, session );
+			if ( allValuesUpdated ) {
+				jdbcValueBindings.beforeStatement( statementDetails, session );
+			}
+			else {
+				bindUpdateValues( jdbcValueBindings, updateStatement, statementDetails.getSqlString(), session );
+			}
 
 			final int rowCount = session.getJdbcCoordinator().getResultSetReturn()
 					.executeUpdate( updateStatement, statementDetails.getSqlString() );
@@ -374,6 +394,68 @@ public class OptionalTableUpdateOperation implements SelfExecutingUpdateOperatio
 		}
 	}
 
+	private List<ColumnValueBinding> selfAssignedKeyBindings() {
+		final List<ColumnValueBinding> bindings = CollectionHelper.arrayList( keyBindings.size() );
+		for ( ColumnValueBinding keyBinding : keyBindings ) {
+			bindings.add( new ColumnValueBinding(
+					keyBinding.getColumnReference(),
+					new ColumnWriteFragment(
+							keyBinding.getColumnReference().getColumnExpression(),
+							keyBinding.getColumnReference().getJdbcMapping()
+					)
+			) );
+		}
+		return bindings;
+	}
+
+	/**
+	 * Bind the values of the update, skipping the columns which are written
+	 * only by the insert
+	 */
+	private void bindUpdateValues(
+			JdbcValueBindings jdbcValueBindings,
+			PreparedStatement statement,
+			String sql,
+			SharedSessionContractImplementor session) {
+		final BindingGroup bindingGroup = jdbcValueBindings.getBindingGroup( tableMapping.getTableName() );
+		if ( bindingGroup == null ) {
+			return;
+		}
+
+		int jdbcBindingPosition = 1;
+		for ( Binding binding : bindingGroup.getBindings() ) {
+			// binding-position here is 1-based (JDBC)
+			final JdbcValueDescriptorImpl valueDescriptor = jdbcValueDescriptors.get( binding.getPosition() - 1 );
+			if ( valueDescriptor.getUsage() == ParameterUsage.SET && !isUpdated( binding.getColumnName() ) ) {
+				continue;
+			}
+			try {
+				binding.getValueBinder().bind( statement, binding.getValue(), jdbcBindingPosition++, session );
+			}
+			catch (SQLException e) {
+				throw session.getJdbcServices().getSqlExceptionHelper().convert(
+						e,
+						String.format(
+								Locale.ROOT,
+								"Unable to bind parameter for upsert update : %s.%s",
+								tableMapping.getTableName(),
+								valueDescriptor.getColumnName()
+						),
+						sql
+				);
+			}
+		}
+	}
+
+	private boolean isUpdated(String columnName) {
+		for ( int i = 0; i < updateValueBindings.size(); i++ ) {
+			if ( updateValueBindings.get( i ).getColumnReference().getColumnExpression().equals( columnName ) ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
 	private void performInsert(JdbcValueBindings jdbcValueBindings, SharedSessionContractImplementor session) {
 		final JdbcInsertMutation jdbcInsert = createJdbcInsert( session );
 
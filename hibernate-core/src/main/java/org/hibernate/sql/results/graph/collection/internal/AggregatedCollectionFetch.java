@@ -0,0 +1,64 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.sql.results.graph.collection.internal;
+
+import org.hibernate.engine.FetchTiming;
+import org.hibernate.metamodel.mapping.PluralAttributeMapping;
+import org.hibernate.spi.NavigablePath;
+import org.hibernate.sql.results.graph.AssemblerCreationState;
+import org.hibernate.sql.results.graph.DomainResult;
+import org.hibernate.sql.results.graph.DomainResultAssembler;
+import org.hibernate.sql.results.graph.FetchParent;
+import org.hibernate.sql.results.graph.FetchParentAccess;
+import org.hibernate.type.descriptor.java.JavaType;
+
+/**
+ * A fetch of a collection of basic values whose elements are selected as a
+ * single SQL array per owner row, produced by an array aggregation.
+ *
+ * @see org.hibernate.engine.FetchStyle#AGGREGATE
+ */
+public class AggregatedCollectionFetch extends CollectionFetch {
+	private final DomainResult<?> aggregateDomainResult;
+
+	public AggregatedCollectionFetch(
+			NavigablePath fetchedPath,
+			PluralAttributeMapping fetchedAttribute,
+			DomainResult<?> aggregateDomainResult,
+			FetchParent fetchParent) {
+		super( fetchedPath, fetchedAttribute, fetchParent );
+		this.aggregateDomainResult = aggregateDomainResult;
+	}
+
+	@Override
+	public FetchTiming getTiming() {
+		return FetchTiming.IMMEDIATE;
+	}
+
+	@Override
+	public boolean hasTableGroup() {
+		return false;
+	}
+
+	@Override
+	public DomainResultAssembler<?> createAssembler(
+			FetchParentAccess parentAccess,
+			AssemblerCreationState creationState) {
+		return new AggregatedCollectionAssembler(
+				getNavigablePath(),
+				getFetchedMapping(),
+				parentAccess,
+				aggregateDomainResult.createResultAssembler( null, creationState ),
+				creationState
+		);
+	}
+
+	@Override
+	public JavaType<?> getResultJavaType() {
+		return getFetchedMapping().getJavaType();
+	}
+}
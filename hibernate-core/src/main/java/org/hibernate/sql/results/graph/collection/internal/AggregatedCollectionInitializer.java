@@ -0,0 +1,107 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.sql.results.graph.collection.internal;
+
+import java.sql.Array;
+import java.sql.SQLException;
+import java.util.List;
+
+import org.hibernate.LockMode;
+import org.hibernate.engine.spi.CollectionKey;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.internal.log.LoggingHelper;
+import org.hibernate.metamodel.mapping.BasicValuedModelPart;
+import org.hibernate.metamodel.mapping.JdbcMapping;
+import org.hibernate.metamodel.mapping.PluralAttributeMapping;
+import org.hibernate.spi.NavigablePath;
+import org.hibernate.sql.results.graph.DomainResultAssembler;
+import org.hibernate.sql.results.graph.FetchParentAccess;
+import org.hibernate.sql.results.jdbc.spi.RowProcessingState;
+
+import static org.hibernate.sql.results.graph.collection.CollectionLoadingLogger.COLL_LOAD_LOGGER;
+
+/**
+ * Initializes a collection of basic values from the SQL array holding all its
+ * elements, which was selected along with the owner.
+ * <p>
+ * Since the array contains the whole collection, it is only read from the first
+ * row in which the collection occurs, and any further occurrences are ignored.
+ * A {@code null} array, resulting from the aggregation of no rows at all, denotes
+ * an empty collection.
+ *
+ * @see AggregatedCollectionFetch
+ */
+public class AggregatedCollectionInitializer extends AbstractImmediateCollectionInitializer {
+	private static final String CONCRETE_NAME = AggregatedCollectionInitializer.class.getSimpleName();
+
+	private final DomainResultAssembler<?> aggregateAssembler;
+	private final JdbcMapping elementJdbcMapping;
+
+	public AggregatedCollectionInitializer(
+			NavigablePath navigablePath,
+			PluralAttributeMapping attributeMapping,
+			FetchParentAccess parentAccess,
+			DomainResultAssembler<?> aggregateAssembler) {
+		super( navigablePath, attributeMapping, parentAccess, LockMode.READ, null, null );
+		this.aggregateAssembler = aggregateAssembler;
+		this.elementJdbcMapping = ( (BasicValuedModelPart) attributeMapping.getElementDescriptor() ).getJdbcMapping();
+	}
+
+	@Override
+	protected String getSimpleConcreteImplName() {
+		return CONCRETE_NAME;
+	}
+
+	@Override
+	protected void readCollectionRow(
+			CollectionKey collectionKey,
+			List<Object> loadingState,
+			RowProcessingState rowProcessingState) {
+		final Object aggregate = aggregateAssembler.assemble( rowProcessingState );
+		if ( aggregate == null || !loadingState.isEmpty() ) {
+			return;
+		}
+
+		final SharedSessionContractImplementor session = rowProcessingState.getSession();
+		for ( Object element : toElements( aggregate, session ) ) {
+			loadingState.add(
+					elementJdbcMapping.convertToDomainValue(
+							elementJdbcMapping.getJdbcJavaType().wrap( element, session )
+					)
+			);
+		}
+	}
+
+	private static Object[] toElements(Object aggregate, SharedSessionContractImplementor session) {
+		if ( aggregate instanceof Array ) {
+			final Array array = (Array) aggregate;
+			try {
+				return (Object[]) array.getArray();
+			}
+			catch (SQLException e) {
+				throw session.getJdbcServices().getSqlExceptionHelper().convert(
+						e,
+						"Unable to read aggregated collection elements"
+				);
+			}
+			finally {
+				try {
+					array.free();
+				}
+				catch (SQLException e) {
+					COLL_LOAD_LOGGER.debugf( "Unable to free JDBC Array reference [%s]", e.getMessage() );
+				}
+			}
+		}
+		return (Object[]) aggregate;
+	}
+
+	@Override
+	public String toString() {
+		return "AggregatedCollectionInitializer(" + LoggingHelper.toLoggableString( getNavigablePath() ) + ")";
+	}
+}
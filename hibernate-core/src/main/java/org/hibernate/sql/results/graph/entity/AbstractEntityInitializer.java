@@ -27,6 +27,8 @@ import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.engine.spi.Status;
 import org.hibernate.event.service.spi.EventListenerGroup;
+import org.hibernate.event.spi.EventManager;
+import org.hibernate.event.spi.HibernateMonitoringEvent;
 import org.hibernate.event.spi.PreLoadEvent;
 import org.hibernate.event.spi.PreLoadEventListener;
 import org.hibernate.internal.util.NullnessHelper;
@@ -821,9 +823,12 @@ public abstract class AbstractEntityInitializer extends AbstractFetchParentAcces
 			}
 			else {
 				final SessionEventListenerManager eventListenerManager = session.getEventListenerManager();
+				final EventManager eventManager = session.getEventManager();
+				final HibernateMonitoringEvent cachePutEvent = eventManager.beginCachePutEvent();
+				boolean put = false;
 				try {
 					eventListenerManager.cachePutStart();
-					final boolean put = cacheAccess.putFromLoad(
+					put = cacheAccess.putFromLoad(
 							session,
 							cacheKey,
 							rootEntityDescriptor.getCacheEntryStructure().structure( cacheEntry ),
@@ -838,6 +843,7 @@ public abstract class AbstractEntityInitializer extends AbstractFetchParentAcces
 				}
 				finally {
 					eventListenerManager.cachePutEnd();
+					eventManager.completeCachePutEvent( cachePutEvent, session, cacheAccess, put );
 				}
 			}
 		}
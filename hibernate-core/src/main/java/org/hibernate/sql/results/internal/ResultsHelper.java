@@ -26,6 +26,8 @@ import org.hibernate.engine.spi.PersistenceContext;
 import org.hibernate.engine.spi.SessionEventListenerManager;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.event.spi.EventManager;
+import org.hibernate.event.spi.HibernateMonitoringEvent;
 import org.hibernate.internal.CoreLogging;
 import org.hibernate.internal.CoreMessageLogger;
 import org.hibernate.metamodel.mapping.JdbcMapping;
@@ -293,9 +295,12 @@ public class ResultsHelper {
 		// CollectionRegionAccessStrategy has no update, so avoid putting uncommitted data via putFromLoad
 		if ( isPutFromLoad ) {
 			final SessionEventListenerManager eventListenerManager = session.getEventListenerManager();
+			final EventManager eventManager = session.getEventManager();
+			final HibernateMonitoringEvent cachePutEvent = eventManager.beginCachePutEvent();
+			boolean put = false;
 			try {
 				eventListenerManager.cachePutStart();
-				final boolean put = cacheAccess.putFromLoad(
+				put = cacheAccess.putFromLoad(
 						session,
 						cacheKey,
 						collectionDescriptor.getCacheEntryStructure().structure( entry ),
@@ -314,6 +319,7 @@ public class ResultsHelper {
 			}
 			finally {
 				eventListenerManager.cachePutEnd();
+				eventManager.completeCachePutEvent( cachePutEvent, session, cacheAccess, put );
 			}
 		}
 	}
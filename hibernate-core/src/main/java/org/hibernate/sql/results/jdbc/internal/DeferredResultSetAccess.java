@@ -21,6 +21,8 @@ import org.hibernate.engine.jdbc.spi.SqlStatementLogger;
 import org.hibernate.engine.spi.SessionEventListenerManager;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.event.spi.EventManager;
+import org.hibernate.event.spi.HibernateMonitoringEvent;
 import org.hibernate.internal.CoreLogging;
 import org.hibernate.internal.CoreMessageLogger;
 import org.hibernate.query.spi.Limit;
@@ -177,6 +179,13 @@ public class DeferredResultSetAccess extends AbstractResultSetAccess {
 			if ( queryOptions.getFetchSize() != null ) {
 				preparedStatement.setFetchSize( queryOptions.getFetchSize() );
 			}
+			else if ( queryOptions.getStreamWindowSize() != null && executionContext.isScrollResult() ) {
+				// let the driver read the results from a server-side cursor
+				preparedStatement.setFetchSize(
+						executionContext.getSession().getJdbcServices().getDialect()
+								.getStreamingFetchSize( queryOptions.getStreamWindowSize() )
+				);
+			}
 			if ( queryOptions.getTimeout() != null ) {
 				preparedStatement.setQueryTimeout( queryOptions.getTimeout() );
 			}
@@ -221,10 +230,14 @@ public class DeferredResultSetAccess extends AbstractResultSetAccess {
 			final SessionEventListenerManager eventListenerManager = executionContext.getSession()
 					.getEventListenerManager();
 
+			// the connection might still be executing a batch
+			getPersistenceContext().getJdbcCoordinator().awaitPendingBatchExecution();
 			long executeStartNanos = 0;
 			if ( this.sqlStatementLogger.getLogSlowQuery() > 0 ) {
 				executeStartNanos = System.nanoTime();
 			}
+			final EventManager eventManager = executionContext.getSession().getEventManager();
+			final HibernateMonitoringEvent jdbcStatementExecutionEvent = eventManager.beginJdbcStatementExecutionEvent();
 			try {
 				eventListenerManager.jdbcExecuteStatementStart();
 				resultSet = wrapResultSet( preparedStatement.executeQuery() );
@@ -232,6 +245,7 @@ public class DeferredResultSetAccess extends AbstractResultSetAccess {
 			finally {
 				eventListenerManager.jdbcExecuteStatementEnd();
 				sqlStatementLogger.logSlowQuery( preparedStatement, executeStartNanos );
+				eventManager.completeJdbcStatementExecutionEvent( jdbcStatementExecutionEvent, finalSql, -1 );
 			}
 
 			skipRows( resultSet );
@@ -11,6 +11,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 
 import org.hibernate.engine.spi.CollectionKey;
 import org.hibernate.engine.spi.EntityKey;
@@ -45,6 +46,7 @@ public class JdbcValuesSourceProcessingStateStandardImpl implements JdbcValuesSo
 	private final JdbcValuesSourceProcessingOptions processingOptions;
 
 	private final BiConsumer<EntityKey,LoadingEntityEntry> loadingEntityEntryConsumer;
+	private Consumer<EntityKey> loadedEntityListener;
 
 	private Map<EntityKey, LoadingEntityEntry> loadingEntityMap;
 	private Map<EntityUniqueKey, Initializer> initializerByUniquKeyMap;
@@ -98,6 +100,14 @@ public class JdbcValuesSourceProcessingStateStandardImpl implements JdbcValuesSo
 		return postLoadEvent;
 	}
 
+	/**
+	 * Register a listener to be notified of the key of each entity
+	 * once it has been completely loaded
+	 */
+	public void setLoadedEntityListener(Consumer<EntityKey> loadedEntityListener) {
+		this.loadedEntityListener = loadedEntityListener;
+	}
+
 	@Override
 	public void registerLoadingEntity(
 			EntityKey entityKey,
@@ -201,6 +211,10 @@ public class JdbcValuesSourceProcessingStateStandardImpl implements JdbcValuesSo
 								(Loadable) loadingEntityEntry.getDescriptor()
 						);
 					}
+
+					if ( loadedEntityListener != null ) {
+						loadedEntityListener.accept( entityKey );
+					}
 				}
 		);
 		loadingEntityMap = null;
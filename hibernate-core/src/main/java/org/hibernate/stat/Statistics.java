@@ -7,6 +7,8 @@
 package org.hibernate.stat;
 
 import java.time.Instant;
+import java.util.Collections;
+import java.util.Map;
 
 /**
  * Exposes statistics collected from all sessions belonging to a
@@ -379,4 +381,26 @@ public interface Statistics {
 	 * The global number of query plans lookups <em>not</em> found in cache.
 	 */
 	long getQueryPlanCacheMissCount();
+
+	/**
+	 * The global number of query plans evicted from cache, if
+	 * {@value org.hibernate.cfg.AvailableSettings#QUERY_PLAN_CACHE_EVICTION_POLICY}
+	 * is {@code tinylfu}.
+	 *
+	 * @since 6.2
+	 */
+	default long getQueryPlanCacheEvictionCount() {
+		return 0;
+	}
+
+	/**
+	 * The time, in milliseconds, taken by each phase of the creation of
+	 * the runtime mapping model when the {@code SessionFactory} was built,
+	 * keyed by the name of the phase, in the order the phases were executed.
+	 *
+	 * @since 6.2
+	 */
+	default Map<String, Long> getMappingModelCreationTimes() {
+		return Collections.emptyMap();
+	}
 }
@@ -8,7 +8,10 @@ package org.hibernate.stat.internal;
 
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.LongAdder;
@@ -91,6 +94,10 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 
 	private final LongAdder queryPlanCacheHitCount = new LongAdder();
 	private final LongAdder queryPlanCacheMissCount = new LongAdder();
+	private final LongAdder queryPlanCacheEvictionCount = new LongAdder();
+
+	// not reset by clear(), since the mapping model is only created once
+	private final Map<String, Long> mappingModelCreationTimes = Collections.synchronizedMap( new LinkedHashMap<>() );
 
 	private final LongAdder updateTimestampsCacheHitCount = new LongAdder();
 	private final LongAdder updateTimestampsCacheMissCount = new LongAdder();
@@ -197,6 +204,7 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 
 		queryPlanCacheHitCount.reset();
 		queryPlanCacheMissCount.reset();
+		queryPlanCacheEvictionCount.reset();
 
 		resetStart();
 	}
@@ -737,6 +745,18 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 		return queryPlanCacheMissCount.sum();
 	}
 
+	@Override
+	public long getQueryPlanCacheEvictionCount() {
+		return queryPlanCacheEvictionCount.sum();
+	}
+
+	@Override
+	public Map<String, Long> getMappingModelCreationTimes() {
+		synchronized ( mappingModelCreationTimes ) {
+			return Collections.unmodifiableMap( new LinkedHashMap<>( mappingModelCreationTimes ) );
+		}
+	}
+
 	@Override
 	public void queryCompiled(String hql, long microseconds) {
 		queryPlanCacheMissCount.increment();
@@ -764,6 +784,16 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 		}
 	}
 
+	@Override
+	public void queryPlanCacheEviction() {
+		queryPlanCacheEvictionCount.increment();
+	}
+
+	@Override
+	public void mappingModelCreationPhase(String phase, long milliseconds) {
+		mappingModelCreationTimes.put( phase, milliseconds );
+	}
+
 	private CacheRegionStatisticsImpl getQueryRegionStats(String regionName) {
 		return l2CacheStatsMap.getOrCompute(
 				regionName,
@@ -936,6 +966,7 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 				",max query time=" + queryExecutionMaxTime +
 				",query plan cache hits=" + queryPlanCacheHitCount +
 				",query plan cache misses=" + queryPlanCacheMissCount +
+				",query plan cache evictions=" + queryPlanCacheEvictionCount +
 				']';
 	}
 
@@ -266,6 +266,13 @@ public interface StatisticsImplementor extends Statistics, Service {
 		//For backward compatibility
 	}
 
+	/**
+	 * Callback indicating a query plan was evicted from the query plan cache.
+	 */
+	default void queryPlanCacheEviction() {
+		//For backward compatibility
+	}
+
 	/**
 	 * Callback indicating compilation of a sql/hql query
 	 *
@@ -275,4 +282,17 @@ public interface StatisticsImplementor extends Statistics, Service {
 	default void queryCompiled(String hql, long microseconds) {
 		//For backward compatibility
 	}
+
+	/**
+	 * Callback indicating completion of a phase of the creation of the
+	 * runtime mapping model
+	 *
+	 * @param phase The name of the phase
+	 * @param milliseconds The time taken by the phase
+	 *
+	 * @since 6.2
+	 */
+	default void mappingModelCreationPhase(String phase, long milliseconds) {
+		//For backward compatibility
+	}
 }
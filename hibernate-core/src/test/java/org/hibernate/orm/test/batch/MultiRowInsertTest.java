@@ -0,0 +1,180 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.batch;
+
+import java.util.List;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.jdbc.batch.internal.MultiRowInsertBatchImpl;
+import org.hibernate.exception.ConstraintViolationException;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DialectFeatureChecks;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.RequiresDialectFeature;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Inheritance;
+import jakarta.persistence.InheritanceType;
+import jakarta.persistence.Table;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for {@value AvailableSettings#MULTI_ROW_INSERT_SIZE}
+ */
+@DomainModel(annotatedClasses = {
+		MultiRowInsertTest.Vehicle.class,
+		MultiRowInsertTest.Truck.class
+})
+@ServiceRegistry(settings = {
+		@Setting(name = AvailableSettings.STATEMENT_BATCH_SIZE, value = "10"),
+		@Setting(name = AvailableSettings.MULTI_ROW_INSERT_SIZE, value = "4"),
+		// so we can force in-db not-null constraint violations
+		@Setting(name = AvailableSettings.CHECK_NULLABILITY, value = "false")
+})
+@SessionFactory(useCollectingStatementInspector = true)
+@RequiresDialectFeature(feature = DialectFeatureChecks.SupportsValuesListForBatchInsert.class)
+public class MultiRowInsertTest {
+
+	@AfterEach
+	public void cleanup(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.createMutationQuery( "delete Truck" ).executeUpdate();
+			session.createMutationQuery( "delete Vehicle" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testRenderMultiRowInsert() {
+		assertThat( MultiRowInsertBatchImpl.renderMultiRowInsert( "insert into t (a,b) values (?,?)", 3 ) )
+				.isEqualTo( "insert into t (a,b) values (?,?),(?,?),(?,?)" );
+		assertThat( MultiRowInsertBatchImpl.renderMultiRowInsert( "/* insert Vehicle */ insert into t (a,b,c) values (?,'x?',upper(?))", 2 ) )
+				.isEqualTo( "/* insert Vehicle */ insert into t (a,b,c) values (?,'x?',upper(?)),(?,'x?',upper(?))" );
+		// not all the parameters are in the values tuple
+		assertThat( MultiRowInsertBatchImpl.renderMultiRowInsert( "insert into t (a) values (?) returning (?)", 2 ) )
+				.isNull();
+		assertThat( MultiRowInsertBatchImpl.renderMultiRowInsert( "insert into t default values", 2 ) )
+				.isNull();
+		assertThat( MultiRowInsertBatchImpl.renderMultiRowInsert( "update t set a=(?) where b=(?)", 2 ) )
+				.isNull();
+	}
+
+	@Test
+	public void testRenderMultiRowInsertWithParameterLimit() {
+		// only as many rows as fit within the limit on the number of parameters
+		assertThat( MultiRowInsertBatchImpl.renderMultiRowInsert( "insert into t (a,b,c) values (?,?,?)", 4, 7 ) )
+				.isEqualTo( "insert into t (a,b,c) values (?,?,?),(?,?,?)" );
+		assertThat( MultiRowInsertBatchImpl.renderMultiRowInsert( "insert into t (a,b,c) values (?,?,?)", 4, 12 ) )
+				.isEqualTo( "insert into t (a,b,c) values (?,?,?),(?,?,?),(?,?,?),(?,?,?)" );
+		// not even two rows fit
+		assertThat( MultiRowInsertBatchImpl.renderMultiRowInsert( "insert into t (a,b,c) values (?,?,?)", 4, 5 ) )
+				.isNull();
+	}
+
+	@Test
+	public void testInsert(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		statementInspector.clear();
+
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= 23; i++ ) {
+				session.persist( new Vehicle( i, "vehicle" + i ) );
+			}
+			for ( int i = 101; i <= 106; i++ ) {
+				session.persist( new Truck( i, "truck" + i, i * 1000 ) );
+			}
+		} );
+
+		// the multi-row inserts are prepared only once for each table
+		final List<String> multiRowInserts = statementInspector.getSqlQueries()
+				.stream()
+				.filter( sql -> sql.contains( "),(" ) )
+				.toList();
+		assertThat( multiRowInserts ).hasSize( 3 );
+		assertThat( multiRowInserts ).allSatisfy( sql -> assertThat( sql.split( "\\),\\(" ) ).hasSize( 4 ) );
+
+		scope.inTransaction( session -> {
+			final List<Vehicle> vehicles = session.createSelectionQuery( "from Vehicle order by id", Vehicle.class )
+					.getResultList();
+			assertThat( vehicles ).hasSize( 29 );
+			for ( Vehicle vehicle : vehicles ) {
+				if ( vehicle instanceof Truck ) {
+					assertThat( vehicle.name ).isEqualTo( "truck" + vehicle.id );
+					assertThat( ( (Truck) vehicle ).payload ).isEqualTo( vehicle.id * 1000 );
+				}
+				else {
+					assertThat( vehicle.name ).isEqualTo( "vehicle" + vehicle.id );
+				}
+			}
+		} );
+	}
+
+	@Test
+	public void testFailure(SessionFactoryScope scope) {
+		scope.inSession( session -> {
+			session.getTransaction().begin();
+			try {
+				for ( int i = 1; i <= 8; i++ ) {
+					// violates the not-null constraint in the second multi-row insert
+					session.persist( new Vehicle( i, i == 6 ? null : "vehicle" + i ) );
+				}
+				assertThatThrownBy( session::flush ).isInstanceOf( ConstraintViolationException.class );
+				assertThat( session.getJdbcCoordinator().getLogicalConnection().getResourceRegistry().hasRegisteredResources() )
+						.isFalse();
+			}
+			finally {
+				session.getTransaction().rollback();
+			}
+		} );
+
+		scope.inTransaction( session -> assertThat( session.createSelectionQuery( "from Vehicle", Vehicle.class ).getResultList() )
+				.isEmpty() );
+	}
+
+	@Entity(name = "Vehicle")
+	@Table(name = "multi_row_vehicle")
+	@Inheritance(strategy = InheritanceType.JOINED)
+	public static class Vehicle {
+		@Id
+		Integer id;
+
+		@Column(nullable = false)
+		String name;
+
+		public Vehicle() {
+		}
+
+		public Vehicle(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Truck")
+	@Table(name = "multi_row_truck")
+	public static class Truck extends Vehicle {
+		int payload;
+
+		public Truck() {
+		}
+
+		public Truck(Integer id, String name, int payload) {
+			super( id, name );
+			this.payload = payload;
+		}
+	}
+}
@@ -0,0 +1,258 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.batch;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.BaseSessionEventListener;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.jdbc.batch.internal.PipelinedBatchBuilderImpl;
+import org.hibernate.exception.ConstraintViolationException;
+
+import org.hibernate.testing.jdbc.ConnectionProviderDelegate;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for {@value AvailableSettings#STATEMENT_BATCH_PIPELINING}
+ */
+@DomainModel(annotatedClasses = PipelinedBatchTest.Node.class)
+@ServiceRegistry(settings = {
+		@Setting(name = AvailableSettings.STATEMENT_BATCH_SIZE, value = "5"),
+		@Setting(name = AvailableSettings.STATEMENT_BATCH_PIPELINING, value = "true"),
+		@Setting(
+				name = AvailableSettings.CONNECTION_PROVIDER,
+				value = "org.hibernate.orm.test.batch.PipelinedBatchTest$OverlapConnectionProvider"
+		),
+		@Setting(
+				name = AvailableSettings.AUTO_SESSION_EVENTS_LISTENER,
+				value = "org.hibernate.orm.test.batch.PipelinedBatchTest$BatchExecutionListener"
+		),
+		// so we can force in-db not-null constraint violations
+		@Setting(name = AvailableSettings.CHECK_NULLABILITY, value = "false")
+})
+@SessionFactory
+public class PipelinedBatchTest {
+
+	@AfterEach
+	public void cleanup(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.createMutationQuery( "update Node set parent = null" ).executeUpdate();
+			session.createMutationQuery( "delete Node" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testBatchBuilder(SessionFactoryScope scope) {
+		assertThat( scope.getSessionFactory().getFastSessionServices().batchBuilder )
+				.isInstanceOf( PipelinedBatchBuilderImpl.class );
+	}
+
+	@Test
+	public void testOverlap(SessionFactoryScope scope) {
+		// the first batch only executes once the session binds the next batch,
+		// which times out unless the two happen concurrently
+		OverlapConnectionProvider.awaitNextBatch( 5 );
+		BatchExecutionListener.executions.set( 0 );
+		try {
+			scope.inTransaction( session -> {
+				for ( int i = 1; i <= 10; i++ ) {
+					session.persist( new Node( i, "node" + i, null ) );
+				}
+			} );
+		}
+		finally {
+			OverlapConnectionProvider.nextBatchBound = null;
+		}
+		assertThat( OverlapConnectionProvider.overlapped ).isTrue();
+
+		// the session listeners are notified of the background executions
+		assertThat( BatchExecutionListener.executions ).hasValue( 2 );
+	}
+
+	@Test
+	public void testInsertOrder(SessionFactoryScope scope) {
+		// every node references the node inserted just before it,
+		// so the batches must reach the database in order
+		scope.inTransaction( session -> {
+			Node parent = null;
+			for ( int i = 1; i <= 23; i++ ) {
+				final Node node = new Node( i, "node" + i, parent );
+				session.persist( node );
+				parent = node;
+			}
+			session.flush();
+
+			// the connection is usable right after the flush
+			assertThat( session.createSelectionQuery( "select count(*) from Node", Long.class ).getSingleResult() )
+					.isEqualTo( 23L );
+		} );
+
+		scope.inTransaction( session -> {
+			for ( Node node : session.createSelectionQuery( "from Node", Node.class ).getResultList() ) {
+				node.name = node.name.toUpperCase();
+			}
+		} );
+
+		scope.inTransaction( session -> {
+			final Node node = session.get( Node.class, 23 );
+			assertThat( node.name ).isEqualTo( "NODE23" );
+			assertThat( node.parent.id ).isEqualTo( 22 );
+			assertThat( session.createSelectionQuery( "from Node where name like 'node%'", Node.class ).getResultList() )
+					.isEmpty();
+		} );
+	}
+
+	@Test
+	public void testFailure(SessionFactoryScope scope) {
+		scope.inSession( session -> {
+			session.getTransaction().begin();
+			try {
+				for ( int i = 1; i <= 12; i++ ) {
+					// violates the not-null constraint in the first batch
+					session.persist( new Node( i, i == 3 ? null : "node" + i, null ) );
+				}
+				assertThatThrownBy( session::flush ).isInstanceOf( ConstraintViolationException.class );
+
+				// the batch was aborted, and its statements released
+				assertThat( session.getJdbcCoordinator().getLogicalConnection().getResourceRegistry().hasRegisteredResources() )
+						.isFalse();
+			}
+			finally {
+				session.getTransaction().rollback();
+			}
+		} );
+
+		scope.inTransaction( session -> assertThat( session.createSelectionQuery( "from Node", Node.class ).getResultList() )
+				.isEmpty() );
+	}
+
+	/**
+	 * Makes the first execution of a batch wait until the next batch is bound.
+	 */
+	public static class OverlapConnectionProvider extends ConnectionProviderDelegate {
+		private static volatile CountDownLatch nextBatchBound;
+		private static volatile Boolean overlapped;
+
+		static void awaitNextBatch(int batchSize) {
+			overlapped = null;
+			nextBatchBound = new CountDownLatch( batchSize + 1 );
+		}
+
+		@Override
+		public Connection getConnection() throws SQLException {
+			return intercept( Connection.class, super.getConnection() );
+		}
+
+		@Override
+		public void closeConnection(Connection connection) throws SQLException {
+			super.closeConnection( (Connection) ( (Interceptor) Proxy.getInvocationHandler( connection ) ).target );
+		}
+
+		private static <T> T intercept(Class<T> type, T target) {
+			return type.cast( Proxy.newProxyInstance(
+					OverlapConnectionProvider.class.getClassLoader(),
+					new Class<?>[] { type },
+					new Interceptor( target )
+			) );
+		}
+
+		private static class Interceptor implements InvocationHandler {
+			private final Object target;
+
+			private Interceptor(Object target) {
+				this.target = target;
+			}
+
+			@Override
+			public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+				final CountDownLatch latch = nextBatchBound;
+				switch ( method.getName() ) {
+					case "equals":
+						return proxy == args[0];
+					case "hashCode":
+						return System.identityHashCode( proxy );
+					case "addBatch":
+						if ( latch != null ) {
+							latch.countDown();
+						}
+						break;
+					case "executeBatch":
+						if ( latch != null && overlapped == null ) {
+							overlapped = latch.await( 5, TimeUnit.SECONDS );
+						}
+						break;
+				}
+
+				final Object result;
+				try {
+					result = method.invoke( target, args );
+				}
+				catch (InvocationTargetException e) {
+					throw e.getCause();
+				}
+				return method.getName().equals( "prepareStatement" )
+						? intercept( PreparedStatement.class, (PreparedStatement) result )
+						: result;
+			}
+		}
+	}
+
+	public static class BatchExecutionListener extends BaseSessionEventListener {
+		private static final AtomicInteger executions = new AtomicInteger();
+
+		@Override
+		public void jdbcExecuteBatchStart() {
+			executions.incrementAndGet();
+		}
+	}
+
+	@Entity(name = "Node")
+	@Table(name = "pipelined_node")
+	public static class Node {
+		@Id
+		private Integer id;
+
+		@Column(nullable = false)
+		private String name;
+
+		@ManyToOne
+		private Node parent;
+
+		public Node() {
+		}
+
+		public Node(Integer id, String name, Node parent) {
+			this.id = id;
+			this.name = name;
+			this.parent = parent;
+		}
+	}
+}
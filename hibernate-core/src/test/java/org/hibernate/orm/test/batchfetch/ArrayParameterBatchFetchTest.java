@@ -0,0 +1,187 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.batchfetch;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.BatchSize;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DialectFeatureChecks;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.RequiresDialectFeature;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests that batches of ids are bound to a single array parameter, so that
+ * the same SQL is used whatever the number of ids in the batch.
+ */
+@DomainModel(annotatedClasses = {
+		ArrayParameterBatchFetchTest.Employee.class,
+		ArrayParameterBatchFetchTest.Department.class
+})
+@SessionFactory(useCollectingStatementInspector = true)
+@RequiresDialectFeature(feature = DialectFeatureChecks.SupportsArrayParameterRestriction.class)
+public class ArrayParameterBatchFetchTest {
+
+	@BeforeEach
+	public void createData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= 8; i++ ) {
+				final Department department = new Department( i, "department " + i );
+				session.persist( department );
+				session.persist( new Employee( i, department ) );
+			}
+		} );
+	}
+
+	@AfterEach
+	public void dropData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.createMutationQuery( "delete from Employee" ).executeUpdate();
+			session.createMutationQuery( "delete from Department" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testBatchFetch(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		scope.inTransaction( session -> {
+			final List<Employee> employees = session.createSelectionQuery(
+					"from Employee where id <= 3 order by id",
+					Employee.class
+			).getResultList();
+			statementInspector.clear();
+
+			assertThat( employees.get( 0 ).getDepartment().getName() ).isEqualTo( "department 1" );
+			assertThat( employees ).allMatch( employee -> Hibernate.isInitialized( employee.getDepartment() ) );
+			assertThat( statementInspector.getSqlQueries() ).hasSize( 1 );
+			assertArrayParameter( statementInspector.getSqlQueries().get( 0 ) );
+		} );
+
+		final String sql = statementInspector.getSqlQueries().get( 0 );
+		scope.inTransaction( session -> {
+			final List<Employee> employees = session.createSelectionQuery(
+					"from Employee where id <= 5 order by id",
+					Employee.class
+			).getResultList();
+			statementInspector.clear();
+
+			assertThat( employees.get( 0 ).getDepartment().getName() ).isEqualTo( "department 1" );
+			assertThat( employees ).allMatch( employee -> Hibernate.isInitialized( employee.getDepartment() ) );
+			assertThat( statementInspector.getSqlQueries() ).containsExactly( sql );
+		} );
+	}
+
+	@Test
+	public void testMultiLoad(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		scope.inTransaction( session -> {
+			statementInspector.clear();
+			final List<Department> departments = session.byMultipleIds( Department.class ).multiLoad( ids( 3 ) );
+			assertThat( departments ).extracting( Department::getId ).containsExactly( 1, 2, 3 );
+			assertThat( statementInspector.getSqlQueries() ).hasSize( 1 );
+			assertArrayParameter( statementInspector.getSqlQueries().get( 0 ) );
+		} );
+
+		final String sql = statementInspector.getSqlQueries().get( 0 );
+		scope.inTransaction( session -> {
+			statementInspector.clear();
+			final List<Department> departments = session.byMultipleIds( Department.class )
+					.enableOrderedReturn( false )
+					.multiLoad( ids( 8 ) );
+			assertThat( departments ).hasSize( 8 );
+			assertThat( statementInspector.getSqlQueries() ).containsExactly( sql );
+		} );
+	}
+
+	@Test
+	public void testMultiLoadLimit(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		final int limit = scope.getSessionFactory().getJdbcServices().getDialect().getArrayParameterRestrictionLimit();
+		scope.inTransaction( session -> {
+			statementInspector.clear();
+			final List<Department> departments = session.byMultipleIds( Department.class )
+					.enableOrderedReturn( false )
+					.multiLoad( ids( limit + 1 ) );
+			assertThat( departments ).hasSize( 8 );
+			// the ids beyond the limit of the dialect are loaded by a second statement
+			assertThat( statementInspector.getSqlQueries() ).hasSize( 2 );
+		} );
+	}
+
+	private static void assertArrayParameter(String sql) {
+		assertThat( sql ).contains( "any(?)" );
+		assertThat( sql.chars().filter( c -> c == '?' ).count() ).isEqualTo( 1 );
+	}
+
+	private static List<Integer> ids(int count) {
+		return IntStream.rangeClosed( 1, count ).boxed().collect( Collectors.toList() );
+	}
+
+	@Entity(name = "Employee")
+	public static class Employee {
+		@Id
+		private Integer id;
+		@ManyToOne(fetch = FetchType.LAZY)
+		private Department department;
+
+		public Employee() {
+		}
+
+		public Employee(Integer id, Department department) {
+			this.id = id;
+			this.department = department;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public Department getDepartment() {
+			return department;
+		}
+	}
+
+	@Entity(name = "Department")
+	@BatchSize(size = 10)
+	public static class Department {
+		@Id
+		private Integer id;
+		private String name;
+
+		public Department() {
+		}
+
+		public Department(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public String getName() {
+			return name;
+		}
+	}
+}
@@ -0,0 +1,188 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.bootstrap;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.hibernate.LockMode;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.loader.ast.internal.SingleIdEntityLoaderStandardImpl;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Inheritance;
+import jakarta.persistence.Version;
+
+import static jakarta.persistence.InheritanceType.JOINED;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@value AvailableSettings#LAZY_PERSISTER_INITIALIZATION}
+ */
+@DomainModel(annotatedClasses = {
+		LazyPersisterInitializationTest.Animal.class,
+		LazyPersisterInitializationTest.Dog.class,
+		LazyPersisterInitializationTest.Owner.class,
+		LazyPersisterInitializationTest.Vet.class
+})
+@ServiceRegistry(settings = @Setting(name = AvailableSettings.LAZY_PERSISTER_INITIALIZATION, value = "true"))
+@SessionFactory
+public class LazyPersisterInitializationTest {
+
+	@Test
+	public void testInitializedOnFirstUse(SessionFactoryScope scope) {
+		// no other test uses Vet
+		final AbstractEntityPersister persister = (AbstractEntityPersister) scope.getSessionFactory()
+				.getMappingMetamodel()
+				.getEntityDescriptor( Vet.class );
+		assertThat( persister.getSingleIdEntityLoader() ).isInstanceOf( SingleIdEntityLoaderStandardImpl.class );
+		final SingleIdEntityLoaderStandardImpl<?> loader =
+				(SingleIdEntityLoaderStandardImpl<?>) persister.getSingleIdEntityLoader();
+		assertThat( persister.isSqlInitialized() ).isFalse();
+		assertThat( loader.hasReusableLoadPlans() ).isFalse();
+
+		scope.inTransaction( session -> session.persist( new Vet( 1, "James" ) ) );
+		assertThat( persister.isSqlInitialized() ).isTrue();
+		assertThat( loader.hasReusableLoadPlans() ).isFalse();
+
+		scope.inTransaction( session -> assertThat( session.find( Vet.class, 1 ).name ).isEqualTo( "James" ) );
+		assertThat( loader.hasReusableLoadPlans() ).isTrue();
+
+		scope.inTransaction( session -> session.createMutationQuery( "delete Vet" ).executeUpdate() );
+	}
+
+	@Test
+	public void testEntityLifecycle(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.persist( new Dog( 1, "Rex", "Beagle" ) ) );
+		scope.inTransaction( session -> {
+			final Dog dog = session.find( Dog.class, 1 );
+			assertThat( dog.breed ).isEqualTo( "Beagle" );
+			( (Animal) dog ).name = "Max";
+		} );
+		scope.inTransaction( session -> {
+			final Animal animal = session.find( Animal.class, 1 );
+			assertThat( animal ).isInstanceOf( Dog.class );
+			assertThat( animal.name ).isEqualTo( "Max" );
+			session.remove( animal );
+		} );
+		scope.inTransaction( session -> assertThat( session.find( Animal.class, 1 ) ).isNull() );
+	}
+
+	@Test
+	public void testVersionIncrement(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.persist( new Owner( 1, "Gavin" ) ) );
+		scope.inTransaction( session -> {
+			final Owner owner = session.find( Owner.class, 1 );
+			assertThat( owner.version ).isEqualTo( 0 );
+			session.lock( owner, LockMode.PESSIMISTIC_FORCE_INCREMENT );
+			assertThat( owner.version ).isEqualTo( 1 );
+		} );
+		final AbstractEntityPersister persister = (AbstractEntityPersister) scope.getSessionFactory()
+				.getMappingMetamodel()
+				.getEntityDescriptor( Owner.class );
+		assertThat( persister.getVersionSelectString() ).isNotNull();
+		assertThat( persister.getUpdateCoordinator() ).isNotNull();
+		scope.inTransaction( session -> session.createMutationQuery( "delete Owner" ).executeUpdate() );
+	}
+
+	@Test
+	public void testConcurrentFirstUse(SessionFactoryScope scope) throws Exception {
+		final ExecutorService executor = Executors.newFixedThreadPool( 4 );
+		try {
+			final List<Future<?>> futures = new ArrayList<>();
+			for ( int i = 0; i < 8; i++ ) {
+				final int id = 100 + i;
+				futures.add( executor.submit( () -> scope.inTransaction(
+						session -> session.persist( new Owner( id, "owner " + id ) )
+				) ) );
+			}
+			for ( Future<?> future : futures ) {
+				future.get();
+			}
+		}
+		finally {
+			executor.shutdown();
+		}
+		scope.inTransaction( session -> {
+			assertThat( session.createSelectionQuery( "from Owner", Owner.class ).getResultList() ).hasSize( 8 );
+			session.createMutationQuery( "delete Owner" ).executeUpdate();
+		} );
+	}
+
+	@Entity(name = "Animal")
+	@Inheritance(strategy = JOINED)
+	public static class Animal {
+		@Id
+		private Integer id;
+		private String name;
+
+		public Animal() {
+		}
+
+		public Animal(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Dog")
+	public static class Dog extends Animal {
+		private String breed;
+
+		public Dog() {
+		}
+
+		public Dog(Integer id, String name, String breed) {
+			super( id, name );
+			this.breed = breed;
+		}
+	}
+
+	@Entity(name = "Vet")
+	public static class Vet {
+		@Id
+		private Integer id;
+		private String name;
+
+		public Vet() {
+		}
+
+		public Vet(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Owner")
+	public static class Owner {
+		@Id
+		private Integer id;
+		private String name;
+		@Version
+		private Integer version;
+
+		public Owner() {
+		}
+
+		public Owner(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,143 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.bootstrap;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.metamodel.MappingMetamodel;
+import org.hibernate.metamodel.mapping.SelectableConsumer;
+import org.hibernate.persister.collection.CollectionPersister;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.persister.entity.Joinable;
+import org.hibernate.type.Type;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks that the persisters created with {@value AvailableSettings#PARALLEL_PERSISTER_CREATION}
+ * are the same as those created sequentially, for a model large enough to have the persisters
+ * of related entities created concurrently.
+ */
+public class ParallelPersisterCreationComparisonTest {
+
+	private static final int NUMBER_OF_ENTITIES = 200;
+
+	@Test
+	public void testParallelAndSequentialCreationMatch() {
+		final List<String> sequential = describeMappingModel( false );
+		final List<String> parallel = describeMappingModel( true );
+		assertThat( sequential ).hasSize( NUMBER_OF_ENTITIES * 3 );
+		assertThat( parallel ).isEqualTo( sequential );
+	}
+
+	private static List<String> describeMappingModel(boolean parallel) {
+		final StandardServiceRegistry ssr = new StandardServiceRegistryBuilder()
+				.applySetting( AvailableSettings.PARALLEL_PERSISTER_CREATION, parallel )
+				.build();
+		try {
+			try ( SessionFactoryImplementor sessionFactory = (SessionFactoryImplementor) new MetadataSources( ssr )
+					.addInputStream( new ByteArrayInputStream( mapping().getBytes( StandardCharsets.UTF_8 ) ) )
+					.buildMetadata()
+					.buildSessionFactory() ) {
+				final MappingMetamodel mappingMetamodel = sessionFactory.getMappingMetamodel();
+				final List<String> descriptions = new ArrayList<>();
+				mappingMetamodel.forEachEntityDescriptor( persister -> descriptions.add( describe( persister ) ) );
+				mappingMetamodel.forEachCollectionDescriptor( persister -> descriptions.add( describe( persister ) ) );
+				Collections.sort( descriptions );
+				return descriptions;
+			}
+		}
+		finally {
+			StandardServiceRegistryBuilder.destroy( ssr );
+		}
+	}
+
+	private static String describe(EntityPersister persister) {
+		final StringBuilder description = new StringBuilder( persister.getEntityName() )
+				.append( ' ' )
+				.append( ( (Joinable) persister ).getTableName() )
+				.append( ' ' )
+				.append( persister.getSuperMappingType() == null
+						? null
+						: persister.getSuperMappingType().getEntityName() );
+		final String[] propertyNames = persister.getPropertyNames();
+		final Type[] propertyTypes = persister.getPropertyTypes();
+		for ( int i = 0; i < propertyNames.length; i++ ) {
+			description.append( ' ' ).append( propertyNames[i] ).append( ':' ).append( propertyTypes[i].getName() );
+		}
+		persister.getIdentifierMapping().forEachSelectable( selectables( description ) );
+		persister.forEachSelectable( selectables( description ) );
+		return description.toString();
+	}
+
+	private static String describe(CollectionPersister persister) {
+		final StringBuilder description = new StringBuilder( persister.getRole() )
+				.append( ' ' )
+				.append( persister.getCollectionType().getName() )
+				.append( ' ' )
+				.append( persister.getKeyType().getName() )
+				.append( ' ' )
+				.append( persister.getElementType().getName() );
+		persister.getAttributeMapping().getKeyDescriptor().forEachSelectable( selectables( description ) );
+		persister.getAttributeMapping().getElementDescriptor().forEachSelectable( selectables( description ) );
+		return description.toString();
+	}
+
+	private static SelectableConsumer selectables(StringBuilder description) {
+		return (index, selectable) -> description.append( ' ' )
+				.append( selectable.getContainingTableExpression() )
+				.append( '.' )
+				.append( selectable.getSelectionExpression() )
+				.append( ':' )
+				.append( selectable.getJdbcMapping().getJdbcType().getDefaultSqlTypeCode() );
+	}
+
+	/**
+	 * A chain of dynamic entities, each referencing the previous one, with a
+	 * component, a collection of elements and a joined subclass.
+	 */
+	private static String mapping() {
+		final StringBuilder mapping = new StringBuilder()
+				.append( "<?xml version=\"1.0\"?>\n" )
+				.append( "<!DOCTYPE hibernate-mapping PUBLIC \"-//Hibernate/Hibernate Mapping DTD 3.0//EN\" " )
+				.append( "\"http://www.hibernate.org/dtd/hibernate-mapping-3.0.dtd\">\n" )
+				.append( "<hibernate-mapping>\n" );
+		for ( int i = 0; i < NUMBER_OF_ENTITIES; i++ ) {
+			mapping.append( "<class entity-name=\"Entity" ).append( i ).append( "\" table=\"entity_" ).append( i ).append( "\">\n" )
+					.append( "<id name=\"id\" type=\"long\"/>\n" )
+					.append( "<property name=\"name\" type=\"string\"/>\n" )
+					.append( "<component name=\"address\">\n" )
+					.append( "<property name=\"street\" type=\"string\"/>\n" )
+					.append( "<property name=\"zip\" type=\"integer\"/>\n" )
+					.append( "</component>\n" );
+			if ( i > 0 ) {
+				mapping.append( "<many-to-one name=\"previous\" entity-name=\"Entity" ).append( i - 1 ).append( "\"/>\n" );
+			}
+			mapping.append( "<set name=\"tags\" table=\"entity_" ).append( i ).append( "_tags\">\n" )
+					.append( "<key column=\"owner_id\"/>\n" )
+					.append( "<element column=\"tag\" type=\"string\"/>\n" )
+					.append( "</set>\n" )
+					.append( "<joined-subclass entity-name=\"SubEntity" ).append( i ).append( "\" table=\"sub_entity_" ).append( i ).append( "\">\n" )
+					.append( "<key column=\"id\"/>\n" )
+					.append( "<property name=\"extra\" type=\"big_decimal\"/>\n" )
+					.append( "</joined-subclass>\n" )
+					.append( "</class>\n" );
+		}
+		return mapping.append( "</hibernate-mapping>\n" ).toString();
+	}
+}
@@ -0,0 +1,177 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.bootstrap;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.metamodel.MappingMetamodel;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.Embedded;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@value AvailableSettings#PARALLEL_PERSISTER_CREATION}
+ */
+@DomainModel(annotatedClasses = {
+		ParallelPersisterCreationTest.Author.class,
+		ParallelPersisterCreationTest.Publication.class,
+		ParallelPersisterCreationTest.Book.class,
+		ParallelPersisterCreationTest.Article.class
+})
+@ServiceRegistry(settings = {
+		@Setting(name = AvailableSettings.PARALLEL_PERSISTER_CREATION, value = "true"),
+		@Setting(name = AvailableSettings.GENERATE_STATISTICS, value = "true")
+})
+@SessionFactory
+public class ParallelPersisterCreationTest {
+
+	@Test
+	public void testPersistersCreated(SessionFactoryScope scope) {
+		final MappingMetamodel mappingMetamodel = scope.getSessionFactory().getMappingMetamodel();
+		assertThat( mappingMetamodel.getEntityDescriptor( Book.class ).getSuperMappingType() )
+				.isSameAs( mappingMetamodel.getEntityDescriptor( Publication.class ) );
+		assertThat( mappingMetamodel.getEntityDescriptor( Article.class ).getSuperMappingType() )
+				.isSameAs( mappingMetamodel.getEntityDescriptor( Publication.class ) );
+		assertThat( mappingMetamodel.getCollectionDescriptor( Author.class.getName() + ".publications" ) )
+				.isNotNull();
+		assertThat( mappingMetamodel.getCollectionDescriptor( Author.class.getName() + ".addresses" ) )
+				.isNotNull();
+
+		scope.inTransaction( session -> {
+			final Author author = new Author( 1, "Gavin" );
+			author.address = new Address( "Main Street", new Location( "Atlanta", "USA" ) );
+			author.addresses.put( "office", new Address( "Office Street", new Location( "Paris", "France" ) ) );
+			session.persist( author );
+			session.persist( new Book( 1, "Hibernate in Action", author ) );
+			session.persist( new Article( 2, "Java Persistence", author ) );
+		} );
+		scope.inTransaction( session -> {
+			final Author author = session.find( Author.class, 1 );
+			assertThat( author.publications ).hasSize( 2 );
+			assertThat( author.address.location.city ).isEqualTo( "Atlanta" );
+			assertThat( author.addresses.get( "office" ).location.country ).isEqualTo( "France" );
+			assertThat( session.createSelectionQuery( "from Book", Book.class ).getResultList() ).hasSize( 1 );
+		} );
+		scope.inTransaction( session -> {
+			session.createMutationQuery( "delete Publication" ).executeUpdate();
+			session.createMutationQuery( "delete Author" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testMappingModelCreationTimes(SessionFactoryScope scope) {
+		assertThat( scope.getSessionFactory().getStatistics().getMappingModelCreationTimes() )
+				.containsKeys( "entity persisters", "collection persisters", "mapping model" )
+				.allSatisfy( (phase, milliseconds) -> assertThat( milliseconds ).isNotNegative() );
+	}
+
+	@Entity(name = "Author")
+	public static class Author {
+		@Id
+		private Integer id;
+		private String name;
+		@OneToMany(mappedBy = "author")
+		private List<Publication> publications = new ArrayList<>();
+		@Embedded
+		private Address address;
+		@ElementCollection
+		private Map<String, Address> addresses = new HashMap<>();
+
+		public Author() {
+		}
+
+		public Author(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Embeddable
+	public static class Address {
+		private String street;
+		@Embedded
+		private Location location;
+
+		public Address() {
+		}
+
+		public Address(String street, Location location) {
+			this.street = street;
+			this.location = location;
+		}
+	}
+
+	@Embeddable
+	public static class Location {
+		private String city;
+		private String country;
+
+		public Location() {
+		}
+
+		public Location(String city, String country) {
+			this.city = city;
+			this.country = country;
+		}
+	}
+
+	@Entity(name = "Publication")
+	public static class Publication {
+		@Id
+		private Integer id;
+		private String title;
+		@ManyToOne
+		private Author author;
+
+		public Publication() {
+		}
+
+		public Publication(Integer id, String title, Author author) {
+			this.id = id;
+			this.title = title;
+			this.author = author;
+		}
+	}
+
+	@Entity(name = "Book")
+	public static class Book extends Publication {
+		public Book() {
+		}
+
+		public Book(Integer id, String title, Author author) {
+			super( id, title, author );
+		}
+	}
+
+	@Entity(name = "Article")
+	public static class Article extends Publication {
+		public Article() {
+		}
+
+		public Article(Integer id, String title, Author author) {
+			super( id, title, author );
+		}
+	}
+}
@@ -0,0 +1,133 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.bootstrap.scanning;
+
+import java.io.File;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import org.hibernate.boot.archive.scan.internal.ScanResultSnapshotScanner;
+import org.hibernate.boot.archive.scan.internal.StandardScanOptions;
+import org.hibernate.boot.archive.scan.internal.StandardScanParameters;
+import org.hibernate.boot.archive.scan.internal.StandardScanner;
+import org.hibernate.boot.archive.scan.spi.ClassDescriptor;
+import org.hibernate.boot.archive.scan.spi.MappingFileDescriptor;
+import org.hibernate.boot.archive.scan.spi.ScanEnvironment;
+import org.hibernate.boot.archive.scan.spi.ScanOptions;
+import org.hibernate.boot.archive.scan.spi.ScanResult;
+import org.hibernate.boot.archive.scan.spi.Scanner;
+import org.hibernate.jpa.boot.internal.ParsedPersistenceXmlDescriptor;
+import org.hibernate.jpa.boot.internal.StandardJpaScanEnvironmentImpl;
+import org.hibernate.jpa.boot.spi.PersistenceUnitDescriptor;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link ScanResultSnapshotScanner}
+ */
+public class ScanResultSnapshotScannerTest extends PackagingTestCase {
+	@Test
+	public void testSnapshotReused() throws Exception {
+		final File defaultPar = buildDefaultPar();
+		addPackageToClasspath( defaultPar );
+
+		final PersistenceUnitDescriptor descriptor = new ParsedPersistenceXmlDescriptor( defaultPar.toURL() );
+		final ScanEnvironment environment = new StandardJpaScanEnvironmentImpl( descriptor );
+		final ScanOptions options = new StandardScanOptions( "hbm,class", descriptor.isExcludeUnlistedClasses() );
+
+		final Path snapshotFile = Files.createTempDirectory( "scan" ).resolve( "scan.bin" );
+		final AtomicInteger scanCount = new AtomicInteger();
+		final Scanner delegate = (env, opts, params) -> {
+			scanCount.incrementAndGet();
+			return new StandardScanner().scan( env, opts, params );
+		};
+
+		final ScanResult scanResult = new ScanResultSnapshotScanner( snapshotFile, delegate )
+				.scan( environment, options, StandardScanParameters.INSTANCE );
+		assertThat( scanCount.get() ).isEqualTo( 1 );
+		assertThat( snapshotFile ).exists();
+
+		final ScanResult snapshot = new ScanResultSnapshotScanner( snapshotFile, delegate )
+				.scan( environment, options, StandardScanParameters.INSTANCE );
+		assertThat( scanCount.get() ).isEqualTo( 1 );
+		assertThat( classNames( snapshot ) ).isEqualTo( classNames( scanResult ) );
+		assertThat( snapshot.getLocatedClasses() )
+				.extracting( ClassDescriptor::getCategorization )
+				.containsExactlyInAnyOrderElementsOf(
+						scanResult.getLocatedClasses()
+								.stream()
+								.map( ClassDescriptor::getCategorization )
+								.collect( Collectors.toList() )
+				);
+		assertThat( snapshot.getLocatedPackages() ).hasSameSizeAs( scanResult.getLocatedPackages() );
+		assertThat( snapshot.getLocatedMappingFiles() ).hasSameSizeAs( scanResult.getLocatedMappingFiles() );
+		for ( MappingFileDescriptor mappingFileDescriptor : snapshot.getLocatedMappingFiles() ) {
+			try ( InputStream stream = mappingFileDescriptor.getStreamAccess().accessInputStream() ) {
+				assertThat( stream.read() ).isNotEqualTo( -1 );
+			}
+		}
+
+		// a change to the archive invalidates the snapshot
+		assertThat( defaultPar.setLastModified( defaultPar.lastModified() - 10_000 ) ).isTrue();
+		new ScanResultSnapshotScanner( snapshotFile, delegate ).scan( environment, options, StandardScanParameters.INSTANCE );
+		assertThat( scanCount.get() ).isEqualTo( 2 );
+	}
+
+	@Test
+	public void testExplodedArchiveNotSnapshotted() throws Exception {
+		final File explodedPar = buildExplodedPar();
+		addPackageToClasspath( explodedPar );
+
+		final PersistenceUnitDescriptor descriptor = new ParsedPersistenceXmlDescriptor( explodedPar.toURL() );
+		final ScanEnvironment environment = new StandardJpaScanEnvironmentImpl( descriptor );
+		final ScanOptions options = new StandardScanOptions( "hbm,class", descriptor.isExcludeUnlistedClasses() );
+
+		final Path snapshotFile = Files.createTempDirectory( "scan" ).resolve( "scan.bin" );
+		final AtomicInteger scanCount = new AtomicInteger();
+		final Scanner delegate = (env, opts, params) -> {
+			scanCount.incrementAndGet();
+			return new StandardScanner().scan( env, opts, params );
+		};
+
+		// changes to the entries of a directory cannot be detected cheaply
+		new ScanResultSnapshotScanner( snapshotFile, delegate ).scan( environment, options, StandardScanParameters.INSTANCE );
+		new ScanResultSnapshotScanner( snapshotFile, delegate ).scan( environment, options, StandardScanParameters.INSTANCE );
+		assertThat( scanCount.get() ).isEqualTo( 2 );
+		assertThat( snapshotFile ).doesNotExist();
+	}
+
+	@Test
+	public void testCorruptSnapshotIgnored() throws Exception {
+		final File defaultPar = buildDefaultPar();
+		addPackageToClasspath( defaultPar );
+
+		final PersistenceUnitDescriptor descriptor = new ParsedPersistenceXmlDescriptor( defaultPar.toURL() );
+		final ScanEnvironment environment = new StandardJpaScanEnvironmentImpl( descriptor );
+		final ScanOptions options = new StandardScanOptions( "hbm,class", descriptor.isExcludeUnlistedClasses() );
+
+		final Path snapshotFile = Files.createTempFile( "scan", ".bin" );
+		Files.write( snapshotFile, new byte[] { 1, 2, 3 } );
+
+		final ScanResult scanResult = new ScanResultSnapshotScanner( snapshotFile, new StandardScanner() )
+				.scan( environment, options, StandardScanParameters.INSTANCE );
+		assertThat( scanResult.getLocatedClasses() ).hasSize( 3 );
+		assertThat( Files.size( snapshotFile ) ).isGreaterThan( 3 );
+	}
+
+	private static Set<String> classNames(ScanResult scanResult) {
+		return scanResult.getLocatedClasses()
+				.stream()
+				.map( ClassDescriptor::getName )
+				.collect( Collectors.toSet() );
+	}
+}
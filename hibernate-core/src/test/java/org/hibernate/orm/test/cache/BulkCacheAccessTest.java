@@ -0,0 +1,160 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.cache;
+
+import java.util.List;
+
+import org.hibernate.BaseSessionEventListener;
+import org.hibernate.CacheMode;
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.cache.spi.access.CachedDomainDataAccess;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link CachedDomainDataAccess#getAll}
+ */
+@DomainModel(annotatedClasses = {
+		BulkCacheAccessTest.Author.class,
+		BulkCacheAccessTest.Book.class
+})
+@ServiceRegistry(settings = {
+		@Setting(name = AvailableSettings.USE_SECOND_LEVEL_CACHE, value = "true"),
+		@Setting(name = AvailableSettings.GENERATE_STATISTICS, value = "true")
+})
+@SessionFactory
+public class BulkCacheAccessTest {
+	private static final int COUNT = 10;
+
+	@BeforeEach
+	public void createData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= COUNT; i++ ) {
+				final Author author = new Author( i, "author " + i );
+				session.persist( author );
+				session.persist( new Book( i, "book " + i, author ) );
+			}
+		} );
+	}
+
+	@AfterEach
+	public void dropData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.createMutationQuery( "delete from Book" ).executeUpdate();
+			session.createMutationQuery( "delete from Author" ).executeUpdate();
+		} );
+		scope.getSessionFactory().getCache().evictAllRegions();
+	}
+
+	@Test
+	public void testMultiLoad(SessionFactoryScope scope) {
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+
+		scope.inSession( session -> {
+			final CacheGetCounter counter = new CacheGetCounter();
+			session.addEventListeners( counter );
+
+			final List<Author> authors = session.byMultipleIds( Author.class )
+					.with( CacheMode.NORMAL )
+					.multiLoad( 1, 2, 3, 4, 5, 6, 7, 8, 9, 10 );
+			assertThat( authors ).extracting( author -> author.id ).containsExactly( 1, 2, 3, 4, 5, 6, 7, 8, 9, 10 );
+			assertThat( counter.cacheGets ).isEqualTo( 1 );
+			assertThat( statistics.getSecondLevelCacheHitCount() ).isEqualTo( COUNT );
+			assertThat( statistics.getPrepareStatementCount() ).isEqualTo( 0 );
+		} );
+	}
+
+	@Test
+	public void testBatchFetch(SessionFactoryScope scope) {
+		for ( int i = 1; i <= COUNT / 2; i++ ) {
+			scope.getSessionFactory().getCache().evictEntityData( Author.class, i );
+		}
+
+		scope.inSession( session -> {
+			final List<Book> books = session.createSelectionQuery( "from Book order by id", Book.class )
+					.getResultList();
+
+			final CacheGetCounter counter = new CacheGetCounter();
+			session.addEventListeners( counter );
+
+			Hibernate.initialize( books.get( 0 ).author );
+			// one access for the requested author, and one for the rest of the batch
+			assertThat( counter.cacheGets ).isEqualTo( 2 );
+			// the cached authors are not fetched from the database with the batch
+			for ( Book book : books ) {
+				assertThat( Hibernate.isInitialized( book.author ) ).isEqualTo( book.id <= COUNT / 2 );
+			}
+		} );
+	}
+
+	private static class CacheGetCounter extends BaseSessionEventListener {
+		private int cacheGets;
+
+		@Override
+		public void cacheGetStart() {
+			cacheGets++;
+		}
+	}
+
+	@Entity(name = "Author")
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+	@BatchSize(size = COUNT)
+	public static class Author {
+		@Id
+		Integer id;
+
+		String name;
+
+		public Author() {
+		}
+
+		public Author(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Book")
+	public static class Book {
+		@Id
+		Integer id;
+
+		String title;
+
+		@ManyToOne(fetch = FetchType.LAZY)
+		Author author;
+
+		public Book() {
+		}
+
+		public Book(Integer id, String title, Author author) {
+			this.id = id;
+			this.title = title;
+			this.author = author;
+		}
+	}
+}
@@ -0,0 +1,228 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.cache;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.cache.internal.CacheValueCodec;
+import org.hibernate.cache.internal.OffHeapRegionFactory;
+import org.hibernate.cache.internal.OffHeapStorageAccess;
+import org.hibernate.cache.spi.entry.CacheEntryFactory;
+import org.hibernate.cache.spi.entry.StandardCacheEntryImpl;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Version;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link OffHeapRegionFactory}
+ */
+@DomainModel(annotatedClasses = OffHeapRegionFactoryTest.Book.class)
+@ServiceRegistry(settings = {
+		@Setting(name = AvailableSettings.CACHE_REGION_FACTORY, value = "org.hibernate.cache.internal.OffHeapRegionFactory"),
+		@Setting(name = AvailableSettings.USE_SECOND_LEVEL_CACHE, value = "true"),
+		@Setting(name = AvailableSettings.USE_QUERY_CACHE, value = "true"),
+		@Setting(name = AvailableSettings.GENERATE_STATISTICS, value = "true")
+})
+@SessionFactory
+public class OffHeapRegionFactoryTest {
+
+	@BeforeEach
+	public void createData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Book book = new Book( 1L, "Hibernate in Action", LocalDate.of( 2004, 8, 1 ), new BigDecimal( "44.95" ) );
+			book.tags.add( "orm" );
+			book.tags.add( "java" );
+			session.persist( book );
+		} );
+		scope.getSessionFactory().getCache().evictAllRegions();
+		scope.getSessionFactory().getStatistics().clear();
+	}
+
+	@AfterEach
+	public void dropData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createQuery( "from Book", Book.class )
+				.getResultList()
+				.forEach( session::remove ) );
+	}
+
+	@Test
+	public void testEntityAndCollection(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		scope.inTransaction( session -> session.find( Book.class, 1L ).tags.size() );
+		assertThat( statistics.getSecondLevelCachePutCount() ).isEqualTo( 2 );
+
+		scope.inTransaction( session -> {
+			final Book book = session.find( Book.class, 1L );
+			assertThat( book.title ).isEqualTo( "Hibernate in Action" );
+			assertThat( book.published ).isEqualTo( LocalDate.of( 2004, 8, 1 ) );
+			assertThat( book.price ).isEqualTo( new BigDecimal( "44.95" ) );
+			assertThat( book.tags ).containsExactlyInAnyOrder( "orm", "java" );
+		} );
+		assertThat( statistics.getSecondLevelCacheHitCount() ).isEqualTo( 2 );
+		assertThat( statistics.getPrepareStatementCount() ).isEqualTo( 2 );
+
+		final CacheRegionStatistics regionStatistics = statistics.getDomainDataRegionStatistics( "books" );
+		assertThat( regionStatistics.getElementCountInMemory() ).isEqualTo( 2 );
+		assertThat( regionStatistics.getElementCountOnDisk() ).isEqualTo( 0 );
+		assertThat( regionStatistics.getSizeInMemory() ).isPositive();
+
+		// updates are visible through the cache
+		scope.inTransaction( session -> session.find( Book.class, 1L ).title = "Java Persistence with Hibernate" );
+		scope.inTransaction( session -> assertThat( session.find( Book.class, 1L ).title )
+				.isEqualTo( "Java Persistence with Hibernate" ) );
+		assertThat( statistics.getSecondLevelCacheHitCount() ).isEqualTo( 4 );
+	}
+
+	@Test
+	public void testQueryCache(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		for ( int i = 0; i < 2; i++ ) {
+			scope.inTransaction( session -> {
+				final List<String> titles = session.createSelectionQuery( "select title from Book", String.class )
+						.setCacheable( true )
+						.getResultList();
+				assertThat( titles ).containsExactly( "Hibernate in Action" );
+			} );
+		}
+		assertThat( statistics.getQueryCacheHitCount() ).isEqualTo( 1 );
+		assertThat( statistics.getQueryRegionStatistics( "default-query-results-region" ).getSizeInMemory() )
+				.isPositive();
+	}
+
+	@Test
+	public void testEviction() {
+		final OffHeapStorageAccess storageAccess = new OffHeapStorageAccess( 1000 );
+		for ( int i = 0; i < 100; i++ ) {
+			storageAccess.putIntoCache( i, "value" + i + "x".repeat( 20 ), null );
+			assertThat( storageAccess.getSizeInMemory() ).isLessThanOrEqualTo( 1000 );
+		}
+		assertThat( storageAccess.getElementCount() ).isBetween( 1L, 99L );
+		assertThat( storageAccess.contains( 0 ) ).isFalse();
+		assertThat( storageAccess.getFromCache( 0, null ) ).isNull();
+		assertThat( storageAccess.getFromCache( 99, null ) ).isEqualTo( "value99" + "x".repeat( 20 ) );
+
+		// a value larger than the region is not cached, and replaces the previous value
+		storageAccess.putIntoCache( 99, new byte[2000], null );
+		assertThat( storageAccess.contains( 99 ) ).isFalse();
+
+		storageAccess.evictData();
+		assertThat( storageAccess.getElementCount() ).isEqualTo( 0 );
+		assertThat( storageAccess.getSizeInMemory() ).isEqualTo( 0 );
+	}
+
+	@Test
+	public void testNotSerializable() {
+		final OffHeapStorageAccess storageAccess = new OffHeapStorageAccess( 1000 );
+		storageAccess.putIntoCache( 1, "value", null );
+		assertThat( storageAccess.contains( 1 ) ).isTrue();
+
+		// a value which cannot be stored off-heap is not cached, and replaces the previous value
+		storageAccess.putIntoCache( 1, new Object(), null );
+		assertThat( storageAccess.contains( 1 ) ).isFalse();
+		assertThat( storageAccess.getFromCache( 1, null ) ).isNull();
+		assertThat( storageAccess.getElementCount() ).isEqualTo( 0 );
+		assertThat( storageAccess.getSizeInMemory() ).isEqualTo( 0 );
+	}
+
+	@Test
+	public void testMaxSizeNotMultipleOfSegmentSize() {
+		final long maxSize = 1024 * 1024 + 1000;
+		final OffHeapStorageAccess storageAccess = new OffHeapStorageAccess( maxSize );
+		for ( int i = 0; i < 20_000; i++ ) {
+			storageAccess.putIntoCache( i, "value" + i + "x".repeat( 100 ), null );
+			assertThat( storageAccess.getSizeInMemory() ).isLessThanOrEqualTo( maxSize );
+		}
+		assertThat( storageAccess.getFromCache( 19_999, null ) ).isEqualTo( "value19999" + "x".repeat( 100 ) );
+	}
+
+	@Test
+	public void testCodec() {
+		final Serializable[] state = {
+				null,
+				true,
+				(byte) 1,
+				(short) -2,
+				-3,
+				Long.MIN_VALUE,
+				1.5f,
+				Double.NaN,
+				'x',
+				"été",
+				new BigDecimal( "-123.4500" ),
+				new byte[] { 1, 2, 3 },
+				UUID.randomUUID(),
+				Instant.ofEpochSecond( -1, 5 ),
+				LocalDateTime.of( 1969, 12, 31, 23, 59, 59, 999_999_999 ),
+				java.sql.Timestamp.valueOf( "2023-01-02 03:04:05.123456789" ),
+				new HashSet<>( Set.of( "a" ) )
+		};
+		final StandardCacheEntryImpl entry = (StandardCacheEntryImpl) CacheValueCodec.INSTANCE.deserialize(
+				CacheValueCodec.INSTANCE.serialize( CacheEntryFactory.createStandardCacheEntry( state, "Book", 7 ) )
+		);
+		assertThat( entry.getSubclass() ).isEqualTo( "Book" );
+		assertThat( entry.getVersion() ).isEqualTo( 7 );
+		assertThat( entry.getDisassembledState() ).containsExactly( state );
+	}
+
+	@Entity(name = "Book")
+	@Cacheable
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "books")
+	public static class Book {
+		@Id
+		Long id;
+
+		String title;
+
+		LocalDate published;
+
+		BigDecimal price;
+
+		@Version
+		int version;
+
+		@ElementCollection
+		@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "books")
+		Set<String> tags = new HashSet<>();
+
+		public Book() {
+		}
+
+		public Book(Long id, String title, LocalDate published, BigDecimal price) {
+			this.id = id;
+			this.title = title;
+			this.published = published;
+			this.price = price;
+		}
+	}
+}
@@ -0,0 +1,271 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.cache;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cache.internal.CacheValueCodec;
+import org.hibernate.cache.internal.StandardCacheEntrySerializer;
+import org.hibernate.cache.spi.entry.CacheEntryFactory;
+import org.hibernate.cache.spi.entry.CacheEntrySerializer;
+import org.hibernate.cache.spi.entry.StandardCacheEntryImpl;
+import org.hibernate.cache.spi.support.AbstractReadWriteAccess;
+import org.hibernate.cache.spi.support.ReadWriteItemFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.internal.util.SerializationHelper;
+import org.hibernate.persister.entity.EntityPersister;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Version;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link StandardCacheEntrySerializer}
+ */
+@DomainModel(annotatedClasses = {
+		StandardCacheEntrySerializerTest.Publisher.class,
+		StandardCacheEntrySerializerTest.Book.class
+})
+@ServiceRegistry(settings = @Setting(name = AvailableSettings.USE_SECOND_LEVEL_CACHE, value = "true"))
+@SessionFactory
+public class StandardCacheEntrySerializerTest {
+
+	@Test
+	public void testEntityEntry(SessionFactoryScope scope) {
+		final CacheEntrySerializer serializer = scope.getSessionFactory().getCache().getCacheEntrySerializer();
+		assertThat( serializer ).isInstanceOf( StandardCacheEntrySerializer.class );
+
+		scope.inTransaction( session -> {
+			final Publisher publisher = new Publisher( 5L, "Manning" );
+			session.persist( publisher );
+			final Book book = new Book( 1L, "Hibernate in Action", LocalDate.of( 2004, 8, 1 ), new BigDecimal( "44.95" ) );
+			book.publisher = publisher;
+			book.format = Format.PAPERBACK;
+			book.version = 3;
+
+			final EntityPersister persister = scope.getSessionFactory()
+					.getRuntimeMetamodels()
+					.getMappingMetamodel()
+					.getEntityDescriptor( Book.class );
+			final StandardCacheEntryImpl entry = new StandardCacheEntryImpl(
+					persister.getValues( book ),
+					persister,
+					persister.getVersion( book ),
+					session.unwrap( SharedSessionContractImplementor.class ),
+					book
+			);
+			final AbstractReadWriteAccess.Item item = ReadWriteItemFactory.createItem( entry, entry.getVersion(), 42L );
+
+			final byte[] bytes = serializer.serialize( item );
+			final AbstractReadWriteAccess.Item result = (AbstractReadWriteAccess.Item) serializer.deserialize( bytes );
+			assertThat( ReadWriteItemFactory.getTimestamp( result ) ).isEqualTo( 42L );
+			assertThat( ReadWriteItemFactory.getVersion( result ) ).isEqualTo( 3 );
+
+			final StandardCacheEntryImpl resultEntry = (StandardCacheEntryImpl) result.getValue();
+			assertThat( resultEntry.getSubclass() ).isEqualTo( Book.class.getName() );
+			assertThat( resultEntry.getVersion() ).isEqualTo( 3 );
+			assertThat( resultEntry.getDisassembledState() ).containsExactly( entry.getDisassembledState() );
+
+			// smaller than the encoding without the schema, which is smaller than Java serialization
+			final byte[] untyped = CacheValueCodec.INSTANCE.serialize( item );
+			assertThat( CacheValueCodec.INSTANCE.deserialize( untyped ) ).isInstanceOf( AbstractReadWriteAccess.Item.class );
+			assertThat( bytes.length ).isLessThan( untyped.length );
+			assertThat( untyped.length ).isLessThan( SerializationHelper.serialize( item ).length );
+
+			session.remove( publisher );
+		} );
+	}
+
+	@Test
+	public void testUnknownEntity(SessionFactoryScope scope) {
+		final CacheEntrySerializer serializer = scope.getSessionFactory().getCache().getCacheEntrySerializer();
+		final Serializable[] state = { 1L, "value" };
+		final StandardCacheEntryImpl entry = (StandardCacheEntryImpl) serializer.deserialize(
+				serializer.serialize( CacheEntryFactory.createStandardCacheEntry( state, "Unknown", null ) )
+		);
+		assertThat( entry.getSubclass() ).isEqualTo( "Unknown" );
+		assertThat( entry.getVersion() ).isNull();
+		assertThat( entry.getDisassembledState() ).containsExactly( state );
+	}
+
+	@Test
+	public void testUnexpectedValue(SessionFactoryScope scope) {
+		final CacheEntrySerializer serializer = scope.getSessionFactory().getCache().getCacheEntrySerializer();
+		// a state with values of other types than the mapped ones is still written
+		final Serializable[] state = { null, 2, "not a date", null, null, null };
+		final StandardCacheEntryImpl entry = (StandardCacheEntryImpl) serializer.deserialize(
+				serializer.serialize( CacheEntryFactory.createStandardCacheEntry( state, Book.class.getName(), 1 ) )
+		);
+		assertThat( entry.getDisassembledState() ).containsExactly( state );
+	}
+
+	@Test
+	public void testOtherModel(SessionFactoryScope scope) {
+		final Serializable[] state = { Format.PAPERBACK, new BigDecimal( "44.95" ), LocalDate.of( 2004, 8, 1 ), 5L, "Hibernate in Action", 3 };
+		final StandardCacheEntryImpl entry = (StandardCacheEntryImpl) CacheEntryFactory.createStandardCacheEntry(
+				state,
+				Book.class.getName(),
+				3
+		);
+		final String regionName = regionName( scope.getSessionFactory() );
+		final CacheEntrySerializer serializer = scope.getSessionFactory()
+				.getCache()
+				.getCacheEntrySerializer()
+				.forRegion( regionName );
+		final byte[] bytes = serializer.serialize( entry );
+		assertThat( ( (StandardCacheEntryImpl) serializer.deserialize( bytes ) ).getDisassembledState() )
+				.containsExactly( state );
+
+		// another version of the format
+		final byte[] otherVersion = bytes.clone();
+		otherVersion[1]++;
+		assertThat( serializer.deserialize( otherVersion ) ).isNull();
+
+		// another entity cached in the same region changes the encoding of the region
+		try ( SessionFactoryImplementor otherFactory = buildSessionFactory( Publisher.class, Book.class, Magazine.class ) ) {
+			final CacheEntrySerializer otherSerializer = otherFactory.getCache().getCacheEntrySerializer();
+			assertThat( otherSerializer.forRegion( regionName( otherFactory ) ).deserialize( bytes ) ).isNull();
+			assertThat( otherSerializer.deserialize(
+					scope.getSessionFactory().getCache().getCacheEntrySerializer().serialize( entry )
+			) ).isNull();
+		}
+
+		// changes of the entities of other regions do not
+		try ( SessionFactoryImplementor otherFactory = buildSessionFactory( Publisher.class, Book.class, Newspaper.class ) ) {
+			final CacheEntrySerializer otherSerializer = otherFactory.getCache()
+					.getCacheEntrySerializer()
+					.forRegion( regionName( otherFactory ) );
+			final StandardCacheEntryImpl result = (StandardCacheEntryImpl) otherSerializer.deserialize( bytes );
+			assertThat( result.getSubclass() ).isEqualTo( Book.class.getName() );
+			assertThat( result.getDisassembledState() ).containsExactly( state );
+		}
+	}
+
+	private static String regionName(SessionFactoryImplementor sessionFactory) {
+		return sessionFactory.getRuntimeMetamodels()
+				.getMappingMetamodel()
+				.getEntityDescriptor( Book.class )
+				.getCacheAccessStrategy()
+				.getRegion()
+				.getName();
+	}
+
+	private static SessionFactoryImplementor buildSessionFactory(Class<?>... annotatedClasses) {
+		final StandardServiceRegistry serviceRegistry = new StandardServiceRegistryBuilder()
+				.applySetting( AvailableSettings.USE_SECOND_LEVEL_CACHE, "true" )
+				// the tables of the test session factory are kept
+				.applySetting( AvailableSettings.HBM2DDL_AUTO, "none" )
+				.build();
+		try {
+			final MetadataSources metadataSources = new MetadataSources( serviceRegistry );
+			for ( Class<?> annotatedClass : annotatedClasses ) {
+				metadataSources.addAnnotatedClass( annotatedClass );
+			}
+			return (SessionFactoryImplementor) metadataSources.buildMetadata().buildSessionFactory();
+		}
+		catch (RuntimeException e) {
+			StandardServiceRegistryBuilder.destroy( serviceRegistry );
+			throw e;
+		}
+	}
+
+	public enum Format {
+		HARDCOVER,
+		PAPERBACK
+	}
+
+	@Entity(name = "Publisher")
+	public static class Publisher {
+		@Id
+		Long id;
+
+		String name;
+
+		public Publisher() {
+		}
+
+		public Publisher(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Book")
+	@Cacheable
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "publications")
+	public static class Book {
+		@Id
+		Long id;
+
+		String title;
+
+		LocalDate published;
+
+		BigDecimal price;
+
+		@Enumerated(EnumType.STRING)
+		Format format;
+
+		@ManyToOne
+		Publisher publisher;
+
+		@Version
+		int version;
+
+		public Book() {
+		}
+
+		public Book(Long id, String title, LocalDate published, BigDecimal price) {
+			this.id = id;
+			this.title = title;
+			this.published = published;
+			this.price = price;
+		}
+	}
+
+	@Entity(name = "Magazine")
+	@Cacheable
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "publications")
+	public static class Magazine {
+		@Id
+		Long id;
+
+		String title;
+	}
+
+	@Entity(name = "Newspaper")
+	@Cacheable
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "newspapers")
+	public static class Newspaper {
+		@Id
+		Long id;
+
+		String title;
+	}
+}
@@ -0,0 +1,179 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.collection.basic;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.Fetch;
+import org.hibernate.annotations.FetchMode;
+import org.hibernate.engine.FetchStyle;
+import org.hibernate.metamodel.mapping.PluralAttributeMapping;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DialectFeatureChecks;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.RequiresDialectFeature;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link FetchMode#AGGREGATE}
+ */
+@DomainModel(annotatedClasses = AggregateFetchElementCollectionTest.Author.class)
+@SessionFactory(statementInspectorClass = SQLStatementInspector.class)
+@RequiresDialectFeature(feature = DialectFeatureChecks.SupportsArrayAggregation.class)
+public class AggregateFetchElementCollectionTest {
+
+	@BeforeEach
+	public void createAuthors(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Author gavin = new Author( 1, "Gavin" );
+			gavin.nicknames.addAll( Set.of( "Gav", "G" ) );
+			gavin.ratings.addAll( List.of( 5, 4, 5 ) );
+			gavin.genres.addAll( EnumSet.of( Genre.FICTION, Genre.POETRY ) );
+			session.persist( gavin );
+
+			final Author steve = new Author( 2, "Steve" );
+			steve.ratings.add( 3 );
+			session.persist( steve );
+
+			session.persist( new Author( 3, "Andrea" ) );
+		} );
+	}
+
+	@AfterEach
+	public void dropAuthors(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createQuery( "from Author", Author.class )
+				.getResultList()
+				.forEach( session::remove ) );
+	}
+
+	@Test
+	public void testMappingModel(SessionFactoryScope scope) {
+		final PluralAttributeMapping nicknames = (PluralAttributeMapping) scope.getSessionFactory()
+				.getRuntimeMetamodels()
+				.getEntityMappingType( Author.class )
+				.findAttributeMapping( "nicknames" );
+		assertThat( nicknames.getMappedFetchOptions().getStyle() ).isEqualTo( FetchStyle.AGGREGATE );
+	}
+
+	@Test
+	public void testFind(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		statementInspector.clear();
+		scope.inTransaction( session -> {
+			final Author author = session.find( Author.class, 1 );
+			assertThat( Hibernate.isInitialized( author.nicknames ) ).isTrue();
+			assertThat( Hibernate.isInitialized( author.ratings ) ).isTrue();
+			assertThat( Hibernate.isInitialized( author.genres ) ).isTrue();
+			assertThat( author.nicknames ).containsExactlyInAnyOrder( "Gav", "G" );
+			assertThat( author.ratings ).containsExactlyInAnyOrder( 5, 4, 5 );
+			assertThat( author.genres ).containsExactlyInAnyOrder( Genre.FICTION, Genre.POETRY );
+			statementInspector.assertExecutedCount( 1 );
+			statementInspector.assertNumberOfOccurrenceInQuery( 0, "join", 0 );
+			assertThat( statementInspector.getSqlQueries().get( 0 ).split( "array_agg\\(", -1 ) ).hasSize( 4 );
+		} );
+	}
+
+	@Test
+	public void testQuery(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		statementInspector.clear();
+		scope.inTransaction( session -> {
+			final List<Author> authors = session.createQuery( "from Author order by id", Author.class )
+					.getResultList();
+			assertThat( authors ).hasSize( 3 );
+			statementInspector.assertExecutedCount( 1 );
+
+			assertThat( authors.get( 0 ).nicknames ).containsExactlyInAnyOrder( "Gav", "G" );
+			assertThat( authors.get( 1 ).nicknames ).isEmpty();
+			assertThat( authors.get( 1 ).ratings ).containsExactly( 3 );
+			assertThat( authors.get( 2 ).ratings ).isEmpty();
+			assertThat( authors.get( 2 ).genres ).isEmpty();
+			for ( Author author : authors ) {
+				assertThat( Hibernate.isInitialized( author.nicknames ) ).isTrue();
+				assertThat( Hibernate.isInitialized( author.ratings ) ).isTrue();
+				assertThat( Hibernate.isInitialized( author.genres ) ).isTrue();
+			}
+			statementInspector.assertExecutedCount( 1 );
+		} );
+	}
+
+	@Test
+	public void testJoinFetch(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Author author = session.createQuery(
+							"from Author a join fetch a.ratings where a.id = 1",
+							Author.class
+					)
+					.getSingleResult();
+			assertThat( author.ratings ).containsExactlyInAnyOrder( 5, 4, 5 );
+			assertThat( author.nicknames ).containsExactlyInAnyOrder( "Gav", "G" );
+		} );
+	}
+
+	@Test
+	public void testUpdate(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Author author = session.find( Author.class, 2 );
+			author.nicknames.add( "Ebersole" );
+			author.ratings.clear();
+		} );
+		scope.inTransaction( session -> {
+			final Author author = session.find( Author.class, 2 );
+			assertThat( author.nicknames ).containsExactly( "Ebersole" );
+			assertThat( author.ratings ).isEmpty();
+		} );
+	}
+
+	public enum Genre {
+		FICTION,
+		POETRY,
+		ESSAY
+	}
+
+	@Entity(name = "Author")
+	public static class Author {
+		@Id
+		private Integer id;
+		private String name;
+
+		@ElementCollection
+		@Fetch(FetchMode.AGGREGATE)
+		private Set<String> nicknames = new HashSet<>();
+
+		@ElementCollection
+		@Fetch(FetchMode.AGGREGATE)
+		private List<Integer> ratings = new ArrayList<>();
+
+		@ElementCollection
+		@Fetch(FetchMode.AGGREGATE)
+		private Set<Genre> genres = EnumSet.noneOf( Genre.class );
+
+		public Author() {
+		}
+
+		public Author(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,222 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.engine.internal;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.persister.entity.EntityPersister;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Inheritance;
+import jakarta.persistence.InheritanceType;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@value AvailableSettings#PERSISTENCE_CONTEXT_INDEXED_ENTITY_STORAGE}
+ */
+@DomainModel(
+		annotatedClasses = {
+				IndexedEntityStorageTest.Animal.class,
+				IndexedEntityStorageTest.Dog.class,
+				IndexedEntityStorageTest.Tag.class,
+				IndexedEntityStorageTest.Country.class
+		}
+)
+@ServiceRegistry(
+		settings = @Setting(name = AvailableSettings.PERSISTENCE_CONTEXT_INDEXED_ENTITY_STORAGE, value = "true")
+)
+@SessionFactory
+public class IndexedEntityStorageTest {
+
+	private static final int COUNT = 200;
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					session.createMutationQuery( "delete from Animal" ).executeUpdate();
+					session.createMutationQuery( "delete from Tag" ).executeUpdate();
+					session.createMutationQuery( "delete from Country" ).executeUpdate();
+				}
+		);
+	}
+
+	@Test
+	public void testLongIdentifiers(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					for ( long i = 0; i < COUNT; i++ ) {
+						session.persist( i % 2 == 0 ? new Animal( i, "animal" + i ) : new Dog( i, "dog" + i ) );
+					}
+				}
+		);
+		scope.inTransaction(
+				session -> {
+					final List<Animal> animals = session.createQuery( "from Animal", Animal.class ).getResultList();
+					assertThat( animals ).hasSize( COUNT );
+
+					final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+					final EntityPersister animalPersister = session.getEntityPersister( Animal.class.getName(), null );
+					final EntityPersister dogPersister = session.getEntityPersister( Dog.class.getName(), null );
+					assertThat( persistenceContext.getEntitiesByKey() ).hasSize( COUNT );
+					for ( Animal animal : animals ) {
+						assertThat( persistenceContext.getEntity( animalPersister, animal.id ) ).isSameAs( animal );
+						// subclasses share the storage of their hierarchy
+						assertThat( persistenceContext.containsEntity( dogPersister, animal.id ) ).isTrue();
+						assertThat( persistenceContext.getEntity( session.generateEntityKey( animal.id, animalPersister ) ) )
+								.isSameAs( animal );
+					}
+					assertThat( persistenceContext.containsEntity( animalPersister, (long) COUNT ) ).isFalse();
+
+					// iteration hands out keys with the concrete persister
+					int dogs = 0;
+					for ( EntityKey key : persistenceContext.getEntitiesByKey().keySet() ) {
+						if ( key.getPersister() == dogPersister ) {
+							dogs++;
+						}
+					}
+					assertThat( dogs ).isEqualTo( COUNT / 2 );
+
+					for ( Animal animal : animals ) {
+						if ( animal.id % 3 == 0 ) {
+							session.remove( animal );
+						}
+						else {
+							animal.name = animal.name + "!";
+						}
+					}
+				}
+		);
+		scope.inTransaction(
+				session -> {
+					final List<Animal> animals = session.createQuery( "from Animal", Animal.class ).getResultList();
+					assertThat( animals ).hasSize( COUNT - ( COUNT + 2 ) / 3 );
+					for ( Animal animal : animals ) {
+						assertThat( animal.name ).endsWith( "!" );
+					}
+					session.clear();
+					assertThat( session.getPersistenceContextInternal().getEntitiesByKey() ).isEmpty();
+					assertThat( session.find( Animal.class, 1L ) ).isInstanceOf( Dog.class );
+				}
+		);
+	}
+
+	@Test
+	public void testUuidIdentifiers(SessionFactoryScope scope) {
+		final List<UUID> ids = new ArrayList<>();
+		scope.inTransaction(
+				session -> {
+					for ( int i = 0; i < COUNT; i++ ) {
+						final Tag tag = new Tag( UUID.randomUUID(), "tag" + i );
+						ids.add( tag.id );
+						session.persist( tag );
+					}
+				}
+		);
+		scope.inTransaction(
+				session -> {
+					final EntityPersister persister = session.getEntityPersister( Tag.class.getName(), null );
+					for ( UUID id : ids ) {
+						final Tag tag = session.find( Tag.class, id );
+						assertThat( tag ).isNotNull();
+						assertThat( session.getPersistenceContextInternal().getEntity( persister, id ) ).isSameAs( tag );
+						session.detach( tag );
+						assertThat( session.getPersistenceContextInternal().containsEntity( persister, id ) ).isFalse();
+					}
+				}
+		);
+	}
+
+	@Test
+	public void testOtherIdentifiers(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					session.persist( new Country( "FR", "France" ) );
+					session.persist( new Country( "TN", "Tunisia" ) );
+				}
+		);
+		scope.inTransaction(
+				session -> {
+					final EntityPersister persister = session.getEntityPersister( Country.class.getName(), null );
+					final Country country = session.find( Country.class, "TN" );
+					assertThat( session.getPersistenceContextInternal().getEntity( persister, "TN" ) ).isSameAs( country );
+					assertThat( session.getPersistenceContextInternal().containsEntity( persister, "FR" ) ).isFalse();
+				}
+		);
+	}
+
+	@Entity(name = "Animal")
+	@Inheritance(strategy = InheritanceType.SINGLE_TABLE)
+	public static class Animal {
+		@Id
+		Long id;
+		String name;
+
+		public Animal() {
+		}
+
+		public Animal(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Dog")
+	public static class Dog extends Animal {
+		public Dog() {
+		}
+
+		public Dog(Long id, String name) {
+			super( id, name );
+		}
+	}
+
+	@Entity(name = "Tag")
+	public static class Tag {
+		@Id
+		UUID id;
+		String name;
+
+		public Tag() {
+		}
+
+		public Tag(UUID id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Country")
+	public static class Country {
+		@Id
+		String code;
+		String name;
+
+		public Country() {
+		}
+
+		public Country(String code, String name) {
+			this.code = code;
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,271 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.event.jfr;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.event.internal.EmptyEventManager;
+import org.hibernate.event.jfr.internal.CacheGetEvent;
+import org.hibernate.event.jfr.internal.CachePutEvent;
+import org.hibernate.event.jfr.internal.DirtyCalculationEvent;
+import org.hibernate.event.jfr.internal.JdbcBatchExecutionEvent;
+import org.hibernate.event.jfr.internal.JdbcConnectionAcquisitionEvent;
+import org.hibernate.event.jfr.internal.JdbcPreparedStatementCreationEvent;
+import org.hibernate.event.jfr.internal.JdbcStatementExecutionEvent;
+import org.hibernate.event.jfr.internal.JfrEventManager;
+import org.hibernate.event.jfr.internal.LazyInitializationEvent;
+import org.hibernate.event.jfr.internal.MappingModelCreationPhaseEvent;
+import org.hibernate.event.jfr.internal.SessionClosedEvent;
+import org.hibernate.event.jfr.internal.SessionFlushEvent;
+import org.hibernate.event.jfr.internal.SessionOpenEvent;
+import org.hibernate.event.spi.EventManager;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+import jdk.jfr.EventType;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DomainModel(annotatedClasses = {
+		JfrEventsTest.Author.class,
+		JfrEventsTest.Book.class
+})
+@ServiceRegistry(settings = @Setting(name = AvailableSettings.USE_SECOND_LEVEL_CACHE, value = "true"))
+@SessionFactory
+public class JfrEventsTest {
+
+	@AfterEach
+	public void dropData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.createMutationQuery( "delete from Book" ).executeUpdate();
+			session.createMutationQuery( "delete from Author" ).executeUpdate();
+		} );
+		scope.getSessionFactory().getCache().evictAllRegions();
+	}
+
+	@Test
+	public void testEventsNotCreatedWhenDisabled(SessionFactoryScope scope) {
+		final EventManager eventManager = scope.getSessionFactory().getFastSessionServices().eventManager;
+		assertThat( eventManager ).isInstanceOf( JfrEventManager.class );
+		// a recording started outside the test, e.g. with -XX:StartFlightRecording, might enable the events
+		assertThat( eventManager.beginSessionOpenEvent() != null )
+				.isEqualTo( EventType.getEventType( SessionOpenEvent.class ).isEnabled() );
+		assertThat( eventManager.beginJdbcStatementExecutionEvent() != null )
+				.isEqualTo( EventType.getEventType( JdbcStatementExecutionEvent.class ).isEnabled() );
+		assertThat( eventManager.beginCacheGetEvent() != null )
+				.isEqualTo( EventType.getEventType( CacheGetEvent.class ).isEnabled() );
+		// completing a disabled event is a no-op
+		eventManager.completeJdbcStatementExecutionEvent( null, "select 1", -1 );
+	}
+
+	@Test
+	public void testEmptyEventManager() {
+		final EventManager eventManager = EmptyEventManager.INSTANCE;
+		assertThat( eventManager.beginSessionOpenEvent() ).isNull();
+		assertThat( eventManager.beginJdbcStatementExecutionEvent() ).isNull();
+		assertThat( eventManager.beginCacheGetEvent() ).isNull();
+		assertThat( eventManager.beginMappingModelCreationPhaseEvent() ).isNull();
+		eventManager.completeJdbcStatementExecutionEvent( null, "select 1", -1 );
+		eventManager.completeMappingModelCreationPhaseEvent( null, "mapping model" );
+	}
+
+	@Test
+	public void testEvents(SessionFactoryScope scope) throws IOException {
+		final List<RecordedEvent> events;
+		try ( Recording recording = new Recording() ) {
+			recording.enable( SessionOpenEvent.NAME );
+			recording.enable( SessionClosedEvent.NAME );
+			recording.enable( SessionFlushEvent.NAME );
+			recording.enable( DirtyCalculationEvent.NAME );
+			recording.enable( LazyInitializationEvent.NAME );
+			recording.enable( CacheGetEvent.NAME );
+			recording.enable( CachePutEvent.NAME );
+			recording.enable( JdbcConnectionAcquisitionEvent.NAME );
+			recording.enable( JdbcPreparedStatementCreationEvent.NAME );
+			recording.enable( JdbcStatementExecutionEvent.NAME );
+			recording.enable( JdbcBatchExecutionEvent.NAME );
+			recording.start();
+
+			scope.inTransaction( session -> {
+				final Author author = new Author( 1, "author" );
+				session.persist( author );
+				session.persist( new Book( 1, "book 1", author ) );
+				session.persist( new Book( 2, "book 2", author ) );
+			} );
+			scope.inTransaction( session -> {
+				final Author author = session.get( Author.class, 1 );
+				assertThat( author.books ).hasSize( 2 );
+				author.name = "other author";
+			} );
+
+			recording.stop();
+			final Path file = Files.createTempFile( "hibernate-jfr-events", ".jfr" );
+			try {
+				recording.dump( file );
+				events = RecordingFile.readAllEvents( file );
+			}
+			finally {
+				Files.delete( file );
+			}
+		}
+
+		assertThat( events( events, SessionOpenEvent.NAME ) ).hasSize( 2 )
+				.allMatch( event -> event.getString( "sessionIdentifier" ) != null );
+		final Set<String> openedSessions = events( events, SessionOpenEvent.NAME ).stream()
+				.map( event -> event.getString( "sessionIdentifier" ) )
+				.collect( Collectors.toSet() );
+		final Set<String> closedSessions = new HashSet<>();
+		for ( RecordedEvent event : events( events, SessionClosedEvent.NAME ) ) {
+			closedSessions.add( event.getString( "sessionIdentifier" ) );
+		}
+		assertThat( closedSessions ).isEqualTo( openedSessions );
+
+		assertThat( events( events, SessionFlushEvent.NAME ) )
+				.anyMatch( event -> event.getInt( "numberOfEntitiesProcessed" ) == 3
+						&& !event.getBoolean( "autoFlush" ) );
+
+		assertThat( events( events, DirtyCalculationEvent.NAME ) )
+				.anyMatch( event -> Author.class.getName().equals( event.getString( "entityName" ) )
+						&& event.getBoolean( "dirty" ) );
+
+		assertThat( events( events, LazyInitializationEvent.NAME ) )
+				.anyMatch( event -> event.getBoolean( "collection" )
+						&& event.getString( "role" ).endsWith( "books" )
+						&& "1".equals( event.getString( "identifier" ) ) );
+
+		assertThat( events( events, CachePutEvent.NAME ) )
+				.anyMatch( event -> event.getString( "regionName" ).endsWith( Author.class.getName() ) );
+		assertThat( events( events, CacheGetEvent.NAME ) )
+				.anyMatch( event -> event.getString( "regionName" ).endsWith( Author.class.getName() )
+						&& event.getBoolean( "hit" ) );
+
+		assertThat( events( events, JdbcConnectionAcquisitionEvent.NAME ) ).isNotEmpty();
+		assertThat( events( events, JdbcPreparedStatementCreationEvent.NAME ) )
+				.anyMatch( event -> sql( event ).startsWith( "insert" ) );
+
+		// the collection is loaded by a query, the update is either executed alone or batched
+		assertThat( events( events, JdbcStatementExecutionEvent.NAME ) )
+				.anyMatch( event -> sql( event ).startsWith( "select" ) && event.getLong( "rowCount" ) == -1 );
+		assertThat( events( events, JdbcStatementExecutionEvent.NAME, JdbcBatchExecutionEvent.NAME ) )
+				.anyMatch( event -> sql( event ).startsWith( "update" ) && event.getLong( "rowCount" ) == 1 );
+	}
+
+	@Test
+	public void testMappingModelCreationPhaseEvents() throws IOException {
+		final List<RecordedEvent> events;
+		try ( Recording recording = new Recording() ) {
+			recording.enable( MappingModelCreationPhaseEvent.NAME );
+			recording.start();
+
+			final StandardServiceRegistry ssr = new StandardServiceRegistryBuilder().build();
+			try {
+				new MetadataSources( ssr )
+						.addAnnotatedClass( Author.class )
+						.addAnnotatedClass( Book.class )
+						.buildMetadata()
+						.buildSessionFactory()
+						.close();
+			}
+			finally {
+				StandardServiceRegistryBuilder.destroy( ssr );
+			}
+
+			recording.stop();
+			final Path file = Files.createTempFile( "hibernate-jfr-events", ".jfr" );
+			try {
+				recording.dump( file );
+				events = RecordingFile.readAllEvents( file );
+			}
+			finally {
+				Files.delete( file );
+			}
+		}
+
+		assertThat( events( events, MappingModelCreationPhaseEvent.NAME ) )
+				.extracting( event -> event.getString( "phase" ) )
+				.containsExactly(
+						"entity persisters",
+						"collection persisters",
+						"mapping model",
+						"persister post-instantiation",
+						"JPA metamodel"
+				);
+	}
+
+	private static List<RecordedEvent> events(List<RecordedEvent> events, String... names) {
+		final Set<String> eventNames = Set.of( names );
+		return events.stream()
+				.filter( event -> eventNames.contains( event.getEventType().getName() ) )
+				.collect( Collectors.toList() );
+	}
+
+	private static String sql(RecordedEvent event) {
+		return event.getString( "sql" ).toLowerCase( Locale.ROOT );
+	}
+
+	@Entity(name = "Author")
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+	public static class Author {
+		@Id
+		Integer id;
+		String name;
+		@OneToMany(mappedBy = "author")
+		Set<Book> books;
+
+		public Author() {
+		}
+
+		public Author(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Book")
+	public static class Book {
+		@Id
+		Integer id;
+		String title;
+		@ManyToOne
+		Author author;
+
+		public Book() {
+		}
+
+		public Book(Integer id, String title, Author author) {
+			this.id = id;
+			this.title = title;
+			this.author = author;
+		}
+	}
+}
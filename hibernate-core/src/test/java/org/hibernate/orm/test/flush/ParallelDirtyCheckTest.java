@@ -0,0 +1,189 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.flush;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.Embedded;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Version;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@value AvailableSettings#PARALLEL_DIRTY_CHECK_THRESHOLD}
+ */
+@DomainModel(
+		annotatedClasses = ParallelDirtyCheckTest.Item.class
+)
+@ServiceRegistry(
+		settings = {
+				@Setting(name = AvailableSettings.PARALLEL_DIRTY_CHECK_THRESHOLD, value = "10"),
+				@Setting(name = AvailableSettings.PARALLEL_DIRTY_CHECK_PARALLELISM, value = "2")
+		}
+)
+@SessionFactory(generateStatistics = true)
+public class ParallelDirtyCheckTest {
+
+	private static final int COUNT = 1000;
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					for ( long i = 0; i < COUNT; i++ ) {
+						session.persist( new Item( i, "item" + i, new Price( 10, "EUR" ) ) );
+					}
+				}
+		);
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> session.createMutationQuery( "delete from Item" ).executeUpdate()
+		);
+	}
+
+	@Test
+	public void testDedicatedPool(SessionFactoryScope scope) {
+		final ForkJoinPool pool = scope.getSessionFactory().getFastSessionServices().parallelDirtyCheckPool;
+		assertThat( pool ).isNotNull().isNotSameAs( ForkJoinPool.commonPool() );
+		assertThat( pool.getParallelism() ).isEqualTo( 2 );
+	}
+
+	@Test
+	public void testOnlyModifiedEntitiesAreUpdated(SessionFactoryScope scope) {
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		scope.inTransaction(
+				session -> {
+					final List<Item> items = session.createQuery( "from Item order by id", Item.class ).getResultList();
+					assertThat( items ).hasSize( COUNT );
+					for ( Item item : items ) {
+						if ( item.id % 3 == 0 ) {
+							item.name = "changed" + item.id;
+						}
+						else if ( item.id % 3 == 1 ) {
+							item.price.amount = 20;
+						}
+					}
+					statistics.clear();
+				}
+		);
+		assertThat( statistics.getEntityUpdateCount() ).isEqualTo( COUNT - COUNT / 3 );
+
+		scope.inTransaction(
+				session -> {
+					for ( Item item : session.createQuery( "from Item", Item.class ).getResultList() ) {
+						if ( item.id % 3 == 0 ) {
+							assertThat( item.name ).isEqualTo( "changed" + item.id );
+							assertThat( item.price.amount ).isEqualTo( 10 );
+							assertThat( item.version ).isEqualTo( 1 );
+						}
+						else if ( item.id % 3 == 1 ) {
+							assertThat( item.name ).isEqualTo( "item" + item.id );
+							assertThat( item.price.amount ).isEqualTo( 20 );
+							assertThat( item.version ).isEqualTo( 1 );
+						}
+						else {
+							assertThat( item.version ).isEqualTo( 0 );
+						}
+					}
+				}
+		);
+	}
+
+	@Test
+	public void testRepeatedFlushes(SessionFactoryScope scope) {
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		scope.inTransaction(
+				session -> {
+					final List<Item> items = session.createQuery( "from Item", Item.class ).getResultList();
+					statistics.clear();
+					for ( Item item : items ) {
+						item.name = "first";
+					}
+					session.flush();
+					assertThat( statistics.getEntityUpdateCount() ).isEqualTo( COUNT );
+
+					// nothing changed since the last flush
+					session.flush();
+					assertThat( statistics.getEntityUpdateCount() ).isEqualTo( COUNT );
+
+					items.get( 0 ).name = "second";
+					session.flush();
+					assertThat( statistics.getEntityUpdateCount() ).isEqualTo( COUNT + 1 );
+				}
+		);
+	}
+
+	@Test
+	public void testReadOnlyEntitiesAreSkipped(SessionFactoryScope scope) {
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		scope.inTransaction(
+				session -> {
+					final List<Item> items = session.createQuery( "from Item", Item.class )
+							.setReadOnly( true )
+							.getResultList();
+					for ( Item item : items ) {
+						item.name = "changed";
+					}
+					statistics.clear();
+				}
+		);
+		assertThat( statistics.getEntityUpdateCount() ).isEqualTo( 0 );
+	}
+
+	@Entity(name = "Item")
+	public static class Item {
+		@Id
+		Long id;
+		String name;
+		@Embedded
+		Price price;
+		@Version
+		int version;
+
+		public Item() {
+		}
+
+		public Item(Long id, String name, Price price) {
+			this.id = id;
+			this.name = name;
+			this.price = price;
+		}
+	}
+
+	@Embeddable
+	public static class Price {
+		int amount;
+		String currency;
+
+		public Price() {
+		}
+
+		public Price(int amount, String currency) {
+			this.amount = amount;
+			this.currency = currency;
+		}
+	}
+}
@@ -6,6 +6,15 @@
  */
 package org.hibernate.orm.test.id.enhanced;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.hibernate.HibernateException;
 import org.hibernate.id.IdentifierGeneratorHelper;
 import org.hibernate.id.IntegralDataTypeHolder;
 import org.hibernate.id.enhanced.AccessCallback;
@@ -304,6 +313,134 @@ public class OptimizerUnitTest {
 
 	}
 
+	@Test
+	public void testBasicConcurrentPooledLoOptimizerUsage() {
+		final SourceMock sequence = new SourceMock( 1, 3 );
+		final Optimizer optimizer = buildConcurrentPooledLoOptimizer( 1, 3 );
+
+		assertEquals( 0, sequence.getTimesCalled() );
+		assertEquals( -1, sequence.getCurrentValue() );
+
+		Long next = ( Long ) optimizer.generate( sequence );
+		assertEquals( 1, next.intValue() );
+		assertEquals( 1, sequence.getTimesCalled() );
+		assertEquals( 1, sequence.getCurrentValue() );
+
+		next = ( Long ) optimizer.generate( sequence );
+		assertEquals( 2, next.intValue() );
+		next = ( Long ) optimizer.generate( sequence );
+		assertEquals( 3, next.intValue() );
+		assertEquals( 1, sequence.getTimesCalled() );
+
+		// force a "clock over"
+		next = ( Long ) optimizer.generate( sequence );
+		assertEquals( 4, next.intValue() );
+		assertEquals( 2, sequence.getTimesCalled() );
+		assertEquals( (1+3), sequence.getCurrentValue() );
+	}
+
+	@Test
+	public void testSubsequentConcurrentPooledOptimizerUsage() {
+		// the sequence is already beyond its initial value on init
+		final SourceMock sequence = new SourceMock( 1001, 3, 5 );
+		final Optimizer optimizer = buildConcurrentPooledOptimizer( 1, 3 );
+
+		Long next = (Long) optimizer.generate( sequence );
+		assertEquals( 1001 +1 , next.intValue() );
+		assertEquals( (5+1), sequence.getTimesCalled() );
+		assertEquals( (1001+3), sequence.getCurrentValue() );
+
+		next = (Long) optimizer.generate( sequence );
+		assertEquals( (1001+2), next.intValue() );
+		next = (Long) optimizer.generate( sequence );
+		assertEquals( (1001+3), next.intValue() );
+		assertEquals( (5+1), sequence.getTimesCalled() );
+
+		// force a "clock over"
+		next = (Long) optimizer.generate( sequence );
+		assertEquals( (1001+4), next.intValue() );
+		assertEquals( (5+2), sequence.getTimesCalled() );
+		assertEquals( (1001+6), sequence.getCurrentValue() );
+	}
+
+	@Test
+	public void testConcurrentPooledLoOptimizerPrefetch() {
+		final SourceMock sequence = new SourceMock( 1, 10 );
+		final Optimizer optimizer = buildConcurrentPooledLoOptimizer( 1, 10 );
+
+		for ( int i = 1; i <= 5; i++ ) {
+			assertEquals( i, ( (Long) optimizer.generate( sequence ) ).intValue() );
+		}
+		assertEquals( 1, sequence.getTimesCalled() );
+
+		// the middle value of the block triggers the fetch of the next block
+		assertEquals( 6, ( (Long) optimizer.generate( sequence ) ).intValue() );
+		assertEquals( 2, sequence.getTimesCalled() );
+		assertEquals( 11, sequence.getCurrentValue() );
+
+		for ( int i = 7; i <= 15; i++ ) {
+			assertEquals( i, ( (Long) optimizer.generate( sequence ) ).intValue() );
+		}
+		// the prefetched block was used without calling the sequence
+		assertEquals( 2, sequence.getTimesCalled() );
+	}
+
+	@Test
+	public void testConcurrentPooledLoOptimizerFailedPrefetch() {
+		final SourceMock sequence = new SourceMock( 1, 10 );
+		final FailingSource source = new FailingSource( sequence );
+		final Optimizer optimizer = buildConcurrentPooledLoOptimizer( 1, 10 );
+
+		for ( int i = 1; i <= 5; i++ ) {
+			assertEquals( i, ( (Long) optimizer.generate( source ) ).intValue() );
+		}
+
+		// the failure to fetch the next block does not lose the middle value
+		source.failing = true;
+		assertEquals( 6, ( (Long) optimizer.generate( source ) ).intValue() );
+		assertEquals( 1, sequence.getTimesCalled() );
+		source.failing = false;
+
+		for ( int i = 7; i <= 10; i++ ) {
+			assertEquals( i, ( (Long) optimizer.generate( source ) ).intValue() );
+		}
+		assertEquals( 1, sequence.getTimesCalled() );
+
+		// the next block is obtained when the current one is exhausted
+		assertEquals( 11, ( (Long) optimizer.generate( source ) ).intValue() );
+		assertEquals( 2, sequence.getTimesCalled() );
+	}
+
+	@Test
+	public void testConcurrentPooledOptimizerConcurrentUsage() throws Exception {
+		final int threads = 8;
+		final int valuesPerThread = 1000;
+		final SourceMock sequence = new SourceMock( 1, 50 );
+		final Optimizer optimizer = buildConcurrentPooledOptimizer( 1, 50 );
+
+		final Set<Long> values = ConcurrentHashMap.newKeySet();
+		final ExecutorService executor = Executors.newFixedThreadPool( threads );
+		try {
+			final List<Future<?>> futures = new ArrayList<>();
+			for ( int i = 0; i < threads; i++ ) {
+				futures.add( executor.submit( () -> {
+					for ( int j = 0; j < valuesPerThread; j++ ) {
+						values.add( (Long) optimizer.generate( sequence ) );
+					}
+				} ) );
+			}
+			for ( Future<?> future : futures ) {
+				future.get();
+			}
+		}
+		finally {
+			executor.shutdown();
+		}
+
+		// every value was handed out once
+		assertEquals( threads * valuesPerThread, values.size() );
+	}
+
 	private static Optimizer buildNoneOptimizer(long initial, int increment) {
 		return buildOptimizer( StandardOptimizerDescriptor.NONE, initial, increment );
 	}
@@ -324,6 +461,14 @@ public class OptimizerUnitTest {
 		return buildOptimizer( StandardOptimizerDescriptor.POOLED_LOTL, initial, increment );
 	}
 
+	private static Optimizer buildConcurrentPooledOptimizer(long initial, int increment) {
+		return buildOptimizer( StandardOptimizerDescriptor.POOLED_CONCURRENT, initial, increment );
+	}
+
+	private static Optimizer buildConcurrentPooledLoOptimizer(long initial, int increment) {
+		return buildOptimizer( StandardOptimizerDescriptor.POOLED_LO_CONCURRENT, initial, increment );
+	}
+
 	private static Optimizer buildOptimizer(
 			StandardOptimizerDescriptor descriptor,
 			long initial,
@@ -331,6 +476,28 @@ public class OptimizerUnitTest {
 		return OptimizerFactory.buildOptimizer( descriptor.getExternalName(), Long.class, increment, initial );
 	}
 
+	private static class FailingSource implements AccessCallback {
+		private final AccessCallback delegate;
+		private boolean failing;
+
+		public FailingSource(AccessCallback delegate) {
+			this.delegate = delegate;
+		}
+
+		@Override
+		public IntegralDataTypeHolder getNextValue() {
+			if ( failing ) {
+				throw new HibernateException( "Could not read the next value" );
+			}
+			return delegate.getNextValue();
+		}
+
+		@Override
+		public String getTenantIdentifier() {
+			return delegate.getTenantIdentifier();
+		}
+	}
+
 	private static class SourceMock implements AccessCallback {
 		private IdentifierGeneratorHelper.BasicHolder value = new IdentifierGeneratorHelper.BasicHolder( Long.class );
 		private long initialValue;
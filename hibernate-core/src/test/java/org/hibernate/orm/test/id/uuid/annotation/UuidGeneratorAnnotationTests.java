@@ -6,6 +6,9 @@
  */
 package org.hibernate.orm.test.id.uuid.annotation;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.hibernate.mapping.BasicValue;
 import org.hibernate.mapping.Property;
 
@@ -17,7 +20,7 @@ import org.junit.jupiter.api.Test;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
-@DomainModel( annotatedClasses = TheEntity.class )
+@DomainModel( annotatedClasses = { TheEntity.class, Version7Entity.class } )
 @SessionFactory
 public class UuidGeneratorAnnotationTests {
 	@Test
@@ -39,4 +42,29 @@ public class UuidGeneratorAnnotationTests {
 			session.persist( new TheEntity( "steve" ) );
 		} );
 	}
+
+	@Test
+	public void version7Test(SessionFactoryScope scope) {
+		final List<Version7Entity> entities = new ArrayList<>();
+		scope.inTransaction( (session) -> {
+			for ( int i = 0; i < 10; i++ ) {
+				final Version7Entity entity = new Version7Entity( "entity" + i );
+				session.persist( entity );
+				entities.add( entity );
+			}
+		} );
+
+		for ( int i = 0; i < entities.size(); i++ ) {
+			assertThat( entities.get( i ).getId().version() ).isEqualTo( 7 );
+			if ( i > 0 ) {
+				assertThat( entities.get( i ).getId() ).isGreaterThan( entities.get( i - 1 ).getId() );
+			}
+		}
+
+		scope.inTransaction( (session) -> {
+			final Version7Entity loaded = session.find( Version7Entity.class, entities.get( 0 ).getId() );
+			assertThat( loaded.getName() ).isEqualTo( "entity0" );
+			session.createMutationQuery( "delete from Version7Entity" ).executeUpdate();
+		} );
+	}
 }
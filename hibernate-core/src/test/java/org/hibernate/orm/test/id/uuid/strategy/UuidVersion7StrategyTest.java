@@ -0,0 +1,91 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.id.uuid.strategy;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.hibernate.id.uuid.UuidVersion7Strategy;
+
+import org.hibernate.testing.orm.junit.BaseUnitTest;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link UuidVersion7Strategy}
+ */
+@BaseUnitTest
+public class UuidVersion7StrategyTest {
+
+	@Test
+	public void testVersionAndTimestamp() throws Exception {
+		final long before = System.currentTimeMillis();
+		// generate on a fresh thread, since previous generations on this thread
+		// may have advanced its timestamp ahead of the clock
+		final UUID[] generated = new UUID[1];
+		final Thread thread = new Thread( () -> generated[0] = UuidVersion7Strategy.INSTANCE.generateUuid( null ) );
+		thread.start();
+		thread.join();
+		final long after = System.currentTimeMillis();
+		final UUID uuid = generated[0];
+
+		assertThat( uuid.version() ).isEqualTo( 7 );
+		assertThat( uuid.variant() ).isEqualTo( 2 );
+		assertThat( UuidVersion7Strategy.INSTANCE.getGeneratedVersion() ).isEqualTo( 7 );
+
+		final long timestamp = uuid.getMostSignificantBits() >>> 16;
+		assertThat( timestamp ).isGreaterThanOrEqualTo( before ).isLessThanOrEqualTo( after );
+	}
+
+	@Test
+	public void testMonotonicWithinThread() {
+		// enough values to overflow the counter within a millisecond
+		UUID previous = UuidVersion7Strategy.INSTANCE.generateUuid( null );
+		for ( int i = 0; i < 100_000; i++ ) {
+			final UUID uuid = UuidVersion7Strategy.INSTANCE.generateUuid( null );
+			assertThat( uuid.version() ).isEqualTo( 7 );
+			assertThat( uuid.variant() ).isEqualTo( 2 );
+			assertThat( Long.compareUnsigned( uuid.getMostSignificantBits(), previous.getMostSignificantBits() ) )
+					.isPositive();
+			previous = uuid;
+		}
+	}
+
+	@Test
+	public void testUniqueAcrossThreads() throws Exception {
+		final int threads = 8;
+		final int valuesPerThread = 10_000;
+		final ExecutorService executor = Executors.newFixedThreadPool( threads );
+		try {
+			final List<Future<List<UUID>>> futures = new ArrayList<>();
+			for ( int i = 0; i < threads; i++ ) {
+				futures.add( executor.submit( () -> {
+					final List<UUID> uuids = new ArrayList<>( valuesPerThread );
+					for ( int j = 0; j < valuesPerThread; j++ ) {
+						uuids.add( UuidVersion7Strategy.INSTANCE.generateUuid( null ) );
+					}
+					return uuids;
+				} ) );
+			}
+			final Set<UUID> all = new HashSet<>();
+			for ( Future<List<UUID>> future : futures ) {
+				all.addAll( future.get() );
+			}
+			assertThat( all ).hasSize( threads * valuesPerThread );
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+}
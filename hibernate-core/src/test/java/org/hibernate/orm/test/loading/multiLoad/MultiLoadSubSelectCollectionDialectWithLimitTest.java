@@ -75,6 +75,12 @@ public class MultiLoadSubSelectCollectionDialectWithLimitTest {
 		public int getInExpressionCountLimit() {
 			return 50;
 		}
+
+		@Override
+		public boolean supportsArrayParameterRestriction() {
+			// the in-list limit does not apply to ids bound to an array parameter
+			return false;
+		}
 	}
 
 	@BeforeEach
@@ -96,11 +96,7 @@ public class MultiLoadTest {
 					List<SimpleEntity> list = session.byMultipleIds( SimpleEntity.class ).multiLoad( ids( 5 ) );
 					assertEquals( 5, list.size() );
 
-					final int paramCount = StringHelper.countUnquoted(
-							statementInspector.getSqlQueries().get( 0 ),
-							'?'
-					);
-					assertThat( paramCount, is( 5 ) );
+					assertNumberOfIdsInQuery( scope, statementInspector, 5 );
 				}
 		);
 	}
@@ -310,11 +306,7 @@ public class MultiLoadTest {
 						assertTrue( session.contains( entity ) );
 					}
 
-					final int paramCount = StringHelper.countUnquoted(
-							statementInspector.getSqlQueries().get( 0 ),
-							'?'
-					);
-					assertThat( paramCount, is( 2 ) );
+					assertNumberOfIdsInQuery( scope, statementInspector, 2 );
 				}
 		);
 	}
@@ -365,11 +357,7 @@ public class MultiLoadTest {
 					for ( SimpleEntity entity : entities ) {
 						assertTrue( session.contains( entity ) );
 					}
-					final int paramCount = StringHelper.countUnquoted(
-							statementInspector.getSqlQueries().get( 0 ),
-							'?'
-					);
-					assertThat( paramCount, is( 2 ) );
+					assertNumberOfIdsInQuery( scope, statementInspector, 2 );
 				}
 		);
 	}
@@ -396,11 +384,7 @@ public class MultiLoadTest {
 
 					assertNull( entities.get( 1 ) );
 
-					final int paramCount = StringHelper.countUnquoted(
-							statementInspector.getSqlQueries().get( 0 ),
-							'?'
-					);
-					assertThat( paramCount, is( 2 ) );
+					assertNumberOfIdsInQuery( scope, statementInspector, 2 );
 				}
 		);
 	}
@@ -433,11 +417,7 @@ public class MultiLoadTest {
 							.getEntry( deletedEntity );
 					assertTrue( entry.getStatus() == Status.DELETED || entry.getStatus() == Status.GONE );
 
-					final int paramCount = StringHelper.countUnquoted(
-							statementInspector.getSqlQueries().get( 0 ),
-							'?'
-					);
-					assertThat( paramCount, is( 2 ) );
+					assertNumberOfIdsInQuery( scope, statementInspector, 2 );
 				} );
 	}
 
@@ -463,11 +443,7 @@ public class MultiLoadTest {
 
 					assertTrue( entities.stream().anyMatch( Objects::isNull ) );
 
-					final int paramCount = StringHelper.countUnquoted(
-							statementInspector.getSqlQueries().get( 0 ),
-							'?'
-					);
-					assertThat( paramCount, is( 2 ) );
+					assertNumberOfIdsInQuery( scope, statementInspector, 2 );
 				} );
 	}
 
@@ -500,11 +476,7 @@ public class MultiLoadTest {
 							.getEntry( deletedEntity );
 					assertTrue( entry.getStatus() == Status.DELETED || entry.getStatus() == Status.GONE );
 
-					final int paramCount = StringHelper.countUnquoted(
-							statementInspector.getSqlQueries().get( 0 ),
-							'?'
-					);
-					assertThat( paramCount, is( 2 ) );
+					assertNumberOfIdsInQuery( scope, statementInspector, 2 );
 				} );
 	}
 
@@ -561,6 +533,23 @@ public class MultiLoadTest {
 		return ids;
 	}
 
+	private static void assertNumberOfIdsInQuery(
+			SessionFactoryScope scope,
+			SQLStatementInspector statementInspector,
+			int expectedNumberOfIds) {
+		final int paramCount = StringHelper.countUnquoted(
+				statementInspector.getSqlQueries().get( 0 ),
+				'?'
+		);
+		if ( scope.getSessionFactory().getJdbcServices().getDialect().supportsArrayParameterRestriction() ) {
+			// all the ids are bound to a single array parameter
+			assertThat( paramCount, is( 1 ) );
+		}
+		else {
+			assertThat( paramCount, is( expectedNumberOfIds ) );
+		}
+	}
+
 	@Entity( name = "SimpleEntity" )
 	@Table( name = "SimpleEntity" )
 	@Cacheable()
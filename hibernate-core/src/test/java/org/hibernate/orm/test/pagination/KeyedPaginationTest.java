@@ -0,0 +1,255 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.pagination;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.hibernate.query.KeyedPage;
+import org.hibernate.query.KeyedPage.Key;
+import org.hibernate.query.KeyedResultList;
+import org.hibernate.query.SelectionQuery;
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
+import org.hibernate.query.criteria.JpaCriteriaQuery;
+import org.hibernate.query.criteria.JpaRoot;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for {@link SelectionQuery#getKeyedResultList(KeyedPage)}
+ */
+@DomainModel(annotatedClasses = KeyedPaginationTest.Book.class)
+@SessionFactory
+public class KeyedPaginationTest {
+	private static final int BOOKS = 25;
+
+	@BeforeAll
+	public void createBooks(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= BOOKS; i++ ) {
+				session.persist( new Book( i, "book " + i, 2000 + i % 5 ) );
+			}
+		} );
+	}
+
+	@AfterAll
+	public void dropBooks(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createMutationQuery( "delete from Book" ).executeUpdate() );
+	}
+
+	@Test
+	public void testSingleKey(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final SelectionQuery<Book> query = session.createSelectionQuery( "from Book", Book.class );
+
+			KeyedResultList<Book> page = query.getKeyedResultList( KeyedPage.first( 10, Key.asc( "id" ) ) );
+			assertThat( page.getResultList() ).extracting( Book::getId )
+					.containsExactlyElementsOf( IntStream.rangeClosed( 1, 10 ).boxed().collect( Collectors.toList() ) );
+			assertThat( page.getNextKey() ).containsExactly( 10 );
+			assertThat( page.hasNextPage() ).isTrue();
+
+			page = query.getKeyedResultList( page.getNextPage() );
+			assertThat( page.getResultList() ).extracting( Book::getId )
+					.containsExactlyElementsOf( IntStream.rangeClosed( 11, 20 ).boxed().collect( Collectors.toList() ) );
+			assertThat( page.hasNextPage() ).isTrue();
+
+			page = query.getKeyedResultList( page.getNextPage() );
+			assertThat( page.getResultList() ).extracting( Book::getId )
+					.containsExactly( 21, 22, 23, 24, 25 );
+			assertThat( page.hasNextPage() ).isFalse();
+			assertThat( page.getNextPage() ).isNull();
+		} );
+	}
+
+	@Test
+	public void testUniformSortOrder(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final List<Book> books = readAll(
+					session.createSelectionQuery( "from Book", Book.class ),
+					KeyedPage.first( 7, Key.desc( "publicationYear" ), Key.desc( "id" ) )
+			);
+			assertThat( books ).extracting( Book::getId ).containsExactlyElementsOf(
+					expectedIds( Comparator.comparing( Book::getPublicationYear ).thenComparing( Book::getId ).reversed() )
+			);
+		} );
+	}
+
+	@Test
+	public void testConsistentOrderBy(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final List<Book> books = readAll(
+					session.createSelectionQuery( "from Book order by publicationYear desc", Book.class ),
+					KeyedPage.first( 7, Key.desc( "publicationYear" ), Key.desc( "id" ) )
+			);
+			assertThat( books ).extracting( Book::getId ).containsExactlyElementsOf(
+					expectedIds( Comparator.comparing( Book::getPublicationYear ).thenComparing( Book::getId ).reversed() )
+			);
+		} );
+	}
+
+	@Test
+	public void testConflictingOrderBy(SessionFactoryScope scope) {
+		scope.inTransaction( session -> assertThatThrownBy(
+				() -> session.createSelectionQuery( "from Book order by title", Book.class )
+						.getKeyedResultList( KeyedPage.first( 10, Key.asc( "id" ) ) )
+		).isInstanceOf( IllegalArgumentException.class ) );
+	}
+
+	@Test
+	public void testDistinctAndGroupBy(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			assertThatThrownBy(
+					() -> session.createSelectionQuery( "select distinct b.publicationYear from Book b", Integer.class )
+							.getKeyedResultList( KeyedPage.first( 10, Key.asc( "id" ) ) )
+			).isInstanceOf( UnsupportedOperationException.class );
+			assertThatThrownBy(
+					() -> session.createSelectionQuery(
+									"select b.publicationYear, count(*) from Book b group by b.publicationYear",
+									Object[].class
+							)
+							.getKeyedResultList( KeyedPage.first( 10, Key.asc( "publicationYear" ) ) )
+			).isInstanceOf( UnsupportedOperationException.class );
+		} );
+	}
+
+	@Test
+	public void testMixedSortOrder(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final List<Book> books = readAll(
+					session.createSelectionQuery( "from Book", Book.class ),
+					KeyedPage.first( 4, Key.desc( "publicationYear" ), Key.asc( "id" ) )
+			);
+			assertThat( books ).extracting( Book::getId ).containsExactlyElementsOf(
+					expectedIds( Comparator.comparing( Book::getPublicationYear ).reversed().thenComparing( Book::getId ) )
+			);
+		} );
+	}
+
+	@Test
+	public void testProjectionWithParameter(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final SelectionQuery<Object[]> query = session.createSelectionQuery(
+							"select b.title, b.publicationYear from Book b where b.publicationYear = :year",
+							Object[].class
+					)
+					.setParameter( "year", 2001 );
+			final List<Object[]> rows = readAll( query, KeyedPage.first( 2, Key.asc( "id" ) ) );
+			assertThat( rows ).extracting( row -> row[0] )
+					.containsExactly( "book 1", "book 6", "book 11", "book 16", "book 21" );
+			assertThat( rows ).allSatisfy( row -> assertThat( row ).containsExactly( row[0], 2001 ) );
+		} );
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void testUntypedProjection(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final SelectionQuery<Object[]> query = (SelectionQuery<Object[]>) session.createQuery(
+					"select b.title, b.publicationYear from Book b where b.publicationYear = 2002"
+			);
+			final List<Object[]> rows = readAll( query, KeyedPage.first( 2, Key.desc( "id" ) ) );
+			assertThat( rows ).extracting( row -> row[0] )
+					.containsExactly( "book 22", "book 17", "book 12", "book 7", "book 2" );
+			assertThat( rows ).allSatisfy( row -> assertThat( row ).hasSize( 2 ) );
+		} );
+	}
+
+	@Test
+	public void testCriteria(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final HibernateCriteriaBuilder builder = session.getCriteriaBuilder();
+			final JpaCriteriaQuery<Book> criteria = builder.createQuery( Book.class );
+			final JpaRoot<Book> root = criteria.from( Book.class );
+			criteria.where( builder.greaterThan( root.get( "id" ), builder.parameter( Integer.class, "min" ) ) );
+			final SelectionQuery<Book> query = session.createQuery( criteria ).setParameter( "min", 20 );
+			final List<Book> books = readAll( query, KeyedPage.first( 2, Key.desc( "id" ) ) );
+			assertThat( books ).extracting( Book::getId ).containsExactly( 25, 24, 23, 22, 21 );
+		} );
+	}
+
+	@Test
+	public void testResumeFromKey(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final KeyedResultList<Book> page = session.createSelectionQuery( "from Book", Book.class )
+					.getKeyedResultList( KeyedPage.first( 3, Key.asc( "id" ) ).after( List.of( 22 ) ) );
+			assertThat( page.getResultList() ).extracting( Book::getId ).containsExactly( 23, 24, 25 );
+			assertThat( page.hasNextPage() ).isFalse();
+		} );
+	}
+
+	@Test
+	public void testNativeQuery(SessionFactoryScope scope) {
+		scope.inTransaction( session -> assertThatThrownBy(
+				() -> session.createNativeQuery( "select * from Book", Book.class )
+						.getKeyedResultList( KeyedPage.first( 10, Key.asc( "id" ) ) )
+		).isInstanceOf( UnsupportedOperationException.class ) );
+	}
+
+	private static <R> List<R> readAll(SelectionQuery<R> query, KeyedPage firstPage) {
+		final List<R> results = new ArrayList<>();
+		KeyedPage page = firstPage;
+		while ( page != null ) {
+			final KeyedResultList<R> resultList = query.getKeyedResultList( page );
+			assertThat( resultList.getResultList().size() ).isLessThanOrEqualTo( firstPage.getSize() );
+			results.addAll( resultList.getResultList() );
+			page = resultList.getNextPage();
+		}
+		return results;
+	}
+
+	private static List<Integer> expectedIds(Comparator<Book> order) {
+		return IntStream.rangeClosed( 1, BOOKS )
+				.mapToObj( i -> new Book( i, "book " + i, 2000 + i % 5 ) )
+				.sorted( order )
+				.map( Book::getId )
+				.collect( Collectors.toList() );
+	}
+
+	@Entity(name = "Book")
+	public static class Book {
+		@Id
+		private Integer id;
+		private String title;
+		private int publicationYear;
+
+		public Book() {
+		}
+
+		public Book(Integer id, String title, int publicationYear) {
+			this.id = id;
+			this.title = title;
+			this.publicationYear = publicationYear;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public String getTitle() {
+			return title;
+		}
+
+		public int getPublicationYear() {
+			return publicationYear;
+		}
+	}
+}
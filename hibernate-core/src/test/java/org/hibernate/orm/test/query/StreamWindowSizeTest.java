@@ -0,0 +1,161 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.query;
+
+import java.util.stream.Stream;
+
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.jpa.HibernateHints;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.CascadeType;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link HibernateHints#HINT_STREAM_WINDOW_SIZE}
+ */
+@DomainModel(annotatedClasses = { StreamWindowSizeTest.Item.class, StreamWindowSizeTest.Category.class })
+@SessionFactory
+public class StreamWindowSizeTest {
+	private static final int ITEMS = 100;
+	private static final int WINDOW = 10;
+
+	@BeforeAll
+	public void createItems(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Category category = new Category( 1, "category" );
+			session.persist( category );
+			for ( int i = 1; i <= ITEMS; i++ ) {
+				final Item item = new Item( i, "item " + i );
+				item.category = category;
+				session.persist( item );
+			}
+		} );
+	}
+
+	@AfterAll
+	public void dropItems(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.createMutationQuery( "delete from Item" ).executeUpdate();
+			session.createMutationQuery( "delete from Category" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testStream(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Item managed = session.find( Item.class, 1 );
+			final int[] count = new int[1];
+			try ( Stream<Item> items = session.createSelectionQuery( "from Item order by id", Item.class )
+					.setHint( HibernateHints.HINT_STREAM_WINDOW_SIZE, WINDOW )
+					.stream() ) {
+				items.forEach( item -> {
+					count[0]++;
+					assertThat( session.contains( item ) ).isTrue();
+					assertThat( session.getPersistenceContext().getNumberOfManagedEntities() )
+							.isLessThanOrEqualTo( 2 * WINDOW + 1 );
+				} );
+			}
+			assertThat( count[0] ).isEqualTo( ITEMS );
+			// entities managed before the query are never evicted
+			assertThat( session.contains( managed ) ).isTrue();
+		} );
+	}
+
+	@Test
+	public void testAssociationManagedBeforeQuery(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Category category = session.find( Category.class, 1 );
+			try ( Stream<Item> items = session.createSelectionQuery( "from Item order by id", Item.class )
+					.setHint( HibernateHints.HINT_STREAM_WINDOW_SIZE, WINDOW )
+					.stream() ) {
+				items.forEach( item -> assertThat( item.category ).isSameAs( category ) );
+			}
+			// the eviction of the streamed items does not cascade to the category
+			assertThat( session.contains( category ) ).isTrue();
+		} );
+	}
+
+	@Test
+	public void testScroll(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			try ( ScrollableResults<Item> results = session.createSelectionQuery( "from Item order by id", Item.class )
+					.setHint( HibernateHints.HINT_STREAM_WINDOW_SIZE, WINDOW )
+					.scroll( ScrollMode.FORWARD_ONLY ) ) {
+				Item first = null;
+				int count = 0;
+				while ( results.next() ) {
+					if ( first == null ) {
+						first = results.get();
+					}
+					count++;
+					assertThat( session.getPersistenceContext().getNumberOfManagedEntities() )
+							.isLessThanOrEqualTo( 2 * WINDOW );
+				}
+				assertThat( count ).isEqualTo( ITEMS );
+				assertThat( session.contains( first ) ).isFalse();
+			}
+		} );
+	}
+
+	@Test
+	public void testWithoutWindow(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			try ( Stream<Item> items = session.createSelectionQuery( "from Item", Item.class ).stream() ) {
+				assertThat( items.count() ).isEqualTo( ITEMS );
+			}
+			assertThat( session.getPersistenceContext().getNumberOfManagedEntities() ).isEqualTo( ITEMS );
+		} );
+	}
+
+	@Entity(name = "Item")
+	public static class Item {
+		@Id
+		Integer id;
+
+		String name;
+
+		@ManyToOne(fetch = FetchType.LAZY, cascade = CascadeType.DETACH)
+		Category category;
+
+		public Item() {
+		}
+
+		public Item(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Category")
+	public static class Category {
+		@Id
+		Integer id;
+
+		String name;
+
+		public Category() {
+		}
+
+		public Category(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,85 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.stat.internal;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.query.spi.QueryInterpretationCache;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@value AvailableSettings#QUERY_PLAN_CACHE_EVICTION_POLICY}
+ */
+@DomainModel(annotatedClasses = TinyLfuQueryPlanCacheStatisticsTest.Employee.class)
+@ServiceRegistry(settings = {
+		@Setting(name = AvailableSettings.GENERATE_STATISTICS, value = "true"),
+		@Setting(name = AvailableSettings.QUERY_PLAN_CACHE_MAX_SIZE, value = "5"),
+		@Setting(name = AvailableSettings.QUERY_PLAN_CACHE_EVICTION_POLICY, value = "tinylfu")
+})
+@SessionFactory
+public class TinyLfuQueryPlanCacheStatisticsTest {
+
+	private Statistics statistics;
+
+	@BeforeEach
+	public void cleanup(SessionFactoryScope scope) {
+		final SessionFactoryImplementor sessionFactory = scope.getSessionFactory();
+		statistics = sessionFactory.getStatistics();
+		statistics.clear();
+		sessionFactory.getQueryEngine().getInterpretationCache().close();
+	}
+
+	@Test
+	public void testHitsAndMisses(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.createQuery( "select e from Employee e", Employee.class ).getResultList();
+			assertThat( statistics.getQueryPlanCacheHitCount() ).isEqualTo( 0 );
+			assertThat( statistics.getQueryPlanCacheMissCount() ).isGreaterThan( 0 );
+
+			final long misses = statistics.getQueryPlanCacheMissCount();
+			session.createQuery( "select e from Employee e", Employee.class ).getResultList();
+			assertThat( statistics.getQueryPlanCacheHitCount() ).isGreaterThan( 0 );
+			assertThat( statistics.getQueryPlanCacheMissCount() ).isEqualTo( misses );
+			assertThat( statistics.getQueryPlanCacheEvictionCount() ).isEqualTo( 0 );
+		} );
+	}
+
+	@Test
+	public void testEvictions(SessionFactoryScope scope) {
+		final QueryInterpretationCache interpretationCache = scope.getSessionFactory()
+				.getQueryEngine()
+				.getInterpretationCache();
+		scope.inTransaction( session -> {
+			for ( int i = 0; i < 20; i++ ) {
+				session.createQuery( "select e from Employee e where e.id > " + i, Employee.class ).getResultList();
+			}
+		} );
+		assertThat( interpretationCache.getNumberOfCachedHqlInterpretations() ).isLessThanOrEqualTo( 5 );
+		assertThat( interpretationCache.getNumberOfCachedQueryPlans() ).isLessThanOrEqualTo( 5 );
+		assertThat( statistics.getQueryPlanCacheEvictionCount() ).isGreaterThanOrEqualTo( 30 );
+	}
+
+	@Entity(name = "Employee")
+	public static class Employee {
+		@Id
+		private Long id;
+		private String name;
+	}
+}
@@ -0,0 +1,192 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.stateless;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.exception.ConstraintViolationException;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for {@link org.hibernate.StatelessSession#bulkInsert}
+ */
+@DomainModel(annotatedClasses = {
+		StatelessSessionBulkInsertTest.Measurement.class,
+		StatelessSessionBulkInsertTest.Station.class
+})
+@ServiceRegistry(settings = {
+		// so we can force in-db not-null constraint violations
+		@Setting(name = AvailableSettings.CHECK_NULLABILITY, value = "false")
+})
+@SessionFactory
+public class StatelessSessionBulkInsertTest {
+
+	@AfterEach
+	public void cleanup(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.createMutationQuery( "delete Measurement" ).executeUpdate();
+			session.createMutationQuery( "delete Station" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testBulkInsert(SessionFactoryScope scope) {
+		final LocalDateTime time = LocalDateTime.of( 2023, 1, 1, 12, 30 );
+		final AtomicBoolean closed = new AtomicBoolean();
+		scope.inStatelessTransaction( session -> {
+			final Stream<Object> entities = IntStream.rangeClosed( 1, 25 ).mapToObj( i -> i % 5 == 0
+					? new Station( i, "station\t" + i + "\n\\" )
+					: new Measurement( "sensor" + i, time.plusMinutes( i ), BigDecimal.valueOf( i, 2 ), new byte[] { (byte) i, -1 } )
+			);
+			assertThat( session.bulkInsert( entities.onClose( () -> closed.set( true ) ), 10 ) ).isEqualTo( 25 );
+		} );
+		assertThat( closed ).isTrue();
+
+		scope.inTransaction( session -> {
+			final List<Measurement> measurements = session.createSelectionQuery(
+					"from Measurement order by time",
+					Measurement.class
+			).getResultList();
+			assertThat( measurements ).hasSize( 20 );
+			for ( Measurement measurement : measurements ) {
+				final int i = Integer.parseInt( measurement.sensor.substring( "sensor".length() ) );
+				assertThat( measurement.id ).isNotNull();
+				assertThat( measurement.time ).isEqualTo( time.plusMinutes( i ) );
+				assertThat( measurement.value ).isEqualByComparingTo( BigDecimal.valueOf( i, 2 ) );
+				assertThat( measurement.raw ).containsExactly( (byte) i, -1 );
+			}
+
+			final List<Station> stations = session.createSelectionQuery( "from Station order by id", Station.class )
+					.getResultList();
+			assertThat( stations ).extracting( station -> station.name )
+					.containsExactly( "station\t5\n\\", "station\t10\n\\", "station\t15\n\\", "station\t20\n\\", "station\t25\n\\" );
+		} );
+	}
+
+	@Test
+	public void testChunks(SessionFactoryScope scope) {
+		scope.inStatelessTransaction( session -> {
+			final Iterator<Station> stations = new Iterator<>() {
+				private int count;
+
+				@Override
+				public boolean hasNext() {
+					return count < 35;
+				}
+
+				@Override
+				public Station next() {
+					// every full chunk was written before the next entity is requested
+					final Long written = session.createSelectionQuery( "select count(*) from Station", Long.class )
+							.getSingleResult();
+					assertThat( written ).isEqualTo( count / 10 * 10 );
+					count++;
+					return new Station( count, "station" + count );
+				}
+			};
+			assertThat( session.bulkInsert( stations, 10 ) ).isEqualTo( 35 );
+
+			// the remaining partial chunk was written, and the session can be used as usual
+			assertThat( session.createSelectionQuery( "select count(*) from Station", Long.class ).getSingleResult() )
+					.isEqualTo( 35L );
+			assertThat( session.getJdbcBatchSize() ).isNull();
+		} );
+	}
+
+	@Test
+	public void testFailure(SessionFactoryScope scope) {
+		scope.inStatelessSession( session -> {
+			session.getTransaction().begin();
+			try {
+				final Stream<Station> stations = IntStream.rangeClosed( 1, 12 )
+						.mapToObj( i -> new Station( i, i == 7 ? null : "station" + i ) );
+				assertThatThrownBy( () -> session.bulkInsert( stations, 5 ) )
+						.isInstanceOf( ConstraintViolationException.class );
+				assertThat( ( (SharedSessionContractImplementor) session ).getJdbcCoordinator()
+									.getLogicalConnection()
+									.getResourceRegistry()
+									.hasRegisteredResources() ).isFalse();
+			}
+			finally {
+				session.getTransaction().rollback();
+			}
+		} );
+
+		scope.inTransaction( session -> assertThat( session.createSelectionQuery( "from Station", Station.class ).getResultList() )
+				.isEmpty() );
+	}
+
+	@Entity(name = "Measurement")
+	@Table(name = "bulk_measurement")
+	public static class Measurement {
+		@Id
+		@GeneratedValue
+		Long id;
+
+		String sensor;
+
+		@Column(name = "measured_at")
+		LocalDateTime time;
+
+		@Column(name = "measured_value", precision = 10, scale = 2)
+		BigDecimal value;
+
+		byte[] raw;
+
+		public Measurement() {
+		}
+
+		public Measurement(String sensor, LocalDateTime time, BigDecimal value, byte[] raw) {
+			this.sensor = sensor;
+			this.time = time;
+			this.value = value;
+			this.raw = raw;
+		}
+	}
+
+	@Entity(name = "Station")
+	@Table(name = "bulk_station")
+	public static class Station {
+		@Id
+		Integer id;
+
+		@Column(nullable = false)
+		String name;
+
+		public Station() {
+		}
+
+		public Station(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,305 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.stateless;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.hibernate.HibernateException;
+import org.hibernate.TransientObjectException;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.DiscriminatorValue;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Inheritance;
+import jakarta.persistence.InheritanceType;
+import jakarta.persistence.Version;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for {@link org.hibernate.StatelessSession#insertMultiple},
+ * {@link org.hibernate.StatelessSession#updateMultiple} and
+ * {@link org.hibernate.StatelessSession#upsert}
+ */
+@DomainModel(annotatedClasses = {
+		StatelessSessionMultipleMutationTest.Item.class,
+		StatelessSessionMultipleMutationTest.Book.class,
+		StatelessSessionMultipleMutationTest.Account.class,
+		StatelessSessionMultipleMutationTest.Animal.class,
+		StatelessSessionMultipleMutationTest.Dog.class,
+		StatelessSessionMultipleMutationTest.Document.class
+})
+@ServiceRegistry(settings = {
+		@Setting(name = AvailableSettings.GENERATE_STATISTICS, value = "true"),
+		@Setting(name = AvailableSettings.STATEMENT_BATCH_SIZE, value = "10")
+})
+@SessionFactory
+public class StatelessSessionMultipleMutationTest {
+
+	@AfterEach
+	public void cleanup(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.createMutationQuery( "delete Item" ).executeUpdate();
+			session.createMutationQuery( "delete Account" ).executeUpdate();
+			session.createMutationQuery( "delete Animal" ).executeUpdate();
+			session.createMutationQuery( "delete Document" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testInsertAndUpdateMultiple(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		final List<Item> items = IntStream.rangeClosed( 1, 5 )
+				.mapToObj( i -> new Item( i, "item " + i ) )
+				.collect( Collectors.toList() );
+
+		scope.inStatelessTransaction( session -> {
+			statistics.clear();
+			session.insertMultiple( items );
+			// the statement is prepared once for the whole batch
+			assertThat( statistics.getPrepareStatementCount() ).isEqualTo( 1 );
+		} );
+		assertThat( names( scope ) ).containsExactly( "item 1", "item 2", "item 3", "item 4", "item 5" );
+
+		items.forEach( item -> item.name = item.name.toUpperCase() );
+		scope.inStatelessTransaction( session -> {
+			statistics.clear();
+			session.updateMultiple( items );
+			assertThat( statistics.getPrepareStatementCount() ).isEqualTo( 1 );
+		} );
+		assertThat( names( scope ) ).containsExactly( "ITEM 1", "ITEM 2", "ITEM 3", "ITEM 4", "ITEM 5" );
+	}
+
+	@Test
+	public void testUpsert(SessionFactoryScope scope) {
+		scope.inStatelessTransaction( session -> session.upsert( new Item( 1, "first" ) ) );
+		assertThat( names( scope ) ).containsExactly( "first" );
+
+		scope.inStatelessTransaction( session -> {
+			session.upsert( new Item( 1, "second" ) );
+			session.upsert( new Item( 2, "third" ) );
+		} );
+		assertThat( names( scope ) ).containsExactly( "second", "third" );
+	}
+
+	@Test
+	public void testUpsertMultiple(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		scope.inStatelessTransaction( session -> session.insert( new Item( 2, "old" ) ) );
+
+		scope.inStatelessTransaction( session -> {
+			statistics.clear();
+			session.upsertMultiple( List.of( new Item( 1, "one" ), new Item( 2, "two" ), new Item( 3, "three" ) ) );
+			if ( scope.getSessionFactory().getJdbcServices().getDialect() instanceof H2Dialect ) {
+				// a single merge statement, executed as a batch
+				assertThat( statistics.getPrepareStatementCount() ).isEqualTo( 1 );
+			}
+		} );
+		assertThat( names( scope ) ).containsExactly( "one", "two", "three" );
+	}
+
+	@Test
+	public void testUpsertDiscriminator(SessionFactoryScope scope) {
+		scope.inStatelessTransaction( session -> {
+			session.upsert( new Book( 1, "book", "isbn" ) );
+			session.upsert( new Book( 1, "book", "other isbn" ) );
+		} );
+		scope.inTransaction( session -> {
+			final Item item = session.find( Item.class, 1 );
+			assertThat( item ).isInstanceOf( Book.class );
+			assertThat( ( (Book) item ).isbn ).isEqualTo( "other isbn" );
+		} );
+	}
+
+	@Test
+	public void testUpsertVersioned(SessionFactoryScope scope) {
+		final Account account = new Account( 1, 100 );
+		scope.inStatelessTransaction( session -> session.upsert( account ) );
+		assertThat( account.version ).isNotNull();
+		final Integer initialVersion = account.version;
+
+		account.balance = 200;
+		scope.inStatelessTransaction( session -> session.upsert( account ) );
+		assertThat( account.version ).isEqualTo( initialVersion + 1 );
+
+		scope.inTransaction( session -> {
+			final Account loaded = session.find( Account.class, 1 );
+			assertThat( loaded.balance ).isEqualTo( 200 );
+			assertThat( loaded.version ).isEqualTo( initialVersion + 1 );
+		} );
+	}
+
+	@Test
+	public void testUpsertStaleVersion(SessionFactoryScope scope) {
+		final Account account = new Account( 1, 100 );
+		scope.inStatelessTransaction( session -> session.upsert( account ) );
+		final Account stale = new Account( 1, 300 );
+		stale.version = account.version;
+
+		account.balance = 200;
+		scope.inStatelessTransaction( session -> session.upsert( account ) );
+
+		// the row was modified since the stale copy was read
+		assertThatThrownBy( () -> scope.inStatelessTransaction( session -> session.upsert( stale ) ) )
+				.isInstanceOf( HibernateException.class );
+		scope.inTransaction( session -> assertThat( session.find( Account.class, 1 ).balance ).isEqualTo( 200 ) );
+	}
+
+	@Test
+	public void testCanMerge(SessionFactoryScope scope) {
+		assertThat( scope.getSessionFactory().getMappingMetamodel().getEntityDescriptor( Account.class ).canMerge() )
+				.isTrue();
+	}
+
+	@Test
+	public void testUpsertTableWithoutValues(SessionFactoryScope scope) {
+		// the subclass table has only the key column
+		scope.inStatelessTransaction( session -> session.upsert( new Dog( 1, "rex" ) ) );
+		scope.inStatelessTransaction( session -> session.upsert( new Dog( 1, "max" ) ) );
+		scope.inTransaction( session -> {
+			final Animal animal = session.find( Animal.class, 1 );
+			assertThat( animal ).isInstanceOf( Dog.class );
+			assertThat( animal.name ).isEqualTo( "max" );
+		} );
+	}
+
+	@Test
+	public void testUpsertInsertOnlyColumn(SessionFactoryScope scope) {
+		scope.inStatelessTransaction( session -> session.upsert( new Document( 1, "first", "alice" ) ) );
+		scope.inTransaction( session -> {
+			final Document document = session.find( Document.class, 1 );
+			assertThat( document.title ).isEqualTo( "first" );
+			assertThat( document.createdBy ).isEqualTo( "alice" );
+		} );
+
+		// the column which is not updatable keeps its value
+		scope.inStatelessTransaction( session -> session.upsert( new Document( 1, "second", "bob" ) ) );
+		scope.inTransaction( session -> {
+			final Document document = session.find( Document.class, 1 );
+			assertThat( document.title ).isEqualTo( "second" );
+			assertThat( document.createdBy ).isEqualTo( "alice" );
+		} );
+	}
+
+	@Test
+	public void testUpsertNullIdentifier(SessionFactoryScope scope) {
+		scope.inStatelessTransaction( session -> assertThatThrownBy( () -> session.upsert( new Item( null, "none" ) ) )
+				.isInstanceOf( TransientObjectException.class ) );
+	}
+
+	private static List<String> names(SessionFactoryScope scope) {
+		return scope.fromTransaction( session -> session.createSelectionQuery(
+				"select name from Item order by id",
+				String.class
+		).getResultList() );
+	}
+
+	@Entity(name = "Item")
+	public static class Item {
+		@Id
+		private Integer id;
+		private String name;
+
+		public Item() {
+		}
+
+		public Item(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Book")
+	@DiscriminatorValue("B")
+	public static class Book extends Item {
+		private String isbn;
+
+		public Book() {
+		}
+
+		public Book(Integer id, String name, String isbn) {
+			super( id, name );
+			this.isbn = isbn;
+		}
+	}
+
+	@Entity(name = "Account")
+	public static class Account {
+		@Id
+		private Integer id;
+		private int balance;
+		@Version
+		private Integer version;
+
+		public Account() {
+		}
+
+		public Account(Integer id, int balance) {
+			this.id = id;
+			this.balance = balance;
+		}
+	}
+
+	@Entity(name = "Animal")
+	@Inheritance(strategy = InheritanceType.JOINED)
+	public static class Animal {
+		@Id
+		private Integer id;
+		private String name;
+
+		public Animal() {
+		}
+
+		public Animal(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Dog")
+	public static class Dog extends Animal {
+		public Dog() {
+		}
+
+		public Dog(Integer id, String name) {
+			super( id, name );
+		}
+	}
+
+	@Entity(name = "Document")
+	public static class Document {
+		@Id
+		private Integer id;
+		private String title;
+		@Column(updatable = false)
+		private String createdBy;
+
+		public Document() {
+		}
+
+		public Document(Integer id, String title, String createdBy) {
+			this.id = id;
+			this.title = title;
+			this.createdBy = createdBy;
+		}
+	}
+}
@@ -0,0 +1,138 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.internal.util.collections.TinyLfuConcurrentMap;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TinyLfuConcurrentMapTest {
+
+	@Test
+	public void testMapOperations() {
+		final TinyLfuConcurrentMap<String, Integer> map = new TinyLfuConcurrentMap<>( 10 );
+		assertThat( map.put( "one", 1 ) ).isNull();
+		assertThat( map.put( "one", 11 ) ).isEqualTo( 1 );
+		assertThat( map.putIfAbsent( "one", 111 ) ).isEqualTo( 11 );
+		assertThat( map.putIfAbsent( "two", 2 ) ).isNull();
+		assertThat( map.computeIfAbsent( "three", key -> 3 ) ).isEqualTo( 3 );
+		assertThat( map.computeIfAbsent( "three", key -> 33 ) ).isEqualTo( 3 );
+		assertThat( map ).hasSize( 3 ).containsEntry( "one", 11 ).containsEntry( "two", 2 );
+
+		assertThat( map.replace( "two", 22 ) ).isEqualTo( 2 );
+		assertThat( map.replace( "two", 2, 222 ) ).isFalse();
+		assertThat( map.replace( "two", 22, 222 ) ).isTrue();
+		assertThat( map.replace( "four", 4 ) ).isNull();
+		assertThat( map.get( "two" ) ).isEqualTo( 222 );
+
+		assertThat( map.remove( "one", 1 ) ).isFalse();
+		assertThat( map.remove( "one", 11 ) ).isTrue();
+		assertThat( map.remove( "two" ) ).isEqualTo( 222 );
+		assertThat( map.remove( "two" ) ).isNull();
+		assertThat( map ).hasSize( 1 ).containsOnlyKeys( "three" );
+
+		map.clear();
+		assertThat( map ).isEmpty();
+		map.put( "five", 5 );
+		assertThat( map ).containsOnlyKeys( "five" );
+	}
+
+	@Test
+	public void testMaximumSize() {
+		final AtomicInteger evictions = new AtomicInteger();
+		final TinyLfuConcurrentMap<Integer, Integer> map = new TinyLfuConcurrentMap<>(
+				100,
+				(key, value) -> evictions.incrementAndGet()
+		);
+		for ( int i = 0; i < 1000; i++ ) {
+			map.put( i, i );
+			assertThat( map.size() ).isLessThanOrEqualTo( 100 );
+		}
+		assertThat( map ).hasSize( 100 );
+		assertThat( evictions.get() ).isEqualTo( 900 );
+
+		// explicit removals are not evictions
+		map.clear();
+		map.put( 1, 1 );
+		map.remove( 1 );
+		assertThat( evictions.get() ).isEqualTo( 900 );
+	}
+
+	@Test
+	public void testFrequentlyUsedEntriesSurviveScans() {
+		final TinyLfuConcurrentMap<Integer, Integer> map = new TinyLfuConcurrentMap<>( 100 );
+		for ( int i = 0; i < 50; i++ ) {
+			map.put( i, i );
+		}
+		for ( int round = 0; round < 10; round++ ) {
+			for ( int i = 0; i < 50; i++ ) {
+				map.get( i );
+			}
+		}
+		// a scan of keys which are used only once
+		for ( int i = 1000; i < 10_000; i++ ) {
+			map.put( i, i );
+		}
+		int retained = 0;
+		for ( int i = 0; i < 50; i++ ) {
+			if ( map.containsKey( i ) ) {
+				retained++;
+			}
+		}
+		assertThat( retained ).isGreaterThanOrEqualTo( 45 );
+		assertThat( map ).hasSize( 100 );
+	}
+
+	@Test
+	public void testConcurrentAccess() throws Exception {
+		final TinyLfuConcurrentMap<Integer, Integer> map = new TinyLfuConcurrentMap<>( 500 );
+		final ExecutorService executor = Executors.newFixedThreadPool( 8 );
+		try {
+			final List<Future<?>> futures = new ArrayList<>();
+			for ( int t = 0; t < 8; t++ ) {
+				futures.add( executor.submit( () -> {
+					final ThreadLocalRandom random = ThreadLocalRandom.current();
+					for ( int i = 0; i < 200_000; i++ ) {
+						final int key = random.nextInt( 2_000 );
+						switch ( random.nextInt( 10 ) ) {
+							case 0:
+								map.put( key, key );
+								break;
+							case 1:
+								map.remove( key );
+								break;
+							default:
+								final Integer value = map.computeIfAbsent( key, k -> k );
+								assertThat( value ).isEqualTo( key );
+						}
+					}
+				} ) );
+			}
+			for ( Future<?> future : futures ) {
+				future.get( 1, TimeUnit.MINUTES );
+			}
+		}
+		finally {
+			executor.shutdownNow();
+		}
+		// once things settle, the bound is respected
+		map.put( -1, -1 );
+		assertThat( map.size() ).isLessThanOrEqualTo( 500 );
+		map.forEach( (key, value) -> assertThat( value ).isEqualTo( key ) );
+	}
+}
@@ -13,6 +13,7 @@ import java.util.Map;
 import java.util.Set;
 
 import org.hibernate.HibernateException;
+import org.hibernate.Incubating;
 import org.hibernate.envers.exception.AuditException;
 import org.hibernate.envers.exception.NotAuditedException;
 import org.hibernate.envers.exception.RevisionDoesNotExistException;
@@ -316,4 +317,25 @@ public interface AuditReader {
 	 * </ul>
 	 */
 	CrossTypeRevisionChangesReader getCrossTypeRevisionChangesReader() throws AuditException;
+
+	/**
+	 * Writes the audit rows of the audit data stored in the audit outbox, when
+	 * <code>org.hibernate.envers.use_audit_outbox</code> is enabled. Each revision is drained in its own
+	 * transaction, independently of the session or entity manager of this AuditReader, in revision order,
+	 * up to the first revision which is more recent than <code>org.hibernate.envers.audit_outbox_drain_delay</code>.
+	 * Audit data stored in the outbox is only visible to queries once drained. A revision whose audit data
+	 * can't be read is quarantined in the outbox, and skipped.
+	 *
+	 * @return The number of outbox entries which were drained.
+	 *
+	 * @throws AuditException If the audit outbox is not enabled, or if a revision was committed after a later
+	 * revision was drained, in which case the revision is quarantined in the outbox.
+	 * @throws IllegalStateException If the associated entity manager is closed.
+	 *
+	 * @since 6.2
+	 */
+	@Incubating
+	default int drainAuditOutbox() throws AuditException {
+		throw new AuditException( "Draining the audit outbox is not supported by this AuditReader" );
+	}
 }
@@ -20,6 +20,8 @@ import org.hibernate.envers.event.spi.EnversPostUpdateEventListenerImpl;
 import org.hibernate.envers.event.spi.EnversPreCollectionRemoveEventListenerImpl;
 import org.hibernate.envers.event.spi.EnversPreCollectionUpdateEventListenerImpl;
 import org.hibernate.envers.event.spi.EnversPreUpdateEventListenerImpl;
+import org.hibernate.envers.internal.synchronization.AuditOutbox;
+import org.hibernate.envers.internal.synchronization.AuditOutboxDrainer;
 import org.hibernate.event.service.spi.EventListenerRegistry;
 import org.hibernate.event.spi.EventType;
 import org.hibernate.integrator.spi.Integrator;
@@ -115,6 +117,13 @@ public class EnversIntegrator implements Integrator {
 					new EnversPreCollectionUpdateEventListenerImpl( enversService )
 			);
 		}
+
+		// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+		// Write the audit rows stored in the audit outbox, if enabled
+		if ( enversService.getConfig().isAuditOutboxEnabled() ) {
+			AuditOutbox.validatePayloadTypes( metadata, enversService.getEntitiesConfigurations().getAuditEntityNames() );
+			sessionFactory.addObserver( new AuditOutboxDrainer( enversService.getConfig() ) );
+		}
 	}
 
 	@Override
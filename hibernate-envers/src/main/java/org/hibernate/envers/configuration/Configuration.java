@@ -24,6 +24,7 @@ import org.hibernate.envers.boot.internal.EnversService;
 import org.hibernate.envers.boot.internal.LegacyModifiedColumnNamingStrategy;
 import org.hibernate.envers.boot.spi.ModifiedColumnNamingStrategy;
 import org.hibernate.envers.configuration.internal.RevisionInfoConfiguration;
+import org.hibernate.envers.internal.synchronization.AuditOutboxStrategy;
 import org.hibernate.envers.internal.tools.ReflectionTools;
 import org.hibernate.envers.internal.tools.StringTools;
 import org.hibernate.envers.strategy.AuditStrategy;
@@ -61,6 +62,7 @@ public class Configuration {
 	private final Class<? extends RevisionListener> revisionListenerClass;
 
 	private final AuditStrategy auditStrategy;
+	private final AuditStrategy auditOutboxStrategy;
 	private final ModifiedColumnNamingStrategy modifiedColumnNamingStrategy;
 
 	private final boolean nativeIdEnabled;
@@ -92,6 +94,11 @@ public class Configuration {
 	private final boolean revisionEndTimestampNumeric;
 	private final boolean revisionEndTimestampUseLegacyPlacement;
 	private final boolean revisionSequenceNoCache;
+	private final int auditWriteBatchSize;
+	private final boolean auditOutboxEnabled;
+	private final long auditOutboxDrainInterval;
+	private final long auditOutboxDrainDelay;
+	private final int relationBatchFetchSize;
 
 	private final Map<String, String> customAuditTableNames = new HashMap<>();
 
@@ -114,6 +121,8 @@ public class Configuration {
 		final StrategySelector strategySelector = enversService.getServiceRegistry().getService( StrategySelector.class );
 		modifiedColumnNamingStrategy = resolveModifiedColumnNamingStrategy( configProps, strategySelector );
 		auditStrategy = resolveAuditStrategy( configProps, strategySelector );
+		auditOutboxEnabled = configProps.getBoolean( EnversSettings.USE_AUDIT_OUTBOX, false );
+		auditOutboxStrategy = auditOutboxEnabled ? new AuditOutboxStrategy( auditStrategy ) : null;
 
 		nativeIdEnabled = configProps.getBoolean( EnversSettings.USE_REVISION_ENTITY_WITH_NATIVE_ID, true );
 		allowIdentifierReuse = configProps.getBoolean( EnversSettings.ALLOW_IDENTIFIER_REUSE, false );
@@ -180,6 +189,10 @@ public class Configuration {
 				EnversSettings.REVISION_SEQUENCE_NOCACHE,
 				false
 		);
+		auditWriteBatchSize = configProps.getInt( EnversSettings.AUDIT_WRITE_BATCH_SIZE, 0 );
+		auditOutboxDrainInterval = configProps.getLong( EnversSettings.AUDIT_OUTBOX_DRAIN_INTERVAL, 1000L );
+		auditOutboxDrainDelay = configProps.getLong( EnversSettings.AUDIT_OUTBOX_DRAIN_DELAY, 5000L );
+		relationBatchFetchSize = configProps.getInt( EnversSettings.RELATION_BATCH_FETCH_SIZE, 0 );
 
 		revisionPropertyBasePath = originalIdPropertyName + "." + revisionFieldName + ".";
 		revisionNumberPath = revisionPropertyBasePath + "id";
@@ -254,6 +267,26 @@ public class Configuration {
 		return revisionSequenceNoCache;
 	}
 
+	public int getAuditWriteBatchSize() {
+		return auditWriteBatchSize;
+	}
+
+	public boolean isAuditOutboxEnabled() {
+		return auditOutboxEnabled;
+	}
+
+	public long getAuditOutboxDrainInterval() {
+		return auditOutboxDrainInterval;
+	}
+
+	public long getAuditOutboxDrainDelay() {
+		return auditOutboxDrainDelay;
+	}
+
+	public int getRelationBatchFetchSize() {
+		return relationBatchFetchSize;
+	}
+
 	public String getDefaultCatalogName() {
 		return defaultCatalogName;
 	}
@@ -353,6 +386,14 @@ public class Configuration {
 	}
 
 	public AuditStrategy getAuditStrategy() {
+		return auditOutboxStrategy != null ? auditOutboxStrategy : auditStrategy;
+	}
+
+	/**
+	 * Get the configured audit strategy, which writes the audit rows, even when audit data is captured
+	 * through the audit outbox.
+	 */
+	public AuditStrategy getAuditWritingStrategy() {
 		return auditStrategy;
 	}
 
@@ -437,6 +478,14 @@ public class Configuration {
 			return ConfigurationHelper.getBoolean( propertyName, properties, defaultValue );
 		}
 
+		int getInt(String propertyName, int defaultValue) {
+			return ConfigurationHelper.getInt( propertyName, properties, defaultValue );
+		}
+
+		long getLong(String propertyName, long defaultValue) {
+			return ConfigurationHelper.getLong( propertyName, properties, defaultValue );
+		}
+
 		boolean getBooleanWithFallback(String basePropertyName, String newPropertyName, boolean defaultValue) {
 			if ( !properties.containsKey( basePropertyName ) ) {
 				return getBoolean( newPropertyName, defaultValue );
@@ -186,6 +186,69 @@ public interface EnversSettings {
 	 */
 	String GLOBAL_RELATION_NOT_FOUND_LEGACY_FLAG = "org.hibernate.envers.global_relation_not_found_legacy_flag";
 
+	/**
+	 * The maximum number of audit rows written by a single JDBC batch. When greater than {@code 0}, the audit
+	 * rows of a transaction are grouped by audit table and written in JDBC batches of this size, and the
+	 * validity audit strategy sets the end revision of the previous audit rows of up to this many entities
+	 * with a single {@code UPDATE} statement.
+	 *
+	 * Defaults to {@literal 0}, meaning that audit rows are written using the JDBC batch size of the session.
+	 *
+	 * @since 6.2
+	 */
+	String AUDIT_WRITE_BATCH_SIZE = "org.hibernate.envers.audit_write_batch_size";
+
+	/**
+	 * Whether audit data should be written asynchronously through an outbox. When enabled, the audit data of a
+	 * transaction is stored in the {@code REVOUTBOX} table as part of that transaction, and the audit rows are
+	 * written later by a background drainer, one revision at a time and in revision order. The entries of a
+	 * revision which can't be drained are kept in the outbox with the status {@literal 2} and the cause of the
+	 * failure, for the application to repair or delete them.
+	 *
+	 * Defaults to {@literal false}.
+	 *
+	 * @since 6.2
+	 */
+	String USE_AUDIT_OUTBOX = "org.hibernate.envers.use_audit_outbox";
+
+	/**
+	 * The number of milliseconds the background drainer waits between two drains of the audit outbox, when
+	 * {@link #USE_AUDIT_OUTBOX} is enabled. A value of {@literal 0} or less disables the background drainer,
+	 * in which case the outbox must be drained by the application.
+	 *
+	 * Defaults to {@literal 1000}.
+	 *
+	 * @since 6.2
+	 */
+	String AUDIT_OUTBOX_DRAIN_INTERVAL = "org.hibernate.envers.audit_outbox_drain_interval";
+
+	/**
+	 * The number of milliseconds which must have elapsed since the audit data of a revision was stored in the audit
+	 * outbox before the revision is drained, when {@link #USE_AUDIT_OUTBOX} is enabled. Revisions are drained in
+	 * revision order, but the audited transactions may commit in a different order, so a revision is only drained
+	 * once the transactions of the previous revisions can be assumed to have committed. The delay should exceed the
+	 * time taken to commit an audited transaction, along with any clock difference between the nodes sharing the
+	 * outbox. A revision committed after a later revision was drained is never drained: it is quarantined, and the
+	 * drain fails.
+	 *
+	 * Defaults to {@literal 5000}.
+	 *
+	 * @since 6.2
+	 */
+	String AUDIT_OUTBOX_DRAIN_DELAY = "org.hibernate.envers.audit_outbox_drain_delay";
+
+	/**
+	 * The maximum number of audited entities referenced by to-one relations of historical entities which are
+	 * loaded by a single query. When greater than {@code 1}, initializing the proxy of a related entity at a
+	 * revision also loads the related entities of the other proxies created for the same entity type and
+	 * revision by the same {@link org.hibernate.envers.AuditReader}.
+	 *
+	 * Defaults to {@literal 0}, meaning that related entities are loaded one at a time.
+	 *
+	 * @since 6.2
+	 */
+	String RELATION_BATCH_FETCH_SIZE = "org.hibernate.envers.relation_batch_fetch_size";
+
 	/**
 	 * Whether to apply a nocache configuration for the revision sequence.
 	 * This is mostly interesting for testing.
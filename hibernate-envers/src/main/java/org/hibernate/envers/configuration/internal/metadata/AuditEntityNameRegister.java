@@ -6,6 +6,7 @@
  */
 package org.hibernate.envers.configuration.internal.metadata;
 
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.Set;
 
@@ -41,6 +42,13 @@ public class AuditEntityNameRegister {
 		auditEntityNames.add( auditEntityName );
 	}
 
+	/**
+	 * @return The names of all the registered audit entities.
+	 */
+	public Set<String> getAuditEntityNames() {
+		return Collections.unmodifiableSet( auditEntityNames );
+	}
+
 	/**
 	 * Creates a unique (not yet registered) audit entity name by appending consecutive numbers to the base
 	 * name. If the base name is not yet used, it is returned unmodified.
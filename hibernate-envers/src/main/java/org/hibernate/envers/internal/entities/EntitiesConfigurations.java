@@ -23,15 +23,18 @@ import java.util.Set;
 public class EntitiesConfigurations {
 	private Map<String, EntityConfiguration> entitiesConfigurations;
 	private Map<String, EntityConfiguration> notAuditedEntitiesConfigurations;
+	private final Set<String> auditEntityNames;
 
 	// Map versions entity name -> entity name
 	private Map<String, String> entityNamesForVersionsEntityNames = new HashMap<>();
 
 	public EntitiesConfigurations(
 			Map<String, EntityConfiguration> entitiesConfigurations,
-			Map<String, EntityConfiguration> notAuditedEntitiesConfigurations) {
+			Map<String, EntityConfiguration> notAuditedEntitiesConfigurations,
+			Set<String> auditEntityNames) {
 		this.entitiesConfigurations = entitiesConfigurations;
 		this.notAuditedEntitiesConfigurations = notAuditedEntitiesConfigurations;
+		this.auditEntityNames = auditEntityNames;
 
 		generateBidirectionRelationInfo();
 		generateVersionsEntityToEntityNames();
@@ -90,6 +93,13 @@ public class EntitiesConfigurations {
 		return entitiesConfigurations.size() != 0;
 	}
 
+	/**
+	 * @return The names of all the audit entities, including the middle entities of audited collections.
+	 */
+	public Set<String> getAuditEntityNames() {
+		return auditEntityNames;
+	}
+
 	public RelationDescription getRelationDescription(String entityName, String propertyName) {
 		final EntityConfiguration entCfg;
 		if ( isVersioned( entityName ) ) {
@@ -16,14 +16,14 @@ import java.util.Objects;
 import org.hibernate.HibernateException;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.envers.RevisionType;
-import org.hibernate.usertype.UserType;
+import org.hibernate.usertype.EnhancedUserType;
 
 /**
  * A hibernate type for the {@link RevisionType} enum.
  *
  * @author Adam Warski (adam at warski dot org)
  */
-public class RevisionTypeType implements UserType<RevisionType>, Serializable {
+public class RevisionTypeType implements EnhancedUserType<RevisionType>, Serializable {
 	private static final long serialVersionUID = -1053201518229282688L;
 
 	@Override
@@ -90,4 +90,19 @@ public class RevisionTypeType implements UserType<RevisionType>, Serializable {
 	public boolean equals(RevisionType x, RevisionType y) throws HibernateException {
 		return Objects.equals( x, y );
 	}
+
+	@Override
+	public String toSqlLiteral(RevisionType value) {
+		return toString( value );
+	}
+
+	@Override
+	public String toString(RevisionType value) throws HibernateException {
+		return Byte.toString( value.getRepresentation() );
+	}
+
+	@Override
+	public RevisionType fromStringValue(CharSequence sequence) throws HibernateException {
+		return RevisionType.fromRepresentation( Byte.parseByte( sequence.toString() ) );
+	}
 }
@@ -11,6 +11,7 @@ import java.io.Serializable;
 import org.hibernate.envers.boot.internal.EnversService;
 import org.hibernate.envers.internal.entities.mapper.relation.lazy.ToOneDelegateSessionImplementor;
 import org.hibernate.envers.internal.reader.AuditReaderImplementor;
+import org.hibernate.envers.internal.reader.ToOneBatchLoader;
 import org.hibernate.persister.entity.EntityPersister;
 
 /**
@@ -36,6 +37,10 @@ public final class ToOneEntityLoader {
 			// Audited relation, look up entity with Envers.
 			// When user traverses removed entities graph, do not restrict revision type of referencing objects
 			// to ADD or MOD (DEL possible). See HHH-5845.
+			final ToOneBatchLoader batchLoader = versionsReader.getToOneBatchLoader();
+			if ( batchLoader.isBatchable( entityName ) ) {
+				return batchLoader.load( entityClass, entityName, entityId, revision, removed );
+			}
 			return versionsReader.find( entityClass, entityName, entityId, revision, removed );
 		}
 		else {
@@ -59,6 +64,13 @@ public final class ToOneEntityLoader {
 				.getFactory()
 				.getMappingMetamodel()
 				.getEntityDescriptor( entityName );
+		if ( enversService.getEntitiesConfigurations().getNotVersionEntityConfiguration( entityName ) == null ) {
+			final ToOneBatchLoader batchLoader = versionsReader.getToOneBatchLoader();
+			if ( batchLoader.isBatchable( entityName ) ) {
+				// Loaded along with the other proxies of the same revision, when the first of them is initialized
+				batchLoader.addPendingId( entityName, entityId, revision, removed );
+			}
+		}
 		return persister.createProxy(
 				entityId,
 				new ToOneDelegateSessionImplementor( versionsReader, entityClass, entityId, revision, removed, enversService )
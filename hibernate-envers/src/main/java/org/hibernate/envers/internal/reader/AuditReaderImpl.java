@@ -25,6 +25,7 @@ import org.hibernate.envers.boot.internal.EnversService;
 import org.hibernate.envers.exception.AuditException;
 import org.hibernate.envers.exception.NotAuditedException;
 import org.hibernate.envers.exception.RevisionDoesNotExistException;
+import org.hibernate.envers.internal.synchronization.AuditOutboxDrainer;
 import org.hibernate.envers.internal.synchronization.AuditProcess;
 import org.hibernate.envers.query.AuditEntity;
 import org.hibernate.envers.query.AuditQueryCreator;
@@ -47,6 +48,7 @@ public class AuditReaderImpl implements AuditReaderImplementor {
 	private final SessionImplementor sessionImplementor;
 	private final Session session;
 	private final FirstLevelCache firstLevelCache;
+	private final ToOneBatchLoader toOneBatchLoader;
 	private final CrossTypeRevisionChangesReader crossTypeRevisionChangesReader;
 
 	public AuditReaderImpl(
@@ -58,6 +60,7 @@ public class AuditReaderImpl implements AuditReaderImplementor {
 		this.session = session;
 
 		firstLevelCache = new FirstLevelCache();
+		toOneBatchLoader = new ToOneBatchLoader( this, enversService.getConfig().getRelationBatchFetchSize() );
 		crossTypeRevisionChangesReader = new CrossTypeRevisionChangesReaderImpl( this, enversService );
 	}
 
@@ -82,6 +85,11 @@ public class AuditReaderImpl implements AuditReaderImplementor {
 		return firstLevelCache;
 	}
 
+	@Override
+	public ToOneBatchLoader getToOneBatchLoader() {
+		return toOneBatchLoader;
+	}
+
 	@Override
 	public <T> T find(Class<T> cls, Object primaryKey, Number revision) throws
 			IllegalArgumentException, NotAuditedException, IllegalStateException {
@@ -294,6 +302,17 @@ public class AuditReaderImpl implements AuditReaderImplementor {
 		return crossTypeRevisionChangesReader;
 	}
 
+	@Override
+	public int drainAuditOutbox() throws AuditException {
+		checkSession();
+		if ( !enversService.getConfig().isAuditOutboxEnabled() ) {
+			throw new AuditException(
+					"The audit outbox is not enabled. Set 'org.hibernate.envers.use_audit_outbox' parameter to true."
+			);
+		}
+		return new AuditOutboxDrainer( enversService.getConfig() ).drain( sessionImplementor.getSessionFactory() );
+	}
+
 	@Override
 	@SuppressWarnings("unchecked")
 	public <T> T getCurrentRevision(Class<T> revisionEntityClass, boolean persist) {
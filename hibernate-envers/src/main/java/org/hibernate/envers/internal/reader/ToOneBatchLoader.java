@@ -0,0 +1,130 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.envers.internal.reader;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.hibernate.envers.internal.tools.Triple;
+import org.hibernate.envers.query.AuditEntity;
+import org.hibernate.metamodel.mapping.BasicEntityIdentifierMapping;
+import org.hibernate.persister.entity.EntityPersister;
+
+import static org.hibernate.envers.internal.tools.Tools.newHashMap;
+import static org.hibernate.envers.internal.tools.Triple.make;
+
+/**
+ * Loads the audited entities referenced by to-one relations of historical entities in batches, versions
+ * reader-scoped. The identifiers of the proxies created for the same entity name, revision and deletion
+ * flag are collected, and initializing one of these proxies loads up to batch size of them with a single
+ * revision-restricted query.
+ *
+ * The loaded entities, as well as the identifiers which don't match any entity at the revision, are kept by
+ * entity name, revision, deletion flag and identifier, so that they are never queried twice.
+ */
+public class ToOneBatchLoader {
+	private final AuditReaderImplementor versionsReader;
+	private final int batchSize;
+
+	/**
+	 * identifiers of the uninitialized proxies, by entity name, revision and deletion flag.
+	 */
+	private final Map<Triple<String, Number, Boolean>, Set<Object>> pendingIds;
+
+	/**
+	 * loaded entities, or {@code null} if not found, by entity name, revision and deletion flag.
+	 */
+	private final Map<Triple<String, Number, Boolean>, Map<Object, Object>> loadedEntities;
+
+	public ToOneBatchLoader(AuditReaderImplementor versionsReader, int batchSize) {
+		this.versionsReader = versionsReader;
+		this.batchSize = batchSize;
+		pendingIds = newHashMap();
+		loadedEntities = newHashMap();
+	}
+
+	/**
+	 * @return {@code true} if the entities of the given entity name are loaded in batches
+	 */
+	public boolean isBatchable(String entityName) {
+		// Only simple identifiers can be restricted with an in-list
+		return batchSize > 1
+				&& getEntityPersister( entityName ).getIdentifierMapping() instanceof BasicEntityIdentifierMapping;
+	}
+
+	/**
+	 * Registers the identifier of a created proxy, to be loaded with the next batch of its entity name and revision.
+	 */
+	public void addPendingId(String entityName, Object id, Number revision, boolean removed) {
+		final Triple<String, Number, Boolean> key = make( entityName, revision, removed );
+		final Map<Object, Object> entities = loadedEntities.get( key );
+		if ( entities == null || !entities.containsKey( id ) ) {
+			pendingIds.computeIfAbsent( key, k -> new LinkedHashSet<>() ).add( id );
+		}
+	}
+
+	/**
+	 * Loads the historical entity of the given identifier, along with up to batch size pending entities of the same
+	 * entity name and revision. Returns {@code null} if the entity has not been found at the revision.
+	 */
+	public Object load(Class<?> entityClass, String entityName, Object id, Number revision, boolean removed) {
+		final FirstLevelCache firstLevelCache = versionsReader.getFirstLevelCache();
+		if ( firstLevelCache.contains( entityName, revision, id ) ) {
+			return firstLevelCache.get( entityName, revision, id );
+		}
+
+		final Triple<String, Number, Boolean> key = make( entityName, revision, removed );
+		final Map<Object, Object> entities = loadedEntities.computeIfAbsent( key, k -> newHashMap() );
+		if ( entities.containsKey( id ) ) {
+			return entities.get( id );
+		}
+
+		final List<Object> ids = new ArrayList<>( batchSize );
+		ids.add( id );
+		final Set<Object> pending = pendingIds.get( key );
+		if ( pending != null ) {
+			pending.remove( id );
+			final Iterator<Object> iterator = pending.iterator();
+			while ( ids.size() < batchSize && iterator.hasNext() ) {
+				final Object pendingId = iterator.next();
+				iterator.remove();
+				if ( !entities.containsKey( pendingId ) && !firstLevelCache.contains( entityName, revision, pendingId ) ) {
+					ids.add( pendingId );
+				}
+			}
+			if ( pending.isEmpty() ) {
+				pendingIds.remove( key );
+			}
+		}
+
+		final EntityPersister persister = getEntityPersister( entityName );
+		final List<?> result = versionsReader.createQuery()
+				.forEntitiesAtRevision( entityClass, entityName, revision, removed )
+				.add( AuditEntity.id().in( ids.toArray() ) )
+				.getResultList();
+		for ( Object entity : result ) {
+			entities.put( persister.getIdentifier( entity, versionsReader.getSessionImplementor() ), entity );
+		}
+		for ( Object loadedId : ids ) {
+			// Not found at the revision
+			entities.putIfAbsent( loadedId, null );
+		}
+
+		return entities.get( id );
+	}
+
+	private EntityPersister getEntityPersister(String entityName) {
+		return versionsReader.getSessionImplementor()
+				.getFactory()
+				.getMappingMetamodel()
+				.getEntityDescriptor( entityName );
+	}
+}
@@ -0,0 +1,408 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.envers.internal.synchronization;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.hibernate.Length;
+import org.hibernate.boot.Metadata;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.envers.boot.EnversMappingException;
+import org.hibernate.envers.boot.model.Attribute;
+import org.hibernate.envers.boot.model.BasicAttribute;
+import org.hibernate.envers.boot.model.Column;
+import org.hibernate.envers.boot.model.Keyable;
+import org.hibernate.envers.boot.model.RootPersistentEntity;
+import org.hibernate.envers.boot.model.SimpleIdentifier;
+import org.hibernate.envers.configuration.Configuration;
+import org.hibernate.envers.configuration.internal.metadata.AuditTableData;
+import org.hibernate.envers.exception.AuditException;
+import org.hibernate.envers.internal.entities.mapper.PersistentCollectionChangeData;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+import org.hibernate.mapping.PersistentClass;
+import org.hibernate.mapping.Property;
+import org.hibernate.metamodel.model.convert.spi.BasicValueConverter;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.type.BasicType;
+import org.hibernate.type.ComponentType;
+import org.hibernate.type.CustomType;
+import org.hibernate.type.EntityType;
+import org.hibernate.type.Type;
+import org.hibernate.type.descriptor.java.JavaType;
+import org.hibernate.type.descriptor.java.spi.JavaTypeBasicAdaptor;
+import org.hibernate.usertype.EnhancedUserType;
+
+/**
+ * Describes the audit outbox, the table in which audit data is stored as part of the audited
+ * transaction when {@link org.hibernate.envers.configuration.EnversSettings#USE_AUDIT_OUTBOX}
+ * is enabled, and converts audit data to and from the payload of an outbox entry.
+ *
+ * An outbox entry references the revision it belongs to, records when it was written, and holds
+ * either the data of an audited entity change or the data of an audited collection change, in which
+ * case the name of the collection property is set as well. Each entry has a {@linkplain #STATUS status}:
+ * it is pending until its revision is drained, the entries of the last drained revision are kept to
+ * detect revisions committed after a later revision was drained, and the entries of a revision which
+ * can't be drained are quarantined, with the cause recorded as their {@linkplain #FAILURE failure}.
+ *
+ * The payload is text, made of the name of the audit entity followed by a line for each value of the
+ * audit data, which is rendered as a string by its Hibernate type, as for the value of the column of the
+ * audit table. So the payload doesn't depend on the version of the classes of the application, except
+ * for the values which are themselves stored in a serialized form. The types of all the audited
+ * properties must be able to parse their string representation, which is
+ * {@linkplain #validatePayloadTypes validated} at boot.
+ */
+public final class AuditOutbox {
+	public static final String ENTITY_NAME = "org.hibernate.envers.AuditOutboxEntry";
+	public static final String TABLE_NAME = "REVOUTBOX";
+	public static final String SEQUENCE_NAME = "REVOUTBOX_SEQ";
+
+	public static final String ID = "id";
+	public static final String ENTITY_NAME_PROPERTY = "entityName";
+	public static final String PROPERTY_NAME_PROPERTY = "propertyName";
+	public static final String PAYLOAD = "payload";
+	public static final String CREATED = "created";
+	public static final String STATUS = "status";
+	public static final String FAILURE = "failure";
+
+	public static final int STATUS_PENDING = 0;
+	public static final int STATUS_DRAINED = 1;
+	public static final int STATUS_QUARANTINED = 2;
+
+	private static final int FAILURE_LENGTH = 1000;
+	private static final char PATH_SEPARATOR = '.';
+	private static final char VALUE_SEPARATOR = '=';
+	private static final char REVISION_MARKER = '*';
+
+	private AuditOutbox() {
+	}
+
+	public static RootPersistentEntity generateMapping(Configuration configuration) {
+		final RootPersistentEntity mapping = new RootPersistentEntity(
+				new AuditTableData(
+						ENTITY_NAME,
+						TABLE_NAME,
+						configuration.getDefaultSchemaName(),
+						configuration.getDefaultCatalogName()
+				),
+				null
+		);
+
+		final SimpleIdentifier identifier = new SimpleIdentifier( ID, "long" );
+		identifier.setGeneratorClass( SequenceStyleGenerator.class.getName() );
+		identifier.setParameter( SequenceStyleGenerator.SEQUENCE_PARAM, SEQUENCE_NAME );
+		identifier.setParameter( SequenceStyleGenerator.INCREMENT_PARAM, "50" );
+		identifier.addColumn( new Column( "ID" ) );
+		mapping.setIdentifier( identifier );
+
+		// The same relation as the one of the audit entities, though not part of the identifier
+		final Attribute revision = configuration.getRevisionInfo().getRevisionInfoRelationMapping();
+		( (Keyable) revision ).setKey( false );
+		mapping.addAttribute( revision );
+
+		mapping.addAttribute( createAttribute( ENTITY_NAME_PROPERTY, "string", "ENTITY_NAME", 255L ) );
+		mapping.addAttribute( createAttribute( PROPERTY_NAME_PROPERTY, "string", "PROPERTY_NAME", 255L ) );
+		mapping.addAttribute( createAttribute( PAYLOAD, "string", "PAYLOAD", (long) Length.LONG32 ) );
+		mapping.addAttribute( createAttribute( CREATED, "long", "CREATED", null ) );
+		mapping.addAttribute( createAttribute( STATUS, "integer", "STATUS", null ) );
+		mapping.addAttribute( createAttribute( FAILURE, "string", "FAILURE", (long) FAILURE_LENGTH ) );
+
+		return mapping;
+	}
+
+	private static BasicAttribute createAttribute(String name, String type, String columnName, Long length) {
+		final BasicAttribute attribute = new BasicAttribute( name, type, true, false );
+		attribute.addColumn( new Column( columnName, length, null, null, null, null, null ) );
+		return attribute;
+	}
+
+	/**
+	 * Creates the outbox entry of an audited entity change.
+	 */
+	public static Map<String, Object> createEntry(
+			Configuration configuration,
+			SessionFactoryImplementor factory,
+			String entityName,
+			Map<String, Object> data,
+			Object revision) {
+		return createEntry(
+				configuration,
+				entityName,
+				null,
+				writePayload( factory, configuration.getAuditEntityName( entityName ), data, revision ),
+				revision
+		);
+	}
+
+	/**
+	 * Creates the outbox entry of an audited collection change.
+	 */
+	public static Map<String, Object> createEntry(
+			Configuration configuration,
+			SessionFactoryImplementor factory,
+			String entityName,
+			String propertyName,
+			PersistentCollectionChangeData persistentCollectionChangeData,
+			Object revision) {
+		return createEntry(
+				configuration,
+				entityName,
+				propertyName,
+				writePayload(
+						factory,
+						persistentCollectionChangeData.getEntityName(),
+						persistentCollectionChangeData.getData(),
+						revision
+				),
+				revision
+		);
+	}
+
+	private static Map<String, Object> createEntry(
+			Configuration configuration,
+			String entityName,
+			String propertyName,
+			String payload,
+			Object revision) {
+		final Map<String, Object> entry = new HashMap<>();
+		entry.put( configuration.getRevisionFieldName(), revision );
+		entry.put( ENTITY_NAME_PROPERTY, entityName );
+		entry.put( PROPERTY_NAME_PROPERTY, propertyName );
+		entry.put( PAYLOAD, payload );
+		entry.put( CREATED, System.currentTimeMillis() );
+		entry.put( STATUS, STATUS_PENDING );
+		return entry;
+	}
+
+	/**
+	 * Reads the payload of an outbox entry, setting the given revision wherever the revision was referenced.
+	 * Fails if the payload doesn't match the current audit entities.
+	 *
+	 * @return the name of the audit entity, which is the middle entity of a collection change, and the data
+	 */
+	public static Object[] readPayload(SessionFactoryImplementor factory, Map<String, Object> entry, Object revision) {
+		final String payload = (String) entry.get( PAYLOAD );
+		final String[] lines = payload.split( "\n", -1 );
+		final String auditEntityName = lines[0];
+		final EntityPersister persister = factory.getMappingMetamodel().getEntityDescriptor( auditEntityName );
+		final Map<String, Object> data = new HashMap<>();
+		for ( int i = 1; i < lines.length; i++ ) {
+			readValue( persister, data, lines[i], revision );
+		}
+		return new Object[] { auditEntityName, data };
+	}
+
+	/**
+	 * Limits the description of the failure of a revision to the length of the column.
+	 */
+	public static String truncateFailure(String failure) {
+		return failure.length() > FAILURE_LENGTH ? failure.substring( 0, FAILURE_LENGTH ) : failure;
+	}
+
+	private static String writePayload(
+			SessionFactoryImplementor factory,
+			String auditEntityName,
+			Map<String, Object> data,
+			Object revision) {
+		final EntityPersister persister = factory.getMappingMetamodel().getEntityDescriptor( auditEntityName );
+		final StringBuilder payload = new StringBuilder( auditEntityName );
+		for ( Map.Entry<String, Object> entry : data.entrySet() ) {
+			writeValue(
+					payload,
+					auditEntityName,
+					entry.getKey(),
+					entry.getValue(),
+					getPropertyType( persister, entry.getKey() ),
+					revision
+			);
+		}
+		return payload.toString();
+	}
+
+	@SuppressWarnings("unchecked")
+	private static void writeValue(
+			StringBuilder payload,
+			String auditEntityName,
+			String path,
+			Object value,
+			Type type,
+			Object revision) {
+		if ( type instanceof ComponentType && value instanceof Map ) {
+			final ComponentType componentType = (ComponentType) type;
+			for ( Map.Entry<String, Object> entry : ( (Map<String, Object>) value ).entrySet() ) {
+				writeValue(
+						payload,
+						auditEntityName,
+						path + PATH_SEPARATOR + entry.getKey(),
+						entry.getValue(),
+						componentType.getSubtypes()[componentType.getPropertyIndex( entry.getKey() )],
+						revision
+				);
+			}
+			return;
+		}
+
+		payload.append( '\n' ).append( path );
+		if ( value == revision ) {
+			payload.append( REVISION_MARKER );
+		}
+		else if ( value != null ) {
+			if ( !( type instanceof BasicType ) ) {
+				throw new AuditException(
+						"Unable to store the value of property '" + path + "' of audit entity '" + auditEntityName
+								+ "' in the audit outbox"
+				);
+			}
+			payload.append( VALUE_SEPARATOR ).append( escape( toString( (BasicType<?>) type, value ) ) );
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private static void readValue(EntityPersister persister, Map<String, Object> data, String line, Object revision) {
+		final int separator = line.indexOf( VALUE_SEPARATOR );
+		final boolean isRevision = separator < 0 && line.charAt( line.length() - 1 ) == REVISION_MARKER;
+		final String path = separator >= 0
+				? line.substring( 0, separator )
+				: isRevision ? line.substring( 0, line.length() - 1 ) : line;
+
+		// the components of the audit data are maps
+		final String[] propertyNames = path.split( "\\" + PATH_SEPARATOR );
+		Map<String, Object> values = data;
+		Type type = getPropertyType( persister, propertyNames[0] );
+		for ( int i = 1; i < propertyNames.length; i++ ) {
+			values = (Map<String, Object>) values.computeIfAbsent( propertyNames[i - 1], name -> new HashMap<>() );
+			final ComponentType componentType = (ComponentType) type;
+			type = componentType.getSubtypes()[componentType.getPropertyIndex( propertyNames[i] )];
+		}
+
+		final String propertyName = propertyNames[propertyNames.length - 1];
+		if ( isRevision ) {
+			values.put( propertyName, revision );
+		}
+		else if ( separator < 0 ) {
+			values.put( propertyName, null );
+		}
+		else {
+			values.put( propertyName, fromString( (BasicType<?>) type, unescape( line.substring( separator + 1 ) ) ) );
+		}
+	}
+
+	private static Type getPropertyType(EntityPersister persister, String propertyName) {
+		return propertyName.equals( persister.getIdentifierPropertyName() )
+				? persister.getIdentifierType()
+				: persister.getPropertyType( propertyName );
+	}
+
+	// a converted value is rendered in its relational form, as the Java type of the domain value may not be parsable
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private static String toString(BasicType<?> type, Object value) {
+		final BasicValueConverter valueConverter = type.getValueConverter();
+		if ( valueConverter == null ) {
+			return ( (JavaType) type.getJavaTypeDescriptor() ).toString( value );
+		}
+		return ( (JavaType) type.getJdbcJavaType() ).toString( valueConverter.toRelationalValue( value ) );
+	}
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private static Object fromString(BasicType<?> type, String string) {
+		final BasicValueConverter valueConverter = type.getValueConverter();
+		if ( valueConverter == null ) {
+			return type.getJavaTypeDescriptor().fromString( string );
+		}
+		return valueConverter.toDomainValue( type.getJdbcJavaType().fromString( string ) );
+	}
+
+	private static String escape(String string) {
+		final StringBuilder escaped = new StringBuilder( string.length() );
+		for ( int i = 0; i < string.length(); i++ ) {
+			final char c = string.charAt( i );
+			switch ( c ) {
+				case '\\':
+					escaped.append( "\\\\" );
+					break;
+				case '\n':
+					escaped.append( "\\n" );
+					break;
+				case '\r':
+					escaped.append( "\\r" );
+					break;
+				default:
+					escaped.append( c );
+			}
+		}
+		return escaped.toString();
+	}
+
+	private static String unescape(String string) {
+		final StringBuilder unescaped = new StringBuilder( string.length() );
+		for ( int i = 0; i < string.length(); i++ ) {
+			final char c = string.charAt( i );
+			if ( c == '\\' && i + 1 < string.length() ) {
+				final char escaped = string.charAt( ++i );
+				unescaped.append( escaped == 'n' ? '\n' : escaped == 'r' ? '\r' : escaped );
+			}
+			else {
+				unescaped.append( c );
+			}
+		}
+		return unescaped.toString();
+	}
+
+	/**
+	 * Checks that the values of the properties of the given audit entities, which make up the payloads
+	 * of the outbox entries, can be rendered as strings and parsed back.
+	 *
+	 * @throws EnversMappingException if the type of a property can't be stored in the payload
+	 */
+	public static void validatePayloadTypes(Metadata metadata, Set<String> auditEntityNames) {
+		for ( String auditEntityName : auditEntityNames ) {
+			final PersistentClass persistentClass = metadata.getEntityBinding( auditEntityName );
+			if ( persistentClass != null ) {
+				if ( persistentClass.getIdentifier() != null ) {
+					validatePayloadType( auditEntityName, "id", persistentClass.getIdentifier().getType() );
+				}
+				for ( Property property : persistentClass.getProperties() ) {
+					validatePayloadType( auditEntityName, property.getName(), property.getType() );
+				}
+			}
+		}
+	}
+
+	private static void validatePayloadType(String auditEntityName, String propertyName, Type type) {
+		if ( type instanceof EntityType ) {
+			// the revision, which is only referenced by the payload
+			return;
+		}
+		if ( type instanceof ComponentType ) {
+			final ComponentType componentType = (ComponentType) type;
+			final String[] propertyNames = componentType.getPropertyNames();
+			final Type[] subtypes = componentType.getSubtypes();
+			for ( int i = 0; i < subtypes.length; i++ ) {
+				validatePayloadType( auditEntityName, propertyName + "." + propertyNames[i], subtypes[i] );
+			}
+			return;
+		}
+		if ( !( type instanceof BasicType ) || !isParsable( (BasicType<?>) type ) ) {
+			throw new EnversMappingException(
+					"The audit outbox requires audit data which can be rendered as strings, but property '"
+							+ propertyName + "' of audit entity '" + auditEntityName + "' is of type '"
+							+ type.getName() + "', which can't be parsed from a string"
+			);
+		}
+	}
+
+	private static boolean isParsable(BasicType<?> type) {
+		if ( type.getValueConverter() != null ) {
+			return !( type.getJdbcJavaType() instanceof JavaTypeBasicAdaptor );
+		}
+		if ( type instanceof CustomType ) {
+			return ( (CustomType<?>) type ).getUserType() instanceof EnhancedUserType;
+		}
+		return !( type.getJavaTypeDescriptor() instanceof JavaTypeBasicAdaptor );
+	}
+}
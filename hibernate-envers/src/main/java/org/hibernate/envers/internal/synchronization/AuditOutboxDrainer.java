@@ -0,0 +1,298 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.envers.internal.synchronization;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.Hibernate;
+import org.hibernate.LockOptions;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.SessionFactoryObserver;
+import org.hibernate.Transaction;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.envers.configuration.Configuration;
+import org.hibernate.envers.exception.AuditException;
+import org.hibernate.envers.internal.entities.mapper.PersistentCollectionChangeData;
+import org.hibernate.envers.strategy.AuditStrategy;
+
+import org.jboss.logging.Logger;
+
+/**
+ * Writes the audit rows of the audit data stored in the {@link AuditOutbox audit outbox}, using the
+ * configured audit strategy.
+ *
+ * The outbox is drained one revision at a time, in revision order, each revision in its own transaction,
+ * so that the audit rows are written exactly as if they had been written by the audited transactions.
+ * Since the audited transactions may commit out of revision order, the oldest revision in the outbox is
+ * only drained once its audit data is older than the {@linkplain Configuration#getAuditOutboxDrainDelay()
+ * drain delay}, by which time the transactions of the previous revisions are assumed to have committed.
+ * The delay relies on the clocks of the writers, so the entries of the last drained revision are kept,
+ * and a revision committed after a later revision was drained is quarantined instead of being written
+ * out of order, and the drain fails. A revision whose payload can't be read, for example after an
+ * incompatible change of the audited entities, is quarantined as well, and the drain goes on with the
+ * next revision. Quarantined entries are left for the application to repair or delete.
+ * Outbox entries are locked while being drained, so several drainers can share the same outbox.
+ *
+ * When the drain interval is positive, the outbox is drained periodically by a background thread
+ * started with the session factory; otherwise the application is expected to call
+ * {@link org.hibernate.envers.AuditReader#drainAuditOutbox()}.
+ */
+public class AuditOutboxDrainer implements SessionFactoryObserver {
+	private static final Logger log = Logger.getLogger( AuditOutboxDrainer.class );
+
+	private static final int DEFAULT_BATCH_SIZE = 50;
+
+	private final transient Configuration configuration;
+	private final transient ClassLoader classLoader;
+	private transient ScheduledExecutorService executorService;
+
+	public AuditOutboxDrainer(Configuration configuration) {
+		this.configuration = configuration;
+		this.classLoader = Thread.currentThread().getContextClassLoader();
+	}
+
+	@Override
+	public void sessionFactoryCreated(SessionFactory factory) {
+		final long interval = configuration.getAuditOutboxDrainInterval();
+		if ( interval > 0 ) {
+			executorService = Executors.newSingleThreadScheduledExecutor( new DrainerThreadFactory( classLoader ) );
+			executorService.scheduleWithFixedDelay(
+					() -> {
+						try {
+							drain( factory );
+						}
+						catch (RuntimeException e) {
+							log.warn( "Unable to drain the audit outbox", e );
+						}
+					},
+					interval,
+					interval,
+					TimeUnit.MILLISECONDS
+			);
+		}
+	}
+
+	@Override
+	public void sessionFactoryClosing(SessionFactory factory) {
+		if ( executorService != null ) {
+			executorService.shutdown();
+			try {
+				if ( !executorService.awaitTermination( 30, TimeUnit.SECONDS ) ) {
+					log.warn( "Timed out waiting for the audit outbox drainer to stop" );
+				}
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			executorService = null;
+		}
+	}
+
+	/**
+	 * Writes the audit rows of all the revisions currently stored in the audit outbox, up to the first
+	 * revision whose audit data is more recent than the drain delay.
+	 *
+	 * @param factory The session factory of the audited entities.
+	 *
+	 * @return the number of outbox entries which were drained
+	 */
+	public int drain(SessionFactory factory) {
+		int drained = 0;
+		int count;
+		while ( ( count = drainRevision( factory ) ) >= 0 ) {
+			drained += count;
+		}
+		return drained;
+	}
+
+	/**
+	 * Writes the audit rows of the oldest pending revision stored in the audit outbox.
+	 *
+	 * @return the number of outbox entries which were drained, or {@literal -1} when the outbox is empty
+	 * or when the oldest revision is too recent to be drained
+	 *
+	 * @throws AuditException if the oldest revision was committed after a later revision was drained
+	 */
+	@SuppressWarnings("unchecked")
+	private int drainRevision(SessionFactory factory) {
+		final String revisionNumberPath = "e." + configuration.getRevisionFieldName() + ".id";
+		try ( Session session = factory.openSession() ) {
+			final int batchSize = configuration.getAuditWriteBatchSize();
+			session.setJdbcBatchSize( batchSize > 0 ? batchSize : DEFAULT_BATCH_SIZE );
+
+			final Transaction transaction = session.beginTransaction();
+			try {
+				final Object revisionNumber = session.createQuery(
+								"select min(" + revisionNumberPath + ") from " + AuditOutbox.ENTITY_NAME
+										+ " e where e." + AuditOutbox.STATUS + " = :pending",
+								Object.class
+						)
+						.setParameter( "pending", AuditOutbox.STATUS_PENDING )
+						.uniqueResult();
+				if ( revisionNumber == null ) {
+					transaction.commit();
+					return -1;
+				}
+
+				// Another drainer may have drained the revision while waiting for the lock,
+				// in which case no entries are returned and the next revision is looked up
+				final List<Map<String, Object>> entries = (List<Map<String, Object>>) (List<?>) session.createQuery(
+								"from " + AuditOutbox.ENTITY_NAME + " e where " + revisionNumberPath + " = :revision"
+										+ " and e." + AuditOutbox.STATUS + " = :pending order by e.id",
+								Map.class
+						)
+						.setParameter( "revision", revisionNumber )
+						.setParameter( "pending", AuditOutbox.STATUS_PENDING )
+						.setLockOptions( LockOptions.UPGRADE )
+						.list();
+				if ( entries.isEmpty() ) {
+					transaction.commit();
+					return 0;
+				}
+
+				// A transaction of a previous revision may not have committed yet
+				if ( isTooRecent( entries ) ) {
+					transaction.rollback();
+					return -1;
+				}
+
+				// The delay wasn't long enough: writing the revision now would corrupt the audit rows
+				// of the later revisions, for example their end revisions with the validity strategy
+				final Object lastDrainedRevisionNumber = session.createQuery(
+								"select max(" + revisionNumberPath + ") from " + AuditOutbox.ENTITY_NAME
+										+ " e where e." + AuditOutbox.STATUS + " = :drained",
+								Object.class
+						)
+						.setParameter( "drained", AuditOutbox.STATUS_DRAINED )
+						.uniqueResult();
+				if ( lastDrainedRevisionNumber != null
+						&& ( (Number) lastDrainedRevisionNumber ).longValue() > ( (Number) revisionNumber ).longValue() ) {
+					final String failure = "Revision " + revisionNumber + " was committed after revision "
+							+ lastDrainedRevisionNumber + " was drained, increase the audit outbox drain delay";
+					quarantine( session, entries, failure );
+					transaction.commit();
+					throw new AuditException( failure );
+				}
+
+				final SessionFactoryImplementor sessionFactory = (SessionFactoryImplementor) factory;
+				final Object revision = Hibernate.unproxy( entries.get( 0 ).get( configuration.getRevisionFieldName() ) );
+				final List<Object[]> payloads = new ArrayList<>( entries.size() );
+				try {
+					for ( Map<String, Object> entry : entries ) {
+						payloads.add( AuditOutbox.readPayload( sessionFactory, entry, revision ) );
+					}
+				}
+				catch (RuntimeException e) {
+					log.errorf( e, "Unable to read the audit outbox entries of revision %s, which are quarantined", revisionNumber );
+					quarantine( session, entries, e.toString() );
+					transaction.commit();
+					return 0;
+				}
+
+				final List<Object> ids = new ArrayList<>( entries.size() );
+				for ( int i = 0; i < entries.size(); i++ ) {
+					write( session, entries.get( i ), payloads.get( i ), revision );
+					ids.add( entries.get( i ).get( AuditOutbox.ID ) );
+				}
+				session.flush();
+
+				// Only the entries of the last drained revision are kept
+				session.createMutationQuery(
+								"delete from " + AuditOutbox.ENTITY_NAME + " e where e." + AuditOutbox.STATUS + " = :drained"
+						)
+						.setParameter( "drained", AuditOutbox.STATUS_DRAINED )
+						.executeUpdate();
+				session.createMutationQuery(
+								"update " + AuditOutbox.ENTITY_NAME + " e set e." + AuditOutbox.STATUS + " = :drained"
+										+ " where e.id in (:ids)"
+						)
+						.setParameter( "drained", AuditOutbox.STATUS_DRAINED )
+						.setParameterList( "ids", ids )
+						.executeUpdate();
+
+				transaction.commit();
+				return ids.size();
+			}
+			catch (RuntimeException e) {
+				if ( transaction.isActive() ) {
+					transaction.rollback();
+				}
+				throw e;
+			}
+		}
+	}
+
+	private boolean isTooRecent(List<Map<String, Object>> entries) {
+		final long horizon = System.currentTimeMillis() - configuration.getAuditOutboxDrainDelay();
+		for ( Map<String, Object> entry : entries ) {
+			if ( (Long) entry.get( AuditOutbox.CREATED ) <= horizon ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static void quarantine(Session session, List<Map<String, Object>> entries, String failure) {
+		final String truncatedFailure = AuditOutbox.truncateFailure( failure );
+		for ( Map<String, Object> entry : entries ) {
+			entry.put( AuditOutbox.STATUS, AuditOutbox.STATUS_QUARANTINED );
+			entry.put( AuditOutbox.FAILURE, truncatedFailure );
+		}
+		session.flush();
+	}
+
+	@SuppressWarnings({ "unchecked", "deprecation" })
+	private void write(Session session, Map<String, Object> entry, Object[] payload, Object revision) {
+		final AuditStrategy auditStrategy = configuration.getAuditWritingStrategy();
+		final String entityName = (String) entry.get( AuditOutbox.ENTITY_NAME_PROPERTY );
+		final String propertyName = (String) entry.get( AuditOutbox.PROPERTY_NAME_PROPERTY );
+		final Map<String, Object> data = (Map<String, Object>) payload[1];
+
+		if ( propertyName == null ) {
+			final Object id = configuration.getEnversService()
+					.getEntitiesConfigurations()
+					.get( entityName )
+					.getIdMapper()
+					.mapToIdFromMap( (Map<String, Object>) data.get( configuration.getOriginalIdPropertyName() ) );
+			auditStrategy.perform( session, entityName, configuration, id, data, revision );
+		}
+		else {
+			auditStrategy.performCollectionChange(
+					session,
+					entityName,
+					propertyName,
+					configuration,
+					new PersistentCollectionChangeData( (String) payload[0], data, null ),
+					revision
+			);
+		}
+	}
+
+	private static class DrainerThreadFactory implements ThreadFactory {
+		private final ClassLoader classLoader;
+
+		private DrainerThreadFactory(ClassLoader classLoader) {
+			this.classLoader = classLoader;
+		}
+
+		@Override
+		public Thread newThread(Runnable runnable) {
+			final Thread thread = new Thread( runnable );
+			thread.setDaemon( true );
+			thread.setName( "Hibernate Envers Audit Outbox Drainer" );
+			thread.setContextClassLoader( classLoader );
+			return thread;
+		}
+	}
+}
@@ -0,0 +1,154 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.envers.internal.synchronization;
+
+import java.util.Map;
+
+import org.hibernate.Session;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.envers.configuration.Configuration;
+import org.hibernate.envers.internal.entities.mapper.PersistentCollectionChangeData;
+import org.hibernate.envers.internal.entities.mapper.relation.MiddleComponentData;
+import org.hibernate.envers.internal.entities.mapper.relation.MiddleIdData;
+import org.hibernate.envers.internal.tools.query.Parameters;
+import org.hibernate.envers.internal.tools.query.QueryBuilder;
+import org.hibernate.envers.strategy.AuditStrategy;
+import org.hibernate.envers.strategy.spi.AuditStrategyContext;
+import org.hibernate.envers.strategy.spi.MappingContext;
+
+/**
+ * An audit strategy which stores the audit data of a transaction in the {@link AuditOutbox audit outbox},
+ * leaving the audit rows to be written by the {@link AuditOutboxDrainer}, which uses the configured strategy.
+ * The mapping of the audit entities and the queries are handled by the configured strategy.
+ */
+@SuppressWarnings("deprecation")
+public class AuditOutboxStrategy implements AuditStrategy {
+	private final AuditStrategy delegate;
+
+	public AuditOutboxStrategy(AuditStrategy delegate) {
+		this.delegate = delegate;
+	}
+
+	public AuditStrategy getDelegate() {
+		return delegate;
+	}
+
+	@Override
+	public void addAdditionalColumns(MappingContext mappingContext) {
+		delegate.addAdditionalColumns( mappingContext );
+	}
+
+	@Override
+	public void postInitialize(AuditStrategyContext context) {
+		delegate.postInitialize( context );
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public void perform(
+			Session session,
+			String entityName,
+			Configuration configuration,
+			Object id,
+			Object data,
+			Object revision) {
+		// the identifier is part of the data, from which it is mapped back when the entry is drained
+		session.save(
+				AuditOutbox.ENTITY_NAME,
+				AuditOutbox.createEntry(
+						configuration,
+						( (SharedSessionContractImplementor) session ).getFactory(),
+						entityName,
+						(Map<String, Object>) data,
+						revision
+				)
+		);
+	}
+
+	@Override
+	public void performCollectionChange(
+			Session session,
+			String entityName,
+			String propertyName,
+			Configuration configuration,
+			PersistentCollectionChangeData persistentCollectionChangeData,
+			Object revision) {
+		session.save(
+				AuditOutbox.ENTITY_NAME,
+				AuditOutbox.createEntry(
+						configuration,
+						( (SharedSessionContractImplementor) session ).getFactory(),
+						entityName,
+						propertyName,
+						persistentCollectionChangeData,
+						revision
+				)
+		);
+	}
+
+	@Override
+	public void addEntityAtRevisionRestriction(
+			Configuration configuration,
+			QueryBuilder rootQueryBuilder,
+			Parameters parameters,
+			String revisionProperty,
+			String revisionEndProperty,
+			boolean addAlias,
+			MiddleIdData idData,
+			String revisionPropertyPath,
+			String originalIdPropertyName,
+			String alias1,
+			String alias2,
+			boolean inclusive) {
+		delegate.addEntityAtRevisionRestriction(
+				configuration,
+				rootQueryBuilder,
+				parameters,
+				revisionProperty,
+				revisionEndProperty,
+				addAlias,
+				idData,
+				revisionPropertyPath,
+				originalIdPropertyName,
+				alias1,
+				alias2,
+				inclusive
+		);
+	}
+
+	@Override
+	public void addAssociationAtRevisionRestriction(
+			QueryBuilder rootQueryBuilder,
+			Parameters parameters,
+			String revisionProperty,
+			String revisionEndProperty,
+			boolean addAlias,
+			MiddleIdData referencingIdData,
+			String versionsMiddleEntityName,
+			String eeOriginalIdPropertyPath,
+			String revisionPropertyPath,
+			String originalIdPropertyName,
+			String alias1,
+			boolean inclusive,
+			MiddleComponentData... componentDatas) {
+		delegate.addAssociationAtRevisionRestriction(
+				rootQueryBuilder,
+				parameters,
+				revisionProperty,
+				revisionEndProperty,
+				addAlias,
+				referencingIdData,
+				versionsMiddleEntityName,
+				eeOriginalIdPropertyPath,
+				revisionPropertyPath,
+				originalIdPropertyName,
+				alias1,
+				inclusive,
+				componentDatas
+		);
+	}
+}
@@ -6,10 +6,14 @@
  */
 package org.hibernate.envers.internal.synchronization;
 
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.Map;
 import java.util.Queue;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 import org.hibernate.FlushMode;
 import org.hibernate.Session;
@@ -31,22 +35,33 @@ public class AuditProcess implements BeforeTransactionCompletionProcess {
 
 	private final RevisionInfoGenerator revisionInfoGenerator;
 	private final SessionImplementor session;
+	private final int auditWriteBatchSize;
 
 	private final LinkedList<AuditWorkUnit> workUnits;
 	private final Queue<AuditWorkUnit> undoQueue;
 	private final Map<Pair<String, Object>, AuditWorkUnit> usedIds;
 	private final Map<Pair<String, Object>, Object[]> entityStateCache;
 	private final EntityChangeNotifier entityChangeNotifier;
+	private final Map<Object, Consumer<SessionImplementor>> afterFlushWork;
 	private Object revisionData;
 
 	public AuditProcess(RevisionInfoGenerator revisionInfoGenerator, SessionImplementor session) {
+		this( revisionInfoGenerator, session, 0 );
+	}
+
+	public AuditProcess(
+			RevisionInfoGenerator revisionInfoGenerator,
+			SessionImplementor session,
+			int auditWriteBatchSize) {
 		this.revisionInfoGenerator = revisionInfoGenerator;
 		this.session = session;
+		this.auditWriteBatchSize = auditWriteBatchSize;
 
 		workUnits = new LinkedList<>();
 		undoQueue = new LinkedList<>();
 		usedIds = new HashMap<>();
 		entityStateCache = new HashMap<>();
+		afterFlushWork = new LinkedHashMap<>();
 		entityChangeNotifier = new EntityChangeNotifier( revisionInfoGenerator, session );
 	}
 
@@ -67,6 +82,17 @@ public class AuditProcess implements BeforeTransactionCompletionProcess {
 		return entityState;
 	}
 
+	/**
+	 * Returns the work registered under the given key, registering the work created by the given
+	 * supplier if there is none yet. The work is executed once the audit rows of this process have
+	 * been flushed, which allows the work units of one transaction to contribute to a single piece
+	 * of work, such as updating the end revisions of many audit rows at once.
+	 */
+	@SuppressWarnings("unchecked")
+	public <T extends Consumer<SessionImplementor>> T getAfterFlushWork(Object key, Supplier<T> workCreator) {
+		return (T) afterFlushWork.computeIfAbsent( key, k -> workCreator.get() );
+	}
+
 	private void removeWorkUnit(AuditWorkUnit vwu) {
 		workUnits.remove( vwu );
 		if ( vwu.isPerformed() ) {
@@ -121,6 +147,12 @@ public class AuditProcess implements BeforeTransactionCompletionProcess {
 			vwu.undo( session );
 		}
 
+		if ( auditWriteBatchSize > 0 ) {
+			// Group the work units by audit entity, so that the audit rows of each
+			// audit table are inserted by consecutive statements of one batch
+			workUnits.sort( Comparator.comparing( AuditWorkUnit::getAuditEntityName ) );
+		}
+
 		while ( (vwu = workUnits.poll()) != null ) {
 			vwu.perform( session, revisionData );
 			entityChangeNotifier.entityChanged( session, currentRevisionData, vwu );
@@ -162,8 +194,7 @@ public class AuditProcess implements BeforeTransactionCompletionProcess {
 						.connectionHandlingMode( PhysicalConnectionHandlingMode.DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION )
 						.noInterceptor()
 						.openSession();
-				executeInSession( temporarySession );
-				temporarySession.flush();
+				executeInSessionAndFlush( temporarySession );
 			}
 			finally {
 				if ( temporarySession != null ) {
@@ -172,10 +203,35 @@ public class AuditProcess implements BeforeTransactionCompletionProcess {
 			}
 		}
 		else {
-			executeInSession( session );
+			executeInSessionAndFlush( session );
+		}
+	}
 
-			// Explicitly flushing the session, as the auto-flush may have already happened.
+	private void executeInSessionAndFlush(Session session) {
+		// Explicitly flushing the session, as the auto-flush may have already happened.
+		if ( auditWriteBatchSize > 0 ) {
+			final Integer jdbcBatchSize = session.getJdbcBatchSize();
+			session.setJdbcBatchSize( auditWriteBatchSize );
+			try {
+				executeInSession( session );
+				session.flush();
+				executeAfterFlushWork( session );
+			}
+			finally {
+				session.setJdbcBatchSize( jdbcBatchSize );
+			}
+		}
+		else {
+			executeInSession( session );
 			session.flush();
+			executeAfterFlushWork( session );
+		}
+	}
+
+	private void executeAfterFlushWork(Session session) {
+		for ( Consumer<SessionImplementor> work : afterFlushWork.values() ) {
+			work.accept( (SessionImplementor) session );
 		}
+		afterFlushWork.clear();
 	}
 }
@@ -23,11 +23,17 @@ import org.hibernate.event.spi.EventSource;
 public class AuditProcessManager {
 	private final Map<Transaction, AuditProcess> auditProcesses;
 	private final RevisionInfoGenerator revisionInfoGenerator;
+	private final int auditWriteBatchSize;
 
 	public AuditProcessManager(RevisionInfoGenerator revisionInfoGenerator) {
+		this( revisionInfoGenerator, 0 );
+	}
+
+	public AuditProcessManager(RevisionInfoGenerator revisionInfoGenerator, int auditWriteBatchSize) {
 		auditProcesses = new ConcurrentHashMap<>();
 
 		this.revisionInfoGenerator = revisionInfoGenerator;
+		this.auditWriteBatchSize = auditWriteBatchSize;
 	}
 
 	public AuditProcess get(EventSource session) {
@@ -36,7 +42,7 @@ public class AuditProcessManager {
 		AuditProcess auditProcess = auditProcesses.get( transaction );
 		if ( auditProcess == null ) {
 			// No worries about registering a transaction twice - a transaction is single thread
-			auditProcess = new AuditProcess( revisionInfoGenerator, session );
+			auditProcess = new AuditProcess( revisionInfoGenerator, session, auditWriteBatchSize );
 			auditProcesses.put( transaction, auditProcess );
 
 			session.getActionQueue().registerProcess(
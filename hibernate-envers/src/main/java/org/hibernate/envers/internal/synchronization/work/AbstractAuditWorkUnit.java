@@ -84,6 +84,11 @@ public abstract class AbstractAuditWorkUnit implements AuditWorkUnit {
 		return entityName;
 	}
 
+	@Override
+	public String getAuditEntityName() {
+		return enversService.getConfig().getAuditEntityName( getEntityName() );
+	}
+
 	protected void setPerformed(Object performedData) {
 		this.performedData = performedData;
 	}
@@ -21,6 +21,11 @@ public interface AuditWorkUnit extends WorkUnitMergeVisitor, WorkUnitMergeDispat
 
 	String getEntityName();
 
+	/**
+	 * @return The name of the audit entity, into whose table this work unit writes its audit rows.
+	 */
+	String getAuditEntityName();
+
 	boolean containsWork();
 
 	boolean isPerformed();
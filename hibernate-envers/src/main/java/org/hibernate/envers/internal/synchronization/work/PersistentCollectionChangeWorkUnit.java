@@ -96,6 +96,15 @@ public class PersistentCollectionChangeWorkUnit extends AbstractAuditWorkUnit im
 		}
 	}
 
+	@Override
+	public String getAuditEntityName() {
+		// The collection changes are written to the middle audit entity of the collection
+		if ( collectionChanges != null && !collectionChanges.isEmpty() ) {
+			return collectionChanges.get( 0 ).getEntityName();
+		}
+		return super.getAuditEntityName();
+	}
+
 	public String getReferencingPropertyName() {
 		return referencingPropertyName;
 	}
@@ -10,10 +10,13 @@ import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.sql.Types;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Date;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.function.Consumer;
 
 import org.hibernate.LockOptions;
 import org.hibernate.Session;
@@ -22,6 +25,7 @@ import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.envers.RevisionType;
+import org.hibernate.envers.boot.internal.EnversService;
 import org.hibernate.envers.boot.model.BasicAttribute;
 import org.hibernate.envers.boot.model.Column;
 import org.hibernate.envers.boot.model.ManyToOneAttribute;
@@ -32,6 +36,7 @@ import org.hibernate.envers.internal.entities.mapper.PersistentCollectionChangeD
 import org.hibernate.envers.internal.entities.mapper.relation.MiddleComponentData;
 import org.hibernate.envers.internal.entities.mapper.relation.MiddleIdData;
 import org.hibernate.envers.internal.revisioninfo.RevisionInfoNumberReader;
+import org.hibernate.envers.internal.synchronization.AuditProcess;
 import org.hibernate.envers.internal.synchronization.SessionCacheCleaner;
 import org.hibernate.envers.internal.tools.MutableInteger;
 import org.hibernate.envers.internal.tools.query.Parameters;
@@ -39,6 +44,7 @@ import org.hibernate.envers.internal.tools.query.QueryBuilder;
 import org.hibernate.envers.strategy.AuditStrategy;
 import org.hibernate.envers.strategy.spi.AuditStrategyContext;
 import org.hibernate.envers.strategy.spi.MappingContext;
+import org.hibernate.envers.tools.Pair;
 import org.hibernate.event.spi.EventSource;
 import org.hibernate.metamodel.mapping.AttributeMapping;
 import org.hibernate.metamodel.mapping.ModelPart;
@@ -151,6 +157,30 @@ public class ValidityAuditStrategy implements AuditStrategy {
 		}
 	}
 
+	@Override
+	public void perform(
+			Session session,
+			String entityName,
+			EnversService enversService,
+			Object id,
+			Object data,
+			Object revision) {
+		// The audit work units of a transaction are performed through this method, so that the end
+		// revision updates of all of them can be collected by the audit process of the transaction
+		final Configuration configuration = enversService.getConfig();
+		perform(
+				session,
+				entityName,
+				configuration,
+				id,
+				data,
+				revision,
+				configuration.getAuditWriteBatchSize() > 0
+						? enversService.getAuditProcessManager().get( (EventSource) session )
+						: null
+		);
+	}
+
 	@Override
 	public void perform(
 			final Session session,
@@ -159,6 +189,17 @@ public class ValidityAuditStrategy implements AuditStrategy {
 			final Object id,
 			final Object data,
 			final Object revision) {
+		perform( session, entityName, configuration, id, data, revision, null );
+	}
+
+	private void perform(
+			final Session session,
+			final String entityName,
+			final Configuration configuration,
+			final Object id,
+			final Object data,
+			final Object revision,
+			final AuditProcess auditProcess) {
 		final String auditedEntityName = configuration.getAuditEntityName( entityName );
 
 		// Save the audit data
@@ -172,7 +213,20 @@ public class ValidityAuditStrategy implements AuditStrategy {
 		// reused, this guarantees correct strategy behavior: exactly one row with
 		// null end date exists for each identifier.
 		final boolean reuseEntityIdentifier = configuration.isAllowIdentifierReuse();
-		if ( reuseEntityIdentifier || getRevisionType( configuration, data ) != RevisionType.ADD ) {
+		if ( auditProcess != null ) {
+			if ( reuseEntityIdentifier || getRevisionType( configuration, data ) != RevisionType.ADD ) {
+				// The UPDATE statements are executed after the INSERTs, for many entities at once.
+				auditProcess.getAfterFlushWork( this, EndRevisionUpdates::new ).add(
+						entityName,
+						auditedEntityName,
+						configuration,
+						id,
+						revision,
+						getRevisionType( configuration, data ) != RevisionType.ADD
+				);
+			}
+		}
+		else if ( reuseEntityIdentifier || getRevisionType( configuration, data ) != RevisionType.ADD ) {
 			// Register transaction completion process to guarantee execution of UPDATE statement after INSERT.
 			( (EventSource) session ).getActionQueue().registerProcess( sessionImplementor -> {
 				// Construct the update contexts
@@ -181,7 +235,7 @@ public class ValidityAuditStrategy implements AuditStrategy {
 						auditedEntityName,
 						sessionImplementor,
 						configuration,
-						id,
+						Collections.singletonList( id ),
 						revision
 				);
 
@@ -493,7 +547,7 @@ public class ValidityAuditStrategy implements AuditStrategy {
 			String auditEntityName,
 			SessionImplementor session,
 			Configuration configuration,
-			Object id,
+			List<Object> ids,
 			Object revision) {
 
 		Queryable entity = getQueryable( entityName, session );
@@ -510,7 +564,7 @@ public class ValidityAuditStrategy implements AuditStrategy {
 									auditEntityName,
 									session,
 									configuration,
-									id,
+									ids,
 									revision
 							)
 					);
@@ -528,7 +582,7 @@ public class ValidityAuditStrategy implements AuditStrategy {
 						auditEntityName,
 						session,
 						configuration,
-						id,
+						ids,
 						revision
 				)
 		);
@@ -541,7 +595,7 @@ public class ValidityAuditStrategy implements AuditStrategy {
 			String auditEntityName,
 			SessionImplementor session,
 			Configuration configuration,
-			Object id,
+			List<Object> ids,
 			Object revision) {
 
 		final Queryable entity = getQueryable( entityName, session );
@@ -574,9 +628,11 @@ public class ValidityAuditStrategy implements AuditStrategy {
 			context.bind( getRevEndTimestampValue( configuration, revisionTimestamp ), revEndTimestampAttributeMapping );
 		}
 
-		// Apply "WHERE (entity_id) = ?"
-		context.addPrimaryKeyColumns( rootEntity.getIdentifierColumnNames() );
-		context.bind( id, rootEntity.getIdentifierMapping() );
+		// Apply "WHERE (entity_id) = ?" or "WHERE entity_id in (?, ...)"
+		addIdentifierRestriction( context, rootEntity.getIdentifierColumnNames(), ids.size() );
+		for ( Object id : ids ) {
+			context.bind( id, rootEntity.getIdentifierMapping() );
+		}
 
 		// Apply "AND REV <> ?"
 		// todo (PropertyMapping) : need to be able to handle paths
@@ -598,7 +654,7 @@ public class ValidityAuditStrategy implements AuditStrategy {
 	 * @param auditEntityName the audited entity name
 	 * @param session the session
 	 * @param configuration the configuration
-	 * @param id the entity identifier
+	 * @param ids the entity identifiers
 	 * @param revision the revision entity
 	 * @return the created update context instance, never {@code null}.
 	 */
@@ -607,7 +663,7 @@ public class ValidityAuditStrategy implements AuditStrategy {
 			String auditEntityName,
 			SessionImplementor session,
 			Configuration configuration,
-			Object id,
+			List<Object> ids,
 			Object revision) {
 
 		final Queryable entity = getQueryable( entityName, session );
@@ -630,9 +686,11 @@ public class ValidityAuditStrategy implements AuditStrategy {
 		// Apply "WHERE (entity_id) = ? AND REV <> ?" portion of the SQL
 		final Number revisionNumber = getRevisionNumber( configuration, revision );
 
-		// Apply "WHERE (entity_id) = ?"
-		context.addPrimaryKeyColumns( entity.getIdentifierColumnNames() );
-		context.bind( id, entity.getIdentifierType() );
+		// Apply "WHERE (entity_id) = ?" or "WHERE entity_id in (?, ...)"
+		addIdentifierRestriction( context, entity.getIdentifierColumnNames(), ids.size() );
+		for ( Object id : ids ) {
+			context.bind( id, entity.getIdentifierType() );
+		}
 
 		// Apply "AND REV <> ?"
 		// todo (PropertyMapping) : need to be able to handle paths
@@ -645,6 +703,20 @@ public class ValidityAuditStrategy implements AuditStrategy {
 		return context;
 	}
 
+	private void addIdentifierRestriction(UpdateContext context, String[] identifierColumnNames, int idCount) {
+		if ( idCount == 1 ) {
+			context.addPrimaryKeyColumns( identifierColumnNames );
+		}
+		else {
+			// only entities with a single identifier column are updated in batches
+			assert identifierColumnNames.length == 1;
+			context.addWhereColumn(
+					identifierColumnNames[0],
+					" in (" + String.join( ", ", Collections.nCopies( idCount, "?" ) ) + ")"
+			);
+		}
+	}
+
 	private Number getRevisionNumber(Configuration configuration, Object revisionEntity) {
 		final RevisionInfoNumberReader reader = configuration.getRevisionInfo().getRevisionInfoNumberReader();
 		return reader.getRevisionNumber( revisionEntity );
@@ -658,6 +730,117 @@ public class ValidityAuditStrategy implements AuditStrategy {
 		return rootAuditEntity.getMappedTableDetails().getTableName();
 	}
 
+	/**
+	 * Executes the {@link UpdateContext update contexts} setting the end revision of the previous
+	 * audit rows of the given entities, using one statement per group of up to
+	 * {@link Configuration#getAuditWriteBatchSize()} entities.
+	 *
+	 * @param required whether the previous audit row of every entity must exist
+	 */
+	private void updateEndRevisions(
+			String entityName,
+			String auditedEntityName,
+			SessionImplementor session,
+			Configuration configuration,
+			List<Object> ids,
+			Object revision,
+			boolean required) {
+		final int batchSize = getQueryable( entityName, session ).getIdentifierColumnNames().length == 1
+				? configuration.getAuditWriteBatchSize()
+				: 1;
+		for ( int i = 0; i < ids.size(); i += batchSize ) {
+			final List<Object> batch = ids.subList( i, Math.min( i + batchSize, ids.size() ) );
+			final List<UpdateContext> contexts = getUpdateContexts(
+					entityName,
+					auditedEntityName,
+					session,
+					configuration,
+					batch,
+					revision
+			);
+
+			if ( contexts.isEmpty() ) {
+				throw new AuditException(
+						String.format(
+								Locale.ENGLISH,
+								"Failed to build update contexts for entity %s and ids %s",
+								auditedEntityName,
+								batch
+						)
+				);
+			}
+
+			for ( UpdateContext context : contexts ) {
+				final int rows = executeUpdate( session, context );
+				if ( required && rows != batch.size() ) {
+					throw new AuditException(
+							String.format(
+									Locale.ENGLISH,
+									"Cannot update previous revision for entity %s and ids %s (%s rows modified).",
+									auditedEntityName,
+									batch,
+									rows
+							)
+					);
+				}
+			}
+		}
+	}
+
+	/**
+	 * The pending end revision updates of an audit process, grouped by entity and revision.
+	 */
+	private class EndRevisionUpdates implements Consumer<SessionImplementor> {
+		private final Map<Pair<String, Object>, EntityEndRevisionUpdates> updatesByEntity = new LinkedHashMap<>();
+
+		void add(
+				String entityName,
+				String auditedEntityName,
+				Configuration configuration,
+				Object id,
+				Object revision,
+				boolean required) {
+			updatesByEntity.computeIfAbsent(
+					Pair.make( entityName, revision ),
+					key -> new EntityEndRevisionUpdates( entityName, auditedEntityName, configuration, revision )
+			).add( id, required );
+		}
+
+		@Override
+		public void accept(SessionImplementor session) {
+			for ( EntityEndRevisionUpdates updates : updatesByEntity.values() ) {
+				updates.execute( session );
+			}
+		}
+	}
+
+	private class EntityEndRevisionUpdates {
+		private final String entityName;
+		private final String auditedEntityName;
+		private final Configuration configuration;
+		private final Object revision;
+		// entities whose previous audit row must exist
+		private final List<Object> requiredIds = new ArrayList<>();
+		// re-added entities with a reused identifier, which may or may not have a previous audit row
+		private final List<Object> optionalIds = new ArrayList<>();
+
+		EntityEndRevisionUpdates(String entityName, String auditedEntityName, Configuration configuration, Object revision) {
+			this.entityName = entityName;
+			this.auditedEntityName = auditedEntityName;
+			this.configuration = configuration;
+			this.revision = revision;
+		}
+
+		void add(Object id, boolean required) {
+			( required ? requiredIds : optionalIds ).add( id );
+		}
+
+		void execute(SessionImplementor session) {
+			updateEndRevisions( entityName, auditedEntityName, session, configuration, requiredIds, revision, true );
+			updateEndRevisions( entityName, auditedEntityName, session, configuration, optionalIds, revision, false );
+		}
+	}
+
 	/**
 	 * An {@link Update} that can also track parameter bindings.
 	 */
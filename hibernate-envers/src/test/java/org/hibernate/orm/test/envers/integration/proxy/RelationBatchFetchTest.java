@@ -0,0 +1,123 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.envers.integration.proxy;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import jakarta.persistence.EntityManager;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.envers.AuditReader;
+import org.hibernate.envers.configuration.EnversSettings;
+import org.hibernate.envers.query.AuditEntity;
+import org.hibernate.orm.test.envers.BaseEnversJPAFunctionalTestCase;
+import org.hibernate.orm.test.envers.Priority;
+import org.hibernate.orm.test.envers.entities.onetomany.SetRefEdEntity;
+import org.hibernate.orm.test.envers.entities.onetomany.SetRefIngEntity;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests for {@link EnversSettings#RELATION_BATCH_FETCH_SIZE}
+ */
+public class RelationBatchFetchTest extends BaseEnversJPAFunctionalTestCase {
+	private static final int ENTITY_COUNT = 5;
+
+	private final SQLStatementInspector statementInspector = new SQLStatementInspector();
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class[] { SetRefEdEntity.class, SetRefIngEntity.class };
+	}
+
+	@Override
+	protected void addConfigOptions(Map options) {
+		options.put( EnversSettings.RELATION_BATCH_FETCH_SIZE, "3" );
+		options.put( AvailableSettings.STATEMENT_INSPECTOR, statementInspector );
+	}
+
+	@Test
+	@Priority(10)
+	public void initData() {
+		final EntityManager em = getEntityManager();
+
+		// Revision 1
+		em.getTransaction().begin();
+		for ( int i = 1; i <= ENTITY_COUNT; i++ ) {
+			final SetRefEdEntity ed = new SetRefEdEntity( i, "x" + i );
+			em.persist( ed );
+			em.persist( new SetRefIngEntity( i, "ing" + i, ed ) );
+		}
+		em.getTransaction().commit();
+
+		// Revision 2
+		em.getTransaction().begin();
+		for ( int i = 1; i <= ENTITY_COUNT; i++ ) {
+			em.find( SetRefEdEntity.class, i ).setData( "y" + i );
+		}
+		em.getTransaction().commit();
+
+		// Revision 3
+		em.getTransaction().begin();
+		em.remove( em.find( SetRefIngEntity.class, ENTITY_COUNT ) );
+		em.remove( em.find( SetRefEdEntity.class, ENTITY_COUNT ) );
+		em.getTransaction().commit();
+
+		em.close();
+	}
+
+	@Test
+	public void testRelationsLoadedInBatches() {
+		final AuditReader reader = getAuditReader();
+		for ( int revision = 1; revision <= 2; revision++ ) {
+			final List<SetRefIngEntity> ings = getIngEntities( reader, revision );
+			assertEquals( ENTITY_COUNT, ings.size() );
+
+			statementInspector.clear();
+			for ( SetRefIngEntity ing : ings ) {
+				final String prefix = revision == 1 ? "x" : "y";
+				assertEquals( prefix + ing.getId(), ing.getReference().getData() );
+			}
+			// the 5 referenced entities loaded by batches of 3
+			assertEquals( 2, countEdAuditSelects() );
+		}
+	}
+
+	@Test
+	public void testLoadedRelationsCachedByReader() {
+		final AuditReader reader = getAuditReader();
+		for ( SetRefIngEntity ing : getIngEntities( reader, 1 ) ) {
+			ing.getReference().getData();
+		}
+
+		statementInspector.clear();
+		for ( SetRefIngEntity ing : getIngEntities( reader, 1 ) ) {
+			assertEquals( "x" + ing.getId(), ing.getReference().getData() );
+		}
+		assertEquals( 0, countEdAuditSelects() );
+	}
+
+	@SuppressWarnings("unchecked")
+	private List<SetRefIngEntity> getIngEntities(AuditReader reader, int revision) {
+		return reader.createQuery()
+				.forEntitiesAtRevision( SetRefIngEntity.class, revision )
+				.addOrder( AuditEntity.id().asc() )
+				.getResultList();
+	}
+
+	private long countEdAuditSelects() {
+		return statementInspector.getSqlQueries()
+				.stream()
+				.map( sql -> sql.toLowerCase( Locale.ROOT ) )
+				.filter( sql -> sql.startsWith( "select" ) && sql.contains( "setrefedentity_aud" ) )
+				.count();
+	}
+}
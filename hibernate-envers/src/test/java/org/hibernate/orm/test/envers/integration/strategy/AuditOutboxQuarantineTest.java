@@ -0,0 +1,141 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.envers.integration.strategy;
+
+import java.util.Collections;
+import java.util.Map;
+import jakarta.persistence.EntityManager;
+
+import org.hibernate.envers.AuditReaderFactory;
+import org.hibernate.envers.configuration.EnversSettings;
+import org.hibernate.envers.exception.AuditException;
+import org.hibernate.envers.internal.synchronization.AuditOutbox;
+import org.hibernate.orm.test.envers.BaseEnversJPAFunctionalTestCase;
+import org.hibernate.orm.test.envers.Priority;
+import org.hibernate.orm.test.envers.entities.StrTestEntity;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests that the revisions of the audit outbox which can't be drained are quarantined: a revision committed
+ * after a later revision was drained, and a revision whose payload can't be read.
+ */
+public class AuditOutboxQuarantineTest extends BaseEnversJPAFunctionalTestCase {
+	private Integer lateId;
+	private Integer drainedId;
+	private Integer unreadableId;
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class[] { StrTestEntity.class };
+	}
+
+	@Override
+	protected void addConfigOptions(Map options) {
+		options.put( EnversSettings.USE_AUDIT_OUTBOX, "true" );
+		// drained by the test, without any delay
+		options.put( EnversSettings.AUDIT_OUTBOX_DRAIN_INTERVAL, "0" );
+		options.put( EnversSettings.AUDIT_OUTBOX_DRAIN_DELAY, "0" );
+	}
+
+	@Test
+	@Priority(10)
+	@SuppressWarnings("deprecation")
+	public void initData() {
+		// Revision 1, which is committed after revision 2 is drained
+		final EntityManager first = createIsolatedEntityManager();
+		first.getTransaction().begin();
+		AuditReaderFactory.get( first ).getCurrentRevision( Object.class, true );
+
+		// Revision 2
+		final EntityManager second = createIsolatedEntityManager();
+		second.getTransaction().begin();
+		final StrTestEntity drained = new StrTestEntity( "drained" );
+		second.persist( drained );
+		second.getTransaction().commit();
+		drainedId = drained.getId();
+
+		assertEquals( 1, getAuditReader().drainAuditOutbox() );
+
+		final StrTestEntity late = new StrTestEntity( "late" );
+		first.persist( late );
+		first.getTransaction().commit();
+		lateId = late.getId();
+
+		try {
+			getAuditReader().drainAuditOutbox();
+			fail( "Expecting the late revision to fail the drain" );
+		}
+		catch (AuditException expected) {
+			// nothing to do
+		}
+		assertEquals( 1, countEntries( AuditOutbox.STATUS_QUARANTINED ) );
+
+		// Revision 3, whose payload is made unreadable
+		final EntityManager em = getEntityManager();
+		em.getTransaction().begin();
+		final StrTestEntity unreadable = new StrTestEntity( "unreadable" );
+		em.persist( unreadable );
+		em.getTransaction().commit();
+		unreadableId = unreadable.getId();
+
+		em.getTransaction().begin();
+		em.createQuery(
+						"update " + AuditOutbox.ENTITY_NAME + " e set e." + AuditOutbox.PAYLOAD + " = :payload"
+								+ " where e." + AuditOutbox.STATUS + " = :pending"
+				)
+				.setParameter( "payload", "UnknownEntity_AUD\nunknown=value" )
+				.setParameter( "pending", AuditOutbox.STATUS_PENDING )
+				.executeUpdate();
+		em.getTransaction().commit();
+
+		// Revision 4
+		em.getTransaction().begin();
+		em.find( StrTestEntity.class, unreadableId ).setStr( "readable" );
+		em.getTransaction().commit();
+
+		// revision 3 is quarantined, which doesn't prevent revision 4 from being drained
+		assertEquals( 1, getAuditReader().drainAuditOutbox() );
+		assertEquals( 2, countEntries( AuditOutbox.STATUS_QUARANTINED ) );
+		assertEquals( 0, countEntries( AuditOutbox.STATUS_PENDING ) );
+		assertNotNull(
+				em.createQuery(
+								"select e." + AuditOutbox.FAILURE + " from " + AuditOutbox.ENTITY_NAME + " e"
+										+ " where e." + AuditOutbox.STATUS + " = :quarantined"
+										+ " order by e." + AuditOutbox.ID,
+								String.class
+						)
+						.setParameter( "quarantined", AuditOutbox.STATUS_QUARANTINED )
+						.setMaxResults( 1 )
+						.getSingleResult()
+		);
+
+		first.close();
+		second.close();
+		em.close();
+	}
+
+	@Test
+	public void testRevisionsCounts() {
+		assertEquals( Collections.singletonList( 2 ), getAuditReader().getRevisions( StrTestEntity.class, drainedId ) );
+		assertEquals( Collections.emptyList(), getAuditReader().getRevisions( StrTestEntity.class, lateId ) );
+		assertEquals( Collections.singletonList( 4 ), getAuditReader().getRevisions( StrTestEntity.class, unreadableId ) );
+	}
+
+	private long countEntries(int status) {
+		return getEntityManager().createQuery(
+						"select count(e) from " + AuditOutbox.ENTITY_NAME + " e where e." + AuditOutbox.STATUS + " = :status",
+						Long.class
+				)
+				.setParameter( "status", status )
+				.getSingleResult();
+	}
+}
@@ -0,0 +1,95 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.envers.integration.strategy;
+
+import java.util.Arrays;
+import java.util.Map;
+import jakarta.persistence.EntityManager;
+
+import org.hibernate.envers.AuditReaderFactory;
+import org.hibernate.envers.configuration.EnversSettings;
+import org.hibernate.orm.test.envers.BaseEnversJPAFunctionalTestCase;
+import org.hibernate.orm.test.envers.Priority;
+import org.hibernate.orm.test.envers.entities.StrTestEntity;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests that the revisions stored in the audit outbox are drained in revision order, even when the
+ * audited transactions commit in a different order.
+ */
+public class AuditOutboxRevisionOrderTest extends BaseEnversJPAFunctionalTestCase {
+	private static final long DRAIN_DELAY = 500;
+
+	private Integer id;
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class[] { StrTestEntity.class };
+	}
+
+	@Override
+	protected void addConfigOptions(Map options) {
+		options.put( EnversSettings.USE_AUDIT_OUTBOX, "true" );
+		// drained by the test
+		options.put( EnversSettings.AUDIT_OUTBOX_DRAIN_INTERVAL, "0" );
+		options.put( EnversSettings.AUDIT_OUTBOX_DRAIN_DELAY, Long.toString( DRAIN_DELAY ) );
+	}
+
+	@Test
+	@Priority(10)
+	@SuppressWarnings("deprecation")
+	public void initData() throws InterruptedException {
+		final EntityManager em = getEntityManager();
+
+		// Revision 1
+		em.getTransaction().begin();
+		final StrTestEntity str = new StrTestEntity( "x" );
+		em.persist( str );
+		em.getTransaction().commit();
+		id = str.getId();
+
+		// the audit data is too recent to be drained
+		assertEquals( 0, getAuditReader().drainAuditOutbox() );
+		Thread.sleep( DRAIN_DELAY * 2 );
+		assertEquals( 1, getAuditReader().drainAuditOutbox() );
+
+		// Revision 2, which is committed after revision 3
+		final EntityManager first = createIsolatedEntityManager();
+		first.getTransaction().begin();
+		AuditReaderFactory.get( first ).getCurrentRevision( Object.class, true );
+
+		// Revision 3
+		final EntityManager second = createIsolatedEntityManager();
+		second.getTransaction().begin();
+		second.find( StrTestEntity.class, id ).setStr( "z" );
+		second.getTransaction().commit();
+
+		// revision 3 must not be drained before revision 2
+		assertEquals( 0, getAuditReader().drainAuditOutbox() );
+
+		first.find( StrTestEntity.class, id ).setStr( "y" );
+		first.getTransaction().commit();
+
+		Thread.sleep( DRAIN_DELAY * 2 );
+		assertEquals( 2, getAuditReader().drainAuditOutbox() );
+	}
+
+	@Test
+	public void testRevisionsCounts() {
+		assertEquals( Arrays.asList( 1, 2, 3 ), getAuditReader().getRevisions( StrTestEntity.class, id ) );
+	}
+
+	@Test
+	public void testHistory() {
+		assertEquals( new StrTestEntity( "x", id ), getAuditReader().find( StrTestEntity.class, id, 1 ) );
+		assertEquals( new StrTestEntity( "y", id ), getAuditReader().find( StrTestEntity.class, id, 2 ) );
+		assertEquals( new StrTestEntity( "z", id ), getAuditReader().find( StrTestEntity.class, id, 3 ) );
+	}
+}
@@ -0,0 +1,134 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.envers.integration.strategy;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import jakarta.persistence.EntityManager;
+
+import org.hibernate.envers.configuration.EnversSettings;
+import org.hibernate.envers.internal.synchronization.AuditOutbox;
+import org.hibernate.orm.test.envers.BaseEnversJPAFunctionalTestCase;
+import org.hibernate.orm.test.envers.Priority;
+import org.hibernate.orm.test.envers.entities.StrTestEntity;
+import org.hibernate.orm.test.envers.entities.collection.StringSetEntity;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+/**
+ * Tests for {@link EnversSettings#USE_AUDIT_OUTBOX}
+ */
+public class AuditOutboxTest extends BaseEnversJPAFunctionalTestCase {
+	private Integer strId;
+	private Integer setId;
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class[] { StrTestEntity.class, StringSetEntity.class };
+	}
+
+	@Override
+	protected void addConfigOptions(Map options) {
+		options.put( EnversSettings.USE_AUDIT_OUTBOX, "true" );
+		// drained by the test
+		options.put( EnversSettings.AUDIT_OUTBOX_DRAIN_INTERVAL, "0" );
+		options.put( EnversSettings.AUDIT_OUTBOX_DRAIN_DELAY, "0" );
+	}
+
+	@Test
+	@Priority(10)
+	public void initData() {
+		final EntityManager em = getEntityManager();
+
+		// Revision 1
+		em.getTransaction().begin();
+		final StrTestEntity str = new StrTestEntity( "x" );
+		final StringSetEntity set = new StringSetEntity();
+		set.getStrings().add( "a" );
+		em.persist( str );
+		em.persist( set );
+		em.getTransaction().commit();
+
+		strId = str.getId();
+		setId = set.getId();
+
+		// the audit data is only written to the outbox by the audited transaction
+		assertEquals( 0, countAuditRows() );
+		assertEquals( 3, countOutboxEntries() );
+
+		// Revision 2
+		em.getTransaction().begin();
+		em.find( StrTestEntity.class, strId ).setStr( "y" );
+		em.find( StringSetEntity.class, setId ).getStrings().add( "b" );
+		em.getTransaction().commit();
+
+		// Revision 3
+		em.getTransaction().begin();
+		em.remove( em.find( StrTestEntity.class, strId ) );
+		em.find( StringSetEntity.class, setId ).getStrings().remove( "a" );
+		em.getTransaction().commit();
+
+		assertEquals( 0, countAuditRows() );
+		assertEquals( 9, countOutboxEntries() );
+
+		assertEquals( 9, getAuditReader().drainAuditOutbox() );
+
+		assertEquals( 3, countAuditRows() );
+		assertEquals( 0, countOutboxEntries() );
+
+		em.close();
+	}
+
+	@Test
+	public void testRevisionsCounts() {
+		assertEquals( Arrays.asList( 1, 2, 3 ), getAuditReader().getRevisions( StrTestEntity.class, strId ) );
+		assertEquals( Arrays.asList( 1, 2, 3 ), getAuditReader().getRevisions( StringSetEntity.class, setId ) );
+	}
+
+	@Test
+	public void testHistoryOfStrTestEntity() {
+		assertEquals( new StrTestEntity( "x", strId ), getAuditReader().find( StrTestEntity.class, strId, 1 ) );
+		assertEquals( new StrTestEntity( "y", strId ), getAuditReader().find( StrTestEntity.class, strId, 2 ) );
+		assertNull( getAuditReader().find( StrTestEntity.class, strId, 3 ) );
+	}
+
+	@Test
+	public void testHistoryOfStringSetEntity() {
+		assertEquals(
+				Collections.singleton( "a" ),
+				getAuditReader().find( StringSetEntity.class, setId, 1 ).getStrings()
+		);
+		assertEquals(
+				new HashSet<>( Arrays.asList( "a", "b" ) ),
+				getAuditReader().find( StringSetEntity.class, setId, 2 ).getStrings()
+		);
+		assertEquals(
+				Collections.singleton( "b" ),
+				getAuditReader().find( StringSetEntity.class, setId, 3 ).getStrings()
+		);
+	}
+
+	private long countAuditRows() {
+		final String auditEntityName = getConfiguration().getAuditEntityName( StrTestEntity.class.getName() );
+		return getEntityManager().createQuery( "select count(e) from " + auditEntityName + " e", Long.class )
+				.getSingleResult();
+	}
+
+	private long countOutboxEntries() {
+		return getEntityManager().createQuery(
+						"select count(e) from " + AuditOutbox.ENTITY_NAME + " e where e." + AuditOutbox.STATUS + " = :pending",
+						Long.class
+				)
+				.setParameter( "pending", AuditOutbox.STATUS_PENDING )
+				.getSingleResult();
+	}
+}
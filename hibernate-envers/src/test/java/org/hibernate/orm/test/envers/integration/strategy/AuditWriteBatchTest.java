@@ -0,0 +1,148 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.envers.integration.strategy;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import jakarta.persistence.EntityManager;
+
+import org.hibernate.FlushMode;
+import org.hibernate.Session;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.envers.configuration.EnversSettings;
+import org.hibernate.envers.strategy.ValidityAuditStrategy;
+import org.hibernate.orm.test.envers.BaseEnversJPAFunctionalTestCase;
+import org.hibernate.orm.test.envers.Priority;
+import org.hibernate.orm.test.envers.entities.StrTestEntity;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+/**
+ * Tests for {@link EnversSettings#AUDIT_WRITE_BATCH_SIZE}
+ */
+public class AuditWriteBatchTest extends BaseEnversJPAFunctionalTestCase {
+	private static final int ENTITY_COUNT = 10;
+
+	private final SQLStatementInspector statementInspector = new SQLStatementInspector();
+	private final List<Integer> ids = new ArrayList<>();
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class[] { StrTestEntity.class };
+	}
+
+	@Override
+	protected void addConfigOptions(Map options) {
+		options.put( EnversSettings.AUDIT_WRITE_BATCH_SIZE, "4" );
+		options.put( AvailableSettings.STATEMENT_INSPECTOR, statementInspector );
+	}
+
+	@Test
+	@Priority(10)
+	public void initData() {
+		final EntityManager em = getEntityManager();
+
+		// Revision 1
+		em.getTransaction().begin();
+		for ( int i = 0; i < ENTITY_COUNT; i++ ) {
+			final StrTestEntity entity = new StrTestEntity( "x" + i );
+			em.persist( entity );
+			ids.add( entity.getId() );
+		}
+		statementInspector.clear();
+		em.getTransaction().commit();
+		// all audit rows are written by batches of the same prepared statement
+		assertEquals( 1, countAuditStatements( "insert" ) );
+
+		// Revision 2
+		em.getTransaction().begin();
+		for ( Integer id : ids ) {
+			em.find( StrTestEntity.class, id ).setStr( "y" );
+		}
+		statementInspector.clear();
+		em.getTransaction().commit();
+		assertEquals( 1, countAuditStatements( "insert" ) );
+		if ( isValidityAuditStrategy() ) {
+			// the end revisions of 10 audit rows set by 3 statements
+			assertEquals( 3, countAuditStatements( "update" ) );
+		}
+
+		// Revision 3
+		em.getTransaction().begin();
+		for ( Integer id : ids.subList( 0, 5 ) ) {
+			em.remove( em.find( StrTestEntity.class, id ) );
+		}
+		statementInspector.clear();
+		em.getTransaction().commit();
+		assertEquals( 1, countAuditStatements( "insert" ) );
+		if ( isValidityAuditStrategy() ) {
+			assertEquals( 2, countAuditStatements( "update" ) );
+		}
+
+		// Revision 4 - the audit rows are written by a temporary session
+		em.unwrap( Session.class ).setHibernateFlushMode( FlushMode.MANUAL );
+		em.getTransaction().begin();
+		for ( Integer id : ids.subList( 5, ENTITY_COUNT ) ) {
+			em.find( StrTestEntity.class, id ).setStr( "z" );
+		}
+		em.flush();
+		statementInspector.clear();
+		em.getTransaction().commit();
+		assertEquals( 1, countAuditStatements( "insert" ) );
+		if ( isValidityAuditStrategy() ) {
+			assertEquals( 2, countAuditStatements( "update" ) );
+		}
+
+		em.close();
+	}
+
+	@Test
+	public void testRevisionsCounts() {
+		for ( Integer id : ids.subList( 0, 5 ) ) {
+			assertEquals( Arrays.asList( 1, 2, 3 ), getAuditReader().getRevisions( StrTestEntity.class, id ) );
+		}
+		for ( Integer id : ids.subList( 5, ENTITY_COUNT ) ) {
+			assertEquals( Arrays.asList( 1, 2, 4 ), getAuditReader().getRevisions( StrTestEntity.class, id ) );
+		}
+	}
+
+	@Test
+	public void testHistory() {
+		for ( int i = 0; i < ENTITY_COUNT; i++ ) {
+			final Integer id = ids.get( i );
+			assertEquals( new StrTestEntity( "x" + i, id ), getAuditReader().find( StrTestEntity.class, id, 1 ) );
+			assertEquals( new StrTestEntity( "y", id ), getAuditReader().find( StrTestEntity.class, id, 2 ) );
+			if ( i < 5 ) {
+				assertNull( getAuditReader().find( StrTestEntity.class, id, 3 ) );
+				assertNull( getAuditReader().find( StrTestEntity.class, id, 4 ) );
+			}
+			else {
+				assertEquals( new StrTestEntity( "y", id ), getAuditReader().find( StrTestEntity.class, id, 3 ) );
+				assertEquals( new StrTestEntity( "z", id ), getAuditReader().find( StrTestEntity.class, id, 4 ) );
+			}
+		}
+	}
+
+	private boolean isValidityAuditStrategy() {
+		return ValidityAuditStrategy.class.getName().equals( getAuditStrategy() );
+	}
+
+	private long countAuditStatements(String statementType) {
+		return statementInspector.getSqlQueries()
+				.stream()
+				.map( sql -> sql.toLowerCase( Locale.ROOT ) )
+				.filter( sql -> sql.startsWith( statementType ) && sql.contains( "str_test_aud" ) )
+				.count();
+	}
+}
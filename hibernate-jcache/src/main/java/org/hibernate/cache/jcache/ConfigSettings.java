@@ -44,4 +44,16 @@ public interface ConfigSettings {
 	 * @see javax.cache.spi.CachingProvider#getCacheManager(URI, ClassLoader)
 	 */
 	String CONFIG_URI = PROP_PREFIX + "uri";
+
+	/**
+	 * When enabled, entity and collection data and query results are stored in
+	 * the JCache caches in the compact binary form produced by the
+	 * {@link org.hibernate.cache.spi.entry.CacheEntrySerializer} of the session
+	 * factory, instead of being serialized by the JCache provider.
+	 *
+	 * Default value is {@code false}.
+	 *
+	 * @since 6.2
+	 */
+	String BINARY_ENTRIES = PROP_PREFIX + "binary_entries";
 }
@@ -0,0 +1,72 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.cache.jcache.internal;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import javax.cache.Cache;
+
+import org.hibernate.cache.spi.entry.CacheEntrySerializer;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+
+/**
+ * StorageAccess implementation wrapping a JCache {@link Cache} reference,
+ * which stores the values in the binary form produced by the
+ * {@link CacheEntrySerializer} of the session factory.
+ *
+ * @see org.hibernate.cache.jcache.ConfigSettings#BINARY_ENTRIES
+ */
+public class BinaryJCacheAccessImpl extends JCacheAccessImpl {
+	private final String regionName;
+	private final SessionFactoryImplementor sessionFactory;
+
+	public BinaryJCacheAccessImpl(Cache underlyingCache, String regionName, SessionFactoryImplementor sessionFactory) {
+		super( underlyingCache );
+		this.regionName = regionName;
+		this.sessionFactory = sessionFactory;
+	}
+
+	private CacheEntrySerializer getSerializer() {
+		// the cache is only available once the session factory is built
+		return sessionFactory.getCache().getCacheEntrySerializer().forRegion( regionName );
+	}
+
+	@Override
+	public Object getFromCache(Object key, SharedSessionContractImplementor session) {
+		final byte[] bytes = (byte[]) super.getFromCache( key, session );
+		return bytes == null ? null : getSerializer().deserialize( bytes );
+	}
+
+	@Override
+	public void putIntoCache(Object key, Object value, SharedSessionContractImplementor session) {
+		super.putIntoCache( key, getSerializer().serialize( value ), session );
+	}
+
+	@Override
+	public Map<Object, Object> getAllFromCache(Collection<?> keys, SharedSessionContractImplementor session) {
+		final CacheEntrySerializer serializer = getSerializer();
+		final Map<Object, Object> result = new HashMap<>( keys.size() );
+		super.getAllFromCache( keys, session ).forEach( (key, bytes) -> {
+			final Object value = serializer.deserialize( (byte[]) bytes );
+			// a value which cannot be read is a cache miss
+			if ( value != null ) {
+				result.put( key, value );
+			}
+		} );
+		return result;
+	}
+
+	@Override
+	public void putAllFromLoad(Map<?, ?> entries, SharedSessionContractImplementor session) {
+		final CacheEntrySerializer serializer = getSerializer();
+		final Map<Object, Object> serialized = new HashMap<>( entries.size() );
+		entries.forEach( (key, value) -> serialized.put( key, serializer.serialize( value ) ) );
+		super.putAllFromLoad( serialized, session );
+	}
+}
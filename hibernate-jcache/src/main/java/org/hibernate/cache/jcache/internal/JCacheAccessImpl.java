@@ -6,6 +6,10 @@
  */
 package org.hibernate.cache.jcache.internal;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
 import javax.cache.Cache;
 
 import org.hibernate.cache.spi.support.DomainDataStorageAccess;
@@ -38,11 +42,21 @@ public class JCacheAccessImpl implements DomainDataStorageAccess {
 		return underlyingCache.get( key );
 	}
 
+	@Override
+	public Map<Object, Object> getAllFromCache(Collection<?> keys, SharedSessionContractImplementor session) {
+		return underlyingCache.getAll( new HashSet<>( keys ) );
+	}
+
 	@Override
 	public void putIntoCache(Object key, Object value, SharedSessionContractImplementor session) {
 		underlyingCache.put( key, value );
 	}
 
+	@Override
+	public void putAllFromLoad(Map<?, ?> entries, SharedSessionContractImplementor session) {
+		underlyingCache.putAll( new HashMap<>( entries ) );
+	}
+
 	@Override
 	public void removeFromCache(Object key, SharedSessionContractImplementor session) {
 		underlyingCache.remove( key );
@@ -34,6 +34,7 @@ import org.hibernate.cache.spi.support.RegionFactoryTemplate;
 import org.hibernate.cache.spi.support.RegionNameQualifier;
 import org.hibernate.cache.spi.support.StorageAccess;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.internal.util.config.ConfigurationHelper;
 
 import static org.hibernate.cache.spi.SecondLevelCacheLogger.L2CACHE_LOGGER;
 
@@ -45,6 +46,7 @@ public class JCacheRegionFactory extends RegionFactoryTemplate {
 
 	private volatile CacheManager cacheManager;
 	private volatile MissingCacheStrategy missingCacheStrategy;
+	private volatile boolean binaryEntries;
 
 	@SuppressWarnings("unused")
 	public JCacheRegionFactory() {
@@ -81,11 +83,22 @@ public class JCacheRegionFactory extends RegionFactoryTemplate {
 	protected DomainDataStorageAccess createDomainDataStorageAccess(
 			DomainDataRegionConfig regionConfig,
 			DomainDataRegionBuildingContext buildingContext) {
-		return new JCacheAccessImpl(
-				getOrCreateCache( regionConfig.getRegionName(), buildingContext.getSessionFactory() )
+		return createStorageAccess(
+				regionConfig.getRegionName(),
+				getOrCreateCache( regionConfig.getRegionName(), buildingContext.getSessionFactory() ),
+				buildingContext.getSessionFactory()
 		);
 	}
 
+	private JCacheAccessImpl createStorageAccess(
+			String regionName,
+			Cache<Object, Object> cache,
+			SessionFactoryImplementor sessionFactory) {
+		return binaryEntries
+				? new BinaryJCacheAccessImpl( cache, regionName, sessionFactory )
+				: new JCacheAccessImpl( cache );
+	}
+
 	protected Cache<Object, Object> getOrCreateCache(String unqualifiedRegionName, SessionFactoryImplementor sessionFactory) {
 		verifyStarted();
 		assert !RegionNameQualifier.INSTANCE.isQualified( unqualifiedRegionName, sessionFactory.getSessionFactoryOptions() );
@@ -137,8 +150,10 @@ public class JCacheRegionFactory extends RegionFactoryTemplate {
 				DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME,
 				LEGACY_QUERY_RESULTS_REGION_UNQUALIFIED_NAMES
 		);
-		return new JCacheAccessImpl(
-				getOrCreateCache( defaultedRegionName, sessionFactory )
+		return createStorageAccess(
+				defaultedRegionName,
+				getOrCreateCache( defaultedRegionName, sessionFactory ),
+				sessionFactory
 		);
 	}
 
@@ -193,6 +208,7 @@ public class JCacheRegionFactory extends RegionFactoryTemplate {
 		this.missingCacheStrategy = MissingCacheStrategy.interpretSetting(
 				getProp( configValues, ConfigSettings.MISSING_CACHE_STRATEGY )
 		);
+		this.binaryEntries = ConfigurationHelper.getBoolean( ConfigSettings.BINARY_ENTRIES, configValues );
 	}
 
 	protected CacheManager resolveCacheManager(SessionFactoryOptions settings, Map<String,Object> properties) {
@@ -0,0 +1,301 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.stat;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.lang.NonNullApi;
+import io.micrometer.core.lang.NonNullFields;
+
+import org.hibernate.SessionEventListener;
+import org.hibernate.SessionFactory;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * A {@link MeterBinder} implementation that records the latency distribution of Hibernate
+ * operations as {@link Timer}s with percentiles, percentile histograms and service level
+ * objective buckets:
+ * <ul>
+ *     <li>{@code hibernate.query.latency} for each HQL, criteria or native query, mutation
+ *     queries being tagged with their SQL,</li>
+ *     <li>{@code hibernate.entity.load.latency} for each entity loaded by id,</li>
+ *     <li>{@code hibernate.flush.latency} for each flush.</li>
+ * </ul>
+ * Unlike {@link HibernateQueryMetrics}, which exposes aggregates of the {@link Statistics},
+ * every execution is recorded as it happens, through a {@link SessionEventListener} applied to
+ * the sessions opened after this binder is bound to a registry. Statistics don't need to be enabled.
+ * <p>
+ * The executions are recorded once per registry and tags, however many times a binder is bound, and
+ * binding a binder again replaces its previous binding. Nothing is recorded once the registry is closed,
+ * or once the binder is {@linkplain #close() closed}.
+ * <p>
+ * Be aware of the potential for high cardinality of unique Hibernate queries executed by your
+ * application when considering using this {@link MeterBinder}.
+ */
+@NonNullApi
+@NonNullFields
+public class HibernateLatencyMetrics implements MeterBinder, AutoCloseable {
+
+	private static final String SESSION_FACTORY_TAG_NAME = "entityManagerFactory";
+
+	private static final double[] DEFAULT_PERCENTILES = { 0.5, 0.95, 0.99 };
+
+	private final Iterable<Tag> tags;
+
+	private final SessionFactory sessionFactory;
+
+	private final double[] percentiles;
+
+	private final Duration[] serviceLevelObjectives;
+
+	// removes the listener factory of the current binding, guarded by this
+	private Runnable unbinding = () -> {};
+
+	/**
+	 * Create {@code HibernateLatencyMetrics} and bind to the specified meter registry.
+	 *
+	 * @param registry meter registry to use
+	 * @param sessionFactory session factory to use
+	 * @param sessionFactoryName session factory name as a tag value
+	 * @param tags additional tags
+	 */
+	public static void monitor(
+			MeterRegistry registry,
+			SessionFactory sessionFactory,
+			String sessionFactoryName,
+			String... tags) {
+		monitor( registry, sessionFactory, sessionFactoryName, Tags.of( tags ) );
+	}
+
+	/**
+	 * Create {@code HibernateLatencyMetrics} and bind to the specified meter registry.
+	 *
+	 * @param registry meter registry to use
+	 * @param sessionFactory session factory to use
+	 * @param sessionFactoryName session factory name as a tag value
+	 * @param tags additional tags
+	 */
+	public static void monitor(
+			MeterRegistry registry,
+			SessionFactory sessionFactory,
+			String sessionFactoryName,
+			Iterable<Tag> tags) {
+		new HibernateLatencyMetrics( sessionFactory, sessionFactoryName, tags ).bindTo( registry );
+	}
+
+	/**
+	 * Create a {@code HibernateLatencyMetrics} publishing the median, 95th and 99th percentiles.
+	 *
+	 * @param sessionFactory session factory to use
+	 * @param sessionFactoryName session factory name as a tag value
+	 * @param tags additional tags
+	 */
+	public HibernateLatencyMetrics(SessionFactory sessionFactory, String sessionFactoryName, Iterable<Tag> tags) {
+		this( sessionFactory, sessionFactoryName, tags, DEFAULT_PERCENTILES );
+	}
+
+	/**
+	 * Create a {@code HibernateLatencyMetrics}.
+	 *
+	 * @param sessionFactory session factory to use
+	 * @param sessionFactoryName session factory name as a tag value
+	 * @param tags additional tags
+	 * @param percentiles percentiles to publish, in the range [0, 1]
+	 * @param serviceLevelObjectives service level objective boundaries to publish as histogram buckets
+	 */
+	public HibernateLatencyMetrics(
+			SessionFactory sessionFactory,
+			String sessionFactoryName,
+			Iterable<Tag> tags,
+			double[] percentiles,
+			Duration... serviceLevelObjectives) {
+		this.tags = Tags.concat( tags, SESSION_FACTORY_TAG_NAME, sessionFactoryName );
+		this.sessionFactory = sessionFactory;
+		this.percentiles = percentiles;
+		this.serviceLevelObjectives = serviceLevelObjectives;
+	}
+
+	@Override
+	public synchronized void bindTo(MeterRegistry meterRegistry) {
+		unbinding.run();
+		unbinding = sessionFactory.getSessionFactoryOptions()
+				.getBaselineSessionEventsListenerBuilder()
+				.addListenerFactory( new ListenerFactory( meterRegistry ) );
+	}
+
+	/**
+	 * Stops recording the executions of the sessions opened from now on.
+	 */
+	@Override
+	public synchronized void close() {
+		unbinding.run();
+		unbinding = () -> {};
+	}
+
+	/**
+	 * Creates the listener of each session, unless the registry is closed. The factories of the
+	 * binders sharing a registry and tags are equal, so that they are only registered once.
+	 */
+	class ListenerFactory implements Supplier<SessionEventListener> {
+
+		private final MeterRegistry meterRegistry;
+
+		private final Timers timers;
+
+		ListenerFactory(MeterRegistry meterRegistry) {
+			this.meterRegistry = meterRegistry;
+			this.timers = new Timers( meterRegistry );
+		}
+
+		@Override
+		public SessionEventListener get() {
+			return meterRegistry.isClosed() ? null : new MetricsSessionEventListener( timers );
+		}
+
+		private Iterable<Tag> getTags() {
+			return tags;
+		}
+
+		@Override
+		public boolean equals(Object object) {
+			if ( !( object instanceof ListenerFactory ) ) {
+				return false;
+			}
+			final ListenerFactory other = (ListenerFactory) object;
+			return meterRegistry == other.meterRegistry && tags.equals( other.getTags() );
+		}
+
+		@Override
+		public int hashCode() {
+			return System.identityHashCode( meterRegistry ) * 31 + tags.hashCode();
+		}
+	}
+
+	/**
+	 * The timers, by tag value.
+	 */
+	class Timers {
+
+		private final MeterRegistry meterRegistry;
+
+		private final Map<String, Timer> queryTimers = new ConcurrentHashMap<>();
+
+		private final Map<String, Timer> entityLoadTimers = new ConcurrentHashMap<>();
+
+		private final Timer flushTimer;
+
+		private final Timer partialFlushTimer;
+
+		Timers(MeterRegistry meterRegistry) {
+			this.meterRegistry = meterRegistry;
+			this.flushTimer = timer( "hibernate.flush.latency", "Flush latency", "type", "full" );
+			this.partialFlushTimer = timer( "hibernate.flush.latency", "Flush latency", "type", "partial" );
+		}
+
+		Timer queryTimer(String query) {
+			return queryTimers.computeIfAbsent(
+					query,
+					q -> timer( "hibernate.query.latency", "Query execution latency", "query", q )
+			);
+		}
+
+		Timer entityLoadTimer(String entityName) {
+			return entityLoadTimers.computeIfAbsent(
+					entityName,
+					e -> timer( "hibernate.entity.load.latency", "Entity load latency", "entity", e )
+			);
+		}
+
+		private Timer timer(String name, String description, String tagName, String tagValue) {
+			return Timer.builder( name )
+					.tags( tags )
+					.tags( tagName, tagValue )
+					.description( description )
+					.publishPercentiles( percentiles )
+					.publishPercentileHistogram()
+					.serviceLevelObjectives( serviceLevelObjectives )
+					.register( meterRegistry );
+		}
+	}
+
+	/**
+	 * Times the operations of one session. Query executions and entity loads may be nested,
+	 * as loading an entity can trigger the execution of other queries and the loading of other
+	 * entities.
+	 */
+	static class MetricsSessionEventListener implements SessionEventListener {
+
+		private final transient Timers timers;
+
+		private final transient Deque<Long> queryStarts = new ArrayDeque<>();
+
+		private final transient Deque<Long> entityLoadStarts = new ArrayDeque<>();
+
+		private long flushStart;
+
+		private long partialFlushStart;
+
+		MetricsSessionEventListener(Timers timers) {
+			this.timers = timers;
+		}
+
+		@Override
+		public void queryExecutionStart() {
+			queryStarts.push( System.nanoTime() );
+		}
+
+		@Override
+		public void queryExecutionEnd(String query, int rows) {
+			if ( !queryStarts.isEmpty() ) {
+				timers.queryTimer( query ).record( System.nanoTime() - queryStarts.pop(), TimeUnit.NANOSECONDS );
+			}
+		}
+
+		@Override
+		public void entityLoadStart() {
+			entityLoadStarts.push( System.nanoTime() );
+		}
+
+		@Override
+		public void entityLoadEnd(String entityName) {
+			if ( !entityLoadStarts.isEmpty() ) {
+				timers.entityLoadTimer( entityName )
+						.record( System.nanoTime() - entityLoadStarts.pop(), TimeUnit.NANOSECONDS );
+			}
+		}
+
+		@Override
+		public void flushStart() {
+			flushStart = System.nanoTime();
+		}
+
+		@Override
+		public void flushEnd(int numberOfEntities, int numberOfCollections) {
+			timers.flushTimer.record( System.nanoTime() - flushStart, TimeUnit.NANOSECONDS );
+		}
+
+		@Override
+		public void partialFlushStart() {
+			partialFlushStart = System.nanoTime();
+		}
+
+		@Override
+		public void partialFlushEnd(int numberOfEntities, int numberOfCollections) {
+			timers.partialFlushTimer.record( System.nanoTime() - partialFlushStart, TimeUnit.NANOSECONDS );
+		}
+	}
+}
@@ -0,0 +1,170 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.stat;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.Session;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.cfg.Environment;
+import org.hibernate.stat.HibernateLatencyMetrics;
+
+import org.hibernate.testing.junit4.BaseCoreFunctionalTestCase;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.CountAtBucket;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class MicrometerLatencyMetricsTest extends BaseCoreFunctionalTestCase {
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] { Account.class, AccountId.class };
+	}
+
+	private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+	private HibernateLatencyMetrics metrics;
+
+	@Override
+	protected void configure(Configuration configuration) {
+		super.configure( configuration );
+
+		configuration.setProperty( Environment.USE_SECOND_LEVEL_CACHE, "false" );
+		configuration.setProperty( Environment.USE_QUERY_CACHE, "false" );
+		// statistics are not needed
+		configuration.setProperty( Environment.GENERATE_STATISTICS, "false" );
+		configuration.setProperty( Environment.SESSION_FACTORY_NAME, "something" );
+		configuration.setProperty( Environment.SESSION_FACTORY_NAME_IS_JNDI, "false" );
+	}
+
+	@Before
+	public void setUpMetrics() {
+		metrics = new HibernateLatencyMetrics(
+				sessionFactory(),
+				sessionFactory().getName(),
+				Tags.empty(),
+				new double[] { 0.5, 0.99 },
+				Duration.ofMillis( 10 ),
+				Duration.ofSeconds( 1 )
+		);
+		metrics.bindTo( registry );
+	}
+
+	@After
+	public void cleanUpMetrics() {
+		metrics.close();
+		registry.clear();
+	}
+
+	@Test
+	public void testLatencyMetrics() {
+		Session session = openSession();
+		session.beginTransaction();
+		session.save( new Account( new AccountId( 1 ), "testAcct" ) );
+		session.getTransaction().commit();
+		session.close();
+
+		Timer flushTimer = registry.get( "hibernate.flush.latency" )
+				.tags( "entityManagerFactory", "something", "type", "full" )
+				.timer();
+		assertEquals( 1, flushTimer.count() );
+		assertEquals( 2, flushTimer.takeSnapshot().percentileValues().length );
+		assertTrue( hasBucket( flushTimer, Duration.ofMillis( 10 ) ) );
+		assertTrue( hasBucket( flushTimer, Duration.ofSeconds( 1 ) ) );
+
+		session = openSession();
+		session.beginTransaction();
+		session.get( Account.class, new AccountId( 1 ) );
+		session.get( Account.class, new AccountId( 1 ) );
+		session.getTransaction().commit();
+		session.close();
+
+		// loaded by id twice, the second time from the persistence context
+		Timer loadTimer = registry.get( "hibernate.entity.load.latency" )
+				.tags( "entity", Account.class.getName() )
+				.timer();
+		assertEquals( 2, loadTimer.count() );
+
+		final String hql = "select a from Account a";
+		session = openSession();
+		session.beginTransaction();
+		session.createQuery( hql, Account.class ).list();
+		session.createQuery( hql, Account.class ).list();
+		session.createMutationQuery( "update Account set shortCode = 'x'" ).executeUpdate();
+		session.getTransaction().commit();
+		session.close();
+
+		Timer queryTimer = registry.get( "hibernate.query.latency" ).tags( "query", hql ).timer();
+		assertEquals( 2, queryTimer.count() );
+		assertTrue( queryTimer.totalTime( TimeUnit.NANOSECONDS ) > 0 );
+		// mutation queries are identified by their SQL
+		assertEquals( 2, registry.get( "hibernate.query.latency" ).timers().size() );
+	}
+
+	@Test
+	public void testBoundOnce() {
+		metrics.bindTo( registry );
+		new HibernateLatencyMetrics( sessionFactory(), sessionFactory().getName(), Tags.empty() ).bindTo( registry );
+
+		flush();
+
+		assertEquals( 1, flushTimer( registry ).count() );
+	}
+
+	@Test
+	public void testClosed() {
+		final SimpleMeterRegistry closedRegistry = new SimpleMeterRegistry();
+		final HibernateLatencyMetrics closedRegistryMetrics =
+				new HibernateLatencyMetrics( sessionFactory(), sessionFactory().getName(), Tags.empty() );
+		closedRegistryMetrics.bindTo( closedRegistry );
+		closedRegistry.close();
+		metrics.close();
+
+		try {
+			flush();
+		}
+		finally {
+			closedRegistryMetrics.close();
+		}
+
+		assertEquals( 0, flushTimer( closedRegistry ).count() );
+		assertEquals( 0, flushTimer( registry ).count() );
+	}
+
+	// a flush is only timed when there are managed entities
+	private void flush() {
+		final Session session = openSession();
+		session.beginTransaction();
+		final Account account = new Account( new AccountId( 2 ), "flushed" );
+		session.save( account );
+		session.delete( account );
+		session.getTransaction().commit();
+		session.close();
+	}
+
+	private static Timer flushTimer(SimpleMeterRegistry registry) {
+		return registry.get( "hibernate.flush.latency" ).tags( "type", "full" ).timer();
+	}
+
+	private boolean hasBucket(Timer timer, Duration boundary) {
+		for ( CountAtBucket bucket : timer.takeSnapshot().histogramCounts() ) {
+			if ( bucket.bucket() == boundary.toNanos() ) {
+				return true;
+			}
+		}
+		return false;
+	}
+}
@@ -321,6 +321,12 @@ abstract public class DialectFeatureChecks {
 		}
 	}
 
+	public static class SupportsValuesListForBatchInsert implements DialectFeatureCheck {
+		public boolean apply(Dialect dialect) {
+			return dialect.supportsValuesListForBatchInsert();
+		}
+	}
+
 	public static class SupportsFormat implements DialectFeatureCheck {
 		public boolean apply(Dialect dialect) {
 			try {
@@ -472,6 +478,18 @@ abstract public class DialectFeatureChecks {
 		}
 	}
 
+	public static class SupportsArrayAggregation implements DialectFeatureCheck {
+		public boolean apply(Dialect dialect) {
+			return dialect.supportsArrayAggregation();
+		}
+	}
+
+	public static class SupportsArrayParameterRestriction implements DialectFeatureCheck {
+		public boolean apply(Dialect dialect) {
+			return dialect.supportsArrayParameterRestriction();
+		}
+	}
+
 	public static class SupportsTruncateTable implements DialectFeatureCheck {
 		public boolean apply(Dialect dialect) {
 			return dialect instanceof MySQLDialect